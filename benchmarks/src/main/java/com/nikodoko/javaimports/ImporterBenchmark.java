@@ -0,0 +1,148 @@
+package com.nikodoko.javaimports;
+
+import static com.google.common.io.Files.getFileExtension;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.reflect.ClassPath;
+import com.google.common.reflect.ClassPath.ResourceInfo;
+import com.nikodoko.javaimports.stdlib.StdlibProviders;
+import com.nikodoko.packagetest.BuildSystem;
+import com.nikodoko.packagetest.Export;
+import com.nikodoko.packagetest.Exported;
+import com.nikodoko.packagetest.Module;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures fixing the main file of every {@code testdata} project used by the integration tests,
+ * from scratch (nothing is kept in memory from one run to the next, as when using the CLI).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {
+      "--add-exports=jdk.compiler/com.sun.tools.javac.file=ALL-UNNAMED",
+      "--add-exports=jdk.compiler/com.sun.tools.javac.parser=ALL-UNNAMED",
+      "--add-exports=jdk.compiler/com.sun.tools.javac.tree=ALL-UNNAMED",
+      "--add-exports=jdk.compiler/com.sun.tools.javac.util=ALL-UNNAMED",
+    })
+public class ImporterBenchmark {
+  private static final String DATA = "com/nikodoko/javaimports/testdata/";
+  private static final String REPOSITORY = "testrepository/";
+
+  static class Project {
+    List<Module.File> files = new ArrayList<>();
+    String fileToFix;
+    Exported exported;
+    Path main;
+    String input;
+  }
+
+  Path repository;
+  List<Project> projects = new ArrayList<>();
+  Options options;
+
+  @Setup
+  public void setup() throws Exception {
+    repository = Files.createTempDirectory("javaimports-benchmark");
+    Map<String, Project> byName = new TreeMap<>();
+    ClassLoader classLoader = ImporterBenchmark.class.getClassLoader();
+    for (ResourceInfo resource : ClassPath.from(classLoader).getResources()) {
+      String name = resource.getResourceName();
+      if (name.startsWith(REPOSITORY) && !name.endsWith("/")) {
+        Path target = repository.resolve(name.substring(REPOSITORY.length()));
+        Files.createDirectories(target.getParent());
+        Files.write(target, resource.asByteSource().read());
+      }
+
+      if (!name.startsWith(DATA) || name.endsWith("/")) {
+        continue;
+      }
+
+      // Same layout as in ImporterIntegrationTest: <project>/<a-B> stands for a/B.java, and
+      // files ending with .input are the ones to fix
+      Path relative = Paths.get(name.substring(DATA.length()));
+      String extension = getFileExtension(relative.getFileName().toString());
+      String path = relative.getFileName().toString().replace("-", "/") + ".java";
+      Project project =
+          byName.computeIfAbsent(relative.subpath(0, 1).toString(), __ -> new Project());
+      if (extension.equals("output")) {
+        continue;
+      }
+
+      if (extension.equals("input")) {
+        project.fileToFix = path;
+      }
+
+      project.files.add(Module.file(path, resource.asCharSource(UTF_8).read()));
+    }
+
+    for (Map.Entry<String, Project> e : byName.entrySet()) {
+      Project project = e.getValue();
+      Module module =
+          Module.named(e.getKey())
+              .containing(project.files.toArray(new Module.File[0]))
+              .dependingOn(
+                  Module.dependency("com.mycompany.app", "a-dependency", "1.0"),
+                  Module.dependency("com.mycompany.app", "an-empty-dependency", "1.0"));
+      project.exported = Export.of(BuildSystem.MAVEN, module);
+      project.main = project.exported.file(e.getKey(), project.fileToFix).get();
+      project.input = new String(Files.readAllBytes(project.main), UTF_8);
+      projects.add(project);
+    }
+
+    options =
+        Options.builder()
+            .debug(false)
+            .repository(repository)
+            .stdlib(StdlibProviders.java8())
+            .execution(ExecutionStrategy.bounded())
+            .build();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    options.close();
+    for (Project project : projects) {
+      project.exported.cleanup();
+    }
+
+    try (Stream<Path> paths = Files.walk(repository)) {
+      for (Path p : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+        Files.delete(p);
+      }
+    }
+  }
+
+  @Benchmark
+  public void addUsedImports(Blackhole bh) throws Exception {
+    for (Project project : projects) {
+      bh.consume(new Importer(options).addUsedImports(project.main, project.input));
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import com.google.common.collect.ImmutableList;
+import com.nikodoko.javaimports.common.Import;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the different {@link MavenDependencyLoader.Engine} on a real world fat jar: the one
+ * guava is loaded from (either guava itself, or the shaded benchmarks jar), and on a synthetic jar
+ * whose classes are only a few bytes long, so that reading the jar itself dominates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MavenDependencyLoaderBenchmark {
+  static final int SYNTHETIC_CLASSES = 5000;
+
+  @Param({"STREAMING", "CENTRAL_DIRECTORY"})
+  public String engineName;
+
+  @Param({"GUAVA", "SYNTHETIC"})
+  public String jarName;
+
+  MavenDependencyLoader.Engine engine;
+  Path jar;
+
+  @Setup
+  public void setup() throws Exception {
+    engine = MavenDependencyLoader.Engine.valueOf(engineName);
+    if (jarName.equals("GUAVA")) {
+      jar =
+          Paths.get(
+              ImmutableList.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+      return;
+    }
+
+    jar = Files.createTempFile("synthetic", ".jar");
+    try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+      out.putNextEntry(new JarEntry("module-info.class"));
+      out.write(new byte[16]);
+      for (int i = 0; i < SYNTHETIC_CLASSES; i++) {
+        String pkg = String.format("com/example/pkg%d/", i % 50);
+        // Nested classes are as common as top level ones, and are skipped by the loader
+        for (String name : List.of("Class" + i, "Class" + i + "$Nested")) {
+          out.putNextEntry(new JarEntry(pkg + name + ".class"));
+          out.write(new byte[16]);
+        }
+      }
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    if (jarName.equals("SYNTHETIC")) {
+      Files.delete(jar);
+    }
+  }
+
+  @Benchmark
+  public List<Import> load() throws Exception {
+    return MavenDependencyLoader.load(jar, engine);
+  }
+}
@@ -0,0 +1,148 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.io.DefaultModelReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares reading a POM with {@link MavenPomReader} to reading it with the maven-core {@link
+ * DefaultModelReader} it replaced, and to loading it through {@link MavenPomLoader}, which only
+ * reads it again when it changes. The POM is a typical parent POM, with as much build configuration
+ * as dependencies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MavenPomReaderBenchmark {
+  @Param({"50", "500"})
+  public int dependencies;
+
+  Path pom;
+
+  @Setup
+  public void setup() throws Exception {
+    pom = Files.createTempFile("benchmark", ".xml");
+    Files.writeString(pom, pom(dependencies));
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    Files.delete(pom);
+  }
+
+  // What MavenPomLoader used to do
+  @Benchmark
+  public FlatPom mavenCore() throws Exception {
+    var model = new DefaultModelReader().read(pom.toFile(), null);
+    return FlatPom.builder()
+        .dependencies(convert(model.getDependencies()))
+        .managedDependencies(
+            model.getDependencyManagement() == null
+                ? List.of()
+                : convert(model.getDependencyManagement().getDependencies()))
+        .maybeParent(Optional.empty())
+        .properties(model.getProperties())
+        .groupId(model.getGroupId())
+        .artifactId(model.getArtifactId())
+        .modules(model.getModules())
+        .build();
+  }
+
+  @Benchmark
+  public FlatPom streaming() throws Exception {
+    return MavenPomReader.read(pom).build();
+  }
+
+  @Benchmark
+  public FlatPom cached() throws Exception {
+    return MavenPomLoader.load(pom).pom;
+  }
+
+  static List<MavenDependency> convert(List<Dependency> dependencies) {
+    return dependencies.stream()
+        .map(
+            d ->
+                new MavenDependency(
+                    d.getGroupId(),
+                    d.getArtifactId(),
+                    d.getVersion(),
+                    d.getType(),
+                    Optional.ofNullable(d.getScope()).orElse("compile"),
+                    d.isOptional()))
+        .collect(Collectors.toList());
+  }
+
+  static String pom(int dependencies) {
+    var sb = new StringBuilder();
+    sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+        .append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n")
+        .append("  <modelVersion>4.0.0</modelVersion>\n")
+        .append("  <parent><groupId>com.example</groupId><artifactId>root</artifactId>")
+        .append("<version>1</version><relativePath/></parent>\n")
+        .append("  <artifactId>parent</artifactId>\n")
+        .append("  <packaging>pom</packaging>\n")
+        .append("  <properties>\n");
+    for (int i = 0; i < dependencies; i++) {
+      sb.append(String.format("    <lib%d.version>1.%d</lib%d.version>\n", i, i, i));
+    }
+
+    sb.append("  </properties>\n  <dependencyManagement>\n    <dependencies>\n");
+    for (int i = 0; i < dependencies; i++) {
+      sb.append(dependency(i, "${lib" + i + ".version}", "      "));
+    }
+
+    sb.append("    </dependencies>\n  </dependencyManagement>\n  <dependencies>\n");
+    for (int i = 0; i < dependencies; i += 2) {
+      sb.append(dependency(i, null, "    "));
+    }
+
+    sb.append("  </dependencies>\n  <build>\n    <plugins>\n");
+    for (int i = 0; i < dependencies / 5; i++) {
+      sb.append(
+          String.format(
+              "      <plugin>\n        <groupId>com.example.plugins</groupId>\n"
+                  + "        <artifactId>plugin%d</artifactId>\n"
+                  + "        <version>2.%d</version>\n"
+                  + "        <configuration><source>11</source><target>11</target>"
+                  + "<excludes><exclude>**/generated/**</exclude></excludes></configuration>\n"
+                  + "        <dependencies>\n%s        </dependencies>\n"
+                  + "      </plugin>\n",
+              i, i, dependency(i, "1", "          ")));
+    }
+
+    return sb.append("    </plugins>\n  </build>\n</project>\n").toString();
+  }
+
+  static String dependency(int i, String version, String indent) {
+    return String.format(
+        "%s<dependency>\n%s  <groupId>com.example.lib%d</groupId>\n"
+            + "%s  <artifactId>lib%d</artifactId>\n%s%s</dependency>\n",
+        indent,
+        indent,
+        i,
+        indent,
+        i,
+        version == null ? "" : String.format("%s  <version>%s</version>\n", indent, version),
+        indent);
+  }
+}
@@ -0,0 +1,99 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import com.nikodoko.javaimports.ExecutionStrategy;
+import com.nikodoko.javaimports.Importer;
+import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.stdlib.StdlibProviders;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how parsing a project, finding its dependencies and fixing one of its files scale with
+ * the size of the project, using projects generated by {@link SyntheticMavenProject}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {
+      "--add-exports=jdk.compiler/com.sun.tools.javac.file=ALL-UNNAMED",
+      "--add-exports=jdk.compiler/com.sun.tools.javac.parser=ALL-UNNAMED",
+      "--add-exports=jdk.compiler/com.sun.tools.javac.tree=ALL-UNNAMED",
+      "--add-exports=jdk.compiler/com.sun.tools.javac.util=ALL-UNNAMED",
+    })
+public class SyntheticProjectBenchmark {
+  // Dependencies grow with the number of files, as they do in real projects
+  @Param({"1000", "10000"})
+  public String files;
+
+  Path tmp;
+  SyntheticMavenProject project;
+  Options options;
+
+  @Setup
+  public void setup() throws Exception {
+    int n = Integer.parseInt(files);
+    tmp = Files.createTempDirectory("javaimports-synthetic");
+    project =
+        SyntheticMavenProject.builder()
+            .files(n)
+            .packages(n / 50)
+            .hierarchyDepth(10)
+            .dependencies(n / 100)
+            .transitiveDepth(2)
+            .classesPerDependency(100)
+            .generate(tmp);
+    options =
+        Options.builder()
+            .repository(project.repository())
+            .stdlib(StdlibProviders.java8())
+            .execution(ExecutionStrategy.bounded())
+            .build();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    options.close();
+    try (Stream<Path> paths = Files.walk(tmp)) {
+      for (Path p : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+        Files.delete(p);
+      }
+    }
+  }
+
+  @Benchmark
+  public MavenProjectParser.Result parseAll() {
+    return new MavenProjectParser(project.module(), options)
+        .excluding(project.fileToFix())
+        .parseAll();
+  }
+
+  @Benchmark
+  public MavenDependencyFinder.Result findDependencies() {
+    return new MavenDependencyFinder().findAll(project.module());
+  }
+
+  @Benchmark
+  public String addUsedImports() throws Exception {
+    return new Importer(options).addUsedImports(project.fileToFix(), project.sourceToFix());
+  }
+}
@@ -0,0 +1,72 @@
+package com.nikodoko.javaimports.fixer.candidates;
+
+import com.nikodoko.javaimports.common.Identifier;
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.common.Selector;
+import com.nikodoko.javaimports.stdlib.StdlibProviders;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures finding the candidates for an identifier that all sources can provide, and selecting the
+ * best of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CandidatesBenchmark {
+  static final int EXTERNAL_PACKAGES = 200;
+
+  Selector selector = Selector.of("List");
+  CandidateFinder finder;
+  CandidateSelectionStrategy strategy;
+  Candidates candidates;
+
+  @Setup
+  public void setup() {
+    // Dependencies often have their own List, make sure there are plenty of them to choose from
+    Map<Identifier, List<Import>> external = new HashMap<>();
+    for (int i = 0; i < EXTERNAL_PACKAGES; i++) {
+      for (String name : List.of("List", "Map", "Helper" + i)) {
+        external
+            .computeIfAbsent(new Identifier(name), __ -> new ArrayList<>())
+            .add(new Import(Selector.of("com", "dependency" + i, "util", name), false));
+      }
+    }
+
+    finder = new CandidateFinder();
+    finder.add(
+        Candidate.Source.SIBLING,
+        i -> List.of(new Import(Selector.of("com", "example", "app", i.toString()), false)));
+    finder.add(Candidate.Source.STDLIB, StdlibProviders.java8());
+    finder.add(Candidate.Source.EXTERNAL, i -> external.getOrDefault(i, List.of()));
+    strategy = new BasicCandidateSelectionStrategy(Selector.of("com", "example", "other"));
+    candidates = finder.find(selector);
+  }
+
+  @Benchmark
+  public Candidates find() {
+    return finder.find(selector);
+  }
+
+  @Benchmark
+  public BestCandidates selectBest() {
+    return strategy.selectBest(candidates);
+  }
+}
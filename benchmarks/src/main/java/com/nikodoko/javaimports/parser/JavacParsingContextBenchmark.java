@@ -0,0 +1,64 @@
+package com.nikodoko.javaimports.parser;
+
+import com.sun.tools.javac.tree.JCTree.JCCompilationUnit;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares parsing a small file with a brand new {@link JavacParsingContext} (which is what was
+ * done for every file before) and with the one confined to the current thread.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {
+      "--add-exports=jdk.compiler/com.sun.tools.javac.file=ALL-UNNAMED",
+      "--add-exports=jdk.compiler/com.sun.tools.javac.parser=ALL-UNNAMED",
+      "--add-exports=jdk.compiler/com.sun.tools.javac.tree=ALL-UNNAMED",
+      "--add-exports=jdk.compiler/com.sun.tools.javac.util=ALL-UNNAMED",
+    })
+public class JavacParsingContextBenchmark {
+  @Param({"FRESH", "REUSED"})
+  public String contextName;
+
+  String source;
+
+  @Setup
+  public void setup() {
+    StringBuilder sb = new StringBuilder("package com.example;\n\npublic class Example {\n");
+    for (int i = 0; i < 20; i++) {
+      sb.append(
+          String.format(
+              "  private int field%d;\n"
+                  + "  public int method%d(int a) {\n"
+                  + "    return a + field%d;\n"
+                  + "  }\n",
+              i, i, i));
+    }
+
+    source = sb.append("}\n").toString();
+  }
+
+  @Benchmark
+  public JCCompilationUnit parse() throws Exception {
+    JavacParsingContext context =
+        contextName.equals("FRESH")
+            ? new JavacParsingContext()
+            : JavacParsingContext.forCurrentThread();
+    return context.parse("Example.java", source);
+  }
+}
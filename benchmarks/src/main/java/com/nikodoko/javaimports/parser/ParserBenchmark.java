@@ -0,0 +1,79 @@
+package com.nikodoko.javaimports.parser;
+
+import com.nikodoko.javaimports.Options;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Parser#parse} (parsing and scanning for unresolved identifiers) on a small file
+ * and on a large one, as well as {@link Parser#parseDeclarations} which is used for sibling files.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {
+      "--add-exports=jdk.compiler/com.sun.tools.javac.file=ALL-UNNAMED",
+      "--add-exports=jdk.compiler/com.sun.tools.javac.parser=ALL-UNNAMED",
+      "--add-exports=jdk.compiler/com.sun.tools.javac.tree=ALL-UNNAMED",
+      "--add-exports=jdk.compiler/com.sun.tools.javac.util=ALL-UNNAMED",
+    })
+public class ParserBenchmark {
+  @Param({"10", "500"})
+  public String methods;
+
+  Path filename = Paths.get("Example.java");
+  Parser parser;
+  String source;
+
+  @Setup
+  public void setup() {
+    parser = new Parser(Options.defaults());
+    StringBuilder sb = new StringBuilder("package com.example;\n\n");
+    sb.append("import java.util.List;\n\n");
+    sb.append("public class Example extends Base implements Comparable<Example> {\n");
+    for (int i = 0; i < Integer.parseInt(methods); i++) {
+      // Mix local declarations with identifiers that are left unresolved, as in real code
+      sb.append(
+          String.format(
+              "  private final Map<String, List<Integer>> field%d = new HashMap<>();\n"
+                  + "  public Optional<String> method%d(List<String> values, int a) {\n"
+                  + "    for (String value : values) {\n"
+                  + "      if (value.length() > a + field%d.size()) {\n"
+                  + "        return Optional.of(Strings.nullToEmpty(value));\n"
+                  + "      }\n"
+                  + "    }\n"
+                  + "    return Optional.empty();\n"
+                  + "  }\n",
+              i, i, i));
+    }
+
+    source = sb.append("}\n").toString();
+  }
+
+  @Benchmark
+  public Optional<ParsedFile> parse() throws Exception {
+    return parser.parse(filename, source);
+  }
+
+  @Benchmark
+  public Optional<ParsedFile> parseDeclarations() throws Exception {
+    return parser.parseDeclarations(filename, source);
+  }
+}
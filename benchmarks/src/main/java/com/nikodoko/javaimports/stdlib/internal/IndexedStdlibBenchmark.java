@@ -0,0 +1,46 @@
+package com.nikodoko.javaimports.stdlib.internal;
+
+import com.nikodoko.javaimports.parser.Import;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures lookups in the bundled Java 8 stdlib index, both for identifiers it contains and for
+ * identifiers it does not (the most common case, as most identifiers of a file are not importable
+ * from the stdlib).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IndexedStdlibBenchmark {
+  Stdlib stdlib;
+
+  @Setup
+  public void setup() {
+    stdlib = IndexedStdlib.fromResource(IndexedStdlib.JAVA_8);
+    // The index is loaded lazily, make sure this is not measured
+    stdlib.getClassesFor("List");
+  }
+
+  @Benchmark
+  public Import[] hit() {
+    return stdlib.getClassesFor("List");
+  }
+
+  @Benchmark
+  public Import[] miss() {
+    return stdlib.getClassesFor("MyVeryOwnBusinessObject");
+  }
+}
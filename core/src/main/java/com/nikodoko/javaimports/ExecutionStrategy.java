@@ -0,0 +1,106 @@
+package com.nikodoko.javaimports;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * How {@link Options#executor()} runs parallel tasks (parsing files and loading dependencies,
+ * mostly).
+ *
+ * <p>Executors created by a strategy are owned by the {@link Options} using it, and shut down when
+ * they are closed. Executors supplied by the caller are never shut down.
+ */
+public final class ExecutionStrategy {
+  private final Supplier<Executor> factory;
+  private final boolean owned;
+  private final String description;
+
+  private ExecutionStrategy(Supplier<Executor> factory, boolean owned, String description) {
+    this.factory = factory;
+    this.owned = owned;
+    this.description = description;
+  }
+
+  /** Runs all tasks on the thread submitting them. */
+  public static ExecutionStrategy direct() {
+    return new ExecutionStrategy(() -> Runnable::run, false, "direct");
+  }
+
+  /** Runs tasks on a pool of {@code numThreads} threads. */
+  public static ExecutionStrategy fixed(int numThreads) {
+    return new ExecutionStrategy(
+        () -> Executors.newFixedThreadPool(numThreads, daemonThreads("javaimports-worker")),
+        true,
+        String.format("fixed(%d)", numThreads));
+  }
+
+  /**
+   * Runs tasks on a pool sized from the number of available processors. As tasks spend a fair
+   * amount of time reading files, there are a few more threads than processors.
+   */
+  public static ExecutionStrategy bounded() {
+    return fixed(2 * Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Runs each task on its own virtual thread, which lets blocking reads happen without holding
+   * platform threads. Falls back to {@link #bounded()} on JDKs without virtual threads, or where
+   * they are still a preview feature that is not enabled.
+   *
+   * <p>As virtual threads are never reused, the javac objects that platform threads keep from one
+   * parsed file to the next are created again for every task: this pays off when tasks mostly wait
+   * on I/O (loading dependencies for instance) rather than parse.
+   */
+  public static ExecutionStrategy virtualThreads() {
+    try {
+      var factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      // Creating an executor is the only way to know whether virtual threads are actually usable
+      ((ExecutorService) factory.invoke(null)).shutdown();
+      return new ExecutionStrategy(
+          () -> {
+            try {
+              return (ExecutorService) factory.invoke(null);
+            } catch (ReflectiveOperationException e) {
+              throw new IllegalStateException("could not create virtual threads executor", e);
+            }
+          },
+          true,
+          "virtual");
+    } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+      return bounded();
+    }
+  }
+
+  /** Runs tasks on {@code executor}, which is managed by the caller and never shut down. */
+  public static ExecutionStrategy of(Executor executor) {
+    return new ExecutionStrategy(() -> executor, false, "supplied");
+  }
+
+  Executor create() {
+    return factory.get();
+  }
+
+  boolean owned() {
+    return owned;
+  }
+
+  @Override
+  public String toString() {
+    return description;
+  }
+
+  // Threads that do not prevent the JVM from exiting, for those embedding javaimports and
+  // forgetting to close their options
+  static ThreadFactory daemonThreads(String prefix) {
+    var count = new AtomicInteger();
+    return r -> {
+      Thread t = new Thread(r, prefix + "-" + count.incrementAndGet());
+      t.setDaemon(true);
+      return t;
+    };
+  }
+}
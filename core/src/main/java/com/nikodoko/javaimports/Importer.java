@@ -3,10 +3,15 @@ package com.nikodoko.javaimports;
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
+import com.google.common.base.Suppliers;
 import com.google.common.collect.Range;
+import com.google.common.hash.Hashing;
+import com.nikodoko.javaimports.common.CancellationToken;
+import com.nikodoko.javaimports.environment.Environment;
 import com.nikodoko.javaimports.environment.Environments;
 import com.nikodoko.javaimports.fixer.Fixer;
 import com.nikodoko.javaimports.fixer.Result;
+import com.nikodoko.javaimports.fixer.candidates.Candidate;
 import com.nikodoko.javaimports.parser.Import;
 import com.nikodoko.javaimports.parser.ParsedFile;
 import com.nikodoko.javaimports.parser.Parser;
@@ -16,12 +21,22 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Clock;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -37,6 +52,9 @@ public final class Importer {
 
   private Options options;
   private Parser parser;
+  private Optional<ResultCache> results;
+  // Siblings parsed by previous runs, by path, if they can be shared
+  private Optional<ConcurrentMap<Path, CompletableFuture<Sibling>>> sharedSiblings;
 
   /** An {@code Importer} constructor with default options */
   public Importer() {
@@ -49,8 +67,34 @@ public final class Importer {
    * @param options its options.
    */
   public Importer(Options options) {
+    this(options, false);
+  }
+
+  private Importer(Options options, boolean shareSiblings) {
     this.options = options;
     this.parser = new Parser(options);
+    this.results = options.cache().map(ResultCache::in);
+    this.sharedSiblings =
+        shareSiblings ? Optional.of(new ConcurrentHashMap<>()) : Optional.empty();
+  }
+
+  /**
+   * An {@code Importer} reading and parsing each sibling only once, however many files of its
+   * directory it fixes. It can fix many files in parallel, but only as long as they are not
+   * modified on disk in the meantime.
+   *
+   * @param options its options.
+   */
+  public static Importer sharingSiblings(Options options) {
+    return new Importer(options, true);
+  }
+
+  /**
+   * The stats of the runs of this {@code Importer}, as given by its options. They are only recorded
+   * if enabled through {@link Options.Builder#stats(Stats)}.
+   */
+  public Stats stats() {
+    return options.stats();
   }
 
   /**
@@ -60,6 +104,17 @@ public final class Importer {
    * <p>The returned string will be a best effort, meaning that all that can be added will be, but
    * that this offers no guarantee that the file will have all of the missing imports added.
    *
+   * <p>The environment of the file (its project and dependencies) is loaded speculatively in the
+   * background from the start, while the first approaches are tried, and dropped if they are
+   * enough.
+   *
+   * <p>If {@link Options#cache()} is set, the result is persisted along with what it depends on
+   * (the file, and depending on how far fixing it went, its siblings, environment and stdlib). It
+   * is returned right away, without parsing anything, as long as none of these change.
+   *
+   * <p>If {@link Options#timeBudget()} is set, approaches that are not ready once it is exceeded
+   * are skipped (and reported as such), and the best result found without them is returned.
+   *
    * <p>The approaches are as follows:
    *
    * <ol>
@@ -77,25 +132,206 @@ public final class Importer {
   public String addUsedImports(final Path filename, final String javaCode)
       throws ImporterException {
     long start = clock.millis();
+    CancellationToken speculation = CancellationToken.create();
+    CancellationToken deadline =
+        options.timeBudget().map(CancellationToken::withTimeout).orElse(CancellationToken.none());
     try {
-      Optional<ParsedFile> f = parser.parse(filename, javaCode);
+      Environment environment = Environments.autoSelect(filename, options);
+      // Only started by reuse if it needs the environment
+      Supplier<CompletableFuture<Void>> warmUp =
+          Suppliers.memoize(() -> environment.warmUp(options.pipeline(), speculation));
+      Optional<String> reused = reuse(filename, javaCode, environment, warmUp, deadline);
+      if (reused.isPresent()) {
+        return reused.get();
+      }
+
+      CompletableFuture<Void> loading = warmUp.get();
+
+      Optional<ParsedFile> f;
+      try (Stats.Span span = options.stats().start(Stats.Phase.PARSE_TARGET, filename)) {
+        f = parser.parse(filename, javaCode);
+      }
       if (f.isEmpty()) {
         if (options.debug()) {
           log.log(Level.WARNING, "file is empty");
         }
+        remember(
+            filename, javaCode, ResultCache.Stage.FILE, Optional.empty(), environment, javaCode);
         return javaCode;
       }
 
-      Result fixes = getFixes(filename, f.get());
-      return applyFixes(f.get(), javaCode, fixes);
+      Attempt attempt = getFixes(filename, f.get(), environment, loading, deadline);
+      Result fixes = attempt.result;
+      if (!fixes.skipped().isEmpty()) {
+        log.log(
+            Level.WARNING,
+            String.format(
+                "time budget exceeded, result is incomplete (skipped %s)", fixes.skipped()));
+      }
+
+      String fixed;
+      try (Stats.Span span = options.stats().start(Stats.Phase.APPLY_FIXES)) {
+        fixed = applyFixes(f.get(), javaCode, fixes);
+      }
+      // An incomplete result would be wrong as soon as there is more time
+      if (fixes.skipped().isEmpty()) {
+        remember(filename, javaCode, attempt.stage, attempt.siblings, environment, fixed);
+      }
+
+      return fixed;
     } finally {
+      // Whatever is still loading at this point is not needed anymore, unless the project is kept
+      // in memory for next runs, in which case it is better to let it finish in the background
+      if (options.environments().isEmpty()) {
+        speculation.cancel();
+      }
       if (options.debug()) {
         log.log(Level.INFO, String.format("total time: %d ms", clock.millis() - start));
       }
     }
   }
 
-  private Result getFixes(Path filename, ParsedFile f) throws ImporterException {
+  // A result, how far we had to go to get it and what the siblings it used were, if any
+  private static final class Attempt {
+    final Result result;
+    final ResultCache.Stage stage;
+    final Optional<String> siblings;
+
+    Attempt(Result result, ResultCache.Stage stage) {
+      this(result, stage, Optional.empty());
+    }
+
+    Attempt(Result result, ResultCache.Stage stage, Optional<String> siblings) {
+      this.result = result;
+      this.stage = stage;
+      this.siblings = siblings;
+    }
+  }
+
+  // Returns the persisted result of fixing filename, if everything it depends on is unchanged.
+  // Checking a result that depended on the environment means waiting for it to load, but not past
+  // the deadline
+  private Optional<String> reuse(
+      Path filename,
+      String javaCode,
+      Environment environment,
+      Supplier<CompletableFuture<Void>> warmUp,
+      CancellationToken deadline) {
+    if (results.isEmpty()) {
+      return Optional.empty();
+    }
+
+    var entry = results.get().read(filename, javaCode);
+    if (entry.isEmpty()) {
+      return Optional.empty();
+    }
+
+    var stage = entry.get().stage;
+    Optional<String> fingerprint = Optional.of("");
+    if (stage != ResultCache.Stage.FILE) {
+      fingerprint = siblingsFingerprint(filename);
+    }
+    if (stage == ResultCache.Stage.ENVIRONMENT && fingerprint.isPresent()) {
+      fingerprint =
+          isLoaded(warmUp.get(), deadline)
+              ? environmentFingerprint(fingerprint.get(), environment)
+              : Optional.empty();
+    }
+
+    if (!fingerprint.equals(Optional.of(entry.get().fingerprint))) {
+      return Optional.empty();
+    }
+
+    if (options.debug()) {
+      log.log(Level.INFO, "reusing result of a previous run (" + stage + ")");
+    }
+    options.stats().increment(Stats.Counter.RESULTS_REUSED);
+    results.get().touch(filename);
+    return Optional.of(entry.get().output);
+  }
+
+  // Persists the result of fixing filename, unless what it depends on cannot be identified without
+  // loading more than what was needed to fix it
+  private void remember(
+      Path filename,
+      String javaCode,
+      ResultCache.Stage stage,
+      Optional<String> siblings,
+      Environment environment,
+      String output) {
+    if (results.isEmpty()) {
+      return;
+    }
+
+    Optional<String> fingerprint = Optional.of("");
+    if (stage != ResultCache.Stage.FILE) {
+      fingerprint = siblings;
+    }
+    if (stage == ResultCache.Stage.ENVIRONMENT && fingerprint.isPresent()) {
+      fingerprint = environmentFingerprint(fingerprint.get(), environment);
+    }
+
+    fingerprint.ifPresent(
+        f -> results.get().write(filename, javaCode, new ResultCache.Entry(stage, f, output)));
+  }
+
+  // Identifies the siblings, the stdlib and the environment, if the latter is already loaded
+  private Optional<String> environmentFingerprint(String siblings, Environment environment) {
+    var stdlib = options.stdlib().version();
+    var env = environment.fingerprint();
+    if (stdlib.isEmpty() || env.isEmpty()) {
+      return Optional.empty();
+    }
+
+    return Optional.of(
+        Hashing.sha256()
+            .newHasher()
+            .putString(siblings, UTF_8)
+            .putByte((byte) 0)
+            .putString(stdlib.get(), UTF_8)
+            .putByte((byte) 0)
+            .putString(env.get(), UTF_8)
+            .hash()
+            .toString());
+  }
+
+  // Identifies the siblings of filename by their content, as they are when read now
+  private Optional<String> siblingsFingerprint(Path filename) {
+    try {
+      List<Path> paths = findSiblings(filename);
+      List<String> hashes = new ArrayList<>();
+      for (Path sibling : paths) {
+        hashes.add(hashContent(new String(Files.readAllBytes(sibling), UTF_8)));
+      }
+
+      return Optional.of(hashSiblings(paths, hashes));
+    } catch (IOException | IOError e) {
+      return Optional.empty();
+    }
+  }
+
+  // Siblings are hashed one by one, so that their content does not have to be kept around
+  private static String hashSiblings(List<Path> paths, List<String> hashes) {
+    var hasher = Hashing.sha256().newHasher();
+    for (int i = 0; i < paths.size(); i++) {
+      hasher.putString(paths.get(i).getFileName().toString(), UTF_8).putByte((byte) 0);
+      hasher.putString(hashes.get(i), UTF_8).putByte((byte) 0);
+    }
+
+    return hasher.hash().toString();
+  }
+
+  private static String hashContent(String source) {
+    return Hashing.sha256().hashString(source, UTF_8).toString();
+  }
+
+  private Attempt getFixes(
+      Path filename,
+      ParsedFile f,
+      Environment environment,
+      CompletableFuture<Void> loading,
+      CancellationToken deadline)
+      throws ImporterException {
     Fixer fixer = Fixer.init(f, options);
     // Initial run with the current file only.
     Result r = fixer.tryToFix();
@@ -106,16 +342,24 @@ public final class Importer {
         log.log(Level.INFO, "file is complete");
       }
       checkArgument(r.fixes().isEmpty(), "expected no fixes but found %s", r.fixes());
-      return r;
+      return new Attempt(r, ResultCache.Stage.FILE);
     }
 
     // Add package information
-    Set<ParsedFile> siblings = parseSiblings(filename);
-    fixer.addSiblings(siblings);
+    Optional<Siblings> siblings;
+    try (Stats.Span span = options.stats().start(Stats.Phase.PARSE_SIBLINGS)) {
+      siblings = parseSiblings(filename, f.packageName(), deadline);
+    }
+    if (siblings.isPresent()) {
+      fixer.addSiblings(siblings.get().files);
+    } else {
+      fixer.skip(Candidate.Source.SIBLING);
+    }
     r = fixer.tryToFix();
 
+    Optional<String> fingerprint = siblings.map(s -> s.fingerprint);
     if (r.done()) {
-      return r;
+      return new Attempt(r, ResultCache.Stage.SIBLINGS, fingerprint);
     }
 
     // Files in a same package can be in a different folder (if we are resolving a test file for
@@ -124,50 +368,232 @@ public final class Importer {
     // want to resolve them before so as to avoid adding uneeded imports, so we need to add both the
     // stdlib provider and the resolver at the same time.
     fixer.addStdlibProvider(options.stdlib());
-    fixer.addEnvironment(Environments.autoSelect(filename, f.packageName(), options));
+    if (isReady(loading, deadline)) {
+      fixer.addEnvironment(environment);
+    } else {
+      fixer.skip(Candidate.Source.EXTERNAL);
+    }
 
-    return fixer.lastTryToFix();
+    return new Attempt(fixer.lastTryToFix(), ResultCache.Stage.ENVIRONMENT, fingerprint);
   }
 
-  // Find and parse all java files in the directory of filename, excepting filename itself
-  private Set<ParsedFile> parseSiblings(final Path filename) throws ImporterException {
-    Map<Path, String> sources = new HashMap<>();
+  // Waits for the environment to be loaded, but not past the deadline. Only an environment still
+  // loading once the deadline is exceeded is not ready
+  private boolean isReady(CompletableFuture<Void> loading, CancellationToken deadline) {
+    if (deadline.remaining().isEmpty()) {
+      return true;
+    }
+
     try {
-      // Retrieve all java files in the parent directory of filename, excluding filename and not
-      // searching recursively
-      List<Path> paths =
-          Files.find(
-                  filename.getParent(),
-                  1,
-                  (path, attributes) ->
-                      path.toString().endsWith(".java")
-                          && !path.getFileName().equals(filename.getFileName()))
-              .collect(Collectors.toList());
-
-      for (Path p : paths) {
-        sources.put(p, new String(Files.readAllBytes(p), UTF_8));
+      loading.get(Math.max(0, deadline.remaining().get().toNanos()), TimeUnit.NANOSECONDS);
+      return true;
+    } catch (TimeoutException e) {
+      return false;
+    } catch (ExecutionException e) {
+      // The environment is not late but broken: querying it loads it again, which reports what
+      // went wrong as it would have without a time budget
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  // Waits for the environment to be loaded, but not past the deadline, and returns whether it
+  // loaded successfully
+  private boolean isLoaded(CompletableFuture<Void> loading, CancellationToken deadline) {
+    try {
+      if (deadline.remaining().isEmpty()) {
+        loading.get();
+      } else {
+        loading.get(Math.max(0, deadline.remaining().get().toNanos()), TimeUnit.NANOSECONDS);
       }
-    } catch (IOException e) {
-      throw new IOError(e);
+
+      return true;
+    } catch (TimeoutException | ExecutionException | CancellationException e) {
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
     }
+  }
+
+  // The siblings of a file, and what identifies them
+  private static final class Siblings {
+    final Set<ParsedFile> files;
+    final String fingerprint;
 
-    Set<ParsedFile> siblings = new HashSet<>();
+    Siblings(Set<ParsedFile> files, String fingerprint) {
+      this.files = files;
+      this.fingerprint = fingerprint;
+    }
+  }
+
+  // Find and parse all java files in the directory of filename and in package pkg, excepting
+  // filename itself. Returns nothing if they could not all be parsed before the deadline
+  private Optional<Siblings> parseSiblings(
+      final Path filename, String pkg, CancellationToken deadline) throws ImporterException {
+    List<Path> paths = findSiblings(filename);
+
+    // Files are read and parsed in parallel, and the calling thread takes part as well: this way
+    // parsing completes even if all threads of the executor are busy (in batch mode, they are the
+    // ones running importers)
+    Sibling[] siblings = new Sibling[paths.size()];
+    AtomicInteger next = new AtomicInteger();
+    CountDownLatch done = new CountDownLatch(paths.size());
+    Runnable worker =
+        () -> {
+          int i;
+          while ((i = next.getAndIncrement()) < siblings.length) {
+            try {
+              siblings[i] = sibling(paths.get(i), pkg, deadline);
+            } finally {
+              done.countDown();
+            }
+          }
+        };
+
+    Executor executor = options.executor(Options.Stage.PARSING);
+    int helpers = Math.min(siblings.length, Runtime.getRuntime().availableProcessors()) - 1;
+    try {
+      for (int i = 0; i < helpers; i++) {
+        executor.execute(worker);
+      }
+    } catch (RejectedExecutionException e) {
+      // The calling thread will simply do more of the work
+    }
+    worker.run();
+    try {
+      done.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return Optional.empty();
+    }
+
+    Set<ParsedFile> parsed = new HashSet<>();
+    List<String> hashes = new ArrayList<>();
     List<ImporterException> exceptions = new ArrayList<>();
     // Try to parse all files even if one is invalid (so that the user can fix everything without
     // rerunning the tool), but fail if one is wrong.
-    for (Map.Entry<Path, String> source : sources.entrySet()) {
-      try {
-        parser.parse(source.getKey(), source.getValue()).ifPresent(siblings::add);
-      } catch (ImporterException e) {
-        exceptions.add(e);
+    for (Sibling sibling : siblings) {
+      if (sibling.failure != null) {
+        throw sibling.failure;
+      }
+
+      if (sibling.readError != null) {
+        throw new IOError(sibling.readError);
+      }
+
+      if (sibling.skipped) {
+        return Optional.empty();
+      }
+
+      if (sibling.parseError != null) {
+        exceptions.add(sibling.parseError);
       }
+
+      sibling.file.ifPresent(parsed::add);
+      hashes.add(sibling.hash);
     }
 
     if (!exceptions.isEmpty()) {
       throw ImporterException.combine(exceptions);
     }
 
-    return siblings;
+    return Optional.of(new Siblings(parsed, hashSiblings(paths, hashes)));
+  }
+
+  // Retrieve all java files in the parent directory of filename, excluding filename and not
+  // searching recursively
+  private static List<Path> findSiblings(Path filename) {
+    try {
+      return Files.find(
+              filename.getParent(),
+              1,
+              (path, attributes) ->
+                  path.toString().endsWith(".java")
+                      && !path.getFileName().equals(filename.getFileName()))
+          .sorted()
+          .collect(Collectors.toList());
+    } catch (IOException e) {
+      throw new IOError(e);
+    }
+  }
+
+  private static final class Sibling {
+    final String pkg;
+    Optional<ParsedFile> file = Optional.empty();
+    // Of its content
+    String hash;
+    IOException readError;
+    ImporterException parseError;
+    RuntimeException failure;
+    boolean skipped;
+
+    Sibling(String pkg) {
+      this.pkg = pkg;
+    }
+  }
+
+  // Parses a sibling, or reuses it if it was already parsed for the same package. A sibling that
+  // could not be parsed before the deadline is not shared, as it could be with more time
+  private Sibling sibling(Path path, String pkg, CancellationToken deadline) {
+    if (sharedSiblings.isEmpty()) {
+      return parseSibling(path, pkg, deadline);
+    }
+
+    CompletableFuture<Sibling> parsing = new CompletableFuture<>();
+    CompletableFuture<Sibling> shared = sharedSiblings.get().putIfAbsent(path, parsing);
+    if (shared != null) {
+      Sibling sibling = shared.join();
+      if (sibling == null || sibling.skipped || !sibling.pkg.equals(pkg)) {
+        return parseSibling(path, pkg, deadline);
+      }
+
+      return sibling;
+    }
+
+    Sibling sibling = null;
+    try {
+      sibling = parseSibling(path, pkg, deadline);
+      return sibling;
+    } finally {
+      if (sibling == null || sibling.skipped) {
+        sharedSiblings.get().remove(path, parsing);
+      }
+      // Null if parsing failed unexpectedly, in which case whoever waited tries again
+      parsing.complete(sibling);
+    }
+  }
+
+  private Sibling parseSibling(Path path, String pkg, CancellationToken deadline) {
+    Sibling sibling = new Sibling(pkg);
+    if (deadline.isCancelled()) {
+      sibling.skipped = true;
+      return sibling;
+    }
+
+    try {
+      String source = new String(Files.readAllBytes(path), UTF_8);
+      sibling.hash = hashContent(source);
+      // Files of other packages would be ignored anyway, so do not bother parsing them
+      Optional<String> peeked = Parser.peekPackageName(source);
+      if (peeked.isPresent() && !peeked.get().equals(pkg)) {
+        return sibling;
+      }
+
+      // Siblings are only used for what they declare
+      sibling.file = parser.parseDeclarations(path, source);
+    } catch (IOException e) {
+      sibling.readError = e;
+    } catch (ImporterException e) {
+      sibling.parseError = e;
+    } catch (RuntimeException e) {
+      // Rethrown on the calling thread, as it would have been if parsed there
+      sibling.failure = e;
+    }
+
+    return sibling;
   }
 
   private String buildImportStatements(Set<Import> fixes) {
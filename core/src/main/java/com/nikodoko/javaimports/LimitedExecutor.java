@@ -0,0 +1,63 @@
+package com.nikodoko.javaimports;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs tasks on a delegate executor, but never more than a given number at a time. Tasks over the
+ * limit are queued rather than blocking a thread of the delegate.
+ */
+final class LimitedExecutor implements Executor {
+  private final Executor delegate;
+  private final int limit;
+  private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger running = new AtomicInteger();
+
+  LimitedExecutor(Executor delegate, int limit) {
+    this.delegate = delegate;
+    this.limit = limit;
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    queue.add(task);
+    drain();
+  }
+
+  private void drain() {
+    while (!queue.isEmpty()) {
+      int current = running.get();
+      if (current >= limit) {
+        // One of the running tasks will drain the queue when done
+        return;
+      }
+
+      if (!running.compareAndSet(current, current + 1)) {
+        continue;
+      }
+
+      Runnable next = queue.poll();
+      if (next == null) {
+        running.decrementAndGet();
+        continue;
+      }
+
+      try {
+        delegate.execute(
+            () -> {
+              try {
+                next.run();
+              } finally {
+                running.decrementAndGet();
+                drain();
+              }
+            });
+      } catch (RuntimeException e) {
+        running.decrementAndGet();
+        throw e;
+      }
+    }
+  }
+}
@@ -1,24 +1,80 @@
 package com.nikodoko.javaimports;
 
+import com.nikodoko.javaimports.environment.maven.EnvironmentCache;
 import com.nikodoko.javaimports.stdlib.StdlibProvider;
 import com.nikodoko.javaimports.stdlib.StdlibProviders;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
-/** {@link Importer} options */
-public class Options {
+/**
+ * {@link Importer} options.
+ *
+ * <p>Options may own threads (see {@link ExecutionStrategy}), and should be closed once they are
+ * not used anymore by processes that outlive them.
+ */
+public class Options implements AutoCloseable {
+  /** The stages of a run that can be given their own concurrency limit. */
+  public enum Stage {
+    /** Parsing the files of a project */
+    PARSING,
+    /** Scanning the jars of dependencies */
+    LOADING;
+  }
+
+  /**
+   * The default maximum number of transitive dependencies loaded, see {@link #transitiveBudget}.
+   */
+  public static final int DEFAULT_TRANSITIVE_BUDGET = 500;
+
   boolean debug;
   Optional<Path> repository;
+  Optional<Path> cache;
   StdlibProvider stdlib;
+  ExecutionStrategy execution;
   Executor executor;
+  Map<Stage, Executor> stageExecutors = new EnumMap<>(Stage.class);
+  // Runs the stages that wait on tasks submitted to the executor, so that they never take threads
+  // from it
+  ExecutorService pipeline =
+      Executors.newCachedThreadPool(ExecutionStrategy.daemonThreads("javaimports-pipeline"));
+  Optional<EnvironmentCache> environments = Optional.empty();
+  Optional<Duration> timeBudget = Optional.empty();
+  int transitiveDepth = 0;
+  int transitiveBudget = DEFAULT_TRANSITIVE_BUDGET;
+  Stats stats = Stats.disabled();
 
-  public Options(boolean debug, Optional<Path> repository, StdlibProvider stdlib, int numThreads) {
+  public Options(
+      boolean debug,
+      Optional<Path> repository,
+      Optional<Path> cache,
+      StdlibProvider stdlib,
+      int numThreads) {
+    this(
+        debug,
+        repository,
+        cache,
+        stdlib,
+        numThreads != 0 ? ExecutionStrategy.fixed(numThreads) : ExecutionStrategy.direct());
+  }
+
+  public Options(
+      boolean debug,
+      Optional<Path> repository,
+      Optional<Path> cache,
+      StdlibProvider stdlib,
+      ExecutionStrategy execution) {
     this.debug = debug;
     this.repository = repository;
+    this.cache = cache;
     this.stdlib = stdlib;
-    this.executor = numThreads != 0 ? Executors.newFixedThreadPool(numThreads) : Runnable::run;
+    this.execution = execution;
+    this.executor = execution.create();
   }
 
   /** Specific directory to use as a dependency repository. */
@@ -26,6 +82,52 @@ public class Options {
     return repository;
   }
 
+  /**
+   * Directory in which indexes can be persisted between runs. If empty, nothing is persisted and
+   * everything is recomputed on every run.
+   */
+  public Optional<Path> cache() {
+    return cache;
+  }
+
+  /**
+   * Projects kept in memory between runs. If empty, projects are parsed and loaded again on every
+   * run.
+   */
+  public Optional<EnvironmentCache> environments() {
+    return environments;
+  }
+
+  /**
+   * How long the {@code Importer} can take to fix a file. Once it is exceeded, the best result that
+   * can be found without waiting any longer is returned. If empty, there is no limit.
+   */
+  public Optional<Duration> timeBudget() {
+    return timeBudget;
+  }
+
+  /**
+   * How many levels of transitive dependencies to load symbols from: 1 for the dependencies of the
+   * direct dependencies of a project, 2 for their own dependencies, and so on. If 0 (the default),
+   * only the dependencies of direct dependencies whose jar is empty are loaded.
+   */
+  public int transitiveDepth() {
+    return transitiveDepth;
+  }
+
+  /**
+   * The maximum number of transitive dependencies to load when {@link #transitiveDepth()} is not 0,
+   * the nearest ones being loaded first.
+   */
+  public int transitiveBudget() {
+    return transitiveBudget;
+  }
+
+  /** Where the phases of runs are timed and counted. Disabled by default. */
+  public Stats stats() {
+    return stats;
+  }
+
   /** Whether to run the {@code Importer} in debug mode. */
   public boolean debug() {
     return debug;
@@ -41,11 +143,37 @@ public class Options {
     return executor;
   }
 
+  /** The executor to use to run the parallel tasks of a given {@code stage}. */
+  public Executor executor(Stage stage) {
+    return stageExecutors.getOrDefault(stage, executor);
+  }
+
+  Executor pipeline() {
+    return pipeline;
+  }
+
+  /** Shuts down the threads owned by these options. Running tasks are left to complete. */
+  @Override
+  public void close() {
+    pipeline.shutdown();
+    if (execution.owned() && executor instanceof ExecutorService) {
+      ((ExecutorService) executor).shutdown();
+    }
+  }
+
   public static class Builder {
     boolean debug;
     Path repository;
+    Path cache;
     StdlibProvider stdlib;
     int numThreads;
+    ExecutionStrategy execution;
+    Map<Stage, Integer> concurrencyLimits = new EnumMap<>(Stage.class);
+    EnvironmentCache environments;
+    Duration timeBudget;
+    int transitiveDepth;
+    int transitiveBudget = DEFAULT_TRANSITIVE_BUDGET;
+    Stats stats;
 
     public Builder() {}
 
@@ -59,6 +187,11 @@ public class Options {
       return this;
     }
 
+    public Builder cache(Path cache) {
+      this.cache = cache;
+      return this;
+    }
+
     public Builder stdlib(StdlibProvider stdlib) {
       this.stdlib = stdlib;
       return this;
@@ -69,8 +202,66 @@ public class Options {
       return this;
     }
 
+    /** How to run parallel tasks. Takes precedence over {@link #numThreads(int)}. */
+    public Builder execution(ExecutionStrategy execution) {
+      this.execution = execution;
+      return this;
+    }
+
+    /** Runs at most {@code limit} tasks of the given {@code stage} at the same time. */
+    public Builder concurrencyLimit(Stage stage, int limit) {
+      this.concurrencyLimits.put(stage, limit);
+      return this;
+    }
+
+    public Builder environments(EnvironmentCache environments) {
+      this.environments = environments;
+      return this;
+    }
+
+    public Builder timeBudget(Duration timeBudget) {
+      this.timeBudget = timeBudget;
+      return this;
+    }
+
+    public Builder transitiveDepth(int transitiveDepth) {
+      this.transitiveDepth = transitiveDepth;
+      return this;
+    }
+
+    public Builder transitiveBudget(int transitiveBudget) {
+      this.transitiveBudget = transitiveBudget;
+      return this;
+    }
+
+    public Builder stats(Stats stats) {
+      this.stats = stats;
+      return this;
+    }
+
     public Options build() {
-      return new Options(debug, Optional.ofNullable(repository), stdlib, numThreads);
+      var options =
+          new Options(
+              debug,
+              Optional.ofNullable(repository),
+              Optional.ofNullable(cache),
+              stdlib,
+              execution != null
+                  ? execution
+                  : numThreads != 0
+                      ? ExecutionStrategy.fixed(numThreads)
+                      : ExecutionStrategy.direct());
+      concurrencyLimits.forEach(
+          (stage, limit) ->
+              options.stageExecutors.put(stage, new LimitedExecutor(options.executor, limit)));
+      options.environments = Optional.ofNullable(environments);
+      options.timeBudget = Optional.ofNullable(timeBudget);
+      options.transitiveDepth = transitiveDepth;
+      options.transitiveBudget = transitiveBudget;
+      if (stats != null) {
+        options.stats = stats;
+      }
+      return options;
     }
   }
 
@@ -0,0 +1,179 @@
+package com.nikodoko.javaimports;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.hash.Hashing;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Persists the output of {@link Importer#addUsedImports} for each file, so that a file that did not
+ * change, and whose environment did not change either, does not even have to be parsed again.
+ *
+ * <p>There is one entry per file, storing a hash of the source it was computed from, the {@link
+ * Stage} that was enough to fix it and a fingerprint of everything this stage looked at. It is up
+ * to the caller to check that this fingerprint still matches before reusing an entry.
+ *
+ * <p>Entries that were neither written nor reused for {@code MAX_AGE} are deleted, so that files
+ * that are not fixed anymore do not take space forever. This is checked at most once every {@code
+ * PRUNE_INTERVAL}.
+ */
+final class ResultCache {
+  // Bump when changing the on-disk format or what the importer outputs, so that stale results are
+  // simply ignored
+  private static final int VERSION = 1;
+  private static final String RESULTS = "results";
+  private static final String RESULT_EXTENSION = ".res";
+  private static final String LAST_PRUNED = "last-pruned";
+  private static final Duration MAX_AGE = Duration.ofDays(30);
+  private static final Duration PRUNE_INTERVAL = Duration.ofDays(1);
+  private static final Clock clock = Clock.systemDefaultZone();
+
+  /** How far the importer had to go to fix a file, which tells what its result depends on. */
+  enum Stage {
+    /** The file alone */
+    FILE,
+    /** The file and the other files in its directory */
+    SIBLINGS,
+    /** The file, its siblings, its environment and the stdlib */
+    ENVIRONMENT;
+  }
+
+  /** The persisted result of fixing a file. */
+  static final class Entry {
+    final Stage stage;
+    final String fingerprint;
+    final String output;
+
+    Entry(Stage stage, String fingerprint, String output) {
+      this.stage = stage;
+      this.fingerprint = fingerprint;
+      this.output = output;
+    }
+  }
+
+  private final Path directory;
+
+  private ResultCache(Path directory) {
+    this.directory = directory;
+  }
+
+  /** Returns the {@code ResultCache} stored in {@code cache}. */
+  static ResultCache in(Path cache) {
+    return new ResultCache(cache.resolve(RESULTS));
+  }
+
+  /** Returns the entry of {@code file}, if there is one and it was computed from {@code source}. */
+  Optional<Entry> read(Path file, String source) {
+    var entry = entryFile(file);
+    if (!Files.exists(entry)) {
+      return Optional.empty();
+    }
+
+    try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(entry)))) {
+      if (in.readInt() != VERSION || !hash(source).equals(in.readUTF())) {
+        return Optional.empty();
+      }
+
+      var stage = Stage.values()[in.readByte()];
+      var fingerprint = in.readUTF();
+      if (in.readBoolean()) {
+        return Optional.of(new Entry(stage, fingerprint, source));
+      }
+
+      var output = new byte[in.readInt()];
+      in.readFully(output);
+      return Optional.of(new Entry(stage, fingerprint, new String(output, UTF_8)));
+    } catch (IOException | RuntimeException e) {
+      // A corrupted or unreadable entry is not a problem, we simply fix the file again
+      return Optional.empty();
+    }
+  }
+
+  /** Replaces the entry of {@code file}. */
+  void write(Path file, String source, Entry entry) {
+    try {
+      Files.createDirectories(directory);
+      var tmp = Files.createTempFile(directory, "result", ".tmp");
+      try {
+        try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+          out.writeInt(VERSION);
+          out.writeUTF(hash(source));
+          out.writeByte(entry.stage.ordinal());
+          out.writeUTF(entry.fingerprint);
+          // Most files do not need fixing, in which case there is no need to store them twice
+          boolean unchanged = entry.output.equals(source);
+          out.writeBoolean(unchanged);
+          if (!unchanged) {
+            var output = entry.output.getBytes(UTF_8);
+            out.writeInt(output.length);
+            out.write(output);
+          }
+        }
+
+        try {
+          Files.move(tmp, entryFile(file), StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+          Files.move(tmp, entryFile(file), StandardCopyOption.REPLACE_EXISTING);
+        }
+      } finally {
+        Files.deleteIfExists(tmp);
+      }
+    } catch (IOException e) {
+      // Failing to persist a result only means that the file will be fixed again next time
+    }
+
+    pruneIfDue();
+  }
+
+  /** Marks the entry of {@code file} as used, so that it is not pruned. */
+  void touch(Path file) {
+    try {
+      Files.setLastModifiedTime(entryFile(file), FileTime.fromMillis(clock.millis()));
+    } catch (IOException e) {
+      // At worst the entry is pruned, and the file is fixed again next time
+    }
+  }
+
+  // Deletes the entries that were not used for MAX_AGE, unless this was done recently
+  private void pruneIfDue() {
+    var marker = directory.resolve(LAST_PRUNED);
+    long now = clock.millis();
+    try {
+      if (Files.exists(marker)
+          && now - Files.getLastModifiedTime(marker).toMillis() < PRUNE_INTERVAL.toMillis()) {
+        return;
+      }
+
+      Files.write(marker, new byte[0]);
+      try (var entries = Files.newDirectoryStream(directory, "*" + RESULT_EXTENSION)) {
+        for (var entry : entries) {
+          if (now - Files.getLastModifiedTime(entry).toMillis() > MAX_AGE.toMillis()) {
+            Files.deleteIfExists(entry);
+          }
+        }
+      }
+    } catch (IOException e) {
+      // Pruning is best effort, it will be tried again later
+    }
+  }
+
+  private Path entryFile(Path file) {
+    return directory.resolve(hash(file.toAbsolutePath().normalize().toString()) + RESULT_EXTENSION);
+  }
+
+  private static String hash(String s) {
+    return Hashing.sha256().hashString(s, UTF_8).toString();
+  }
+}
@@ -0,0 +1,349 @@
+package com.nikodoko.javaimports;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records how long each phase of a run takes and counts what was done, to understand where time
+ * goes. Stats are shared through {@link Options#stats()}, and accumulate across all runs using
+ * these options (all files of a batch for instance).
+ *
+ * <p>Stats can also keep every span on a timeline, along with the thread it ran on, to be looked at
+ * in a trace viewer (see {@link #writeTrace(Writer)}).
+ *
+ * <p>Recording is thread safe. Disabled stats, the default, record nothing and cost next to
+ * nothing.
+ */
+public final class Stats {
+  private static final Stats DISABLED = new Stats(false, false);
+  private static final Span NOOP = new Span(null, null, null, 0);
+
+  /** The timed phases of a run. Some of them (like loading a jar) happen many times per run. */
+  public enum Phase {
+    /** Parsing the file to fix */
+    PARSE_TARGET,
+    /** Parsing the files in the same directory as the file to fix */
+    PARSE_SIBLINGS,
+    /** Parsing all the files of the project */
+    PARSE_PROJECT,
+    /** Parsing a single file, whatever the reason */
+    PARSE_FILE,
+    /** Reading POMs to find dependencies */
+    RESOLVE_POMS,
+    /** Loading the importable symbols of a single jar */
+    LOAD_JAR,
+    /** An attempt of the fixer to find imports with what it knows so far */
+    FIX,
+    /** Finding candidates for unresolved identifiers */
+    FIND_CANDIDATES,
+    /** Selecting the best of these candidates */
+    SELECT_CANDIDATES,
+    /** Adding imports to the file */
+    APPLY_FIXES,
+    /** Formatting the fixed file */
+    FORMAT;
+  }
+
+  /** What is counted during a run. */
+  public enum Counter {
+    /** Files parsed, whatever the reason */
+    FILES_PARSED,
+    /** Jars whose entries were read */
+    JARS_SCANNED,
+    /** Jars or project files that were up to date in the cache, and did not have to be read */
+    CACHE_HITS,
+    /** Candidates found for all unresolved identifiers */
+    CANDIDATES_CONSIDERED,
+    /** Files whose result of a previous run was reused, without parsing them */
+    RESULTS_REUSED;
+  }
+
+  /** A phase being timed, that ends when closed. */
+  public static final class Span implements AutoCloseable {
+    private final Stats stats;
+    private final Phase phase;
+    private final Object detail;
+    private final long start;
+
+    private Span(Stats stats, Phase phase, Object detail, long start) {
+      this.stats = stats;
+      this.phase = phase;
+      this.detail = detail;
+      this.start = start;
+    }
+
+    @Override
+    public void close() {
+      if (stats != null) {
+        stats.record(this, System.nanoTime());
+      }
+    }
+  }
+
+  // A span on the timeline
+  private static final class Traced {
+    final Phase phase;
+    final String detail;
+    final long start;
+    final long end;
+    final long threadId;
+
+    Traced(Phase phase, String detail, long start, long end, long threadId) {
+      this.phase = phase;
+      this.detail = detail;
+      this.start = start;
+      this.end = end;
+      this.threadId = threadId;
+    }
+  }
+
+  /** The durations recorded for a phase. */
+  public static final class Timing {
+    private long[] durations = new long[8];
+    private int count = 0;
+
+    private synchronized void add(long nanos) {
+      if (count == durations.length) {
+        durations = Arrays.copyOf(durations, 2 * count);
+      }
+
+      durations[count++] = nanos;
+    }
+
+    /** How many times the phase happened. */
+    public synchronized int count() {
+      return count;
+    }
+
+    /** The total time spent in the phase, in nanoseconds. */
+    public synchronized long totalNanos() {
+      long total = 0;
+      for (int i = 0; i < count; i++) {
+        total += durations[i];
+      }
+
+      return total;
+    }
+
+    /**
+     * The duration under which {@code percentile} percents of the occurrences of the phase fall, in
+     * nanoseconds (0 if the phase never happened).
+     */
+    public synchronized long percentileNanos(double percentile) {
+      if (count == 0) {
+        return 0;
+      }
+
+      long[] sorted = Arrays.copyOf(durations, count);
+      Arrays.sort(sorted);
+      int rank = (int) Math.ceil(percentile / 100 * count);
+      return sorted[Math.max(0, Math.min(count, rank) - 1)];
+    }
+
+    /** The longest occurrence of the phase, in nanoseconds. */
+    public long maxNanos() {
+      return percentileNanos(100);
+    }
+  }
+
+  private final boolean enabled;
+  private final Map<Phase, Timing> timings = new EnumMap<>(Phase.class);
+  private final Map<Counter, LongAdder> counters = new EnumMap<>(Counter.class);
+  // Only when tracing
+  private final Queue<Traced> timeline;
+  private final Map<Long, String> threadNames = new ConcurrentHashMap<>();
+  private final long origin = System.nanoTime();
+
+  private Stats(boolean enabled, boolean tracing) {
+    this.enabled = enabled;
+    this.timeline = tracing ? new ConcurrentLinkedQueue<>() : null;
+    for (Phase phase : Phase.values()) {
+      timings.put(phase, new Timing());
+    }
+
+    for (Counter counter : Counter.values()) {
+      counters.put(counter, new LongAdder());
+    }
+  }
+
+  /** Returns new stats, recording everything. */
+  public static Stats create() {
+    return new Stats(true, false);
+  }
+
+  /** Returns new stats, recording everything and keeping all spans on a timeline. */
+  public static Stats tracing() {
+    return new Stats(true, true);
+  }
+
+  /** Returns stats that record nothing. */
+  public static Stats disabled() {
+    return DISABLED;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Starts timing an occurrence of {@code phase}, to be used with try-with-resources:
+   *
+   * <pre>{@code
+   * try (Stats.Span span = stats.start(Stats.Phase.PARSE_TARGET)) {
+   *   ...
+   * }
+   * }</pre>
+   */
+  public Span start(Phase phase) {
+    return start(phase, null);
+  }
+
+  /**
+   * Same as {@link #start(Phase)}, with a {@code detail} (the file being parsed for instance) shown
+   * on the timeline. It is only converted to a string if the span ends up on the timeline.
+   */
+  public Span start(Phase phase, Object detail) {
+    if (!enabled) {
+      return NOOP;
+    }
+
+    return new Span(this, phase, detail, System.nanoTime());
+  }
+
+  /** Adds {@code n} to {@code counter}. */
+  public void add(Counter counter, long n) {
+    if (enabled) {
+      counters.get(counter).add(n);
+    }
+  }
+
+  public void increment(Counter counter) {
+    add(counter, 1);
+  }
+
+  public long count(Counter counter) {
+    return counters.get(counter).sum();
+  }
+
+  public Timing timing(Phase phase) {
+    return timings.get(phase);
+  }
+
+  private void record(Span span, long end) {
+    timings.get(span.phase).add(end - span.start);
+    if (timeline == null) {
+      return;
+    }
+
+    Thread thread = Thread.currentThread();
+    threadNames.putIfAbsent(thread.getId(), thread.getName());
+    timeline.add(
+        new Traced(
+            span.phase,
+            span.detail == null ? null : span.detail.toString(),
+            span.start,
+            end,
+            thread.getId()));
+  }
+
+  /**
+   * Writes all spans of the timeline in the Chrome trace event format, which can be opened in
+   * {@code chrome://tracing} or in Perfetto. Each span is shown on the thread it ran on. Writes an
+   * empty trace if these stats are not tracing.
+   */
+  public void writeTrace(Writer out) throws IOException {
+    out.write("{\"displayTimeUnit\": \"ms\", \"traceEvents\": [");
+    String separator = "\n";
+    for (Map.Entry<Long, String> thread : threadNames.entrySet()) {
+      out.write(separator);
+      out.write(
+          String.format(
+              "{\"name\": \"thread_name\", \"ph\": \"M\", \"pid\": 1, \"tid\": %d,"
+                  + " \"args\": {\"name\": \"%s\"}}",
+              thread.getKey(), escape(thread.getValue())));
+      separator = ",\n";
+    }
+
+    if (timeline != null) {
+      for (Traced span : timeline) {
+        out.write(separator);
+        out.write(
+            String.format(
+                Locale.ROOT,
+                "{\"name\": \"%s\", \"cat\": \"javaimports\", \"ph\": \"X\", \"pid\": 1,"
+                    + " \"tid\": %d, \"ts\": %.3f, \"dur\": %.3f%s}",
+                key(span.phase),
+                span.threadId,
+                (span.start - origin) / 1000.0,
+                (span.end - span.start) / 1000.0,
+                span.detail == null
+                    ? ""
+                    : String.format(", \"args\": {\"detail\": \"%s\"}", escape(span.detail))));
+        separator = ",\n";
+      }
+    }
+
+    out.write("\n]}\n");
+  }
+
+  private static String escape(String s) {
+    StringBuilder sb = new StringBuilder();
+    for (char c : s.toCharArray()) {
+      if (c == '"' || c == '\\') {
+        sb.append('\\').append(c);
+      } else if (c < 0x20) {
+        sb.append(String.format("\\u%04x", (int) c));
+      } else {
+        sb.append(c);
+      }
+    }
+
+    return sb.toString();
+  }
+
+  /**
+   * Returns these stats as a JSON object, with an entry per phase (count, total, p50, p99 and max
+   * durations in nanoseconds) and one per counter. All phases and counters are present, even if
+   * they are zero.
+   */
+  public String toJson() {
+    StringBuilder sb = new StringBuilder("{\n  \"phases\": {");
+    String separator = "\n";
+    for (Phase phase : Phase.values()) {
+      Timing timing = timings.get(phase);
+      sb.append(separator)
+          .append(
+              String.format(
+                  "    \"%s\": {\"count\": %d, \"total_ns\": %d, \"p50_ns\": %d, \"p99_ns\": %d,"
+                      + " \"max_ns\": %d}",
+                  key(phase),
+                  timing.count(),
+                  timing.totalNanos(),
+                  timing.percentileNanos(50),
+                  timing.percentileNanos(99),
+                  timing.maxNanos()));
+      separator = ",\n";
+    }
+
+    sb.append("\n  },\n  \"counters\": {");
+    separator = "\n";
+    for (Counter counter : Counter.values()) {
+      sb.append(separator).append(String.format("    \"%s\": %d", key(counter), count(counter)));
+      separator = ",\n";
+    }
+
+    return sb.append("\n  }\n}\n").toString();
+  }
+
+  private static String key(Enum<?> e) {
+    return e.name().toLowerCase(Locale.ROOT);
+  }
+}
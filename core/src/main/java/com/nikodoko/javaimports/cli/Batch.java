@@ -0,0 +1,252 @@
+package com.nikodoko.javaimports.cli;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.nikodoko.javaimports.Importer;
+import com.nikodoko.javaimports.ImporterException;
+import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.environment.Environments;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Fixes many files in place, in parallel, sharing the parsed project and dependencies between all
+ * the files that belong to the same project.
+ */
+final class Batch {
+  private static final Clock clock = Clock.systemDefaultZone();
+  private static final String GLOB_CHARACTERS = "*?[{";
+
+  /** A summary of a batch run. */
+  static final class Report {
+    final int files;
+    final int changed;
+    final int failed;
+    final long millis;
+
+    Report(int files, int changed, int failed, long millis) {
+      this.files = files;
+      this.changed = changed;
+      this.failed = failed;
+      this.millis = millis;
+    }
+
+    double filesPerSecond() {
+      return millis == 0 ? files : files * 1000.0 / millis;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "processed %d files (%d changed, %d failed) in %d ms (%.1f files/s)",
+          files, changed, failed, millis, filesPerSecond());
+    }
+  }
+
+  private enum Outcome {
+    UNCHANGED,
+    CHANGED,
+    FAILED;
+  }
+
+  private final Options options;
+  private final UnaryOperator<String> postProcessing;
+  private final PrintWriter errWriter;
+
+  /**
+   * A {@code Batch} constructor.
+   *
+   * @param options its options, which should keep projects in memory through {@link
+   *     Options#environments()} for files to share them
+   * @param postProcessing what to apply to each file once fixed (formatting for instance)
+   * @param errWriter where to report errors
+   */
+  Batch(Options options, UnaryOperator<String> postProcessing, PrintWriter errWriter) {
+    this.options = options;
+    this.postProcessing = postProcessing;
+    this.errWriter = errWriter;
+  }
+
+  /**
+   * Returns all Java files designated by {@code inputs}, which can be files, directories (in which
+   * case they are searched recursively) or glob patterns like {@code src/**}{@code /*.java}.
+   */
+  static List<Path> expand(List<String> inputs) throws IOException {
+    Set<Path> files = new LinkedHashSet<>();
+    for (String input : inputs) {
+      if (isGlob(input)) {
+        files.addAll(matching(input));
+        continue;
+      }
+
+      Path path = Paths.get(input).toAbsolutePath().normalize();
+      if (Files.isDirectory(path)) {
+        files.addAll(javaFilesIn(path, p -> true));
+        continue;
+      }
+
+      if (!Files.exists(path)) {
+        throw new IOException(input + ": no such file or directory");
+      }
+
+      files.add(path);
+    }
+
+    return new ArrayList<>(files);
+  }
+
+  private static boolean isGlob(String input) {
+    return input.chars().anyMatch(c -> GLOB_CHARACTERS.indexOf(c) >= 0);
+  }
+
+  // Walks the longest prefix of the pattern that does not contain any glob character, and matches
+  // what remains of the pattern against paths relative to it
+  private static List<Path> matching(String glob) throws IOException {
+    Path pattern = Paths.get(glob);
+    Path base = pattern.isAbsolute() ? pattern.getRoot() : Paths.get("");
+    int i = 0;
+    for (; i < pattern.getNameCount() - 1; i++) {
+      if (isGlob(pattern.getName(i).toString())) {
+        break;
+      }
+
+      base = base.resolve(pattern.getName(i));
+    }
+
+    Path start = base.toAbsolutePath().normalize();
+    if (!Files.isDirectory(start)) {
+      return List.of();
+    }
+
+    PathMatcher matcher =
+        FileSystems.getDefault()
+            .getPathMatcher("glob:" + pattern.subpath(i, pattern.getNameCount()));
+    return javaFilesIn(start, p -> matcher.matches(start.relativize(p)));
+  }
+
+  private static List<Path> javaFilesIn(Path directory, PathMatcher matcher) throws IOException {
+    try (Stream<Path> paths =
+        Files.find(
+            directory,
+            Integer.MAX_VALUE,
+            (p, attributes) ->
+                attributes.isRegularFile()
+                    && p.toString().endsWith(".java")
+                    && matcher.matches(p))) {
+      return paths.map(p -> p.normalize()).sorted().collect(Collectors.toList());
+    }
+  }
+
+  /** Fixes all {@code files} in place. */
+  Report run(List<Path> files) {
+    long start = clock.millis();
+    // Parse each project and load its dependencies once and for all before fixing files in
+    // parallel: this is done on the executor as well, and letting each file trigger it while
+    // holding an executor thread could exhaust it
+    options
+        .environments()
+        .ifPresent(
+            environments ->
+                files.stream()
+                    .map(Environments::findRoot)
+                    .flatMap(Optional::stream)
+                    .distinct()
+                    .forEach(root -> environments.projectAt(root, options).warmUp()));
+
+    // Files are not modified until all of them are fixed, so each of them only has to be parsed
+    // once as the sibling of the others
+    Importer importer = Importer.sharingSiblings(options);
+    var futures =
+        files.stream()
+            .map(f -> CompletableFuture.supplyAsync(() -> fix(importer, f), options.executor()))
+            .collect(Collectors.toList());
+    CompletableFuture.allOf(futures.stream().toArray(CompletableFuture[]::new)).join();
+
+    // Files are only written once all of them have been fixed: fixing a file reads its siblings
+    // from disk, and could otherwise see one of them half-written
+    int changed = 0;
+    int failed = 0;
+    for (var future : futures) {
+      var fixed = future.join();
+      Outcome outcome =
+          fixed.content.isPresent() ? write(fixed.file, fixed.content.get()) : fixed.outcome;
+      if (outcome == Outcome.CHANGED) {
+        changed++;
+      } else if (outcome == Outcome.FAILED) {
+        failed++;
+      }
+    }
+
+    return new Report(files.size(), changed, failed, clock.millis() - start);
+  }
+
+  // The result of fixing a file, holding its new content if it has to be written
+  private static final class Fixed {
+    final Path file;
+    final Outcome outcome;
+    final Optional<String> content;
+
+    Fixed(Path file, Outcome outcome, Optional<String> content) {
+      this.file = file;
+      this.outcome = outcome;
+      this.content = content;
+    }
+  }
+
+  private Fixed fix(Importer importer, Path file) {
+    try {
+      String input = new String(Files.readAllBytes(file), UTF_8);
+      String fixed = postProcessing.apply(importer.addUsedImports(file, input));
+      if (fixed.equals(input)) {
+        return new Fixed(file, Outcome.UNCHANGED, Optional.empty());
+      }
+
+      return new Fixed(file, Outcome.CHANGED, Optional.of(fixed));
+    } catch (ImporterException e) {
+      synchronized (errWriter) {
+        for (ImporterException.ImporterDiagnostic d : e.diagnostics()) {
+          errWriter.println(d);
+        }
+      }
+    } catch (IOException e) {
+      synchronized (errWriter) {
+        errWriter.println(file + ": " + e.getMessage());
+      }
+    } catch (RuntimeException e) {
+      // One file should not prevent the others from being fixed
+      synchronized (errWriter) {
+        errWriter.println(file + ": unexpected error: " + e);
+      }
+    }
+
+    return new Fixed(file, Outcome.FAILED, Optional.empty());
+  }
+
+  private Outcome write(Path file, String content) {
+    try {
+      Files.write(file, content.getBytes(UTF_8));
+      return Outcome.CHANGED;
+    } catch (IOException e) {
+      synchronized (errWriter) {
+        errWriter.println(file + ": " + e.getMessage());
+      }
+    }
+
+    return Outcome.FAILED;
+  }
+}
@@ -4,22 +4,38 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 
 import com.google.googlejavaformat.java.Formatter;
 import com.google.googlejavaformat.java.FormatterException;
+import com.nikodoko.javaimports.ExecutionStrategy;
 import com.nikodoko.javaimports.Importer;
 import com.nikodoko.javaimports.ImporterException;
 import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.Stats;
+import com.nikodoko.javaimports.daemon.Daemon;
+import com.nikodoko.javaimports.daemon.DaemonClient;
+import com.nikodoko.javaimports.environment.maven.EnvironmentCache;
+import com.nikodoko.javaimports.stdlib.StdlibProvider;
 import com.nikodoko.javaimports.stdlib.StdlibProviders;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
 /** The main class for the CLI */
 public final class CLI {
+  private static final int DEFAULT_DAEMON_PORT = 7437;
+  private static final int DEFAULT_DAEMON_MEMORY_MB = 1024;
+  private static final int DEFAULT_DAEMON_IDLE_MINUTES = 30;
+
   private final PrintWriter errWriter;
   private final PrintWriter outWriter;
 
@@ -63,15 +79,17 @@ public final class CLI {
       throw new UsageException(e.getMessage());
     }
 
-    if (params.file() == null && !(params.help() || params.version())) {
+    if (params.file() == null
+        && params.filesFrom() == null
+        && !(params.help() || params.version() || params.daemon())) {
       throw new UsageException("please provide a file");
     }
 
     return params;
   }
 
-  private String googleFormat(String code) {
-    try {
+  private String googleFormat(String code, Stats stats) {
+    try (Stats.Span span = stats.start(Stats.Phase.FORMAT)) {
       return new Formatter().formatSourceAndFixImports(code);
     } catch (FormatterException e) {
       // Formatting is not vital, so print a warning and continue
@@ -91,6 +109,169 @@ public final class CLI {
     return file;
   }
 
+  // Returns null if caching is disabled
+  private static Path cacheDirectory(CLIOptions params) {
+    if (params.noCache()) {
+      return null;
+    }
+
+    return stateDirectory(params);
+  }
+
+  // Where to keep files between runs, even if caching is disabled
+  private static Path stateDirectory(CLIOptions params) {
+    if (params.cacheDir() != null) {
+      return Paths.get(params.cacheDir()).toAbsolutePath();
+    }
+
+    String xdgCacheHome = System.getenv("XDG_CACHE_HOME");
+    if (xdgCacheHome != null && !xdgCacheHome.isEmpty()) {
+      return Paths.get(xdgCacheHome, "javaimports");
+    }
+
+    return Paths.get(System.getProperty("user.home"), ".cache", "javaimports");
+  }
+
+  private static int daemonPort(CLIOptions params) {
+    return params.daemonPort() != 0 ? params.daemonPort() : DEFAULT_DAEMON_PORT;
+  }
+
+  private static Path daemonTokenFile(CLIOptions params) {
+    return stateDirectory(params).resolve("daemon-" + daemonPort(params) + ".token");
+  }
+
+  private static StdlibProvider stdlib(CLIOptions params) {
+    if (!CLIOptions.JDK_STDLIB.equals(params.stdlib())) {
+      return StdlibProviders.java8();
+    }
+
+    Path javaHome = params.javaHome() == null ? null : Paths.get(params.javaHome());
+    return StdlibProviders.jdk(javaHome, cacheDirectory(params));
+  }
+
+  private static ExecutionStrategy execution(CLIOptions params) {
+    if (params.virtualThreads()) {
+      return ExecutionStrategy.virtualThreads();
+    }
+
+    if (params.threads() != 0) {
+      return ExecutionStrategy.fixed(params.threads());
+    }
+
+    return ExecutionStrategy.bounded();
+  }
+
+  private static Stats stats(CLIOptions params) {
+    if (params.trace() != null) {
+      return Stats.tracing();
+    }
+
+    return params.stats() != null ? Stats.create() : Stats.disabled();
+  }
+
+  private void writeStats(CLIOptions params, Stats stats) {
+    if (params.stats() == null) {
+      return;
+    }
+
+    if (params.stats().equals("-")) {
+      errWriter.print(stats.toJson());
+      return;
+    }
+
+    try {
+      Files.write(Paths.get(params.stats()), stats.toJson().getBytes(UTF_8));
+    } catch (IOException e) {
+      // The report is not worth failing the run for
+      errWriter.println("WARNING: could not write stats: " + e.getMessage());
+    }
+  }
+
+  private void writeTrace(CLIOptions params, Stats stats) {
+    if (params.trace() == null) {
+      return;
+    }
+
+    try (Writer out = Files.newBufferedWriter(Paths.get(params.trace()), UTF_8)) {
+      stats.writeTrace(out);
+    } catch (IOException e) {
+      // Same as for stats
+      errWriter.println("WARNING: could not write trace: " + e.getMessage());
+    }
+  }
+
+  private static Options.Builder options(CLIOptions params) {
+    return Options.builder()
+        .debug(params.verbose())
+        .cache(cacheDirectory(params))
+        .stdlib(stdlib(params))
+        .timeBudget(params.timeBudget() != 0 ? Duration.ofMillis(params.timeBudget()) : null)
+        .transitiveDepth(params.transitiveDepth())
+        .transitiveBudget(
+            params.transitiveBudget() != 0
+                ? params.transitiveBudget()
+                : Options.DEFAULT_TRANSITIVE_BUDGET)
+        .execution(execution(params));
+  }
+
+  private int runDaemon(CLIOptions params) {
+    long memory = params.daemonMemory() != 0 ? params.daemonMemory() : DEFAULT_DAEMON_MEMORY_MB;
+    long idle = params.daemonIdle() != 0 ? params.daemonIdle() : DEFAULT_DAEMON_IDLE_MINUTES;
+    Options opts =
+        options(params)
+            .environments(new EnvironmentCache(memory * 1024 * 1024, Duration.ofMinutes(idle)))
+            .build();
+
+    try (opts;
+        Daemon daemon = Daemon.listen(daemonPort(params), opts, daemonTokenFile(params))) {
+      errWriter.println("javaimports daemon listening on port " + daemon.port());
+      errWriter.flush();
+      daemon.serve();
+    } catch (IOException e) {
+      errWriter.println("daemon failed: " + e.getMessage());
+      return 1;
+    }
+
+    return 0;
+  }
+
+  private int runBatch(CLIOptions params) {
+    List<Path> files;
+    try {
+      List<String> inputs = new ArrayList<>(params.files());
+      if (params.filesFrom() != null) {
+        inputs.addAll(readFileList(params.filesFrom()));
+      }
+
+      files = Batch.expand(inputs);
+    } catch (IOException e) {
+      errWriter.println("could not list files: " + e.getMessage());
+      return 1;
+    }
+
+    // All files share the same projects, and since we are not interactive we can afford to load
+    // them entirely upfront
+    Stats stats = stats(params);
+    UnaryOperator<String> postProcessing = params.fixOnly() ? s -> s : s -> googleFormat(s, stats);
+    Batch.Report report;
+    try (Options opts =
+        options(params).environments(EnvironmentCache.unbounded()).stats(stats).build()) {
+      report = new Batch(opts, postProcessing, errWriter).run(files);
+    }
+    errWriter.println(report);
+    writeStats(params, stats);
+    writeTrace(params, stats);
+    return report.failed == 0 ? 0 : 1;
+  }
+
+  private List<String> readFileList(String filesFrom) throws IOException {
+    String content =
+        filesFrom.equals("-")
+            ? readStdin()
+            : new String(Files.readAllBytes(Paths.get(filesFrom)), UTF_8);
+    return content.lines().map(String::trim).filter(l -> !l.isEmpty()).collect(Collectors.toList());
+  }
+
   private int parse(String... args) throws UsageException {
     CLIOptions params = processArgs(args);
 
@@ -103,6 +284,14 @@ public final class CLI {
       throw new UsageException();
     }
 
+    if (params.daemon()) {
+      return runDaemon(params);
+    }
+
+    if (params.batch()) {
+      return runBatch(params);
+    }
+
     Path path;
     String input;
     try {
@@ -120,15 +309,28 @@ public final class CLI {
       return 1;
     }
 
-    // TODO: make stdlib version a CLI option
-    Options opts =
-        Options.builder()
-            .debug(params.verbose())
-            .stdlib(StdlibProviders.java8())
-            .numThreads(8)
-            .build();
+    if (params.client()) {
+      try {
+        DaemonClient.Response response =
+            new DaemonClient(daemonPort(params), daemonTokenFile(params))
+                .fix(path, input, params.fixOnly());
+        response.messages().forEach(errWriter::println);
+        if (response.failed()) {
+          return 1;
+        }
+
+        return output(params, path, input, response.output());
+      } catch (IOException e) {
+        // No daemon is running, so fix the file ourselves
+        if (params.verbose()) {
+          errWriter.println("could not reach daemon: " + e.getMessage());
+        }
+      }
+    }
+
     String fixed;
-    try {
+    Stats stats = stats(params);
+    try (Options opts = options(params).stats(stats).build()) {
       fixed = new Importer(opts).addUsedImports(path, input);
     } catch (ImporterException e) {
       for (ImporterException.ImporterDiagnostic d : e.diagnostics()) {
@@ -139,9 +341,15 @@ public final class CLI {
     }
 
     if (!params.fixOnly()) {
-      fixed = googleFormat(fixed);
+      fixed = googleFormat(fixed, stats);
     }
 
+    writeStats(params, stats);
+    writeTrace(params, stats);
+    return output(params, path, input, fixed);
+  }
+
+  private int output(CLIOptions params, Path path, String input, String fixed) {
     if (!params.replace()) {
       outWriter.write(fixed);
       return 0;
@@ -1,27 +1,90 @@
 package com.nikodoko.javaimports.cli;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /** Command line options */
 final class CLIOptions {
+  static final String JAVA8_STDLIB = "java8";
+  static final String JDK_STDLIB = "jdk";
+
   private final String file;
+  private final List<String> files;
   private final boolean help;
   private final boolean version;
   private final boolean replace;
   private final boolean fixOnly;
   private final boolean verbose;
+  private final String cacheDir;
+  private final boolean noCache;
+  private final boolean daemon;
+  private final boolean client;
+  private final int daemonPort;
+  private final int daemonMemory;
+  private final int daemonIdle;
+  private final boolean batch;
+  private final String filesFrom;
+  private final String stdlib;
+  private final String javaHome;
+  private final int timeBudget;
+  private final int threads;
+  private final boolean virtualThreads;
+  private final String stats;
+  private final String trace;
+  private final int transitiveDepth;
+  private final int transitiveBudget;
 
   CLIOptions(
       String file,
+      List<String> files,
       boolean help,
       boolean version,
       boolean replace,
       boolean fixOnly,
-      boolean verbose) {
+      boolean verbose,
+      String cacheDir,
+      boolean noCache,
+      boolean daemon,
+      boolean client,
+      int daemonPort,
+      int daemonMemory,
+      int daemonIdle,
+      boolean batch,
+      String filesFrom,
+      String stdlib,
+      String javaHome,
+      int timeBudget,
+      int threads,
+      boolean virtualThreads,
+      String stats,
+      String trace,
+      int transitiveDepth,
+      int transitiveBudget) {
     this.file = file;
+    this.files = files;
     this.help = help;
     this.version = version;
     this.replace = replace;
     this.fixOnly = fixOnly;
     this.verbose = verbose;
+    this.cacheDir = cacheDir;
+    this.noCache = noCache;
+    this.daemon = daemon;
+    this.client = client;
+    this.daemonPort = daemonPort;
+    this.daemonMemory = daemonMemory;
+    this.daemonIdle = daemonIdle;
+    this.batch = batch;
+    this.filesFrom = filesFrom;
+    this.stdlib = stdlib;
+    this.javaHome = javaHome;
+    this.timeBudget = timeBudget;
+    this.threads = threads;
+    this.virtualThreads = virtualThreads;
+    this.stats = stats;
+    this.trace = trace;
+    this.transitiveDepth = transitiveDepth;
+    this.transitiveBudget = transitiveBudget;
   }
 
   /** The file to operate on */
@@ -29,6 +92,11 @@ final class CLIOptions {
     return file;
   }
 
+  /** All files, directories and glob patterns to operate on, in batch mode */
+  List<String> files() {
+    return files;
+  }
+
   /** Print usage informations */
   boolean help() {
     return help;
@@ -53,16 +121,129 @@ final class CLIOptions {
     return version;
   }
 
+  /** The directory in which to persist indexes, or null to use the default one */
+  String cacheDir() {
+    return cacheDir;
+  }
+
+  /** If true, nothing should be persisted between runs */
+  boolean noCache() {
+    return noCache;
+  }
+
+  /** If true, run as a daemon serving fix requests instead of fixing a file */
+  boolean daemon() {
+    return daemon;
+  }
+
+  /** If true, send the file to a running daemon if there is one */
+  boolean client() {
+    return client;
+  }
+
+  /** The port the daemon listens on, or 0 to use the default one */
+  int daemonPort() {
+    return daemonPort;
+  }
+
+  /** The memory the daemon can use to keep projects around, in MB, or 0 to use the default */
+  int daemonMemory() {
+    return daemonMemory;
+  }
+
+  /** The time after which the daemon forgets an unused project, in minutes, or 0 for the default */
+  int daemonIdle() {
+    return daemonIdle;
+  }
+
+  /** If true, fix all given files in place instead of a single one */
+  boolean batch() {
+    return batch;
+  }
+
+  /** A file listing the files to operate on in batch mode, one per line, or null */
+  String filesFrom() {
+    return filesFrom;
+  }
+
+  /** The stdlib to use, either "java8" or "jdk", or null to use the default one */
+  String stdlib() {
+    return stdlib;
+  }
+
+  /** The JDK whose stdlib to use, or null to use the running one */
+  String javaHome() {
+    return javaHome;
+  }
+
+  /** The time allowed to fix a file, in milliseconds, or 0 if there is no limit */
+  int timeBudget() {
+    return timeBudget;
+  }
+
+  /** The number of threads to use, or 0 to size it from the number of processors */
+  int threads() {
+    return threads;
+  }
+
+  /** If true, run parallel tasks on virtual threads when the JDK supports it */
+  boolean virtualThreads() {
+    return virtualThreads;
+  }
+
+  /** Where to write the stats report ('-' for stderr), or null to not record stats */
+  String stats() {
+    return stats;
+  }
+
+  /** Where to write a trace of the run, or null */
+  String trace() {
+    return trace;
+  }
+
+  /** How many levels of transitive dependencies to load, or 0 to only load direct ones */
+  int transitiveDepth() {
+    return transitiveDepth;
+  }
+
+  /** The maximum number of transitive dependencies to load, or 0 for the default */
+  int transitiveBudget() {
+    return transitiveBudget;
+  }
+
   static class Builder {
     private String file;
+    private List<String> files = new ArrayList<>();
     private boolean help;
     private boolean version;
     private boolean replace;
     private boolean fixOnly;
     private boolean verbose;
+    private String cacheDir;
+    private boolean noCache;
+    private boolean daemon;
+    private boolean client;
+    private int daemonPort;
+    private int daemonMemory;
+    private int daemonIdle;
+    private boolean batch;
+    private String filesFrom;
+    private String stdlib;
+    private String javaHome;
+    private int timeBudget;
+    private int threads;
+    private boolean virtualThreads;
+    private String stats;
+    private String trace;
+    private int transitiveDepth;
+    private int transitiveBudget;
 
     Builder file(String file) {
-      this.file = file;
+      if (this.file == null) {
+        this.file = file;
+      }
+
+      this.files.add(file);
       return this;
     }
 
@@ -91,8 +272,127 @@ final class CLIOptions {
       return this;
     }
 
+    Builder cacheDir(String cacheDir) {
+      this.cacheDir = cacheDir;
+      return this;
+    }
+
+    Builder noCache(boolean noCache) {
+      this.noCache = noCache;
+      return this;
+    }
+
+    Builder daemon(boolean daemon) {
+      this.daemon = daemon;
+      return this;
+    }
+
+    Builder client(boolean client) {
+      this.client = client;
+      return this;
+    }
+
+    Builder daemonPort(int daemonPort) {
+      this.daemonPort = daemonPort;
+      return this;
+    }
+
+    Builder daemonMemory(int daemonMemory) {
+      this.daemonMemory = daemonMemory;
+      return this;
+    }
+
+    Builder daemonIdle(int daemonIdle) {
+      this.daemonIdle = daemonIdle;
+      return this;
+    }
+
+    Builder batch(boolean batch) {
+      this.batch = batch;
+      return this;
+    }
+
+    Builder filesFrom(String filesFrom) {
+      this.filesFrom = filesFrom;
+      return this;
+    }
+
+    Builder stdlib(String stdlib) {
+      this.stdlib = stdlib;
+      return this;
+    }
+
+    Builder javaHome(String javaHome) {
+      this.javaHome = javaHome;
+      return this;
+    }
+
+    Builder timeBudget(int timeBudget) {
+      this.timeBudget = timeBudget;
+      return this;
+    }
+
+    Builder threads(int threads) {
+      this.threads = threads;
+      return this;
+    }
+
+    Builder virtualThreads(boolean virtualThreads) {
+      this.virtualThreads = virtualThreads;
+      return this;
+    }
+
+    Builder stats(String stats) {
+      this.stats = stats;
+      return this;
+    }
+
+    Builder trace(String trace) {
+      this.trace = trace;
+      return this;
+    }
+
+    Builder transitiveDepth(int transitiveDepth) {
+      this.transitiveDepth = transitiveDepth;
+      return this;
+    }
+
+    Builder transitiveBudget(int transitiveBudget) {
+      this.transitiveBudget = transitiveBudget;
+      return this;
+    }
+
+    boolean isBatch() {
+      return batch;
+    }
+
     CLIOptions build() {
-      return new CLIOptions(file, help, version, replace, fixOnly, verbose);
+      return new CLIOptions(
+          file,
+          files,
+          help,
+          version,
+          replace,
+          fixOnly,
+          verbose,
+          cacheDir,
+          noCache,
+          daemon,
+          client,
+          daemonPort,
+          daemonMemory,
+          daemonIdle,
+          batch,
+          filesFrom,
+          stdlib,
+          javaHome,
+          timeBudget,
+          threads,
+          virtualThreads,
+          stats,
+          trace,
+          transitiveDepth,
+          transitiveBudget);
     }
   }
 
@@ -44,7 +44,12 @@ public class CLIOptionsParser {
       String option = it.next();
       if (!option.startsWith("-") || option.equals("-")) {
         optsBuilder.file(option);
-        break;
+        // In batch mode, all remaining arguments are files to operate on
+        if (!optsBuilder.isBatch()) {
+          break;
+        }
+
+        continue;
       }
 
       FlagAndValue fv = FlagAndValue.fromString(option);
@@ -68,6 +73,60 @@ public class CLIOptionsParser {
         case "-h":
           optsBuilder.help(true);
           break;
+        case "--cache-dir":
+          optsBuilder.cacheDir(getValue(fv));
+          break;
+        case "--no-cache":
+          optsBuilder.noCache(true);
+          break;
+        case "--daemon":
+          optsBuilder.daemon(true);
+          break;
+        case "--client":
+          optsBuilder.client(true);
+          break;
+        case "--daemon-port":
+          optsBuilder.daemonPort(getPositiveInt(fv));
+          break;
+        case "--daemon-memory":
+          optsBuilder.daemonMemory(getPositiveInt(fv));
+          break;
+        case "--daemon-idle":
+          optsBuilder.daemonIdle(getPositiveInt(fv));
+          break;
+        case "--batch":
+          optsBuilder.batch(true);
+          break;
+        case "--files-from":
+          optsBuilder.batch(true).filesFrom(getValue(fv));
+          break;
+        case "--stdlib":
+          optsBuilder.stdlib(getStdlib(fv));
+          break;
+        case "--java-home":
+          optsBuilder.stdlib(CLIOptions.JDK_STDLIB).javaHome(getValue(fv));
+          break;
+        case "--time-budget":
+          optsBuilder.timeBudget(getPositiveInt(fv));
+          break;
+        case "--transitive-depth":
+          optsBuilder.transitiveDepth(getPositiveInt(fv));
+          break;
+        case "--transitive-budget":
+          optsBuilder.transitiveBudget(getPositiveInt(fv));
+          break;
+        case "--threads":
+          optsBuilder.threads(getPositiveInt(fv));
+          break;
+        case "--virtual-threads":
+          optsBuilder.virtualThreads(true);
+          break;
+        case "--stats":
+          optsBuilder.stats(fv.value == null ? "-" : getValue(fv));
+          break;
+        case "--trace":
+          optsBuilder.trace(getValue(fv));
+          break;
         case "--version":
         case "-version":
           optsBuilder.version(true);
@@ -79,4 +138,35 @@ public class CLIOptionsParser {
 
     return optsBuilder.build();
   }
+
+  private static String getValue(FlagAndValue fv) {
+    if (fv.value == null || fv.value.isEmpty()) {
+      throw new IllegalArgumentException("missing value for flag: " + fv.flag);
+    }
+
+    return fv.value;
+  }
+
+  private static String getStdlib(FlagAndValue fv) {
+    String value = getValue(fv);
+    if (!value.equals(CLIOptions.JAVA8_STDLIB) && !value.equals(CLIOptions.JDK_STDLIB)) {
+      throw new IllegalArgumentException("invalid value for flag " + fv.flag + ": " + value);
+    }
+
+    return value;
+  }
+
+  private static int getPositiveInt(FlagAndValue fv) {
+    String value = getValue(fv);
+    try {
+      int i = Integer.parseInt(value);
+      if (i > 0) {
+        return i;
+      }
+    } catch (NumberFormatException e) {
+      // Handled below
+    }
+
+    throw new IllegalArgumentException("invalid value for flag " + fv.flag + ": " + value);
+  }
 }
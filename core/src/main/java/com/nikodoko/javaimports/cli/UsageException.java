@@ -9,12 +9,62 @@ public class UsageException extends Exception {
   private static final String[] USAGE = {
     "",
     "Usage: javaimports [options] file",
+    "       javaimports [options] --batch file|directory|glob...",
     "",
     "Options:",
     "  --fix-only",
     "    Do not format ouput, simply add and remove imports.",
     "  --replace, -replace, -r, -w",
     "    Write result to source file instead of stdout.",
+    "  --cache-dir=<dir>",
+    "    Directory in which to persist indexes and results between runs (defaults",
+    "    to $XDG_CACHE_HOME/javaimports, or ~/.cache/javaimports).",
+    "  --no-cache",
+    "    Do not persist anything between runs.",
+    "  --stdlib=<java8|jdk>",
+    "    Standard library to import from: the bundled Java 8 one (the default), or",
+    "    the one of the JDK, indexed on first use.",
+    "  --java-home=<dir>",
+    "    JDK whose standard library to import from (defaults to the running one).",
+    "    Implies --stdlib=jdk.",
+    "  --time-budget=<ms>",
+    "    Time allowed to fix a file. Once exceeded, imports are added using only",
+    "    what is ready (typically skipping project files and dependencies that are",
+    "    still loading), and a warning is printed.",
+    "  --transitive-depth=<n>",
+    "    Also import from <n> levels of transitive dependencies, loading the",
+    "    nearest first. By default, only direct dependencies are loaded.",
+    "  --transitive-budget=<n>",
+    "    Maximum number of transitive dependencies to load (defaults to 500).",
+    "  --threads=<n>",
+    "    Number of threads to use (defaults to twice the number of processors).",
+    "  --virtual-threads",
+    "    Use a virtual thread per task instead, on JDKs supporting them.",
+    "  --stats[=<file>]",
+    "    Write a JSON report of the time spent in each phase and of what was done",
+    "    (files parsed, jars scanned, cache hits...) to stderr, or to <file>. In",
+    "    batch mode, it covers all files.",
+    "  --trace=<file>",
+    "    Write a trace of the run to <file>, with a span per file parsed, jar and",
+    "    POM loaded and fixer stage on the thread it ran on. Open it in Perfetto",
+    "    (https://ui.perfetto.dev) or chrome://tracing.",
+    "  --batch",
+    "    Fix all given files in place. Directories are searched recursively for",
+    "    .java files, and glob patterns like 'src/**/*.java' are expanded.",
+    "  --files-from=<file>",
+    "    Fix in place all files listed in <file>, one per line ('-' for stdin).",
+    "    Implies --batch.",
+    "  --daemon",
+    "    Run in the background and serve --client requests, keeping projects in",
+    "    memory between them. No file should be given.",
+    "  --client",
+    "    Send the file to a running daemon, or fix it directly if there is none.",
+    "  --daemon-port=<port>",
+    "    Port on which the daemon listens (defaults to 7437).",
+    "  --daemon-memory=<MB>",
+    "    Memory the daemon can use to keep projects around (defaults to 1024).",
+    "  --daemon-idle=<minutes>",
+    "    Time after which the daemon forgets an unused project (defaults to 30).",
     "  --verbose, -verbose, -v",
     "    Verbose logging.",
     "  --version, -version",
@@ -0,0 +1,62 @@
+package com.nikodoko.javaimports.common;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Used to ask tasks to stop as soon as possible, either explicitly or once a deadline is reached.
+ * Cancellation is cooperative: tasks have to check the token themselves, typically before starting
+ * each unit of work.
+ */
+public class CancellationToken {
+  private static final CancellationToken NONE = new CancellationToken(false, Optional.empty());
+
+  private final boolean cancellable;
+  // In System#nanoTime() time
+  private final Optional<Long> deadline;
+  private volatile boolean cancelled = false;
+
+  private CancellationToken(boolean cancellable, Optional<Long> deadline) {
+    this.cancellable = cancellable;
+    this.deadline = deadline;
+  }
+
+  /** Returns a new token, that is not cancelled yet. */
+  public static CancellationToken create() {
+    return new CancellationToken(true, Optional.empty());
+  }
+
+  /** Returns a new token, that will be cancelled once {@code timeout} has elapsed. */
+  public static CancellationToken withTimeout(Duration timeout) {
+    return new CancellationToken(true, Optional.of(System.nanoTime() + timeout.toNanos()));
+  }
+
+  /** Returns a token that can never be cancelled. */
+  public static CancellationToken none() {
+    return NONE;
+  }
+
+  /** Asks all tasks checking this token to stop. */
+  public void cancel() {
+    if (cancellable) {
+      cancelled = true;
+    }
+  }
+
+  public boolean isCancelled() {
+    return cancelled || remaining().map(r -> r.isZero() || r.isNegative()).orElse(false);
+  }
+
+  /** The time left before this token is cancelled by its deadline, if it has one. */
+  public Optional<Duration> remaining() {
+    return deadline.map(d -> Duration.ofNanos(d - System.nanoTime()));
+  }
+
+  /** Throws a {@link CancellationException} if this token is cancelled. */
+  public void throwIfCancelled() {
+    if (isCancelled()) {
+      throw new CancellationException();
+    }
+  }
+}
@@ -0,0 +1,206 @@
+package com.nikodoko.javaimports.daemon;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.io.BaseEncoding;
+import com.google.googlejavaformat.java.Formatter;
+import com.google.googlejavaformat.java.FormatterException;
+import com.nikodoko.javaimports.Importer;
+import com.nikodoko.javaimports.ImporterException;
+import com.nikodoko.javaimports.Options;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A long-running process serving fix requests from {@link DaemonClient}s on a local socket.
+ *
+ * <p>Projects are kept in memory between requests through the {@link
+ * com.nikodoko.javaimports.environment.maven.EnvironmentCache} of the given {@link Options}, so
+ * that only the first request for a given project pays for parsing it and loading its
+ * dependencies.
+ *
+ * <p>Requests are served one at a time: each of them is already parallelized using {@link
+ * Options#executor()}. A client that does not send its whole request in time is answered with a
+ * failure, so that it does not block the others.
+ *
+ * <p>Any local process can connect to the socket, so clients have to send a random token that the
+ * daemon writes to a file only its user can read. Otherwise, any user of the machine could read
+ * source files through it.
+ */
+public final class Daemon implements Closeable {
+  private static final Logger log = Logger.getLogger(Daemon.class.getName());
+  private static final Clock clock = Clock.systemDefaultZone();
+  private static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(10);
+
+  private final ServerSocket server;
+  private final Options options;
+  private final Path tokenFile;
+  private final byte[] token;
+  private final Duration readTimeout;
+
+  private Daemon(
+      ServerSocket server, Options options, Path tokenFile, String token, Duration readTimeout) {
+    this.server = server;
+    this.options = options;
+    this.tokenFile = tokenFile;
+    this.token = token.getBytes(UTF_8);
+    this.readTimeout = readTimeout;
+  }
+
+  /**
+   * Starts listening on {@code port} of the loopback interface. If {@code port} is 0, an available
+   * port is picked.
+   *
+   * @param tokenFile where to write the token clients have to send, which is deleted once closed
+   */
+  public static Daemon listen(int port, Options options, Path tokenFile) throws IOException {
+    return listen(port, options, tokenFile, DEFAULT_READ_TIMEOUT);
+  }
+
+  // Clients have readTimeout to send their request
+  static Daemon listen(int port, Options options, Path tokenFile, Duration readTimeout)
+      throws IOException {
+    String token = writeToken(tokenFile);
+    return new Daemon(
+        new ServerSocket(port, 50, InetAddress.getLoopbackAddress()),
+        options,
+        tokenFile,
+        token,
+        readTimeout);
+  }
+
+  // The file is created readable by its owner only, rather than restricted once written
+  private static String writeToken(Path tokenFile) throws IOException {
+    byte[] random = new byte[32];
+    new SecureRandom().nextBytes(random);
+    String token = BaseEncoding.base16().lowerCase().encode(random);
+
+    Files.createDirectories(tokenFile.toAbsolutePath().getParent());
+    Files.deleteIfExists(tokenFile);
+    if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+      var ownerOnly = PosixFilePermissions.fromString("rw-------");
+      Files.createFile(tokenFile, PosixFilePermissions.asFileAttribute(ownerOnly));
+    } else {
+      Files.createFile(tokenFile);
+    }
+    Files.write(tokenFile, token.getBytes(UTF_8));
+    return token;
+  }
+
+  /** The port this daemon listens on. */
+  public int port() {
+    return server.getLocalPort();
+  }
+
+  /** Serves requests until this daemon is closed. */
+  public void serve() throws IOException {
+    while (!server.isClosed()) {
+      try (Socket socket = server.accept()) {
+        handle(socket);
+      } catch (SocketException e) {
+        if (server.isClosed()) {
+          return;
+        }
+
+        log.log(Level.WARNING, "connection failed", e);
+      } catch (IOException e) {
+        log.log(Level.WARNING, "connection failed", e);
+      } catch (RuntimeException e) {
+        // Whatever a client sends, the daemon should keep on serving the others
+        log.log(Level.SEVERE, "connection failed", e);
+      } finally {
+        options.environments().ifPresent(e -> e.cleanUp());
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    server.close();
+    Files.deleteIfExists(tokenFile);
+  }
+
+  private void handle(Socket socket) throws IOException {
+    var in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+    var out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+    socket.setSoTimeout((int) readTimeout.toMillis());
+    Protocol.Request request;
+    try {
+      request = Protocol.Request.read(in);
+    } catch (SocketTimeoutException e) {
+      log.log(Level.WARNING, "timed out reading request");
+      new Protocol.Response(Protocol.FAILED, List.of("timed out reading request"), "").write(out);
+      return;
+    }
+
+    if (!MessageDigest.isEqual(token, request.token.getBytes(UTF_8))) {
+      log.log(Level.WARNING, "rejected request with an invalid token");
+      new Protocol.Response(Protocol.FAILED, List.of("invalid token"), "").write(out);
+      return;
+    }
+
+    long start = clock.millis();
+    Protocol.Response response;
+    try {
+      response = fix(request);
+    } catch (RuntimeException e) {
+      // Whatever happens, the daemon should keep on serving requests
+      log.log(Level.SEVERE, "could not fix " + request.path, e);
+      response = new Protocol.Response(Protocol.FAILED, List.of("internal error: " + e), "");
+    }
+
+    if (options.debug()) {
+      log.info(String.format("served %s in %d ms", request.path, clock.millis() - start));
+    }
+
+    response.write(out);
+  }
+
+  private Protocol.Response fix(Protocol.Request request) {
+    List<String> messages = new ArrayList<>();
+    String fixed;
+    try {
+      fixed = new Importer(options).addUsedImports(Paths.get(request.path), request.source);
+    } catch (ImporterException e) {
+      for (ImporterException.ImporterDiagnostic d : e.diagnostics()) {
+        messages.add(d.toString());
+      }
+
+      return new Protocol.Response(Protocol.FAILED, messages, "");
+    }
+
+    if (!request.fixOnly) {
+      try {
+        fixed = new Formatter().formatSourceAndFixImports(fixed);
+      } catch (FormatterException e) {
+        // Formatting is not vital, so send back a warning and continue
+        messages.add("WARNING: formatter exception: " + e);
+        messages.add("WARNING: output will not be formatted");
+      }
+    }
+
+    return new Protocol.Response(Protocol.OK, messages, fixed);
+  }
+}
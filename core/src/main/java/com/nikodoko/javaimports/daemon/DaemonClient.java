@@ -0,0 +1,74 @@
+package com.nikodoko.javaimports.daemon;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/** Sends fix requests to a {@link Daemon} running on the same machine. */
+public final class DaemonClient {
+  /** The result of a fix request. */
+  public static final class Response {
+    private final Protocol.Response response;
+
+    private Response(Protocol.Response response) {
+      this.response = response;
+    }
+
+    /** Whether the file could not be fixed, in which case {@link #messages()} says why. */
+    public boolean failed() {
+      return response.status != Protocol.OK;
+    }
+
+    /** Errors and warnings to report to the user. */
+    public List<String> messages() {
+      return response.messages;
+    }
+
+    /** The fixed source code. */
+    public String output() {
+      return response.output;
+    }
+  }
+
+  private final int port;
+  private final Path tokenFile;
+
+  /**
+   * A {@code DaemonClient} constructor.
+   *
+   * @param port the port the daemon listens on
+   * @param tokenFile the file the daemon wrote its token to
+   */
+  public DaemonClient(int port, Path tokenFile) {
+    this.port = port;
+    this.tokenFile = tokenFile;
+  }
+
+  /**
+   * Asks the daemon to fix {@code source}.
+   *
+   * @param path the absolute path to the file to fix
+   * @param source the source code to fix
+   * @param fixOnly if true, the output is not formatted
+   * @throws IOException if the daemon cannot be reached, or its token cannot be read
+   */
+  public Response fix(Path path, String source, boolean fixOnly) throws IOException {
+    String token = new String(Files.readAllBytes(tokenFile), UTF_8).trim();
+    try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+      var out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+      new Protocol.Request(token, path.toString(), fixOnly, source).write(out);
+
+      var in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+      return new Response(Protocol.Response.read(in));
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package com.nikodoko.javaimports.daemon;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The messages exchanged between a {@link DaemonClient} and a {@link Daemon}.
+ *
+ * <p>Each connection carries exactly one request followed by one response. Strings are written as
+ * their length followed by their UTF-8 bytes, as source files can be larger than what {@link
+ * DataOutputStream#writeUTF} supports. Requests start with the token of the daemon, which only
+ * processes of the user running it can read.
+ */
+final class Protocol {
+  // Bump when changing the format, so that clients and daemons of different versions do not
+  // misunderstand each other
+  static final int VERSION = 2;
+  // Lengths are read from the network, and anything larger than this is not a source file
+  static final int MAX_LENGTH = 64 * 1024 * 1024;
+
+  static final int OK = 0;
+  static final int FAILED = 1;
+
+  private Protocol() {}
+
+  static final class Request {
+    final String token;
+    final String path;
+    final boolean fixOnly;
+    final String source;
+
+    Request(String token, String path, boolean fixOnly, String source) {
+      this.token = token;
+      this.path = path;
+      this.fixOnly = fixOnly;
+      this.source = source;
+    }
+
+    void write(DataOutputStream out) throws IOException {
+      out.writeInt(VERSION);
+      writeString(out, token);
+      writeString(out, path);
+      out.writeBoolean(fixOnly);
+      writeString(out, source);
+      out.flush();
+    }
+
+    static Request read(DataInputStream in) throws IOException {
+      int version = in.readInt();
+      if (version != VERSION) {
+        throw new IOException(
+            String.format("unsupported protocol version %d (expected %d)", version, VERSION));
+      }
+
+      return new Request(readString(in), readString(in), in.readBoolean(), readString(in));
+    }
+  }
+
+  static final class Response {
+    final int status;
+    final List<String> messages;
+    final String output;
+
+    Response(int status, List<String> messages, String output) {
+      this.status = status;
+      this.messages = messages;
+      this.output = output;
+    }
+
+    void write(DataOutputStream out) throws IOException {
+      out.writeInt(status);
+      out.writeInt(messages.size());
+      for (String m : messages) {
+        writeString(out, m);
+      }
+
+      writeString(out, output);
+      out.flush();
+    }
+
+    static Response read(DataInputStream in) throws IOException {
+      int status = in.readInt();
+      int count = readLength(in);
+      List<String> messages = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        messages.add(readString(in));
+      }
+
+      return new Response(status, messages, readString(in));
+    }
+  }
+
+  private static void writeString(DataOutputStream out, String s) throws IOException {
+    byte[] bytes = s.getBytes(UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    byte[] bytes = new byte[readLength(in)];
+    in.readFully(bytes);
+    return new String(bytes, UTF_8);
+  }
+
+  private static int readLength(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if (length < 0 || length > MAX_LENGTH) {
+      throw new IOException(String.format("invalid length %d", length));
+    }
+
+    return length;
+  }
+}
@@ -1,8 +1,12 @@
 package com.nikodoko.javaimports.environment;
 
+import com.nikodoko.javaimports.common.CancellationToken;
 import com.nikodoko.javaimports.common.ImportProvider;
 import com.nikodoko.javaimports.parser.ParsedFile;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * A build system-agnostic representation of a Java project's environment, that can be queried to
@@ -16,4 +20,23 @@ public interface Environment extends ImportProvider {
    * therefore properly detect files of the same package in different directories.
    */
   Set<ParsedFile> filesInPackage(String packageName);
+
+  /**
+   * Starts loading everything this environment needs in the background, on {@code executor}, so
+   * that it is ready (or at least further along) by the time it is queried. Loading stops early if
+   * {@code token} is cancelled, in which case it will simply start over on first query.
+   */
+  default CompletableFuture<Void> warmUp(Executor executor, CancellationToken token) {
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Identifies everything in this environment that could change the imports found for a file (other
+   * than the file itself). Two environments with the same fingerprint give the same imports.
+   * Returns nothing unless this environment is already loaded, as this should never block;
+   * environments returning nothing are considered to always change.
+   */
+  default Optional<String> fingerprint() {
+    return Optional.empty();
+  }
 }
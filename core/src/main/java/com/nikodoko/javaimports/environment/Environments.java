@@ -11,6 +11,7 @@ import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 public class Environments {
@@ -24,6 +25,11 @@ public class Environments {
     public Collection<Import> findImports(Identifier i) {
       return List.of();
     }
+
+    @Override
+    public Optional<String> fingerprint() {
+      return Optional.of("");
+    }
   }
 
   public static Environment empty() {
@@ -31,16 +37,39 @@ public class Environments {
   }
 
   public static Environment autoSelect(Path filename, String pkg, Options options) {
+    return autoSelect(filename, options);
+  }
+
+  /**
+   * Returns the environment of {@code filename}, without parsing it: this only depends on where the
+   * file is, so that the environment can be loaded while the file itself is being parsed.
+   */
+  public static Environment autoSelect(Path filename, Options options) {
+    Optional<Path> root = findRoot(filename);
+    if (root.isEmpty()) {
+      return new DummyEnvironment();
+    }
+
+    if (options.environments().isPresent()) {
+      var project = options.environments().get().projectAt(root.get(), options);
+      return new MavenEnvironment(project, filename);
+    }
+
+    return new MavenEnvironment(root.get(), filename, options);
+  }
+
+  /** Returns the root of the project {@code filename} belongs to, if any. */
+  public static Optional<Path> findRoot(Path filename) {
     Path current = filename.getParent();
     while (current != null) {
       Path potentialPom = Paths.get(current.toString(), "pom.xml");
       if (Files.exists(potentialPom)) {
-        return new MavenEnvironment(current, filename, pkg, options);
+        return Optional.of(current);
       }
 
       current = current.getParent();
     }
 
-    return new DummyEnvironment();
+    return Optional.empty();
   }
 }
@@ -2,6 +2,7 @@ package com.nikodoko.javaimports.environment;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.Iterables;
+import com.nikodoko.javaimports.common.Identifier;
 import com.nikodoko.javaimports.parser.ParsedFile;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -11,12 +12,44 @@ import java.util.Set;
 /** Encapsulates all files in a Java project. */
 public class JavaProject {
   private Map<String, Set<ParsedFile>> filesByPackage = new HashMap<>();
+  // An inverted index of the classes declared in the project, so that finding where an identifier
+  // can be imported from does not require going through all files
+  private Map<Identifier, Set<ParsedFile>> filesByImportableIdentifier = new HashMap<>();
 
   public void add(ParsedFile file) {
     Set<ParsedFile> filesInPackage =
         filesByPackage.getOrDefault(file.packageName(), new HashSet<>());
     filesInPackage.add(file);
     filesByPackage.put(file.packageName(), filesInPackage);
+
+    for (Identifier identifier : file.importableIdentifiers()) {
+      filesByImportableIdentifier.computeIfAbsent(identifier, k -> new HashSet<>()).add(file);
+    }
+  }
+
+  public void remove(ParsedFile file) {
+    Set<ParsedFile> filesInPackage = filesByPackage.get(file.packageName());
+    if (filesInPackage == null) {
+      return;
+    }
+
+    filesInPackage.remove(file);
+    if (filesInPackage.isEmpty()) {
+      filesByPackage.remove(file.packageName());
+    }
+
+    for (Identifier identifier : file.importableIdentifiers()) {
+      Set<ParsedFile> files = filesByImportableIdentifier.get(identifier);
+      files.remove(file);
+      if (files.isEmpty()) {
+        filesByImportableIdentifier.remove(identifier);
+      }
+    }
+  }
+
+  /** Returns the files declaring a class named {@code identifier}. */
+  public Iterable<ParsedFile> filesDeclaring(Identifier identifier) {
+    return filesByImportableIdentifier.getOrDefault(identifier, Set.of());
   }
 
   public Iterable<ParsedFile> filesInPackage(String pkg) {
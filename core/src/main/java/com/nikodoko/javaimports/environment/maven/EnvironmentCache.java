@@ -0,0 +1,117 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.nikodoko.javaimports.Options;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Keeps projects in memory between runs, so that long-running processes do not have to parse
+ * project files and load dependencies again for every file they fix.
+ *
+ * <p>Projects that were not used for some time are evicted, as are the least recently used ones
+ * when the estimated memory used by all projects exceeds a given budget.
+ */
+public class EnvironmentCache {
+  private static final long KB = 1024;
+
+  private final Cache<Path, MavenProject> projects;
+  private final boolean refreshOnReuse;
+  // Projects used since the last call to cleanUp, whose footprint may have changed
+  private final Set<Path> used = new HashSet<>();
+
+  /**
+   * An {@code EnvironmentCache} constructor.
+   *
+   * @param memoryBudget the maximum memory that projects can use, in bytes
+   * @param idleTimeout the time after which an unused project is evicted
+   */
+  public EnvironmentCache(long memoryBudget, Duration idleTimeout) {
+    this.refreshOnReuse = true;
+    this.projects =
+        CacheBuilder.newBuilder()
+            // Projects are only accessed by a single thread at a time, and a higher concurrency
+            // level would split the budget between segments
+            .concurrencyLevel(1)
+            .maximumWeight(memoryBudget / KB)
+            .<Path, MavenProject>weigher(
+                (root, project) ->
+                    (int) Math.min(Integer.MAX_VALUE, project.estimatedFootprint() / KB))
+            .expireAfterAccess(idleTimeout)
+            .build();
+  }
+
+  private EnvironmentCache(Cache<Path, MavenProject> projects) {
+    this.refreshOnReuse = false;
+    this.projects = projects;
+  }
+
+  /**
+   * Returns an {@code EnvironmentCache} that never evicts nor refreshes projects, for short-lived
+   * processes fixing many files at once while the project does not change.
+   */
+  public static EnvironmentCache unbounded() {
+    return new EnvironmentCache(CacheBuilder.newBuilder().build());
+  }
+
+  /**
+   * Returns the project at {@code root}, reusing (and refreshing) the one in memory if there is
+   * one.
+   */
+  public MavenProject projectAt(Path root, Options options) {
+    MavenProject project = projects.getIfPresent(root);
+    if (project != null) {
+      if (refreshOnReuse) {
+        project.refresh();
+      }
+    } else {
+      try {
+        project = projects.get(root, () -> new MavenProject(root, options));
+      } catch (ExecutionException e) {
+        throw new RuntimeException(e.getCause());
+      }
+    }
+
+    synchronized (used) {
+      used.add(root);
+    }
+
+    return project;
+  }
+
+  /**
+   * Accounts for the memory used by the projects accessed since the last call, evicting projects if
+   * this goes over budget, and evicts idle projects.
+   */
+  public void cleanUp() {
+    Set<Path> toReweigh;
+    synchronized (used) {
+      toReweigh = new HashSet<>(used);
+      used.clear();
+    }
+
+    for (Path root : toReweigh) {
+      MavenProject project = projects.getIfPresent(root);
+      if (project != null) {
+        // Weights are only computed when inserting, so insert again to take changes into account
+        projects.put(root, project);
+      }
+    }
+
+    projects.cleanUp();
+  }
+
+  /** The number of projects currently in memory. */
+  public long size() {
+    return projects.size();
+  }
+
+  /** The estimated memory used by all projects currently in memory, in bytes. */
+  public long estimatedFootprint() {
+    return projects.asMap().values().stream().mapToLong(MavenProject::estimatedFootprint).sum();
+  }
+}
@@ -10,26 +10,70 @@ import java.util.Properties;
 import java.util.stream.Collectors;
 
 /**
- * A simplified representation of a Maven POM, exposing only the dependencies. It can be extended
- * with other {@code FlatPom}s to enrich it.
+ * A simplified representation of a Maven POM, exposing only its coordinates, dependencies, modules
+ * and source directories. It can be extended with other {@code FlatPom}s to enrich it.
  */
 class FlatPom {
+  /** The coordinates of a parent POM, any of which can be missing. */
+  static final class Coordinates {
+    final String groupId;
+    final String artifactId;
+    final String version;
+
+    Coordinates(String groupId, String artifactId, String version) {
+      this.groupId = groupId;
+      this.artifactId = artifactId;
+      this.version = version;
+    }
+
+    public String toString() {
+      return String.format("%s:%s:%s", groupId, artifactId, version);
+    }
+  }
+
+  private final List<MavenDependency> declaredDependencies;
+  private final List<MavenDependency> managedDependencies;
+  private final Optional<Coordinates> parent;
+  private final String version;
   private List<MavenDependency> dependencies;
   private Map<MavenDependency.Versionless, String> versionByManagedDependencies;
   private Properties properties;
+  private final Properties declaredProperties;
   private Optional<Path> maybeParent;
+  private Optional<String> sourceDirectory;
+  private Optional<String> testSourceDirectory;
+  private String groupId;
+  private String artifactId;
+  private List<String> modules;
 
   private FlatPom(
       List<MavenDependency> dependencies,
       List<MavenDependency> managedDependencies,
       Properties properties,
-      Optional<Path> maybeParent) {
+      Optional<Path> maybeParent,
+      Optional<String> sourceDirectory,
+      Optional<String> testSourceDirectory,
+      String groupId,
+      String artifactId,
+      List<String> modules,
+      Optional<Coordinates> parent,
+      String version) {
+    this.declaredDependencies = dependencies;
+    this.managedDependencies = managedDependencies;
+    this.parent = parent;
+    this.version = version;
     this.dependencies = dependencies;
     this.versionByManagedDependencies =
         managedDependencies.stream()
             .collect(Collectors.toMap(MavenDependency::hideVersion, d -> d.version()));
     this.properties = properties;
+    this.declaredProperties = properties;
     this.maybeParent = maybeParent;
+    this.sourceDirectory = sourceDirectory;
+    this.testSourceDirectory = testSourceDirectory;
+    this.groupId = groupId;
+    this.artifactId = artifactId;
+    this.modules = modules;
     useManagedVersionWhenNeeded();
     substitutePropertiesWhenPossible();
   }
@@ -99,6 +143,64 @@ class FlatPom {
     return dependencies;
   }
 
+  /**
+   * The main source directory explicitly declared in this POM, as written (it may be relative to
+   * the project root, or start with {@code ${project.basedir}}). This is never merged from other
+   * POMs.
+   */
+  Optional<String> sourceDirectory() {
+    return sourceDirectory;
+  }
+
+  /** Like {@link #sourceDirectory()}, but for test sources. */
+  Optional<String> testSourceDirectory() {
+    return testSourceDirectory;
+  }
+
+  /** The group id of this POM, inherited from its parent if not declared. */
+  String groupId() {
+    return groupId;
+  }
+
+  String artifactId() {
+    return artifactId;
+  }
+
+  /** The modules declared by this POM if it is an aggregator, as written. */
+  List<String> modules() {
+    return modules;
+  }
+
+  /** The version of this POM, inherited from its parent if not declared. */
+  String version() {
+    return version;
+  }
+
+  /**
+   * The dependencies of this POM exactly as declared, without using managed versions or resolving
+   * properties.
+   */
+  List<MavenDependency> declaredDependencies() {
+    return declaredDependencies;
+  }
+
+  /** The dependencies declared in the dependency management section of this POM, as written. */
+  List<MavenDependency> managedDependencies() {
+    return managedDependencies;
+  }
+
+  /**
+   * The properties declared by this POM (not including the ones of the POMs it was merged with).
+   */
+  Properties declaredProperties() {
+    return declaredProperties;
+  }
+
+  /** The coordinates of the parent of this POM, if it has one, wherever it is. */
+  Optional<Coordinates> parent() {
+    return parent;
+  }
+
   static Builder builder() {
     return new Builder();
   }
@@ -131,6 +233,13 @@ class FlatPom {
     private List<MavenDependency> managedDependencies = new ArrayList<>();
     private Properties properties = new Properties();
     private Optional<Path> maybeParent = Optional.empty();
+    private Optional<String> sourceDirectory = Optional.empty();
+    private Optional<String> testSourceDirectory = Optional.empty();
+    private String groupId;
+    private String artifactId;
+    private List<String> modules = new ArrayList<>();
+    private Optional<Coordinates> parent = Optional.empty();
+    private String version;
 
     Builder dependencies(List<MavenDependency> dependencies) {
       this.dependencies = dependencies;
@@ -152,8 +261,54 @@ class FlatPom {
       return this;
     }
 
+    Builder sourceDirectory(Optional<String> sourceDirectory) {
+      this.sourceDirectory = sourceDirectory;
+      return this;
+    }
+
+    Builder testSourceDirectory(Optional<String> testSourceDirectory) {
+      this.testSourceDirectory = testSourceDirectory;
+      return this;
+    }
+
+    Builder groupId(String groupId) {
+      this.groupId = groupId;
+      return this;
+    }
+
+    Builder artifactId(String artifactId) {
+      this.artifactId = artifactId;
+      return this;
+    }
+
+    Builder modules(List<String> modules) {
+      this.modules = modules;
+      return this;
+    }
+
+    Builder parent(Optional<Coordinates> parent) {
+      this.parent = parent;
+      return this;
+    }
+
+    Builder version(String version) {
+      this.version = version;
+      return this;
+    }
+
     FlatPom build() {
-      return new FlatPom(dependencies, managedDependencies, properties, maybeParent);
+      return new FlatPom(
+          dependencies,
+          managedDependencies,
+          properties,
+          maybeParent,
+          sourceDirectory,
+          testSourceDirectory,
+          groupId,
+          artifactId,
+          modules,
+          parent,
+          version);
     }
   }
 }
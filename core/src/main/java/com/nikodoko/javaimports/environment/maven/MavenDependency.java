@@ -9,6 +9,11 @@ import java.util.regex.Pattern;
 
 /** Encapsulates a Maven dependency. */
 class MavenDependency {
+  // The type of the test sources of a module, which Maven also writes as a jar with the tests
+  // classifier
+  static final String TEST_JAR = "test-jar";
+  static final String TESTS_CLASSIFIER = "tests";
+
   /**
    * {@code Versionless} provides a convenient way to compare dependencies while ignoring their
    * versions.
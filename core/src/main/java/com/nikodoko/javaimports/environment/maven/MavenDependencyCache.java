@@ -0,0 +1,203 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.hash.Hashing;
+import com.nikodoko.javaimports.Stats;
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.common.Selector;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Persists the importable symbols of dependency jars on disk, so that jars that did not change
+ * since the last run do not have to be scanned again.
+ *
+ * <p>There is one index file per jar, keyed by the absolute path of the jar. Each index records the
+ * size and modification time of the jar it was built from, and is ignored if they do not match
+ * anymore.
+ *
+ * <p>Index files are written to a temporary file first and then atomically moved into place, so
+ * that concurrent invocations sharing the same cache directory never see a partially written index.
+ */
+class MavenDependencyCache {
+  // Bump when changing the on-disk format, so that stale indexes are simply ignored
+  private static final int VERSION = 1;
+  private static final String JARS = "jars";
+  private static final String INDEX_EXTENSION = ".idx";
+
+  private final Path directory;
+  private final Stats stats;
+  private final AtomicInteger hits = new AtomicInteger();
+  private final AtomicInteger misses = new AtomicInteger();
+
+  private MavenDependencyCache(Path directory, Stats stats) {
+    this.directory = directory;
+    this.stats = stats;
+  }
+
+  /** Returns a {@code MavenDependencyCache} storing its indexes in {@code cache}. */
+  static MavenDependencyCache in(Path cache) {
+    return in(cache, Stats.disabled());
+  }
+
+  /** Same as {@link #in(Path)}, counting hits and scanned jars in {@code stats}. */
+  static MavenDependencyCache in(Path cache, Stats stats) {
+    return new MavenDependencyCache(cache.resolve(JARS), stats);
+  }
+
+  /**
+   * Returns the importable symbols of {@code jar}, using the persisted index if it is up to date
+   * and scanning (and persisting) the jar otherwise.
+   */
+  List<Import> load(Path jar) throws IOException {
+    var key = Key.of(jar);
+    var cached = read(key);
+    if (cached.isPresent()) {
+      hits.incrementAndGet();
+      stats.increment(Stats.Counter.CACHE_HITS);
+      return cached.get();
+    }
+
+    misses.incrementAndGet();
+    stats.increment(Stats.Counter.JARS_SCANNED);
+    var imports = MavenDependencyLoader.load(jar);
+    write(key, imports);
+    return imports;
+  }
+
+  /** The number of jars for which an up to date index was found. */
+  int hits() {
+    return hits.get();
+  }
+
+  /** The number of jars that had to be scanned. */
+  int misses() {
+    return misses.get();
+  }
+
+  private Optional<List<Import>> read(Key key) {
+    var index = indexFor(key);
+    if (!Files.exists(index)) {
+      return Optional.empty();
+    }
+
+    try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(index)))) {
+      if (in.readInt() != VERSION || !key.equals(Key.read(in))) {
+        return Optional.empty();
+      }
+
+      int count = in.readInt();
+      var imports = new ArrayList<Import>(count);
+      for (int i = 0; i < count; i++) {
+        imports.add(new Import(Selector.of(Arrays.asList(in.readUTF().split("\\."))), false));
+      }
+
+      return Optional.of(imports);
+    } catch (IOException | RuntimeException e) {
+      // A corrupted or unreadable index is not a problem, we simply rebuild it
+      return Optional.empty();
+    }
+  }
+
+  private void write(Key key, List<Import> imports) {
+    try {
+      Files.createDirectories(directory);
+      var tmp = Files.createTempFile(directory, "jar", ".tmp");
+      try {
+        try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+          out.writeInt(VERSION);
+          key.write(out);
+          out.writeInt(imports.size());
+          for (var i : imports) {
+            out.writeUTF(i.selector.toString());
+          }
+        }
+
+        moveAtomically(tmp, indexFor(key));
+      } finally {
+        Files.deleteIfExists(tmp);
+      }
+    } catch (IOException e) {
+      // Failing to persist the index only means that the jar will be scanned again next time
+    }
+  }
+
+  static void moveAtomically(Path source, Path target) throws IOException {
+    try {
+      Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private Path indexFor(Key key) {
+    return directory.resolve(Hashing.sha256().hashString(key.path, UTF_8) + INDEX_EXTENSION);
+  }
+
+  // Identifies a given version of a jar on disk
+  private static final class Key {
+    final String path;
+    final long size;
+    final long lastModified;
+
+    Key(String path, long size, long lastModified) {
+      this.path = path;
+      this.size = size;
+      this.lastModified = lastModified;
+    }
+
+    static Key of(Path jar) throws IOException {
+      var attributes = Files.readAttributes(jar, BasicFileAttributes.class);
+      return new Key(
+          jar.toAbsolutePath().normalize().toString(),
+          attributes.size(),
+          attributes.lastModifiedTime().toMillis());
+    }
+
+    static Key read(DataInputStream in) throws IOException {
+      return new Key(in.readUTF(), in.readLong(), in.readLong());
+    }
+
+    void write(DataOutputStream out) throws IOException {
+      out.writeUTF(path);
+      out.writeLong(size);
+      out.writeLong(lastModified);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (o == null) {
+        return false;
+      }
+
+      if (!(o instanceof Key)) {
+        return false;
+      }
+
+      var that = (Key) o;
+      return this.path.equals(that.path)
+          && this.size == that.size
+          && this.lastModified == that.lastModified;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(path, size, lastModified);
+    }
+  }
+}
@@ -6,7 +6,10 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 
-/** Finds all dependencies in a Maven project by parsing POM files. */
+/**
+ * Finds all dependencies in a Maven project by parsing POM files, including the ones of its parents
+ * and of the BOMs it imports (see {@link MavenEffectivePoms}).
+ */
 class MavenDependencyFinder {
   static final class Result {
     final List<MavenDependency> dependencies = new ArrayList<>();
@@ -21,34 +24,22 @@ class MavenDependencyFinder {
   }
 
   private static final Path POM = Paths.get("pom.xml");
+  private final MavenEffectivePoms poms;
   private Result result = new Result();
 
-  Result findAll(Path moduleRoot) {
-    var loaded = MavenPomLoader.load(moduleRoot.resolve(POM));
-
-    var pom = loaded.pom;
-    var errors = new ArrayList<>(loaded.errors);
-    while (pom.hasParent() && !pom.isWellDefined()) {
-      // We need to normalize because the relative parent path often includes the special name ..
-      var parentPath = moduleRoot.resolve(relativeParentPomPath(pom)).normalize();
-      loaded = MavenPomLoader.load(parentPath);
-      errors.addAll(loaded.errors);
-      pom.merge(loaded.pom);
-    }
-
-    result.dependencies.addAll(pom.dependencies());
-    result.errors.addAll(errors);
+  MavenDependencyFinder() {
+    this(MavenEffectivePoms.withRepository(MavenProject.DEFAULT_REPOSITORY));
+  }
 
-    return result;
+  MavenDependencyFinder(MavenEffectivePoms poms) {
+    this.poms = poms;
   }
 
-  private Path relativeParentPomPath(FlatPom pom) {
-    var parent = pom.maybeParent().get();
-    if (parent.endsWith(POM)) {
-      return parent;
-    }
+  Result findAll(Path moduleRoot) {
+    var effective = poms.ofModule(moduleRoot.resolve(POM));
+    result.dependencies.addAll(effective.dependencies);
+    result.errors.addAll(effective.errors);
 
-    // Consider that we had a directory, attempt to find a pom in it
-    return parent.resolve(POM);
+    return result;
   }
 }
@@ -2,6 +2,7 @@ package com.nikodoko.javaimports.environment.maven;
 
 import com.nikodoko.javaimports.common.Import;
 import com.nikodoko.javaimports.common.Selector;
+import com.nikodoko.javaimports.events.DependencyLoadEvent;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -12,6 +13,8 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.jar.JarEntry;
 import java.util.jar.JarInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 /** Loads a .jar, extracting all importable symbols. */
 // TODO: handle static imports
@@ -22,11 +25,70 @@ class MavenDependencyLoader {
   private static final String SEPARATOR = File.separator;
   private static final String CLASS_EXTENSION = ".class";
 
+  /** The different ways of enumerating the entries of a jar. */
+  enum Engine {
+    /**
+     * Reads the jar from start to end, inflating every entry. This is only kept for comparison
+     * purposes.
+     */
+    STREAMING,
+    /**
+     * Only reads the central directory at the end of the jar, which lists the names of all entries
+     * without having to touch their data.
+     */
+    CENTRAL_DIRECTORY;
+  }
+
   static List<Import> load(Path dependency) throws IOException {
-    return scanJar(dependency);
+    return load(dependency, Engine.CENTRAL_DIRECTORY);
+  }
+
+  static List<Import> load(Path dependency, Engine engine) throws IOException {
+    var event = new DependencyLoadEvent();
+    event.begin();
+    List<Import> imports = List.of();
+    try {
+      imports = scan(dependency, engine);
+      return imports;
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        event.jar = dependency.toString();
+        event.engine = engine.name();
+        event.importables = imports.size();
+        event.commit();
+      }
+    }
+  }
+
+  private static List<Import> scan(Path dependency, Engine engine) throws IOException {
+    switch (engine) {
+      case STREAMING:
+        return streamJar(dependency);
+      case CENTRAL_DIRECTORY:
+        return scanJar(dependency);
+    }
+
+    throw new IllegalArgumentException("unknown engine: " + engine);
   }
 
   private static List<Import> scanJar(Path jar) throws IOException {
+    List<Import> imports = new ArrayList<>();
+    try (ZipFile zip = new ZipFile(jar.toFile())) {
+      var entries = zip.entries();
+      while (entries.hasMoreElements()) {
+        var entry = entries.nextElement();
+        // XXX: this will get all classes, including private and protected ones
+        if (isValidImport(entry)) {
+          imports.add(parseImport(Paths.get(entry.getName())));
+        }
+      }
+    }
+
+    return imports;
+  }
+
+  private static List<Import> streamJar(Path jar) throws IOException {
     List<Import> imports = new ArrayList<>();
     try (JarInputStream in = new JarInputStream(new FileInputStream(jar.toString()))) {
       JarEntry entry;
@@ -53,7 +115,7 @@ class MavenDependencyLoader {
 
   // TODO: we could be smarter and parse the module-info file to know what to import and what to
   // ignore.
-  private static boolean isValidImport(JarEntry entry) {
+  private static boolean isValidImport(ZipEntry entry) {
     return entry.getName().endsWith(CLASS_EXTENSION) && !entry.getName().equals(JAVA_9_MODULE_INFO);
   }
 }
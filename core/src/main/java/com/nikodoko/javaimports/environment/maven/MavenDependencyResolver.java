@@ -9,16 +9,22 @@ import java.nio.file.Paths;
 /** Resolves Maven dependencies to their location on disk. */
 class MavenDependencyResolver {
   static class PrimaryArtifact {
+    final String version;
     final Path pom;
     final Path jar;
 
-    PrimaryArtifact(Path pom, Path jar) {
+    PrimaryArtifact(String version, Path pom, Path jar) {
+      this.version = version;
       this.pom = pom;
       this.jar = jar;
     }
 
     public String toString() {
-      return MoreObjects.toStringHelper(this).add("pom", pom).add("jar", jar).toString();
+      return MoreObjects.toStringHelper(this)
+          .add("version", version)
+          .add("pom", pom)
+          .add("jar", jar)
+          .toString();
     }
   }
 
@@ -33,14 +39,6 @@ class MavenDependencyResolver {
   }
 
   PrimaryArtifact resolve(MavenDependency dependency) throws IOException {
-    var artifactPath = artifactPath(dependency);
-    var jarSuffix = dependency.type().equals("test-jar") ? "-tests.jar" : ".jar";
-    return new PrimaryArtifact(
-        artifactPath.resolveSibling(artifactPath.getFileName() + ".pom"),
-        artifactPath.resolveSibling(artifactPath.getFileName() + jarSuffix));
-  }
-
-  private Path artifactPath(MavenDependency dependency) throws IOException {
     Path dependencyRepository = directoryFor(dependency);
     String version = dependency.version();
     if (!dependency.hasWellDefinedVersion()) {
@@ -49,8 +47,16 @@ class MavenDependencyResolver {
       version = getFirstAvailableVersion(dependencyRepository);
     }
 
-    return Paths.get(
-        dependencyRepository.toString(), version, artifactName(dependency.artifactId(), version));
+    var artifactPath =
+        Paths.get(
+            dependencyRepository.toString(),
+            version,
+            artifactName(dependency.artifactId(), version));
+    var jarSuffix = dependency.type().equals(MavenDependency.TEST_JAR) ? "-tests.jar" : ".jar";
+    return new PrimaryArtifact(
+        version,
+        artifactPath.resolveSibling(artifactPath.getFileName() + ".pom"),
+        artifactPath.resolveSibling(artifactPath.getFileName() + jarSuffix));
   }
 
   private Path directoryFor(MavenDependency dependency) {
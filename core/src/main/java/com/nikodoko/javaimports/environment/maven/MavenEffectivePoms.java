@@ -0,0 +1,478 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Computes the effective dependencies of POMs the way Maven does: parents are merged in, whether
+ * they are found on disk by following their {@code <relativePath>} or in the local repository, the
+ * BOMs imported in the dependency management section are applied, and properties are interpolated
+ * once everything is merged, so that a POM can override a property used by one of its parents.
+ *
+ * <p>Only what matters to find dependencies is supported: profiles, classifiers and the scopes of
+ * managed dependencies, for instance, are ignored.
+ *
+ * <p>Effective POMs are memoized in memory and, given a cache directory, on disk, along with the
+ * size and modification time of every file they were computed from, so that they are only computed
+ * again when one of these files changes. The effective POMs of artifacts are memoized by their
+ * coordinates, so that a parent or a BOM shared by many dependencies is only resolved once.
+ */
+class MavenEffectivePoms {
+  // Bump when changing the on-disk format or how effective POMs are computed, so that stale ones
+  // are simply ignored
+  private static final int VERSION = 1;
+  private static final String POMS = "poms";
+  private static final String EFFECTIVE_POM_EXTENSION = ".eff";
+  private static final Path POM = Paths.get("pom.xml");
+  // Parents and imports can only be nested this deep, which also guards against cycles
+  private static final int MAX_DEPTH = 32;
+  private static final int MAX_INTERPOLATIONS = 10;
+  private static final Pattern PROPERTY = Pattern.compile("\\$\\{([^}]+)\\}");
+  // Shared by all projects, as effective POMs only depend on the files they were computed from
+  private static final Cache<String, EffectivePom> MEMOIZED =
+      CacheBuilder.newBuilder().maximumSize(10_000).build();
+
+  /** The dependencies of a POM, and the versions it manages, once made effective. */
+  static final class EffectivePom {
+    final List<MavenDependency> dependencies;
+    // By groupId:artifactId:type
+    final Map<String, String> managedVersions;
+    final List<MavenEnvironmentException> errors;
+    private final List<Source> sources;
+
+    private EffectivePom(
+        List<MavenDependency> dependencies,
+        Map<String, String> managedVersions,
+        List<Source> sources,
+        List<MavenEnvironmentException> errors) {
+      this.dependencies = dependencies;
+      this.managedVersions = managedVersions;
+      this.sources = sources;
+      this.errors = errors;
+    }
+
+    private boolean isUpToDate() {
+      return sources.stream().allMatch(Source::isUpToDate);
+    }
+  }
+
+  // A file an effective POM was computed from, possibly missing (a parent could be added later)
+  private static final class Source {
+    final String path;
+    final long size;
+    final long lastModified;
+
+    Source(String path, long size, long lastModified) {
+      this.path = path;
+      this.size = size;
+      this.lastModified = lastModified;
+    }
+
+    static Source of(Path file) {
+      var path = file.toAbsolutePath().normalize().toString();
+      try {
+        var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        return new Source(path, attributes.size(), attributes.lastModifiedTime().toMillis());
+      } catch (IOException e) {
+        return new Source(path, -1, -1);
+      }
+    }
+
+    boolean isUpToDate() {
+      var current = of(Paths.get(path));
+      return current.size == size && current.lastModified == lastModified;
+    }
+  }
+
+  private final Path repository;
+  private final Optional<Path> directory;
+
+  private MavenEffectivePoms(Path repository, Optional<Path> directory) {
+    this.repository = repository;
+    this.directory = directory;
+  }
+
+  /** Returns a {@code MavenEffectivePoms} resolving POMs from {@code repository}. */
+  static MavenEffectivePoms withRepository(Path repository) {
+    return new MavenEffectivePoms(repository, Optional.empty());
+  }
+
+  /** Same as {@link #withRepository(Path)}, also persisting effective POMs in {@code cache}. */
+  static MavenEffectivePoms in(Path cache, Path repository) {
+    return new MavenEffectivePoms(repository, Optional.of(cache.resolve(POMS)));
+  }
+
+  /** Returns the effective POM of the module whose pom.xml is {@code pom}. */
+  EffectivePom ofModule(Path pom) {
+    var normalized = pom.toAbsolutePath().normalize();
+    return memoized("module:" + normalized, () -> compute(normalized, 0));
+  }
+
+  /** Returns the effective POM of the artifact of the repository with the given coordinates. */
+  EffectivePom ofArtifact(String groupId, String artifactId, String version) {
+    return ofArtifact(groupId, artifactId, version, 0);
+  }
+
+  private EffectivePom ofArtifact(String groupId, String artifactId, String version, int depth) {
+    var key = String.format("artifact:%s:%s:%s:%s", repository, groupId, artifactId, version);
+    return memoized(key, () -> compute(pomInRepository(groupId, artifactId, version), depth));
+  }
+
+  private EffectivePom memoized(String key, Supplier<EffectivePom> computation) {
+    var found = MEMOIZED.getIfPresent(key);
+    if (found != null && found.isUpToDate()) {
+      return found;
+    }
+
+    found = read(key).orElse(null);
+    if (found != null && found.isUpToDate()) {
+      MEMOIZED.put(key, found);
+      return found;
+    }
+
+    var computed = computation.get();
+    // Errors are usually transient (a missing parent that is about to be downloaded...) so they
+    // are not worth remembering
+    if (computed.errors.isEmpty()) {
+      MEMOIZED.put(key, computed);
+      write(key, computed);
+    }
+
+    return computed;
+  }
+
+  private EffectivePom compute(Path pom, int depth) {
+    var sources = new ArrayList<Source>();
+    var errors = new ArrayList<MavenEnvironmentException>();
+    if (depth > MAX_DEPTH) {
+      errors.add(new MavenEnvironmentException("too many nested imports in " + pom));
+      return new EffectivePom(List.of(), Map.of(), sources, errors);
+    }
+
+    // The POM and its ancestors, starting with the POM itself
+    var chain = new ArrayList<FlatPom>();
+    for (var current = pom; current != null && chain.size() <= MAX_DEPTH; ) {
+      sources.add(Source.of(current));
+      var loaded = MavenPomLoader.load(current);
+      errors.addAll(loaded.errors);
+      if (!loaded.errors.isEmpty()) {
+        break;
+      }
+
+      chain.add(loaded.pom);
+      current = parentOf(current, loaded.pom, sources, errors);
+    }
+
+    if (chain.isEmpty()) {
+      return new EffectivePom(List.of(), Map.of(), sources, errors);
+    }
+
+    var properties = properties(chain);
+    var managedVersions = new LinkedHashMap<String, String>();
+    var imports = new ArrayList<MavenDependency>();
+    for (var ancestor : chain) {
+      for (var managed : ancestor.managedDependencies()) {
+        var interpolated = interpolate(managed, properties);
+        if (interpolated.scope().equals("import") && interpolated.type().equals("pom")) {
+          imports.add(interpolated);
+        } else if (interpolated.hasVersion()) {
+          managedVersions.putIfAbsent(key(interpolated), interpolated.version());
+        }
+      }
+    }
+
+    // Imported versions have a lower priority than the ones managed explicitly
+    for (var bom : imports) {
+      if (!bom.hasWellDefinedVersion()) {
+        errors.add(new MavenEnvironmentException("could not resolve version of imported " + bom));
+        continue;
+      }
+
+      var imported = ofArtifact(bom.groupId(), bom.artifactId(), bom.version(), depth + 1);
+      sources.addAll(imported.sources);
+      errors.addAll(imported.errors);
+      imported.managedVersions.forEach(managedVersions::putIfAbsent);
+    }
+
+    var dependencies = new LinkedHashMap<String, MavenDependency>();
+    for (var ancestor : chain) {
+      for (var dependency : ancestor.declaredDependencies()) {
+        var interpolated = interpolate(dependency, properties);
+        dependencies.putIfAbsent(
+            key(interpolated),
+            interpolated.hasVersion()
+                ? interpolated
+                : withVersion(interpolated, managedVersions.get(key(interpolated))));
+      }
+    }
+
+    return new EffectivePom(
+        List.copyOf(dependencies.values()), Map.copyOf(managedVersions), sources, errors);
+  }
+
+  // Maven looks for the parent at its relative path first, and in the repository if it is not
+  // there or is not the expected one
+  private Path parentOf(
+      Path pom, FlatPom flat, List<Source> sources, List<MavenEnvironmentException> errors) {
+    if (flat.parent().isEmpty()) {
+      return null;
+    }
+
+    var coordinates = flat.parent().get();
+    var searched = false;
+    if (flat.maybeParent().isPresent()) {
+      var candidate = pom.getParent().resolve(flat.maybeParent().get()).normalize();
+      if (!candidate.endsWith(POM) && !Files.isRegularFile(candidate)) {
+        // Consider that we had a directory, attempt to find a pom in it
+        candidate = candidate.resolve(POM);
+      }
+
+      searched = true;
+      sources.add(Source.of(candidate));
+      if (Files.isRegularFile(candidate) && isParent(coordinates, candidate)) {
+        return candidate;
+      }
+    }
+
+    if (coordinates.groupId != null
+        && coordinates.artifactId != null
+        && coordinates.version != null) {
+      var candidate =
+          pomInRepository(coordinates.groupId, coordinates.artifactId, coordinates.version);
+      searched = true;
+      sources.add(Source.of(candidate));
+      if (Files.isRegularFile(candidate)) {
+        return candidate;
+      }
+    }
+
+    // Without a relative path nor complete coordinates there is nowhere to look for the parent, so
+    // this is as if there were none
+    if (searched) {
+      errors.add(
+          new MavenEnvironmentException(
+              String.format("could not find parent %s of pom %s", coordinates, pom)));
+    }
+
+    return null;
+  }
+
+  private static boolean isParent(FlatPom.Coordinates coordinates, Path candidate) {
+    var pom = MavenPomLoader.load(candidate).pom;
+    return matches(coordinates.groupId, pom.groupId())
+        && matches(coordinates.artifactId, pom.artifactId());
+  }
+
+  // Missing coordinates are not enough to rule a candidate out
+  private static boolean matches(String expected, String actual) {
+    return expected == null || actual == null || expected.equals(actual);
+  }
+
+  private Path pomInRepository(String groupId, String artifactId, String version) {
+    return repository
+        .resolve(groupId.replace(".", "/"))
+        .resolve(artifactId)
+        .resolve(version)
+        .resolve(String.format("%s-%s.pom", artifactId, version));
+  }
+
+  // Properties of descendants override the ones of their ancestors, and the properties of the
+  // model itself override all of them
+  private static Map<String, String> properties(List<FlatPom> chain) {
+    var properties = new HashMap<String, String>();
+    for (int i = chain.size() - 1; i >= 0; i--) {
+      chain.get(i).declaredProperties().forEach((k, v) -> properties.put((String) k, (String) v));
+    }
+
+    var pom = chain.get(0);
+    putIfPresent(properties, "project.groupId", pom.groupId());
+    putIfPresent(properties, "project.artifactId", pom.artifactId());
+    putIfPresent(properties, "project.version", pom.version());
+    pom.parent()
+        .ifPresent(
+            p -> {
+              putIfPresent(properties, "project.parent.groupId", p.groupId);
+              putIfPresent(properties, "project.parent.artifactId", p.artifactId);
+              putIfPresent(properties, "project.parent.version", p.version);
+            });
+    return properties;
+  }
+
+  private static void putIfPresent(Map<String, String> properties, String key, String value) {
+    if (value != null) {
+      properties.put(key, value);
+    }
+  }
+
+  private static MavenDependency interpolate(
+      MavenDependency dependency, Map<String, String> properties) {
+    return new MavenDependency(
+        interpolate(dependency.groupId(), properties),
+        interpolate(dependency.artifactId(), properties),
+        interpolate(dependency.version(), properties),
+        dependency.type(),
+        dependency.scope(),
+        dependency.optional());
+  }
+
+  // Properties can reference other properties, unresolved references are left as is
+  private static String interpolate(String value, Map<String, String> properties) {
+    for (int i = 0; i < MAX_INTERPOLATIONS && value != null && value.contains("${"); i++) {
+      var matcher = PROPERTY.matcher(value);
+      var interpolated = new StringBuilder();
+      var changed = false;
+      while (matcher.find()) {
+        var replacement = properties.get(matcher.group(1));
+        changed |= replacement != null;
+        matcher.appendReplacement(
+            interpolated,
+            Matcher.quoteReplacement(replacement != null ? replacement : matcher.group()));
+      }
+
+      matcher.appendTail(interpolated);
+      if (!changed) {
+        break;
+      }
+
+      value = interpolated.toString();
+    }
+
+    return value;
+  }
+
+  static MavenDependency withVersion(MavenDependency dependency, String version) {
+    return new MavenDependency(
+        dependency.groupId(),
+        dependency.artifactId(),
+        version,
+        dependency.type(),
+        dependency.scope(),
+        dependency.optional());
+  }
+
+  // How Maven identifies managed dependencies (ignoring classifiers, that we do not support)
+  static String key(MavenDependency dependency) {
+    return String.format(
+        "%s:%s:%s", dependency.groupId(), dependency.artifactId(), dependency.type());
+  }
+
+  private Optional<EffectivePom> read(String key) {
+    if (directory.isEmpty()) {
+      return Optional.empty();
+    }
+
+    var file = fileFor(key);
+    if (!Files.exists(file)) {
+      return Optional.empty();
+    }
+
+    try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      if (in.readInt() != VERSION || !key.equals(in.readUTF())) {
+        return Optional.empty();
+      }
+
+      var sources = new ArrayList<Source>();
+      for (int i = in.readInt(); i > 0; i--) {
+        sources.add(new Source(in.readUTF(), in.readLong(), in.readLong()));
+      }
+
+      var managedVersions = new LinkedHashMap<String, String>();
+      for (int i = in.readInt(); i > 0; i--) {
+        managedVersions.put(in.readUTF(), in.readUTF());
+      }
+
+      var dependencies = new ArrayList<MavenDependency>();
+      for (int i = in.readInt(); i > 0; i--) {
+        var groupId = in.readUTF();
+        var artifactId = in.readUTF();
+        var version = in.readBoolean() ? in.readUTF() : null;
+        dependencies.add(
+            new MavenDependency(
+                groupId, artifactId, version, in.readUTF(), in.readUTF(), in.readBoolean()));
+      }
+
+      return Optional.of(
+          new EffectivePom(
+              List.copyOf(dependencies), Map.copyOf(managedVersions), sources, List.of()));
+    } catch (IOException | RuntimeException e) {
+      // A corrupted or unreadable effective POM is not a problem, we simply compute it again
+      return Optional.empty();
+    }
+  }
+
+  private void write(String key, EffectivePom pom) {
+    if (directory.isEmpty()) {
+      return;
+    }
+
+    try {
+      Files.createDirectories(directory.get());
+      var tmp = Files.createTempFile(directory.get(), "pom", ".tmp");
+      try {
+        try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+          out.writeInt(VERSION);
+          out.writeUTF(key);
+          out.writeInt(pom.sources.size());
+          for (var source : pom.sources) {
+            out.writeUTF(source.path);
+            out.writeLong(source.size);
+            out.writeLong(source.lastModified);
+          }
+
+          out.writeInt(pom.managedVersions.size());
+          for (var managed : pom.managedVersions.entrySet()) {
+            out.writeUTF(managed.getKey());
+            out.writeUTF(managed.getValue());
+          }
+
+          out.writeInt(pom.dependencies.size());
+          for (var dependency : pom.dependencies) {
+            out.writeUTF(dependency.groupId());
+            out.writeUTF(dependency.artifactId());
+            out.writeBoolean(dependency.hasVersion());
+            if (dependency.hasVersion()) {
+              out.writeUTF(dependency.version());
+            }
+
+            out.writeUTF(dependency.type());
+            out.writeUTF(dependency.scope());
+            out.writeBoolean(dependency.optional());
+          }
+        }
+
+        MavenDependencyCache.moveAtomically(tmp, fileFor(key));
+      } finally {
+        Files.deleteIfExists(tmp);
+      }
+    } catch (IOException e) {
+      // Failing to persist an effective POM only means that it will be computed again next time
+    }
+  }
+
+  private Path fileFor(String key) {
+    return directory
+        .get()
+        .resolve(Hashing.sha256().hashString(key, UTF_8) + EFFECTIVE_POM_EXTENSION);
+  }
+}
@@ -1,6 +1,10 @@
 package com.nikodoko.javaimports.environment.maven;
 
 class MavenEnvironmentException extends Exception {
+  MavenEnvironmentException(String msg) {
+    super(msg);
+  }
+
   MavenEnvironmentException(String msg, Exception cause) {
     super(msg, cause);
   }
@@ -1,23 +1,19 @@
 package com.nikodoko.javaimports.environment.maven;
 
 import com.google.common.base.MoreObjects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.nikodoko.javaimports.events.PomLoadEvent;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
-import org.apache.maven.model.Dependency;
-import org.apache.maven.model.DependencyManagement;
-import org.apache.maven.model.Model;
-import org.apache.maven.model.io.DefaultModelReader;
 
 public class MavenPomLoader {
-  // If <parent></parent> is present but no <relativePath> is specified then maven will default to
-  // this relative path
-  private static final Path DEFAULT_PARENT = Paths.get("../pom.xml");
-  private static final String DEFAULT_SCOPE = "compile";
-  private static final String DEFAULT_TYPE = "jar";
+  // The same POMs (parents especially) are loaded over and over during a run, but rarely change
+  private static final Cache<Path, CachedPom> CACHE =
+      CacheBuilder.newBuilder().maximumSize(1000).build();
 
   static final class Result {
     final FlatPom pom;
@@ -41,8 +37,35 @@ public class MavenPomLoader {
     }
   }
 
+  private static final class CachedPom {
+    final long lastModified;
+    final long size;
+    final FlatPom.Builder pom;
+
+    CachedPom(BasicFileAttributes attributes, FlatPom.Builder pom) {
+      this.lastModified = attributes.lastModifiedTime().toMillis();
+      this.size = attributes.size();
+      this.pom = pom;
+    }
+
+    boolean matches(BasicFileAttributes attributes) {
+      return lastModified == attributes.lastModifiedTime().toMillis() && size == attributes.size();
+    }
+  }
+
   static Result load(Path pom) {
-    return tryToScan(pom);
+    var event = new PomLoadEvent();
+    event.begin();
+    var result = tryToScan(pom);
+    event.end();
+    if (event.shouldCommit()) {
+      event.pom = pom.toString();
+      event.dependencies = result.pom.dependencies().size();
+      event.failed = !result.errors.isEmpty();
+      event.commit();
+    }
+
+    return result;
   }
 
   private static Result tryToScan(Path pom) {
@@ -55,53 +78,15 @@ public class MavenPomLoader {
   }
 
   private static Result scan(Path pom) throws IOException {
-    var model = new DefaultModelReader().read(pom.toFile(), null);
-    var dependencies = convert(model.getDependencies());
-    var managedDependencies =
-        convert(
-            Optional.ofNullable(model.getDependencyManagement())
-                .map(DependencyManagement::getDependencies)
-                .orElse(List.of()));
-    var properties = model.getProperties();
-
-    return Result.complete(
-        FlatPom.builder()
-            .dependencies(dependencies)
-            .managedDependencies(managedDependencies)
-            .maybeParent(getMaybeParent(model))
-            .properties(properties)
-            .build());
-  }
-
-  private static Optional<Path> getMaybeParent(Model model) {
-    if (model.getParent() == null) {
-      return Optional.empty();
-    }
-
-    if (model.getParent().getRelativePath() == null) {
-      return Optional.of(DEFAULT_PARENT);
+    var attributes = Files.readAttributes(pom, BasicFileAttributes.class);
+    var key = pom.toAbsolutePath().normalize();
+    var cached = CACHE.getIfPresent(key);
+    if (cached == null || !cached.matches(attributes)) {
+      cached = new CachedPom(attributes, MavenPomReader.read(pom));
+      CACHE.put(key, cached);
     }
 
-    // If a relative path is explicitely set to empty, it means maven won't look for a local parent
-    // pom. For our purposes, this is as if this POM has no parent
-    if (model.getParent().getRelativePath().equals("")) {
-      return Optional.empty();
-    }
-
-    return Optional.of(Paths.get(model.getParent().getRelativePath()));
-  }
-
-  private static List<MavenDependency> convert(List<Dependency> dependencies) {
-    return dependencies.stream()
-        .map(
-            d ->
-                new MavenDependency(
-                    d.getGroupId(),
-                    d.getArtifactId(),
-                    d.getVersion(),
-                    Optional.ofNullable(d.getType()).orElse(DEFAULT_TYPE),
-                    Optional.ofNullable(d.getScope()).orElse(DEFAULT_SCOPE),
-                    d.isOptional()))
-        .collect(Collectors.toList());
+    // FlatPoms get merged with their parents, so each caller needs its own
+    return Result.complete(cached.pom.build());
   }
 }
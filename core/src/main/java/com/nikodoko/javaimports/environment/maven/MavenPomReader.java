@@ -0,0 +1,410 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the parts of a POM we care about (coordinates, parent, dependencies, managed dependencies,
+ * properties, modules and source directories) in a single pass, ignoring everything else.
+ *
+ * <p>Elements are matched by their full path from {@code <project>}, so that the dependencies of
+ * plugins or profiles, for instance, are not mistaken for the dependencies of the project.
+ *
+ * <p>POMs only use a tiny subset of XML, so rather than a full parser this only understands
+ * elements, text, CDATA sections and the predefined and numeric character references, and skips
+ * everything else (attributes, comments, processing instructions and DTDs).
+ */
+class MavenPomReader {
+  // If <parent></parent> is present but no <relativePath> is specified then maven will default to
+  // this relative path
+  private static final Path DEFAULT_PARENT = Paths.get("../pom.xml");
+  private static final String DEFAULT_SCOPE = "compile";
+  private static final String DEFAULT_TYPE = "jar";
+  private static final Pattern ENCODING = Pattern.compile("encoding\\s*=\\s*[\"']([^\"']+)[\"']");
+
+  private static final String PARENT = "project/parent";
+  private static final String DEPENDENCY = "project/dependencies/dependency";
+  private static final String MANAGED_DEPENDENCY =
+      "project/dependencyManagement/dependencies/dependency";
+  private static final String PROPERTIES = "project/properties";
+  private static final String MODULE = "project/modules/module";
+  private static final String SOURCE_DIRECTORY = "project/build/sourceDirectory";
+  private static final String TEST_SOURCE_DIRECTORY = "project/build/testSourceDirectory";
+
+  private final String xml;
+  // The path of the current element, like project/dependencies/dependency
+  private final StringBuilder path = new StringBuilder();
+  private final StringBuilder text = new StringBuilder();
+
+  private final List<MavenDependency> dependencies = new ArrayList<>();
+  private final List<MavenDependency> managedDependencies = new ArrayList<>();
+  private final Properties properties = new Properties();
+  private final List<String> modules = new ArrayList<>();
+  private final Map<String, String> dependency = new HashMap<>();
+  private boolean hasProject;
+  private String sourceDirectory;
+  private String testSourceDirectory;
+  private String groupId;
+  private String artifactId;
+  private String version;
+  private boolean hasParent;
+  private String parentGroupId;
+  private String parentArtifactId;
+  private String parentVersion;
+  private String parentRelativePath;
+
+  private MavenPomReader(String xml) {
+    this.xml = xml;
+  }
+
+  static FlatPom.Builder read(Path pom) throws IOException {
+    return read(Files.readAllBytes(pom));
+  }
+
+  static FlatPom.Builder read(byte[] pom) throws IOException {
+    return new MavenPomReader(decode(pom)).readProject();
+  }
+
+  private FlatPom.Builder readProject() throws IOException {
+    int i = 0;
+    while (i < xml.length()) {
+      int start = xml.indexOf('<', i);
+      if (start < 0) {
+        break;
+      }
+
+      appendText(i, start);
+      if (xml.startsWith("<!--", start)) {
+        i = after("-->", start + 4);
+      } else if (xml.startsWith("<![CDATA[", start)) {
+        i = after("]]>", start + 9);
+        text.append(xml, start + 9, i - 3);
+      } else if (xml.startsWith("<?", start)) {
+        i = after("?>", start + 2);
+      } else if (xml.startsWith("<!", start)) {
+        i = afterDeclaration(start);
+      } else if (xml.startsWith("</", start)) {
+        i = after(">", start + 2);
+        endElement(localName(xml.substring(start + 2, i - 1).trim()));
+      } else {
+        i = afterTag(start);
+        var selfClosing = xml.charAt(i - 2) == '/';
+        startElement(localName(xml.substring(start + 1, nameEnd(start + 1, i))));
+        if (selfClosing) {
+          endElement(path.substring(path.lastIndexOf("/") + 1));
+        }
+      }
+    }
+
+    if (!hasProject) {
+      throw new IOException("malformed pom: no <project> element");
+    }
+
+    if (path.length() > 0) {
+      throw new IOException("malformed pom: unclosed element " + path);
+    }
+
+    // Read POMs are cached and built many times, so nothing they hold should be modifiable
+    return FlatPom.builder()
+        .dependencies(List.copyOf(dependencies))
+        .managedDependencies(List.copyOf(managedDependencies))
+        .maybeParent(maybeParent())
+        .properties(properties)
+        .sourceDirectory(Optional.ofNullable(sourceDirectory))
+        .testSourceDirectory(Optional.ofNullable(testSourceDirectory))
+        .groupId(groupId != null ? groupId : parentGroupId)
+        .artifactId(artifactId)
+        .modules(List.copyOf(modules))
+        .parent(
+            hasParent
+                ? Optional.of(
+                    new FlatPom.Coordinates(parentGroupId, parentArtifactId, parentVersion))
+                : Optional.empty())
+        .version(version != null ? version : parentVersion);
+  }
+
+  private void startElement(String name) throws IOException {
+    if (path.length() > 0) {
+      path.append('/');
+    } else if (hasProject || !name.equals("project")) {
+      throw new IOException("malformed pom: unexpected root element <" + name + ">");
+    }
+
+    hasProject = true;
+    path.append(name);
+    text.setLength(0);
+  }
+
+  private void endElement(String name) throws IOException {
+    var current = path.toString();
+    var separator = current.lastIndexOf('/');
+    if (!current.substring(separator + 1).equals(name)) {
+      throw new IOException(String.format("malformed pom: unexpected </%s> in %s", name, current));
+    }
+
+    endElement(current, name, text.toString().trim());
+    path.setLength(Math.max(separator, 0));
+    text.setLength(0);
+  }
+
+  private void endElement(String current, String name, String value) {
+    var parent = current.substring(0, Math.max(current.lastIndexOf('/'), 0));
+    if (parent.equals(DEPENDENCY) || parent.equals(MANAGED_DEPENDENCY)) {
+      dependency.put(name, value);
+      return;
+    }
+
+    if (parent.equals(PROPERTIES)) {
+      properties.setProperty(name, value);
+      return;
+    }
+
+    switch (current) {
+      case "project/groupId":
+        groupId = value;
+        break;
+      case "project/artifactId":
+        artifactId = value;
+        break;
+      case "project/version":
+        version = value;
+        break;
+      case PARENT:
+        hasParent = true;
+        break;
+      case PARENT + "/groupId":
+        parentGroupId = value;
+        break;
+      case PARENT + "/artifactId":
+        parentArtifactId = value;
+        break;
+      case PARENT + "/version":
+        parentVersion = value;
+        break;
+      case PARENT + "/relativePath":
+        parentRelativePath = value;
+        break;
+      case DEPENDENCY:
+        dependencies.add(toDependency());
+        break;
+      case MANAGED_DEPENDENCY:
+        managedDependencies.add(toDependency());
+        break;
+      case MODULE:
+        modules.add(value);
+        break;
+      case SOURCE_DIRECTORY:
+        sourceDirectory = value;
+        break;
+      case TEST_SOURCE_DIRECTORY:
+        testSourceDirectory = value;
+        break;
+      default:
+        break;
+    }
+  }
+
+  private MavenDependency toDependency() {
+    var d =
+        new MavenDependency(
+            dependency.get("groupId"),
+            dependency.get("artifactId"),
+            dependency.get("version"),
+            type(),
+            dependency.getOrDefault("scope", DEFAULT_SCOPE),
+            Boolean.parseBoolean(dependency.get("optional")));
+    dependency.clear();
+    return d;
+  }
+
+  // Classifiers are not supported, but the tests one is how a test-jar is depended on as well
+  private String type() {
+    if (MavenDependency.TESTS_CLASSIFIER.equals(dependency.get("classifier"))) {
+      return MavenDependency.TEST_JAR;
+    }
+
+    return dependency.getOrDefault("type", DEFAULT_TYPE);
+  }
+
+  private Optional<Path> maybeParent() {
+    if (!hasParent) {
+      return Optional.empty();
+    }
+
+    if (parentRelativePath == null) {
+      return Optional.of(DEFAULT_PARENT);
+    }
+
+    // If a relative path is explicitely set to empty, it means maven won't look for a local parent
+    // pom. For our purposes, this is as if this POM has no parent
+    if (parentRelativePath.equals("")) {
+      return Optional.empty();
+    }
+
+    return Optional.of(Paths.get(parentRelativePath));
+  }
+
+  private void appendText(int start, int end) {
+    int i = start;
+    for (int reference = start; reference < end; reference++) {
+      if (xml.charAt(reference) != '&') {
+        continue;
+      }
+
+      int semicolon = reference + 1;
+      while (semicolon < end && xml.charAt(semicolon) != ';') {
+        semicolon++;
+      }
+
+      if (semicolon == end) {
+        break;
+      }
+
+      text.append(xml, i, reference);
+      text.append(resolve(xml.substring(reference + 1, semicolon)));
+      i = semicolon + 1;
+      reference = semicolon;
+    }
+
+    text.append(xml, i, end);
+  }
+
+  // Maven itself tolerates HTML entities like &oslash; in names and descriptions, which we do not
+  // care about, so unknown references are simply kept as is
+  private static String resolve(String reference) {
+    switch (reference) {
+      case "lt":
+        return "<";
+      case "gt":
+        return ">";
+      case "amp":
+        return "&";
+      case "quot":
+        return "\"";
+      case "apos":
+        return "'";
+      default:
+        break;
+    }
+
+    try {
+      if (reference.startsWith("#x")) {
+        return new String(Character.toChars(Integer.parseInt(reference.substring(2), 16)));
+      }
+
+      if (reference.startsWith("#")) {
+        return new String(Character.toChars(Integer.parseInt(reference.substring(1))));
+      }
+    } catch (IllegalArgumentException e) {
+      // Kept as is below
+    }
+
+    return "&" + reference + ";";
+  }
+
+  // The index right after the first occurrence of token starting at from
+  private int after(String token, int from) throws IOException {
+    int found = xml.indexOf(token, from);
+    if (found < 0) {
+      throw new IOException("malformed pom: missing " + token);
+    }
+
+    return found + token.length();
+  }
+
+  // The index right after the end of the start tag at start, whose attributes could contain '>'
+  private int afterTag(int start) throws IOException {
+    char quote = 0;
+    for (int i = start + 1; i < xml.length(); i++) {
+      char c = xml.charAt(i);
+      if (quote != 0) {
+        if (c == quote) {
+          quote = 0;
+        }
+      } else if (c == '"' || c == '\'') {
+        quote = c;
+      } else if (c == '>') {
+        return i + 1;
+      }
+    }
+
+    throw new IOException("malformed pom: unterminated tag at " + start);
+  }
+
+  // Skips declarations like <!DOCTYPE ...>, which can have an internal subset between brackets
+  private int afterDeclaration(int start) throws IOException {
+    int depth = 0;
+    for (int i = start + 2; i < xml.length(); i++) {
+      char c = xml.charAt(i);
+      if (c == '[') {
+        depth++;
+      } else if (c == ']') {
+        depth--;
+      } else if (c == '>' && depth <= 0) {
+        return i + 1;
+      }
+    }
+
+    throw new IOException("malformed pom: unterminated declaration at " + start);
+  }
+
+  private int nameEnd(int start, int tagEnd) {
+    int i = start;
+    while (i < tagEnd) {
+      char c = xml.charAt(i);
+      if (Character.isWhitespace(c) || c == '/' || c == '>') {
+        break;
+      }
+
+      i++;
+    }
+
+    return i;
+  }
+
+  // Namespace prefixes are irrelevant here
+  private static String localName(String name) {
+    return name.substring(name.indexOf(':') + 1);
+  }
+
+  // POMs are almost always UTF-8, but can declare another encoding or start with a BOM
+  private static String decode(byte[] pom) {
+    if (pom.length >= 3
+        && (pom[0] & 0xFF) == 0xEF
+        && (pom[1] & 0xFF) == 0xBB
+        && (pom[2] & 0xFF) == 0xBF) {
+      return new String(pom, 3, pom.length - 3, StandardCharsets.UTF_8);
+    }
+
+    if (pom.length >= 2
+        && ((pom[0] & 0xFF) == 0xFE && (pom[1] & 0xFF) == 0xFF
+            || (pom[0] & 0xFF) == 0xFF && (pom[1] & 0xFF) == 0xFE)) {
+      return new String(pom, StandardCharsets.UTF_16);
+    }
+
+    var head = new String(pom, 0, Math.min(pom.length, 200), StandardCharsets.ISO_8859_1);
+    var end = head.indexOf("?>");
+    var matcher =
+        ENCODING.matcher(head.startsWith("<?xml") && end > 0 ? head.substring(0, end) : "");
+    if (matcher.find()) {
+      try {
+        return new String(pom, Charset.forName(matcher.group(1)));
+      } catch (IllegalArgumentException e) {
+        // Unknown encodings are most likely compatible with UTF-8 for what we read anyway
+      }
+    }
+
+    return new String(pom, StandardCharsets.UTF_8);
+  }
+}
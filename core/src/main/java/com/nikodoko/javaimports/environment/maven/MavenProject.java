@@ -0,0 +1,682 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.collect.Iterables;
+import com.google.common.hash.Hashing;
+import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.Stats;
+import com.nikodoko.javaimports.common.CancellationToken;
+import com.nikodoko.javaimports.common.Identifier;
+import com.nikodoko.javaimports.common.Import;
+import com.nikodoko.javaimports.environment.JavaProject;
+import com.nikodoko.javaimports.parser.ParsedFile;
+import com.nikodoko.javaimports.parser.ParsedFiles;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Everything known about a Maven project that does not depend on the file being resolved: its
+ * parsed files and the importable symbols of its dependencies.
+ *
+ * <p>A {@code MavenProject} is built lazily and can be shared by several {@link MavenEnvironment},
+ * possibly across runs when kept in memory by a long-running process. In that case, {@link
+ * #refresh()} should be called before reusing it so that it picks up what changed on disk.
+ *
+ * <p>If the project is a module of a multi-module build, the files of the other modules it depends
+ * on are considered part of the project, and these modules are not loaded from the repository.
+ *
+ * <p>By default, only the direct dependencies of the project are loaded, along with the
+ * dependencies of those whose jar is empty. More transitive dependencies can be loaded with {@link
+ * Options#transitiveDepth()}.
+ *
+ * <p>Parsing the project and loading its dependencies are guarded by different locks, so that both
+ * can happen at the same time.
+ */
+public class MavenProject {
+  private static Logger log = Logger.getLogger(MavenProject.class.getName());
+  static final Path DEFAULT_REPOSITORY =
+      Paths.get(System.getProperty("user.home"), ".m2/repository");
+  private static final Clock clock = Clock.systemDefaultZone();
+  // Very rough estimates of the memory used by a parsed file and by an importable symbol
+  private static final long BYTES_PER_FILE = 8 * 1024;
+  private static final long BYTES_PER_IMPORT = 256;
+
+  private final Path root;
+  private final Options options;
+  private final MavenDependencyResolver resolver;
+  private final MavenEffectivePoms poms;
+  private final Optional<MavenDependencyCache> cache;
+  private final Optional<MavenProjectSummaries> summaries;
+
+  // Lock ordering: importsLock, then projectLock
+  private final ReentrantLock projectLock = new ReentrantLock();
+  private final ReentrantLock importsLock = new ReentrantLock();
+  // Refreshes requested while the corresponding lock was held
+  private final AtomicBoolean importsRefreshPending = new AtomicBoolean();
+  private final AtomicBoolean projectRefreshPending = new AtomicBoolean();
+
+  private JavaProject project;
+  private Map<Path, Long> lastModifiedByFile = new HashMap<>();
+  private Map<Path, ParsedFile> filesByPath = new HashMap<>();
+  private Map<Identifier, List<Import>> availableImports;
+  private volatile int importCount = 0;
+  private long pomLastModified;
+  private volatile Optional<MavenReactor> reactor;
+  // Derived from the parsed project, and dropped whenever it changes
+  private Fingerprints fingerprints;
+  // Identifies the loaded dependencies, null until they are loaded or if the POMs had errors
+  private volatile String dependenciesFingerprint;
+
+  public MavenProject(Path root, Options options) {
+    this.root = root;
+    this.options = options;
+    var repository =
+        options.repository().isPresent() ? options.repository().get() : DEFAULT_REPOSITORY;
+    this.resolver = MavenDependencyResolver.withRepository(repository);
+    this.poms =
+        options.cache().isPresent()
+            ? MavenEffectivePoms.in(options.cache().get(), repository)
+            : MavenEffectivePoms.withRepository(repository);
+    this.cache = options.cache().map(c -> MavenDependencyCache.in(c, options.stats()));
+    this.summaries = options.cache().map(c -> MavenProjectSummaries.in(c, root));
+  }
+
+  /** The root of this project, where its pom.xml is. */
+  public Path root() {
+    return root;
+  }
+
+  /** All files in this project, parsed the first time this is called. */
+  JavaProject project() {
+    return project(CancellationToken.none());
+  }
+
+  private JavaProject project(CancellationToken token) {
+    projectLock.lock();
+    try {
+      if (project == null) {
+        parse(token);
+      }
+
+      // Files may have changed since they were listed
+      if (projectRefreshPending.getAndSet(false)) {
+        refreshProjectLocked();
+      }
+
+      return project;
+    } finally {
+      projectLock.unlock();
+      applyPendingRefreshes();
+    }
+  }
+
+  /** All symbols importable from the dependencies of this project, loaded on first call. */
+  Map<Identifier, List<Import>> availableImports() {
+    return availableImports(CancellationToken.none());
+  }
+
+  private Map<Identifier, List<Import>> availableImports(CancellationToken token) {
+    importsLock.lock();
+    try {
+      if (availableImports == null) {
+        load(token);
+      }
+
+      if (importsRefreshPending.getAndSet(false)) {
+        refreshImportsLocked();
+      }
+
+      return availableImports;
+    } finally {
+      importsLock.unlock();
+      applyPendingRefreshes();
+    }
+  }
+
+  /**
+   * Parses this project and loads its dependencies now rather than on first use. Once warmed up, a
+   * project does not submit anything to {@link Options#executor()} anymore.
+   */
+  public void warmUp() {
+    project();
+    availableImports();
+  }
+
+  /**
+   * Parses this project and loads its dependencies in the background, both at the same time, using
+   * {@code executor} to wait for {@link Options#executor()} to do the actual work. Whatever is not
+   * finished when {@code token} is cancelled is dropped, and will be done again on first use.
+   */
+  public CompletableFuture<Void> warmUp(Executor executor, CancellationToken token) {
+    return CompletableFuture.allOf(
+        CompletableFuture.runAsync(() -> project(token), executor),
+        CompletableFuture.runAsync(() -> availableImports(token), executor));
+  }
+
+  /**
+   * Brings this project up to date with what is on disk: files that were modified or added since
+   * the last call are (re)parsed, deleted files are forgotten, and dependencies are reloaded on
+   * next use if the pom.xml changed.
+   *
+   * <p>If the project is being loaded in the background at the same time, it is brought up to date
+   * as soon as it is loaded, and before being used anyway.
+   */
+  public void refresh() {
+    importsRefreshPending.set(true);
+    projectRefreshPending.set(true);
+    applyPendingRefreshes();
+  }
+
+  // Applies the refreshes requested so far, but those of what another thread is loading: that
+  // thread applies them once done, as any thread releasing a lock does
+  private void applyPendingRefreshes() {
+    applyPending(importsLock, importsRefreshPending, this::refreshImportsLocked);
+    applyPending(projectLock, projectRefreshPending, this::refreshProjectLocked);
+  }
+
+  private static void applyPending(ReentrantLock lock, AtomicBoolean pending, Runnable refresh) {
+    // Check again after releasing the lock, in case a refresh was requested while holding it
+    while (pending.get() && lock.tryLock()) {
+      try {
+        if (pending.getAndSet(false)) {
+          refresh.run();
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  private void refreshImportsLocked() {
+    if (availableImports != null && pomLastModified != lastModified(root.resolve("pom.xml"))) {
+      availableImports = null;
+      dependenciesFingerprint = null;
+      importCount = 0;
+      reactor = null;
+    }
+  }
+
+  private void refreshProjectLocked() {
+    if (project == null) {
+      return;
+    }
+
+    var start = clock.millis();
+    var toParse = new ArrayList<Path>();
+    var deleted = new HashSet<>(filesByPath.keySet());
+    for (var path : findAllFiles()) {
+      deleted.remove(path);
+      if (!Long.valueOf(lastModified(path)).equals(lastModifiedByFile.get(path))) {
+        toParse.add(path);
+      }
+    }
+
+    for (var path : Iterables.concat(deleted, toParse)) {
+      var previous = filesByPath.remove(path);
+      lastModifiedByFile.remove(path);
+      if (previous != null) {
+        project.remove(previous);
+      }
+    }
+
+    addAll(toParse, CancellationToken.none());
+    if (!toParse.isEmpty() || !deleted.isEmpty()) {
+      fingerprints = null;
+      persist();
+    }
+
+    if (options.debug()) {
+      log.info(
+          String.format(
+              "refreshed project in %d ms (%d files reparsed, %d deleted)",
+              clock.millis() - start, toParse.size(), deleted.size()));
+    }
+  }
+
+  /**
+   * Identifies the dependencies of this project and the declarations of all its files but {@code
+   * excluded}. Returns nothing unless both are already loaded and the POMs could be read: this
+   * never waits for the project to be loaded, nor for another thread using it.
+   *
+   * <p>This is only computed once per version of the project, so that calling it for every file
+   * of a project is cheap.
+   */
+  Optional<String> fingerprint(Path excluded) {
+    var dependencies = dependenciesFingerprint;
+    if (dependencies == null || !projectLock.tryLock()) {
+      return Optional.empty();
+    }
+
+    try {
+      if (project == null) {
+        return Optional.empty();
+      }
+
+      if (fingerprints == null) {
+        fingerprints = new Fingerprints(filesByPath.values());
+      }
+
+      long files = fingerprints.files - fingerprints.byFile.getOrDefault(excluded, 0L);
+      return Optional.of(
+          Hashing.sha256()
+              .newHasher()
+              .putString(dependencies, UTF_8)
+              .putLong(files)
+              .hash()
+              .toString());
+    } finally {
+      projectLock.unlock();
+    }
+  }
+
+  private String fingerprintOf(MavenDependencyFinder.Result direct) {
+    if (!direct.errors.isEmpty()) {
+      return null;
+    }
+
+    var hasher = Hashing.sha256().newHasher();
+    hasher.putString(options.repository().orElse(DEFAULT_REPOSITORY).toString(), UTF_8);
+    hasher.putInt(options.transitiveDepth()).putInt(options.transitiveBudget());
+    direct.dependencies.stream()
+        .map(MavenDependency::toString)
+        .sorted()
+        .forEach(d -> hasher.putString(d, UTF_8).putByte((byte) 0));
+    return hasher.hash().toString();
+  }
+
+  // Files are hashed one by one and their hashes summed up, so that the fingerprint of a set of
+  // files minus one of them does not require hashing all of them again
+  private static final class Fingerprints {
+    final Map<Path, Long> byFile = new HashMap<>();
+    long files;
+
+    Fingerprints(Collection<ParsedFile> parsed) {
+      for (var file : parsed) {
+        long hash = ParsedFiles.hashDeclarations(file).asLong();
+        byFile.put(file.path(), hash);
+        files += hash;
+      }
+    }
+  }
+
+  /** A rough estimate of the memory used by this project, in bytes. */
+  public long estimatedFootprint() {
+    // Read without locking, so as not to wait for a project being loaded: this is an estimate
+    // anyway
+    return filesByPath.size() * BYTES_PER_FILE + importCount * BYTES_PER_IMPORT;
+  }
+
+  private void parse(CancellationToken token) {
+    try (var span = options.stats().start(Stats.Phase.PARSE_PROJECT, root)) {
+      parseAll(token);
+    } catch (RuntimeException e) {
+      // Forget everything if cancelled or failed, so that the next call starts over rather than
+      // using a partially parsed project
+      project = null;
+      fingerprints = null;
+      filesByPath.clear();
+      lastModifiedByFile.clear();
+      throw e;
+    }
+  }
+
+  private void parseAll(CancellationToken token) {
+    var start = clock.millis();
+    project = new JavaProject();
+    fingerprints = null;
+    var persisted = summaries.map(MavenProjectSummaries::read).orElse(Map.of());
+    var toParse = new ArrayList<Path>();
+    for (var path : findAllFiles()) {
+      var summary = persisted.get(path);
+      if (summary == null || summary.lastModified != lastModified(path)) {
+        toParse.add(path);
+        continue;
+      }
+
+      add(summary.file, summary.lastModified);
+    }
+
+    options.stats().add(Stats.Counter.CACHE_HITS, filesByPath.size());
+    addAll(toParse, token);
+    if (!toParse.isEmpty() || persisted.size() != filesByPath.size()) {
+      persist();
+    }
+
+    if (options.debug()) {
+      log.info(
+          String.format(
+              "parsed project in %d ms (total of %d files, %d of which were up to date on disk)",
+              clock.millis() - start, filesByPath.size(), filesByPath.size() - toParse.size()));
+    }
+  }
+
+  private void persist() {
+    if (summaries.isEmpty()) {
+      return;
+    }
+
+    summaries
+        .get()
+        .write(
+            filesByPath.values().stream()
+                .map(f -> new MavenProjectSummaries.Summary(f, lastModifiedByFile.get(f.path())))
+                .collect(Collectors.toList()));
+  }
+
+  private void add(ParsedFile file, long lastModified) {
+    project.add(file);
+    filesByPath.put(file.path(), file);
+    lastModifiedByFile.put(file.path(), lastModified);
+  }
+
+  // The files of this project, and of the modules of its reactor it depends on
+  private List<Path> findAllFiles() {
+    var roots = new ArrayList<Path>(List.of(root));
+    reactor().ifPresent(r -> roots.addAll(r.modulesNeededBy(root)));
+    // Other modules are only seen through their main sources, unless depended on as a test-jar
+    var withTests = new HashSet<Path>(Set.of(root));
+    reactor().ifPresent(r -> withTests.addAll(r.modulesWithTestsNeededBy(root)));
+    var files = new ArrayList<Path>();
+    for (var moduleRoot : roots) {
+      try {
+        var finder = MavenProjectFinder.withRoot(moduleRoot);
+        if (!withTests.contains(moduleRoot)) {
+          finder.withoutTests();
+        }
+        files.addAll(finder.findAll());
+      } catch (IOException e) {
+        if (options.debug()) {
+          log.log(Level.WARNING, "could not find files in " + moduleRoot, e);
+        }
+      }
+    }
+
+    return files;
+  }
+
+  private Optional<MavenReactor> reactor() {
+    var found = reactor;
+    if (found == null) {
+      found = MavenReactor.containing(root);
+      if (options.debug()) {
+        found.ifPresent(
+            r ->
+                log.info(
+                    String.format(
+                        "module of reactor %s, depending on modules %s",
+                        r.root(), r.modulesNeededBy(root))));
+      }
+
+      reactor = found;
+    }
+
+    return found;
+  }
+
+  private void addAll(List<Path> paths, CancellationToken token) {
+    // Record modification times before parsing, so that files modified while being parsed are
+    // parsed again on next refresh
+    var lastModified = new HashMap<Path, Long>();
+    paths.forEach(p -> lastModified.put(p, lastModified(p)));
+
+    var parsed = new MavenProjectParser(root, options).parse(paths, token);
+    for (var file : parsed.project.allFiles()) {
+      add(file, lastModified.get(file.path()));
+    }
+
+    if (options.debug()) {
+      parsed.errors.forEach(e -> log.log(Level.WARNING, "error parsing project", e));
+    }
+  }
+
+  private static long lastModified(Path path) {
+    try {
+      return Files.getLastModifiedTime(path).toMillis();
+    } catch (IOException e) {
+      return -1;
+    }
+  }
+
+  private void load(CancellationToken token) {
+    var start = clock.millis();
+    pomLastModified = lastModified(root.resolve("pom.xml"));
+    dependenciesFingerprint = null;
+    var imports = extractImportsInDependencies(token);
+
+    availableImports =
+        imports.stream().collect(Collectors.groupingBy(i -> i.selector.identifier()));
+    importCount = imports.size();
+    log.log(Level.INFO, String.format("init completed in %d ms", clock.millis() - start));
+  }
+
+  private List<Import> extractImportsInDependencies(CancellationToken token) {
+    MavenDependencyFinder.Result direct;
+    try (var span = options.stats().start(Stats.Phase.RESOLVE_POMS, root)) {
+      direct = new MavenDependencyFinder(poms).findAll(root);
+    }
+
+    // Modules of the reactor are parsed with the project instead
+    var external =
+        direct.dependencies.stream()
+            .filter(d -> reactor().map(r -> !r.isModule(d, root)).orElse(true))
+            .collect(Collectors.toList());
+    var loadedDirect = resolveAndLoad(external, token);
+    var loadedIndirect =
+        options.transitiveDepth() > 0
+            ? loadTransitiveDependencies(direct.dependencies, loadedDirect, token)
+            : loadDependenciesOfEmptyDependencies(direct.dependencies, loadedDirect, token);
+    if (options.debug()) {
+      cache.ifPresent(
+          c ->
+              log.info(
+                  String.format(
+                      "dependency index cache: %d hits, %d misses", c.hits(), c.misses())));
+      log.info(
+          String.format("found %d direct dependencies: %s", direct.dependencies.size(), direct));
+      log.info(
+          String.format(
+              "found %d indirect dependencies: %s",
+              loadedIndirect.size(), loadedIndirect.keySet()));
+    }
+    var imports =
+        Stream.concat(loadedDirect.stream(), loadedIndirect.values().stream())
+            .flatMap(d -> d.importables.stream())
+            .collect(Collectors.toList());
+    dependenciesFingerprint = fingerprintOf(direct);
+    return imports;
+  }
+
+  private Map<MavenDependency, LoadedDependency> loadDependenciesOfEmptyDependencies(
+      List<MavenDependency> direct, List<LoadedDependency> loadedDirect, CancellationToken token) {
+    var versionlessDirectDependencies =
+        direct.stream().map(d -> d.hideVersion()).collect(Collectors.toSet());
+    var indirectDependencies =
+        loadedDirect.stream()
+            // Limit to empty dependencies, and get their dependencies
+            // This is to better handle cases like org.junit.jupiter.junit-jupiter, that point to
+            // an empty jar and a pom which in turns points to the actual API
+            //
+            // Relying on other non-explicit dependencies is a bad practice anyway, so loading all
+            // transitive dependencies is left to loadTransitiveDependencies, for those who opt in
+            .filter(d -> d.importables.isEmpty())
+            .flatMap(d -> d.dependencies.stream())
+            .map(d -> d.hideVersion())
+            .filter(d -> !versionlessDirectDependencies.contains(d))
+            .distinct()
+            .map(d -> d.showVersion())
+            .collect(Collectors.toList());
+    return zip(indirectDependencies, resolveAndLoad(indirectDependencies, token));
+  }
+
+  // Walks the dependency graph breadth first, one level at a time, each level being loaded in
+  // parallel. Like Maven, the nearest occurrence of a dependency wins, and the versions managed by
+  // the project apply to transitive dependencies as well. The walk stops after
+  // options.transitiveDepth() levels, or once options.transitiveBudget() dependencies were loaded,
+  // so that it stays viable on big projects.
+  //
+  // Exclusions are not supported, and modules of the reactor are not walked through as they are
+  // parsed with the project instead of being loaded.
+  private Map<MavenDependency, LoadedDependency> loadTransitiveDependencies(
+      List<MavenDependency> direct, List<LoadedDependency> loadedDirect, CancellationToken token) {
+    var managedVersions = poms.ofModule(root.resolve("pom.xml")).managedVersions;
+    var visited = new HashSet<String>();
+    direct.forEach(d -> visited.add(MavenEffectivePoms.key(d)));
+
+    var loaded = new LinkedHashMap<MavenDependency, LoadedDependency>();
+    var level = loadedDirect;
+    var depth = 0;
+    while (depth < options.transitiveDepth() && loaded.size() < options.transitiveBudget()) {
+      var next = new ArrayList<MavenDependency>();
+      for (var dependency : Iterables.concat(Iterables.transform(level, l -> l.dependencies))) {
+        if (loaded.size() + next.size() >= options.transitiveBudget()) {
+          break;
+        }
+
+        var key = MavenEffectivePoms.key(dependency);
+        if (!isTransitive(dependency) || !visited.add(key)) {
+          continue;
+        }
+
+        next.add(
+            MavenEffectivePoms.withVersion(
+                dependency, managedVersions.getOrDefault(key, dependency.version())));
+      }
+
+      if (next.isEmpty()) {
+        break;
+      }
+
+      var loadedNext = resolveAndLoad(next, token);
+      loaded.putAll(zip(next, loadedNext));
+      level = loadedNext;
+      depth++;
+    }
+
+    if (options.debug()) {
+      log.info(
+          String.format(
+              "loaded %d transitive dependencies over %d levels (maximum depth %d, budget %d)",
+              loaded.size(), depth, options.transitiveDepth(), options.transitiveBudget()));
+    }
+
+    return loaded;
+  }
+
+  // Only compile dependencies of dependencies are needed to compile a project
+  private boolean isTransitive(MavenDependency dependency) {
+    return dependency.scope().equals("compile")
+        && !dependency.optional()
+        && reactor().map(r -> !r.isModule(dependency, root)).orElse(true);
+  }
+
+  private static Map<MavenDependency, LoadedDependency> zip(
+      List<MavenDependency> dependencies, List<LoadedDependency> loaded) {
+    var zipped = new LinkedHashMap<MavenDependency, LoadedDependency>();
+    for (int i = 0; i < dependencies.size(); i++) {
+      zipped.put(dependencies.get(i), loaded.get(i));
+    }
+
+    return zipped;
+  }
+
+  private static class LoadedDependency {
+    final List<Import> importables;
+    final List<MavenDependency> dependencies;
+
+    LoadedDependency(List<Import> importables, List<MavenDependency> dependencies) {
+      this.importables = importables;
+      this.dependencies = dependencies;
+    }
+  }
+
+  private List<LoadedDependency> resolveAndLoad(
+      List<MavenDependency> dependencies, CancellationToken token) {
+    var futures =
+        dependencies.stream()
+            .map(
+                d ->
+                    CompletableFuture.supplyAsync(
+                        () ->
+                            token.isCancelled()
+                                ? new LoadedDependency(List.of(), List.of())
+                                : resolveAndLoad(d),
+                        options.executor(Options.Stage.LOADING)))
+            .collect(Collectors.toList());
+
+    CompletableFuture.allOf(futures.stream().toArray(CompletableFuture[]::new)).join();
+    token.throwIfCancelled();
+    return futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+  }
+
+  private LoadedDependency resolveAndLoad(MavenDependency dependency) {
+    var loaded = new LoadedDependency(List.of(), List.of());
+    var start = clock.millis();
+    try {
+      var location = resolver.resolve(dependency);
+      if (options.debug()) {
+        log.info(String.format("looking for dependency %s at %s", dependency, location));
+      }
+
+      // Dependencies of type pom only bring their own dependencies
+      var importables = dependency.type().equals("pom") ? List.<Import>of() : load(location.jar);
+      List<MavenDependency> dependencies;
+      try (var span = options.stats().start(Stats.Phase.RESOLVE_POMS, location.pom)) {
+        dependencies =
+            poms.ofArtifact(dependency.groupId(), dependency.artifactId(), location.version)
+                .dependencies;
+      }
+
+      loaded = new LoadedDependency(importables, dependencies);
+    } catch (Exception e) {
+      // No matter what happens, we don't want to fail the whole importing process just for that.
+      if (options.debug()) {
+        log.log(Level.WARNING, String.format("could not resolve dependency %s", dependency), e);
+      }
+    } finally {
+      if (options.debug()) {
+        log.log(
+            Level.INFO,
+            String.format(
+                "loaded %d imports and %d additional dependencies in %d ms (%s)",
+                loaded.importables.size(),
+                loaded.dependencies.size(),
+                clock.millis() - start,
+                dependency));
+      }
+    }
+
+    return loaded;
+  }
+
+  private List<Import> load(Path jar) throws IOException {
+    try (var span = options.stats().start(Stats.Phase.LOAD_JAR, jar)) {
+      if (cache.isPresent()) {
+        return cache.get().load(jar);
+      }
+
+      options.stats().increment(Stats.Counter.JARS_SCANNED);
+      return MavenDependencyLoader.load(jar);
+    }
+  }
+}
@@ -1,23 +1,54 @@
 package com.nikodoko.javaimports.environment.maven;
 
 import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.Set;
 
-/** Finds all .java files in a project. */
-// TODO: this will find ALL java files, including in resource folder should it be more
-// restrictive?
+/**
+ * Finds all .java files in a project.
+ *
+ * <p>Only the source directories of the project are searched: the main and test source directories
+ * declared in its POM, each defaulting to {@code src/main/java} and {@code src/test/java}
+ * respectively when not declared. If none of them exist, the whole
+ * project is searched instead, skipping build outputs, VCS metadata and nested modules (any
+ * directory with its own pom.xml, unless the root has none, in which case these modules are all
+ * there is to search).
+ *
+ * <p>Sources generated by the build (by annotation processors or protoc for instance) are searched
+ * as well: each existing subdirectory of {@code target/generated-sources} and {@code
+ * target/generated-test-sources} is a source directory of its own.
+ *
+ * <p>Test sources can be left out, which is what other projects depending on this one see.
+ */
 class MavenProjectFinder {
+  private static final int MAX_DEPTH = 100;
+  private static final String DEFAULT_SOURCE_DIRECTORY = "src/main/java";
+  private static final String DEFAULT_TEST_SOURCE_DIRECTORY = "src/test/java";
+  private static final String GENERATED_SOURCE_DIRECTORY = "target/generated-sources";
+  private static final String GENERATED_TEST_SOURCE_DIRECTORY = "target/generated-test-sources";
+  // Only skipped at the root when searching the whole project, as they could be package names
+  private static final Set<String> BUILD_OUTPUTS = Set.of("target", "build", "out", "bin");
+
   private final Path root;
-  private final List<Path> excluded = new ArrayList<>();
+  private final boolean isModule;
+  private final Set<Path> excluded = new HashSet<>();
+  private boolean withTests = true;
 
   private MavenProjectFinder(Path root) {
     this.root = root;
+    this.isModule = Files.exists(root.resolve("pom.xml"));
   }
 
   static MavenProjectFinder withRoot(Path root) {
@@ -28,11 +59,141 @@ class MavenProjectFinder {
     this.excluded.addAll(Arrays.asList(files));
   }
 
+  /** Only searches the main sources of the project, leaving its test sources out. */
+  MavenProjectFinder withoutTests() {
+    this.withTests = false;
+    return this;
+  }
+
   List<Path> findAll() throws IOException {
-    return Files.find(root, 100, this::nonExcludedJavaFile).collect(Collectors.toList());
+    var found = new ArrayList<Path>();
+    // Without any source directory, main and test sources cannot be told apart
+    if (sourceDirectories(true).isEmpty()) {
+      walk(root, true, found);
+    }
+
+    var sourceDirectories = sourceDirectories(withTests);
+
+    for (var directory : sourceDirectories) {
+      walk(directory, false, found);
+    }
+
+    for (var directory : generatedSourceDirectories(sourceDirectories)) {
+      walk(directory, false, found);
+    }
+
+    return found;
+  }
+
+  // The existing source directories of the project, without duplicates or directories nested in
+  // another one (so that no file is found twice)
+  private List<Path> sourceDirectories(boolean withTests) {
+    var pom =
+        isModule
+            ? Optional.of(MavenPomLoader.load(root.resolve("pom.xml")).pom)
+            : Optional.<FlatPom>empty();
+    var candidates = new LinkedHashSet<Path>();
+    candidates.add(
+        resolve(pom.flatMap(FlatPom::sourceDirectory).orElse(DEFAULT_SOURCE_DIRECTORY)));
+    if (withTests) {
+      candidates.add(
+          resolve(
+              pom.flatMap(FlatPom::testSourceDirectory).orElse(DEFAULT_TEST_SOURCE_DIRECTORY)));
+    }
+
+    var directories = new ArrayList<Path>();
+    for (var candidate : candidates) {
+      if (Files.isDirectory(candidate)
+          && candidates.stream().noneMatch(c -> !c.equals(candidate) && candidate.startsWith(c))) {
+        directories.add(candidate);
+      }
+    }
+
+    return directories;
+  }
+
+  // The existing subdirectories of the generated source directories, but those already searched as
+  // part of a source directory
+  private List<Path> generatedSourceDirectories(List<Path> sourceDirectories) {
+    var directories = new ArrayList<Path>();
+    var generatedDirectories =
+        withTests
+            ? List.of(GENERATED_SOURCE_DIRECTORY, GENERATED_TEST_SOURCE_DIRECTORY)
+            : List.of(GENERATED_SOURCE_DIRECTORY);
+    for (var generated : generatedDirectories) {
+      var parent = root.resolve(generated);
+      if (!Files.isDirectory(parent)) {
+        continue;
+      }
+
+      try (var children = Files.list(parent)) {
+        children
+            .filter(Files::isDirectory)
+            .filter(c -> sourceDirectories.stream().noneMatch(c::startsWith))
+            .sorted()
+            .forEach(directories::add);
+      } catch (IOException e) {
+        // Like other unreadable directories, simply skip it
+      }
+    }
+
+    return directories;
   }
 
-  private boolean nonExcludedJavaFile(Path path, BasicFileAttributes attr) {
-    return path.toString().endsWith(".java") && !excluded.contains(path);
+  private Path resolve(String directory) {
+    var relative = directory.replace("${project.basedir}", "").replace("${basedir}", "");
+    if (relative.startsWith("/") && !relative.equals(directory)) {
+      relative = relative.substring(1);
+    }
+
+    return root.resolve(relative);
+  }
+
+  private void walk(Path start, boolean pruned, List<Path> found) throws IOException {
+    Files.walkFileTree(
+        start,
+        EnumSet.noneOf(FileVisitOption.class),
+        MAX_DEPTH,
+        new SimpleFileVisitor<Path>() {
+          @Override
+          public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+            if (dir.equals(start)) {
+              return FileVisitResult.CONTINUE;
+            }
+
+            return isSkipped(dir, pruned) ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+          }
+
+          @Override
+          public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+            if (file.toString().endsWith(".java") && !excluded.contains(file)) {
+              found.add(file);
+            }
+
+            return FileVisitResult.CONTINUE;
+          }
+
+          @Override
+          public FileVisitResult visitFileFailed(Path file, IOException e) {
+            // An unreadable file or directory should not prevent finding the others
+            return FileVisitResult.CONTINUE;
+          }
+        });
+  }
+
+  private boolean isSkipped(Path dir, boolean pruned) {
+    var name = dir.getFileName().toString();
+    // Hidden directories (.git, .idea...) cannot be packages anyway
+    if (name.startsWith(".")) {
+      return true;
+    }
+
+    if (!pruned) {
+      return false;
+    }
+
+    return name.equals("node_modules")
+        || (dir.getParent().equals(root) && BUILD_OUTPUTS.contains(name))
+        || (isModule && Files.exists(dir.resolve("pom.xml")));
   }
 }
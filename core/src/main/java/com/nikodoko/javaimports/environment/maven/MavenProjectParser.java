@@ -5,7 +5,9 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import com.google.common.base.MoreObjects;
 import com.nikodoko.javaimports.ImporterException;
 import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.common.CancellationToken;
 import com.nikodoko.javaimports.environment.JavaProject;
+import com.nikodoko.javaimports.events.ProjectParseEvent;
 import com.nikodoko.javaimports.parser.ParsedFile;
 import com.nikodoko.javaimports.parser.Parser;
 import java.io.IOException;
@@ -47,6 +49,7 @@ class MavenProjectParser {
     }
   }
 
+  private final Path root;
   private final MavenProjectFinder finder;
   private final Options options;
 
@@ -54,6 +57,7 @@ class MavenProjectParser {
   private final JavaProject project = new JavaProject();
 
   public MavenProjectParser(Path root, Options options) {
+    this.root = root;
     this.finder = MavenProjectFinder.withRoot(root);
     this.options = options;
   }
@@ -64,12 +68,46 @@ class MavenProjectParser {
   }
 
   Result parseAll() {
+    return parse(tryToFindAllFiles());
+  }
+
+  /** Parses the given files only, regardless of exclusions. */
+  Result parse(List<Path> paths) {
+    return parse(paths, CancellationToken.none());
+  }
+
+  /**
+   * Parses the given files only, regardless of exclusions, and throws a {@link
+   * java.util.concurrent.CancellationException} if {@code token} is cancelled in the meantime.
+   */
+  Result parse(List<Path> paths, CancellationToken token) {
+    var event = new ProjectParseEvent();
+    event.begin();
+    try {
+      return parseInParallel(paths, token);
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        event.root = root.toString();
+        event.files = paths.size();
+        event.errors = errors.size();
+        event.commit();
+      }
+    }
+  }
+
+  private Result parseInParallel(List<Path> paths, CancellationToken token) {
     var futures =
-        tryToFindAllFiles().stream()
-            .map(path -> CompletableFuture.supplyAsync(() -> tryToParse(path), options.executor()))
+        paths.stream()
+            .map(
+                path ->
+                    CompletableFuture.supplyAsync(
+                        () -> token.isCancelled() ? skipped() : tryToParse(path),
+                        options.executor(Options.Stage.PARSING)))
             .collect(Collectors.toList());
 
     CompletableFuture.allOf(futures.stream().toArray(CompletableFuture[]::new)).join();
+    token.throwIfCancelled();
     futures.stream()
         .map(CompletableFuture::join)
         .forEach(
@@ -95,6 +133,10 @@ class MavenProjectParser {
     }
   }
 
+  private static Pair<Optional<ParsedFile>, MavenEnvironmentException> skipped() {
+    return new Pair<>(Optional.empty(), null);
+  }
+
   private Pair<Optional<ParsedFile>, MavenEnvironmentException> tryToParse(Path path) {
     try {
       var result = new Pair(parseFile(path), null);
@@ -107,6 +149,7 @@ class MavenProjectParser {
 
   private Optional<ParsedFile> parseFile(Path path) throws IOException, ImporterException {
     String source = new String(Files.readAllBytes(path), UTF_8);
-    return new Parser(options).parse(path, source);
+    // Project files are only used for what they declare
+    return new Parser(options).parseDeclarations(path, source);
   }
 }
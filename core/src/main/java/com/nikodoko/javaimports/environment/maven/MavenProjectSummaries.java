@@ -0,0 +1,113 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.hash.Hashing;
+import com.nikodoko.javaimports.parser.ParsedFile;
+import com.nikodoko.javaimports.parser.ParsedFiles;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Persists the declarations of all files of a project on disk, so that files that did not change
+ * since the last run do not have to be parsed again.
+ *
+ * <p>There is one summary file per project, keyed by the absolute path of its root. Each file in it
+ * is stored along with the modification time of the source file it was parsed from, and should be
+ * ignored if it does not match anymore.
+ */
+class MavenProjectSummaries {
+  // Bump when changing the on-disk format, so that stale summaries are simply ignored
+  private static final int VERSION = 1;
+  private static final String PROJECTS = "projects";
+  private static final String SUMMARY_EXTENSION = ".sum";
+
+  /** A parsed file, along with the modification time of its source when it was parsed. */
+  static final class Summary {
+    final ParsedFile file;
+    final long lastModified;
+
+    Summary(ParsedFile file, long lastModified) {
+      this.file = file;
+      this.lastModified = lastModified;
+    }
+  }
+
+  private final Path directory;
+  private final String root;
+
+  private MavenProjectSummaries(Path directory, String root) {
+    this.directory = directory;
+    this.root = root;
+  }
+
+  /** Returns the {@code MavenProjectSummaries} of the project at {@code root}, stored in cache. */
+  static MavenProjectSummaries in(Path cache, Path root) {
+    return new MavenProjectSummaries(
+        cache.resolve(PROJECTS), root.toAbsolutePath().normalize().toString());
+  }
+
+  /** Returns all persisted summaries by path, or nothing if they cannot be read. */
+  Map<Path, Summary> read() {
+    var summaries = new HashMap<Path, Summary>();
+    var file = summaryFile();
+    if (!Files.exists(file)) {
+      return summaries;
+    }
+
+    try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      if (in.readInt() != VERSION || !root.equals(in.readUTF())) {
+        return summaries;
+      }
+
+      int count = in.readInt();
+      for (int i = 0; i < count; i++) {
+        long lastModified = in.readLong();
+        ParsedFile parsed = ParsedFiles.readDeclarations(in);
+        summaries.put(parsed.path(), new Summary(parsed, lastModified));
+      }
+
+      return summaries;
+    } catch (IOException | RuntimeException e) {
+      // A corrupted or unreadable summary is not a problem, we simply parse everything again
+      return new HashMap<>();
+    }
+  }
+
+  /** Replaces all persisted summaries with {@code summaries}. */
+  void write(Collection<Summary> summaries) {
+    try {
+      Files.createDirectories(directory);
+      var tmp = Files.createTempFile(directory, "project", ".tmp");
+      try {
+        try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+          out.writeInt(VERSION);
+          out.writeUTF(root);
+          out.writeInt(summaries.size());
+          for (var summary : summaries) {
+            out.writeLong(summary.lastModified);
+            ParsedFiles.writeDeclarations(summary.file, out);
+          }
+        }
+
+        MavenDependencyCache.moveAtomically(tmp, summaryFile());
+      } finally {
+        Files.deleteIfExists(tmp);
+      }
+    } catch (IOException e) {
+      // Failing to persist summaries only means that files will be parsed again next time
+    }
+  }
+
+  private Path summaryFile() {
+    return directory.resolve(Hashing.sha256().hashString(root, UTF_8) + SUMMARY_EXTENSION);
+  }
+}
@@ -0,0 +1,180 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The modules of a multi-module Maven build (its reactor), as declared by the {@code <modules>} of
+ * its aggregator POMs, and the dependencies between them.
+ *
+ * <p>A module depending on another module of its reactor should use the sources of this module:
+ * they are what will be compiled against, and the module is not necessarily installed in the local
+ * repository (or only in an outdated version).
+ */
+class MavenReactor {
+  private static final Path POM = Paths.get("pom.xml");
+  // Only these scopes are transitively on the compile classpath of a module
+  private static final Set<String> TRANSITIVE_SCOPES = Set.of("compile");
+
+  private final Path root;
+  // By module root
+  private final Map<Path, FlatPom> poms;
+  // By groupId:artifactId
+  private final Map<String, Path> modules;
+
+  private MavenReactor(Path root, Map<Path, FlatPom> poms) {
+    this.root = root;
+    this.poms = poms;
+    this.modules = new HashMap<>();
+    poms.forEach((module, pom) -> modules.put(key(pom.groupId(), pom.artifactId()), module));
+  }
+
+  /**
+   * Returns the reactor {@code moduleRoot} is a module of, if any. Only aggregators in the parent
+   * directories of {@code moduleRoot} are considered, the topmost one being the root of the
+   * reactor.
+   */
+  static Optional<MavenReactor> containing(Path moduleRoot) {
+    var current = normalize(moduleRoot);
+    Path aggregator = null;
+    for (var parent = current.getParent();
+        parent != null && Files.exists(parent.resolve(POM));
+        parent = parent.getParent()) {
+      var pom = MavenPomLoader.load(parent.resolve(POM)).pom;
+      if (!modulesOf(parent, pom).contains(current)) {
+        break;
+      }
+
+      aggregator = parent;
+      current = parent;
+    }
+
+    if (aggregator == null) {
+      return Optional.empty();
+    }
+
+    var poms = new LinkedHashMap<Path, FlatPom>();
+    var toLoad = new ArrayDeque<Path>(List.of(aggregator));
+    while (!toLoad.isEmpty()) {
+      var module = toLoad.poll();
+      if (poms.containsKey(module) || !Files.exists(module.resolve(POM))) {
+        continue;
+      }
+
+      var pom = MavenPomLoader.load(module.resolve(POM)).pom;
+      poms.put(module, pom);
+      toLoad.addAll(modulesOf(module, pom));
+    }
+
+    return Optional.of(new MavenReactor(aggregator, poms));
+  }
+
+  /** The root of this reactor, where its topmost aggregator POM is. */
+  Path root() {
+    return root;
+  }
+
+  /** Returns {@code true} if {@code dependency} of the module at {@code dependent} is a module. */
+  boolean isModule(MavenDependency dependency, Path dependent) {
+    return moduleOf(dependency, poms.get(normalize(dependent))).isPresent();
+  }
+
+  /**
+   * Returns the roots of the modules of this reactor {@code moduleRoot} depends on, directly (in
+   * any scope) or transitively (in compile scope), excluding {@code moduleRoot} itself.
+   */
+  List<Path> modulesNeededBy(Path moduleRoot) {
+    var needed = new LinkedHashSet<Path>();
+    visitModulesNeededBy(moduleRoot, needed, new HashSet<>());
+    return List.copyOf(needed);
+  }
+
+  /**
+   * Returns the modules among {@link #modulesNeededBy} whose test sources are needed as well, as
+   * they are depended on as a test-jar.
+   */
+  Set<Path> modulesWithTestsNeededBy(Path moduleRoot) {
+    var withTests = new HashSet<Path>();
+    visitModulesNeededBy(moduleRoot, new LinkedHashSet<>(), withTests);
+    return Set.copyOf(withTests);
+  }
+
+  private void visitModulesNeededBy(Path moduleRoot, Set<Path> needed, Set<Path> withTests) {
+    var start = normalize(moduleRoot);
+    var toVisit = new ArrayDeque<Path>();
+    addModules(start, true, needed, withTests, toVisit);
+    while (!toVisit.isEmpty()) {
+      addModules(toVisit.poll(), false, needed, withTests, toVisit);
+    }
+
+    needed.remove(start);
+    withTests.remove(start);
+  }
+
+  private void addModules(
+      Path module,
+      boolean direct,
+      Set<Path> needed,
+      Set<Path> withTests,
+      ArrayDeque<Path> toVisit) {
+    var pom = poms.get(module);
+    if (pom == null) {
+      return;
+    }
+
+    for (var dependency : pom.dependencies()) {
+      if (!direct && !TRANSITIVE_SCOPES.contains(dependency.scope())) {
+        continue;
+      }
+
+      var found = moduleOf(dependency, pom);
+      if (found.isEmpty()) {
+        continue;
+      }
+
+      if (dependency.type().equals(MavenDependency.TEST_JAR)) {
+        withTests.add(found.get());
+      }
+      if (needed.add(found.get())) {
+        toVisit.add(found.get());
+      }
+    }
+  }
+
+  // Modules often depend on each other using the group id of the project
+  private Optional<Path> moduleOf(MavenDependency dependency, FlatPom dependent) {
+    var groupId = dependency.groupId();
+    if (groupId != null && dependent != null && dependent.groupId() != null) {
+      groupId = groupId.replace("${project.groupId}", dependent.groupId());
+    }
+
+    return Optional.ofNullable(modules.get(key(groupId, dependency.artifactId())));
+  }
+
+  private static List<Path> modulesOf(Path module, FlatPom pom) {
+    return pom.modules().stream()
+        .map(m -> module.resolve(m).normalize())
+        // A module can also be declared by the path of its POM
+        .map(m -> m.endsWith(POM) ? m.getParent() : m)
+        .collect(Collectors.toList());
+  }
+
+  private static Path normalize(Path path) {
+    return path.toAbsolutePath().normalize();
+  }
+
+  private static String key(String groupId, String artifactId) {
+    return groupId + ":" + artifactId;
+  }
+}
@@ -0,0 +1,21 @@
+package com.nikodoko.javaimports.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("javaimports.DependencyLoad")
+@Label("Load Dependency")
+@Category("javaimports")
+@Description("Scanning a dependency jar for importable symbols")
+public final class DependencyLoadEvent extends jdk.jfr.Event {
+  @Label("Jar")
+  public String jar;
+
+  @Label("Engine")
+  public String engine;
+
+  @Label("Importable Symbols")
+  public int importables;
+}
@@ -0,0 +1,28 @@
+package com.nikodoko.javaimports.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("javaimports.Fix")
+@Label("Fix")
+@Category("javaimports")
+@Description("An attempt of the fixer to find imports with the information gathered so far")
+public final class FixEvent extends jdk.jfr.Event {
+  @Label("File")
+  public String file;
+
+  @Label("Last Try")
+  @Description("Whether an incomplete result was accepted")
+  public boolean lastTry;
+
+  @Label("Unresolved Identifiers")
+  public int unresolvedIdentifiers;
+
+  @Label("Fixes")
+  public int fixes;
+
+  @Label("Done")
+  public boolean done;
+}
@@ -0,0 +1,22 @@
+package com.nikodoko.javaimports.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("javaimports.Parse")
+@Label("Parse File")
+@Category("javaimports")
+@Description("Parsing a Java file and scanning its AST")
+public final class ParseEvent extends jdk.jfr.Event {
+  @Label("File")
+  public String file;
+
+  @Label("Declarations Only")
+  @Description("Whether only declarations were scanned, as for sibling and project files")
+  public boolean declarationsOnly;
+
+  @Label("Unresolved Identifiers")
+  public int unresolvedIdentifiers;
+}
@@ -0,0 +1,21 @@
+package com.nikodoko.javaimports.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("javaimports.PomLoad")
+@Label("Load POM")
+@Category("javaimports")
+@Description("Reading the dependencies declared in a POM")
+public final class PomLoadEvent extends jdk.jfr.Event {
+  @Label("POM")
+  public String pom;
+
+  @Label("Dependencies")
+  public int dependencies;
+
+  @Label("Failed")
+  public boolean failed;
+}
@@ -0,0 +1,21 @@
+package com.nikodoko.javaimports.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("javaimports.ProjectParse")
+@Label("Parse Project")
+@Category("javaimports")
+@Description("Parsing the files of a project: all of them, or those that changed since last time")
+public final class ProjectParseEvent extends jdk.jfr.Event {
+  @Label("Root")
+  public String root;
+
+  @Label("Files")
+  public int files;
+
+  @Label("Errors")
+  public int errors;
+}
@@ -1,10 +1,13 @@
 package com.nikodoko.javaimports.fixer;
 
 import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.Stats;
 import com.nikodoko.javaimports.common.Identifier;
 import com.nikodoko.javaimports.common.Selector;
 import com.nikodoko.javaimports.environment.Environment;
+import com.nikodoko.javaimports.events.FixEvent;
 import com.nikodoko.javaimports.fixer.candidates.BasicCandidateSelectionStrategy;
+import com.nikodoko.javaimports.fixer.candidates.BestCandidates;
 import com.nikodoko.javaimports.fixer.candidates.Candidate;
 import com.nikodoko.javaimports.fixer.candidates.CandidateFinder;
 import com.nikodoko.javaimports.fixer.candidates.CandidateSelectionStrategy;
@@ -15,6 +18,7 @@ import com.nikodoko.javaimports.parser.Import;
 import com.nikodoko.javaimports.parser.ParsedFile;
 import com.nikodoko.javaimports.stdlib.StdlibProvider;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -36,6 +40,7 @@ public class Fixer {
   private static Logger log = Logger.getLogger(Fixer.class.getName());
 
   private Loader loader;
+  private final Set<Candidate.Source> skipped = EnumSet.noneOf(Candidate.Source.class);
 
   private Fixer(ParsedFile file, Options options) {
     this.file = file;
@@ -89,17 +94,45 @@ public class Fixer {
     candidates.add(Candidate.Source.EXTERNAL, environment);
   }
 
+  /**
+   * Records that a provider could not be added in time. Results will still be computed with the
+   * other providers, but will report it as skipped.
+   */
+  public void skip(Candidate.Source source) {
+    skipped.add(source);
+  }
+
   private Result loadAndTryToFix(boolean lastTry) {
+    var event = new FixEvent();
+    event.begin();
+    Result result;
+    try (var span = options.stats().start(Stats.Phase.FIX, lastTry ? "lastTryToFix" : "tryToFix")) {
+      result = loadAndFix(lastTry);
+    }
+    event.end();
+    if (event.shouldCommit()) {
+      event.file = String.valueOf(file.path());
+      event.lastTry = lastTry;
+      event.unresolvedIdentifiers = loader.result().unresolved.size();
+      event.fixes = result.fixes().size();
+      event.done = result.done();
+      event.commit();
+    }
+
+    return result;
+  }
+
+  private Result loadAndFix(boolean lastTry) {
     loader.load();
     if (options.debug()) {
       log.info("load completed: " + loader.result().toString());
     }
 
     if (loader.result().isEmpty()) {
-      return Result.complete();
+      return Result.complete().skipping(skipped);
     }
 
-    return fix(lastTry);
+    return fix(lastTry).skipping(skipped);
   }
 
   // Given an intermediate load result, use all the candidates gathered so far to find imports to
@@ -149,8 +182,23 @@ public class Fixer {
 
   private Set<Import> findFixes(Set<Identifier> unresolved, Collection<Import> current) {
     var selectors = unresolved.stream().map(Selector::of).collect(Collectors.toList());
-    var candidates = selectors.stream().map(this.candidates::find).reduce(Candidates::merge).get();
-    var best = new BasicCandidateSelectionStrategy(file.pkg()).selectBest(candidates);
+    Candidates candidates;
+    try (var span = options.stats().start(Stats.Phase.FIND_CANDIDATES)) {
+      candidates = selectors.stream().map(this.candidates::find).reduce(Candidates::merge).get();
+    }
+
+    if (options.stats().isEnabled()) {
+      options
+          .stats()
+          .add(
+              Stats.Counter.CANDIDATES_CONSIDERED,
+              selectors.stream().mapToLong(s -> candidates.getFor(s).size()).sum());
+    }
+
+    BestCandidates best;
+    try (var span = options.stats().start(Stats.Phase.SELECT_CANDIDATES)) {
+      best = new BasicCandidateSelectionStrategy(file.pkg()).selectBest(candidates);
+    }
 
     return selectors.stream()
         .map(best::forSelector)
@@ -1,7 +1,9 @@
 package com.nikodoko.javaimports.fixer;
 
 import com.google.common.base.MoreObjects;
+import com.nikodoko.javaimports.fixer.candidates.Candidate;
 import com.nikodoko.javaimports.parser.Import;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -9,6 +11,7 @@ import java.util.Set;
 public class Result {
   private boolean done;
   private Set<Import> fixes = new HashSet<>();
+  private Set<Candidate.Source> skipped = EnumSet.noneOf(Candidate.Source.class);
 
   private Result(boolean done) {
     this.done = done;
@@ -35,6 +38,19 @@ public class Result {
     return done;
   }
 
+  /**
+   * The providers that were not used to compute this {@code Result} because they were not ready in
+   * time. If not empty, this {@code Result} is only a best effort.
+   */
+  public Set<Candidate.Source> skipped() {
+    return skipped;
+  }
+
+  Result skipping(Set<Candidate.Source> skipped) {
+    this.skipped = EnumSet.copyOf(skipped);
+    return this;
+  }
+
   static Result incomplete(Set<Import> fixes) {
     return new Result(false, fixes);
   }
@@ -53,6 +69,10 @@ public class Result {
 
   /** Debugging support. */
   public String toString() {
-    return MoreObjects.toStringHelper(this).add("done", done).add("fixes", fixes).toString();
+    return MoreObjects.toStringHelper(this)
+        .add("done", done)
+        .add("fixes", fixes)
+        .add("skipped", skipped)
+        .toString();
   }
 }
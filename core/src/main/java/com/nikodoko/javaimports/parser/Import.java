@@ -51,6 +51,10 @@ public class Import {
     return qualifier;
   }
 
+  public boolean isStatic() {
+    return isStatic;
+  }
+
   public int pathLength() {
     return qualifier.split("\\.").length;
   }
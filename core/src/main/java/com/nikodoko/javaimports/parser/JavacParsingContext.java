@@ -0,0 +1,139 @@
+package com.nikodoko.javaimports.parser;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.collect.ImmutableList;
+import com.nikodoko.javaimports.ImporterException;
+import com.sun.tools.javac.file.JavacFileManager;
+import com.sun.tools.javac.parser.JavacParser;
+import com.sun.tools.javac.parser.ParserFactory;
+import com.sun.tools.javac.tree.JCTree.JCCompilationUnit;
+import com.sun.tools.javac.util.Context;
+import com.sun.tools.javac.util.Log;
+import java.io.IOError;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticListener;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * The javac objects needed to parse a file, which are expensive to create and can be reused from
+ * one file to the next.
+ *
+ * <p>A {@code JavacParsingContext} is not thread safe: {@link #forCurrentThread()} returns one that
+ * is confined to the calling thread. The log would otherwise keep the source of each parsed file,
+ * so it forgets them after each parse. Other javac objects keep growing with each parsed file (the
+ * name table for instance), so each thread starts over with a fresh context every {@code MAX_USES}
+ * files. Virtual threads are not reused, so they get a fresh context for each task.
+ */
+final class JavacParsingContext {
+  private static final int MAX_USES = 1000;
+  private static final ThreadLocal<JavacParsingContext> contexts =
+      ThreadLocal.withInitial(JavacParsingContext::new);
+
+  private final List<Diagnostic<? extends JavaFileObject>> diagnostics = new ArrayList<>();
+  private final ReusableLog log;
+  private final ParserFactory parserFactory;
+  private int uses = 0;
+
+  JavacParsingContext() {
+    Context ctx = new Context();
+    ctx.put(DiagnosticListener.class, (DiagnosticListener<JavaFileObject>) diagnostics::add);
+    // Registers itself, so it has to be created before anything using the log
+    this.log = new ReusableLog(ctx);
+    JavacFileManager fileManager = new JavacFileManager(ctx, true, UTF_8);
+
+    try {
+      fileManager.setLocation(StandardLocation.PLATFORM_CLASS_PATH, ImmutableList.of());
+    } catch (IOException e) {
+      // impossible
+      throw new IOError(e);
+    }
+
+    this.parserFactory = ParserFactory.instance(ctx);
+  }
+
+  /** Returns a context that can only be used by the calling thread. */
+  static JavacParsingContext forCurrentThread() {
+    JavacParsingContext context = contexts.get();
+    if (context.uses >= MAX_USES) {
+      context = new JavacParsingContext();
+      contexts.set(context);
+    }
+
+    return context;
+  }
+
+  /** Parses {@code javaCode}, throwing if it contains syntax errors. */
+  JCCompilationUnit parse(final String filename, final String javaCode) throws ImporterException {
+    uses++;
+    try {
+      return parseUnit(filename, javaCode);
+    } finally {
+      // Forget about this file
+      diagnostics.clear();
+      log.forgetSources();
+    }
+  }
+
+  // The number of files the log still knows of
+  int sourcesKept() {
+    return log.sourcesKept();
+  }
+
+  private JCCompilationUnit parseUnit(final String filename, final String javaCode)
+      throws ImporterException {
+    // This is used by the parser to report syntax errors (the parser will refer to this file)
+    SimpleJavaFileObject source =
+        new SimpleJavaFileObject(URI.create("source"), JavaFileObject.Kind.SOURCE) {
+          @Override
+          public CharSequence getCharContent(boolean ignoreEncodingErrors) throws IOException {
+            return javaCode;
+          }
+        };
+    log.useSource(source);
+
+    // It is necessary to set keepEndPos to true in order to retrieve the end position of
+    // expressions like the package clause, etc.
+    JavacParser parser = parserFactory.newParser(javaCode, false, /*keepEndPos=*/ true, false);
+    JCCompilationUnit unit = parser.parseCompilationUnit();
+    unit.sourcefile = source;
+
+    List<Diagnostic<? extends JavaFileObject>> errorDiagnostics =
+        diagnostics.stream()
+            .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+            .collect(Collectors.toList());
+
+    if (!errorDiagnostics.isEmpty()) {
+      throw ImporterException.fromDiagnostics(filename, errorDiagnostics);
+    }
+
+    return unit;
+  }
+
+  // A log that can forget the files it reported on, which it otherwise keeps (along with their
+  // whole content) for as long as it lives
+  private static final class ReusableLog extends Log {
+    ReusableLog(Context context) {
+      super(context);
+    }
+
+    int sourcesKept() {
+      return sourceMap.size();
+    }
+
+    void forgetSources() {
+      useSource(null);
+      sourceMap.clear();
+      recorded.clear();
+      nerrors = 0;
+      nwarnings = 0;
+    }
+  }
+}
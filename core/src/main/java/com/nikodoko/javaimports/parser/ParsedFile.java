@@ -11,6 +11,7 @@ import com.nikodoko.javaimports.parser.internal.Scope;
 import com.sun.tools.javac.tree.JCTree.JCCompilationUnit;
 import com.sun.tools.javac.tree.JCTree.JCExpression;
 import com.sun.tools.javac.tree.JCTree.JCImport;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -25,6 +26,8 @@ import java.util.stream.Stream;
 
 /** An object representing a Java source file. */
 public class ParsedFile implements ImportProvider, ClassProvider {
+  // The path of this file
+  Path path;
   // The name of the package to which this file belongs
   String packageName;
   // The imports in this file
@@ -36,6 +39,8 @@ public class ParsedFile implements ImportProvider, ClassProvider {
   int packageEndPos;
   List<Range<Integer>> duplicates;
   Map<com.nikodoko.javaimports.common.Import, com.nikodoko.javaimports.common.ClassEntity> classes;
+  // The keys of classes, grouped by identifier
+  Map<Identifier, List<com.nikodoko.javaimports.common.Import>> importables = Map.of();
 
   /**
    * A {@code ParsedFile} constructor.
@@ -46,7 +51,7 @@ public class ParsedFile implements ImportProvider, ClassProvider {
    * @param packageEndPos the position of the end of its package clause
    * @param scope its scope (the package scope, but limited to this file)
    */
-  private ParsedFile(
+  ParsedFile(
       String packageName,
       int packageEndPos,
       List<Range<Integer>> duplicates,
@@ -95,6 +100,21 @@ public class ParsedFile implements ImportProvider, ClassProvider {
     return new ParsedFile(packageName, packageEndPos, duplicates, imports);
   }
 
+  /** The path of this {@code ParsedFile} */
+  public Path path() {
+    return path;
+  }
+
+  /**
+   * Sets the path of this {@code ParsedFile}.
+   *
+   * @param path the path to set
+   */
+  public ParsedFile path(Path path) {
+    this.path = path;
+    return this;
+  }
+
   /** The position of the end of this {@code ParsedFile}'s package clause */
   public int packageEndPos() {
     return packageEndPos;
@@ -141,6 +161,8 @@ public class ParsedFile implements ImportProvider, ClassProvider {
                     // We should not get 2 classes with the exact same import coming from one file.
                     // Should probably spit out a log if we do
                     (a, b) -> a));
+    this.importables =
+        classes.keySet().stream().collect(Collectors.groupingBy(i -> i.selector.identifier()));
     return this;
   }
 
@@ -174,9 +196,12 @@ public class ParsedFile implements ImportProvider, ClassProvider {
   // TODO: maybe have a SiblingFile with the below findImports, and make this the default
   // findImports of ParsedFile
   public Collection<com.nikodoko.javaimports.common.Import> findImportables(Identifier identifier) {
-    var importables =
-        classes.keySet().stream().collect(Collectors.groupingBy(i -> i.selector.identifier()));
-    return Optional.ofNullable(importables.get(identifier)).orElse(List.of());
+    return importables.getOrDefault(identifier, List.of());
+  }
+
+  /** The identifiers of all classes that can be imported from this file. */
+  public Set<Identifier> importableIdentifiers() {
+    return importables.keySet();
   }
 
   // TODO: remove
@@ -191,6 +216,7 @@ public class ParsedFile implements ImportProvider, ClassProvider {
   /** Debugging support. */
   public String toString() {
     return MoreObjects.toStringHelper(this)
+        .add("path", path)
         .add("packageName", packageName)
         .add("imports", imports)
         .add("topScope", topScope)
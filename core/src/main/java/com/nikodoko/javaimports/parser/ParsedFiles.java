@@ -0,0 +1,164 @@
+package com.nikodoko.javaimports.parser;
+
+import com.google.common.hash.Funnels;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.nikodoko.javaimports.parser.internal.ClassEntity;
+import com.nikodoko.javaimports.parser.internal.ClassSelector;
+import com.nikodoko.javaimports.parser.internal.ClassSelectors;
+import com.nikodoko.javaimports.parser.internal.Scope;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Utility methods for {@link ParsedFile}.
+ *
+ * <p>Files can be written to and read back from a binary stream, but only what {@link
+ * Parser#parseDeclarations} extracts is kept: they should not be fixed once read back. What is
+ * written does not depend on the order in which declarations were found, so that it can be hashed.
+ */
+public class ParsedFiles {
+  /** Writes the declarations of {@code file} to {@code out}. */
+  public static void writeDeclarations(ParsedFile file, DataOutput out) throws IOException {
+    out.writeUTF(file.path.toString());
+    out.writeUTF(file.packageName);
+    out.writeInt(file.packageEndPos);
+
+    List<Import> imports = new ArrayList<>(file.imports.values());
+    imports.sort(Comparator.comparing(i -> i.name));
+    out.writeInt(imports.size());
+    for (Import i : imports) {
+      out.writeUTF(i.name);
+      out.writeUTF(i.qualifier);
+      out.writeBoolean(i.isStatic);
+    }
+
+    writeStrings(sorted(file.topScope.identifiers), out);
+    writeChilds(file.classHierarchy, out);
+  }
+
+  /**
+   * Hashes the declarations of {@code file} as written by {@link #writeDeclarations}, so that a
+   * file has the same hash whether it was parsed or read back.
+   */
+  public static HashCode hashDeclarations(ParsedFile file) {
+    Hasher hasher = Hashing.sha256().newHasher();
+    try (DataOutputStream out = new DataOutputStream(Funnels.asOutputStream(hasher))) {
+      writeDeclarations(file, out);
+    } catch (IOException e) {
+      // Hashers do not throw
+      throw new UncheckedIOException(e);
+    }
+
+    return hasher.hash();
+  }
+
+  /** Reads back a file written by {@link #writeDeclarations}. */
+  public static ParsedFile readDeclarations(DataInput in) throws IOException {
+    var path = Paths.get(in.readUTF());
+    var packageName = in.readUTF();
+    var packageEndPos = in.readInt();
+
+    int count = in.readInt();
+    Map<String, Import> imports = new HashMap<>();
+    for (int i = 0; i < count; i++) {
+      var imported = new Import(in.readUTF(), in.readUTF(), in.readBoolean());
+      imports.put(imported.name, imported);
+    }
+
+    var topScope = new Scope();
+    topScope.identifiers = readStrings(in);
+    var root = ClassHierarchies.root();
+    readChilds(root, in);
+
+    return new ParsedFile(packageName, packageEndPos, List.of(), imports)
+        .path(path)
+        .topScope(topScope)
+        .classHierarchy(root);
+  }
+
+  private static void writeChilds(ClassHierarchy hierarchy, DataOutput out) throws IOException {
+    List<ClassHierarchy> childs = new ArrayList<>();
+    hierarchy.childs().forEach(childs::add);
+    childs.sort(Comparator.comparing(c -> c.entity().name()));
+    out.writeInt(childs.size());
+    for (ClassHierarchy child : childs) {
+      ClassEntity entity = child.entity();
+      out.writeUTF(entity.name());
+      writeStrings(sorted(entity.members()), out);
+
+      List<String> superclass = new ArrayList<>();
+      Optional<ClassSelector> selector = entity.superclass();
+      while (selector.isPresent()) {
+        superclass.add(selector.get().selector());
+        selector = selector.get().next();
+      }
+      writeStrings(superclass, out);
+
+      writeChilds(child, out);
+    }
+  }
+
+  private static void readChilds(ClassHierarchy hierarchy, DataInput in) throws IOException {
+    int count = in.readInt();
+    for (int i = 0; i < count; i++) {
+      String name = in.readUTF();
+      Set<String> members = readStrings(in);
+      List<String> superclass = readList(in);
+      ClassEntity entity =
+          superclass.isEmpty()
+              ? ClassEntity.named(name)
+              : ClassEntity.namedAndExtending(
+                  name,
+                  ClassSelectors.of(
+                      superclass.get(0),
+                      superclass.subList(1, superclass.size()).toArray(new String[0])));
+
+      ClassHierarchy child = hierarchy.moveTo(entity.members(members));
+      readChilds(child, in);
+    }
+  }
+
+  private static void writeStrings(Iterable<String> strings, DataOutput out) throws IOException {
+    List<String> all = new ArrayList<>();
+    strings.forEach(all::add);
+    out.writeInt(all.size());
+    for (String s : all) {
+      out.writeUTF(s);
+    }
+  }
+
+  private static List<String> sorted(Iterable<String> strings) {
+    List<String> all = new ArrayList<>();
+    strings.forEach(all::add);
+    all.sort(Comparator.naturalOrder());
+    return all;
+  }
+
+  private static Set<String> readStrings(DataInput in) throws IOException {
+    return new HashSet<>(readList(in));
+  }
+
+  private static List<String> readList(DataInput in) throws IOException {
+    int count = in.readInt();
+    List<String> strings = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      strings.add(in.readUTF());
+    }
+
+    return strings;
+  }
+}
@@ -1,32 +1,15 @@
 package com.nikodoko.javaimports.parser;
 
-import static java.nio.charset.StandardCharsets.UTF_8;
-
-import com.google.common.collect.ImmutableList;
 import com.nikodoko.javaimports.ImporterException;
 import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.Stats;
+import com.nikodoko.javaimports.events.ParseEvent;
 import com.nikodoko.javaimports.parser.internal.UnresolvedIdentifierScanner;
-import com.sun.tools.javac.file.JavacFileManager;
-import com.sun.tools.javac.parser.JavacParser;
-import com.sun.tools.javac.parser.ParserFactory;
 import com.sun.tools.javac.tree.JCTree.JCCompilationUnit;
-import com.sun.tools.javac.util.Context;
-import com.sun.tools.javac.util.Log;
-import java.io.IOError;
-import java.io.IOException;
-import java.net.URI;
 import java.nio.file.Path;
 import java.time.Clock;
-import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
-import javax.tools.Diagnostic;
-import javax.tools.DiagnosticCollector;
-import javax.tools.DiagnosticListener;
-import javax.tools.JavaFileObject;
-import javax.tools.SimpleJavaFileObject;
-import javax.tools.StandardLocation;
 
 /**
  * An "improved" Java parser, that parses the code and analyzes the resulting AST using an {@link
@@ -58,7 +41,54 @@ public class Parser {
    */
   public Optional<ParsedFile> parse(final Path filename, final String javaCode)
       throws ImporterException {
+    return parse(filename, javaCode, new UnresolvedIdentifierScanner(), false);
+  }
+
+  /**
+   * Parse the given input (Java code) into a {@link ParsedFile} containing only its declarations.
+   *
+   * <p>This is cheaper than {@link #parse}, but the resulting file does not have any unresolved
+   * identifiers: it can be used to fix other files (as a sibling or a project file), but should not
+   * be fixed itself.
+   *
+   * @return an optional containing the parsed file, or nothing if the input is empty or contains
+   *     only comments
+   * @param javaCode the input code
+   * @throws ImporterException if the input cannot be parsed
+   */
+  public Optional<ParsedFile> parseDeclarations(final Path filename, final String javaCode)
+      throws ImporterException {
+    return parse(filename, javaCode, UnresolvedIdentifierScanner.declarationsOnly(), true);
+  }
+
+  private Optional<ParsedFile> parse(
+      final Path filename,
+      final String javaCode,
+      UnresolvedIdentifierScanner scanner,
+      boolean declarationsOnly)
+      throws ImporterException {
+    ParseEvent event = new ParseEvent();
+    event.begin();
+    Optional<ParsedFile> parsed = Optional.empty();
+    try (Stats.Span span = options.stats().start(Stats.Phase.PARSE_FILE, filename)) {
+      parsed = scan(filename, javaCode, scanner);
+      return parsed;
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        event.file = filename.toString();
+        event.declarationsOnly = declarationsOnly;
+        event.unresolvedIdentifiers = parsed.map(f -> f.notYetResolved().size()).orElse(0);
+        event.commit();
+      }
+    }
+  }
+
+  private Optional<ParsedFile> scan(
+      final Path filename, final String javaCode, UnresolvedIdentifierScanner scanner)
+      throws ImporterException {
     long start = clock.millis();
+    options.stats().increment(Stats.Counter.FILES_PARSED);
     // Parse the code into a compilation unit containing the AST
     JCCompilationUnit unit = getCompilationUnit(filename.toString(), javaCode);
     // A lot of what we do relies on having a package clause, consider the file empty if it does not
@@ -68,11 +98,11 @@ public class Parser {
     }
 
     // Scan the AST
-    UnresolvedIdentifierScanner scanner = new UnresolvedIdentifierScanner();
     scanner.scan(unit, null);
 
     // Wrap the results in a ParsedFile
     ParsedFile f = ParsedFile.fromCompilationUnit(unit);
+    f.path(filename);
     f.topScope(scanner.topScope());
     f.classHierarchy(scanner.topClass());
     if (options.debug()) {
@@ -82,53 +112,71 @@ public class Parser {
     return Optional.of(f);
   }
 
-  /** Return true if the diagnostic is an error diagnostic. */
-  private static boolean isErrorDiagnostic(Diagnostic<?> d) {
-    return d.getKind() == Diagnostic.Kind.ERROR;
-  }
+  /**
+   * Finds the package of {@code javaCode} by looking only at its first tokens, which is much
+   * cheaper than parsing it. The package of a file without package clause is the empty string.
+   *
+   * @return the package, or nothing if it cannot be found this way (for instance if the package
+   *     clause is annotated), in which case the file should simply be parsed
+   */
+  public static Optional<String> peekPackageName(final String javaCode) {
+    int pos = skipWhitespaceAndComments(javaCode, 0);
+    if (pos < 0 || javaCode.startsWith("@", pos)) {
+      return Optional.empty();
+    }
 
-  // This should not be public, but is used in test
-  public static JCCompilationUnit getCompilationUnit(final String filename, final String javaCode)
-      throws ImporterException {
-    Context ctx = new Context();
-    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
-    ctx.put(DiagnosticListener.class, diagnostics);
-    JCCompilationUnit unit;
-    JavacFileManager fileManager = new JavacFileManager(ctx, true, UTF_8);
-
-    try {
-      fileManager.setLocation(StandardLocation.PLATFORM_CLASS_PATH, ImmutableList.of());
-    } catch (IOException e) {
-      // impossible
-      throw new IOError(e);
+    if (!javaCode.startsWith("package", pos)
+        || (pos + 7 < javaCode.length()
+            && Character.isJavaIdentifierPart(javaCode.charAt(pos + 7)))) {
+      return Optional.of("");
     }
 
-    // This is used by the parser to report syntax errors (the parser will refer to this file)
-    SimpleJavaFileObject source =
-        new SimpleJavaFileObject(URI.create("source"), JavaFileObject.Kind.SOURCE) {
-          @Override
-          public CharSequence getCharContent(boolean ignoreEncodingErrors) throws IOException {
-            return javaCode;
-          }
-        };
-    Log.instance(ctx).useSource(source);
-
-    ParserFactory parserFactory = ParserFactory.instance(ctx);
-    // It is necessary to set keepEndPos to true in order to retrieve the end position of
-    // expressions like the package clause, etc.
-    JavacParser parser = parserFactory.newParser(javaCode, false, /*keepEndPos=*/ true, false);
-    unit = parser.parseCompilationUnit();
-    unit.sourcefile = source;
-
-    List<Diagnostic<? extends JavaFileObject>> errorDiagnostics =
-        diagnostics.getDiagnostics().stream()
-            .filter(Parser::isErrorDiagnostic)
-            .collect(Collectors.toList());
-
-    if (!errorDiagnostics.isEmpty()) {
-      throw ImporterException.fromDiagnostics(filename, errorDiagnostics);
+    StringBuilder pkg = new StringBuilder();
+    pos += "package".length();
+    while ((pos = skipWhitespaceAndComments(javaCode, pos)) >= 0 && pos < javaCode.length()) {
+      char c = javaCode.charAt(pos);
+      if (c == ';') {
+        return pkg.length() == 0 ? Optional.empty() : Optional.of(pkg.toString());
+      }
+
+      if (c != '.' && !Character.isJavaIdentifierPart(c)) {
+        return Optional.empty();
+      }
+
+      pkg.append(c);
+      pos++;
     }
 
-    return unit;
+    return Optional.empty();
+  }
+
+  // Returns the position of the first character that is not whitespace nor part of a comment, or
+  // -1 if a comment is not terminated
+  private static int skipWhitespaceAndComments(String code, int pos) {
+    while (pos < code.length()) {
+      char c = code.charAt(pos);
+      if (Character.isWhitespace(c) || c == '\uFEFF') {
+        pos++;
+      } else if (code.startsWith("//", pos)) {
+        int end = code.indexOf('\n', pos);
+        pos = end < 0 ? code.length() : end + 1;
+      } else if (code.startsWith("/*", pos)) {
+        int end = code.indexOf("*/", pos + 2);
+        if (end < 0) {
+          return -1;
+        }
+        pos = end + 2;
+      } else {
+        break;
+      }
+    }
+
+    return pos;
+  }
+
+  // This should not be public, but is used in test
+  public static JCCompilationUnit getCompilationUnit(final String filename, final String javaCode)
+      throws ImporterException {
+    return JavacParsingContext.forCurrentThread().parse(filename, javaCode);
   }
 }
@@ -54,10 +54,31 @@ import javax.lang.model.element.Modifier;
  * <p>Note that this will not consider any imports already present in the AST, meaning that all
  * identifiers referring to imported packages will be marked as unresolved (this is because {@link
  * com.sun.source.tree.ImportTree} does not contain the imported name).
+ *
+ * <p>When only the declarations of a file are of interest (as is the case for files that are not
+ * being fixed), a scanner created with {@link #declarationsOnly()} does not look into method bodies
+ * and initializers, and does not record unresolved identifiers at all.
  */
 public class UnresolvedIdentifierScanner extends TreePathScanner<Void, Void> {
   private Scope topScope = new Scope();
   private ClassHierarchy topClass = ClassHierarchies.root();
+  private final boolean declarationsOnly;
+
+  public UnresolvedIdentifierScanner() {
+    this(false);
+  }
+
+  private UnresolvedIdentifierScanner(boolean declarationsOnly) {
+    this.declarationsOnly = declarationsOnly;
+  }
+
+  /**
+   * Returns a scanner that only records declarations: the classes (along with their members and
+   * superclasses) and the top level identifiers of the file.
+   */
+  public static UnresolvedIdentifierScanner declarationsOnly() {
+    return new UnresolvedIdentifierScanner(true);
+  }
 
   /** The top level scope of this scanner. */
   public Scope topScope() {
@@ -90,6 +111,11 @@ public class UnresolvedIdentifierScanner extends TreePathScanner<Void, Void> {
   // then visitBlock will handle them nicely without the need to individually override visitIf
   @Override
   public Void visitBlock(BlockTree tree, Void v) {
+    // In declarations only mode, the only blocks we can reach are initializer blocks
+    if (declarationsOnly) {
+      return null;
+    }
+
     return withScope(super::visitBlock).apply(tree, v);
   }
 
@@ -172,6 +198,10 @@ public class UnresolvedIdentifierScanner extends TreePathScanner<Void, Void> {
     // the function's own scope
     String name = tree.getName().toString();
     declare(name);
+    if (declarationsOnly) {
+      return null;
+    }
+
     return withScope(this::visitMethodTypeParametersFirst).apply(tree, v);
   }
 
@@ -194,6 +224,13 @@ public class UnresolvedIdentifierScanner extends TreePathScanner<Void, Void> {
     ClassEntity newClass = createClassEntity(tree);
     declare(newClass.name());
     openClassScope(newClass);
+    if (declarationsOnly) {
+      // Type parameters are declared in the class scope, and thus end up in its members
+      Void r = scan(tree.getTypeParameters(), v);
+      r = scanAndReduce(tree.getMembers(), v, r);
+      closeClassScope(newClass);
+      return r;
+    }
 
     // Do not scan the extends clause again, as we handle it separately and do not want to get
     // unresolved identifiers
@@ -233,11 +270,19 @@ public class UnresolvedIdentifierScanner extends TreePathScanner<Void, Void> {
   public Void visitVariable(VariableTree tree, Void v) {
     String name = tree.getName().toString();
     declare(name);
+    if (declarationsOnly) {
+      return null;
+    }
+
     return super.visitVariable(tree, v);
   }
 
   @Override
   public Void visitIdentifier(IdentifierTree tree, Void unused) {
+    if (declarationsOnly) {
+      return null;
+    }
+
     // Try to resolve the identifier, if it fails add it to unresolved for the current scope
     String name = tree.getName().toString();
     if (!resolvable(name)) {
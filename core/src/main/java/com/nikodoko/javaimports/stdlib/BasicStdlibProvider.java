@@ -9,14 +9,31 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class BasicStdlibProvider implements StdlibProvider {
   private Stdlib stdlib;
+  private Supplier<Optional<String>> version;
   private Map<String, Integer> usedPackages = new HashMap<>();
 
   BasicStdlibProvider(Stdlib stdlib) {
+    this(stdlib, Optional.empty());
+  }
+
+  BasicStdlibProvider(Stdlib stdlib, Optional<String> version) {
+    this(stdlib, () -> version);
+  }
+
+  BasicStdlibProvider(Stdlib stdlib, Supplier<Optional<String>> version) {
     this.stdlib = stdlib;
+    this.version = version;
+  }
+
+  @Override
+  public Optional<String> version() {
+    return version.get();
   }
 
   @Override
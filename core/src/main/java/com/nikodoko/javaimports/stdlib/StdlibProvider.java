@@ -3,9 +3,18 @@ package com.nikodoko.javaimports.stdlib;
 import com.nikodoko.javaimports.common.ImportProvider;
 import com.nikodoko.javaimports.parser.Import;
 import java.util.Map;
+import java.util.Optional;
 
 public interface StdlibProvider extends ImportProvider {
   public Map<String, Import> find(Iterable<String> identifiers);
 
   public boolean isInJavaLang(String identifier);
+
+  /**
+   * Identifies what this stdlib contains (a JDK version for instance), if known. Results computed
+   * with a stdlib of unknown version are never reused.
+   */
+  default Optional<String> version() {
+    return Optional.empty();
+  }
 }
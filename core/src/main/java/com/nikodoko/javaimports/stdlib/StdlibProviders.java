@@ -2,11 +2,14 @@ package com.nikodoko.javaimports.stdlib;
 
 import com.nikodoko.javaimports.common.Identifier;
 import com.nikodoko.javaimports.parser.Import;
-import com.nikodoko.javaimports.stdlib.internal.api.v8.Java8Stdlib;
+import com.nikodoko.javaimports.stdlib.internal.IndexedStdlib;
+import com.nikodoko.javaimports.stdlib.internal.JrtStdlib;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 public class StdlibProviders {
   private static class EmptyStdlibProvider implements StdlibProvider {
@@ -22,6 +25,11 @@ public class StdlibProviders {
       return false;
     }
 
+    @Override
+    public Optional<String> version() {
+      return Optional.of("empty");
+    }
+
     @Override
     public Collection<com.nikodoko.javaimports.common.Import> findImports(Identifier i) {
       return List.of();
@@ -33,6 +41,19 @@ public class StdlibProviders {
   }
 
   public static StdlibProvider java8() {
-    return new BasicStdlibProvider(new Java8Stdlib());
+    return new BasicStdlibProvider(
+        IndexedStdlib.fromResource(IndexedStdlib.JAVA_8), Optional.of("java-8"));
+  }
+
+  /**
+   * Returns the stdlib of the JDK installed at {@code javaHome}, or of the running one if it is
+   * null. Its index is built on first use and persisted in {@code cache}, unless it is null.
+   *
+   * <p>Its version is that of the stdlib actually used, which is the Java 8 one if the JDK cannot
+   * be read, and asking for it loads the stdlib.
+   */
+  public static StdlibProvider jdk(Path javaHome, Path cache) {
+    JrtStdlib stdlib = JrtStdlib.of(javaHome, cache);
+    return new BasicStdlibProvider(stdlib, () -> Optional.of(stdlib.versionInUse()));
   }
 }
@@ -2,277 +2,84 @@ package com.nikodoko.javaimports.stdlib.internal;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
-import com.google.common.collect.Iterables;
-import com.google.common.io.Files;
-import com.google.common.reflect.ClassPath;
-import com.google.common.reflect.ClassPath.ResourceInfo;
-import com.google.googlejavaformat.java.Formatter;
-import com.google.googlejavaformat.java.FormatterException;
+import com.nikodoko.javaimports.parser.Import;
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
-import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.PrintWriter;
-import java.io.StringWriter;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+/**
+ * Generates the binary stdlib indexes read by {@link IndexedStdlib} from the API listings produced
+ * by {@code scripts/getstdlib.go}.
+ */
 public class GenerateStdlib {
-  private static final Path apiPath = Paths.get("api");
-  private static final ClassLoader loader = GenerateStdlib.class.getClassLoader();
+  private static final Path apiDirectory = Paths.get("core/src/main/stdlib");
+  private static final Path indexDirectory = Paths.get("core/src/main/resources/stdlib");
   private static final Pattern apiFileNamePattern = Pattern.compile("java-(?<version>\\d+)\\.txt");
   private static final Pattern importablePattern =
       Pattern.compile("pkg (?<pkg>\\S+) class (?<class>\\S+)(?:, static (?<identifier>\\w+))?");
-  private static final String prefix =
-      "core/src/main/java/com/nikodoko/javaimports/stdlib/internal/";
-  // Adjust to control the output file size (and avoid StackOverflow errors when compiling)
-  private static final int MAX_CHUNK_SIZE = 300;
-
-  private static class Importable {
-    String pkg = "";
-    String name = "";
-    boolean isStatic;
-
-    public void output(PrintWriter out) {
-      out.printf("new Import(\"%s\",\"%s\",%b)", name, pkg, isStatic);
-    }
-  }
-
-  private static interface Exportable {
-    String filename();
-
-    String directory();
-
-    void output(PrintWriter out);
-  }
-
-  private static class JavaApi implements Exportable {
-    static String FILENAME_TEMPLATE = "Java%sStdlib";
-    static String DIRECTORY_TEMPLATE =
-        "core/src/main/java/com/nikodoko/javaimports/stdlib/internal/api/v%s/";
-
-    String version;
-    List<JavaApiChunk> chunks = new ArrayList<>();
-
-    public String filename() {
-      return String.format(FILENAME_TEMPLATE, version);
-    }
-
-    public String directory() {
-      return String.format(DIRECTORY_TEMPLATE, version);
-    }
-
-    private String[] header() {
-      return new String[] {
-        "// Code generated by GenerateStdlib.java. DO NOT EDIT.",
-        String.format("package com.nikodoko.javaimports.stdlib.internal.api.v%s;", version),
-        "import com.nikodoko.javaimports.parser.Import;",
-        "import com.nikodoko.javaimports.stdlib.internal.Stdlib;",
-        String.format("public class %s implements Stdlib {", filename()),
-        "public Import[] getClassesFor(String identifier) {",
-        "Import[] classes = null;",
-      };
-    }
-
-    private String[] footer() {
-      return new String[] {
-        "return null;", "}", "}",
-      };
-    }
-
-    public void output(PrintWriter out) {
-      for (String line : header()) {
-        out.println(line);
-      }
-
-      for (JavaApiChunk chunk : chunks) {
-        out.printf("classes = %s.CLASSES.get(identifier);\n", chunk.filename());
-        out.println("if (classes != null) {");
-        out.println("return classes;");
-        out.println("}");
-      }
-
-      for (String line : footer()) {
-        out.println(line);
-      }
-    }
-  }
-
-  private static class JavaApiChunk implements Exportable {
-    static String FILENAME_TEMPLATE = "Java%sStdlibChunk%d";
-    static String DIRECTORY_TEMPLATE =
-        "core/src/main/java/com/nikodoko/javaimports/stdlib/internal/api/v%s/";
-
-    String version;
-    int number;
-    Map<String, List<Importable>> importables = new HashMap<>();
-
-    public String filename() {
-      return String.format(FILENAME_TEMPLATE, version, number);
-    }
-
-    public String directory() {
-      return String.format(DIRECTORY_TEMPLATE, version);
-    }
-
-    private String[] header() {
-      return new String[] {
-        "// Code generated by GenerateStdlib.java. DO NOT EDIT.",
-        String.format("package com.nikodoko.javaimports.stdlib.internal.api.v%s;", version),
-        "import com.google.common.collect.ImmutableMap;",
-        "import com.nikodoko.javaimports.parser.Import;",
-        "import java.util.Map;",
-        String.format("public class %s {", filename()),
-        "static final Map<String, Import[]> CLASSES = new ImmutableMap.Builder<String, Import[]>()",
-      };
-    }
-
-    private String[] footer() {
-      return new String[] {
-        ".build();", "}",
-      };
-    }
-
-    public void output(PrintWriter out) {
-      for (String line : header()) {
-        out.println(line);
-      }
-
-      for (Map.Entry<String, List<Importable>> importablesOfName : importables.entrySet()) {
-        out.printf(".put(\"%s\", new Import[] {", importablesOfName.getKey());
-        for (Importable i : importablesOfName.getValue()) {
-          i.output(out);
-          out.print(",");
-        }
-        out.print("})\n");
-      }
-
-      for (String line : footer()) {
-        out.println(line);
-      }
-    }
-  }
 
   public static void main(String[] args) {
-    try {
-      List<JavaApi> apis = loadApis();
-      for (JavaApi api : apis) {
-        export(api);
+    try (DirectoryStream<Path> apis = Files.newDirectoryStream(apiDirectory)) {
+      Files.createDirectories(indexDirectory);
+      for (Path api : apis) {
+        Matcher m = apiFileNamePattern.matcher(api.getFileName().toString());
+        if (m.matches()) {
+          export(m.group("version"), loadImportables(api));
+        }
       }
     } catch (Exception e) {
       e.printStackTrace();
     }
   }
 
-  private static List<JavaApi> loadApis() throws IOException {
-    List<JavaApi> apis = new ArrayList<>();
-    for (ResourceInfo resourceInfo : ClassPath.from(loader).getResources()) {
-      Path resourcePath = Paths.get(resourceInfo.getResourceName());
-      Matcher m = apiFileNamePattern.matcher(resourcePath.getFileName().toString());
-      if (m.matches()) {
-        apis.add(loadApi(m.group("version"), resourceInfo.getResourceName()));
-      }
-    }
-
-    return apis;
-  }
-
-  private static JavaApi loadApi(String version, String path) throws IOException {
-    JavaApi api = new JavaApi();
-    api.version = version;
-    try (InputStream stream = loader.getResourceAsStream(path)) {
-      BufferedReader reader = new BufferedReader(new InputStreamReader(stream));
-      api.chunks = split(version, loadImportables(reader));
-    }
-
-    return api;
-  }
-
-  private static List<JavaApiChunk> split(
-      String version, Map<String, List<Importable>> importables) {
-    List<JavaApiChunk> chunks = new ArrayList<>();
-    Iterable<List<String>> identifiersChunks =
-        Iterables.partition(importables.keySet(), MAX_CHUNK_SIZE);
-    int i = 0;
-    for (List<String> identifiersChunk : identifiersChunks) {
-      JavaApiChunk chunk = new JavaApiChunk();
-      chunk.version = version;
-      chunk.number = i++;
-      for (String identifier : identifiersChunk) {
-        chunk.importables.put(identifier, importables.get(identifier));
-      }
-
-      chunks.add(chunk);
-    }
-
-    return chunks;
-  }
-
-  private static Map<String, List<Importable>> loadImportables(BufferedReader reader)
-      throws IOException {
-    Map<String, List<Importable>> importables = new HashMap<>();
-    String line;
-    while ((line = reader.readLine()) != null) {
-      Matcher m = importablePattern.matcher(line);
-      if (!m.matches()) {
-        continue;
-      }
+  private static Map<String, List<Import>> loadImportables(Path api) throws IOException {
+    // Keep the order of the listing, as the first import found for an identifier is preferred
+    Map<String, List<Import>> importables = new LinkedHashMap<>();
+    try (BufferedReader reader = Files.newBufferedReader(api, UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        Matcher m = importablePattern.matcher(line);
+        if (!m.matches()) {
+          continue;
+        }
 
-      Importable importable = loadImportable(m);
-      List<Importable> importablesOfSameName = importables.get(importable.name);
-      if (importablesOfSameName == null) {
-        importablesOfSameName = new ArrayList<>();
+        Import importable = loadImportable(m);
+        importables.computeIfAbsent(importable.name(), k -> new ArrayList<>()).add(importable);
       }
-
-      importablesOfSameName.add(importable);
-      importables.put(importable.name, importablesOfSameName);
     }
 
     return importables;
   }
 
-  private static Importable loadImportable(Matcher match) {
-    Importable importable = new Importable();
+  private static Import loadImportable(Matcher match) {
     String pkg = match.group("pkg");
     String className = match.group("class");
     String identifier = match.group("identifier");
     if (identifier == null) {
-      importable.isStatic = false;
-      importable.pkg = pkg;
-      importable.name = className;
-      return importable;
+      return new Import(className, pkg, false);
     }
 
     // in the case of a static import, we want to be able to address it by its identifier and not
     // className.identifier
-    importable.isStatic = true;
-    importable.pkg = String.join(".", pkg, className);
-    importable.name = identifier;
-    return importable;
+    return new Import(identifier, String.join(".", pkg, className), true);
   }
 
-  private static void export(JavaApi api) throws FormatterException, IOException {
-    for (JavaApiChunk chunk : api.chunks) {
-      exportToFile(chunk);
+  private static void export(String version, Map<String, List<Import>> importables)
+      throws IOException {
+    Path index = indexDirectory.resolve(String.format("java-%s.idx", version));
+    try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(index))) {
+      IndexedStdlib.write(importables, out);
     }
-
-    exportToFile(api);
-  }
-
-  private static void exportToFile(Exportable exportable) throws FormatterException, IOException {
-    StringWriter writer = new StringWriter();
-    PrintWriter out = new PrintWriter(writer);
-    exportable.output(out);
-    String formatted = new Formatter().formatSourceAndFixImports(writer.toString());
-    File f = new File(exportable.directory() + exportable.filename() + ".java");
-    Files.createParentDirs(f);
-    Files.asCharSink(f, UTF_8).write(formatted);
   }
 }
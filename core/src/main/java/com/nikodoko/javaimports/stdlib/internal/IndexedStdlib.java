@@ -0,0 +1,262 @@
+package com.nikodoko.javaimports.stdlib.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.nikodoko.javaimports.parser.Import;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Stdlib} backed by a compact binary index, loaded in a single buffer on first use.
+ *
+ * <p>The index is made of a pool of all strings (identifiers and qualifiers), the list of imports
+ * of each identifier, and an open addressing hash table keyed by {@link String#hashCode()} so that
+ * a lookup, hit or miss, only needs to probe a couple of slots. Imports are only materialized for
+ * the identifiers actually looked up. All integers are big endian:
+ *
+ * <pre>
+ * int magic, int version
+ * int stringCount, int[stringCount + 1] stringOffsets, int poolSize, byte[poolSize] pool
+ * int identifierCount, int[identifierCount] names, int[identifierCount + 1] importOffsets
+ * int importCount, int[importCount] imports (qualifier << 1 | isStatic)
+ * int tableSize, int[tableSize] table (identifier + 1, or 0 if empty)
+ * </pre>
+ */
+public class IndexedStdlib implements Stdlib {
+  private static final int MAGIC = 0x4a494458;
+  private static final int VERSION = 1;
+
+  private final Supplier<ByteBuffer> source;
+  private Index index;
+
+  /** The resource holding the index of the Java 8 stdlib. */
+  public static final String JAVA_8 = "/stdlib/java-8.idx";
+
+  IndexedStdlib(Supplier<ByteBuffer> source) {
+    this.source = source;
+  }
+
+  /** Returns an {@code IndexedStdlib} reading the index at {@code resource} on first use. */
+  public static IndexedStdlib fromResource(String resource) {
+    return new IndexedStdlib(() -> readResource(resource));
+  }
+
+  static ByteBuffer readResource(String resource) {
+    try (InputStream in = IndexedStdlib.class.getResourceAsStream(resource)) {
+      if (in == null) {
+        throw new IllegalStateException("missing stdlib index: " + resource);
+      }
+
+      return ByteBuffer.wrap(in.readAllBytes());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  // Whether buffer looks like an index in the current format
+  static boolean isValid(ByteBuffer buffer) {
+    return buffer.limit() >= 8 && buffer.getInt(0) == MAGIC && buffer.getInt(4) == VERSION;
+  }
+
+  /** Returns an {@code IndexedStdlib} reading the index in {@code buffer}. */
+  public static IndexedStdlib fromBuffer(ByteBuffer buffer) {
+    return new IndexedStdlib(() -> buffer);
+  }
+
+  @Override
+  public Import[] getClassesFor(String identifier) {
+    return index().find(identifier);
+  }
+
+  // Loads the index now rather than on first lookup
+  void load() {
+    index();
+  }
+
+  private synchronized Index index() {
+    if (index == null) {
+      index = new Index(source.get());
+    }
+
+    return index;
+  }
+
+  /**
+   * Writes an index of {@code importables} (by identifier) to {@code out}, keeping imports of a
+   * same identifier in the order they are given.
+   */
+  public static void write(Map<String, List<Import>> importables, OutputStream out)
+      throws IOException {
+    Map<String, Integer> strings = new LinkedHashMap<>();
+    List<String> identifiers = new ArrayList<>(importables.keySet());
+    for (String identifier : identifiers) {
+      strings.putIfAbsent(identifier, strings.size());
+      for (Import i : importables.get(identifier)) {
+        strings.putIfAbsent(i.qualifier(), strings.size());
+      }
+    }
+
+    DataOutputStream data = new DataOutputStream(out);
+    data.writeInt(MAGIC);
+    data.writeInt(VERSION);
+
+    List<byte[]> encoded = new ArrayList<>();
+    strings.keySet().forEach(s -> encoded.add(s.getBytes(UTF_8)));
+    data.writeInt(encoded.size());
+    int offset = 0;
+    for (byte[] s : encoded) {
+      data.writeInt(offset);
+      offset += s.length;
+    }
+    data.writeInt(offset);
+    data.writeInt(offset);
+    for (byte[] s : encoded) {
+      data.write(s);
+    }
+
+    data.writeInt(identifiers.size());
+    for (String identifier : identifiers) {
+      data.writeInt(strings.get(identifier));
+    }
+    int importCount = 0;
+    for (String identifier : identifiers) {
+      data.writeInt(importCount);
+      importCount += importables.get(identifier).size();
+    }
+    data.writeInt(importCount);
+    data.writeInt(importCount);
+    for (String identifier : identifiers) {
+      for (Import i : importables.get(identifier)) {
+        data.writeInt(strings.get(i.qualifier()) << 1 | (i.isStatic() ? 1 : 0));
+      }
+    }
+
+    // Keep the table at most half full so that probe sequences stay short
+    int tableSize = Integer.highestOneBit(Math.max(1, identifiers.size() * 2)) * 2;
+    int[] table = new int[tableSize];
+    for (int id = 0; id < identifiers.size(); id++) {
+      int slot = identifiers.get(id).hashCode() & (tableSize - 1);
+      while (table[slot] != 0) {
+        slot = (slot + 1) & (tableSize - 1);
+      }
+      table[slot] = id + 1;
+    }
+    data.writeInt(tableSize);
+    for (int slot : table) {
+      data.writeInt(slot);
+    }
+
+    data.flush();
+  }
+
+  /** Reads the identifiers of an index, along with their imports. For tests and tooling. */
+  public static Map<String, List<Import>> readAll(ByteBuffer buffer) {
+    Index index = new Index(buffer);
+    Map<String, List<Import>> all = new HashMap<>();
+    for (int id = 0; id < index.identifierCount; id++) {
+      String identifier = index.string(index.buffer.getInt(index.names + 4 * id));
+      all.put(identifier, List.of(index.importsOf(id, identifier)));
+    }
+
+    return all;
+  }
+
+  // The offsets of the different sections of an index
+  private static final class Index {
+    final ByteBuffer buffer;
+    final int stringOffsets;
+    final int pool;
+    final int identifierCount;
+    final int names;
+    final int importOffsets;
+    final int imports;
+    final int tableSize;
+    final int table;
+
+    Index(ByteBuffer buffer) {
+      this.buffer = buffer;
+      if (!isValid(buffer)) {
+        throw new IllegalStateException("invalid or unsupported stdlib index");
+      }
+
+      int stringCount = buffer.getInt(8);
+      this.stringOffsets = 12;
+      int poolSize = buffer.getInt(stringOffsets + 4 * (stringCount + 1));
+      this.pool = stringOffsets + 4 * (stringCount + 1) + 4;
+      this.identifierCount = buffer.getInt(pool + poolSize);
+      this.names = pool + poolSize + 4;
+      this.importOffsets = names + 4 * identifierCount;
+      int importCount = buffer.getInt(importOffsets + 4 * (identifierCount + 1));
+      this.imports = importOffsets + 4 * (identifierCount + 1) + 4;
+      this.tableSize = buffer.getInt(imports + 4 * importCount);
+      this.table = imports + 4 * importCount + 4;
+    }
+
+    Import[] find(String identifier) {
+      byte[] key = identifier.getBytes(UTF_8);
+      int mask = tableSize - 1;
+      int slot = identifier.hashCode() & mask;
+      while (true) {
+        int entry = buffer.getInt(table + 4 * slot);
+        if (entry == 0) {
+          return null;
+        }
+
+        if (stringEquals(buffer.getInt(names + 4 * (entry - 1)), key)) {
+          return importsOf(entry - 1, identifier);
+        }
+
+        slot = (slot + 1) & mask;
+      }
+    }
+
+    Import[] importsOf(int id, String identifier) {
+      int start = buffer.getInt(importOffsets + 4 * id);
+      int end = buffer.getInt(importOffsets + 4 * (id + 1));
+      Import[] found = new Import[end - start];
+      for (int i = start; i < end; i++) {
+        int encoded = buffer.getInt(imports + 4 * i);
+        found[i - start] = new Import(identifier, string(encoded >>> 1), (encoded & 1) == 1);
+      }
+
+      return found;
+    }
+
+    String string(int id) {
+      int start = buffer.getInt(stringOffsets + 4 * id);
+      int end = buffer.getInt(stringOffsets + 4 * (id + 1));
+      byte[] bytes = new byte[end - start];
+      for (int i = 0; i < bytes.length; i++) {
+        bytes[i] = buffer.get(pool + start + i);
+      }
+
+      return new String(bytes, UTF_8);
+    }
+
+    private boolean stringEquals(int id, byte[] key) {
+      int start = buffer.getInt(stringOffsets + 4 * id);
+      int end = buffer.getInt(stringOffsets + 4 * (id + 1));
+      if (end - start != key.length) {
+        return false;
+      }
+
+      for (int i = 0; i < key.length; i++) {
+        if (buffer.get(pool + start + i) != key[i]) {
+          return false;
+        }
+      }
+
+      return true;
+    }
+  }
+}
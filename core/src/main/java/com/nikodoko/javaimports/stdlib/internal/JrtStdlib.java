@@ -0,0 +1,315 @@
+package com.nikodoko.javaimports.stdlib.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.nikodoko.javaimports.parser.Import;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.module.ModuleDescriptor;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Builds the stdlib index of a JDK from its {@code jrt:/} filesystem.
+ *
+ * <p>Only public top-level classes of the packages exported by the Java SE modules ({@code java.*})
+ * are indexed, along with their public static fields and methods. As scanning a JDK takes a while,
+ * the resulting index is persisted on disk, keyed by JDK version.
+ *
+ * <p>If the JDK cannot be read, the bundled Java 8 stdlib is used instead, which {@link
+ * #versionInUse()} tells.
+ */
+public class JrtStdlib implements Stdlib {
+  private static final String STDLIB = "stdlib";
+  private static final String INDEX_EXTENSION = ".idx";
+  private static final int ACC_PUBLIC = 0x0001;
+  private static final int ACC_STATIC = 0x0008;
+  private static final int ACC_SYNTHETIC = 0x1000;
+
+  private static final String FALLBACK_VERSION = "java-8";
+
+  private final Path javaHome;
+  private final Path cache;
+  private final IndexedStdlib indexed = new IndexedStdlib(this::load);
+  private volatile String versionInUse;
+
+  private JrtStdlib(Path javaHome, Path cache) {
+    this.javaHome = javaHome;
+    this.cache = cache;
+  }
+
+  /**
+   * Returns the stdlib of the JDK at {@code javaHome}, or of the running one if null. The index is
+   * built on first use, and persisted in {@code cache} unless it is null.
+   */
+  public static JrtStdlib of(Path javaHome, Path cache) {
+    return new JrtStdlib(javaHome, cache);
+  }
+
+  @Override
+  public Import[] getClassesFor(String identifier) {
+    return indexed.getClassesFor(identifier);
+  }
+
+  /**
+   * The version of the stdlib actually in use, loading it if needed: {@code jdk-<version>}, or
+   * {@code java-8} if the JDK could not be read.
+   */
+  public String versionInUse() {
+    indexed.load();
+    return versionInUse;
+  }
+
+  private ByteBuffer load() {
+    try {
+      String version = versionOf(javaHome);
+      versionInUse = "jdk-" + version;
+      Path index =
+          cache == null ? null : cache.resolve(STDLIB).resolve("jdk-" + version + INDEX_EXTENSION);
+      if (index != null && Files.exists(index)) {
+        ByteBuffer persisted = ByteBuffer.wrap(Files.readAllBytes(index));
+        if (IndexedStdlib.isValid(persisted)) {
+          return persisted;
+        }
+      }
+
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      IndexedStdlib.write(scan(), out);
+      byte[] built = out.toByteArray();
+      if (index != null) {
+        persist(index, built);
+      }
+
+      return ByteBuffer.wrap(built);
+    } catch (IOException | RuntimeException e) {
+      // Not being able to read this JDK (for instance in a native image, where there is no jrt
+      // filesystem) should not prevent fixing files, so use the bundled Java 8 stdlib instead
+      versionInUse = FALLBACK_VERSION;
+      return IndexedStdlib.readResource(IndexedStdlib.JAVA_8);
+    }
+  }
+
+  private static String versionOf(Path javaHome) throws IOException {
+    if (javaHome == null) {
+      return Runtime.version().toString();
+    }
+
+    Path release = javaHome.resolve("release");
+    for (String line : Files.readAllLines(release, UTF_8)) {
+      if (line.startsWith("JAVA_VERSION=")) {
+        return line.substring("JAVA_VERSION=".length()).replace("\"", "");
+      }
+    }
+
+    throw new IOException("no JAVA_VERSION in " + release);
+  }
+
+  private FileSystem jrt() throws IOException {
+    if (javaHome == null) {
+      return FileSystems.getFileSystem(URI.create("jrt:/"));
+    }
+
+    return FileSystems.newFileSystem(URI.create("jrt:/"), Map.of("java.home", javaHome.toString()));
+  }
+
+  private Map<String, List<Import>> scan() throws IOException {
+    FileSystem jrt = jrt();
+    try {
+      Map<String, List<Import>> importables = new LinkedHashMap<>();
+      for (Path module : sorted(jrt.getPath("/modules"))) {
+        if (!module.getFileName().toString().startsWith("java.")) {
+          continue;
+        }
+
+        for (String pkg : exportedPackages(module)) {
+          Path directory = module.resolve(pkg.replace('.', '/'));
+          if (Files.isDirectory(directory)) {
+            scanPackage(pkg, directory, importables);
+          }
+        }
+      }
+
+      return importables;
+    } finally {
+      if (javaHome != null) {
+        jrt.close();
+      }
+    }
+  }
+
+  private static Set<String> exportedPackages(Path module) throws IOException {
+    Path moduleInfo = module.resolve("module-info.class");
+    if (!Files.exists(moduleInfo)) {
+      return Set.of();
+    }
+
+    try (InputStream in = Files.newInputStream(moduleInfo)) {
+      return ModuleDescriptor.read(in).exports().stream()
+          .filter(e -> !e.isQualified())
+          .map(ModuleDescriptor.Exports::source)
+          .collect(Collectors.toCollection(TreeSet::new));
+    }
+  }
+
+  private static void scanPackage(String pkg, Path directory, Map<String, List<Import>> importables)
+      throws IOException {
+    for (Path file : sorted(directory)) {
+      String filename = file.getFileName().toString();
+      // Nested, anonymous and local classes cannot be imported directly
+      if (!filename.endsWith(".class") || filename.contains("$") || filename.contains("-")) {
+        continue;
+      }
+
+      String className = filename.substring(0, filename.length() - ".class".length());
+      Set<String> staticMembers = new LinkedHashSet<>();
+      try (DataInputStream in =
+          new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+        if (!readPublicStaticMembers(in, staticMembers)) {
+          continue;
+        }
+      }
+
+      add(importables, new Import(className, pkg, false));
+      for (String member : staticMembers) {
+        add(importables, new Import(member, pkg + "." + className, true));
+      }
+    }
+  }
+
+  private static void add(Map<String, List<Import>> importables, Import i) {
+    importables.computeIfAbsent(i.name(), k -> new ArrayList<>()).add(i);
+  }
+
+  // Returns false if the class is not public, otherwise adds its public static members to members
+  private static boolean readPublicStaticMembers(DataInputStream in, Set<String> members)
+      throws IOException {
+    in.readInt(); // magic
+    in.readUnsignedShort(); // minor version
+    in.readUnsignedShort(); // major version
+    String[] utf8 = readConstantPool(in);
+    int access = in.readUnsignedShort();
+    if ((access & ACC_PUBLIC) == 0) {
+      return false;
+    }
+
+    in.readUnsignedShort(); // this class
+    in.readUnsignedShort(); // super class
+    in.skipBytes(2 * in.readUnsignedShort()); // interfaces
+    for (int kind = 0; kind < 2; kind++) {
+      int count = in.readUnsignedShort();
+      for (int i = 0; i < count; i++) {
+        int memberAccess = in.readUnsignedShort();
+        String name = utf8[in.readUnsignedShort()];
+        in.readUnsignedShort(); // descriptor
+        skipAttributes(in);
+        if ((memberAccess & (ACC_PUBLIC | ACC_STATIC)) == (ACC_PUBLIC | ACC_STATIC)
+            && (memberAccess & ACC_SYNTHETIC) == 0
+            && !name.startsWith("<")) {
+          members.add(name);
+        }
+      }
+    }
+
+    return true;
+  }
+
+  // Returns the UTF-8 entries of the constant pool, by index
+  private static String[] readConstantPool(DataInputStream in) throws IOException {
+    int count = in.readUnsignedShort();
+    String[] utf8 = new String[count];
+    for (int i = 1; i < count; i++) {
+      int tag = in.readUnsignedByte();
+      switch (tag) {
+        case 1: // Utf8
+          utf8[i] = in.readUTF();
+          break;
+        case 7: // Class
+        case 8: // String
+        case 16: // MethodType
+        case 19: // Module
+        case 20: // Package
+          in.skipBytes(2);
+          break;
+        case 15: // MethodHandle
+          in.skipBytes(3);
+          break;
+        case 3: // Integer
+        case 4: // Float
+        case 9: // Fieldref
+        case 10: // Methodref
+        case 11: // InterfaceMethodref
+        case 12: // NameAndType
+        case 17: // Dynamic
+        case 18: // InvokeDynamic
+          in.skipBytes(4);
+          break;
+        case 5: // Long
+        case 6: // Double
+          in.skipBytes(8);
+          // These take two entries
+          i++;
+          break;
+        default:
+          throw new IOException("unknown constant pool tag: " + tag);
+      }
+    }
+
+    return utf8;
+  }
+
+  private static void skipAttributes(DataInputStream in) throws IOException {
+    int count = in.readUnsignedShort();
+    for (int i = 0; i < count; i++) {
+      in.readUnsignedShort(); // name
+      in.skipBytes(in.readInt());
+    }
+  }
+
+  private static List<Path> sorted(Path directory) throws IOException {
+    try (Stream<Path> paths = Files.list(directory)) {
+      return paths.sorted().collect(Collectors.toList());
+    }
+  }
+
+  private static void persist(Path index, byte[] content) {
+    try {
+      Files.createDirectories(index.getParent());
+      Path tmp = Files.createTempFile(index.getParent(), "jdk", ".tmp");
+      try {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+          out.write(content);
+        }
+
+        try {
+          Files.move(tmp, index, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+          Files.move(tmp, index, StandardCopyOption.REPLACE_EXISTING);
+        }
+      } finally {
+        Files.deleteIfExists(tmp);
+      }
+    } catch (IOException e) {
+      // Failing to persist the index only means that the JDK will be scanned again next time
+    }
+  }
+}
@@ -1,140 +0,0 @@
-// Code generated by GenerateStdlib.java. DO NOT EDIT.
-package com.nikodoko.javaimports.stdlib.internal.api.v8;
-
-import com.nikodoko.javaimports.parser.Import;
-import com.nikodoko.javaimports.stdlib.internal.Stdlib;
-
-public class Java8Stdlib implements Stdlib {
-  public Import[] getClassesFor(String identifier) {
-    Import[] classes = null;
-    classes = Java8StdlibChunk0.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk1.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk2.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk3.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk4.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk5.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk6.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk7.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk8.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk9.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk10.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk11.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk12.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk13.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk14.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk15.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk16.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk17.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk18.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk19.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk20.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk21.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk22.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk23.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk24.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk25.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk26.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk27.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk28.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk29.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk30.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    classes = Java8StdlibChunk31.CLASSES.get(identifier);
-    if (classes != null) {
-      return classes;
-    }
-    return null;
-  }
-}
@@ -1,1596 +0,0 @@
-// Code generated by GenerateStdlib.java. DO NOT EDIT.
-package com.nikodoko.javaimports.stdlib.internal.api.v8;
-
-import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
-import java.util.Map;
-
-public class Java8StdlibChunk0 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
-          .put(
-              "CipherOutputStream",
-              new Import[] {
-                new Import("CipherOutputStream", "javax.crypto", false),
-              })
-          .put(
-              "setSecurityManager",
-              new Import[] {
-                new Import("setSecurityManager", "java.lang.System", true),
-              })
-          .put(
-              "CurrencyNameProvider",
-              new Import[] {
-                new Import("CurrencyNameProvider", "java.util.spi", false),
-              })
-          .put(
-              "setStrikeThrough",
-              new Import[] {
-                new Import("setStrikeThrough", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "ArrayList",
-              new Import[] {
-                new Import("ArrayList", "java.util", false),
-              })
-          .put(
-              "OTHER_NUMBER",
-              new Import[] {
-                new Import("OTHER_NUMBER", "java.lang.Character", true),
-              })
-          .put(
-              "FRANCE",
-              new Import[] {
-                new Import("FRANCE", "java.util.Locale", true),
-              })
-          .put(
-              "deletePrevCharAction",
-              new Import[] {
-                new Import("deletePrevCharAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "LineEvent",
-              new Import[] {
-                new Import("LineEvent", "javax.sound.sampled", false),
-              })
-          .put(
-              "ThaiBuddhistEra",
-              new Import[] {
-                new Import("ThaiBuddhistEra", "java.time.chrono", false),
-              })
-          .put(
-              "INVALID_ACCESS_ERR",
-              new Import[] {
-                new Import("INVALID_ACCESS_ERR", "org.w3c.dom.DOMException", true),
-              })
-          .put(
-              "ParserAdapter",
-              new Import[] {
-                new Import("ParserAdapter", "org.xml.sax.helpers", false),
-              })
-          .put(
-              "YEAR",
-              new Import[] {
-                new Import("YEAR", "java.text.DateFormat.Field", true),
-                new Import("YEAR", "java.util.Calendar", true),
-              })
-          .put(
-              "isJavaIdentifierPart",
-              new Import[] {
-                new Import("isJavaIdentifierPart", "java.lang.Character", true),
-              })
-          .put(
-              "OPEN_TYPE_FIELD",
-              new Import[] {
-                new Import("OPEN_TYPE_FIELD", "javax.management.JMX", true),
-              })
-          .put(
-              "PrintServiceLookup",
-              new Import[] {
-                new Import("PrintServiceLookup", "javax.print", false),
-              })
-          .put(
-              "NOWRAP",
-              new Import[] {
-                new Import("NOWRAP", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "ResultSet",
-              new Import[] {
-                new Import("ResultSet", "java.sql", false),
-              })
-          .put(
-              "StreamCorruptedException",
-              new Import[] {
-                new Import("StreamCorruptedException", "java.io", false),
-              })
-          .put(
-              "ACTION_LINK",
-              new Import[] {
-                new Import("ACTION_LINK", "java.awt.dnd.DnDConstants", true),
-              })
-          .put(
-              "BasicTableHeaderUI",
-              new Import[] {
-                new Import("BasicTableHeaderUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "collectArguments",
-              new Import[] {
-                new Import("collectArguments", "java.lang.invoke.MethodHandles", true),
-              })
-          .put(
-              "EnumMap",
-              new Import[] {
-                new Import("EnumMap", "java.util", false),
-              })
-          .put(
-              "OPC_LIFE_OVER",
-              new Import[] {
-                new Import(
-                    "OPC_LIFE_OVER", "javax.print.attribute.standard.PrinterStateReason", true),
-              })
-          .put(
-              "ColorSpaceType",
-              new Import[] {
-                new Import("ColorSpaceType", "java.awt.MultipleGradientPaint", false),
-              })
-          .put(
-              "ACTION_INSERT_BEFORE",
-              new Import[] {
-                new Import("ACTION_INSERT_BEFORE", "org.w3c.dom.ls.LSParser", true),
-              })
-          .put(
-              "VERTICAL_CENTER",
-              new Import[] {
-                new Import("VERTICAL_CENTER", "javax.swing.SpringLayout", true),
-              })
-          .put(
-              "MediaSizeName",
-              new Import[] {
-                new Import("MediaSizeName", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "STOP",
-              new Import[] {
-                new Import("STOP", "javax.sound.midi.ShortMessage", true),
-                new Import("STOP", "javax.sound.sampled.LineEvent.Type", true),
-              })
-          .put(
-              "POPUP_MENU_SEPARATOR",
-              new Import[] {
-                new Import("POPUP_MENU_SEPARATOR", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "newProxyInstance",
-              new Import[] {
-                new Import("newProxyInstance", "java.lang.reflect.Proxy", true),
-                new Import(
-                    "newProxyInstance", "javax.management.MBeanServerInvocationHandler", true),
-              })
-          .put(
-              "TYPE_CMYK",
-              new Import[] {
-                new Import("TYPE_CMYK", "java.awt.color.ColorSpace", true),
-              })
-          .put(
-              "tk_boolean",
-              new Import[] {
-                new Import("tk_boolean", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "NegativeArraySizeException",
-              new Import[] {
-                new Import("NegativeArraySizeException", "java.lang", false),
-              })
-          .put(
-              "ptSegDist",
-              new Import[] {
-                new Import("ptSegDist", "java.awt.geom.Line2D", true),
-              })
-          .put(
-              "Customizer",
-              new Import[] {
-                new Import("Customizer", "java.beans", false),
-              })
-          .put(
-              "OfDouble",
-              new Import[] {
-                new Import("OfDouble", "java.util.PrimitiveIterator", false),
-                new Import("OfDouble", "java.util.Spliterator", false),
-              })
-          .put(
-              "TableModel",
-              new Import[] {
-                new Import("TableModel", "javax.swing.table", false),
-              })
-          .put(
-              "A",
-              new Import[] {
-                new Import("A", "java.awt.PageAttributes.MediaType", true),
-                new Import("A", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import("A", "javax.print.attribute.standard.MediaSize.Engineering", true),
-                new Import("A", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "TYPE_RGB",
-              new Import[] {
-                new Import("TYPE_RGB", "java.awt.color.ColorSpace", true),
-              })
-          .put(
-              "B",
-              new Import[] {
-                new Import("B", "java.awt.PageAttributes.MediaType", true),
-                new Import("B", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import("B", "javax.print.attribute.standard.MediaSize.Engineering", true),
-                new Import("B", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "IconElementName",
-              new Import[] {
-                new Import("IconElementName", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "C",
-              new Import[] {
-                new Import("C", "java.awt.PageAttributes.MediaType", true),
-                new Import("C", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import("C", "javax.print.attribute.standard.MediaSize.Engineering", true),
-              })
-          .put(
-              "D",
-              new Import[] {
-                new Import("D", "java.awt.PageAttributes.MediaType", true),
-                new Import("D", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import("D", "javax.print.attribute.standard.MediaSize.Engineering", true),
-              })
-          .put(
-              "E",
-              new Import[] {
-                new Import("E", "java.awt.PageAttributes.MediaType", true),
-                new Import("E", "java.lang.Math", true),
-                new Import("E", "java.lang.StrictMath", true),
-                new Import("E", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import("E", "javax.print.attribute.standard.MediaSize.Engineering", true),
-              })
-          .put(
-              "LABELED_BY_PROPERTY",
-              new Import[] {
-                new Import("LABELED_BY_PROPERTY", "javax.accessibility.AccessibleRelation", true),
-              })
-          .put(
-              "TextHitInfo",
-              new Import[] {
-                new Import("TextHitInfo", "java.awt.font", false),
-              })
-          .put(
-              "TC_MAX",
-              new Import[] {
-                new Import("TC_MAX", "java.io.ObjectStreamConstants", true),
-              })
-          .put(
-              "PROMPT",
-              new Import[] {
-                new Import("PROMPT", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "I",
-              new Import[] {
-                new Import("I", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "MultiViewportUI",
-              new Import[] {
-                new Import("MultiViewportUI", "javax.swing.plaf.multi", false),
-              })
-          .put(
-              "JAXBContext",
-              new Import[] {
-                new Import("JAXBContext", "javax.xml.bind", false),
-              })
-          .put(
-              "WebServiceRefs",
-              new Import[] {
-                new Import("WebServiceRefs", "javax.xml.ws", false),
-              })
-          .put(
-              "WINDOW_GAINED_FOCUS",
-              new Import[] {
-                new Import("WINDOW_GAINED_FOCUS", "java.awt.event.WindowEvent", true),
-              })
-          .put(
-              "Font",
-              new Import[] {
-                new Import("Font", "java.awt", false),
-              })
-          .put(
-              "N",
-              new Import[] {
-                new Import("N", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "RowSetInternal",
-              new Import[] {
-                new Import("RowSetInternal", "javax.sql", false),
-              })
-          .put(
-              "P",
-              new Import[] {
-                new Import("P", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "summarizingLong",
-              new Import[] {
-                new Import("summarizingLong", "java.util.stream.Collectors", true),
-              })
-          .put(
-              "USER_EXCEPTION",
-              new Import[] {
-                new Import("USER_EXCEPTION", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "S",
-              new Import[] {
-                new Import("S", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "readUTF",
-              new Import[] {
-                new Import("readUTF", "java.io.DataInputStream", true),
-              })
-          .put(
-              "U",
-              new Import[] {
-                new Import("U", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "CannotProceedException",
-              new Import[] {
-                new Import("CannotProceedException", "javax.naming", false),
-              })
-          .put(
-              "InvalidParameterSpecException",
-              new Import[] {
-                new Import("InvalidParameterSpecException", "java.security.spec", false),
-              })
-          .put(
-              "MATHEMATICAL_OPERATORS",
-              new Import[] {
-                new Import("MATHEMATICAL_OPERATORS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "Rdn",
-              new Import[] {
-                new Import("Rdn", "javax.naming.ldap", false),
-              })
-          .put(
-              "connect",
-              new Import[] {
-                new Import("connect", "javax.management.remote.JMXConnectorFactory", true),
-                new Import("connect", "javax.rmi.PortableRemoteObject", true),
-              })
-          .put(
-              "COMM_FAILURE",
-              new Import[] {
-                new Import("COMM_FAILURE", "org.omg.CORBA", false),
-              })
-          .put(
-              "HashDocAttributeSet",
-              new Import[] {
-                new Import("HashDocAttributeSet", "javax.print.attribute", false),
-              })
-          .put(
-              "SUPPORTED",
-              new Import[] {
-                new Import("SUPPORTED", "javax.print.attribute.standard.ColorSupported", true),
-              })
-          .put(
-              "SAAJResult",
-              new Import[] {
-                new Import("SAAJResult", "javax.xml.soap", false),
-              })
-          .put(
-              "Acl",
-              new Import[] {
-                new Import("Acl", "java.security.acl", false),
-              })
-          .put(
-              "POSITIVE_SCROLL",
-              new Import[] {
-                new Import("POSITIVE_SCROLL", "javax.swing.plaf.basic.BasicSliderUI", true),
-              })
-          .put(
-              "IllegalAccessError",
-              new Import[] {
-                new Import("IllegalAccessError", "java.lang", false),
-              })
-          .put(
-              "importedKeyRestrict",
-              new Import[] {
-                new Import("importedKeyRestrict", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "NoninvertibleTransformException",
-              new Import[] {
-                new Import("NoninvertibleTransformException", "java.awt.geom", false),
-              })
-          .put(
-              "Ref",
-              new Import[] {
-                new Import("Ref", "java.sql", false),
-              })
-          .put(
-              "PERMILLE",
-              new Import[] {
-                new Import("PERMILLE", "java.text.NumberFormat.Field", true),
-              })
-          .put(
-              "OPTION_TYPE_PROPERTY",
-              new Import[] {
-                new Import("OPTION_TYPE_PROPERTY", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "ListModel",
-              new Import[] {
-                new Import("ListModel", "javax.swing", false),
-              })
-          .put(
-              "WSDL_DESCRIPTION",
-              new Import[] {
-                new Import("WSDL_DESCRIPTION", "javax.xml.ws.handler.MessageContext", true),
-              })
-          .put(
-              "NUM_COLORS",
-              new Import[] {
-                new Import("NUM_COLORS", "java.awt.SystemColor", true),
-              })
-          .put(
-              "unmodifiableSortedSet",
-              new Import[] {
-                new Import("unmodifiableSortedSet", "java.util.Collections", true),
-              })
-          .put(
-              "setBoolean",
-              new Import[] {
-                new Import("setBoolean", "java.lang.reflect.Array", true),
-              })
-          .put(
-              "getLineSpacing",
-              new Import[] {
-                new Import("getLineSpacing", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "emptyIterator",
-              new Import[] {
-                new Import("emptyIterator", "java.util.Collections", true),
-              })
-          .put(
-              "MonitorInfo",
-              new Import[] {
-                new Import("MonitorInfo", "java.lang.management", false),
-              })
-          .put(
-              "Attributes2Impl",
-              new Import[] {
-                new Import("Attributes2Impl", "org.xml.sax.ext", false),
-              })
-          .put(
-              "FOCUS_EVENT_MASK",
-              new Import[] {
-                new Import("FOCUS_EVENT_MASK", "java.awt.AWTEvent", true),
-              })
-          .put(
-              "SCALE_AREA_AVERAGING",
-              new Import[] {
-                new Import("SCALE_AREA_AVERAGING", "java.awt.Image", true),
-              })
-          .put(
-              "AnnotatedConstruct",
-              new Import[] {
-                new Import("AnnotatedConstruct", "javax.lang.model", false),
-              })
-          .put(
-              "ElementEdit",
-              new Import[] {
-                new Import("ElementEdit", "javax.swing.text.AbstractDocument", false),
-              })
-          .put(
-              "DOCUMENT_POSITION_PRECEDING",
-              new Import[] {
-                new Import("DOCUMENT_POSITION_PRECEDING", "org.w3c.dom.Node", true),
-              })
-          .put(
-              "empty",
-              new Import[] {
-                new Import("empty", "java.util.Optional", true),
-                new Import("empty", "java.util.OptionalDouble", true),
-                new Import("empty", "java.util.OptionalInt", true),
-                new Import("empty", "java.util.OptionalLong", true),
-                new Import("empty", "java.util.stream.DoubleStream", true),
-                new Import("empty", "java.util.stream.IntStream", true),
-                new Import("empty", "java.util.stream.LongStream", true),
-                new Import("empty", "java.util.stream.Stream", true),
-              })
-          .put(
-              "HandshakeCompletedEvent",
-              new Import[] {
-                new Import("HandshakeCompletedEvent", "javax.net.ssl", false),
-              })
-          .put(
-              "TRANSLUCENT",
-              new Import[] {
-                new Import("TRANSLUCENT", "java.awt.Transparency", true),
-              })
-          .put(
-              "FileSystem",
-              new Import[] {
-                new Import("FileSystem", "java.nio.file", false),
-              })
-          .put(
-              "AllPermission",
-              new Import[] {
-                new Import("AllPermission", "java.security", false),
-              })
-          .put(
-              "SINGLE_DOCUMENT",
-              new Import[] {
-                new Import(
-                    "SINGLE_DOCUMENT",
-                    "javax.print.attribute.standard.MultipleDocumentHandling",
-                    true),
-              })
-          .put(
-              "MetalCheckBoxIcon",
-              new Import[] {
-                new Import("MetalCheckBoxIcon", "javax.swing.plaf.metal", false),
-              })
-          .put(
-              "SSLSocketFactory",
-              new Import[] {
-                new Import("SSLSocketFactory", "javax.net.ssl", false),
-              })
-          .put(
-              "ImplicitActivationPolicyOperations",
-              new Import[] {
-                new Import("ImplicitActivationPolicyOperations", "org.omg.PortableServer", false),
-              })
-          .put(
-              "DynAnySeqHelper",
-              new Import[] {
-                new Import("DynAnySeqHelper", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "STRICT",
-              new Import[] {
-                new Import("STRICT", "java.lang.reflect.Modifier", true),
-              })
-          .put(
-              "SyncFactoryException",
-              new Import[] {
-                new Import("SyncFactoryException", "javax.sql.rowset.spi", false),
-              })
-          .put(
-              "CLASS_DISPLAY",
-              new Import[] {
-                new Import("CLASS_DISPLAY", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "TOGGLE_CLICK_COUNT_PROPERTY",
-              new Import[] {
-                new Import("TOGGLE_CLICK_COUNT_PROPERTY", "javax.swing.JTree", true),
-              })
-          .put(
-              "getRadioButtonMenuItemIcon",
-              new Import[] {
-                new Import(
-                    "getRadioButtonMenuItemIcon", "javax.swing.plaf.basic.BasicIconFactory", true),
-                new Import(
-                    "getRadioButtonMenuItemIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
-              })
-          .put(
-              "SimpleEntry",
-              new Import[] {
-                new Import("SimpleEntry", "java.util.AbstractMap", false),
-              })
-          .put(
-              "ACCESSIBLE_NAME_PROPERTY",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_NAME_PROPERTY", "javax.accessibility.AccessibleContext", true),
-              })
-          .put(
-              "HTTP",
-              new Import[] {
-                new Import(
-                    "HTTP", "javax.print.attribute.standard.ReferenceUriSchemesSupported", true),
-              })
-          .put(
-              "UPPERCASE_LETTER",
-              new Import[] {
-                new Import("UPPERCASE_LETTER", "java.lang.Character", true),
-              })
-          .put(
-              "BACKGROUND_COLOR",
-              new Import[] {
-                new Import("BACKGROUND_COLOR", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "RescaleOp",
-              new Import[] {
-                new Import("RescaleOp", "java.awt.image", false),
-              })
-          .put(
-              "getChar",
-              new Import[] {
-                new Import("getChar", "java.lang.reflect.Array", true),
-              })
-          .put(
-              "MouseInfo",
-              new Import[] {
-                new Import("MouseInfo", "java.awt", false),
-              })
-          .put(
-              "ENDTOT",
-              new Import[] {
-                new Import("ENDTOT", "java.util.jar.JarEntry", true),
-                new Import("ENDTOT", "java.util.jar.JarFile", true),
-                new Import("ENDTOT", "java.util.jar.JarInputStream", true),
-                new Import("ENDTOT", "java.util.jar.JarOutputStream", true),
-                new Import("ENDTOT", "java.util.zip.ZipEntry", true),
-                new Import("ENDTOT", "java.util.zip.ZipFile", true),
-                new Import("ENDTOT", "java.util.zip.ZipInputStream", true),
-                new Import("ENDTOT", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "setDefaultLocale",
-              new Import[] {
-                new Import("setDefaultLocale", "javax.swing.JComponent", true),
-              })
-          .put(
-              "NOTATION",
-              new Import[] {
-                new Import("NOTATION", "javax.swing.text.html.parser.DTDConstants", true),
-              })
-          .put(
-              "icSigGrayTRCTag",
-              new Import[] {
-                new Import("icSigGrayTRCTag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "reverseBytes",
-              new Import[] {
-                new Import("reverseBytes", "java.lang.Character", true),
-                new Import("reverseBytes", "java.lang.Integer", true),
-                new Import("reverseBytes", "java.lang.Long", true),
-                new Import("reverseBytes", "java.lang.Short", true),
-              })
-          .put(
-              "ROW_HEIGHT_PROPERTY",
-              new Import[] {
-                new Import("ROW_HEIGHT_PROPERTY", "javax.swing.JTree", true),
-              })
-          .put(
-              "RowId",
-              new Import[] {
-                new Import("RowId", "java.sql", false),
-              })
-          .put(
-              "Form",
-              new Import[] {
-                new Import("Form", "java.text.Normalizer", false),
-              })
-          .put(
-              "ObjectView",
-              new Import[] {
-                new Import("ObjectView", "javax.swing.text.html", false),
-              })
-          .put(
-              "AdapterNonExistentHelper",
-              new Import[] {
-                new Import("AdapterNonExistentHelper", "org.omg.PortableServer.POAPackage", false),
-              })
-          .put(
-              "LineNumberReader",
-              new Import[] {
-                new Import("LineNumberReader", "java.io", false),
-              })
-          .put(
-              "ObjectReferenceTemplateSeqHelper",
-              new Import[] {
-                new Import(
-                    "ObjectReferenceTemplateSeqHelper", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "MidiFileFormat",
-              new Import[] {
-                new Import("MidiFileFormat", "javax.sound.midi", false),
-              })
-          .put(
-              "WebFault",
-              new Import[] {
-                new Import("WebFault", "javax.xml.ws", false),
-              })
-          .put(
-              "setAttribute",
-              new Import[] {
-                new Import("setAttribute", "java.nio.file.Files", true),
-              })
-          .put(
-              "MutableAttributeSet",
-              new Import[] {
-                new Import("MutableAttributeSet", "javax.swing.text", false),
-              })
-          .put(
-              "WebServicePermission",
-              new Import[] {
-                new Import("WebServicePermission", "javax.xml.ws", false),
-              })
-          .put(
-              "ORBInitInfoOperations",
-              new Import[] {
-                new Import("ORBInitInfoOperations", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "provider",
-              new Import[] {
-                new Import("provider", "java.nio.channels.spi.AsynchronousChannelProvider", true),
-                new Import("provider", "java.nio.channels.spi.SelectorProvider", true),
-                new Import("provider", "javax.xml.ws.spi.Provider", true),
-              })
-          .put(
-              "SINGLE_THREAD_MODEL",
-              new Import[] {
-                new Import("SINGLE_THREAD_MODEL", "org.omg.PortableServer.ThreadPolicyValue", true),
-              })
-          .put(
-              "PROGRESS",
-              new Import[] {
-                new Import("PROGRESS", "java.util.jar.Pack200.Packer", true),
-                new Import("PROGRESS", "java.util.jar.Pack200.Unpacker", true),
-              })
-          .put(
-              "KeyboardFocusManager",
-              new Import[] {
-                new Import("KeyboardFocusManager", "java.awt", false),
-              })
-          .put(
-              "MEMORY_COLLECTION_THRESHOLD_EXCEEDED",
-              new Import[] {
-                new Import(
-                    "MEMORY_COLLECTION_THRESHOLD_EXCEEDED",
-                    "java.lang.management.MemoryNotificationInfo",
-                    true),
-              })
-          .put(
-              "IllegalFormatFlagsException",
-              new Import[] {
-                new Import("IllegalFormatFlagsException", "java.util", false),
-              })
-          .put(
-              "CONTENTS_CHANGED",
-              new Import[] {
-                new Import("CONTENTS_CHANGED", "javax.swing.event.ListDataEvent", true),
-              })
-          .put(
-              "COLOR_CHOOSER",
-              new Import[] {
-                new Import("COLOR_CHOOSER", "javax.accessibility.AccessibleRole", true),
-                new Import("COLOR_CHOOSER", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "FILENAME",
-              new Import[] {
-                new Import("FILENAME", "javax.script.ScriptEngine", true),
-              })
-          .put(
-              "FactoryConfigurationError",
-              new Import[] {
-                new Import("FactoryConfigurationError", "javax.xml.parsers", false),
-                new Import("FactoryConfigurationError", "javax.xml.stream", false),
-              })
-          .put(
-              "CodeSigner",
-              new Import[] {
-                new Import("CodeSigner", "java.security", false),
-              })
-          .put(
-              "ICON_COLOR_16x16",
-              new Import[] {
-                new Import("ICON_COLOR_16x16", "java.beans.BeanInfo", true),
-              })
-          .put(
-              "icSigBlueMatrixColumnTag",
-              new Import[] {
-                new Import("icSigBlueMatrixColumnTag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "BIG",
-              new Import[] {
-                new Import("BIG", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "JComboBox",
-              new Import[] {
-                new Import("JComboBox", "javax.swing", false),
-              })
-          .put(
-              "KEY_TYPED",
-              new Import[] {
-                new Import("KEY_TYPED", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "Raster",
-              new Import[] {
-                new Import("Raster", "java.awt.image", false),
-              })
-          .put(
-              "methodModifiers",
-              new Import[] {
-                new Import("methodModifiers", "java.lang.reflect.Modifier", true),
-              })
-          .put(
-              "MEROITIC_HIEROGLYPHS",
-              new Import[] {
-                new Import("MEROITIC_HIEROGLYPHS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "BIT",
-              new Import[] {
-                new Import("BIT", "java.sql.Types", true),
-              })
-          .put(
-              "ENDCOM",
-              new Import[] {
-                new Import("ENDCOM", "java.util.jar.JarEntry", true),
-                new Import("ENDCOM", "java.util.jar.JarFile", true),
-                new Import("ENDCOM", "java.util.jar.JarInputStream", true),
-                new Import("ENDCOM", "java.util.jar.JarOutputStream", true),
-                new Import("ENDCOM", "java.util.zip.ZipEntry", true),
-                new Import("ENDCOM", "java.util.zip.ZipFile", true),
-                new Import("ENDCOM", "java.util.zip.ZipInputStream", true),
-                new Import("ENDCOM", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "OAEPParameterSpec",
-              new Import[] {
-                new Import("OAEPParameterSpec", "javax.crypto.spec", false),
-              })
-          .put(
-              "ObjectName",
-              new Import[] {
-                new Import("ObjectName", "javax.management", false),
-              })
-          .put(
-              "MutableTreeNode",
-              new Import[] {
-                new Import("MutableTreeNode", "javax.swing.tree", false),
-              })
-          .put(
-              "NOT_FOUND_ERR",
-              new Import[] {
-                new Import("NOT_FOUND_ERR", "org.w3c.dom.DOMException", true),
-              })
-          .put(
-              "localTime",
-              new Import[] {
-                new Import("localTime", "java.time.temporal.TemporalQueries", true),
-              })
-          .put(
-              "SQLClientInfoException",
-              new Import[] {
-                new Import("SQLClientInfoException", "java.sql", false),
-              })
-          .put(
-              "SQLTransientConnectionException",
-              new Import[] {
-                new Import("SQLTransientConnectionException", "java.sql", false),
-              })
-          .put(
-              "ACTION",
-              new Import[] {
-                new Import("ACTION", "javax.management.MBeanOperationInfo", true),
-                new Import("ACTION", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "IOError",
-              new Import[] {
-                new Import("IOError", "java.io", false),
-              })
-          .put(
-              "selectionPreviousWordAction",
-              new Import[] {
-                new Import(
-                    "selectionPreviousWordAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "NOTE_ON",
-              new Import[] {
-                new Import("NOTE_ON", "javax.sound.midi.ShortMessage", true),
-              })
-          .put(
-              "guardWithTest",
-              new Import[] {
-                new Import("guardWithTest", "java.lang.invoke.MethodHandles", true),
-              })
-          .put(
-              "AlreadyBound",
-              new Import[] {
-                new Import("AlreadyBound", "org.omg.CosNaming.NamingContextPackage", false),
-              })
-          .put(
-              "RENDERABLE_IMAGE",
-              new Import[] {
-                new Import("RENDERABLE_IMAGE", "javax.print.DocFlavor.SERVICE_FORMATTED", true),
-              })
-          .put(
-              "icPerceptual",
-              new Import[] {
-                new Import("icPerceptual", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "ARG_INOUT",
-              new Import[] {
-                new Import("ARG_INOUT", "org.omg.CORBA", false),
-              })
-          .put(
-              "TC_REFERENCE",
-              new Import[] {
-                new Import("TC_REFERENCE", "java.io.ObjectStreamConstants", true),
-              })
-          .put(
-              "procedureNullableUnknown",
-              new Import[] {
-                new Import("procedureNullableUnknown", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "VERTICAL_SPLIT",
-              new Import[] {
-                new Import("VERTICAL_SPLIT", "javax.swing.JSplitPane", true),
-              })
-          .put(
-              "ACTION_FIRST",
-              new Import[] {
-                new Import("ACTION_FIRST", "java.awt.event.ActionEvent", true),
-              })
-          .put(
-              "OctetSeqHolder",
-              new Import[] {
-                new Import("OctetSeqHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "LEGAL_VALUES_FIELD",
-              new Import[] {
-                new Import("LEGAL_VALUES_FIELD", "javax.management.JMX", true),
-              })
-          .put(
-              "AUTOSENSE",
-              new Import[] {
-                new Import("AUTOSENSE", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("AUTOSENSE", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("AUTOSENSE", "javax.print.DocFlavor.URL", true),
-              })
-          .put(
-              "getAncestorNamed",
-              new Import[] {
-                new Import("getAncestorNamed", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "PAUSED",
-              new Import[] {
-                new Import("PAUSED", "javax.print.attribute.standard.PrinterStateReason", true),
-              })
-          .put(
-              "MultipleGradientPaint",
-              new Import[] {
-                new Import("MultipleGradientPaint", "java.awt", false),
-              })
-          .put(
-              "javaJVMLocalObjectMimeType",
-              new Import[] {
-                new Import("javaJVMLocalObjectMimeType", "java.awt.datatransfer.DataFlavor", true),
-              })
-          .put(
-              "TypeVariable",
-              new Import[] {
-                new Import("TypeVariable", "java.lang.reflect", false),
-                new Import("TypeVariable", "javax.lang.model.type", false),
-              })
-          .put(
-              "KeyTab",
-              new Import[] {
-                new Import("KeyTab", "javax.security.auth.kerberos", false),
-              })
-          .put(
-              "GYEAR",
-              new Import[] {
-                new Import("GYEAR", "javax.xml.datatype.DatatypeConstants", true),
-              })
-          .put(
-              "SortingFocusTraversalPolicy",
-              new Import[] {
-                new Import("SortingFocusTraversalPolicy", "javax.swing", false),
-              })
-          .put(
-              "NCLOB",
-              new Import[] {
-                new Import("NCLOB", "java.sql.Types", true),
-              })
-          .put(
-              "constructorsIn",
-              new Import[] {
-                new Import("constructorsIn", "javax.lang.model.util.ElementFilter", true),
-              })
-          .put(
-              "W3C_XML_SCHEMA_INSTANCE_NS_URI",
-              new Import[] {
-                new Import("W3C_XML_SCHEMA_INSTANCE_NS_URI", "javax.xml.XMLConstants", true),
-              })
-          .put(
-              "ComponentInputMap",
-              new Import[] {
-                new Import("ComponentInputMap", "javax.swing", false),
-              })
-          .put(
-              "IllegalFormatCodePointException",
-              new Import[] {
-                new Import("IllegalFormatCodePointException", "java.util", false),
-              })
-          .put(
-              "ANCIENT_SYMBOLS",
-              new Import[] {
-                new Import("ANCIENT_SYMBOLS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "DatatypeConfigurationException",
-              new Import[] {
-                new Import("DatatypeConfigurationException", "javax.xml.datatype", false),
-              })
-          .put(
-              "VK_SPACE",
-              new Import[] {
-                new Import("VK_SPACE", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "LockInfo",
-              new Import[] {
-                new Import("LockInfo", "java.lang.management", false),
-              })
-          .put(
-              "hash",
-              new Import[] {
-                new Import("hash", "java.util.Objects", true),
-              })
-          .put(
-              "MOVE_CURSOR",
-              new Import[] {
-                new Import("MOVE_CURSOR", "java.awt.Cursor", true),
-                new Import("MOVE_CURSOR", "java.awt.Frame", true),
-              })
-          .put(
-              "ZipError",
-              new Import[] {
-                new Import("ZipError", "java.util.zip", false),
-              })
-          .put(
-              "pink",
-              new Import[] {
-                new Import("pink", "java.awt.Color", true),
-              })
-          .put(
-              "icHdrManufacturer",
-              new Import[] {
-                new Import("icHdrManufacturer", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "HyperlinkEvent",
-              new Import[] {
-                new Import("HyperlinkEvent", "javax.swing.event", false),
-              })
-          .put(
-              "LOW_SURROGATES",
-              new Import[] {
-                new Import("LOW_SURROGATES", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "dk_Operation",
-              new Import[] {
-                new Import("dk_Operation", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "SND",
-              new Import[] {
-                new Import("SND", "javax.sound.sampled.AudioFileFormat.Type", true),
-              })
-          .put(
-              "MAXIMIZED_HORIZ",
-              new Import[] {
-                new Import("MAXIMIZED_HORIZ", "java.awt.Frame", true),
-              })
-          .put(
-              "TemplatesHandler",
-              new Import[] {
-                new Import("TemplatesHandler", "javax.xml.transform.sax", false),
-              })
-          .put(
-              "SetOverrideType",
-              new Import[] {
-                new Import("SetOverrideType", "org.omg.CORBA", false),
-              })
-          .put(
-              "instantiate",
-              new Import[] {
-                new Import("instantiate", "java.beans.Beans", true),
-              })
-          .put(
-              "ImageTypeSpecifier",
-              new Import[] {
-                new Import("ImageTypeSpecifier", "javax.imageio", false),
-              })
-          .put(
-              "DATASOURCE_ROW_LOCK",
-              new Import[] {
-                new Import("DATASOURCE_ROW_LOCK", "javax.sql.rowset.spi.SyncProvider", true),
-              })
-          .put(
-              "CompletableFuture",
-              new Import[] {
-                new Import("CompletableFuture", "java.util.concurrent", false),
-              })
-          .put(
-              "BEFORE_FIRST_LINE",
-              new Import[] {
-                new Import("BEFORE_FIRST_LINE", "java.awt.BorderLayout", true),
-              })
-          .put(
-              "getWindowBackground",
-              new Import[] {
-                new Import("getWindowBackground", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "STAPLE_BOTTOM_RIGHT",
-              new Import[] {
-                new Import(
-                    "STAPLE_BOTTOM_RIGHT", "javax.print.attribute.standard.Finishings", true),
-              })
-          .put(
-              "ARGUMENT",
-              new Import[] {
-                new Import("ARGUMENT", "java.text.MessageFormat.Field", true),
-              })
-          .put(
-              "VK_DEAD_DIAERESIS",
-              new Import[] {
-                new Import("VK_DEAD_DIAERESIS", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "InvalidRelationIdException",
-              new Import[] {
-                new Import("InvalidRelationIdException", "javax.management.relation", false),
-              })
-          .put(
-              "_missing_node",
-              new Import[] {
-                new Import(
-                    "_missing_node", "org.omg.CosNaming.NamingContextPackage.NotFoundReason", true),
-              })
-          .put(
-              "ServantAlreadyActive",
-              new Import[] {
-                new Import("ServantAlreadyActive", "org.omg.PortableServer.POAPackage", false),
-              })
-          .put(
-              "lookupPrintServices",
-              new Import[] {
-                new Import("lookupPrintServices", "java.awt.print.PrinterJob", true),
-                new Import("lookupPrintServices", "javax.print.PrintServiceLookup", true),
-              })
-          .put(
-              "DataBuffer",
-              new Import[] {
-                new Import("DataBuffer", "java.awt.image", false),
-              })
-          .put(
-              "SpaceAbove",
-              new Import[] {
-                new Import("SpaceAbove", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "RMIIIOPServerImpl",
-              new Import[] {
-                new Import("RMIIIOPServerImpl", "javax.management.remote.rmi", false),
-              })
-          .put(
-              "XA_RBOTHER",
-              new Import[] {
-                new Import("XA_RBOTHER", "javax.transaction.xa.XAException", true),
-              })
-          .put(
-              "IDEOGRAPHIC_DESCRIPTION_CHARACTERS",
-              new Import[] {
-                new Import(
-                    "IDEOGRAPHIC_DESCRIPTION_CHARACTERS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "LONGNVARCHAR",
-              new Import[] {
-                new Import("LONGNVARCHAR", "java.sql.Types", true),
-              })
-          .put(
-              "InflaterInputStream",
-              new Import[] {
-                new Import("InflaterInputStream", "java.util.zip", false),
-              })
-          .put(
-              "getDefaultCursor",
-              new Import[] {
-                new Import("getDefaultCursor", "java.awt.Cursor", true),
-              })
-          .put(
-              "CharacterCodingException",
-              new Import[] {
-                new Import("CharacterCodingException", "java.nio.charset", false),
-              })
-          .put(
-              "NOVEMBER",
-              new Import[] {
-                new Import("NOVEMBER", "java.util.Calendar", true),
-                new Import("NOVEMBER", "javax.xml.datatype.DatatypeConstants", true),
-              })
-          .put(
-              "FILE_CHOOSER",
-              new Import[] {
-                new Import("FILE_CHOOSER", "javax.accessibility.AccessibleRole", true),
-                new Import("FILE_CHOOSER", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "MinguoDate",
-              new Import[] {
-                new Import("MinguoDate", "java.time.chrono", false),
-              })
-          .put(
-              "FailedLoginException",
-              new Import[] {
-                new Import("FailedLoginException", "javax.security.auth.login", false),
-              })
-          .put(
-              "disable",
-              new Import[] {
-                new Import("disable", "java.lang.Compiler", true),
-              })
-          .put(
-              "BufferedReader",
-              new Import[] {
-                new Import("BufferedReader", "java.io", false),
-              })
-          .put(
-              "BoxView",
-              new Import[] {
-                new Import("BoxView", "javax.swing.text", false),
-              })
-          .put(
-              "_ServantLocatorStub",
-              new Import[] {
-                new Import("_ServantLocatorStub", "org.omg.PortableServer", false),
-              })
-          .put(
-              "SQLOutputImpl",
-              new Import[] {
-                new Import("SQLOutputImpl", "javax.sql.rowset.serial", false),
-              })
-          .put(
-              "getAllAttributeKeys",
-              new Import[] {
-                new Import("getAllAttributeKeys", "javax.swing.text.html.CSS", true),
-                new Import("getAllAttributeKeys", "javax.swing.text.html.HTML", true),
-              })
-          .put(
-              "DataBufferDouble",
-              new Import[] {
-                new Import("DataBufferDouble", "java.awt.image", false),
-              })
-          .put(
-              "DiscardOldestPolicy",
-              new Import[] {
-                new Import("DiscardOldestPolicy", "java.util.concurrent.ThreadPoolExecutor", false),
-              })
-          .put(
-              "JLayer",
-              new Import[] {
-                new Import("JLayer", "javax.swing", false),
-              })
-          .put(
-              "ValidatorHandler",
-              new Import[] {
-                new Import("ValidatorHandler", "javax.xml.validation", false),
-              })
-          .put(
-              "StatementEvent",
-              new Import[] {
-                new Import("StatementEvent", "javax.sql", false),
-              })
-          .put(
-              "EventType",
-              new Import[] {
-                new Import("EventType", "javax.swing.event.DocumentEvent", false),
-                new Import("EventType", "javax.swing.event.HyperlinkEvent", false),
-              })
-          .put(
-              "VK_KP_RIGHT",
-              new Import[] {
-                new Import("VK_KP_RIGHT", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "cos",
-              new Import[] {
-                new Import("cos", "java.lang.Math", true),
-                new Import("cos", "java.lang.StrictMath", true),
-              })
-          .put(
-              "expm1",
-              new Import[] {
-                new Import("expm1", "java.lang.Math", true),
-                new Import("expm1", "java.lang.StrictMath", true),
-              })
-          .put(
-              "HijrahChronology",
-              new Import[] {
-                new Import("HijrahChronology", "java.time.chrono", false),
-              })
-          .put(
-              "OUT_BOTTOM",
-              new Import[] {
-                new Import("OUT_BOTTOM", "java.awt.geom.Rectangle2D", true),
-              })
-          .put(
-              "getBundle",
-              new Import[] {
-                new Import("getBundle", "java.util.ResourceBundle", true),
-              })
-          .put(
-              "StringSelection",
-              new Import[] {
-                new Import("StringSelection", "java.awt.datatransfer", false),
-              })
-          .put(
-              "READ_WRITE",
-              new Import[] {
-                new Import("READ_WRITE", "java.nio.channels.FileChannel.MapMode", true),
-              })
-          .put(
-              "AdapterActivator",
-              new Import[] {
-                new Import("AdapterActivator", "org.omg.PortableServer", false),
-              })
-          .put(
-              "CONFIG",
-              new Import[] {
-                new Import("CONFIG", "java.util.logging.Level", true),
-              })
-          .put(
-              "Random",
-              new Import[] {
-                new Import("Random", "java.util", false),
-              })
-          .put(
-              "XMLSignature",
-              new Import[] {
-                new Import("XMLSignature", "javax.xml.crypto.dsig", false),
-              })
-          .put(
-              "_DISCARDING",
-              new Import[] {
-                new Import("_DISCARDING", "org.omg.PortableServer.POAManagerPackage.State", true),
-              })
-          .put(
-              "SUBSTITUTION_PERMISSION",
-              new Import[] {
-                new Import("SUBSTITUTION_PERMISSION", "java.io.ObjectStreamConstants", true),
-              })
-          .put(
-              "LambdaConversionException",
-              new Import[] {
-                new Import("LambdaConversionException", "java.lang.invoke", false),
-              })
-          .put(
-              "TableCellEditor",
-              new Import[] {
-                new Import("TableCellEditor", "javax.swing.table", false),
-              })
-          .put(
-              "emptyNavigableMap",
-              new Import[] {
-                new Import("emptyNavigableMap", "java.util.Collections", true),
-              })
-          .put(
-              "NO_PERMISSION",
-              new Import[] {
-                new Import("NO_PERMISSION", "org.omg.CORBA", false),
-              })
-          .put(
-              "GridBagLayoutInfo",
-              new Import[] {
-                new Import("GridBagLayoutInfo", "java.awt", false),
-              })
-          .put(
-              "LayoutPath",
-              new Import[] {
-                new Import("LayoutPath", "java.awt.font", false),
-              })
-          .put(
-              "Inet4Address",
-              new Import[] {
-                new Import("Inet4Address", "java.net", false),
-              })
-          .put(
-              "C10",
-              new Import[] {
-                new Import("C10", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "icSigCalibrationDateTimeTag",
-              new Import[] {
-                new Import("icSigCalibrationDateTimeTag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "javaFileListFlavor",
-              new Import[] {
-                new Import("javaFileListFlavor", "java.awt.datatransfer.DataFlavor", true),
-              })
-          .put(
-              "releaseMBeanServer",
-              new Import[] {
-                new Import("releaseMBeanServer", "javax.management.MBeanServerFactory", true),
-              })
-          .put(
-              "synchronizedNavigableSet",
-              new Import[] {
-                new Import("synchronizedNavigableSet", "java.util.Collections", true),
-              })
-          .put(
-              "SyncFactory",
-              new Import[] {
-                new Import("SyncFactory", "javax.sql.rowset.spi", false),
-              })
-          .put(
-              "HEBREW",
-              new Import[] {
-                new Import("HEBREW", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "ADDRESS",
-              new Import[] {
-                new Import("ADDRESS", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "PlatformManagedObject",
-              new Import[] {
-                new Import("PlatformManagedObject", "java.lang.management", false),
-              })
-          .put(
-              "WEIGHT_SEMIBOLD",
-              new Import[] {
-                new Import("WEIGHT_SEMIBOLD", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "EncryptedPrivateKeyInfo",
-              new Import[] {
-                new Import("EncryptedPrivateKeyInfo", "javax.crypto", false),
-              })
-          .put(
-              "DefaultLoaderRepository",
-              new Import[] {
-                new Import("DefaultLoaderRepository", "javax.management", false),
-                new Import("DefaultLoaderRepository", "javax.management.loading", false),
-              })
-          .put(
-              "NON_RETAIN",
-              new Import[] {
-                new Import(
-                    "NON_RETAIN", "org.omg.PortableServer.ServantRetentionPolicyValue", true),
-              })
-          .put(
-              "MidiUnavailableException",
-              new Import[] {
-                new Import("MidiUnavailableException", "javax.sound.midi", false),
-              })
-          .put(
-              "DuplicateFormatFlagsException",
-              new Import[] {
-                new Import("DuplicateFormatFlagsException", "java.util", false),
-              })
-          .put(
-              "ACTIVE",
-              new Import[] {
-                new Import("ACTIVE", "javax.accessibility.AccessibleState", true),
-                new Import("ACTIVE", "org.omg.PortableInterceptor", false),
-                new Import("ACTIVE", "org.omg.PortableServer.POAManagerPackage.State", true),
-              })
-          .put(
-              "SRC",
-              new Import[] {
-                new Import("SRC", "java.awt.AlphaComposite", true),
-                new Import("SRC", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "SQLFeatureNotSupportedException",
-              new Import[] {
-                new Import("SQLFeatureNotSupportedException", "java.sql", false),
-              })
-          .put(
-              "isUnderline",
-              new Import[] {
-                new Import("isUnderline", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "Semaphore",
-              new Import[] {
-                new Import("Semaphore", "java.util.concurrent", false),
-              })
-          .put(
-              "Any",
-              new Import[] {
-                new Import("Any", "org.omg.CORBA", false),
-              })
-          .put(
-              "compileClass",
-              new Import[] {
-                new Import("compileClass", "java.lang.Compiler", true),
-              })
-          .put(
-              "REPORTER",
-              new Import[] {
-                new Import("REPORTER", "javax.xml.stream.XMLInputFactory", true),
-              })
-          .put(
-              "Function",
-              new Import[] {
-                new Import("Function", "java.util.function", false),
-              })
-          .put(
-              "times",
-              new Import[] {
-                new Import("times", "javax.management.Query", true),
-              })
-          .put(
-              "getConfiguration",
-              new Import[] {
-                new Import("getConfiguration", "javax.security.auth.login.Configuration", true),
-              })
-          .put(
-              "getFileChooserListViewIcon",
-              new Import[] {
-                new Import(
-                    "getFileChooserListViewIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
-              })
-          .put(
-              "FOCUS_FIRST",
-              new Import[] {
-                new Import("FOCUS_FIRST", "java.awt.event.FocusEvent", true),
-              })
-          .put(
-              "STRIKE",
-              new Import[] {
-                new Import("STRIKE", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "setRootFrame",
-              new Import[] {
-                new Import("setRootFrame", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "CS_PYCC",
-              new Import[] {
-                new Import("CS_PYCC", "java.awt.color.ColorSpace", true),
-              })
-          .put(
-              "OpenMBeanInfo",
-              new Import[] {
-                new Import("OpenMBeanInfo", "javax.management.openmbean", false),
-              })
-          .put(
-              "XADataSource",
-              new Import[] {
-                new Import("XADataSource", "javax.sql", false),
-              })
-          .build();
-}
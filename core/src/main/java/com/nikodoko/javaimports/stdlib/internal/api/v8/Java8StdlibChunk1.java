@@ -1,1583 +0,0 @@
-// Code generated by GenerateStdlib.java. DO NOT EDIT.
-package com.nikodoko.javaimports.stdlib.internal.api.v8;
-
-import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
-import java.util.Map;
-
-public class Java8StdlibChunk1 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
-          .put(
-              "WEIGHT_BOLD",
-              new Import[] {
-                new Import("WEIGHT_BOLD", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "AttributeView",
-              new Import[] {
-                new Import("AttributeView", "java.nio.file.attribute", false),
-              })
-          .put(
-              "EMBEDDED_BY",
-              new Import[] {
-                new Import("EMBEDDED_BY", "javax.accessibility.AccessibleRelation", true),
-              })
-          .put(
-              "INHERIT",
-              new Import[] {
-                new Import("INHERIT", "java.lang.ProcessBuilder.Redirect", true),
-              })
-          .put(
-              "X509CRL",
-              new Import[] {
-                new Import("X509CRL", "java.security.cert", false),
-              })
-          .put(
-              "ValueBase",
-              new Import[] {
-                new Import("ValueBase", "org.omg.CORBA.portable", false),
-              })
-          .put(
-              "ROLLOVER_SELECTED_ICON_CHANGED_PROPERTY",
-              new Import[] {
-                new Import(
-                    "ROLLOVER_SELECTED_ICON_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
-              })
-          .put(
-              "Document",
-              new Import[] {
-                new Import("Document", "javax.swing.text", false),
-                new Import("Document", "org.w3c.dom", false),
-              })
-          .put(
-              "Superscript",
-              new Import[] {
-                new Import("Superscript", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "ITALIC_ACTION",
-              new Import[] {
-                new Import("ITALIC_ACTION", "javax.swing.text.html.HTMLEditorKit", true),
-              })
-          .put(
-              "getTreeHardDriveIcon",
-              new Import[] {
-                new Import("getTreeHardDriveIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
-              })
-          .put(
-              "ServantRetentionPolicyOperations",
-              new Import[] {
-                new Import("ServantRetentionPolicyOperations", "org.omg.PortableServer", false),
-              })
-          .put(
-              "ACCEPT_ALL",
-              new Import[] {
-                new Import("ACCEPT_ALL", "java.net.CookiePolicy", true),
-              })
-          .put(
-              "MimeHeaders",
-              new Import[] {
-                new Import("MimeHeaders", "javax.xml.soap", false),
-              })
-          .put(
-              "LONG_STANDALONE",
-              new Import[] {
-                new Import("LONG_STANDALONE", "java.util.Calendar", true),
-              })
-          .put(
-              "isLeap",
-              new Import[] {
-                new Import("isLeap", "java.time.Year", true),
-              })
-          .put(
-              "UnknownException",
-              new Import[] {
-                new Import("UnknownException", "org.omg.CORBA.portable", false),
-              })
-          .put(
-              "MISCELLANEOUS_SYMBOLS_AND_PICTOGRAPHS",
-              new Import[] {
-                new Import(
-                    "MISCELLANEOUS_SYMBOLS_AND_PICTOGRAPHS",
-                    "java.lang.Character.UnicodeBlock",
-                    true),
-              })
-          .put(
-              "BlockingQueue",
-              new Import[] {
-                new Import("BlockingQueue", "java.util.concurrent", false),
-              })
-          .put(
-              "SUB",
-              new Import[] {
-                new Import("SUB", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "IRObjectOperations",
-              new Import[] {
-                new Import("IRObjectOperations", "org.omg.CORBA", false),
-              })
-          .put(
-              "KEY_ANTIALIASING",
-              new Import[] {
-                new Import("KEY_ANTIALIASING", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "SO_REUSEADDR",
-              new Import[] {
-                new Import("SO_REUSEADDR", "java.net.SocketOptions", true),
-                new Import("SO_REUSEADDR", "java.net.StandardSocketOptions", true),
-              })
-          .put(
-              "setFailureHandler",
-              new Import[] {
-                new Import("setFailureHandler", "java.rmi.server.RMISocketFactory", true),
-              })
-          .put(
-              "getFileChooserUpFolderIcon",
-              new Import[] {
-                new Import(
-                    "getFileChooserUpFolderIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
-              })
-          .put(
-              "SUP",
-              new Import[] {
-                new Import("SUP", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "PooledConnection",
-              new Import[] {
-                new Import("PooledConnection", "javax.sql", false),
-              })
-          .put(
-              "BACKGROUND_ATTACHMENT",
-              new Import[] {
-                new Import("BACKGROUND_ATTACHMENT", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "MOUSE_ENTER",
-              new Import[] {
-                new Import("MOUSE_ENTER", "java.awt.Event", true),
-              })
-          .put(
-              "ACCESSIBLE_CARET_PROPERTY",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_CARET_PROPERTY", "javax.accessibility.AccessibleContext", true),
-              })
-          .put(
-              "VARCHAR",
-              new Import[] {
-                new Import("VARCHAR", "java.sql.Types", true),
-              })
-          .put(
-              "VMID",
-              new Import[] {
-                new Import("VMID", "java.rmi.dgc", false),
-              })
-          .put(
-              "ServantObject",
-              new Import[] {
-                new Import("ServantObject", "org.omg.CORBA.portable", false),
-              })
-          .put(
-              "VK_COLON",
-              new Import[] {
-                new Import("VK_COLON", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "isParityAdjusted",
-              new Import[] {
-                new Import("isParityAdjusted", "javax.crypto.spec.DESKeySpec", true),
-                new Import("isParityAdjusted", "javax.crypto.spec.DESedeKeySpec", true),
-              })
-          .put(
-              "Group",
-              new Import[] {
-                new Import("Group", "java.security.acl", false),
-              })
-          .put(
-              "GRAY",
-              new Import[] {
-                new Import("GRAY", "java.awt.Color", true),
-              })
-          .put(
-              "Instrumentation",
-              new Import[] {
-                new Import("Instrumentation", "java.lang.instrument", false),
-              })
-          .put(
-              "CellEditorListener",
-              new Import[] {
-                new Import("CellEditorListener", "javax.swing.event", false),
-              })
-          .put(
-              "VariableElement",
-              new Import[] {
-                new Import("VariableElement", "javax.lang.model.element", false),
-              })
-          .put(
-              "JobKOctetsSupported",
-              new Import[] {
-                new Import("JobKOctetsSupported", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "DragSourceContext",
-              new Import[] {
-                new Import("DragSourceContext", "java.awt.dnd", false),
-              })
-          .put(
-              "printShort",
-              new Import[] {
-                new Import("printShort", "javax.xml.bind.DatatypeConverter", true),
-              })
-          .put(
-              "InvalidObjectException",
-              new Import[] {
-                new Import("InvalidObjectException", "java.io", false),
-              })
-          .put(
-              "SQLInvalidAuthorizationSpecException",
-              new Import[] {
-                new Import("SQLInvalidAuthorizationSpecException", "java.sql", false),
-              })
-          .put(
-              "DstIn",
-              new Import[] {
-                new Import("DstIn", "java.awt.AlphaComposite", true),
-              })
-          .put(
-              "isUnicodeIdentifierStart",
-              new Import[] {
-                new Import("isUnicodeIdentifierStart", "java.lang.Character", true),
-              })
-          .put(
-              "INITIAL_CONTEXT_FACTORY",
-              new Import[] {
-                new Import("INITIAL_CONTEXT_FACTORY", "javax.naming.Context", true),
-              })
-          .put(
-              "PRINTABLE",
-              new Import[] {
-                new Import("PRINTABLE", "java.awt.PageAttributes.OriginType", true),
-                new Import("PRINTABLE", "javax.print.DocFlavor.SERVICE_FORMATTED", true),
-              })
-          .put(
-              "DRAFT",
-              new Import[] {
-                new Import("DRAFT", "java.awt.PageAttributes.PrintQualityType", true),
-                new Import("DRAFT", "javax.print.attribute.standard.PrintQuality", true),
-              })
-          .put(
-              "isWeak",
-              new Import[] {
-                new Import("isWeak", "javax.crypto.spec.DESKeySpec", true),
-              })
-          .put(
-              "FREE_MEM",
-              new Import[] {
-                new Import("FREE_MEM", "org.omg.CORBA", false),
-              })
-          .put(
-              "dk_Alias",
-              new Import[] {
-                new Import("dk_Alias", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "getInvocationHandler",
-              new Import[] {
-                new Import("getInvocationHandler", "java.lang.reflect.Proxy", true),
-              })
-          .put(
-              "ISO_B5_ENVELOPE",
-              new Import[] {
-                new Import("ISO_B5_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "functionNullable",
-              new Import[] {
-                new Import("functionNullable", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "OTHER",
-              new Import[] {
-                new Import("OTHER", "java.sql.Types", true),
-                new Import("OTHER", "javax.print.attribute.standard.PrinterStateReason", true),
-              })
-          .put(
-              "ALTERNATE",
-              new Import[] {
-                new Import("ALTERNATE", "java.util.FormattableFlags", true),
-              })
-          .put(
-              "FLOWS_TO_PROPERTY",
-              new Import[] {
-                new Import("FLOWS_TO_PROPERTY", "javax.accessibility.AccessibleRelation", true),
-              })
-          .put(
-              "Runnable",
-              new Import[] {
-                new Import("Runnable", "java.lang", false),
-              })
-          .put(
-              "columnNullableUnknown",
-              new Import[] {
-                new Import("columnNullableUnknown", "java.sql.DatabaseMetaData", true),
-                new Import("columnNullableUnknown", "java.sql.ResultSetMetaData", true),
-              })
-          .put(
-              "BasicSplitPaneUI",
-              new Import[] {
-                new Import("BasicSplitPaneUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "getBlack",
-              new Import[] {
-                new Import("getBlack", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "EXCLUSIVE_WITH_COMMENTS",
-              new Import[] {
-                new Import(
-                    "EXCLUSIVE_WITH_COMMENTS",
-                    "javax.xml.crypto.dsig.CanonicalizationMethod",
-                    true),
-              })
-          .put(
-              "DynAnyFactoryOperations",
-              new Import[] {
-                new Import("DynAnyFactoryOperations", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "IdUniquenessPolicy",
-              new Import[] {
-                new Import("IdUniquenessPolicy", "org.omg.PortableServer", false),
-              })
-          .put(
-              "POAHelper",
-              new Import[] {
-                new Import("POAHelper", "org.omg.PortableServer", false),
-              })
-          .put(
-              "Exchanger",
-              new Import[] {
-                new Import("Exchanger", "java.util.concurrent", false),
-              })
-          .put(
-              "JarURLConnection",
-              new Import[] {
-                new Import("JarURLConnection", "java.net", false),
-              })
-          .put(
-              "LEPCHA",
-              new Import[] {
-                new Import("LEPCHA", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "KRB_NT_PRINCIPAL",
-              new Import[] {
-                new Import(
-                    "KRB_NT_PRINCIPAL", "javax.security.auth.kerberos.KerberosPrincipal", true),
-              })
-          .put(
-              "RemarshalException",
-              new Import[] {
-                new Import("RemarshalException", "org.omg.CORBA.portable", false),
-              })
-          .put(
-              "TAG_GLYF",
-              new Import[] {
-                new Import("TAG_GLYF", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "icSigCmykData",
-              new Import[] {
-                new Import("icSigCmykData", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "IdUniquenessPolicyValue",
-              new Import[] {
-                new Import("IdUniquenessPolicyValue", "org.omg.PortableServer", false),
-              })
-          .put(
-              "TAG_VHEA",
-              new Import[] {
-                new Import("TAG_VHEA", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "dropArguments",
-              new Import[] {
-                new Import("dropArguments", "java.lang.invoke.MethodHandles", true),
-              })
-          .put(
-              "ReadWriteLock",
-              new Import[] {
-                new Import("ReadWriteLock", "java.util.concurrent.locks", false),
-              })
-          .put(
-              "LABEL",
-              new Import[] {
-                new Import("LABEL", "javax.accessibility.AccessibleRole", true),
-                new Import("LABEL", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "AtomicMoveNotSupportedException",
-              new Import[] {
-                new Import("AtomicMoveNotSupportedException", "java.nio.file", false),
-              })
-          .put(
-              "NamingExceptionEvent",
-              new Import[] {
-                new Import("NamingExceptionEvent", "javax.naming.event", false),
-              })
-          .put(
-              "parseTime",
-              new Import[] {
-                new Import("parseTime", "javax.xml.bind.DatatypeConverter", true),
-              })
-          .put(
-              "unmodifiableNavigableSet",
-              new Import[] {
-                new Import("unmodifiableNavigableSet", "java.util.Collections", true),
-              })
-          .put(
-              "POLICY_FORWARD_SECRECY",
-              new Import[] {
-                new Import("POLICY_FORWARD_SECRECY", "javax.security.sasl.Sasl", true),
-              })
-          .put(
-              "ECFieldFp",
-              new Import[] {
-                new Import("ECFieldFp", "java.security.spec", false),
-              })
-          .put(
-              "PublicKey",
-              new Import[] {
-                new Import("PublicKey", "java.security", false),
-              })
-          .put(
-              "NO_FIELDS",
-              new Import[] {
-                new Import("NO_FIELDS", "java.io.ObjectStreamClass", true),
-              })
-          .put(
-              "ObjectInstance",
-              new Import[] {
-                new Import("ObjectInstance", "javax.management", false),
-              })
-          .put(
-              "HTTP_NOT_AUTHORITATIVE",
-              new Import[] {
-                new Import("HTTP_NOT_AUTHORITATIVE", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "JRadioButtonMenuItem",
-              new Import[] {
-                new Import("JRadioButtonMenuItem", "javax.swing", false),
-              })
-          .put(
-              "isWhitespace",
-              new Import[] {
-                new Import("isWhitespace", "java.lang.Character", true),
-              })
-          .put(
-              "DEFAULT_KEYMAP",
-              new Import[] {
-                new Import("DEFAULT_KEYMAP", "javax.swing.text.JTextComponent", true),
-              })
-          .put(
-              "AtomicReferenceFieldUpdater",
-              new Import[] {
-                new Import("AtomicReferenceFieldUpdater", "java.util.concurrent.atomic", false),
-              })
-          .put(
-              "POSITIVE_INFINITY",
-              new Import[] {
-                new Import("POSITIVE_INFINITY", "java.lang.Double", true),
-                new Import("POSITIVE_INFINITY", "java.lang.Float", true),
-              })
-          .put(
-              "YEARS",
-              new Import[] {
-                new Import("YEARS", "javax.xml.datatype.DatatypeConstants", true),
-              })
-          .put(
-              "TRANSPORT_AND_MAP_SYMBOLS",
-              new Import[] {
-                new Import("TRANSPORT_AND_MAP_SYMBOLS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "Renderer",
-              new Import[] {
-                new Import("Renderer", "javax.swing", false),
-              })
-          .put(
-              "ofMonths",
-              new Import[] {
-                new Import("ofMonths", "java.time.Period", true),
-              })
-          .put(
-              "Region",
-              new Import[] {
-                new Import("Region", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "AlgorithmMethod",
-              new Import[] {
-                new Import("AlgorithmMethod", "javax.xml.crypto", false),
-              })
-          .put(
-              "ServerRequest",
-              new Import[] {
-                new Import("ServerRequest", "org.omg.CORBA", false),
-              })
-          .put(
-              "LDAPCertStoreParameters",
-              new Import[] {
-                new Import("LDAPCertStoreParameters", "java.security.cert", false),
-              })
-          .put(
-              "getInactiveSystemTextColor",
-              new Import[] {
-                new Import(
-                    "getInactiveSystemTextColor", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "AbstractExecutorService",
-              new Import[] {
-                new Import("AbstractExecutorService", "java.util.concurrent", false),
-              })
-          .put(
-              "ENTERED",
-              new Import[] {
-                new Import("ENTERED", "javax.swing.event.HyperlinkEvent.EventType", true),
-              })
-          .put(
-              "GeneralPath",
-              new Import[] {
-                new Import("GeneralPath", "java.awt.geom", false),
-              })
-          .put(
-              "SQLException",
-              new Import[] {
-                new Import("SQLException", "java.sql", false),
-              })
-          .put(
-              "IntSupplier",
-              new Import[] {
-                new Import("IntSupplier", "java.util.function", false),
-              })
-          .put(
-              "GradientPaint",
-              new Import[] {
-                new Import("GradientPaint", "java.awt", false),
-              })
-          .put(
-              "SDATA",
-              new Import[] {
-                new Import("SDATA", "javax.swing.text.html.parser.DTDConstants", true),
-              })
-          .put(
-              "XA_HEURMIX",
-              new Import[] {
-                new Import("XA_HEURMIX", "javax.transaction.xa.XAException", true),
-              })
-          .put(
-              "getNextWord",
-              new Import[] {
-                new Import("getNextWord", "javax.swing.text.Utilities", true),
-              })
-          .put(
-              "negateExact",
-              new Import[] {
-                new Import("negateExact", "java.lang.Math", true),
-              })
-          .put(
-              "NEXT",
-              new Import[] {
-                new Import("NEXT", "javax.swing.SwingConstants", true),
-              })
-          .put(
-              "COMPONENT_ADDED",
-              new Import[] {
-                new Import("COMPONENT_ADDED", "java.awt.event.ContainerEvent", true),
-              })
-          .put(
-              "_USE_SERVANT_MANAGER",
-              new Import[] {
-                new Import(
-                    "_USE_SERVANT_MANAGER",
-                    "org.omg.PortableServer.RequestProcessingPolicyValue",
-                    true),
-              })
-          .put(
-              "isDesktopSupported",
-              new Import[] {
-                new Import("isDesktopSupported", "java.awt.Desktop", true),
-              })
-          .put(
-              "AbstractCellEditor",
-              new Import[] {
-                new Import("AbstractCellEditor", "javax.swing", false),
-              })
-          .put(
-              "LOG_OPTION",
-              new Import[] {
-                new Import("LOG_OPTION", "javax.swing.DebugGraphics", true),
-              })
-          .put(
-              "ColorChooserUI",
-              new Import[] {
-                new Import("ColorChooserUI", "javax.swing.plaf", false),
-              })
-          .put(
-              "DIRECTIONALITY_RIGHT_TO_LEFT_OVERRIDE",
-              new Import[] {
-                new Import("DIRECTIONALITY_RIGHT_TO_LEFT_OVERRIDE", "java.lang.Character", true),
-              })
-          .put(
-              "StubDelegate",
-              new Import[] {
-                new Import("StubDelegate", "javax.rmi.CORBA", false),
-              })
-          .put(
-              "DayOfWeek",
-              new Import[] {
-                new Import("DayOfWeek", "java.time", false),
-              })
-          .put(
-              "JMXPrincipal",
-              new Import[] {
-                new Import("JMXPrincipal", "javax.management.remote", false),
-              })
-          .put(
-              "Purpose",
-              new Import[] {
-                new Import("Purpose", "javax.xml.crypto.KeySelector", false),
-              })
-          .put(
-              "SUPERSCRIPT_SUB",
-              new Import[] {
-                new Import("SUPERSCRIPT_SUB", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "getDefaultProviderInstance",
-              new Import[] {
-                new Import("getDefaultProviderInstance", "java.rmi.server.RMIClassLoader", true),
-              })
-          .put(
-              "getValue",
-              new Import[] {
-                new Import("getValue", "javax.xml.bind.JAXBIntrospector", true),
-              })
-          .put(
-              "WINDOW_DEACTIVATED",
-              new Import[] {
-                new Import("WINDOW_DEACTIVATED", "java.awt.event.WindowEvent", true),
-              })
-          .put(
-              "RSAMultiPrimePrivateCrtKey",
-              new Import[] {
-                new Import("RSAMultiPrimePrivateCrtKey", "java.security.interfaces", false),
-              })
-          .put(
-              "ENDTAG",
-              new Import[] {
-                new Import("ENDTAG", "javax.swing.text.html.HTML.Attribute", true),
-                new Import("ENDTAG", "javax.swing.text.html.parser.DTDConstants", true),
-              })
-          .put(
-              "ACTION_PERFORMED",
-              new Import[] {
-                new Import("ACTION_PERFORMED", "java.awt.event.ActionEvent", true),
-              })
-          .put(
-              "INPUT_TRAY_MISSING",
-              new Import[] {
-                new Import(
-                    "INPUT_TRAY_MISSING",
-                    "javax.print.attribute.standard.PrinterStateReason",
-                    true),
-              })
-          .put(
-              "NEWS",
-              new Import[] {
-                new Import(
-                    "NEWS", "javax.print.attribute.standard.ReferenceUriSchemesSupported", true),
-              })
-          .put(
-              "DHPublicKeySpec",
-              new Import[] {
-                new Import("DHPublicKeySpec", "javax.crypto.spec", false),
-              })
-          .put(
-              "PrintServiceAttributeEvent",
-              new Import[] {
-                new Import("PrintServiceAttributeEvent", "javax.print.event", false),
-              })
-          .put(
-              "MINUTES",
-              new Import[] {
-                new Import("MINUTES", "javax.xml.datatype.DatatypeConstants", true),
-              })
-          .put(
-              "reducing",
-              new Import[] {
-                new Import("reducing", "java.util.stream.Collectors", true),
-              })
-          .put(
-              "XMLInputFactory",
-              new Import[] {
-                new Import("XMLInputFactory", "javax.xml.stream", false),
-              })
-          .put(
-              "ObjectStreamConstants",
-              new Import[] {
-                new Import("ObjectStreamConstants", "java.io", false),
-              })
-          .put(
-              "TreeExpansionListener",
-              new Import[] {
-                new Import("TreeExpansionListener", "javax.swing.event", false),
-              })
-          .put(
-              "LinkController",
-              new Import[] {
-                new Import("LinkController", "javax.swing.text.html.HTMLEditorKit", false),
-              })
-          .put(
-              "PARAGRAPH",
-              new Import[] {
-                new Import("PARAGRAPH", "javax.accessibility.AccessibleRole", true),
-              })
-          .put(
-              "NoSuchAlgorithmException",
-              new Import[] {
-                new Import("NoSuchAlgorithmException", "java.security", false),
-              })
-          .put(
-              "FONT_CHOOSER",
-              new Import[] {
-                new Import("FONT_CHOOSER", "javax.accessibility.AccessibleRole", true),
-              })
-          .put(
-              "DECIMAL_SEPARATOR",
-              new Import[] {
-                new Import("DECIMAL_SEPARATOR", "java.text.NumberFormat.Field", true),
-              })
-          .put(
-              "Locator",
-              new Import[] {
-                new Import("Locator", "org.xml.sax", false),
-              })
-          .put(
-              "DEFAULT_NS_PREFIX",
-              new Import[] {
-                new Import("DEFAULT_NS_PREFIX", "javax.xml.XMLConstants", true),
-              })
-          .put(
-              "ProgressBarUI",
-              new Import[] {
-                new Import("ProgressBarUI", "javax.swing.plaf", false),
-              })
-          .put(
-              "SplitPaneBorder",
-              new Import[] {
-                new Import("SplitPaneBorder", "javax.swing.plaf.basic.BasicBorders", false),
-              })
-          .put(
-              "READER",
-              new Import[] {
-                new Import("READER", "javax.print.DocFlavor", false),
-              })
-          .put(
-              "VK_NUM_LOCK",
-              new Import[] {
-                new Import("VK_NUM_LOCK", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "UIDefaults",
-              new Import[] {
-                new Import("UIDefaults", "javax.swing", false),
-              })
-          .put(
-              "AbstractPreferences",
-              new Import[] {
-                new Import("AbstractPreferences", "java.util.prefs", false),
-              })
-          .put(
-              "MBeanPermission",
-              new Import[] {
-                new Import("MBeanPermission", "javax.management", false),
-              })
-          .put(
-              "HORIZONTAL_ALIGNMENT_CHANGED_PROPERTY",
-              new Import[] {
-                new Import(
-                    "HORIZONTAL_ALIGNMENT_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
-              })
-          .put(
-              "AccessibleSelection",
-              new Import[] {
-                new Import("AccessibleSelection", "javax.accessibility", false),
-              })
-          .put(
-              "LongSummaryStatistics",
-              new Import[] {
-                new Import("LongSummaryStatistics", "java.util", false),
-              })
-          .put(
-              "NodeSetData",
-              new Import[] {
-                new Import("NodeSetData", "javax.xml.crypto", false),
-              })
-          .put(
-              "NotSerializableException",
-              new Import[] {
-                new Import("NotSerializableException", "java.io", false),
-              })
-          .put(
-              "AccessibleAction",
-              new Import[] {
-                new Import("AccessibleAction", "javax.accessibility", false),
-              })
-          .put(
-              "parseString",
-              new Import[] {
-                new Import("parseString", "javax.xml.bind.DatatypeConverter", true),
-              })
-          .put(
-              "StateValue",
-              new Import[] {
-                new Import("StateValue", "javax.swing.SwingWorker", false),
-              })
-          .put(
-              "Externalizable",
-              new Import[] {
-                new Import("Externalizable", "java.io", false),
-              })
-          .put(
-              "Object",
-              new Import[] {
-                new Import("Object", "java.lang", false),
-                new Import("Object", "org.omg.CORBA", false),
-              })
-          .put(
-              "setItalic",
-              new Import[] {
-                new Import("setItalic", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "SERVICE_OFF_LINE",
-              new Import[] {
-                new Import(
-                    "SERVICE_OFF_LINE", "javax.print.attribute.standard.JobStateReason", true),
-              })
-          .put(
-              "ENV_10X15",
-              new Import[] {
-                new Import("ENV_10X15", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "ENV_10X14",
-              new Import[] {
-                new Import("ENV_10X14", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "ENV_10X13",
-              new Import[] {
-                new Import("ENV_10X13", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "DIRECTIONALITY_RIGHT_TO_LEFT_EMBEDDING",
-              new Import[] {
-                new Import("DIRECTIONALITY_RIGHT_TO_LEFT_EMBEDDING", "java.lang.Character", true),
-              })
-          .put(
-              "ViewFactory",
-              new Import[] {
-                new Import("ViewFactory", "javax.swing.text", false),
-              })
-          .put(
-              "OK_CANCEL_OPTION",
-              new Import[] {
-                new Import(
-                    "OK_CANCEL_OPTION", "javax.security.auth.callback.ConfirmationCallback", true),
-                new Import("OK_CANCEL_OPTION", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "METHOD_ATTRIBUTE_PFX",
-              new Import[] {
-                new Import("METHOD_ATTRIBUTE_PFX", "java.util.jar.Pack200.Packer", true),
-              })
-          .put(
-              "ClassDefinition",
-              new Import[] {
-                new Import("ClassDefinition", "java.lang.instrument", false),
-              })
-          .put(
-              "EDGE_STITCH_BOTTOM",
-              new Import[] {
-                new Import("EDGE_STITCH_BOTTOM", "javax.print.attribute.standard.Finishings", true),
-              })
-          .put(
-              "BufferedWriter",
-              new Import[] {
-                new Import("BufferedWriter", "java.io", false),
-              })
-          .put(
-              "getAudioInputStream",
-              new Import[] {
-                new Import("getAudioInputStream", "javax.sound.sampled.AudioSystem", true),
-              })
-          .put(
-              "setPosixFilePermissions",
-              new Import[] {
-                new Import("setPosixFilePermissions", "java.nio.file.Files", true),
-              })
-          .put(
-              "fromMillis",
-              new Import[] {
-                new Import("fromMillis", "java.nio.file.attribute.FileTime", true),
-              })
-          .put(
-              "SimpleTimeZone",
-              new Import[] {
-                new Import("SimpleTimeZone", "java.util", false),
-              })
-          .put(
-              "AudioFileWriter",
-              new Import[] {
-                new Import("AudioFileWriter", "javax.sound.sampled.spi", false),
-              })
-          .put(
-              "ParseConversionEventImpl",
-              new Import[] {
-                new Import("ParseConversionEventImpl", "javax.xml.bind.helpers", false),
-              })
-          .put(
-              "SpinnerUI",
-              new Import[] {
-                new Import("SpinnerUI", "javax.swing.plaf", false),
-              })
-          .put(
-              "ThreadGroup",
-              new Import[] {
-                new Import("ThreadGroup", "java.lang", false),
-              })
-          .put(
-              "DomHandler",
-              new Import[] {
-                new Import("DomHandler", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "CertPath",
-              new Import[] {
-                new Import("CertPath", "java.security.cert", false),
-              })
-          .put(
-              "X509CRLSelector",
-              new Import[] {
-                new Import("X509CRLSelector", "java.security.cert", false),
-              })
-          .put(
-              "XmlAdapter",
-              new Import[] {
-                new Import("XmlAdapter", "javax.xml.bind.annotation.adapters", false),
-              })
-          .put(
-              "ADJUSTMENT_FIRST",
-              new Import[] {
-                new Import("ADJUSTMENT_FIRST", "java.awt.event.AdjustmentEvent", true),
-              })
-          .put(
-              "EventException",
-              new Import[] {
-                new Import("EventException", "org.w3c.dom.events", false),
-              })
-          .put(
-              "_tk_octet",
-              new Import[] {
-                new Import("_tk_octet", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "PSource",
-              new Import[] {
-                new Import("PSource", "javax.crypto.spec", false),
-              })
-          .put(
-              "NORM_PRIORITY",
-              new Import[] {
-                new Import("NORM_PRIORITY", "java.lang.Thread", true),
-              })
-          .put(
-              "MAX_NAME_LENGTH",
-              new Import[] {
-                new Import("MAX_NAME_LENGTH", "java.util.prefs.Preferences", true),
-              })
-          .put(
-              "KeyAlreadyExistsException",
-              new Import[] {
-                new Import("KeyAlreadyExistsException", "javax.management.openmbean", false),
-              })
-          .put(
-              "SESSION_MAINTAIN_PROPERTY",
-              new Import[] {
-                new Import("SESSION_MAINTAIN_PROPERTY", "javax.xml.ws.BindingProvider", true),
-              })
-          .put(
-              "HINTS_OBSERVED",
-              new Import[] {
-                new Import("HINTS_OBSERVED", "java.awt.image.renderable.RenderableImage", true),
-              })
-          .put(
-              "checkedList",
-              new Import[] {
-                new Import("checkedList", "java.util.Collections", true),
-              })
-          .put(
-              "Type",
-              new Import[] {
-                new Import("Type", "java.awt.Window", false),
-                new Import("Type", "java.lang.ProcessBuilder.Redirect", false),
-                new Import("Type", "java.lang.reflect", false),
-                new Import("Type", "java.net.Proxy", false),
-                new Import("Type", "java.security.KeyRep", false),
-                new Import("Type", "javax.sound.sampled.AudioFileFormat", false),
-                new Import("Type", "javax.sound.sampled.BooleanControl", false),
-                new Import("Type", "javax.sound.sampled.CompoundControl", false),
-                new Import("Type", "javax.sound.sampled.Control", false),
-                new Import("Type", "javax.sound.sampled.EnumControl", false),
-                new Import("Type", "javax.sound.sampled.FloatControl", false),
-                new Import("Type", "javax.sound.sampled.LineEvent", false),
-                new Import("Type", "javax.swing.event.RowSorterEvent", false),
-              })
-          .put(
-              "TAB",
-              new Import[] {
-                new Import("TAB", "java.awt.Event", true),
-              })
-          .put(
-              "Characteristics",
-              new Import[] {
-                new Import("Characteristics", "java.util.stream.Collector", false),
-              })
-          .put(
-              "SignatureProperties",
-              new Import[] {
-                new Import("SignatureProperties", "javax.xml.crypto.dsig", false),
-              })
-          .put(
-              "icSigSpace3CLR",
-              new Import[] {
-                new Import("icSigSpace3CLR", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "IntToLongFunction",
-              new Import[] {
-                new Import("IntToLongFunction", "java.util.function", false),
-              })
-          .put(
-              "MissingFormatWidthException",
-              new Import[] {
-                new Import("MissingFormatWidthException", "java.util", false),
-              })
-          .put(
-              "OpenMBeanAttributeInfoSupport",
-              new Import[] {
-                new Import("OpenMBeanAttributeInfoSupport", "javax.management.openmbean", false),
-              })
-          .put(
-              "ButtonModel",
-              new Import[] {
-                new Import("ButtonModel", "javax.swing", false),
-              })
-          .put(
-              "NVList",
-              new Import[] {
-                new Import("NVList", "org.omg.CORBA", false),
-              })
-          .put(
-              "KHMER",
-              new Import[] {
-                new Import("KHMER", "java.awt.font.NumericShaper", true),
-                new Import("KHMER", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "MultiTableUI",
-              new Import[] {
-                new Import("MultiTableUI", "javax.swing.plaf.multi", false),
-              })
-          .put(
-              "UNDERLINE_LOW_GRAY",
-              new Import[] {
-                new Import("UNDERLINE_LOW_GRAY", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "PagedResultsResponseControl",
-              new Import[] {
-                new Import("PagedResultsResponseControl", "javax.naming.ldap", false),
-              })
-          .put(
-              "RoundingMode",
-              new Import[] {
-                new Import("RoundingMode", "java.math", false),
-              })
-          .put(
-              "SELECTION_MODE_PROPERTY",
-              new Import[] {
-                new Import(
-                    "SELECTION_MODE_PROPERTY", "javax.swing.tree.DefaultTreeSelectionModel", true),
-              })
-          .put(
-              "NODE_IMPORTED",
-              new Import[] {
-                new Import("NODE_IMPORTED", "org.w3c.dom.UserDataHandler", true),
-              })
-          .put(
-              "DIALOG_TITLE_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("DIALOG_TITLE_CHANGED_PROPERTY", "javax.swing.JFileChooser", true),
-              })
-          .put(
-              "NamingContextExt",
-              new Import[] {
-                new Import("NamingContextExt", "org.omg.CosNaming", false),
-              })
-          .put(
-              "DoubleToLongFunction",
-              new Import[] {
-                new Import("DoubleToLongFunction", "java.util.function", false),
-              })
-          .put(
-              "PagesPerMinute",
-              new Import[] {
-                new Import("PagesPerMinute", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "DSAKeyPairGenerator",
-              new Import[] {
-                new Import("DSAKeyPairGenerator", "java.security.interfaces", false),
-              })
-          .put(
-              "LOCSIZ",
-              new Import[] {
-                new Import("LOCSIZ", "java.util.jar.JarEntry", true),
-                new Import("LOCSIZ", "java.util.jar.JarFile", true),
-                new Import("LOCSIZ", "java.util.jar.JarInputStream", true),
-                new Import("LOCSIZ", "java.util.jar.JarOutputStream", true),
-                new Import("LOCSIZ", "java.util.zip.ZipEntry", true),
-                new Import("LOCSIZ", "java.util.zip.ZipFile", true),
-                new Import("LOCSIZ", "java.util.zip.ZipInputStream", true),
-                new Import("LOCSIZ", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "MULTIPLE",
-              new Import[] {
-                new Import("MULTIPLE", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "clearProperty",
-              new Import[] {
-                new Import("clearProperty", "java.lang.System", true),
-              })
-          .put(
-              "DOCUMENT_POSITION_CONTAINED_BY",
-              new Import[] {
-                new Import("DOCUMENT_POSITION_CONTAINED_BY", "org.w3c.dom.Node", true),
-              })
-          .put(
-              "RESERVED_ID_MAX",
-              new Import[] {
-                new Import("RESERVED_ID_MAX", "java.awt.AWTEvent", true),
-              })
-          .put(
-              "SUPERSCRIPTS_AND_SUBSCRIPTS",
-              new Import[] {
-                new Import("SUPERSCRIPTS_AND_SUBSCRIPTS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "MalformedLinkException",
-              new Import[] {
-                new Import("MalformedLinkException", "javax.naming", false),
-              })
-          .put(
-              "getProvider",
-              new Import[] {
-                new Import("getProvider", "java.security.Security", true),
-              })
-          .put(
-              "OctetSeqHelper",
-              new Import[] {
-                new Import("OctetSeqHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "activeCaptionBorder",
-              new Import[] {
-                new Import("activeCaptionBorder", "java.awt.SystemColor", true),
-              })
-          .put(
-              "createGroup",
-              new Import[] {
-                new Import("createGroup", "java.rmi.activation.ActivationGroup", true),
-              })
-          .put(
-              "SQLRecoverableException",
-              new Import[] {
-                new Import("SQLRecoverableException", "java.sql", false),
-              })
-          .put(
-              "PRIVATE_MEMBER",
-              new Import[] {
-                new Import("PRIVATE_MEMBER", "org.omg.CORBA", false),
-              })
-          .put(
-              "getDefaultToolkit",
-              new Import[] {
-                new Import("getDefaultToolkit", "java.awt.Toolkit", true),
-              })
-          .put(
-              "probeContentType",
-              new Import[] {
-                new Import("probeContentType", "java.nio.file.Files", true),
-              })
-          .put(
-              "InvalidValueHelper",
-              new Import[] {
-                new Import("InvalidValueHelper", "org.omg.DynamicAny.DynAnyPackage", false),
-              })
-          .put(
-              "format",
-              new Import[] {
-                new Import("format", "java.lang.String", true),
-                new Import("format", "java.text.MessageFormat", true),
-              })
-          .put(
-              "X509EncodedKeySpec",
-              new Import[] {
-                new Import("X509EncodedKeySpec", "java.security.spec", false),
-              })
-          .put(
-              "InvalidOpenTypeException",
-              new Import[] {
-                new Import("InvalidOpenTypeException", "javax.management.openmbean", false),
-              })
-          .put(
-              "ProcessingEnvironment",
-              new Import[] {
-                new Import("ProcessingEnvironment", "javax.annotation.processing", false),
-              })
-          .put(
-              "setLong",
-              new Import[] {
-                new Import("setLong", "java.lang.reflect.Array", true),
-              })
-          .put(
-              "ENCLOSING_MARK",
-              new Import[] {
-                new Import("ENCLOSING_MARK", "java.lang.Character", true),
-              })
-          .put(
-              "AlreadyBoundException",
-              new Import[] {
-                new Import("AlreadyBoundException", "java.nio.channels", false),
-                new Import("AlreadyBoundException", "java.rmi", false),
-              })
-          .put(
-              "LOCSIG",
-              new Import[] {
-                new Import("LOCSIG", "java.util.jar.JarEntry", true),
-                new Import("LOCSIG", "java.util.jar.JarFile", true),
-                new Import("LOCSIG", "java.util.jar.JarInputStream", true),
-                new Import("LOCSIG", "java.util.jar.JarOutputStream", true),
-                new Import("LOCSIG", "java.util.zip.ZipEntry", true),
-                new Import("LOCSIG", "java.util.zip.ZipFile", true),
-                new Import("LOCSIG", "java.util.zip.ZipInputStream", true),
-                new Import("LOCSIG", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "METHOD",
-              new Import[] {
-                new Import("METHOD", "javax.swing.text.html.HTML.Attribute", true),
-                new Import("METHOD", "javax.xml.transform.OutputKeys", true),
-              })
-          .put(
-              "MemoryManagerMXBean",
-              new Import[] {
-                new Import("MemoryManagerMXBean", "java.lang.management", false),
-              })
-          .put(
-              "URLDecoder",
-              new Import[] {
-                new Import("URLDecoder", "java.net", false),
-              })
-          .put(
-              "TABLE_HEADER",
-              new Import[] {
-                new Import("TABLE_HEADER", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "YELLOW",
-              new Import[] {
-                new Import("YELLOW", "java.awt.Color", true),
-              })
-          .put(
-              "NullType",
-              new Import[] {
-                new Import("NullType", "javax.lang.model.type", false),
-              })
-          .put(
-              "WrongPolicyHelper",
-              new Import[] {
-                new Import("WrongPolicyHelper", "org.omg.PortableServer.POAPackage", false),
-              })
-          .put(
-              "WEIGHT_DEMILIGHT",
-              new Import[] {
-                new Import("WEIGHT_DEMILIGHT", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "getSecurityContext",
-              new Import[] {
-                new Import("getSecurityContext", "java.rmi.server.RMIClassLoader", true),
-              })
-          .put(
-              "PortUnreachableException",
-              new Import[] {
-                new Import("PortUnreachableException", "java.net", false),
-              })
-          .put(
-              "LAST_DIVIDER_LOCATION_PROPERTY",
-              new Import[] {
-                new Import("LAST_DIVIDER_LOCATION_PROPERTY", "javax.swing.JSplitPane", true),
-              })
-          .put(
-              "CopyOnWriteArraySet",
-              new Import[] {
-                new Import("CopyOnWriteArraySet", "java.util.concurrent", false),
-              })
-          .put(
-              "ValueMemberHelper",
-              new Import[] {
-                new Import("ValueMemberHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "X509ExtendedKeyManager",
-              new Import[] {
-                new Import("X509ExtendedKeyManager", "javax.net.ssl", false),
-              })
-          .put(
-              "RenderingHints",
-              new Import[] {
-                new Import("RenderingHints", "java.awt", false),
-              })
-          .put(
-              "createMBeanServer",
-              new Import[] {
-                new Import("createMBeanServer", "javax.management.MBeanServerFactory", true),
-              })
-          .put(
-              "AdditionalComments",
-              new Import[] {
-                new Import("AdditionalComments", "javax.swing.text.html.HTMLDocument", true),
-              })
-          .put(
-              "PortInfo",
-              new Import[] {
-                new Import("PortInfo", "javax.xml.ws.handler", false),
-              })
-          .put(
-              "SW_RESIZE_CURSOR",
-              new Import[] {
-                new Import("SW_RESIZE_CURSOR", "java.awt.Cursor", true),
-                new Import("SW_RESIZE_CURSOR", "java.awt.Frame", true),
-              })
-          .put(
-              "OBJ_ADAPTER",
-              new Import[] {
-                new Import("OBJ_ADAPTER", "org.omg.CORBA", false),
-              })
-          .put(
-              "getImageReadersBySuffix",
-              new Import[] {
-                new Import("getImageReadersBySuffix", "javax.imageio.ImageIO", true),
-              })
-          .put(
-              "dk_Union",
-              new Import[] {
-                new Import("dk_Union", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "lowestOneBit",
-              new Import[] {
-                new Import("lowestOneBit", "java.lang.Integer", true),
-                new Import("lowestOneBit", "java.lang.Long", true),
-              })
-          .put(
-              "MidiDeviceTransmitter",
-              new Import[] {
-                new Import("MidiDeviceTransmitter", "javax.sound.midi", false),
-              })
-          .put(
-              "LinkRef",
-              new Import[] {
-                new Import("LinkRef", "javax.naming", false),
-              })
-          .put(
-              "COLOR_ACTION",
-              new Import[] {
-                new Import("COLOR_ACTION", "javax.swing.text.html.HTMLEditorKit", true),
-              })
-          .put(
-              "PERSISTENT",
-              new Import[] {
-                new Import("PERSISTENT", "org.omg.PortableServer.LifespanPolicyValue", true),
-              })
-          .put(
-              "STATUS_BAR",
-              new Import[] {
-                new Import("STATUS_BAR", "javax.accessibility.AccessibleRole", true),
-              })
-          .put(
-              "DIRECTORY_PANE",
-              new Import[] {
-                new Import("DIRECTORY_PANE", "javax.accessibility.AccessibleRole", true),
-              })
-          .put(
-              "ZoneId",
-              new Import[] {
-                new Import("ZoneId", "java.time", false),
-              })
-          .put(
-              "getInternalFrameMinimizeIcon",
-              new Import[] {
-                new Import(
-                    "getInternalFrameMinimizeIcon",
-                    "javax.swing.plaf.metal.MetalIconFactory",
-                    true),
-              })
-          .put(
-              "MASTER_GAIN",
-              new Import[] {
-                new Import("MASTER_GAIN", "javax.sound.sampled.FloatControl.Type", true),
-              })
-          .put(
-              "DNS_URL",
-              new Import[] {
-                new Import("DNS_URL", "javax.naming.Context", true),
-              })
-          .put(
-              "deleteIfExists",
-              new Import[] {
-                new Import("deleteIfExists", "java.nio.file.Files", true),
-              })
-          .put(
-              "LAYOUT_NO_LIMIT_CONTEXT",
-              new Import[] {
-                new Import("LAYOUT_NO_LIMIT_CONTEXT", "java.awt.Font", true),
-              })
-          .put(
-              "PRIMARY",
-              new Import[] {
-                new Import("PRIMARY", "java.text.Collator", true),
-              })
-          .put(
-              "DefaultRowSorter",
-              new Import[] {
-                new Import("DefaultRowSorter", "javax.swing", false),
-              })
-          .put(
-              "XSLT",
-              new Import[] {
-                new Import("XSLT", "javax.xml.crypto.dsig.Transform", true),
-              })
-          .put(
-              "VK_INSERT",
-              new Import[] {
-                new Import("VK_INSERT", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "PROGRAM_CHANGE",
-              new Import[] {
-                new Import("PROGRAM_CHANGE", "javax.sound.midi.ShortMessage", true),
-              })
-          .put(
-              "SortResponseControl",
-              new Import[] {
-                new Import("SortResponseControl", "javax.naming.ldap", false),
-              })
-          .put(
-              "FileHandler",
-              new Import[] {
-                new Import("FileHandler", "java.util.logging", false),
-              })
-          .put(
-              "Array",
-              new Import[] {
-                new Import("Array", "java.lang.reflect", false),
-                new Import("Array", "java.sql", false),
-              })
-          .put(
-              "VK_ALT",
-              new Import[] {
-                new Import("VK_ALT", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "GMONTH",
-              new Import[] {
-                new Import("GMONTH", "javax.xml.datatype.DatatypeConstants", true),
-              })
-          .put(
-              "walkFileTree",
-              new Import[] {
-                new Import("walkFileTree", "java.nio.file.Files", true),
-              })
-          .put(
-              "Joinable",
-              new Import[] {
-                new Import("Joinable", "javax.sql.rowset", false),
-              })
-          .put(
-              "ISO_LOCAL_DATE",
-              new Import[] {
-                new Import("ISO_LOCAL_DATE", "java.time.format.DateTimeFormatter", true),
-              })
-          .put(
-              "OverlayLayout",
-              new Import[] {
-                new Import("OverlayLayout", "javax.swing", false),
-              })
-          .put(
-              "PRIORITY_INTERCHAR",
-              new Import[] {
-                new Import("PRIORITY_INTERCHAR", "java.awt.font.GlyphJustificationInfo", true),
-              })
-          .put(
-              "TEN",
-              new Import[] {
-                new Import("TEN", "java.math.BigDecimal", true),
-                new Import("TEN", "java.math.BigInteger", true),
-              })
-          .put(
-              "BAD_MECH",
-              new Import[] {
-                new Import("BAD_MECH", "org.ietf.jgss.GSSException", true),
-              })
-          .put(
-              "getUserTextColor",
-              new Import[] {
-                new Import("getUserTextColor", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "ClientInfoStatus",
-              new Import[] {
-                new Import("ClientInfoStatus", "java.sql", false),
-              })
-          .put(
-              "BasicMenuBarUI",
-              new Import[] {
-                new Import("BasicMenuBarUI", "javax.swing.plaf.basic", false),
-              })
-          .build();
-}
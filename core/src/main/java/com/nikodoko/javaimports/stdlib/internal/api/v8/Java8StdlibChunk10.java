@@ -1,1568 +0,0 @@
-// Code generated by GenerateStdlib.java. DO NOT EDIT.
-package com.nikodoko.javaimports.stdlib.internal.api.v8;
-
-import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
-import java.util.Map;
-
-public class Java8StdlibChunk10 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
-          .put(
-              "TAG_OS2",
-              new Import[] {
-                new Import("TAG_OS2", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "PrintJobAttribute",
-              new Import[] {
-                new Import("PrintJobAttribute", "javax.print.attribute", false),
-              })
-          .put(
-              "DOMSource",
-              new Import[] {
-                new Import("DOMSource", "javax.xml.transform.dom", false),
-              })
-          .put(
-              "Subset",
-              new Import[] {
-                new Import("Subset", "java.lang.Character", false),
-              })
-          .put(
-              "BORDER_COLOR",
-              new Import[] {
-                new Import("BORDER_COLOR", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "MIDNIGHT",
-              new Import[] {
-                new Import("MIDNIGHT", "java.time.LocalTime", true),
-              })
-          .put(
-              "DynAnyHelper",
-              new Import[] {
-                new Import("DynAnyHelper", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "CertSelector",
-              new Import[] {
-                new Import("CertSelector", "java.security.cert", false),
-              })
-          .put(
-              "NT_MACHINE_UID_NAME",
-              new Import[] {
-                new Import("NT_MACHINE_UID_NAME", "org.ietf.jgss.GSSName", true),
-              })
-          .put(
-              "DocAttributeSet",
-              new Import[] {
-                new Import("DocAttributeSet", "javax.print.attribute", false),
-              })
-          .put(
-              "MARGIN_BOTTOM",
-              new Import[] {
-                new Import("MARGIN_BOTTOM", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "RenderableImage",
-              new Import[] {
-                new Import("RenderableImage", "java.awt.image.renderable", false),
-              })
-          .put(
-              "UnknownGroupException",
-              new Import[] {
-                new Import("UnknownGroupException", "java.rmi.activation", false),
-              })
-          .put(
-              "tk_null",
-              new Import[] {
-                new Import("tk_null", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "DIRECTIONALITY_BOUNDARY_NEUTRAL",
-              new Import[] {
-                new Import("DIRECTIONALITY_BOUNDARY_NEUTRAL", "java.lang.Character", true),
-              })
-          .put(
-              "Background",
-              new Import[] {
-                new Import("Background", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "IIOReadWarningListener",
-              new Import[] {
-                new Import("IIOReadWarningListener", "javax.imageio.event", false),
-              })
-          .put(
-              "getByIndex",
-              new Import[] {
-                new Import("getByIndex", "java.net.NetworkInterface", true),
-              })
-          .put(
-              "newScheduledThreadPool",
-              new Import[] {
-                new Import("newScheduledThreadPool", "java.util.concurrent.Executors", true),
-              })
-          .put(
-              "INTERPRETER_RESOURCE_UNAVAILABLE",
-              new Import[] {
-                new Import(
-                    "INTERPRETER_RESOURCE_UNAVAILABLE",
-                    "javax.print.attribute.standard.PrinterStateReason",
-                    true),
-              })
-          .put(
-              "CRLSelector",
-              new Import[] {
-                new Import("CRLSelector", "java.security.cert", false),
-              })
-          .put(
-              "SocketTimeoutException",
-              new Import[] {
-                new Import("SocketTimeoutException", "java.net", false),
-              })
-          .put(
-              "CertPathRep",
-              new Import[] {
-                new Import("CertPathRep", "java.security.cert.CertPath", false),
-              })
-          .put(
-              "_tk_wstring",
-              new Import[] {
-                new Import("_tk_wstring", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "URISchemeNotSupported",
-              new Import[] {
-                new Import("URISchemeNotSupported", "javax.print.URIException", true),
-              })
-          .put(
-              "PAGE_START",
-              new Import[] {
-                new Import("PAGE_START", "java.awt.BorderLayout", true),
-                new Import("PAGE_START", "java.awt.GridBagConstraints", true),
-              })
-          .put(
-              "ZoneRules",
-              new Import[] {
-                new Import("ZoneRules", "java.time.zone", false),
-              })
-          .put(
-              "EndOfLineStringProperty",
-              new Import[] {
-                new Import("EndOfLineStringProperty", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "_tk_char",
-              new Import[] {
-                new Import("_tk_char", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "IMAGE_INCOMPATIBLE",
-              new Import[] {
-                new Import("IMAGE_INCOMPATIBLE", "java.awt.image.VolatileImage", true),
-              })
-          .put(
-              "REJANG",
-              new Import[] {
-                new Import("REJANG", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "LongSeqHolder",
-              new Import[] {
-                new Import("LongSeqHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "ElementIterator",
-              new Import[] {
-                new Import("ElementIterator", "javax.swing.text", false),
-              })
-          .put(
-              "solveCubic",
-              new Import[] {
-                new Import("solveCubic", "java.awt.geom.CubicCurve2D", true),
-              })
-          .put(
-              "LITTLE_ENDIAN",
-              new Import[] {
-                new Import("LITTLE_ENDIAN", "java.nio.ByteOrder", true),
-              })
-          .put(
-              "createUIs",
-              new Import[] {
-                new Import("createUIs", "javax.swing.plaf.multi.MultiLookAndFeel", true),
-              })
-          .put(
-              "LOCVER",
-              new Import[] {
-                new Import("LOCVER", "java.util.jar.JarEntry", true),
-                new Import("LOCVER", "java.util.jar.JarFile", true),
-                new Import("LOCVER", "java.util.jar.JarInputStream", true),
-                new Import("LOCVER", "java.util.jar.JarOutputStream", true),
-                new Import("LOCVER", "java.util.zip.ZipEntry", true),
-                new Import("LOCVER", "java.util.zip.ZipFile", true),
-                new Import("LOCVER", "java.util.zip.ZipInputStream", true),
-                new Import("LOCVER", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "UNIQUE_ID",
-              new Import[] {
-                new Import("UNIQUE_ID", "org.omg.PortableServer.IdUniquenessPolicyValue", true),
-              })
-          .put(
-              "VK_ALL_CANDIDATES",
-              new Import[] {
-                new Import("VK_ALL_CANDIDATES", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "AEADBadTagException",
-              new Import[] {
-                new Import("AEADBadTagException", "javax.crypto", false),
-              })
-          .put(
-              "HashPrintServiceAttributeSet",
-              new Import[] {
-                new Import("HashPrintServiceAttributeSet", "javax.print.attribute", false),
-              })
-          .put(
-              "LINE_HEIGHT",
-              new Import[] {
-                new Import("LINE_HEIGHT", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "getSyncFactory",
-              new Import[] {
-                new Import("getSyncFactory", "javax.sql.rowset.spi.SyncFactory", true),
-              })
-          .put(
-              "tk_short",
-              new Import[] {
-                new Import("tk_short", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "URI_SOAP_1_2_ROLE_NEXT",
-              new Import[] {
-                new Import("URI_SOAP_1_2_ROLE_NEXT", "javax.xml.soap.SOAPConstants", true),
-              })
-          .put(
-              "PrinterResolution",
-              new Import[] {
-                new Import("PrinterResolution", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "RSAPrivateKeySpec",
-              new Import[] {
-                new Import("RSAPrivateKeySpec", "java.security.spec", false),
-              })
-          .put(
-              "VK_PLUS",
-              new Import[] {
-                new Import("VK_PLUS", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "requireNonNull",
-              new Import[] {
-                new Import("requireNonNull", "java.util.Objects", true),
-              })
-          .put(
-              "TT_NUMBER",
-              new Import[] {
-                new Import("TT_NUMBER", "java.io.StreamTokenizer", true),
-              })
-          .put(
-              "synchronizedList",
-              new Import[] {
-                new Import("synchronizedList", "java.util.Collections", true),
-              })
-          .put(
-              "SchemaViolationException",
-              new Import[] {
-                new Import("SchemaViolationException", "javax.naming.directory", false),
-              })
-          .put(
-              "TableRowSorter",
-              new Import[] {
-                new Import("TableRowSorter", "javax.swing.table", false),
-              })
-          .put(
-              "FileCacheImageOutputStream",
-              new Import[] {
-                new Import("FileCacheImageOutputStream", "javax.imageio.stream", false),
-              })
-          .put(
-              "HTTP_RESPONSE_CODE",
-              new Import[] {
-                new Import("HTTP_RESPONSE_CODE", "javax.xml.ws.handler.MessageContext", true),
-              })
-          .put(
-              "Context",
-              new Import[] {
-                new Import("Context", "javax.naming", false),
-                new Import("Context", "org.omg.CORBA", false),
-              })
-          .put(
-              "SOAP_1_2_CONTENT_TYPE",
-              new Import[] {
-                new Import("SOAP_1_2_CONTENT_TYPE", "javax.xml.soap.SOAPConstants", true),
-              })
-          .put(
-              "getLastModifiedTime",
-              new Import[] {
-                new Import("getLastModifiedTime", "java.nio.file.Files", true),
-              })
-          .put(
-              "PrinterLocation",
-              new Import[] {
-                new Import("PrinterLocation", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "QueuedJobCount",
-              new Import[] {
-                new Import("QueuedJobCount", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "DynFixedOperations",
-              new Import[] {
-                new Import("DynFixedOperations", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "defaultThreadFactory",
-              new Import[] {
-                new Import("defaultThreadFactory", "java.util.concurrent.Executors", true),
-              })
-          .put(
-              "TreeSelectionEvent",
-              new Import[] {
-                new Import("TreeSelectionEvent", "javax.swing.event", false),
-              })
-          .put(
-              "JOB_TRANSFORMING",
-              new Import[] {
-                new Import(
-                    "JOB_TRANSFORMING", "javax.print.attribute.standard.JobStateReason", true),
-              })
-          .put(
-              "CLASS_ABSTRACT",
-              new Import[] {
-                new Import("CLASS_ABSTRACT", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "getCommonPoolParallelism",
-              new Import[] {
-                new Import("getCommonPoolParallelism", "java.util.concurrent.ForkJoinPool", true),
-              })
-          .put(
-              "setAlignment",
-              new Import[] {
-                new Import("setAlignment", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "SingleSelectionModel",
-              new Import[] {
-                new Import("SingleSelectionModel", "javax.swing", false),
-              })
-          .put(
-              "InvalidSlotHelper",
-              new Import[] {
-                new Import("InvalidSlotHelper", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "ComponentColorModel",
-              new Import[] {
-                new Import("ComponentColorModel", "java.awt.image", false),
-              })
-          .put(
-              "functionColumnIn",
-              new Import[] {
-                new Import("functionColumnIn", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "JOB_QUEUED",
-              new Import[] {
-                new Import("JOB_QUEUED", "javax.print.attribute.standard.JobStateReason", true),
-              })
-          .put(
-              "DATA_CONVERSION",
-              new Import[] {
-                new Import("DATA_CONVERSION", "org.omg.CORBA", false),
-              })
-          .put(
-              "setShort",
-              new Import[] {
-                new Import("setShort", "java.lang.reflect.Array", true),
-              })
-          .put(
-              "getTimeInstance",
-              new Import[] {
-                new Import("getTimeInstance", "java.text.DateFormat", true),
-              })
-          .put(
-              "TitledBorder",
-              new Import[] {
-                new Import("TitledBorder", "javax.swing.border", false),
-              })
-          .put(
-              "DelayQueue",
-              new Import[] {
-                new Import("DelayQueue", "java.util.concurrent", false),
-              })
-          .put(
-              "DateTimeAtCompleted",
-              new Import[] {
-                new Import("DateTimeAtCompleted", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "Ellipse2D",
-              new Import[] {
-                new Import("Ellipse2D", "java.awt.geom", false),
-              })
-          .put(
-              "IGNORE_ALL_BEANINFO",
-              new Import[] {
-                new Import("IGNORE_ALL_BEANINFO", "java.beans.Introspector", true),
-              })
-          .put(
-              "SaslClient",
-              new Import[] {
-                new Import("SaslClient", "javax.security.sasl", false),
-              })
-          .put(
-              "DEFECTIVE_TOKEN",
-              new Import[] {
-                new Import("DEFECTIVE_TOKEN", "org.ietf.jgss.GSSException", true),
-              })
-          .put(
-              "DynValueCommonOperations",
-              new Import[] {
-                new Import("DynValueCommonOperations", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "PageFormat",
-              new Import[] {
-                new Import("PageFormat", "java.awt.print", false),
-              })
-          .put(
-              "LIMBU",
-              new Import[] {
-                new Import("LIMBU", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "BasicToolTipUI",
-              new Import[] {
-                new Import("BasicToolTipUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "JToggleButton",
-              new Import[] {
-                new Import("JToggleButton", "javax.swing", false),
-              })
-          .put(
-              "DefaultCaret",
-              new Import[] {
-                new Import("DefaultCaret", "javax.swing.text", false),
-              })
-          .put(
-              "NORTH",
-              new Import[] {
-                new Import("NORTH", "java.awt.BorderLayout", true),
-                new Import("NORTH", "java.awt.GridBagConstraints", true),
-                new Import("NORTH", "javax.swing.SpringLayout", true),
-                new Import("NORTH", "javax.swing.SwingConstants", true),
-              })
-          .put(
-              "JobImpressions",
-              new Import[] {
-                new Import("JobImpressions", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "singletonMap",
-              new Import[] {
-                new Import("singletonMap", "java.util.Collections", true),
-              })
-          .put(
-              "XMLFilterImpl",
-              new Import[] {
-                new Import("XMLFilterImpl", "org.xml.sax.helpers", false),
-              })
-          .put(
-              "DynAnyOperations",
-              new Import[] {
-                new Import("DynAnyOperations", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "VALUE_ANTIALIAS_DEFAULT",
-              new Import[] {
-                new Import("VALUE_ANTIALIAS_DEFAULT", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "AsynchronousChannel",
-              new Import[] {
-                new Import("AsynchronousChannel", "java.nio.channels", false),
-              })
-          .put(
-              "XmlElementWrapper",
-              new Import[] {
-                new Import("XmlElementWrapper", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "HashSet",
-              new Import[] {
-                new Import("HashSet", "java.util", false),
-              })
-          .put(
-              "SORTED",
-              new Import[] {
-                new Import("SORTED", "java.util.Spliterator", true),
-              })
-          .put(
-              "AbstractList",
-              new Import[] {
-                new Import("AbstractList", "java.util", false),
-              })
-          .put(
-              "RESIZE_WEIGHT_PROPERTY",
-              new Import[] {
-                new Import("RESIZE_WEIGHT_PROPERTY", "javax.swing.JSplitPane", true),
-              })
-          .put(
-              "SURROGATE",
-              new Import[] {
-                new Import("SURROGATE", "java.lang.Character", true),
-              })
-          .put(
-              "EMPTY_MAP",
-              new Import[] {
-                new Import("EMPTY_MAP", "java.util.Collections", true),
-              })
-          .put(
-              "synchronizedNavigableMap",
-              new Import[] {
-                new Import("synchronizedNavigableMap", "java.util.Collections", true),
-              })
-          .put(
-              "GRADE_CHECK_MODIFIED_AT_COMMIT",
-              new Import[] {
-                new Import(
-                    "GRADE_CHECK_MODIFIED_AT_COMMIT", "javax.sql.rowset.spi.SyncProvider", true),
-              })
-          .put(
-              "parameterModeUnknown",
-              new Import[] {
-                new Import("parameterModeUnknown", "java.sql.ParameterMetaData", true),
-              })
-          .put(
-              "RequestProcessingPolicy",
-              new Import[] {
-                new Import("RequestProcessingPolicy", "org.omg.PortableServer", false),
-              })
-          .put(
-              "ICON_MONO_32x32",
-              new Import[] {
-                new Import("ICON_MONO_32x32", "java.beans.BeanInfo", true),
-              })
-          .put(
-              "X_AXIS",
-              new Import[] {
-                new Import("X_AXIS", "javax.swing.BoxLayout", true),
-                new Import("X_AXIS", "javax.swing.text.View", true),
-              })
-          .put(
-              "SynthPanelUI",
-              new Import[] {
-                new Import("SynthPanelUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "DISABLED",
-              new Import[] {
-                new Import("DISABLED", "javax.swing.plaf.synth.SynthConstants", true),
-              })
-          .put(
-              "RGBImageFilter",
-              new Import[] {
-                new Import("RGBImageFilter", "java.awt.image", false),
-              })
-          .put(
-              "BasicTableUI",
-              new Import[] {
-                new Import("BasicTableUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "CopiesSupported",
-              new Import[] {
-                new Import("CopiesSupported", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "HORIZONTAL_SCROLLBAR",
-              new Import[] {
-                new Import("HORIZONTAL_SCROLLBAR", "javax.swing.ScrollPaneConstants", true),
-              })
-          .put(
-              "DynValueBox",
-              new Import[] {
-                new Import("DynValueBox", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "LONGVARBINARY",
-              new Import[] {
-                new Import("LONGVARBINARY", "java.sql.Types", true),
-              })
-          .put(
-              "BYTE_ARRAY",
-              new Import[] {
-                new Import("BYTE_ARRAY", "javax.print.DocFlavor", false),
-              })
-          .put(
-              "bestRowTemporary",
-              new Import[] {
-                new Import("bestRowTemporary", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "AuthenticationNotSupportedException",
-              new Import[] {
-                new Import("AuthenticationNotSupportedException", "javax.naming", false),
-              })
-          .put(
-              "EndpointContext",
-              new Import[] {
-                new Import("EndpointContext", "javax.xml.ws", false),
-              })
-          .put(
-              "BELOW_BASELINE_LEADING",
-              new Import[] {
-                new Import("BELOW_BASELINE_LEADING", "java.awt.GridBagConstraints", true),
-              })
-          .put(
-              "Appendable",
-              new Import[] {
-                new Import("Appendable", "java.lang", false),
-              })
-          .put(
-              "LOCEXT",
-              new Import[] {
-                new Import("LOCEXT", "java.util.jar.JarEntry", true),
-                new Import("LOCEXT", "java.util.jar.JarFile", true),
-                new Import("LOCEXT", "java.util.jar.JarInputStream", true),
-                new Import("LOCEXT", "java.util.jar.JarOutputStream", true),
-                new Import("LOCEXT", "java.util.zip.ZipEntry", true),
-                new Import("LOCEXT", "java.util.zip.ZipFile", true),
-                new Import("LOCEXT", "java.util.zip.ZipInputStream", true),
-                new Import("LOCEXT", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "HTTP_LENGTH_REQUIRED",
-              new Import[] {
-                new Import("HTTP_LENGTH_REQUIRED", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "CookiePolicy",
-              new Import[] {
-                new Import("CookiePolicy", "java.net", false),
-              })
-          .put(
-              "PRIORITY_KASHIDA",
-              new Import[] {
-                new Import("PRIORITY_KASHIDA", "java.awt.font.GlyphJustificationInfo", true),
-              })
-          .put(
-              "TCP_NODELAY",
-              new Import[] {
-                new Import("TCP_NODELAY", "java.net.SocketOptions", true),
-                new Import("TCP_NODELAY", "java.net.StandardSocketOptions", true),
-              })
-          .put(
-              "replaceAll",
-              new Import[] {
-                new Import("replaceAll", "java.util.Collections", true),
-              })
-          .put(
-              "typePredNone",
-              new Import[] {
-                new Import("typePredNone", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "VK_EURO_SIGN",
-              new Import[] {
-                new Import("VK_EURO_SIGN", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "MIN_NORMAL",
-              new Import[] {
-                new Import("MIN_NORMAL", "java.lang.Double", true),
-                new Import("MIN_NORMAL", "java.lang.Float", true),
-              })
-          .put(
-              "PrivilegedAction",
-              new Import[] {
-                new Import("PrivilegedAction", "java.security", false),
-              })
-          .put(
-              "HTTPS",
-              new Import[] {
-                new Import(
-                    "HTTPS", "javax.print.attribute.standard.ReferenceUriSchemesSupported", true),
-              })
-          .put(
-              "WritableRaster",
-              new Import[] {
-                new Import("WritableRaster", "java.awt.image", false),
-              })
-          .put(
-              "imageFlavor",
-              new Import[] {
-                new Import("imageFlavor", "java.awt.datatransfer.DataFlavor", true),
-              })
-          .put(
-              "CTRL_MASK",
-              new Import[] {
-                new Import("CTRL_MASK", "java.awt.Event", true),
-                new Import("CTRL_MASK", "java.awt.event.ActionEvent", true),
-                new Import("CTRL_MASK", "java.awt.event.InputEvent", true),
-              })
-          .put(
-              "PixelGrabber",
-              new Import[] {
-                new Import("PixelGrabber", "java.awt.image", false),
-              })
-          .put(
-              "isFinal",
-              new Import[] {
-                new Import("isFinal", "java.lang.reflect.Modifier", true),
-              })
-          .put(
-              "NotIdentifiableEventImpl",
-              new Import[] {
-                new Import("NotIdentifiableEventImpl", "javax.xml.bind.helpers", false),
-              })
-          .put(
-              "ZoneOffsetTransition",
-              new Import[] {
-                new Import("ZoneOffsetTransition", "java.time.zone", false),
-              })
-          .put(
-              "filterTags",
-              new Import[] {
-                new Import("filterTags", "java.util.Locale", true),
-              })
-          .put(
-              "setConfiguration",
-              new Import[] {
-                new Import("setConfiguration", "javax.security.auth.login.Configuration", true),
-              })
-          .put(
-              "MenuDragMouseListener",
-              new Import[] {
-                new Import("MenuDragMouseListener", "javax.swing.event", false),
-              })
-          .put(
-              "SerialArray",
-              new Import[] {
-                new Import("SerialArray", "javax.sql.rowset.serial", false),
-              })
-          .put(
-              "TransformerFactoryConfigurationError",
-              new Import[] {
-                new Import("TransformerFactoryConfigurationError", "javax.xml.transform", false),
-              })
-          .put(
-              "BasicOptionPaneUI",
-              new Import[] {
-                new Import("BasicOptionPaneUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "STAPLE_DUAL_TOP",
-              new Import[] {
-                new Import("STAPLE_DUAL_TOP", "javax.print.attribute.standard.Finishings", true),
-              })
-          .put(
-              "createHorizontalGlue",
-              new Import[] {
-                new Import("createHorizontalGlue", "javax.swing.Box", true),
-              })
-          .put(
-              "StreamReaderDelegate",
-              new Import[] {
-                new Import("StreamReaderDelegate", "javax.xml.stream.util", false),
-              })
-          .put(
-              "ExecutorService",
-              new Import[] {
-                new Import("ExecutorService", "java.util.concurrent", false),
-              })
-          .put(
-              "asin",
-              new Import[] {
-                new Import("asin", "java.lang.Math", true),
-                new Import("asin", "java.lang.StrictMath", true),
-              })
-          .put(
-              "TableStringConverter",
-              new Import[] {
-                new Import("TableStringConverter", "javax.swing.table", false),
-              })
-          .put(
-              "OpenMBeanOperationInfo",
-              new Import[] {
-                new Import("OpenMBeanOperationInfo", "javax.management.openmbean", false),
-              })
-          .put(
-              "XmlAccessType",
-              new Import[] {
-                new Import("XmlAccessType", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "PAGE_EXISTS",
-              new Import[] {
-                new Import("PAGE_EXISTS", "java.awt.print.Printable", true),
-              })
-          .put(
-              "icSigProfileDescriptionTag",
-              new Import[] {
-                new Import("icSigProfileDescriptionTag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "MalformedURLException",
-              new Import[] {
-                new Import("MalformedURLException", "java.net", false),
-              })
-          .put(
-              "BasicButtonListener",
-              new Import[] {
-                new Import("BasicButtonListener", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "CONREF",
-              new Import[] {
-                new Import("CONREF", "javax.swing.text.html.parser.DTDConstants", true),
-              })
-          .put(
-              "MatteBorderUIResource",
-              new Import[] {
-                new Import("MatteBorderUIResource", "javax.swing.plaf.BorderUIResource", false),
-              })
-          .put(
-              "FILE_HIDING_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("FILE_HIDING_CHANGED_PROPERTY", "javax.swing.JFileChooser", true),
-              })
-          .put(
-              "JFrame",
-              new Import[] {
-                new Import("JFrame", "javax.swing", false),
-              })
-          .put(
-              "getAWTKeyStrokeForEvent",
-              new Import[] {
-                new Import("getAWTKeyStrokeForEvent", "java.awt.AWTKeyStroke", true),
-              })
-          .put(
-              "SOUTH",
-              new Import[] {
-                new Import("SOUTH", "java.awt.BorderLayout", true),
-                new Import("SOUTH", "java.awt.GridBagConstraints", true),
-                new Import("SOUTH", "javax.swing.SpringLayout", true),
-                new Import("SOUTH", "javax.swing.SwingConstants", true),
-              })
-          .put(
-              "Vector",
-              new Import[] {
-                new Import("Vector", "java.util", false),
-              })
-          .put(
-              "PREFERRED_SIZE",
-              new Import[] {
-                new Import("PREFERRED_SIZE", "javax.swing.GroupLayout", true),
-              })
-          .put(
-              "TYPE_SCROLL_SENSITIVE",
-              new Import[] {
-                new Import("TYPE_SCROLL_SENSITIVE", "java.sql.ResultSet", true),
-              })
-          .put(
-              "TreeExpansionEvent",
-              new Import[] {
-                new Import("TreeExpansionEvent", "javax.swing.event", false),
-              })
-          .put(
-              "createDirectories",
-              new Import[] {
-                new Import("createDirectories", "java.nio.file.Files", true),
-              })
-          .put(
-              "typeNullableUnknown",
-              new Import[] {
-                new Import("typeNullableUnknown", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "ReflectionException",
-              new Import[] {
-                new Import("ReflectionException", "javax.management", false),
-              })
-          .put(
-              "getDataTypeSize",
-              new Import[] {
-                new Import("getDataTypeSize", "java.awt.image.DataBuffer", true),
-              })
-          .put(
-              "VK_KP_DOWN",
-              new Import[] {
-                new Import("VK_KP_DOWN", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "Unpacker",
-              new Import[] {
-                new Import("Unpacker", "java.util.jar.Pack200", false),
-              })
-          .put(
-              "X509Certificate",
-              new Import[] {
-                new Import("X509Certificate", "java.security.cert", false),
-                new Import("X509Certificate", "javax.security.cert", false),
-              })
-          .put(
-              "completedFuture",
-              new Import[] {
-                new Import("completedFuture", "java.util.concurrent.CompletableFuture", true),
-              })
-          .put(
-              "LETTERLIKE_SYMBOLS",
-              new Import[] {
-                new Import("LETTERLIKE_SYMBOLS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "ECParameterSpec",
-              new Import[] {
-                new Import("ECParameterSpec", "java.security.spec", false),
-              })
-          .put(
-              "Byte",
-              new Import[] {
-                new Import("Byte", "java.lang", false),
-              })
-          .put(
-              "AUTO_RESIZE_SUBSEQUENT_COLUMNS",
-              new Import[] {
-                new Import("AUTO_RESIZE_SUBSEQUENT_COLUMNS", "javax.swing.JTable", true),
-              })
-          .put(
-              "DataOutput",
-              new Import[] {
-                new Import("DataOutput", "java.io", false),
-              })
-          .put(
-              "TMSTARTRSCAN",
-              new Import[] {
-                new Import("TMSTARTRSCAN", "javax.transaction.xa.XAResource", true),
-              })
-          .put(
-              "typeNullable",
-              new Import[] {
-                new Import("typeNullable", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "NOSHADE",
-              new Import[] {
-                new Import("NOSHADE", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "DetailEntry",
-              new Import[] {
-                new Import("DetailEntry", "javax.xml.soap", false),
-              })
-          .put(
-              "PopupMenuListener",
-              new Import[] {
-                new Import("PopupMenuListener", "javax.swing.event", false),
-              })
-          .put(
-              "Reader",
-              new Import[] {
-                new Import("Reader", "java.io", false),
-              })
-          .put(
-              "getMidiDeviceInfo",
-              new Import[] {
-                new Import("getMidiDeviceInfo", "javax.sound.midi.MidiSystem", true),
-              })
-          .put(
-              "StreamSupport",
-              new Import[] {
-                new Import("StreamSupport", "java.util.stream", false),
-              })
-          .put(
-              "DragSourceListener",
-              new Import[] {
-                new Import("DragSourceListener", "java.awt.dnd", false),
-              })
-          .put(
-              "DynStruct",
-              new Import[] {
-                new Import("DynStruct", "org.omg.CORBA", false),
-                new Import("DynStruct", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "LAST_LINE_END",
-              new Import[] {
-                new Import("LAST_LINE_END", "java.awt.GridBagConstraints", true),
-              })
-          .put(
-              "DragSourceEvent",
-              new Import[] {
-                new Import("DragSourceEvent", "java.awt.dnd", false),
-              })
-          .put(
-              "SYRIAC",
-              new Import[] {
-                new Import("SYRIAC", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "TOPDOWNLEFTRIGHT",
-              new Import[] {
-                new Import("TOPDOWNLEFTRIGHT", "java.awt.image.ImageConsumer", true),
-              })
-          .put(
-              "UnknownEncoding",
-              new Import[] {
-                new Import("UnknownEncoding", "org.omg.IOP.CodecFactoryPackage", false),
-              })
-          .put(
-              "RELAXNG_NS_URI",
-              new Import[] {
-                new Import("RELAXNG_NS_URI", "javax.xml.XMLConstants", true),
-              })
-          .put(
-              "CHEROKEE",
-              new Import[] {
-                new Import("CHEROKEE", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "MISCELLANEOUS_SYMBOLS_AND_ARROWS",
-              new Import[] {
-                new Import(
-                    "MISCELLANEOUS_SYMBOLS_AND_ARROWS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "PopupMenuBorder",
-              new Import[] {
-                new Import("PopupMenuBorder", "javax.swing.plaf.metal.MetalBorders", false),
-              })
-          .put(
-              "TAG_HEAD",
-              new Import[] {
-                new Import("TAG_HEAD", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "ROUND_FLOOR",
-              new Import[] {
-                new Import("ROUND_FLOOR", "java.math.BigDecimal", true),
-              })
-          .put(
-              "PlatformLoggingMXBean",
-              new Import[] {
-                new Import("PlatformLoggingMXBean", "java.lang.management", false),
-              })
-          .put(
-              "SecretKeyFactory",
-              new Import[] {
-                new Import("SecretKeyFactory", "javax.crypto", false),
-              })
-          .put(
-              "CONCURRENT",
-              new Import[] {
-                new Import("CONCURRENT", "java.util.Spliterator", true),
-              })
-          .put(
-              "FontFamily",
-              new Import[] {
-                new Import("FontFamily", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "NUMERIC",
-              new Import[] {
-                new Import("NUMERIC", "java.sql.Types", true),
-              })
-          .put(
-              "PANEL",
-              new Import[] {
-                new Import("PANEL", "javax.accessibility.AccessibleRole", true),
-                new Import("PANEL", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "JavaFileManager",
-              new Import[] {
-                new Import("JavaFileManager", "javax.tools", false),
-              })
-          .put(
-              "LIGATURE",
-              new Import[] {
-                new Import("LIGATURE", "java.awt.font.GlyphMetrics", true),
-              })
-          .put(
-              "menu",
-              new Import[] {
-                new Import("menu", "java.awt.SystemColor", true),
-              })
-          .put(
-              "ANCIENT_GREEK_MUSICAL_NOTATION",
-              new Import[] {
-                new Import(
-                    "ANCIENT_GREEK_MUSICAL_NOTATION", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "attributeNullable",
-              new Import[] {
-                new Import("attributeNullable", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "RequiredModelMBean",
-              new Import[] {
-                new Import("RequiredModelMBean", "javax.management.modelmbean", false),
-              })
-          .put(
-              "getLong",
-              new Import[] {
-                new Import("getLong", "java.lang.Long", true),
-                new Import("getLong", "java.lang.reflect.Array", true),
-              })
-          .put(
-              "EventContext",
-              new Import[] {
-                new Import("EventContext", "javax.naming.event", false),
-              })
-          .put(
-              "SIDE",
-              new Import[] {
-                new Import("SIDE", "javax.print.attribute.standard.MediaTray", true),
-              })
-          .put(
-              "XAER_RMFAIL",
-              new Import[] {
-                new Import("XAER_RMFAIL", "javax.transaction.xa.XAException", true),
-              })
-          .put(
-              "JOB_CANCELED",
-              new Import[] {
-                new Import("JOB_CANCELED", "javax.print.event.PrintJobEvent", true),
-              })
-          .put(
-              "AttributeSet",
-              new Import[] {
-                new Import("AttributeSet", "javax.print.attribute", false),
-                new Import("AttributeSet", "javax.swing.text", false),
-              })
-          .put(
-              "RADIO_BUTTON",
-              new Import[] {
-                new Import("RADIO_BUTTON", "javax.accessibility.AccessibleRole", true),
-                new Import("RADIO_BUTTON", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "NameClassPair",
-              new Import[] {
-                new Import("NameClassPair", "javax.naming", false),
-              })
-          .put(
-              "PrintServiceAttributeListener",
-              new Import[] {
-                new Import("PrintServiceAttributeListener", "javax.print.event", false),
-              })
-          .put(
-              "OctetStreamData",
-              new Import[] {
-                new Import("OctetStreamData", "javax.xml.crypto", false),
-              })
-          .put(
-              "VALUE_COLOR_RENDER_SPEED",
-              new Import[] {
-                new Import("VALUE_COLOR_RENDER_SPEED", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "InstantiationException",
-              new Import[] {
-                new Import("InstantiationException", "java.lang", false),
-              })
-          .put(
-              "icSigMediaWhitePointTag",
-              new Import[] {
-                new Import("icSigMediaWhitePointTag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "NAMESPACE",
-              new Import[] {
-                new Import("NAMESPACE", "javax.xml.stream.XMLStreamConstants", true),
-              })
-          .put(
-              "SRC_ATOP",
-              new Import[] {
-                new Import("SRC_ATOP", "java.awt.AlphaComposite", true),
-              })
-          .put(
-              "rotate",
-              new Import[] {
-                new Import("rotate", "java.util.Collections", true),
-              })
-          .put(
-              "HIGH",
-              new Import[] {
-                new Import("HIGH", "java.awt.PageAttributes.PrintQualityType", true),
-                new Import("HIGH", "javax.print.attribute.standard.PrintQuality", true),
-              })
-          .put(
-              "DESELECTED",
-              new Import[] {
-                new Import("DESELECTED", "java.awt.event.ItemEvent", true),
-              })
-          .put(
-              "THURSDAY",
-              new Import[] {
-                new Import("THURSDAY", "java.util.Calendar", true),
-              })
-          .put(
-              "MOUSE_PRESSED",
-              new Import[] {
-                new Import("MOUSE_PRESSED", "java.awt.event.MouseEvent", true),
-              })
-          .put(
-              "XMLFormatter",
-              new Import[] {
-                new Import("XMLFormatter", "java.util.logging", false),
-              })
-          .put(
-              "getSystemScope",
-              new Import[] {
-                new Import("getSystemScope", "java.security.IdentityScope", true),
-              })
-          .put(
-              "BasicScrollPaneUI",
-              new Import[] {
-                new Import("BasicScrollPaneUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "DECREMENT",
-              new Import[] {
-                new Import("DECREMENT", "javax.accessibility.AccessibleAction", true),
-              })
-          .put(
-              "IndirectionException",
-              new Import[] {
-                new Import("IndirectionException", "org.omg.CORBA.portable", false),
-              })
-          .put(
-              "CDATASection",
-              new Import[] {
-                new Import("CDATASection", "org.w3c.dom", false),
-              })
-          .put(
-              "BufferedInputStream",
-              new Import[] {
-                new Import("BufferedInputStream", "java.io", false),
-              })
-          .put(
-              "_dk_ValueBox",
-              new Import[] {
-                new Import("_dk_ValueBox", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "SIGN",
-              new Import[] {
-                new Import("SIGN", "java.text.NumberFormat.Field", true),
-                new Import("SIGN", "javax.xml.crypto.KeySelector.Purpose", true),
-              })
-          .put(
-              "createHandler",
-              new Import[] {
-                new Import("createHandler", "java.beans.XMLDecoder", true),
-              })
-          .put(
-              "UserPrincipalLookupService",
-              new Import[] {
-                new Import("UserPrincipalLookupService", "java.nio.file.attribute", false),
-              })
-          .put(
-              "Sequencer",
-              new Import[] {
-                new Import("Sequencer", "javax.sound.midi", false),
-              })
-          .put(
-              "NO_MODIFICATION_ALLOWED_ERR",
-              new Import[] {
-                new Import("NO_MODIFICATION_ALLOWED_ERR", "org.w3c.dom.DOMException", true),
-              })
-          .put(
-              "PosixFilePermission",
-              new Import[] {
-                new Import("PosixFilePermission", "java.nio.file.attribute", false),
-              })
-          .put(
-              "IDREFS",
-              new Import[] {
-                new Import("IDREFS", "javax.swing.text.html.parser.DTDConstants", true),
-              })
-          .put(
-              "ScriptEngine",
-              new Import[] {
-                new Import("ScriptEngine", "javax.script", false),
-              })
-          .put(
-              "DynUnionHelper",
-              new Import[] {
-                new Import("DynUnionHelper", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "SOAP_RECEIVER_FAULT",
-              new Import[] {
-                new Import("SOAP_RECEIVER_FAULT", "javax.xml.soap.SOAPConstants", true),
-              })
-          .put(
-              "MouseMotionAdapter",
-              new Import[] {
-                new Import("MouseMotionAdapter", "java.awt.event", false),
-              })
-          .put(
-              "getKeyModifiersText",
-              new Import[] {
-                new Import("getKeyModifiersText", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "SCRIPT",
-              new Import[] {
-                new Import("SCRIPT", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "_DynAnyStub",
-              new Import[] {
-                new Import("_DynAnyStub", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "ByteArrayInputStream",
-              new Import[] {
-                new Import("ByteArrayInputStream", "java.io", false),
-              })
-          .put(
-              "CancellationException",
-              new Import[] {
-                new Import("CancellationException", "java.util.concurrent", false),
-              })
-          .put(
-              "ForkJoinWorkerThreadFactory",
-              new Import[] {
-                new Import(
-                    "ForkJoinWorkerThreadFactory", "java.util.concurrent.ForkJoinPool", false),
-              })
-          .put(
-              "getAcceleratorSelectedForeground",
-              new Import[] {
-                new Import(
-                    "getAcceleratorSelectedForeground",
-                    "javax.swing.plaf.metal.MetalLookAndFeel",
-                    true),
-              })
-          .put(
-              "DateFormatter",
-              new Import[] {
-                new Import("DateFormatter", "javax.swing.text", false),
-              })
-          .put(
-              "Throwable",
-              new Import[] {
-                new Import("Throwable", "java.lang", false),
-              })
-          .put(
-              "Visibility",
-              new Import[] {
-                new Import("Visibility", "java.beans", false),
-              })
-          .put(
-              "LIFESPAN_POLICY_ID",
-              new Import[] {
-                new Import("LIFESPAN_POLICY_ID", "org.omg.PortableServer", false),
-              })
-          .put(
-              "newJMXConnectorServer",
-              new Import[] {
-                new Import(
-                    "newJMXConnectorServer",
-                    "javax.management.remote.JMXConnectorServerFactory",
-                    true),
-              })
-          .put(
-              "UnsupportedClassVersionError",
-              new Import[] {
-                new Import("UnsupportedClassVersionError", "java.lang", false),
-              })
-          .put(
-              "IP_MULTICAST_IF",
-              new Import[] {
-                new Import("IP_MULTICAST_IF", "java.net.SocketOptions", true),
-                new Import("IP_MULTICAST_IF", "java.net.StandardSocketOptions", true),
-              })
-          .put(
-              "SignatureMethodParameterSpec",
-              new Import[] {
-                new Import("SignatureMethodParameterSpec", "javax.xml.crypto.dsig.spec", false),
-              })
-          .put(
-              "isSurrogatePair",
-              new Import[] {
-                new Import("isSurrogatePair", "java.lang.Character", true),
-              })
-          .put(
-              "CHILD_POLICY_SEQUENCE",
-              new Import[] {
-                new Import(
-                    "CHILD_POLICY_SEQUENCE", "javax.imageio.metadata.IIOMetadataFormat", true),
-              })
-          .put(
-              "installColorsAndFont",
-              new Import[] {
-                new Import("installColorsAndFont", "javax.swing.LookAndFeel", true),
-              })
-          .put(
-              "RelationException",
-              new Import[] {
-                new Import("RelationException", "javax.management.relation", false),
-              })
-          .put(
-              "IMP_LIMIT",
-              new Import[] {
-                new Import("IMP_LIMIT", "org.omg.CORBA", false),
-              })
-          .put(
-              "KeyGenerator",
-              new Import[] {
-                new Import("KeyGenerator", "javax.crypto", false),
-              })
-          .put(
-              "StyledTextAction",
-              new Import[] {
-                new Import("StyledTextAction", "javax.swing.text.StyledEditorKit", false),
-              })
-          .put(
-              "AnySeqHelper",
-              new Import[] {
-                new Import("AnySeqHelper", "org.omg.CORBA", false),
-                new Import("AnySeqHelper", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "ToDoubleFunction",
-              new Import[] {
-                new Import("ToDoubleFunction", "java.util.function", false),
-              })
-          .put(
-              "MultiProgressBarUI",
-              new Import[] {
-                new Import("MultiProgressBarUI", "javax.swing.plaf.multi", false),
-              })
-          .put(
-              "POAManagerOperations",
-              new Import[] {
-                new Import("POAManagerOperations", "org.omg.PortableServer", false),
-              })
-          .put(
-              "PaintEvent",
-              new Import[] {
-                new Import("PaintEvent", "java.awt.event", false),
-              })
-          .put(
-              "TEXTAREA",
-              new Import[] {
-                new Import("TEXTAREA", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "initialSubString",
-              new Import[] {
-                new Import("initialSubString", "javax.management.Query", true),
-              })
-          .put(
-              "createMatteBorder",
-              new Import[] {
-                new Import("createMatteBorder", "javax.swing.BorderFactory", true),
-              })
-          .put(
-              "JViewport",
-              new Import[] {
-                new Import("JViewport", "javax.swing", false),
-              })
-          .put(
-              "notExists",
-              new Import[] {
-                new Import("notExists", "java.nio.file.Files", true),
-              })
-          .put(
-              "PUBLIC_KEY",
-              new Import[] {
-                new Import("PUBLIC_KEY", "javax.crypto.Cipher", true),
-              })
-          .put(
-              "VK_CLOSE_BRACKET",
-              new Import[] {
-                new Import("VK_CLOSE_BRACKET", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "writeAttributeSet",
-              new Import[] {
-                new Import("writeAttributeSet", "javax.swing.text.StyleContext", true),
-              })
-          .put(
-              "S_RESIZE_CURSOR",
-              new Import[] {
-                new Import("S_RESIZE_CURSOR", "java.awt.Cursor", true),
-                new Import("S_RESIZE_CURSOR", "java.awt.Frame", true),
-              })
-          .put(
-              "COUNTING_ROD_NUMERALS",
-              new Import[] {
-                new Import("COUNTING_ROD_NUMERALS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "createIndexed",
-              new Import[] {
-                new Import("createIndexed", "javax.imageio.ImageTypeSpecifier", true),
-              })
-          .put(
-              "ConcurrentLinkedDeque",
-              new Import[] {
-                new Import("ConcurrentLinkedDeque", "java.util.concurrent", false),
-              })
-          .put(
-              "POLICY_NOANONYMOUS",
-              new Import[] {
-                new Import("POLICY_NOANONYMOUS", "javax.security.sasl.Sasl", true),
-              })
-          .put(
-              "UNWRAP_MODE",
-              new Import[] {
-                new Import("UNWRAP_MODE", "javax.crypto.Cipher", true),
-              })
-          .put(
-              "_tk_void",
-              new Import[] {
-                new Import("_tk_void", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "DefaultFocusManager",
-              new Import[] {
-                new Import("DefaultFocusManager", "javax.swing", false),
-              })
-          .put(
-              "ConvolveOp",
-              new Import[] {
-                new Import("ConvolveOp", "java.awt.image", false),
-              })
-          .put(
-              "getSeparatorBackground",
-              new Import[] {
-                new Import(
-                    "getSeparatorBackground", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "SynthDesktopIconUI",
-              new Import[] {
-                new Import("SynthDesktopIconUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "NotificationListener",
-              new Import[] {
-                new Import("NotificationListener", "javax.management", false),
-              })
-          .build();
-}
@@ -1,1666 +0,0 @@
-// Code generated by GenerateStdlib.java. DO NOT EDIT.
-package com.nikodoko.javaimports.stdlib.internal.api.v8;
-
-import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
-import java.util.Map;
-
-public class Java8StdlibChunk11 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
-          .put(
-              "ListEditor",
-              new Import[] {
-                new Import("ListEditor", "javax.swing.JSpinner", false),
-              })
-          .put(
-              "BUFFERED_OPTION",
-              new Import[] {
-                new Import("BUFFERED_OPTION", "javax.swing.DebugGraphics", true),
-              })
-          .put(
-              "BorderUIResource",
-              new Import[] {
-                new Import("BorderUIResource", "javax.swing.plaf", false),
-              })
-          .put(
-              "NoServant",
-              new Import[] {
-                new Import("NoServant", "org.omg.PortableServer.POAPackage", false),
-              })
-          .put(
-              "String",
-              new Import[] {
-                new Import("String", "java.lang", false),
-              })
-          .put(
-              "NO_SYNC",
-              new Import[] {
-                new Import("NO_SYNC", "javax.sound.midi.Sequencer.SyncMode", true),
-              })
-          .put(
-              "_tk_union",
-              new Import[] {
-                new Import("_tk_union", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "TaggedComponentHolder",
-              new Import[] {
-                new Import("TaggedComponentHolder", "org.omg.IOP", false),
-              })
-          .put(
-              "Runtime",
-              new Import[] {
-                new Import("Runtime", "java.lang", false),
-              })
-          .put(
-              "JMXConnector",
-              new Import[] {
-                new Import("JMXConnector", "javax.management.remote", false),
-              })
-          .put(
-              "ListCellRenderer",
-              new Import[] {
-                new Import("ListCellRenderer", "javax.swing", false),
-              })
-          .put(
-              "ImageInputStreamImpl",
-              new Import[] {
-                new Import("ImageInputStreamImpl", "javax.imageio.stream", false),
-              })
-          .put(
-              "NOFRAMES",
-              new Import[] {
-                new Import("NOFRAMES", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "DoubleUnaryOperator",
-              new Import[] {
-                new Import("DoubleUnaryOperator", "java.util.function", false),
-              })
-          .put(
-              "WEIGHT_HEAVY",
-              new Import[] {
-                new Import("WEIGHT_HEAVY", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "LOWSRC",
-              new Import[] {
-                new Import("LOWSRC", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "toUnicode",
-              new Import[] {
-                new Import("toUnicode", "java.net.IDN", true),
-              })
-          .put(
-              "LEFT",
-              new Import[] {
-                new Import("LEFT", "java.awt.Event", true),
-                new Import("LEFT", "java.awt.FlowLayout", true),
-                new Import("LEFT", "java.awt.Label", true),
-                new Import("LEFT", "javax.swing.JSplitPane", true),
-                new Import("LEFT", "javax.swing.SwingConstants", true),
-                new Import("LEFT", "javax.swing.border.TitledBorder", true),
-              })
-          .put(
-              "SIZE",
-              new Import[] {
-                new Import("SIZE", "java.awt.font.TextAttribute", true),
-                new Import("SIZE", "java.lang.Byte", true),
-                new Import("SIZE", "java.lang.Character", true),
-                new Import("SIZE", "java.lang.Double", true),
-                new Import("SIZE", "java.lang.Float", true),
-                new Import("SIZE", "java.lang.Integer", true),
-                new Import("SIZE", "java.lang.Long", true),
-                new Import("SIZE", "java.lang.Short", true),
-                new Import("SIZE", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "AclEntryPermission",
-              new Import[] {
-                new Import("AclEntryPermission", "java.nio.file.attribute", false),
-              })
-          .put(
-              "concat",
-              new Import[] {
-                new Import("concat", "java.util.stream.DoubleStream", true),
-                new Import("concat", "java.util.stream.IntStream", true),
-                new Import("concat", "java.util.stream.LongStream", true),
-                new Import("concat", "java.util.stream.Stream", true),
-              })
-          .put(
-              "_NamingContextStub",
-              new Import[] {
-                new Import("_NamingContextStub", "org.omg.CosNaming", false),
-              })
-          .put(
-              "toBinaryString",
-              new Import[] {
-                new Import("toBinaryString", "java.lang.Integer", true),
-                new Import("toBinaryString", "java.lang.Long", true),
-              })
-          .put(
-              "Xor",
-              new Import[] {
-                new Import("Xor", "java.awt.AlphaComposite", true),
-              })
-          .put(
-              "INUSE_ATTRIBUTE_ERR",
-              new Import[] {
-                new Import("INUSE_ATTRIBUTE_ERR", "org.w3c.dom.DOMException", true),
-              })
-          .put(
-              "Clob",
-              new Import[] {
-                new Import("Clob", "java.sql", false),
-              })
-          .put(
-              "newChannel",
-              new Import[] {
-                new Import("newChannel", "java.nio.channels.Channels", true),
-              })
-          .put(
-              "MBeanFeatureInfo",
-              new Import[] {
-                new Import("MBeanFeatureInfo", "javax.management", false),
-              })
-          .put(
-              "BOPOMOFO_EXTENDED",
-              new Import[] {
-                new Import("BOPOMOFO_EXTENDED", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "emptySet",
-              new Import[] {
-                new Import("emptySet", "java.util.Collections", true),
-              })
-          .put(
-              "COVER",
-              new Import[] {
-                new Import("COVER", "javax.print.attribute.standard.Finishings", true),
-              })
-          .put(
-              "MultiButtonUI",
-              new Import[] {
-                new Import("MultiButtonUI", "javax.swing.plaf.multi", false),
-              })
-          .put(
-              "getAllStackTraces",
-              new Import[] {
-                new Import("getAllStackTraces", "java.lang.Thread", true),
-              })
-          .put(
-              "getNumericValue",
-              new Import[] {
-                new Import("getNumericValue", "java.lang.Character", true),
-              })
-          .put(
-              "HTTP_ACCEPTED",
-              new Import[] {
-                new Import("HTTP_ACCEPTED", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "ScriptContext",
-              new Import[] {
-                new Import("ScriptContext", "javax.script", false),
-              })
-          .put(
-              "JPEG",
-              new Import[] {
-                new Import("JPEG", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("JPEG", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("JPEG", "javax.print.DocFlavor.URL", true),
-              })
-          .put(
-              "isWritable",
-              new Import[] {
-                new Import("isWritable", "java.nio.file.Files", true),
-              })
-          .put(
-              "runAsync",
-              new Import[] {
-                new Import("runAsync", "java.util.concurrent.CompletableFuture", true),
-              })
-          .put(
-              "SMALL",
-              new Import[] {
-                new Import("SMALL", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "createRigidArea",
-              new Import[] {
-                new Import("createRigidArea", "javax.swing.Box", true),
-              })
-          .put(
-              "AttributesImpl",
-              new Import[] {
-                new Import("AttributesImpl", "org.xml.sax.helpers", false),
-              })
-          .put(
-              "LIST_SELECT",
-              new Import[] {
-                new Import("LIST_SELECT", "java.awt.Event", true),
-              })
-          .put(
-              "HTTP_BAD_METHOD",
-              new Import[] {
-                new Import("HTTP_BAD_METHOD", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "StandardJavaFileManager",
-              new Import[] {
-                new Import("StandardJavaFileManager", "javax.tools", false),
-              })
-          .put(
-              "getLogWriter",
-              new Import[] {
-                new Import("getLogWriter", "java.sql.DriverManager", true),
-              })
-          .put(
-              "EXPONENT_SYMBOL",
-              new Import[] {
-                new Import("EXPONENT_SYMBOL", "java.text.NumberFormat.Field", true),
-              })
-          .put(
-              "Path",
-              new Import[] {
-                new Import("Path", "java.nio.file", false),
-              })
-          .put(
-              "OperationNotSupportedException",
-              new Import[] {
-                new Import("OperationNotSupportedException", "javax.naming", false),
-              })
-          .put(
-              "ActionMap",
-              new Import[] {
-                new Import("ActionMap", "javax.swing", false),
-              })
-          .put(
-              "NamingContextOperations",
-              new Import[] {
-                new Import("NamingContextOperations", "org.omg.CosNaming", false),
-              })
-          .put(
-              "Hashtable",
-              new Import[] {
-                new Import("Hashtable", "java.util", false),
-              })
-          .put(
-              "getMidiFileTypes",
-              new Import[] {
-                new Import("getMidiFileTypes", "javax.sound.midi.MidiSystem", true),
-              })
-          .put(
-              "_tk_enum",
-              new Import[] {
-                new Import("_tk_enum", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "JMXServerErrorException",
-              new Import[] {
-                new Import("JMXServerErrorException", "javax.management.remote", false),
-              })
-          .put(
-              "CRLReason",
-              new Import[] {
-                new Import("CRLReason", "java.security.cert", false),
-              })
-          .put(
-              "createPackedRaster",
-              new Import[] {
-                new Import("createPackedRaster", "java.awt.image.Raster", true),
-              })
-          .put(
-              "MAX_PRIORITY",
-              new Import[] {
-                new Import("MAX_PRIORITY", "java.lang.Thread", true),
-              })
-          .put(
-              "UnionMember",
-              new Import[] {
-                new Import("UnionMember", "org.omg.CORBA", false),
-              })
-          .put(
-              "ParserCallback",
-              new Import[] {
-                new Import("ParserCallback", "javax.swing.text.html.HTMLEditorKit", false),
-              })
-          .put(
-              "NameComponentHelper",
-              new Import[] {
-                new Import("NameComponentHelper", "org.omg.CosNaming", false),
-              })
-          .put(
-              "TabSet",
-              new Import[] {
-                new Import("TabSet", "javax.swing.text.StyleConstants", true),
-                new Import("TabSet", "javax.swing.text", false),
-              })
-          .put(
-              "isNull",
-              new Import[] {
-                new Import("isNull", "java.util.Objects", true),
-              })
-          .put(
-              "TemporalAdjusters",
-              new Import[] {
-                new Import("TemporalAdjusters", "java.time.temporal", false),
-              })
-          .put(
-              "Socket",
-              new Import[] {
-                new Import("Socket", "java.net", false),
-              })
-          .put(
-              "getTransmitter",
-              new Import[] {
-                new Import("getTransmitter", "javax.sound.midi.MidiSystem", true),
-              })
-          .put(
-              "InternalFrameListener",
-              new Import[] {
-                new Import("InternalFrameListener", "javax.swing.event", false),
-              })
-          .put(
-              "getName",
-              new Import[] {
-                new Import("getName", "java.lang.Character", true),
-              })
-          .put(
-              "AuthenticationException",
-              new Import[] {
-                new Import("AuthenticationException", "javax.naming", false),
-                new Import("AuthenticationException", "javax.security.sasl", false),
-              })
-          .put(
-              "VK_BEGIN",
-              new Import[] {
-                new Import("VK_BEGIN", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "MODIFIER_LETTER",
-              new Import[] {
-                new Import("MODIFIER_LETTER", "java.lang.Character", true),
-              })
-          .put(
-              "VK_DEAD_BREVE",
-              new Import[] {
-                new Import("VK_DEAD_BREVE", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "UNSEQ_TOKEN",
-              new Import[] {
-                new Import("UNSEQ_TOKEN", "org.ietf.jgss.GSSException", true),
-              })
-          .put(
-              "DefaultMenuLayout",
-              new Import[] {
-                new Import("DefaultMenuLayout", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "Servant",
-              new Import[] {
-                new Import("Servant", "org.omg.PortableServer", false),
-              })
-          .put(
-              "PrintJobListener",
-              new Import[] {
-                new Import("PrintJobListener", "javax.print.event", false),
-              })
-          .put(
-              "NA_9X11_ENVELOPE",
-              new Import[] {
-                new Import("NA_9X11_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-                new Import(
-                    "NA_9X11_ENVELOPE", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "X509CRLEntry",
-              new Import[] {
-                new Import("X509CRLEntry", "java.security.cert", false),
-              })
-          .put(
-              "CONTAINER_EVENT_MASK",
-              new Import[] {
-                new Import("CONTAINER_EVENT_MASK", "java.awt.AWTEvent", true),
-              })
-          .put(
-              "ServerRequestInfoOperations",
-              new Import[] {
-                new Import("ServerRequestInfoOperations", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "SCROLL_PAGE_UP",
-              new Import[] {
-                new Import("SCROLL_PAGE_UP", "java.awt.Event", true),
-              })
-          .put(
-              "TYPE_FLIP",
-              new Import[] {
-                new Import("TYPE_FLIP", "java.awt.geom.AffineTransform", true),
-              })
-          .put(
-              "getPasteAction",
-              new Import[] {
-                new Import("getPasteAction", "javax.swing.TransferHandler", true),
-              })
-          .put(
-              "TYPE_XYZ",
-              new Import[] {
-                new Import("TYPE_XYZ", "java.awt.color.ColorSpace", true),
-              })
-          .put(
-              "HTTP_ENTITY_TOO_LARGE",
-              new Import[] {
-                new Import("HTTP_ENTITY_TOO_LARGE", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "tk_sequence",
-              new Import[] {
-                new Import("tk_sequence", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "MenuBarBorder",
-              new Import[] {
-                new Import("MenuBarBorder", "javax.swing.plaf.basic.BasicBorders", false),
-                new Import("MenuBarBorder", "javax.swing.plaf.metal.MetalBorders", false),
-              })
-          .put(
-              "MidiMessage",
-              new Import[] {
-                new Import("MidiMessage", "javax.sound.midi", false),
-              })
-          .put(
-              "ServerError",
-              new Import[] {
-                new Import("ServerError", "java.rmi", false),
-              })
-          .put(
-              "Canvas",
-              new Import[] {
-                new Import("Canvas", "java.awt", false),
-              })
-          .put(
-              "DesktopPaneUI",
-              new Import[] {
-                new Import("DesktopPaneUI", "javax.swing.plaf", false),
-              })
-          .put(
-              "linesIntersect",
-              new Import[] {
-                new Import("linesIntersect", "java.awt.geom.Line2D", true),
-              })
-          .put(
-              "_tk_alias",
-              new Import[] {
-                new Import("_tk_alias", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "NoSuchMechanismException",
-              new Import[] {
-                new Import("NoSuchMechanismException", "javax.xml.crypto", false),
-              })
-          .put(
-              "StAXSource",
-              new Import[] {
-                new Import("StAXSource", "javax.xml.transform.stax", false),
-              })
-          .put(
-              "WEEK_BASED_YEARS",
-              new Import[] {
-                new Import("WEEK_BASED_YEARS", "java.time.temporal.IsoFields", true),
-                new Import("WEEK_BASED_YEARS", "java.time.temporal.WeekFields", true),
-              })
-          .put(
-              "DocumentEvent",
-              new Import[] {
-                new Import("DocumentEvent", "javax.swing.event", false),
-                new Import("DocumentEvent", "org.w3c.dom.events", false),
-              })
-          .put(
-              "WARNING",
-              new Import[] {
-                new Import("WARNING", "java.util.logging.Level", true),
-                new Import("WARNING", "javax.print.attribute.standard.Severity", true),
-                new Import("WARNING", "javax.security.auth.callback.ConfirmationCallback", true),
-                new Import("WARNING", "javax.security.auth.callback.TextOutputCallback", true),
-                new Import("WARNING", "javax.xml.bind.ValidationEvent", true),
-              })
-          .put(
-              "BOOLEAN",
-              new Import[] {
-                new Import("BOOLEAN", "java.sql.Types", true),
-                new Import("BOOLEAN", "javax.management.openmbean.SimpleType", true),
-                new Import("BOOLEAN", "javax.xml.xpath.XPathConstants", true),
-              })
-          .put(
-              "EXTCRC",
-              new Import[] {
-                new Import("EXTCRC", "java.util.jar.JarEntry", true),
-                new Import("EXTCRC", "java.util.jar.JarFile", true),
-                new Import("EXTCRC", "java.util.jar.JarInputStream", true),
-                new Import("EXTCRC", "java.util.jar.JarOutputStream", true),
-                new Import("EXTCRC", "java.util.zip.ZipEntry", true),
-                new Import("EXTCRC", "java.util.zip.ZipFile", true),
-                new Import("EXTCRC", "java.util.zip.ZipInputStream", true),
-                new Import("EXTCRC", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "CompositeDataView",
-              new Import[] {
-                new Import("CompositeDataView", "javax.management.openmbean", false),
-              })
-          .put(
-              "Stack",
-              new Import[] {
-                new Import("Stack", "java.util", false),
-              })
-          .put(
-              "MultiDesktopPaneUI",
-              new Import[] {
-                new Import("MultiDesktopPaneUI", "javax.swing.plaf.multi", false),
-              })
-          .put(
-              "Responses",
-              new Import[] {
-                new Import("Responses", "javax.xml.ws.soap.AddressingFeature", false),
-              })
-          .put(
-              "FILE_VERSION",
-              new Import[] {
-                new Import("FILE_VERSION", "javax.swing.text.html.parser.DTD", true),
-              })
-          .put(
-              "dk_Value",
-              new Import[] {
-                new Import("dk_Value", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "BORDER_TOP_WIDTH",
-              new Import[] {
-                new Import("BORDER_TOP_WIDTH", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "LongSeqHelper",
-              new Import[] {
-                new Import("LongSeqHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "CharacterData",
-              new Import[] {
-                new Import("CharacterData", "org.w3c.dom", false),
-              })
-          .put(
-              "TabularDataSupport",
-              new Import[] {
-                new Import("TabularDataSupport", "javax.management.openmbean", false),
-              })
-          .put(
-              "getAccessibleChild",
-              new Import[] {
-                new Import("getAccessibleChild", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "INFORMATION_MESSAGE",
-              new Import[] {
-                new Import("INFORMATION_MESSAGE", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "logicalXor",
-              new Import[] {
-                new Import("logicalXor", "java.lang.Boolean", true),
-              })
-          .put(
-              "ISO_8859_1",
-              new Import[] {
-                new Import("ISO_8859_1", "java.nio.charset.StandardCharsets", true),
-              })
-          .put(
-              "DataBindingException",
-              new Import[] {
-                new Import("DataBindingException", "javax.xml.bind", false),
-              })
-          .put(
-              "TRANSIENT",
-              new Import[] {
-                new Import("TRANSIENT", "java.lang.reflect.Modifier", true),
-                new Import("TRANSIENT", "javax.accessibility.AccessibleState", true),
-                new Import("TRANSIENT", "org.omg.CORBA", false),
-                new Import("TRANSIENT", "org.omg.PortableServer.LifespanPolicyValue", true),
-              })
-          .put(
-              "Border",
-              new Import[] {
-                new Import("Border", "javax.swing.border", false),
-              })
-          .put(
-              "SC_WRITE_METHOD",
-              new Import[] {
-                new Import("SC_WRITE_METHOD", "java.io.ObjectStreamConstants", true),
-              })
-          .put(
-              "NameValuePairSeqHelper",
-              new Import[] {
-                new Import("NameValuePairSeqHelper", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "ActivationInstantiator",
-              new Import[] {
-                new Import("ActivationInstantiator", "java.rmi.activation", false),
-              })
-          .put(
-              "YES",
-              new Import[] {
-                new Import("YES", "javax.security.auth.callback.ConfirmationCallback", true),
-              })
-          .put(
-              "Bias",
-              new Import[] {
-                new Import("Bias", "javax.swing.text.Position", false),
-              })
-          .put(
-              "SOAP_MUSTUNDERSTAND_FAULT",
-              new Import[] {
-                new Import("SOAP_MUSTUNDERSTAND_FAULT", "javax.xml.soap.SOAPConstants", true),
-              })
-          .put(
-              "Properties",
-              new Import[] {
-                new Import("Properties", "java.util", false),
-              })
-          .put(
-              "FOCUSED",
-              new Import[] {
-                new Import("FOCUSED", "javax.accessibility.AccessibleState", true),
-                new Import("FOCUSED", "javax.swing.plaf.synth.SynthConstants", true),
-              })
-          .put(
-              "CANONICAL_DECOMPOSITION",
-              new Import[] {
-                new Import("CANONICAL_DECOMPOSITION", "java.text.Collator", true),
-              })
-          .put(
-              "HIDE_ON_CLOSE",
-              new Import[] {
-                new Import("HIDE_ON_CLOSE", "javax.swing.WindowConstants", true),
-              })
-          .put(
-              "ListDataEvent",
-              new Import[] {
-                new Import("ListDataEvent", "javax.swing.event", false),
-              })
-          .put(
-              "CharacterConstants",
-              new Import[] {
-                new Import("CharacterConstants", "javax.swing.text.StyleConstants", false),
-              })
-          .put(
-              "DoubleAdder",
-              new Import[] {
-                new Import("DoubleAdder", "java.util.concurrent.atomic", false),
-              })
-          .put(
-              "ImageFilter",
-              new Import[] {
-                new Import("ImageFilter", "java.awt.image", false),
-              })
-          .put(
-              "AbstractQueuedLongSynchronizer",
-              new Import[] {
-                new Import("AbstractQueuedLongSynchronizer", "java.util.concurrent.locks", false),
-              })
-          .put(
-              "icSigYCbCrData",
-              new Import[] {
-                new Import("icSigYCbCrData", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "FileReader",
-              new Import[] {
-                new Import("FileReader", "java.io", false),
-              })
-          .put(
-              "SyncMode",
-              new Import[] {
-                new Import("SyncMode", "javax.sound.midi.Sequencer", false),
-              })
-          .put(
-              "SkeletonNotFoundException",
-              new Import[] {
-                new Import("SkeletonNotFoundException", "java.rmi.server", false),
-              })
-          .put(
-              "ConcurrentSkipListMap",
-              new Import[] {
-                new Import("ConcurrentSkipListMap", "java.util.concurrent", false),
-              })
-          .put(
-              "CENTER_ALIGNMENT",
-              new Import[] {
-                new Import("CENTER_ALIGNMENT", "java.awt.Component", true),
-              })
-          .put(
-              "getImageWritersBySuffix",
-              new Import[] {
-                new Import("getImageWritersBySuffix", "javax.imageio.ImageIO", true),
-              })
-          .put(
-              "firstDayOfMonth",
-              new Import[] {
-                new Import("firstDayOfMonth", "java.time.temporal.TemporalAdjusters", true),
-              })
-          .put(
-              "SOAPFaultException",
-              new Import[] {
-                new Import("SOAPFaultException", "javax.xml.ws.soap", false),
-              })
-          .put(
-              "AdapterNonExistent",
-              new Import[] {
-                new Import("AdapterNonExistent", "org.omg.PortableServer.POAPackage", false),
-              })
-          .put(
-              "DefaultFormatterFactory",
-              new Import[] {
-                new Import("DefaultFormatterFactory", "javax.swing.text", false),
-              })
-          .put(
-              "removeKeymap",
-              new Import[] {
-                new Import("removeKeymap", "javax.swing.text.JTextComponent", true),
-              })
-          .put(
-              "BOPOMOFO",
-              new Import[] {
-                new Import("BOPOMOFO", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "InvalidAddress",
-              new Import[] {
-                new Import("InvalidAddress", "org.omg.CosNaming.NamingContextExtPackage", false),
-              })
-          .put(
-              "HierarchyEvent",
-              new Import[] {
-                new Import("HierarchyEvent", "java.awt.event", false),
-              })
-          .put(
-              "PAGE_END",
-              new Import[] {
-                new Import("PAGE_END", "java.awt.BorderLayout", true),
-                new Import("PAGE_END", "java.awt.GridBagConstraints", true),
-              })
-          .put(
-              "VALUE_DITHER_DISABLE",
-              new Import[] {
-                new Import("VALUE_DITHER_DISABLE", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "getLocalGraphicsEnvironment",
-              new Import[] {
-                new Import("getLocalGraphicsEnvironment", "java.awt.GraphicsEnvironment", true),
-              })
-          .put(
-              "CoderResult",
-              new Import[] {
-                new Import("CoderResult", "java.nio.charset", false),
-              })
-          .put(
-              "SynthPainter",
-              new Import[] {
-                new Import("SynthPainter", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "MILLISECOND_FIELD",
-              new Import[] {
-                new Import("MILLISECOND_FIELD", "java.text.DateFormat", true),
-              })
-          .put(
-              "ORBInitializerOperations",
-              new Import[] {
-                new Import("ORBInitializerOperations", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "tk_long",
-              new Import[] {
-                new Import("tk_long", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "enable",
-              new Import[] {
-                new Import("enable", "java.lang.Compiler", true),
-              })
-          .put(
-              "BasicSpinnerUI",
-              new Import[] {
-                new Import("BasicSpinnerUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "activeCaptionText",
-              new Import[] {
-                new Import("activeCaptionText", "java.awt.SystemColor", true),
-              })
-          .put(
-              "AccessibleKeyBinding",
-              new Import[] {
-                new Import("AccessibleKeyBinding", "javax.accessibility", false),
-              })
-          .put(
-              "UnknownTypeException",
-              new Import[] {
-                new Import("UnknownTypeException", "javax.lang.model.type", false),
-              })
-          .put(
-              "_dk_AbstractInterface",
-              new Import[] {
-                new Import("_dk_AbstractInterface", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "dk_Native",
-              new Import[] {
-                new Import("dk_Native", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "InvalidRelationTypeException",
-              new Import[] {
-                new Import("InvalidRelationTypeException", "javax.management.relation", false),
-              })
-          .put(
-              "FileTypeDetector",
-              new Import[] {
-                new Import("FileTypeDetector", "java.nio.file.spi", false),
-              })
-          .put(
-              "KeyAgreementSpi",
-              new Import[] {
-                new Import("KeyAgreementSpi", "javax.crypto", false),
-              })
-          .put(
-              "LONG_FORMAT",
-              new Import[] {
-                new Import("LONG_FORMAT", "java.util.Calendar", true),
-              })
-          .put(
-              "getSystemDocumentationTool",
-              new Import[] {
-                new Import("getSystemDocumentationTool", "javax.tools.ToolProvider", true),
-              })
-          .put(
-              "createRaisedSoftBevelBorder",
-              new Import[] {
-                new Import("createRaisedSoftBevelBorder", "javax.swing.BorderFactory", true),
-              })
-          .put(
-              "LIVE_DRAG_MODE",
-              new Import[] {
-                new Import("LIVE_DRAG_MODE", "javax.swing.JDesktopPane", true),
-              })
-          .put(
-              "RunTimeOperations",
-              new Import[] {
-                new Import("RunTimeOperations", "org.omg.SendingContext", false),
-              })
-          .put(
-              "AppletContext",
-              new Import[] {
-                new Import("AppletContext", "java.applet", false),
-              })
-          .put(
-              "START_PUNCTUATION",
-              new Import[] {
-                new Import("START_PUNCTUATION", "java.lang.Character", true),
-              })
-          .put(
-              "GenericDeclaration",
-              new Import[] {
-                new Import("GenericDeclaration", "java.lang.reflect", false),
-              })
-          .put(
-              "FileInputStream",
-              new Import[] {
-                new Import("FileInputStream", "java.io", false),
-              })
-          .put(
-              "SELECTED",
-              new Import[] {
-                new Import("SELECTED", "java.awt.event.ItemEvent", true),
-                new Import("SELECTED", "javax.accessibility.AccessibleState", true),
-                new Import("SELECTED", "javax.swing.DefaultButtonModel", true),
-                new Import("SELECTED", "javax.swing.plaf.synth.SynthConstants", true),
-                new Import("SELECTED", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "OceanTheme",
-              new Import[] {
-                new Import("OceanTheme", "javax.swing.plaf.metal", false),
-              })
-          .put(
-              "RMIClassLoader",
-              new Import[] {
-                new Import("RMIClassLoader", "java.rmi.server", false),
-              })
-          .put(
-              "Bidi",
-              new Import[] {
-                new Import("Bidi", "java.text", false),
-              })
-          .put(
-              "EtchedBorderUIResource",
-              new Import[] {
-                new Import("EtchedBorderUIResource", "javax.swing.plaf.BorderUIResource", false),
-              })
-          .put(
-              "ROLE_NOT_READABLE",
-              new Import[] {
-                new Import("ROLE_NOT_READABLE", "javax.management.relation.RoleStatus", true),
-              })
-          .put(
-              "OperatingSystemMXBean",
-              new Import[] {
-                new Import("OperatingSystemMXBean", "java.lang.management", false),
-              })
-          .put(
-              "Locator2Impl",
-              new Import[] {
-                new Import("Locator2Impl", "org.xml.sax.ext", false),
-              })
-          .put(
-              "ImageIcon",
-              new Import[] {
-                new Import("ImageIcon", "javax.swing", false),
-              })
-          .put(
-              "TYPE_FORWARD_ONLY",
-              new Import[] {
-                new Import("TYPE_FORWARD_ONLY", "java.sql.ResultSet", true),
-              })
-          .put(
-              "DAY_OF_MONTH",
-              new Import[] {
-                new Import("DAY_OF_MONTH", "java.text.DateFormat.Field", true),
-                new Import("DAY_OF_MONTH", "java.util.Calendar", true),
-              })
-          .put(
-              "ExecutableElement",
-              new Import[] {
-                new Import("ExecutableElement", "javax.lang.model.element", false),
-              })
-          .put(
-              "backwardAction",
-              new Import[] {
-                new Import("backwardAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "packagesIn",
-              new Import[] {
-                new Import("packagesIn", "javax.lang.model.util.ElementFilter", true),
-              })
-          .put(
-              "TabularData",
-              new Import[] {
-                new Import("TabularData", "javax.management.openmbean", false),
-              })
-          .put(
-              "SynthTreeUI",
-              new Import[] {
-                new Import("SynthTreeUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "Clip",
-              new Import[] {
-                new Import("Clip", "javax.sound.sampled", false),
-              })
-          .put(
-              "Invocable",
-              new Import[] {
-                new Import("Invocable", "javax.script", false),
-              })
-          .put(
-              "WrongPolicy",
-              new Import[] {
-                new Import("WrongPolicy", "org.omg.PortableServer.POAPackage", false),
-              })
-          .put(
-              "DefaultTreeSelectionModel",
-              new Import[] {
-                new Import("DefaultTreeSelectionModel", "javax.swing.tree", false),
-              })
-          .put(
-              "versionColumnNotPseudo",
-              new Import[] {
-                new Import("versionColumnNotPseudo", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "SAXParseException",
-              new Import[] {
-                new Import("SAXParseException", "org.xml.sax", false),
-              })
-          .put(
-              "MonitorMBean",
-              new Import[] {
-                new Import("MonitorMBean", "javax.management.monitor", false),
-              })
-          .put(
-              "DOUBLE",
-              new Import[] {
-                new Import("DOUBLE", "java.sql.Types", true),
-                new Import("DOUBLE", "javax.management.openmbean.SimpleType", true),
-              })
-          .put(
-              "MetalIconFactory",
-              new Import[] {
-                new Import("MetalIconFactory", "javax.swing.plaf.metal", false),
-              })
-          .put(
-              "CloneNotSupportedException",
-              new Import[] {
-                new Import("CloneNotSupportedException", "java.lang", false),
-              })
-          .put(
-              "secondaryOrder",
-              new Import[] {
-                new Import("secondaryOrder", "java.text.CollationElementIterator", true),
-              })
-          .put(
-              "privilegedThreadFactory",
-              new Import[] {
-                new Import("privilegedThreadFactory", "java.util.concurrent.Executors", true),
-              })
-          .put(
-              "SQLTransactionRollbackException",
-              new Import[] {
-                new Import("SQLTransactionRollbackException", "java.sql", false),
-              })
-          .put(
-              "SCROLLBARS_VERTICAL_ONLY",
-              new Import[] {
-                new Import("SCROLLBARS_VERTICAL_ONLY", "java.awt.TextArea", true),
-              })
-          .put(
-              "ARABIC_MATHEMATICAL_ALPHABETIC_SYMBOLS",
-              new Import[] {
-                new Import(
-                    "ARABIC_MATHEMATICAL_ALPHABETIC_SYMBOLS",
-                    "java.lang.Character.UnicodeBlock",
-                    true),
-              })
-          .put(
-              "FileVisitResult",
-              new Import[] {
-                new Import("FileVisitResult", "java.nio.file", false),
-              })
-          .put(
-              "PENDING",
-              new Import[] {
-                new Import("PENDING", "javax.print.attribute.standard.JobState", true),
-              })
-          .put(
-              "GlyphJustificationInfo",
-              new Import[] {
-                new Import("GlyphJustificationInfo", "java.awt.font", false),
-              })
-          .put(
-              "RESIZABLE",
-              new Import[] {
-                new Import("RESIZABLE", "javax.accessibility.AccessibleState", true),
-              })
-          .put(
-              "FAILURE",
-              new Import[] {
-                new Import("FAILURE", "org.ietf.jgss.GSSException", true),
-              })
-          .put(
-              "WINDOW",
-              new Import[] {
-                new Import("WINDOW", "java.awt.SystemColor", true),
-                new Import("WINDOW", "javax.accessibility.AccessibleRole", true),
-              })
-          .put(
-              "getSynthesizer",
-              new Import[] {
-                new Import("getSynthesizer", "javax.sound.midi.MidiSystem", true),
-              })
-          .put(
-              "Xid",
-              new Import[] {
-                new Import("Xid", "javax.transaction.xa", false),
-              })
-          .put(
-              "ReverbType",
-              new Import[] {
-                new Import("ReverbType", "javax.sound.sampled", false),
-              })
-          .put(
-              "VERSION",
-              new Import[] {
-                new Import("VERSION", "javax.swing.text.html.HTML.Attribute", true),
-                new Import("VERSION", "javax.xml.transform.OutputKeys", true),
-              })
-          .put(
-              "DateFormatSymbolsProvider",
-              new Import[] {
-                new Import("DateFormatSymbolsProvider", "java.text.spi", false),
-              })
-          .put(
-              "DstAtop",
-              new Import[] {
-                new Import("DstAtop", "java.awt.AlphaComposite", true),
-              })
-          .put(
-              "ONE_HOUR",
-              new Import[] {
-                new Import("ONE_HOUR", "javax.management.timer.Timer", true),
-              })
-          .put(
-              "IdentityHashMap",
-              new Import[] {
-                new Import("IdentityHashMap", "java.util", false),
-              })
-          .put(
-              "AudioSystem",
-              new Import[] {
-                new Import("AudioSystem", "javax.sound.sampled", false),
-              })
-          .put(
-              "ACCELERATOR_KEY",
-              new Import[] {
-                new Import("ACCELERATOR_KEY", "javax.swing.Action", true),
-              })
-          .put(
-              "createCompoundBorder",
-              new Import[] {
-                new Import("createCompoundBorder", "javax.swing.BorderFactory", true),
-              })
-          .put(
-              "atan",
-              new Import[] {
-                new Import("atan", "java.lang.Math", true),
-                new Import("atan", "java.lang.StrictMath", true),
-              })
-          .put(
-              "BooleanSeqHolder",
-              new Import[] {
-                new Import("BooleanSeqHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "SANS_SERIF",
-              new Import[] {
-                new Import("SANS_SERIF", "java.awt.Font", true),
-              })
-          .put(
-              "SPECIAL_SYSTEM_EXCLUSIVE",
-              new Import[] {
-                new Import("SPECIAL_SYSTEM_EXCLUSIVE", "javax.sound.midi.SysexMessage", true),
-              })
-          .put(
-              "TAG_HDMX",
-              new Import[] {
-                new Import("TAG_HDMX", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "SimpleAttributeSet",
-              new Import[] {
-                new Import("SimpleAttributeSet", "javax.swing.text", false),
-              })
-          .put(
-              "_dk_Repository",
-              new Import[] {
-                new Import("_dk_Repository", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "GZIPOutputStream",
-              new Import[] {
-                new Import("GZIPOutputStream", "java.util.zip", false),
-              })
-          .put(
-              "from",
-              new Import[] {
-                new Import("from", "java.lang.ProcessBuilder.Redirect", true),
-                new Import("from", "java.lang.management.LockInfo", true),
-                new Import("from", "java.lang.management.MemoryNotificationInfo", true),
-                new Import("from", "java.lang.management.MemoryUsage", true),
-                new Import("from", "java.lang.management.MonitorInfo", true),
-                new Import("from", "java.lang.management.ThreadInfo", true),
-                new Import("from", "java.nio.file.attribute.FileTime", true),
-                new Import("from", "java.sql.Timestamp", true),
-                new Import("from", "java.time.DayOfWeek", true),
-                new Import("from", "java.time.Duration", true),
-                new Import("from", "java.time.Instant", true),
-                new Import("from", "java.time.LocalDate", true),
-                new Import("from", "java.time.LocalDateTime", true),
-                new Import("from", "java.time.LocalTime", true),
-                new Import("from", "java.time.Month", true),
-                new Import("from", "java.time.MonthDay", true),
-                new Import("from", "java.time.OffsetDateTime", true),
-                new Import("from", "java.time.OffsetTime", true),
-                new Import("from", "java.time.Period", true),
-                new Import("from", "java.time.Year", true),
-                new Import("from", "java.time.YearMonth", true),
-                new Import("from", "java.time.ZoneId", true),
-                new Import("from", "java.time.ZoneOffset", true),
-                new Import("from", "java.time.ZonedDateTime", true),
-                new Import("from", "java.time.chrono.ChronoLocalDate", true),
-                new Import("from", "java.time.chrono.ChronoLocalDateTime", true),
-                new Import("from", "java.time.chrono.ChronoZonedDateTime", true),
-                new Import("from", "java.time.chrono.Chronology", true),
-                new Import("from", "java.time.chrono.HijrahDate", true),
-                new Import("from", "java.time.chrono.JapaneseDate", true),
-                new Import("from", "java.time.chrono.MinguoDate", true),
-                new Import("from", "java.time.chrono.ThaiBuddhistDate", true),
-                new Import("from", "java.util.Date", true),
-                new Import("from", "java.util.GregorianCalendar", true),
-              })
-          .put(
-              "createDirectory",
-              new Import[] {
-                new Import("createDirectory", "java.nio.file.Files", true),
-              })
-          .put(
-              "SearchControls",
-              new Import[] {
-                new Import("SearchControls", "javax.naming.directory", false),
-              })
-          .put(
-              "beginParagraphAction",
-              new Import[] {
-                new Import("beginParagraphAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "SynthPopupMenuUI",
-              new Import[] {
-                new Import("SynthPopupMenuUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "SchemaFactory",
-              new Import[] {
-                new Import("SchemaFactory", "javax.xml.validation", false),
-              })
-          .put(
-              "getControl",
-              new Import[] {
-                new Import("getControl", "java.util.ResourceBundle.Control", true),
-                new Import("getControl", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "PDLOverrideSupported",
-              new Import[] {
-                new Import("PDLOverrideSupported", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "SUNDAY",
-              new Import[] {
-                new Import("SUNDAY", "java.util.Calendar", true),
-              })
-          .put(
-              "tk_ulong",
-              new Import[] {
-                new Import("tk_ulong", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "getNumberInstance",
-              new Import[] {
-                new Import("getNumberInstance", "java.text.NumberFormat", true),
-              })
-          .put(
-              "MXBEAN_FIELD",
-              new Import[] {
-                new Import("MXBEAN_FIELD", "javax.management.JMX", true),
-              })
-          .put(
-              "UNSUPPORTED_COMPRESSION",
-              new Import[] {
-                new Import(
-                    "UNSUPPORTED_COMPRESSION",
-                    "javax.print.attribute.standard.JobStateReason",
-                    true),
-              })
-          .put(
-              "icSigLuminanceTag",
-              new Import[] {
-                new Import("icSigLuminanceTag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "ExceptionDetailMessage",
-              new Import[] {
-                new Import("ExceptionDetailMessage", "org.omg.IOP", false),
-              })
-          .put(
-              "ptSegDistSq",
-              new Import[] {
-                new Import("ptSegDistSq", "java.awt.geom.Line2D", true),
-              })
-          .put(
-              "INTERNAL_FRAME_CLOSING",
-              new Import[] {
-                new Import("INTERNAL_FRAME_CLOSING", "javax.swing.event.InternalFrameEvent", true),
-              })
-          .put(
-              "CONTROL_PICTURES",
-              new Import[] {
-                new Import("CONTROL_PICTURES", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "Content",
-              new Import[] {
-                new Import("Content", "javax.swing.text.AbstractDocument", false),
-              })
-          .put(
-              "HORIZONTAL",
-              new Import[] {
-                new Import("HORIZONTAL", "java.awt.Adjustable", true),
-                new Import("HORIZONTAL", "java.awt.GridBagConstraints", true),
-                new Import("HORIZONTAL", "java.awt.Scrollbar", true),
-                new Import("HORIZONTAL", "javax.accessibility.AccessibleState", true),
-                new Import("HORIZONTAL", "javax.swing.SwingConstants", true),
-              })
-          .put(
-              "DropTarget",
-              new Import[] {
-                new Import("DropTarget", "java.awt.dnd", false),
-              })
-          .put(
-              "FontRenderContext",
-              new Import[] {
-                new Import("FontRenderContext", "java.awt.font", false),
-              })
-          .put(
-              "TC_RESET",
-              new Import[] {
-                new Import("TC_RESET", "java.io.ObjectStreamConstants", true),
-              })
-          .put(
-              "MESSAGE_PROPERTY",
-              new Import[] {
-                new Import("MESSAGE_PROPERTY", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "toChars",
-              new Import[] {
-                new Import("toChars", "java.lang.Character", true),
-              })
-          .put(
-              "DirectoryIteratorException",
-              new Import[] {
-                new Import("DirectoryIteratorException", "java.nio.file", false),
-              })
-          .put(
-              "WSDL_INTERFACE",
-              new Import[] {
-                new Import("WSDL_INTERFACE", "javax.xml.ws.handler.MessageContext", true),
-              })
-          .put(
-              "TAG_VMTX",
-              new Import[] {
-                new Import("TAG_VMTX", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "BoxLayout",
-              new Import[] {
-                new Import("BoxLayout", "javax.swing", false),
-              })
-          .put(
-              "bestRowNotPseudo",
-              new Import[] {
-                new Import("bestRowNotPseudo", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "DOCTYPE_PUBLIC",
-              new Import[] {
-                new Import("DOCTYPE_PUBLIC", "javax.xml.transform.OutputKeys", true),
-              })
-          .put(
-              "TextFieldBorder",
-              new Import[] {
-                new Import("TextFieldBorder", "javax.swing.plaf.metal.MetalBorders", false),
-              })
-          .put(
-              "WebServiceClient",
-              new Import[] {
-                new Import("WebServiceClient", "javax.xml.ws", false),
-              })
-          .put(
-              "setBackground",
-              new Import[] {
-                new Import("setBackground", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "PageAttributes",
-              new Import[] {
-                new Import("PageAttributes", "java.awt", false),
-              })
-          .put(
-              "parseDecimal",
-              new Import[] {
-                new Import("parseDecimal", "javax.xml.bind.DatatypeConverter", true),
-              })
-          .put(
-              "MIN_SUPPLEMENTARY_CODE_POINT",
-              new Import[] {
-                new Import("MIN_SUPPLEMENTARY_CODE_POINT", "java.lang.Character", true),
-              })
-          .put(
-              "ComponentPlacement",
-              new Import[] {
-                new Import("ComponentPlacement", "javax.swing.LayoutStyle", false),
-              })
-          .put(
-              "WHEN_FOCUSED",
-              new Import[] {
-                new Import("WHEN_FOCUSED", "javax.swing.JComponent", true),
-              })
-          .put(
-              "arrayElementGetter",
-              new Import[] {
-                new Import("arrayElementGetter", "java.lang.invoke.MethodHandles", true),
-              })
-          .put(
-              "VALUE_RENDER_QUALITY",
-              new Import[] {
-                new Import("VALUE_RENDER_QUALITY", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "CertPathBuilderException",
-              new Import[] {
-                new Import("CertPathBuilderException", "java.security.cert", false),
-              })
-          .put(
-              "_not_context",
-              new Import[] {
-                new Import(
-                    "_not_context", "org.omg.CosNaming.NamingContextPackage.NotFoundReason", true),
-              })
-          .put(
-              "EASTERN_ARABIC",
-              new Import[] {
-                new Import("EASTERN_ARABIC", "java.awt.font.NumericShaper", true),
-              })
-          .put(
-              "WINDOW_MOVED",
-              new Import[] {
-                new Import("WINDOW_MOVED", "java.awt.Event", true),
-              })
-          .put(
-              "icSigSpace4CLR",
-              new Import[] {
-                new Import("icSigSpace4CLR", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "decodeJavaMIMEType",
-              new Import[] {
-                new Import("decodeJavaMIMEType", "java.awt.datatransfer.SystemFlavorMap", true),
-              })
-          .put(
-              "BORDER_PAINTED_FLAT_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("BORDER_PAINTED_FLAT_CHANGED_PROPERTY", "javax.swing.JCheckBox", true),
-              })
-          .put(
-              "value",
-              new Import[] {
-                new Import("value", "javax.management.Query", true),
-                new Import("value", "org.omg.CORBA.ARG_IN", true),
-                new Import("value", "org.omg.CORBA.ARG_INOUT", true),
-                new Import("value", "org.omg.CORBA.ARG_OUT", true),
-                new Import("value", "org.omg.CORBA.BAD_POLICY", true),
-                new Import("value", "org.omg.CORBA.BAD_POLICY_TYPE", true),
-                new Import("value", "org.omg.CORBA.BAD_POLICY_VALUE", true),
-                new Import("value", "org.omg.CORBA.CTX_RESTRICT_SCOPE", true),
-                new Import("value", "org.omg.CORBA.OMGVMCID", true),
-                new Import("value", "org.omg.CORBA.PRIVATE_MEMBER", true),
-                new Import("value", "org.omg.CORBA.PUBLIC_MEMBER", true),
-                new Import("value", "org.omg.CORBA.UNSUPPORTED_POLICY", true),
-                new Import("value", "org.omg.CORBA.UNSUPPORTED_POLICY_VALUE", true),
-                new Import("value", "org.omg.CORBA.VM_ABSTRACT", true),
-                new Import("value", "org.omg.CORBA.VM_CUSTOM", true),
-                new Import("value", "org.omg.CORBA.VM_NONE", true),
-                new Import("value", "org.omg.CORBA.VM_TRUNCATABLE", true),
-                new Import("value", "org.omg.IOP.CodeSets", true),
-                new Import("value", "org.omg.IOP.ENCODING_CDR_ENCAPS", true),
-                new Import("value", "org.omg.IOP.ExceptionDetailMessage", true),
-                new Import("value", "org.omg.IOP.RMICustomMaxStreamFormat", true),
-                new Import("value", "org.omg.IOP.TAG_ALTERNATE_IIOP_ADDRESS", true),
-                new Import("value", "org.omg.IOP.TAG_CODE_SETS", true),
-                new Import("value", "org.omg.IOP.TAG_INTERNET_IOP", true),
-                new Import("value", "org.omg.IOP.TAG_JAVA_CODEBASE", true),
-                new Import("value", "org.omg.IOP.TAG_MULTIPLE_COMPONENTS", true),
-                new Import("value", "org.omg.IOP.TAG_ORB_TYPE", true),
-                new Import("value", "org.omg.IOP.TAG_POLICIES", true),
-                new Import("value", "org.omg.IOP.TAG_RMI_CUSTOM_MAX_STREAM_FORMAT", true),
-                new Import("value", "org.omg.IOP.TransactionService", true),
-                new Import("value", "org.omg.Messaging.SYNC_WITH_TRANSPORT", true),
-                new Import("value", "org.omg.PortableInterceptor.ACTIVE", true),
-                new Import("value", "org.omg.PortableInterceptor.DISCARDING", true),
-                new Import("value", "org.omg.PortableInterceptor.HOLDING", true),
-                new Import("value", "org.omg.PortableInterceptor.INACTIVE", true),
-                new Import("value", "org.omg.PortableInterceptor.LOCATION_FORWARD", true),
-                new Import("value", "org.omg.PortableInterceptor.NON_EXISTENT", true),
-                new Import("value", "org.omg.PortableInterceptor.SUCCESSFUL", true),
-                new Import("value", "org.omg.PortableInterceptor.SYSTEM_EXCEPTION", true),
-                new Import("value", "org.omg.PortableInterceptor.TRANSPORT_RETRY", true),
-                new Import("value", "org.omg.PortableInterceptor.UNKNOWN", true),
-                new Import("value", "org.omg.PortableInterceptor.USER_EXCEPTION", true),
-                new Import("value", "org.omg.PortableServer.ID_ASSIGNMENT_POLICY_ID", true),
-                new Import("value", "org.omg.PortableServer.ID_UNIQUENESS_POLICY_ID", true),
-                new Import("value", "org.omg.PortableServer.IMPLICIT_ACTIVATION_POLICY_ID", true),
-                new Import("value", "org.omg.PortableServer.LIFESPAN_POLICY_ID", true),
-                new Import("value", "org.omg.PortableServer.REQUEST_PROCESSING_POLICY_ID", true),
-                new Import("value", "org.omg.PortableServer.SERVANT_RETENTION_POLICY_ID", true),
-                new Import("value", "org.omg.PortableServer.THREAD_POLICY_ID", true),
-              })
-          .put(
-              "FileSystems",
-              new Import[] {
-                new Import("FileSystems", "java.nio.file", false),
-              })
-          .put(
-              "lookup",
-              new Import[] {
-                new Import("lookup", "java.io.ObjectStreamClass", true),
-                new Import("lookup", "java.lang.invoke.MethodHandles", true),
-                new Import("lookup", "java.rmi.Naming", true),
-                new Import("lookup", "java.util.Locale", true),
-              })
-          .put(
-              "AccessibleAttributeSequence",
-              new Import[] {
-                new Import("AccessibleAttributeSequence", "javax.accessibility", false),
-              })
-          .put(
-              "MODE_DEFAULT",
-              new Import[] {
-                new Import("MODE_DEFAULT", "javax.imageio.ImageWriteParam", true),
-              })
-          .put(
-              "SwitchPoint",
-              new Import[] {
-                new Import("SwitchPoint", "java.lang.invoke", false),
-              })
-          .put(
-              "TMSUCCESS",
-              new Import[] {
-                new Import("TMSUCCESS", "javax.transaction.xa.XAResource", true),
-              })
-          .put(
-              "procedureColumnResult",
-              new Import[] {
-                new Import("procedureColumnResult", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "MINI_SCALE",
-              new Import[] {
-                new Import("MINI_SCALE", "javax.swing.plaf.nimbus.NimbusStyle", true),
-              })
-          .put(
-              "CHORD",
-              new Import[] {
-                new Import("CHORD", "java.awt.geom.Arc2D", true),
-              })
-          .put(
-              "SignatureSpi",
-              new Import[] {
-                new Import("SignatureSpi", "java.security", false),
-              })
-          .put(
-              "MetalLabelUI",
-              new Import[] {
-                new Import("MetalLabelUI", "javax.swing.plaf.metal", false),
-              })
-          .put(
-              "Response",
-              new Import[] {
-                new Import("Response", "javax.xml.ws", false),
-              })
-          .put(
-              "DECLARE",
-              new Import[] {
-                new Import("DECLARE", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "VALUE_RANGE_MIN_MAX_INCLUSIVE",
-              new Import[] {
-                new Import(
-                    "VALUE_RANGE_MIN_MAX_INCLUSIVE",
-                    "javax.imageio.metadata.IIOMetadataFormat",
-                    true),
-              })
-          .put(
-              "JOB_RESTARTABLE",
-              new Import[] {
-                new Import(
-                    "JOB_RESTARTABLE", "javax.print.attribute.standard.JobStateReason", true),
-              })
-          .put(
-              "isLineSupported",
-              new Import[] {
-                new Import("isLineSupported", "javax.sound.sampled.AudioSystem", true),
-              })
-          .put(
-              "SUBCLASS_IMPLEMENTATION_PERMISSION",
-              new Import[] {
-                new Import(
-                    "SUBCLASS_IMPLEMENTATION_PERMISSION", "java.io.ObjectStreamConstants", true),
-              })
-          .put(
-              "getClientHost",
-              new Import[] {
-                new Import("getClientHost", "java.rmi.server.RemoteServer", true),
-              })
-          .put(
-              "EMPTY_LIST",
-              new Import[] {
-                new Import("EMPTY_LIST", "java.util.Collections", true),
-              })
-          .put(
-              "WrongMethodTypeException",
-              new Import[] {
-                new Import("WrongMethodTypeException", "java.lang.invoke", false),
-              })
-          .put(
-              "SplittableRandom",
-              new Import[] {
-                new Import("SplittableRandom", "java.util", false),
-              })
-          .build();
-}
@@ -1,1720 +0,0 @@
-// Code generated by GenerateStdlib.java. DO NOT EDIT.
-package com.nikodoko.javaimports.stdlib.internal.api.v8;
-
-import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
-import java.util.Map;
-
-public class Java8StdlibChunk12 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
-          .put(
-              "MimeTypeParseException",
-              new Import[] {
-                new Import("MimeTypeParseException", "java.awt.datatransfer", false),
-                new Import("MimeTypeParseException", "javax.activation", false),
-              })
-          .put(
-              "ClassValue",
-              new Import[] {
-                new Import("ClassValue", "java.lang", false),
-              })
-          .put(
-              "getAudioFileFormat",
-              new Import[] {
-                new Import("getAudioFileFormat", "javax.sound.sampled.AudioSystem", true),
-              })
-          .put(
-              "getFrameForComponent",
-              new Import[] {
-                new Import("getFrameForComponent", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "createFromBufferedImageType",
-              new Import[] {
-                new Import("createFromBufferedImageType", "javax.imageio.ImageTypeSpecifier", true),
-              })
-          .put(
-              "tk_void",
-              new Import[] {
-                new Import("tk_void", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "nativeOrder",
-              new Import[] {
-                new Import("nativeOrder", "java.nio.ByteOrder", true),
-              })
-          .put(
-              "setFollowRedirects",
-              new Import[] {
-                new Import("setFollowRedirects", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "LocalDate",
-              new Import[] {
-                new Import("LocalDate", "java.time", false),
-              })
-          .put(
-              "HSPACE",
-              new Import[] {
-                new Import("HSPACE", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "icSigBToA2Tag",
-              new Import[] {
-                new Import("icSigBToA2Tag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "TAG_FPGM",
-              new Import[] {
-                new Import("TAG_FPGM", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "ReferenceType",
-              new Import[] {
-                new Import("ReferenceType", "javax.lang.model.type", false),
-              })
-          .put(
-              "PROGRESS_MONITOR",
-              new Import[] {
-                new Import("PROGRESS_MONITOR", "javax.accessibility.AccessibleRole", true),
-              })
-          .put(
-              "MIN_VALUE_FIELD",
-              new Import[] {
-                new Import("MIN_VALUE_FIELD", "javax.management.JMX", true),
-              })
-          .put(
-              "ERROR",
-              new Import[] {
-                new Import("ERROR", "java.awt.image.ImageObserver", true),
-                new Import("ERROR", "java.util.jar.Pack200.Packer", true),
-                new Import("ERROR", "javax.print.attribute.standard.Severity", true),
-                new Import("ERROR", "javax.security.auth.callback.ConfirmationCallback", true),
-                new Import("ERROR", "javax.security.auth.callback.TextOutputCallback", true),
-                new Import("ERROR", "javax.xml.bind.ValidationEvent", true),
-              })
-          .put(
-              "PrimitiveType",
-              new Import[] {
-                new Import("PrimitiveType", "javax.lang.model.type", false),
-              })
-          .put(
-              "MetalRootPaneUI",
-              new Import[] {
-                new Import("MetalRootPaneUI", "javax.swing.plaf.metal", false),
-              })
-          .put(
-              "summarizingDouble",
-              new Import[] {
-                new Import("summarizingDouble", "java.util.stream.Collectors", true),
-              })
-          .put(
-              "ENGINE_SCOPE",
-              new Import[] {
-                new Import("ENGINE_SCOPE", "javax.script.ScriptContext", true),
-              })
-          .put(
-              "TypeInfoProvider",
-              new Import[] {
-                new Import("TypeInfoProvider", "javax.xml.validation", false),
-              })
-          .put(
-              "HttpHandler",
-              new Import[] {
-                new Import("HttpHandler", "javax.xml.ws.spi.http", false),
-              })
-          .put(
-              "ERRORED",
-              new Import[] {
-                new Import("ERRORED", "java.awt.MediaTracker", true),
-              })
-          .put(
-              "NoConnectionPendingException",
-              new Import[] {
-                new Import("NoConnectionPendingException", "java.nio.channels", false),
-              })
-          .put(
-              "NSDECL",
-              new Import[] {
-                new Import("NSDECL", "org.xml.sax.helpers.NamespaceSupport", true),
-              })
-          .put(
-              "TAG_TYP1",
-              new Import[] {
-                new Import("TAG_TYP1", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "printLong",
-              new Import[] {
-                new Import("printLong", "javax.xml.bind.DatatypeConverter", true),
-              })
-          .put(
-              "LifespanPolicyValue",
-              new Import[] {
-                new Import("LifespanPolicyValue", "org.omg.PortableServer", false),
-              })
-          .put(
-              "BIGINT",
-              new Import[] {
-                new Import("BIGINT", "java.sql.Types", true),
-              })
-          .put(
-              "BUTTON3_DOWN_MASK",
-              new Import[] {
-                new Import("BUTTON3_DOWN_MASK", "java.awt.event.InputEvent", true),
-              })
-          .put(
-              "getStateToBind",
-              new Import[] {
-                new Import("getStateToBind", "javax.naming.spi.DirectoryManager", true),
-                new Import("getStateToBind", "javax.naming.spi.NamingManager", true),
-              })
-          .put(
-              "URIReferenceException",
-              new Import[] {
-                new Import("URIReferenceException", "javax.xml.crypto", false),
-              })
-          .put(
-              "UserDefinedFileAttributeView",
-              new Import[] {
-                new Import("UserDefinedFileAttributeView", "java.nio.file.attribute", false),
-              })
-          .put(
-              "LocateRegistry",
-              new Import[] {
-                new Import("LocateRegistry", "java.rmi.registry", false),
-              })
-          .put(
-              "hostEncoding",
-              new Import[] {
-                new Import("hostEncoding", "javax.print.DocFlavor", true),
-              })
-          .put(
-              "VK_CANCEL",
-              new Import[] {
-                new Import("VK_CANCEL", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "FloatSeqHelper",
-              new Import[] {
-                new Import("FloatSeqHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "flushFromCaches",
-              new Import[] {
-                new Import("flushFromCaches", "java.beans.Introspector", true),
-              })
-          .put(
-              "icSigSpace5CLR",
-              new Import[] {
-                new Import("icSigSpace5CLR", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "COMPONENT_RESIZED",
-              new Import[] {
-                new Import("COMPONENT_RESIZED", "java.awt.event.ComponentEvent", true),
-              })
-          .put(
-              "ActivationGroupID",
-              new Import[] {
-                new Import("ActivationGroupID", "java.rmi.activation", false),
-              })
-          .put(
-              "Processor",
-              new Import[] {
-                new Import("Processor", "javax.annotation.processing", false),
-              })
-          .put(
-              "DefaultSelectionType",
-              new Import[] {
-                new Import("DefaultSelectionType", "java.awt.JobAttributes", false),
-              })
-          .put(
-              "UnicodeBlock",
-              new Import[] {
-                new Import("UnicodeBlock", "java.lang.Character", false),
-              })
-          .put(
-              "getContinuationContext",
-              new Import[] {
-                new Import("getContinuationContext", "javax.naming.spi.NamingManager", true),
-              })
-          .put(
-              "CharBuffer",
-              new Import[] {
-                new Import("CharBuffer", "java.nio", false),
-              })
-          .put(
-              "ImageWriter",
-              new Import[] {
-                new Import("ImageWriter", "javax.imageio", false),
-              })
-          .put(
-              "VERTICAL_WRAP",
-              new Import[] {
-                new Import("VERTICAL_WRAP", "javax.swing.JList", true),
-              })
-          .put(
-              "readAllLines",
-              new Import[] {
-                new Import("readAllLines", "java.nio.file.Files", true),
-              })
-          .put(
-              "dk_ValueBox",
-              new Import[] {
-                new Import("dk_ValueBox", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "Retention",
-              new Import[] {
-                new Import("Retention", "java.lang.annotation", false),
-              })
-          .put(
-              "PersistenceDelegate",
-              new Import[] {
-                new Import("PersistenceDelegate", "java.beans", false),
-              })
-          .put(
-              "icSigRedTRCTag",
-              new Import[] {
-                new Import("icSigRedTRCTag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "ElementNameAttribute",
-              new Import[] {
-                new Import("ElementNameAttribute", "javax.swing.text.AbstractDocument", true),
-              })
-          .put(
-              "AbstractQueue",
-              new Import[] {
-                new Import("AbstractQueue", "java.util", false),
-              })
-          .put(
-              "Copies",
-              new Import[] {
-                new Import("Copies", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "XmlAttachmentRef",
-              new Import[] {
-                new Import("XmlAttachmentRef", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "getRules",
-              new Import[] {
-                new Import("getRules", "java.time.zone.ZoneRulesProvider", true),
-              })
-          .put(
-              "PreferenceChangeListener",
-              new Import[] {
-                new Import("PreferenceChangeListener", "java.util.prefs", false),
-              })
-          .put(
-              "AttributeUndoableEdit",
-              new Import[] {
-                new Import(
-                    "AttributeUndoableEdit", "javax.swing.text.DefaultStyledDocument", false),
-              })
-          .put(
-              "ComposedTextAttribute",
-              new Import[] {
-                new Import("ComposedTextAttribute", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "INV_FLAG",
-              new Import[] {
-                new Import("INV_FLAG", "org.omg.CORBA", false),
-              })
-          .put(
-              "Lease",
-              new Import[] {
-                new Import("Lease", "java.rmi.dgc", false),
-              })
-          .put(
-              "unmodifiableNavigableMap",
-              new Import[] {
-                new Import("unmodifiableNavigableMap", "java.util.Collections", true),
-              })
-          .put(
-              "PADDING_BOTTOM",
-              new Import[] {
-                new Import("PADDING_BOTTOM", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "CacheRequest",
-              new Import[] {
-                new Import("CacheRequest", "java.net", false),
-              })
-          .put(
-              "NORTH_EAST",
-              new Import[] {
-                new Import("NORTH_EAST", "javax.swing.SwingConstants", true),
-              })
-          .put(
-              "SOAPMessageContext",
-              new Import[] {
-                new Import("SOAPMessageContext", "javax.xml.ws.handler.soap", false),
-              })
-          .put(
-              "setLogger",
-              new Import[] {
-                new Import("setLogger", "javax.sql.rowset.spi.SyncFactory", true),
-              })
-          .put(
-              "UnderlineAction",
-              new Import[] {
-                new Import("UnderlineAction", "javax.swing.text.StyledEditorKit", false),
-              })
-          .put(
-              "IvParameterSpec",
-              new Import[] {
-                new Import("IvParameterSpec", "javax.crypto.spec", false),
-              })
-          .put(
-              "ToLongBiFunction",
-              new Import[] {
-                new Import("ToLongBiFunction", "java.util.function", false),
-              })
-          .put(
-              "UNION",
-              new Import[] {
-                new Import("UNION", "javax.xml.crypto.dsig.spec.XPathType.Filter", true),
-              })
-          .put(
-              "SrcOver",
-              new Import[] {
-                new Import("SrcOver", "java.awt.AlphaComposite", true),
-              })
-          .put(
-              "icSigColorSpaceClass",
-              new Import[] {
-                new Import("icSigColorSpaceClass", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "tk_Principal",
-              new Import[] {
-                new Import("tk_Principal", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "SynthMenuItemUI",
-              new Import[] {
-                new Import("SynthMenuItemUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "UndoableEdit",
-              new Import[] {
-                new Import("UndoableEdit", "javax.swing.undo", false),
-              })
-          .put(
-              "indexOfSubList",
-              new Import[] {
-                new Import("indexOfSubList", "java.util.Collections", true),
-              })
-          .put(
-              "FileTime",
-              new Import[] {
-                new Import("FileTime", "java.nio.file.attribute", false),
-              })
-          .put(
-              "InternalFrameEvent",
-              new Import[] {
-                new Import("InternalFrameEvent", "javax.swing.event", false),
-              })
-          .put(
-              "UtilDelegate",
-              new Import[] {
-                new Import("UtilDelegate", "javax.rmi.CORBA", false),
-              })
-          .put(
-              "MemoryCacheImageOutputStream",
-              new Import[] {
-                new Import("MemoryCacheImageOutputStream", "javax.imageio.stream", false),
-              })
-          .put(
-              "IDN",
-              new Import[] {
-                new Import("IDN", "java.net", false),
-              })
-          .put(
-              "TaggedComponentHelper",
-              new Import[] {
-                new Import("TaggedComponentHelper", "org.omg.IOP", false),
-              })
-          .put(
-              "Binding",
-              new Import[] {
-                new Import("Binding", "javax.naming", false),
-                new Import("Binding", "javax.xml.ws", false),
-                new Import("Binding", "org.omg.CosNaming", false),
-              })
-          .put(
-              "ServantManagerOperations",
-              new Import[] {
-                new Import("ServantManagerOperations", "org.omg.PortableServer", false),
-              })
-          .put(
-              "BORDER_PAINTED_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("BORDER_PAINTED_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
-              })
-          .put(
-              "newFileSystem",
-              new Import[] {
-                new Import("newFileSystem", "java.nio.file.FileSystems", true),
-              })
-          .put(
-              "tk_value",
-              new Import[] {
-                new Import("tk_value", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "TEXT_HTML_US_ASCII",
-              new Import[] {
-                new Import("TEXT_HTML_US_ASCII", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("TEXT_HTML_US_ASCII", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("TEXT_HTML_US_ASCII", "javax.print.DocFlavor.URL", true),
-              })
-          .put(
-              "MembershipKey",
-              new Import[] {
-                new Import("MembershipKey", "java.nio.channels", false),
-              })
-          .put(
-              "removePropertyChangeListener",
-              new Import[] {
-                new Import("removePropertyChangeListener", "javax.swing.UIManager", true),
-              })
-          .put(
-              "GEOMETRIC_SHAPES",
-              new Import[] {
-                new Import("GEOMETRIC_SHAPES", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "FULL",
-              new Import[] {
-                new Import("FULL", "java.text.DateFormat", true),
-              })
-          .put(
-              "installBorder",
-              new Import[] {
-                new Import("installBorder", "javax.swing.LookAndFeel", true),
-              })
-          .put(
-              "ImplicitActivationPolicyValue",
-              new Import[] {
-                new Import("ImplicitActivationPolicyValue", "org.omg.PortableServer", false),
-              })
-          .put(
-              "DynValueCommon",
-              new Import[] {
-                new Import("DynValueCommon", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "ENV_9",
-              new Import[] {
-                new Import("ENV_9", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "RequestInfoOperations",
-              new Import[] {
-                new Import("RequestInfoOperations", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "replaceUIInputMap",
-              new Import[] {
-                new Import("replaceUIInputMap", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "FloatSeqHolder",
-              new Import[] {
-                new Import("FloatSeqHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "SCROLL_BEGIN",
-              new Import[] {
-                new Import("SCROLL_BEGIN", "java.awt.Event", true),
-              })
-          .put(
-              "getOwnerlessWindows",
-              new Import[] {
-                new Import("getOwnerlessWindows", "java.awt.Window", true),
-              })
-          .put(
-              "CookieHandler",
-              new Import[] {
-                new Import("CookieHandler", "java.net", false),
-              })
-          .put(
-              "getHTMLBaseline",
-              new Import[] {
-                new Import("getHTMLBaseline", "javax.swing.plaf.basic.BasicHTML", true),
-              })
-          .put(
-              "RMIClassLoaderSpi",
-              new Import[] {
-                new Import("RMIClassLoaderSpi", "java.rmi.server", false),
-              })
-          .put(
-              "Scanner",
-              new Import[] {
-                new Import("Scanner", "java.util", false),
-              })
-          .put(
-              "joining",
-              new Import[] {
-                new Import("joining", "java.util.stream.Collectors", true),
-              })
-          .put(
-              "NUTOKENS",
-              new Import[] {
-                new Import("NUTOKENS", "javax.swing.text.html.parser.DTDConstants", true),
-              })
-          .put(
-              "TAG_GSUB",
-              new Import[] {
-                new Import("TAG_GSUB", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "TORIGHT_TOTOP",
-              new Import[] {
-                new Import(
-                    "TORIGHT_TOTOP", "javax.print.attribute.standard.PresentationDirection", true),
-              })
-          .put(
-              "Transformer",
-              new Import[] {
-                new Import("Transformer", "javax.xml.transform", false),
-              })
-          .put(
-              "getSystemLookAndFeelClassName",
-              new Import[] {
-                new Import("getSystemLookAndFeelClassName", "javax.swing.UIManager", true),
-              })
-          .put(
-              "distance",
-              new Import[] {
-                new Import("distance", "java.awt.geom.Point2D", true),
-              })
-          .put(
-              "ErrorManager",
-              new Import[] {
-                new Import("ErrorManager", "java.util.logging", false),
-              })
-          .put(
-              "TAIWAN",
-              new Import[] {
-                new Import("TAIWAN", "java.util.Locale", true),
-              })
-          .put(
-              "_dk_Union",
-              new Import[] {
-                new Import("_dk_Union", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "averagingLong",
-              new Import[] {
-                new Import("averagingLong", "java.util.stream.Collectors", true),
-              })
-          .put(
-              "getPrimaryControlDarkShadow",
-              new Import[] {
-                new Import(
-                    "getPrimaryControlDarkShadow", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "ExtendedSSLSession",
-              new Import[] {
-                new Import("ExtendedSSLSession", "javax.net.ssl", false),
-              })
-          .put(
-              "KANJI",
-              new Import[] {
-                new Import("KANJI", "java.awt.im.InputSubset", true),
-              })
-          .put(
-              "NavigationFilter",
-              new Import[] {
-                new Import("NavigationFilter", "javax.swing.text", false),
-              })
-          .put(
-              "DefaultMoveDrop",
-              new Import[] {
-                new Import("DefaultMoveDrop", "java.awt.dnd.DragSource", true),
-              })
-          .put(
-              "SPEAKER",
-              new Import[] {
-                new Import("SPEAKER", "javax.sound.sampled.Port.Info", true),
-              })
-          .put(
-              "MODIFICATION",
-              new Import[] {
-                new Import("MODIFICATION", "org.w3c.dom.events.MutationEvent", true),
-              })
-          .put(
-              "START_ELEMENT",
-              new Import[] {
-                new Import("START_ELEMENT", "javax.xml.stream.XMLStreamConstants", true),
-              })
-          .put(
-              "RowFilter",
-              new Import[] {
-                new Import("RowFilter", "javax.swing", false),
-              })
-          .put(
-              "JOB_QUEUED_FOR_MARKER",
-              new Import[] {
-                new Import(
-                    "JOB_QUEUED_FOR_MARKER", "javax.print.attribute.standard.JobStateReason", true),
-              })
-          .put(
-              "getSourceLineInfo",
-              new Import[] {
-                new Import("getSourceLineInfo", "javax.sound.sampled.AudioSystem", true),
-              })
-          .put(
-              "NullPointerException",
-              new Import[] {
-                new Import("NullPointerException", "java.lang", false),
-              })
-          .put(
-              "getCutAction",
-              new Import[] {
-                new Import("getCutAction", "javax.swing.TransferHandler", true),
-              })
-          .put(
-              "SSLSessionBindingListener",
-              new Import[] {
-                new Import("SSLSessionBindingListener", "javax.net.ssl", false),
-              })
-          .put(
-              "DynSequenceOperations",
-              new Import[] {
-                new Import("DynSequenceOperations", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "Component",
-              new Import[] {
-                new Import("Component", "java.awt", false),
-              })
-          .put(
-              "ExcellentBreakWeight",
-              new Import[] {
-                new Import("ExcellentBreakWeight", "javax.swing.text.View", true),
-              })
-          .put(
-              "DocumentFragment",
-              new Import[] {
-                new Import("DocumentFragment", "org.w3c.dom", false),
-              })
-          .put(
-              "JDIALOG_UI",
-              new Import[] {
-                new Import("JDIALOG_UI", "javax.print.ServiceUIFactory", true),
-              })
-          .put(
-              "WebServiceRef",
-              new Import[] {
-                new Import("WebServiceRef", "javax.xml.ws", false),
-              })
-          .put(
-              "ToolProvider",
-              new Import[] {
-                new Import("ToolProvider", "javax.tools", false),
-              })
-          .put(
-              "DragSourceAdapter",
-              new Import[] {
-                new Import("DragSourceAdapter", "java.awt.dnd", false),
-              })
-          .put(
-              "HORIZONTAL_SCROLLBAR_ALWAYS",
-              new Import[] {
-                new Import("HORIZONTAL_SCROLLBAR_ALWAYS", "javax.swing.ScrollPaneConstants", true),
-              })
-          .put(
-              "BasicPanelUI",
-              new Import[] {
-                new Import("BasicPanelUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "getDefaultFileTypeMap",
-              new Import[] {
-                new Import("getDefaultFileTypeMap", "javax.activation.FileTypeMap", true),
-              })
-          .put(
-              "TIFINAGH",
-              new Import[] {
-                new Import("TIFINAGH", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "BeanContextServicesSupport",
-              new Import[] {
-                new Import("BeanContextServicesSupport", "java.beans.beancontext", false),
-              })
-          .put(
-              "GUJARATI",
-              new Import[] {
-                new Import("GUJARATI", "java.awt.font.NumericShaper", true),
-                new Import("GUJARATI", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "Info",
-              new Import[] {
-                new Import("Info", "javax.sound.midi.MidiDevice", false),
-                new Import("Info", "javax.sound.sampled.DataLine", false),
-                new Import("Info", "javax.sound.sampled.Line", false),
-                new Import("Info", "javax.sound.sampled.Mixer", false),
-                new Import("Info", "javax.sound.sampled.Port", false),
-              })
-          .put(
-              "helpQuiesce",
-              new Import[] {
-                new Import("helpQuiesce", "java.util.concurrent.ForkJoinTask", true),
-              })
-          .put(
-              "setFlashColor",
-              new Import[] {
-                new Import("setFlashColor", "javax.swing.DebugGraphics", true),
-              })
-          .put(
-              "DoubleSupplier",
-              new Import[] {
-                new Import("DoubleSupplier", "java.util.function", false),
-              })
-          .put(
-              "JulianFields",
-              new Import[] {
-                new Import("JulianFields", "java.time.temporal", false),
-              })
-          .put(
-              "ENCRYPT_MODE",
-              new Import[] {
-                new Import("ENCRYPT_MODE", "javax.crypto.Cipher", true),
-              })
-          .put(
-              "setSuperscript",
-              new Import[] {
-                new Import("setSuperscript", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "SocketImpl",
-              new Import[] {
-                new Import("SocketImpl", "java.net", false),
-              })
-          .put(
-              "DefaultKeyboardFocusManager",
-              new Import[] {
-                new Import("DefaultKeyboardFocusManager", "java.awt", false),
-              })
-          .put(
-              "CallbackHandlerProtection",
-              new Import[] {
-                new Import("CallbackHandlerProtection", "java.security.KeyStore", false),
-              })
-          .put(
-              "TYPE_CCLR",
-              new Import[] {
-                new Import("TYPE_CCLR", "java.awt.color.ColorSpace", true),
-              })
-          .put(
-              "INTERNAL_CLOCK",
-              new Import[] {
-                new Import("INTERNAL_CLOCK", "javax.sound.midi.Sequencer.SyncMode", true),
-              })
-          .put(
-              "PRINT_SCREEN",
-              new Import[] {
-                new Import("PRINT_SCREEN", "java.awt.Event", true),
-              })
-          .put(
-              "PRIORITY_WHITESPACE",
-              new Import[] {
-                new Import("PRIORITY_WHITESPACE", "java.awt.font.GlyphJustificationInfo", true),
-              })
-          .put(
-              "UNDEFINED",
-              new Import[] {
-                new Import("UNDEFINED", "java.awt.BufferCapabilities.FlipContents", true),
-              })
-          .put(
-              "ACCESSIBLE_HYPERTEXT_OFFSET",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_HYPERTEXT_OFFSET", "javax.accessibility.AccessibleContext", true),
-              })
-          .put(
-              "TYPE_BYTE_INDEXED",
-              new Import[] {
-                new Import("TYPE_BYTE_INDEXED", "java.awt.image.BufferedImage", true),
-              })
-          .put(
-              "MethodHandles",
-              new Import[] {
-                new Import("MethodHandles", "java.lang.invoke", false),
-              })
-          .put(
-              "DocumentHandler",
-              new Import[] {
-                new Import("DocumentHandler", "org.xml.sax", false),
-              })
-          .put(
-              "DECIMAL_DIGIT_NUMBER",
-              new Import[] {
-                new Import("DECIMAL_DIGIT_NUMBER", "java.lang.Character", true),
-              })
-          .put(
-              "JOB_PRINTING",
-              new Import[] {
-                new Import("JOB_PRINTING", "javax.print.attribute.standard.JobStateReason", true),
-              })
-          .put(
-              "BYTE",
-              new Import[] {
-                new Import("BYTE", "javax.management.openmbean.SimpleType", true),
-              })
-          .put(
-              "drawStringUnderlineCharAt",
-              new Import[] {
-                new Import(
-                    "drawStringUnderlineCharAt", "javax.swing.plaf.basic.BasicGraphicsUtils", true),
-              })
-          .put(
-              "FileDataSource",
-              new Import[] {
-                new Import("FileDataSource", "javax.activation", false),
-              })
-          .put(
-              "BinaryOperator",
-              new Import[] {
-                new Import("BinaryOperator", "java.util.function", false),
-              })
-          .put(
-              "Sides",
-              new Import[] {
-                new Import("Sides", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "atan2",
-              new Import[] {
-                new Import("atan2", "java.lang.Math", true),
-                new Import("atan2", "java.lang.StrictMath", true),
-              })
-          .put(
-              "PARAMETER",
-              new Import[] {
-                new Import("PARAMETER", "javax.swing.text.html.parser.DTDConstants", true),
-              })
-          .put(
-              "procedureColumnIn",
-              new Import[] {
-                new Import("procedureColumnIn", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "filterReturnValue",
-              new Import[] {
-                new Import("filterReturnValue", "java.lang.invoke.MethodHandles", true),
-              })
-          .put(
-              "Documented",
-              new Import[] {
-                new Import("Documented", "java.lang.annotation", false),
-              })
-          .put(
-              "getAllByName",
-              new Import[] {
-                new Import("getAllByName", "java.net.InetAddress", true),
-              })
-          .put(
-              "LITERAL",
-              new Import[] {
-                new Import("LITERAL", "java.util.regex.Pattern", true),
-              })
-          .put(
-              "DoublePredicate",
-              new Import[] {
-                new Import("DoublePredicate", "java.util.function", false),
-              })
-          .put(
-              "STRENGTH",
-              new Import[] {
-                new Import("STRENGTH", "javax.security.sasl.Sasl", true),
-              })
-          .put(
-              "dk_Struct",
-              new Import[] {
-                new Import("dk_Struct", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "columnNullable",
-              new Import[] {
-                new Import("columnNullable", "java.sql.DatabaseMetaData", true),
-                new Import("columnNullable", "java.sql.ResultSetMetaData", true),
-              })
-          .put(
-              "TEXT_HTML_UTF_16BE",
-              new Import[] {
-                new Import("TEXT_HTML_UTF_16BE", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("TEXT_HTML_UTF_16BE", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("TEXT_HTML_UTF_16BE", "javax.print.DocFlavor.URL", true),
-              })
-          .put(
-              "BELOW_BASELINE_TRAILING",
-              new Import[] {
-                new Import("BELOW_BASELINE_TRAILING", "java.awt.GridBagConstraints", true),
-              })
-          .put(
-              "VK_DEAD_VOICED_SOUND",
-              new Import[] {
-                new Import("VK_DEAD_VOICED_SOUND", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "XMLEncoder",
-              new Import[] {
-                new Import("XMLEncoder", "java.beans", false),
-              })
-          .put(
-              "VK_FULL_WIDTH",
-              new Import[] {
-                new Import("VK_FULL_WIDTH", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "WINDOW_DEICONIFY",
-              new Import[] {
-                new Import("WINDOW_DEICONIFY", "java.awt.Event", true),
-              })
-          .put(
-              "TEXT_VALUE_CHANGED",
-              new Import[] {
-                new Import("TEXT_VALUE_CHANGED", "java.awt.event.TextEvent", true),
-              })
-          .put(
-              "compileClasses",
-              new Import[] {
-                new Import("compileClasses", "java.lang.Compiler", true),
-              })
-          .put(
-              "convertRectangle",
-              new Import[] {
-                new Import("convertRectangle", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "DOMImplementationLS",
-              new Import[] {
-                new Import("DOMImplementationLS", "org.w3c.dom.ls", false),
-              })
-          .put(
-              "SELECTED_ICON_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("SELECTED_ICON_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
-              })
-          .put(
-              "deregisterDriver",
-              new Import[] {
-                new Import("deregisterDriver", "java.sql.DriverManager", true),
-              })
-          .put(
-              "Savepoint",
-              new Import[] {
-                new Import("Savepoint", "java.sql", false),
-              })
-          .put(
-              "WSDL_SERVICE",
-              new Import[] {
-                new Import("WSDL_SERVICE", "javax.xml.ws.Endpoint", true),
-                new Import("WSDL_SERVICE", "javax.xml.ws.handler.MessageContext", true),
-              })
-          .put(
-              "COMMENT",
-              new Import[] {
-                new Import("COMMENT", "javax.swing.text.html.HTML.Attribute", true),
-                new Import("COMMENT", "javax.swing.text.html.HTML.Tag", true),
-                new Import("COMMENT", "javax.xml.stream.XMLStreamConstants", true),
-              })
-          .put(
-              "FRAMEBITS",
-              new Import[] {
-                new Import("FRAMEBITS", "java.awt.image.ImageObserver", true),
-              })
-          .put(
-              "MetalComboBoxButton",
-              new Import[] {
-                new Import("MetalComboBoxButton", "javax.swing.plaf.metal", false),
-              })
-          .put(
-              "VK_COMPOSE",
-              new Import[] {
-                new Import("VK_COMPOSE", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "TYPE_4BYTE_ABGR",
-              new Import[] {
-                new Import("TYPE_4BYTE_ABGR", "java.awt.image.BufferedImage", true),
-              })
-          .put(
-              "SURROGATES_AREA",
-              new Import[] {
-                new Import("SURROGATES_AREA", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "getDrivers",
-              new Import[] {
-                new Import("getDrivers", "java.sql.DriverManager", true),
-              })
-          .put(
-              "yield",
-              new Import[] {
-                new Import("yield", "java.lang.Thread", true),
-              })
-          .put(
-              "Toolkit",
-              new Import[] {
-                new Import("Toolkit", "java.awt", false),
-              })
-          .put(
-              "domainMatches",
-              new Import[] {
-                new Import("domainMatches", "java.net.HttpCookie", true),
-              })
-          .put(
-              "ObjIntConsumer",
-              new Import[] {
-                new Import("ObjIntConsumer", "java.util.function", false),
-              })
-          .put(
-              "ALIGN_LEFT",
-              new Import[] {
-                new Import("ALIGN_LEFT", "javax.swing.text.StyleConstants", true),
-                new Import("ALIGN_LEFT", "javax.swing.text.TabStop", true),
-              })
-          .put(
-              "dk_Primitive",
-              new Import[] {
-                new Import("dk_Primitive", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "RelationTypeNotFoundException",
-              new Import[] {
-                new Import("RelationTypeNotFoundException", "javax.management.relation", false),
-              })
-          .put(
-              "WindowListener",
-              new Import[] {
-                new Import("WindowListener", "java.awt.event", false),
-              })
-          .put(
-              "EXTENSION_INSTALLATION",
-              new Import[] {
-                new Import("EXTENSION_INSTALLATION", "java.util.jar.Attributes.Name", true),
-              })
-          .put(
-              "SidesType",
-              new Import[] {
-                new Import("SidesType", "java.awt.JobAttributes", false),
-              })
-          .put(
-              "SimpleFormatter",
-              new Import[] {
-                new Import("SimpleFormatter", "java.util.logging", false),
-              })
-          .put(
-              "SSLPeerUnverifiedException",
-              new Import[] {
-                new Import("SSLPeerUnverifiedException", "javax.net.ssl", false),
-              })
-          .put(
-              "selectionBeginWordAction",
-              new Import[] {
-                new Import("selectionBeginWordAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "XmlSchemaTypes",
-              new Import[] {
-                new Import("XmlSchemaTypes", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "AnnotatedArrayType",
-              new Import[] {
-                new Import("AnnotatedArrayType", "java.lang.reflect", false),
-              })
-          .put(
-              "toSet",
-              new Import[] {
-                new Import("toSet", "java.util.stream.Collectors", true),
-              })
-          .put(
-              "getRadioButtonIcon",
-              new Import[] {
-                new Import("getRadioButtonIcon", "javax.swing.plaf.basic.BasicIconFactory", true),
-                new Import("getRadioButtonIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
-              })
-          .put(
-              "TypeCodeHolder",
-              new Import[] {
-                new Import("TypeCodeHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "DSA_SHA1",
-              new Import[] {
-                new Import("DSA_SHA1", "javax.xml.crypto.dsig.SignatureMethod", true),
-              })
-          .put(
-              "TYPE_8CLR",
-              new Import[] {
-                new Import("TYPE_8CLR", "java.awt.color.ColorSpace", true),
-              })
-          .put(
-              "ComponentIdHelper",
-              new Import[] {
-                new Import("ComponentIdHelper", "org.omg.IOP", false),
-              })
-          .put(
-              "toCodePoint",
-              new Import[] {
-                new Import("toCodePoint", "java.lang.Character", true),
-              })
-          .put(
-              "WEST",
-              new Import[] {
-                new Import("WEST", "java.awt.BorderLayout", true),
-                new Import("WEST", "java.awt.GridBagConstraints", true),
-                new Import("WEST", "javax.swing.SpringLayout", true),
-                new Import("WEST", "javax.swing.SwingConstants", true),
-              })
-          .put(
-              "precision",
-              new Import[] {
-                new Import("precision", "java.time.temporal.TemporalQueries", true),
-              })
-          .put(
-              "DECIMAL",
-              new Import[] {
-                new Import("DECIMAL", "java.sql.Types", true),
-              })
-          .put(
-              "IIOServiceProvider",
-              new Import[] {
-                new Import("IIOServiceProvider", "javax.imageio.spi", false),
-              })
-          .put(
-              "DEFAULT_PROPERTY_NAME",
-              new Import[] {
-                new Import("DEFAULT_PROPERTY_NAME", "javax.xml.xpath.XPathFactory", true),
-              })
-          .put(
-              "unmodifiableView",
-              new Import[] {
-                new Import("unmodifiableView", "javax.print.attribute.AttributeSetUtilities", true),
-              })
-          .put(
-              "SO_LINGER",
-              new Import[] {
-                new Import("SO_LINGER", "java.net.SocketOptions", true),
-                new Import("SO_LINGER", "java.net.StandardSocketOptions", true),
-              })
-          .put(
-              "JOB_INTERPRETING",
-              new Import[] {
-                new Import(
-                    "JOB_INTERPRETING", "javax.print.attribute.standard.JobStateReason", true),
-              })
-          .put(
-              "ServantActivatorHelper",
-              new Import[] {
-                new Import("ServantActivatorHelper", "org.omg.PortableServer", false),
-              })
-          .put(
-              "FILTER_ACCEPT",
-              new Import[] {
-                new Import("FILTER_ACCEPT", "org.w3c.dom.ls.LSParserFilter", true),
-              })
-          .put(
-              "DynValueOperations",
-              new Import[] {
-                new Import("DynValueOperations", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "CookieManager",
-              new Import[] {
-                new Import("CookieManager", "java.net", false),
-              })
-          .put(
-              "SILENT",
-              new Import[] {
-                new Import("SILENT", "java.rmi.server.LogStream", true),
-              })
-          .put(
-              "DAY_OF_YEAR_FIELD",
-              new Import[] {
-                new Import("DAY_OF_YEAR_FIELD", "java.text.DateFormat", true),
-              })
-          .put(
-              "DSAParameterSpec",
-              new Import[] {
-                new Import("DSAParameterSpec", "java.security.spec", false),
-              })
-          .put(
-              "ErrorHandler",
-              new Import[] {
-                new Import("ErrorHandler", "org.xml.sax", false),
-              })
-          .put(
-              "ofNanoOfDay",
-              new Import[] {
-                new Import("ofNanoOfDay", "java.time.LocalTime", true),
-              })
-          .put(
-              "NA_6X9_ENVELOPE",
-              new Import[] {
-                new Import("NA_6X9_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-                new Import("NA_6X9_ENVELOPE", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import("NA_6X9_ENVELOPE", "javax.print.attribute.standard.MediaSize.NA", true),
-              })
-          .put(
-              "read",
-              new Import[] {
-                new Import("read", "java.rmi.server.ObjID", true),
-                new Import("read", "java.rmi.server.UID", true),
-                new Import("read", "javax.imageio.ImageIO", true),
-                new Import("read", "org.omg.CORBA.AnySeqHelper", true),
-                new Import("read", "org.omg.CORBA.BooleanSeqHelper", true),
-                new Import("read", "org.omg.CORBA.CharSeqHelper", true),
-                new Import("read", "org.omg.CORBA.CompletionStatusHelper", true),
-                new Import("read", "org.omg.CORBA.CurrentHelper", true),
-                new Import("read", "org.omg.CORBA.DefinitionKindHelper", true),
-                new Import("read", "org.omg.CORBA.DoubleSeqHelper", true),
-                new Import("read", "org.omg.CORBA.FieldNameHelper", true),
-                new Import("read", "org.omg.CORBA.FloatSeqHelper", true),
-                new Import("read", "org.omg.CORBA.IDLTypeHelper", true),
-                new Import("read", "org.omg.CORBA.IdentifierHelper", true),
-                new Import("read", "org.omg.CORBA.LongLongSeqHelper", true),
-                new Import("read", "org.omg.CORBA.LongSeqHelper", true),
-                new Import("read", "org.omg.CORBA.NameValuePairHelper", true),
-                new Import("read", "org.omg.CORBA.ObjectHelper", true),
-                new Import("read", "org.omg.CORBA.OctetSeqHelper", true),
-                new Import("read", "org.omg.CORBA.ParameterModeHelper", true),
-                new Import("read", "org.omg.CORBA.PolicyErrorCodeHelper", true),
-                new Import("read", "org.omg.CORBA.PolicyErrorHelper", true),
-                new Import("read", "org.omg.CORBA.PolicyHelper", true),
-                new Import("read", "org.omg.CORBA.PolicyListHelper", true),
-                new Import("read", "org.omg.CORBA.PolicyTypeHelper", true),
-                new Import("read", "org.omg.CORBA.RepositoryIdHelper", true),
-                new Import("read", "org.omg.CORBA.ServiceDetailHelper", true),
-                new Import("read", "org.omg.CORBA.ServiceInformationHelper", true),
-                new Import("read", "org.omg.CORBA.SetOverrideTypeHelper", true),
-                new Import("read", "org.omg.CORBA.ShortSeqHelper", true),
-                new Import("read", "org.omg.CORBA.StringSeqHelper", true),
-                new Import("read", "org.omg.CORBA.StringValueHelper", true),
-                new Import("read", "org.omg.CORBA.StructMemberHelper", true),
-                new Import("read", "org.omg.CORBA.ULongLongSeqHelper", true),
-                new Import("read", "org.omg.CORBA.ULongSeqHelper", true),
-                new Import("read", "org.omg.CORBA.UShortSeqHelper", true),
-                new Import("read", "org.omg.CORBA.UnionMemberHelper", true),
-                new Import("read", "org.omg.CORBA.UnknownUserExceptionHelper", true),
-                new Import("read", "org.omg.CORBA.ValueBaseHelper", true),
-                new Import("read", "org.omg.CORBA.ValueMemberHelper", true),
-                new Import("read", "org.omg.CORBA.VersionSpecHelper", true),
-                new Import("read", "org.omg.CORBA.VisibilityHelper", true),
-                new Import("read", "org.omg.CORBA.WCharSeqHelper", true),
-                new Import("read", "org.omg.CORBA.WStringSeqHelper", true),
-                new Import("read", "org.omg.CORBA.WStringValueHelper", true),
-                new Import("read", "org.omg.CORBA.WrongTransactionHelper", true),
-                new Import("read", "org.omg.CosNaming.BindingHelper", true),
-                new Import("read", "org.omg.CosNaming.BindingIteratorHelper", true),
-                new Import("read", "org.omg.CosNaming.BindingListHelper", true),
-                new Import("read", "org.omg.CosNaming.BindingTypeHelper", true),
-                new Import("read", "org.omg.CosNaming.IstringHelper", true),
-                new Import("read", "org.omg.CosNaming.NameComponentHelper", true),
-                new Import("read", "org.omg.CosNaming.NameHelper", true),
-                new Import("read", "org.omg.CosNaming.NamingContextExtHelper", true),
-                new Import("read", "org.omg.CosNaming.NamingContextHelper", true),
-                new Import("read", "org.omg.CosNaming.NamingContextExtPackage.AddressHelper", true),
-                new Import(
-                    "read", "org.omg.CosNaming.NamingContextExtPackage.InvalidAddressHelper", true),
-                new Import(
-                    "read", "org.omg.CosNaming.NamingContextExtPackage.StringNameHelper", true),
-                new Import(
-                    "read", "org.omg.CosNaming.NamingContextExtPackage.URLStringHelper", true),
-                new Import(
-                    "read", "org.omg.CosNaming.NamingContextPackage.AlreadyBoundHelper", true),
-                new Import(
-                    "read", "org.omg.CosNaming.NamingContextPackage.CannotProceedHelper", true),
-                new Import(
-                    "read", "org.omg.CosNaming.NamingContextPackage.InvalidNameHelper", true),
-                new Import("read", "org.omg.CosNaming.NamingContextPackage.NotEmptyHelper", true),
-                new Import("read", "org.omg.CosNaming.NamingContextPackage.NotFoundHelper", true),
-                new Import(
-                    "read", "org.omg.CosNaming.NamingContextPackage.NotFoundReasonHelper", true),
-                new Import("read", "org.omg.DynamicAny.AnySeqHelper", true),
-                new Import("read", "org.omg.DynamicAny.DynAnyFactoryHelper", true),
-                new Import("read", "org.omg.DynamicAny.DynAnyHelper", true),
-                new Import("read", "org.omg.DynamicAny.DynAnySeqHelper", true),
-                new Import("read", "org.omg.DynamicAny.DynArrayHelper", true),
-                new Import("read", "org.omg.DynamicAny.DynEnumHelper", true),
-                new Import("read", "org.omg.DynamicAny.DynFixedHelper", true),
-                new Import("read", "org.omg.DynamicAny.DynSequenceHelper", true),
-                new Import("read", "org.omg.DynamicAny.DynStructHelper", true),
-                new Import("read", "org.omg.DynamicAny.DynUnionHelper", true),
-                new Import("read", "org.omg.DynamicAny.DynValueHelper", true),
-                new Import("read", "org.omg.DynamicAny.FieldNameHelper", true),
-                new Import("read", "org.omg.DynamicAny.NameDynAnyPairHelper", true),
-                new Import("read", "org.omg.DynamicAny.NameDynAnyPairSeqHelper", true),
-                new Import("read", "org.omg.DynamicAny.NameValuePairHelper", true),
-                new Import("read", "org.omg.DynamicAny.NameValuePairSeqHelper", true),
-                new Import(
-                    "read",
-                    "org.omg.DynamicAny.DynAnyFactoryPackage.InconsistentTypeCodeHelper",
-                    true),
-                new Import("read", "org.omg.DynamicAny.DynAnyPackage.InvalidValueHelper", true),
-                new Import("read", "org.omg.DynamicAny.DynAnyPackage.TypeMismatchHelper", true),
-                new Import("read", "org.omg.IOP.CodecFactoryHelper", true),
-                new Import("read", "org.omg.IOP.ComponentIdHelper", true),
-                new Import("read", "org.omg.IOP.IORHelper", true),
-                new Import("read", "org.omg.IOP.MultipleComponentProfileHelper", true),
-                new Import("read", "org.omg.IOP.ProfileIdHelper", true),
-                new Import("read", "org.omg.IOP.ServiceContextHelper", true),
-                new Import("read", "org.omg.IOP.ServiceContextListHelper", true),
-                new Import("read", "org.omg.IOP.ServiceIdHelper", true),
-                new Import("read", "org.omg.IOP.TaggedComponentHelper", true),
-                new Import("read", "org.omg.IOP.TaggedProfileHelper", true),
-                new Import("read", "org.omg.IOP.CodecFactoryPackage.UnknownEncodingHelper", true),
-                new Import("read", "org.omg.IOP.CodecPackage.FormatMismatchHelper", true),
-                new Import("read", "org.omg.IOP.CodecPackage.InvalidTypeForEncodingHelper", true),
-                new Import("read", "org.omg.IOP.CodecPackage.TypeMismatchHelper", true),
-                new Import("read", "org.omg.Messaging.SyncScopeHelper", true),
-                new Import("read", "org.omg.PortableInterceptor.AdapterManagerIdHelper", true),
-                new Import("read", "org.omg.PortableInterceptor.AdapterNameHelper", true),
-                new Import("read", "org.omg.PortableInterceptor.AdapterStateHelper", true),
-                new Import("read", "org.omg.PortableInterceptor.CurrentHelper", true),
-                new Import("read", "org.omg.PortableInterceptor.ForwardRequestHelper", true),
-                new Import("read", "org.omg.PortableInterceptor.IORInterceptor_3_0Helper", true),
-                new Import("read", "org.omg.PortableInterceptor.InvalidSlotHelper", true),
-                new Import("read", "org.omg.PortableInterceptor.ORBIdHelper", true),
-                new Import("read", "org.omg.PortableInterceptor.ObjectIdHelper", true),
-                new Import(
-                    "read", "org.omg.PortableInterceptor.ObjectReferenceFactoryHelper", true),
-                new Import(
-                    "read", "org.omg.PortableInterceptor.ObjectReferenceTemplateHelper", true),
-                new Import(
-                    "read", "org.omg.PortableInterceptor.ObjectReferenceTemplateSeqHelper", true),
-                new Import("read", "org.omg.PortableInterceptor.ServerIdHelper", true),
-                new Import(
-                    "read",
-                    "org.omg.PortableInterceptor.ORBInitInfoPackage.DuplicateNameHelper",
-                    true),
-                new Import(
-                    "read",
-                    "org.omg.PortableInterceptor.ORBInitInfoPackage.InvalidNameHelper",
-                    true),
-                new Import(
-                    "read", "org.omg.PortableInterceptor.ORBInitInfoPackage.ObjectIdHelper", true),
-                new Import("read", "org.omg.PortableServer.CurrentHelper", true),
-                new Import("read", "org.omg.PortableServer.ForwardRequestHelper", true),
-                new Import("read", "org.omg.PortableServer.POAHelper", true),
-                new Import("read", "org.omg.PortableServer.ServantActivatorHelper", true),
-                new Import("read", "org.omg.PortableServer.ServantLocatorHelper", true),
-                new Import("read", "org.omg.PortableServer.CurrentPackage.NoContextHelper", true),
-                new Import(
-                    "read", "org.omg.PortableServer.POAManagerPackage.AdapterInactiveHelper", true),
-                new Import(
-                    "read", "org.omg.PortableServer.POAPackage.AdapterAlreadyExistsHelper", true),
-                new Import(
-                    "read", "org.omg.PortableServer.POAPackage.AdapterNonExistentHelper", true),
-                new Import("read", "org.omg.PortableServer.POAPackage.InvalidPolicyHelper", true),
-                new Import("read", "org.omg.PortableServer.POAPackage.NoServantHelper", true),
-                new Import(
-                    "read", "org.omg.PortableServer.POAPackage.ObjectAlreadyActiveHelper", true),
-                new Import("read", "org.omg.PortableServer.POAPackage.ObjectNotActiveHelper", true),
-                new Import(
-                    "read", "org.omg.PortableServer.POAPackage.ServantAlreadyActiveHelper", true),
-                new Import(
-                    "read", "org.omg.PortableServer.POAPackage.ServantNotActiveHelper", true),
-                new Import("read", "org.omg.PortableServer.POAPackage.WrongAdapterHelper", true),
-                new Import("read", "org.omg.PortableServer.POAPackage.WrongPolicyHelper", true),
-              })
-          .put(
-              "NORTH_WEST",
-              new Import[] {
-                new Import("NORTH_WEST", "javax.swing.SwingConstants", true),
-              })
-          .put(
-              "newSingleThreadScheduledExecutor",
-              new Import[] {
-                new Import(
-                    "newSingleThreadScheduledExecutor", "java.util.concurrent.Executors", true),
-              })
-          .put(
-              "DropTargetEvent",
-              new Import[] {
-                new Import("DropTargetEvent", "java.awt.dnd", false),
-              })
-          .put(
-              "acos",
-              new Import[] {
-                new Import("acos", "java.lang.Math", true),
-                new Import("acos", "java.lang.StrictMath", true),
-              })
-          .put(
-              "orFilter",
-              new Import[] {
-                new Import("orFilter", "javax.swing.RowFilter", true),
-              })
-          .put(
-              "KAYAH_LI",
-              new Import[] {
-                new Import("KAYAH_LI", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "getUI",
-              new Import[] {
-                new Import("getUI", "javax.swing.UIManager", true),
-              })
-          .put(
-              "SQLXML",
-              new Import[] {
-                new Import("SQLXML", "java.sql", false),
-                new Import("SQLXML", "java.sql.Types", true),
-              })
-          .put(
-              "BLOCK_DECREMENT",
-              new Import[] {
-                new Import("BLOCK_DECREMENT", "java.awt.event.AdjustmentEvent", true),
-              })
-          .put(
-              "IsoEra",
-              new Import[] {
-                new Import("IsoEra", "java.time.chrono", false),
-              })
-          .put(
-              "RSAPrivateKey",
-              new Import[] {
-                new Import("RSAPrivateKey", "java.security.interfaces", false),
-              })
-          .put(
-              "CONNECTOR_PUNCTUATION",
-              new Import[] {
-                new Import("CONNECTOR_PUNCTUATION", "java.lang.Character", true),
-              })
-          .put(
-              "RSAOtherPrimeInfo",
-              new Import[] {
-                new Import("RSAOtherPrimeInfo", "java.security.spec", false),
-              })
-          .put(
-              "typeNoNulls",
-              new Import[] {
-                new Import("typeNoNulls", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "BidiLevel",
-              new Import[] {
-                new Import("BidiLevel", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "LinkedBlockingDeque",
-              new Import[] {
-                new Import("LinkedBlockingDeque", "java.util.concurrent", false),
-              })
-          .put(
-              "ABOVE_BASELINE",
-              new Import[] {
-                new Import("ABOVE_BASELINE", "java.awt.GridBagConstraints", true),
-              })
-          .put(
-              "DataOutputStream",
-              new Import[] {
-                new Import("DataOutputStream", "java.io", false),
-                new Import("DataOutputStream", "org.omg.CORBA", false),
-              })
-          .put(
-              "IllegalPathStateException",
-              new Import[] {
-                new Import("IllegalPathStateException", "java.awt.geom", false),
-              })
-          .put(
-              "SQLSyntaxErrorException",
-              new Import[] {
-                new Import("SQLSyntaxErrorException", "java.sql", false),
-              })
-          .put(
-              "InvalidTransactionException",
-              new Import[] {
-                new Import("InvalidTransactionException", "javax.transaction", false),
-              })
-          .put(
-              "icSigYxyData",
-              new Import[] {
-                new Import("icSigYxyData", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "UndoableEditListener",
-              new Import[] {
-                new Import("UndoableEditListener", "javax.swing.event", false),
-              })
-          .put(
-              "JPEGHuffmanTable",
-              new Import[] {
-                new Import("JPEGHuffmanTable", "javax.imageio.plugins.jpeg", false),
-              })
-          .put(
-              "Format",
-              new Import[] {
-                new Import("Format", "java.text", false),
-              })
-          .put(
-              "ActiveValue",
-              new Import[] {
-                new Import("ActiveValue", "javax.swing.UIDefaults", false),
-              })
-          .put(
-              "XA_HEURRB",
-              new Import[] {
-                new Import("XA_HEURRB", "javax.transaction.xa.XAException", true),
-              })
-          .put(
-              "parsedLeapSecond",
-              new Import[] {
-                new Import("parsedLeapSecond", "java.time.format.DateTimeFormatter", true),
-              })
-          .put(
-              "ClassLoader",
-              new Import[] {
-                new Import("ClassLoader", "java.lang", false),
-              })
-          .put(
-              "getFileNameMap",
-              new Import[] {
-                new Import("getFileNameMap", "java.net.URLConnection", true),
-              })
-          .put(
-              "OUT_LEFT",
-              new Import[] {
-                new Import("OUT_LEFT", "java.awt.geom.Rectangle2D", true),
-              })
-          .put(
-              "attr",
-              new Import[] {
-                new Import("attr", "javax.management.Query", true),
-              })
-          .put(
-              "JAXB_NO_NAMESPACE_SCHEMA_LOCATION",
-              new Import[] {
-                new Import("JAXB_NO_NAMESPACE_SCHEMA_LOCATION", "javax.xml.bind.Marshaller", true),
-              })
-          .put(
-              "PATH_INFO",
-              new Import[] {
-                new Import("PATH_INFO", "javax.xml.ws.handler.MessageContext", true),
-              })
-          .put(
-              "ResolveResult",
-              new Import[] {
-                new Import("ResolveResult", "javax.naming.spi", false),
-              })
-          .put(
-              "PrincipalHolder",
-              new Import[] {
-                new Import("PrincipalHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "FONT_FAMILY",
-              new Import[] {
-                new Import("FONT_FAMILY", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "CLASSID",
-              new Import[] {
-                new Import("CLASSID", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "PROCESSING_TO_STOP_POINT",
-              new Import[] {
-                new Import(
-                    "PROCESSING_TO_STOP_POINT",
-                    "javax.print.attribute.standard.JobStateReason",
-                    true),
-              })
-          .put(
-              "getTextFieldBorder",
-              new Import[] {
-                new Import("getTextFieldBorder", "javax.swing.plaf.basic.BasicBorders", true),
-                new Import("getTextFieldBorder", "javax.swing.plaf.metal.MetalBorders", true),
-              })
-          .put(
-              "OGHAM",
-              new Import[] {
-                new Import("OGHAM", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "VK_INPUT_METHOD_ON_OFF",
-              new Import[] {
-                new Import("VK_INPUT_METHOD_ON_OFF", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "CJK_COMPATIBILITY_IDEOGRAPHS_SUPPLEMENT",
-              new Import[] {
-                new Import(
-                    "CJK_COMPATIBILITY_IDEOGRAPHS_SUPPLEMENT",
-                    "java.lang.Character.UnicodeBlock",
-                    true),
-              })
-          .put(
-              "INTERNAL_FRAME_CLOSED",
-              new Import[] {
-                new Import("INTERNAL_FRAME_CLOSED", "javax.swing.event.InternalFrameEvent", true),
-              })
-          .put(
-              "FILE_VIEW_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("FILE_VIEW_CHANGED_PROPERTY", "javax.swing.JFileChooser", true),
-              })
-          .put(
-              "getAvailableIDs",
-              new Import[] {
-                new Import("getAvailableIDs", "java.util.TimeZone", true),
-              })
-          .put(
-              "Manifest",
-              new Import[] {
-                new Import("Manifest", "java.util.jar", false),
-                new Import("Manifest", "javax.xml.crypto.dsig", false),
-              })
-          .put(
-              "XA_HEURCOM",
-              new Import[] {
-                new Import("XA_HEURCOM", "javax.transaction.xa.XAException", true),
-              })
-          .put(
-              "FLAG_SERIALIZABLE",
-              new Import[] {
-                new Import("FLAG_SERIALIZABLE", "java.lang.invoke.LambdaMetafactory", true),
-              })
-          .put(
-              "HIERARCHY_EVENT_MASK",
-              new Import[] {
-                new Import("HIERARCHY_EVENT_MASK", "java.awt.AWTEvent", true),
-              })
-          .put(
-              "adjustSizes",
-              new Import[] {
-                new Import("adjustSizes", "javax.swing.SizeRequirements", true),
-              })
-          .put(
-              "toStub",
-              new Import[] {
-                new Import("toStub", "java.rmi.server.RemoteObject", true),
-                new Import("toStub", "javax.rmi.PortableRemoteObject", true),
-              })
-          .put(
-              "getCompilationMXBean",
-              new Import[] {
-                new Import("getCompilationMXBean", "java.lang.management.ManagementFactory", true),
-              })
-          .put(
-              "LSException",
-              new Import[] {
-                new Import("LSException", "org.w3c.dom.ls", false),
-              })
-          .build();
-}
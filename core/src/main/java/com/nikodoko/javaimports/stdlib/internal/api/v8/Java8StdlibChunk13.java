@@ -1,1583 +0,0 @@
-// Code generated by GenerateStdlib.java. DO NOT EDIT.
-package com.nikodoko.javaimports.stdlib.internal.api.v8;
-
-import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
-import java.util.Map;
-
-public class Java8StdlibChunk13 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
-          .put(
-              "ABOVE_BASELINE_TRAILING",
-              new Import[] {
-                new Import("ABOVE_BASELINE_TRAILING", "java.awt.GridBagConstraints", true),
-              })
-          .put(
-              "VK_UNDEFINED",
-              new Import[] {
-                new Import("VK_UNDEFINED", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "KEY_FRACTIONALMETRICS",
-              new Import[] {
-                new Import("KEY_FRACTIONALMETRICS", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "ThreadPolicy",
-              new Import[] {
-                new Import("ThreadPolicy", "org.omg.PortableServer", false),
-              })
-          .put(
-              "ParameterDescriptor",
-              new Import[] {
-                new Import("ParameterDescriptor", "java.beans", false),
-              })
-          .put(
-              "DYNAMIC_SOAP_PROTOCOL",
-              new Import[] {
-                new Import("DYNAMIC_SOAP_PROTOCOL", "javax.xml.soap.SOAPConstants", true),
-              })
-          .put(
-              "MALAYALAM",
-              new Import[] {
-                new Import("MALAYALAM", "java.awt.font.NumericShaper", true),
-                new Import("MALAYALAM", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "ALINK",
-              new Import[] {
-                new Import("ALINK", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "ptLineDist",
-              new Import[] {
-                new Import("ptLineDist", "java.awt.geom.Line2D", true),
-              })
-          .put(
-              "UnknownUserExceptionHelper",
-              new Import[] {
-                new Import("UnknownUserExceptionHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "getHighlightedTextColor",
-              new Import[] {
-                new Import(
-                    "getHighlightedTextColor", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "ClosedByInterruptException",
-              new Import[] {
-                new Import("ClosedByInterruptException", "java.nio.channels", false),
-              })
-          .put(
-              "STANDALONE",
-              new Import[] {
-                new Import("STANDALONE", "javax.xml.transform.OutputKeys", true),
-              })
-          .put(
-              "Codec",
-              new Import[] {
-                new Import("Codec", "org.omg.IOP", false),
-              })
-          .put(
-              "setSpaceBelow",
-              new Import[] {
-                new Import("setSpaceBelow", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "COPIED",
-              new Import[] {
-                new Import("COPIED", "java.awt.BufferCapabilities.FlipContents", true),
-              })
-          .put(
-              "XmlNsForm",
-              new Import[] {
-                new Import("XmlNsForm", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "Phaser",
-              new Import[] {
-                new Import("Phaser", "java.util.concurrent", false),
-              })
-          .put(
-              "EDITOR_PANE",
-              new Import[] {
-                new Import("EDITOR_PANE", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "FileOwnerAttributeView",
-              new Import[] {
-                new Import("FileOwnerAttributeView", "java.nio.file.attribute", false),
-              })
-          .put(
-              "IMPLICIT_ACTIVATION",
-              new Import[] {
-                new Import(
-                    "IMPLICIT_ACTIVATION",
-                    "org.omg.PortableServer.ImplicitActivationPolicyValue",
-                    true),
-              })
-          .put(
-              "BIND",
-              new Import[] {
-                new Import("BIND", "javax.print.attribute.standard.Finishings", true),
-              })
-          .put(
-              "ITEM_STATE_CHANGED",
-              new Import[] {
-                new Import("ITEM_STATE_CHANGED", "java.awt.event.ItemEvent", true),
-              })
-          .put(
-              "SynthFormattedTextFieldUI",
-              new Import[] {
-                new Import("SynthFormattedTextFieldUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "SOAP11HTTP_BINDING",
-              new Import[] {
-                new Import("SOAP11HTTP_BINDING", "javax.xml.ws.soap.SOAPBinding", true),
-              })
-          .put(
-              "InvalidClassException",
-              new Import[] {
-                new Import("InvalidClassException", "java.io", false),
-              })
-          .put(
-              "getImageReader",
-              new Import[] {
-                new Import("getImageReader", "javax.imageio.ImageIO", true),
-              })
-          .put(
-              "ValueOutputStream",
-              new Import[] {
-                new Import("ValueOutputStream", "org.omg.CORBA.portable", false),
-              })
-          .put(
-              "createDialog",
-              new Import[] {
-                new Import("createDialog", "javax.swing.JColorChooser", true),
-              })
-          .put(
-              "ICONIFIED",
-              new Import[] {
-                new Import("ICONIFIED", "java.awt.Frame", true),
-                new Import("ICONIFIED", "javax.accessibility.AccessibleState", true),
-              })
-          .put(
-              "XmlRegistry",
-              new Import[] {
-                new Import("XmlRegistry", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "CUSTOM_DIALOG",
-              new Import[] {
-                new Import("CUSTOM_DIALOG", "javax.swing.JFileChooser", true),
-              })
-          .put(
-              "IMPERIAL_ARAMAIC",
-              new Import[] {
-                new Import("IMPERIAL_ARAMAIC", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "VK_ALT_GRAPH",
-              new Import[] {
-                new Import("VK_ALT_GRAPH", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "AbstractMarshallerImpl",
-              new Import[] {
-                new Import("AbstractMarshallerImpl", "javax.xml.bind.helpers", false),
-              })
-          .put(
-              "Watchable",
-              new Import[] {
-                new Import("Watchable", "java.nio.file", false),
-              })
-          .put(
-              "PASS",
-              new Import[] {
-                new Import("PASS", "java.util.jar.Pack200.Packer", true),
-              })
-          .put(
-              "FileSystemNotFoundException",
-              new Import[] {
-                new Import("FileSystemNotFoundException", "java.nio.file", false),
-              })
-          .put(
-              "NotificationFilterSupport",
-              new Import[] {
-                new Import("NotificationFilterSupport", "javax.management", false),
-              })
-          .put(
-              "XPathFactoryConfigurationException",
-              new Import[] {
-                new Import("XPathFactoryConfigurationException", "javax.xml.xpath", false),
-              })
-          .put(
-              "OMGVMCID",
-              new Import[] {
-                new Import("OMGVMCID", "org.omg.CORBA", false),
-              })
-          .put(
-              "icSigGreenColorantTag",
-              new Import[] {
-                new Import("icSigGreenColorantTag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "TYPE_PRINTER",
-              new Import[] {
-                new Import("TYPE_PRINTER", "java.awt.GraphicsDevice", true),
-              })
-          .put(
-              "_tk_value_box",
-              new Import[] {
-                new Import("_tk_value_box", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "partitioningBy",
-              new Import[] {
-                new Import("partitioningBy", "java.util.stream.Collectors", true),
-              })
-          .put(
-              "LARGE_KEY",
-              new Import[] {
-                new Import("LARGE_KEY", "javax.swing.plaf.nimbus.NimbusStyle", true),
-              })
-          .put(
-              "SupportedSourceVersion",
-              new Import[] {
-                new Import("SupportedSourceVersion", "javax.annotation.processing", false),
-              })
-          .put(
-              "setBold",
-              new Import[] {
-                new Import("setBold", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "SHA512_224",
-              new Import[] {
-                new Import("SHA512_224", "java.security.spec.MGF1ParameterSpec", true),
-              })
-          .put(
-              "WEIGHT_LIGHT",
-              new Import[] {
-                new Import("WEIGHT_LIGHT", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "Entry",
-              new Import[] {
-                new Import("Entry", "java.security.KeyStore", false),
-                new Import("Entry", "java.util.Map", false),
-                new Import("Entry", "javax.swing.RowFilter", false),
-              })
-          .put(
-              "_ServantActivatorStub",
-              new Import[] {
-                new Import("_ServantActivatorStub", "org.omg.PortableServer", false),
-              })
-          .put(
-              "MAHJONG_TILES",
-              new Import[] {
-                new Import("MAHJONG_TILES", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "BORDER_BOTTOM_WIDTH",
-              new Import[] {
-                new Import("BORDER_BOTTOM_WIDTH", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "infoText",
-              new Import[] {
-                new Import("infoText", "java.awt.SystemColor", true),
-              })
-          .put(
-              "MethodType",
-              new Import[] {
-                new Import("MethodType", "java.lang.invoke", false),
-                new Import("MethodType", "javax.swing.text.html.FormSubmitEvent", false),
-              })
-          .put(
-              "_dk_Value",
-              new Import[] {
-                new Import("_dk_Value", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "packagePrefix",
-              new Import[] {
-                new Import("packagePrefix", "java.rmi.server.LoaderHandler", true),
-                new Import("packagePrefix", "java.rmi.server.RemoteRef", true),
-              })
-          .put(
-              "ISO",
-              new Import[] {
-                new Import("ISO", "java.time.temporal.WeekFields", true),
-                new Import("ISO", "javax.print.attribute.standard.MediaSize", false),
-              })
-          .put(
-              "getAlignedSizeRequirements",
-              new Import[] {
-                new Import("getAlignedSizeRequirements", "javax.swing.SizeRequirements", true),
-              })
-          .put(
-              "getDefaultStyleContext",
-              new Import[] {
-                new Import("getDefaultStyleContext", "javax.swing.text.StyleContext", true),
-              })
-          .put(
-              "DESKTOP",
-              new Import[] {
-                new Import("DESKTOP", "java.awt.SystemColor", true),
-              })
-          .put(
-              "INCH",
-              new Import[] {
-                new Import("INCH", "javax.print.attribute.Size2DSyntax", true),
-                new Import("INCH", "javax.print.attribute.standard.MediaPrintableArea", true),
-              })
-          .put(
-              "tk_longdouble",
-              new Import[] {
-                new Import("tk_longdouble", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "icSigXYZData",
-              new Import[] {
-                new Import("icSigXYZData", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "DefaultStyledDocument",
-              new Import[] {
-                new Import("DefaultStyledDocument", "javax.swing.text", false),
-              })
-          .put(
-              "RUNIC",
-              new Import[] {
-                new Import("RUNIC", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "TextInputCallback",
-              new Import[] {
-                new Import("TextInputCallback", "javax.security.auth.callback", false),
-              })
-          .put(
-              "icTagType",
-              new Import[] {
-                new Import("icTagType", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "CJK_UNIFIED_IDEOGRAPHS_EXTENSION_B",
-              new Import[] {
-                new Import(
-                    "CJK_UNIFIED_IDEOGRAPHS_EXTENSION_B", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "CJK_UNIFIED_IDEOGRAPHS_EXTENSION_A",
-              new Import[] {
-                new Import(
-                    "CJK_UNIFIED_IDEOGRAPHS_EXTENSION_A", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "CJK_UNIFIED_IDEOGRAPHS_EXTENSION_D",
-              new Import[] {
-                new Import(
-                    "CJK_UNIFIED_IDEOGRAPHS_EXTENSION_D", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "CJK_UNIFIED_IDEOGRAPHS_EXTENSION_C",
-              new Import[] {
-                new Import(
-                    "CJK_UNIFIED_IDEOGRAPHS_EXTENSION_C", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "getSpaceBelow",
-              new Import[] {
-                new Import("getSpaceBelow", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "StringRefAddr",
-              new Import[] {
-                new Import("StringRefAddr", "javax.naming", false),
-              })
-          .put(
-              "OptionalLong",
-              new Import[] {
-                new Import("OptionalLong", "java.util", false),
-              })
-          .put(
-              "TYPE_4BYTE_ABGR_PRE",
-              new Import[] {
-                new Import("TYPE_4BYTE_ABGR_PRE", "java.awt.image.BufferedImage", true),
-              })
-          .put(
-              "IORInterceptor_3_0",
-              new Import[] {
-                new Import("IORInterceptor_3_0", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "Separator",
-              new Import[] {
-                new Import("Separator", "javax.swing.JPopupMenu", false),
-                new Import("Separator", "javax.swing.JToolBar", false),
-              })
-          .put(
-              "DialogType",
-              new Import[] {
-                new Import("DialogType", "java.awt.JobAttributes", false),
-              })
-          .put(
-              "DOWN",
-              new Import[] {
-                new Import("DOWN", "java.awt.Event", true),
-              })
-          .put(
-              "PROPERTIES",
-              new Import[] {
-                new Import("PROPERTIES", "java.awt.image.ImageObserver", true),
-              })
-          .put(
-              "WINDOW_CLOSED",
-              new Import[] {
-                new Import("WINDOW_CLOSED", "java.awt.event.WindowEvent", true),
-              })
-          .put(
-              "IP_MULTICAST_IF2",
-              new Import[] {
-                new Import("IP_MULTICAST_IF2", "java.net.SocketOptions", true),
-              })
-          .put(
-              "INFO",
-              new Import[] {
-                new Import("INFO", "java.awt.SystemColor", true),
-                new Import("INFO", "java.util.logging.Level", true),
-                new Import("INFO", "javax.management.MBeanOperationInfo", true),
-              })
-          .put(
-              "DefaultTextUI",
-              new Import[] {
-                new Import("DefaultTextUI", "javax.swing.text", false),
-              })
-          .put(
-              "NARROW_FORMAT",
-              new Import[] {
-                new Import("NARROW_FORMAT", "java.util.Calendar", true),
-              })
-          .put(
-              "FileSystemException",
-              new Import[] {
-                new Import("FileSystemException", "java.nio.file", false),
-              })
-          .put(
-              "HTTP_NOT_MODIFIED",
-              new Import[] {
-                new Import("HTTP_NOT_MODIFIED", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "LEAD_DOTS",
-              new Import[] {
-                new Import("LEAD_DOTS", "javax.swing.text.TabStop", true),
-              })
-          .put(
-              "Underline",
-              new Import[] {
-                new Import("Underline", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "BLOCKQUOTE",
-              new Import[] {
-                new Import("BLOCKQUOTE", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "ListenerNotFoundException",
-              new Import[] {
-                new Import("ListenerNotFoundException", "javax.management", false),
-              })
-          .put(
-              "Collections",
-              new Import[] {
-                new Import("Collections", "java.util", false),
-              })
-          .put(
-              "Override",
-              new Import[] {
-                new Import("Override", "java.lang", false),
-              })
-          .put(
-              "ENDOFF",
-              new Import[] {
-                new Import("ENDOFF", "java.util.jar.JarEntry", true),
-                new Import("ENDOFF", "java.util.jar.JarFile", true),
-                new Import("ENDOFF", "java.util.jar.JarInputStream", true),
-                new Import("ENDOFF", "java.util.jar.JarOutputStream", true),
-                new Import("ENDOFF", "java.util.zip.ZipEntry", true),
-                new Import("ENDOFF", "java.util.zip.ZipFile", true),
-                new Import("ENDOFF", "java.util.zip.ZipInputStream", true),
-                new Import("ENDOFF", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "icSigAToB2Tag",
-              new Import[] {
-                new Import("icSigAToB2Tag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "ProtectionParameter",
-              new Import[] {
-                new Import("ProtectionParameter", "java.security.KeyStore", false),
-              })
-          .put(
-              "AdapterNameHelper",
-              new Import[] {
-                new Import("AdapterNameHelper", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "ObjectReferenceFactory",
-              new Import[] {
-                new Import("ObjectReferenceFactory", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "ATTRIBUTE",
-              new Import[] {
-                new Import("ATTRIBUTE", "javax.xml.stream.XMLStreamConstants", true),
-              })
-          .put(
-              "MARGIN_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("MARGIN_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
-              })
-          .put(
-              "META_DOWN_MASK",
-              new Import[] {
-                new Import("META_DOWN_MASK", "java.awt.event.InputEvent", true),
-              })
-          .put(
-              "getDefaultChooserPanels",
-              new Import[] {
-                new Import(
-                    "getDefaultChooserPanels",
-                    "javax.swing.colorchooser.ColorChooserComponentFactory",
-                    true),
-              })
-          .put(
-              "getDefaultQueue",
-              new Import[] {
-                new Import("getDefaultQueue", "javax.swing.text.LayoutQueue", true),
-              })
-          .put(
-              "SAXNotSupportedException",
-              new Import[] {
-                new Import("SAXNotSupportedException", "org.xml.sax", false),
-              })
-          .put(
-              "FLASH_OPTION",
-              new Import[] {
-                new Import("FLASH_OPTION", "javax.swing.DebugGraphics", true),
-              })
-          .put(
-              "EndTagType",
-              new Import[] {
-                new Import(
-                    "EndTagType", "javax.swing.text.DefaultStyledDocument.ElementSpec", true),
-              })
-          .put(
-              "FontSize",
-              new Import[] {
-                new Import("FontSize", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "isDigit",
-              new Import[] {
-                new Import("isDigit", "java.lang.Character", true),
-              })
-          .put(
-              "Objects",
-              new Import[] {
-                new Import("Objects", "java.util", false),
-              })
-          .put(
-              "BinaryRefAddr",
-              new Import[] {
-                new Import("BinaryRefAddr", "javax.naming", false),
-              })
-          .put(
-              "ServiceUIFactory",
-              new Import[] {
-                new Import("ServiceUIFactory", "javax.print", false),
-              })
-          .put(
-              "JUSTIFICATION_NONE",
-              new Import[] {
-                new Import("JUSTIFICATION_NONE", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "getAttributeKey",
-              new Import[] {
-                new Import("getAttributeKey", "javax.swing.text.html.HTML", true),
-              })
-          .put(
-              "SecurityManager",
-              new Import[] {
-                new Import("SecurityManager", "java.lang", false),
-              })
-          .put(
-              "withCachedThreadPool",
-              new Import[] {
-                new Import(
-                    "withCachedThreadPool", "java.nio.channels.AsynchronousChannelGroup", true),
-              })
-          .put(
-              "DigestMethod",
-              new Import[] {
-                new Import("DigestMethod", "javax.xml.crypto.dsig", false),
-              })
-          .put(
-              "MISCELLANEOUS_SYMBOLS",
-              new Import[] {
-                new Import("MISCELLANEOUS_SYMBOLS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "ALL_STYLES",
-              new Import[] {
-                new Import("ALL_STYLES", "java.util.Calendar", true),
-              })
-          .put(
-              "comparingByValue",
-              new Import[] {
-                new Import("comparingByValue", "java.util.Map.Entry", true),
-              })
-          .put(
-              "SSLHandshakeException",
-              new Import[] {
-                new Import("SSLHandshakeException", "javax.net.ssl", false),
-              })
-          .put(
-              "CONTENT_PANE_PROPERTY",
-              new Import[] {
-                new Import("CONTENT_PANE_PROPERTY", "javax.swing.JInternalFrame", true),
-              })
-          .put(
-              "StandardProtocolFamily",
-              new Import[] {
-                new Import("StandardProtocolFamily", "java.net", false),
-              })
-          .put(
-              "allOf",
-              new Import[] {
-                new Import("allOf", "java.util.EnumSet", true),
-                new Import("allOf", "java.util.concurrent.CompletableFuture", true),
-              })
-          .put(
-              "ScrollPaneUI",
-              new Import[] {
-                new Import("ScrollPaneUI", "javax.swing.plaf", false),
-              })
-          .put(
-              "CODEBASE",
-              new Import[] {
-                new Import("CODEBASE", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "unmappableForLength",
-              new Import[] {
-                new Import("unmappableForLength", "java.nio.charset.CoderResult", true),
-              })
-          .put(
-              "TimerTask",
-              new Import[] {
-                new Import("TimerTask", "java.util", false),
-              })
-          .put(
-              "UnmarshalException",
-              new Import[] {
-                new Import("UnmarshalException", "java.rmi", false),
-                new Import("UnmarshalException", "javax.xml.bind", false),
-              })
-          .put(
-              "KANA_SUPPLEMENT",
-              new Import[] {
-                new Import("KANA_SUPPLEMENT", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "SOAP12HTTP_MTOM_BINDING",
-              new Import[] {
-                new Import("SOAP12HTTP_MTOM_BINDING", "javax.xml.ws.soap.SOAPBinding", true),
-              })
-          .put(
-              "controlLtHighlight",
-              new Import[] {
-                new Import("controlLtHighlight", "java.awt.SystemColor", true),
-              })
-          .put(
-              "getImageWriters",
-              new Import[] {
-                new Import("getImageWriters", "javax.imageio.ImageIO", true),
-              })
-          .put(
-              "NotificationBroadcasterSupport",
-              new Import[] {
-                new Import("NotificationBroadcasterSupport", "javax.management", false),
-              })
-          .put(
-              "PCM_FLOAT",
-              new Import[] {
-                new Import("PCM_FLOAT", "javax.sound.sampled.AudioFormat.Encoding", true),
-              })
-          .put(
-              "ofDateAdjuster",
-              new Import[] {
-                new Import("ofDateAdjuster", "java.time.temporal.TemporalAdjusters", true),
-              })
-          .put(
-              "IIOMetadataFormat",
-              new Import[] {
-                new Import("IIOMetadataFormat", "javax.imageio.metadata", false),
-              })
-          .put(
-              "QName",
-              new Import[] {
-                new Import("QName", "javax.xml.namespace", false),
-              })
-          .put(
-              "JOB_INCOMING",
-              new Import[] {
-                new Import("JOB_INCOMING", "javax.print.attribute.standard.JobStateReason", true),
-              })
-          .put(
-              "supplyAsync",
-              new Import[] {
-                new Import("supplyAsync", "java.util.concurrent.CompletableFuture", true),
-              })
-          .put(
-              "FILLER",
-              new Import[] {
-                new Import("FILLER", "javax.accessibility.AccessibleRole", true),
-              })
-          .put(
-              "AttributeModificationException",
-              new Import[] {
-                new Import("AttributeModificationException", "javax.naming.directory", false),
-              })
-          .put(
-              "COMBINING_SPACING_MARK",
-              new Import[] {
-                new Import("COMBINING_SPACING_MARK", "java.lang.Character", true),
-              })
-          .put(
-              "ActivityRequiredException",
-              new Import[] {
-                new Import("ActivityRequiredException", "javax.activity", false),
-              })
-          .put(
-              "NONE_OPTION",
-              new Import[] {
-                new Import("NONE_OPTION", "javax.swing.DebugGraphics", true),
-              })
-          .put(
-              "AccessibleHypertext",
-              new Import[] {
-                new Import("AccessibleHypertext", "javax.accessibility", false),
-              })
-          .put(
-              "MIAO",
-              new Import[] {
-                new Import("MIAO", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "InvalidRelationServiceException",
-              new Import[] {
-                new Import("InvalidRelationServiceException", "javax.management.relation", false),
-              })
-          .put(
-              "OTHER_PUNCTUATION",
-              new Import[] {
-                new Import("OTHER_PUNCTUATION", "java.lang.Character", true),
-              })
-          .put(
-              "getWindowTitleFont",
-              new Import[] {
-                new Import("getWindowTitleFont", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "YOU_3",
-              new Import[] {
-                new Import("YOU_3", "javax.print.attribute.standard.MediaSize.JIS", true),
-              })
-          .put(
-              "YOU_2",
-              new Import[] {
-                new Import("YOU_2", "javax.print.attribute.standard.MediaSize.JIS", true),
-              })
-          .put(
-              "YOU_1",
-              new Import[] {
-                new Import("YOU_1", "javax.print.attribute.standard.MediaSize.JIS", true),
-              })
-          .put(
-              "YOU_7",
-              new Import[] {
-                new Import("YOU_7", "javax.print.attribute.standard.MediaSize.JIS", true),
-              })
-          .put(
-              "WORD_SPACING",
-              new Import[] {
-                new Import("WORD_SPACING", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "YOU_6",
-              new Import[] {
-                new Import("YOU_6", "javax.print.attribute.standard.MediaSize.JIS", true),
-              })
-          .put(
-              "YOU_5",
-              new Import[] {
-                new Import("YOU_5", "javax.print.attribute.standard.MediaSize.JIS", true),
-              })
-          .put(
-              "YOU_4",
-              new Import[] {
-                new Import("YOU_4", "javax.print.attribute.standard.MediaSize.JIS", true),
-              })
-          .put(
-              "LineSpacing",
-              new Import[] {
-                new Import("LineSpacing", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "BORDER_TOP_COLOR",
-              new Import[] {
-                new Import("BORDER_TOP_COLOR", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "SystemTray",
-              new Import[] {
-                new Import("SystemTray", "java.awt", false),
-              })
-          .put(
-              "URIDereferencer",
-              new Import[] {
-                new Import("URIDereferencer", "javax.xml.crypto", false),
-              })
-          .put(
-              "PrintService",
-              new Import[] {
-                new Import("PrintService", "javax.print", false),
-              })
-          .put(
-              "MAXIMIZED_BOTH",
-              new Import[] {
-                new Import("MAXIMIZED_BOTH", "java.awt.Frame", true),
-              })
-          .put(
-              "intStream",
-              new Import[] {
-                new Import("intStream", "java.util.stream.StreamSupport", true),
-              })
-          .put(
-              "getPrimaryControl",
-              new Import[] {
-                new Import("getPrimaryControl", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "EditorKit",
-              new Import[] {
-                new Import("EditorKit", "javax.swing.text", false),
-              })
-          .put(
-              "MissingFormatArgumentException",
-              new Import[] {
-                new Import("MissingFormatArgumentException", "java.util", false),
-              })
-          .put(
-              "MetalPopupMenuSeparatorUI",
-              new Import[] {
-                new Import("MetalPopupMenuSeparatorUI", "javax.swing.plaf.metal", false),
-              })
-          .put(
-              "MetaMessage",
-              new Import[] {
-                new Import("MetaMessage", "javax.sound.midi", false),
-              })
-          .put(
-              "ofYearDay",
-              new Import[] {
-                new Import("ofYearDay", "java.time.LocalDate", true),
-              })
-          .put(
-              "MARKER_SUPPLY_LOW",
-              new Import[] {
-                new Import(
-                    "MARKER_SUPPLY_LOW", "javax.print.attribute.standard.PrinterStateReason", true),
-              })
-          .put(
-              "Unmarshaller",
-              new Import[] {
-                new Import("Unmarshaller", "javax.xml.bind", false),
-              })
-          .put(
-              "HTTP_MOVED_PERM",
-              new Import[] {
-                new Import("HTTP_MOVED_PERM", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "EnumConstantNotPresentException",
-              new Import[] {
-                new Import("EnumConstantNotPresentException", "java.lang", false),
-              })
-          .put(
-              "DIRECTIONALITY_EUROPEAN_NUMBER",
-              new Import[] {
-                new Import("DIRECTIONALITY_EUROPEAN_NUMBER", "java.lang.Character", true),
-              })
-          .put(
-              "RelationSupport",
-              new Import[] {
-                new Import("RelationSupport", "javax.management.relation", false),
-              })
-          .put(
-              "SCROLLS_ON_EXPAND_PROPERTY",
-              new Import[] {
-                new Import("SCROLLS_ON_EXPAND_PROPERTY", "javax.swing.JTree", true),
-              })
-          .put(
-              "RMI_CLIENT_SOCKET_FACTORY_ATTRIBUTE",
-              new Import[] {
-                new Import(
-                    "RMI_CLIENT_SOCKET_FACTORY_ATTRIBUTE",
-                    "javax.management.remote.rmi.RMIConnectorServer",
-                    true),
-              })
-          .put(
-              "REBIND",
-              new Import[] {
-                new Import("REBIND", "org.omg.CORBA", false),
-              })
-          .put(
-              "VK_CLEAR",
-              new Import[] {
-                new Import("VK_CLEAR", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "MEDIA_NEEDED",
-              new Import[] {
-                new Import(
-                    "MEDIA_NEEDED", "javax.print.attribute.standard.PrinterStateReason", true),
-              })
-          .put(
-              "MultiDesktopIconUI",
-              new Import[] {
-                new Import("MultiDesktopIconUI", "javax.swing.plaf.multi", false),
-              })
-          .put(
-              "Flushable",
-              new Import[] {
-                new Import("Flushable", "java.io", false),
-              })
-          .put(
-              "InputMismatchException",
-              new Import[] {
-                new Import("InputMismatchException", "java.util", false),
-              })
-          .put(
-              "LEADING",
-              new Import[] {
-                new Import("LEADING", "java.awt.FlowLayout", true),
-                new Import("LEADING", "javax.swing.SwingConstants", true),
-                new Import("LEADING", "javax.swing.border.TitledBorder", true),
-              })
-          .put(
-              "WRITE_FAILURE",
-              new Import[] {
-                new Import("WRITE_FAILURE", "java.util.logging.ErrorManager", true),
-              })
-          .put(
-              "menuText",
-              new Import[] {
-                new Import("menuText", "java.awt.SystemColor", true),
-              })
-          .put(
-              "ClosedFileSystemException",
-              new Import[] {
-                new Import("ClosedFileSystemException", "java.nio.file", false),
-              })
-          .put(
-              "MONTH_FIELD",
-              new Import[] {
-                new Import("MONTH_FIELD", "java.text.DateFormat", true),
-              })
-          .put(
-              "createVerticalBox",
-              new Import[] {
-                new Import("createVerticalBox", "javax.swing.Box", true),
-              })
-          .put(
-              "VK_PAGE_DOWN",
-              new Import[] {
-                new Import("VK_PAGE_DOWN", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "LOCHOW",
-              new Import[] {
-                new Import("LOCHOW", "java.util.jar.JarEntry", true),
-                new Import("LOCHOW", "java.util.jar.JarFile", true),
-                new Import("LOCHOW", "java.util.jar.JarInputStream", true),
-                new Import("LOCHOW", "java.util.jar.JarOutputStream", true),
-                new Import("LOCHOW", "java.util.zip.ZipEntry", true),
-                new Import("LOCHOW", "java.util.zip.ZipFile", true),
-                new Import("LOCHOW", "java.util.zip.ZipInputStream", true),
-                new Import("LOCHOW", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "HORIZONTAL_CENTER",
-              new Import[] {
-                new Import("HORIZONTAL_CENTER", "javax.swing.SpringLayout", true),
-              })
-          .put(
-              "ATTRIBUTE_NODE",
-              new Import[] {
-                new Import("ATTRIBUTE_NODE", "org.w3c.dom.Node", true),
-              })
-          .put(
-              "FETCH_REVERSE",
-              new Import[] {
-                new Import("FETCH_REVERSE", "java.sql.ResultSet", true),
-              })
-          .put(
-              "BadLocationException",
-              new Import[] {
-                new Import("BadLocationException", "javax.swing.text", false),
-              })
-          .put(
-              "getShearInstance",
-              new Import[] {
-                new Import("getShearInstance", "java.awt.geom.AffineTransform", true),
-              })
-          .put(
-              "RemoteCall",
-              new Import[] {
-                new Import("RemoteCall", "java.rmi.server", false),
-              })
-          .put(
-              "MODIFICATION_TIME",
-              new Import[] {
-                new Import("MODIFICATION_TIME", "java.util.jar.Pack200.Packer", true),
-              })
-          .put(
-              "NAMES",
-              new Import[] {
-                new Import("NAMES", "javax.swing.text.html.parser.DTDConstants", true),
-              })
-          .put(
-              "Shape",
-              new Import[] {
-                new Import("Shape", "java.awt", false),
-              })
-          .put(
-              "TAG_BDAT",
-              new Import[] {
-                new Import("TAG_BDAT", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "PROPERTYNAME",
-              new Import[] {
-                new Import("PROPERTYNAME", "java.beans.DesignMode", true),
-              })
-          .put(
-              "TRANSACTION_UNAVAILABLE",
-              new Import[] {
-                new Import("TRANSACTION_UNAVAILABLE", "org.omg.CORBA", false),
-              })
-          .put(
-              "JTextPane",
-              new Import[] {
-                new Import("JTextPane", "javax.swing", false),
-              })
-          .put(
-              "getEtchedBorderUIResource",
-              new Import[] {
-                new Import("getEtchedBorderUIResource", "javax.swing.plaf.BorderUIResource", true),
-              })
-          .put(
-              "SplashScreen",
-              new Import[] {
-                new Import("SplashScreen", "java.awt", false),
-              })
-          .put(
-              "JobMediaSheetsCompleted",
-              new Import[] {
-                new Import("JobMediaSheetsCompleted", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "BufferOverflowException",
-              new Import[] {
-                new Import("BufferOverflowException", "java.nio", false),
-              })
-          .put(
-              "DefaultTreeCellEditor",
-              new Import[] {
-                new Import("DefaultTreeCellEditor", "javax.swing.tree", false),
-              })
-          .put(
-              "DropMode",
-              new Import[] {
-                new Import("DropMode", "javax.swing", false),
-              })
-          .put(
-              "_DynUnionStub",
-              new Import[] {
-                new Import("_DynUnionStub", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "setBidiLevel",
-              new Import[] {
-                new Import("setBidiLevel", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "DynArrayHelper",
-              new Import[] {
-                new Import("DynArrayHelper", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "MAX_WEIGHT",
-              new Import[] {
-                new Import("MAX_WEIGHT", "java.util.Locale.LanguageRange", true),
-              })
-          .put(
-              "LOWER_RIGHT_CORNER",
-              new Import[] {
-                new Import("LOWER_RIGHT_CORNER", "javax.swing.ScrollPaneConstants", true),
-              })
-          .put(
-              "MediaName",
-              new Import[] {
-                new Import("MediaName", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "getBeanInfo",
-              new Import[] {
-                new Import("getBeanInfo", "java.beans.Introspector", true),
-              })
-          .put(
-              "OperationsException",
-              new Import[] {
-                new Import("OperationsException", "javax.management", false),
-              })
-          .put(
-              "CalendarDataProvider",
-              new Import[] {
-                new Import("CalendarDataProvider", "java.util.spi", false),
-              })
-          .put(
-              "HTTP_REQUEST_HEADERS",
-              new Import[] {
-                new Import("HTTP_REQUEST_HEADERS", "javax.xml.ws.handler.MessageContext", true),
-              })
-          .put(
-              "AsynchronousChannelGroup",
-              new Import[] {
-                new Import("AsynchronousChannelGroup", "java.nio.channels", false),
-              })
-          .put(
-              "ButtonAreaLayout",
-              new Import[] {
-                new Import("ButtonAreaLayout", "javax.swing.plaf.basic.BasicOptionPaneUI", false),
-              })
-          .put(
-              "IllegalMonitorStateException",
-              new Import[] {
-                new Import("IllegalMonitorStateException", "java.lang", false),
-              })
-          .put(
-              "Principal",
-              new Import[] {
-                new Import("Principal", "java.security", false),
-                new Import("Principal", "org.omg.CORBA", false),
-              })
-          .put(
-              "GridBagConstraints",
-              new Import[] {
-                new Import("GridBagConstraints", "java.awt", false),
-              })
-          .put(
-              "DefaultButtonModel",
-              new Import[] {
-                new Import("DefaultButtonModel", "javax.swing", false),
-              })
-          .put(
-              "InsetsUIResource",
-              new Import[] {
-                new Import("InsetsUIResource", "javax.swing.plaf", false),
-              })
-          .put(
-              "listRoots",
-              new Import[] {
-                new Import("listRoots", "java.io.File", true),
-              })
-          .put(
-              "INPUT",
-              new Import[] {
-                new Import("INPUT", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "getRuntimeMXBean",
-              new Import[] {
-                new Import("getRuntimeMXBean", "java.lang.management.ManagementFactory", true),
-              })
-          .put(
-              "SELECTED_RAW_TEXT_HIGHLIGHT",
-              new Import[] {
-                new Import("SELECTED_RAW_TEXT_HIGHLIGHT", "java.awt.im.InputMethodHighlight", true),
-              })
-          .put(
-              "getCurrencyInstance",
-              new Import[] {
-                new Import("getCurrencyInstance", "java.text.NumberFormat", true),
-              })
-          .put(
-              "FOCUS_PAINTED_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("FOCUS_PAINTED_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
-              })
-          .put(
-              "NA_LETTER_WHITE",
-              new Import[] {
-                new Import("NA_LETTER_WHITE", "javax.print.attribute.standard.MediaName", true),
-              })
-          .put(
-              "RMISocketFactory",
-              new Import[] {
-                new Import("RMISocketFactory", "java.rmi.server", false),
-              })
-          .put(
-              "setDouble",
-              new Import[] {
-                new Import("setDouble", "java.lang.reflect.Array", true),
-              })
-          .put(
-              "NO_ROLE_WITH_NAME",
-              new Import[] {
-                new Import("NO_ROLE_WITH_NAME", "javax.management.relation.RoleStatus", true),
-              })
-          .put(
-              "AssertionError",
-              new Import[] {
-                new Import("AssertionError", "java.lang", false),
-              })
-          .put(
-              "AccessibleExtendedComponent",
-              new Import[] {
-                new Import("AccessibleExtendedComponent", "javax.accessibility", false),
-              })
-          .put(
-              "AnySeqHolder",
-              new Import[] {
-                new Import("AnySeqHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "JSlider",
-              new Import[] {
-                new Import("JSlider", "javax.swing", false),
-              })
-          .put(
-              "MultiSeparatorUI",
-              new Import[] {
-                new Import("MultiSeparatorUI", "javax.swing.plaf.multi", false),
-              })
-          .put(
-              "tertiaryOrder",
-              new Import[] {
-                new Import("tertiaryOrder", "java.text.CollationElementIterator", true),
-              })
-          .put(
-              "TC_CLASS",
-              new Import[] {
-                new Import("TC_CLASS", "java.io.ObjectStreamConstants", true),
-              })
-          .put(
-              "HORIZONTAL_SCROLLBAR_NEVER",
-              new Import[] {
-                new Import("HORIZONTAL_SCROLLBAR_NEVER", "javax.swing.ScrollPaneConstants", true),
-              })
-          .put(
-              "DynArray",
-              new Import[] {
-                new Import("DynArray", "org.omg.CORBA", false),
-                new Import("DynArray", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "DONE",
-              new Import[] {
-                new Import("DONE", "java.text.BreakIterator", true),
-                new Import("DONE", "java.text.CharacterIterator", true),
-              })
-          .put(
-              "IMG",
-              new Import[] {
-                new Import("IMG", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "Channel",
-              new Import[] {
-                new Import("Channel", "java.nio.channels", false),
-              })
-          .put(
-              "AclEntry",
-              new Import[] {
-                new Import("AclEntry", "java.nio.file.attribute", false),
-                new Import("AclEntry", "java.security.acl", false),
-              })
-          .put(
-              "TIME_WITH_TIMEZONE",
-              new Import[] {
-                new Import("TIME_WITH_TIMEZONE", "java.sql.Types", true),
-              })
-          .put(
-              "DOMLocator",
-              new Import[] {
-                new Import("DOMLocator", "javax.xml.transform.dom", false),
-                new Import("DOMLocator", "org.w3c.dom", false),
-              })
-          .put(
-              "TimerNotification",
-              new Import[] {
-                new Import("TimerNotification", "javax.management.timer", false),
-              })
-          .put(
-              "SynthTextAreaUI",
-              new Import[] {
-                new Import("SynthTextAreaUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "DSAPrivateKeySpec",
-              new Import[] {
-                new Import("DSAPrivateKeySpec", "java.security.spec", false),
-              })
-          .put(
-              "PUSH_BUTTON",
-              new Import[] {
-                new Import("PUSH_BUTTON", "javax.accessibility.AccessibleRole", true),
-              })
-          .put(
-              "WHEN_ANCESTOR_OF_FOCUSED_COMPONENT",
-              new Import[] {
-                new Import("WHEN_ANCESTOR_OF_FOCUSED_COMPONENT", "javax.swing.JComponent", true),
-              })
-          .put(
-              "NMTOKENS",
-              new Import[] {
-                new Import("NMTOKENS", "javax.swing.text.html.parser.DTDConstants", true),
-              })
-          .put(
-              "ShortBufferException",
-              new Import[] {
-                new Import("ShortBufferException", "javax.crypto", false),
-              })
-          .put(
-              "ArrayStoreException",
-              new Import[] {
-                new Import("ArrayStoreException", "java.lang", false),
-              })
-          .put(
-              "JOB_CANCELED_BY_USER",
-              new Import[] {
-                new Import(
-                    "JOB_CANCELED_BY_USER", "javax.print.attribute.standard.JobStateReason", true),
-              })
-          .put(
-              "IS_MAXIMUM_PROPERTY",
-              new Import[] {
-                new Import("IS_MAXIMUM_PROPERTY", "javax.swing.JInternalFrame", true),
-              })
-          .put(
-              "HTTP_CLIENT_TIMEOUT",
-              new Import[] {
-                new Import("HTTP_CLIENT_TIMEOUT", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "IMG_BORDER",
-              new Import[] {
-                new Import("IMG_BORDER", "javax.swing.text.html.HTMLEditorKit", true),
-              })
-          .put(
-              "EntityDeclaration",
-              new Import[] {
-                new Import("EntityDeclaration", "javax.xml.stream.events", false),
-              })
-          .put(
-              "TEXT_HTML_HOST",
-              new Import[] {
-                new Import("TEXT_HTML_HOST", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("TEXT_HTML_HOST", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("TEXT_HTML_HOST", "javax.print.DocFlavor.URL", true),
-              })
-          .put(
-              "MetalInternalFrameUI",
-              new Import[] {
-                new Import("MetalInternalFrameUI", "javax.swing.plaf.metal", false),
-              })
-          .put(
-              "getAttribute",
-              new Import[] {
-                new Import("getAttribute", "java.nio.file.Files", true),
-                new Import("getAttribute", "javax.swing.text.html.CSS", true),
-              })
-          .put(
-              "arrayElementSetter",
-              new Import[] {
-                new Import("arrayElementSetter", "java.lang.invoke.MethodHandles", true),
-              })
-          .put(
-              "AclEntryFlag",
-              new Import[] {
-                new Import("AclEntryFlag", "java.nio.file.attribute", false),
-              })
-          .put(
-              "ServantActivatorPOA",
-              new Import[] {
-                new Import("ServantActivatorPOA", "org.omg.PortableServer", false),
-              })
-          .put(
-              "textText",
-              new Import[] {
-                new Import("textText", "java.awt.SystemColor", true),
-              })
-          .put(
-              "ChangeListener",
-              new Import[] {
-                new Import("ChangeListener", "javax.swing.event", false),
-              })
-          .put(
-              "EAST",
-              new Import[] {
-                new Import("EAST", "java.awt.BorderLayout", true),
-                new Import("EAST", "java.awt.GridBagConstraints", true),
-                new Import("EAST", "javax.swing.SpringLayout", true),
-                new Import("EAST", "javax.swing.SwingConstants", true),
-              })
-          .put(
-              "setAll",
-              new Import[] {
-                new Import("setAll", "java.util.Arrays", true),
-              })
-          .put(
-              "INDETERMINATE",
-              new Import[] {
-                new Import("INDETERMINATE", "javax.accessibility.AccessibleState", true),
-                new Import("INDETERMINATE", "javax.xml.datatype.DatatypeConstants", true),
-              })
-          .put(
-              "TEXT_HTML_UTF_16",
-              new Import[] {
-                new Import("TEXT_HTML_UTF_16", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("TEXT_HTML_UTF_16", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("TEXT_HTML_UTF_16", "javax.print.DocFlavor.URL", true),
-              })
-          .put(
-              "BORDER_BOTTOM_COLOR",
-              new Import[] {
-                new Import("BORDER_BOTTOM_COLOR", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "getProperty",
-              new Import[] {
-                new Import("getProperty", "java.awt.Toolkit", true),
-                new Import("getProperty", "java.lang.System", true),
-                new Import("getProperty", "java.security.Security", true),
-              })
-          .put(
-              "CLOB",
-              new Import[] {
-                new Import("CLOB", "java.sql.Types", true),
-              })
-          .put(
-              "CENOFF",
-              new Import[] {
-                new Import("CENOFF", "java.util.jar.JarEntry", true),
-                new Import("CENOFF", "java.util.jar.JarFile", true),
-                new Import("CENOFF", "java.util.jar.JarInputStream", true),
-                new Import("CENOFF", "java.util.jar.JarOutputStream", true),
-                new Import("CENOFF", "java.util.zip.ZipEntry", true),
-                new Import("CENOFF", "java.util.zip.ZipFile", true),
-                new Import("CENOFF", "java.util.zip.ZipInputStream", true),
-                new Import("CENOFF", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "LogicalHandler",
-              new Import[] {
-                new Import("LogicalHandler", "javax.xml.ws.handler", false),
-              })
-          .put(
-              "setBeanInfoSearchPath",
-              new Import[] {
-                new Import("setBeanInfoSearchPath", "java.beans.Introspector", true),
-              })
-          .put(
-              "AsynchronousServerSocketChannel",
-              new Import[] {
-                new Import("AsynchronousServerSocketChannel", "java.nio.channels", false),
-              })
-          .put(
-              "importedKeySetNull",
-              new Import[] {
-                new Import("importedKeySetNull", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "FileNameExtensionFilter",
-              new Import[] {
-                new Import("FileNameExtensionFilter", "javax.swing.filechooser", false),
-              })
-          .put(
-              "XmlSchemaType",
-              new Import[] {
-                new Import("XmlSchemaType", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "IOR",
-              new Import[] {
-                new Import("IOR", "org.omg.IOP", false),
-              })
-          .put(
-              "FileDescriptor",
-              new Import[] {
-                new Import("FileDescriptor", "java.io", false),
-              })
-          .put(
-              "ChangeEvent",
-              new Import[] {
-                new Import("ChangeEvent", "javax.swing.event", false),
-              })
-          .put(
-              "TreeCellEditor",
-              new Import[] {
-                new Import("TreeCellEditor", "javax.swing.tree", false),
-              })
-          .put(
-              "DHPrivateKeySpec",
-              new Import[] {
-                new Import("DHPrivateKeySpec", "javax.crypto.spec", false),
-              })
-          .put(
-              "X500Principal",
-              new Import[] {
-                new Import("X500Principal", "javax.security.auth.x500", false),
-              })
-          .put(
-              "DEFAULT_OBJECT_MODEL_URI",
-              new Import[] {
-                new Import("DEFAULT_OBJECT_MODEL_URI", "javax.xml.xpath.XPathFactory", true),
-              })
-          .put(
-              "WEIGHT_MEDIUM",
-              new Import[] {
-                new Import("WEIGHT_MEDIUM", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "REF_invokeInterface",
-              new Import[] {
-                new Import("REF_invokeInterface", "java.lang.invoke.MethodHandleInfo", true),
-              })
-          .put(
-              "LogManager",
-              new Import[] {
-                new Import("LogManager", "java.util.logging", false),
-              })
-          .build();
-}
@@ -1,1610 +0,0 @@
-// Code generated by GenerateStdlib.java. DO NOT EDIT.
-package com.nikodoko.javaimports.stdlib.internal.api.v8;
-
-import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
-import java.util.Map;
-
-public class Java8StdlibChunk14 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
-          .put(
-              "SimpleFileVisitor",
-              new Import[] {
-                new Import("SimpleFileVisitor", "java.nio.file", false),
-              })
-          .put(
-              "AccessibleEditableText",
-              new Import[] {
-                new Import("AccessibleEditableText", "javax.accessibility", false),
-              })
-          .put(
-              "NameComponent",
-              new Import[] {
-                new Import("NameComponent", "org.omg.CosNaming", false),
-              })
-          .put(
-              "MISCELLANEOUS_MATHEMATICAL_SYMBOLS_A",
-              new Import[] {
-                new Import(
-                    "MISCELLANEOUS_MATHEMATICAL_SYMBOLS_A",
-                    "java.lang.Character.UnicodeBlock",
-                    true),
-              })
-          .put(
-              "AttributeChangeNotificationFilter",
-              new Import[] {
-                new Import("AttributeChangeNotificationFilter", "javax.management", false),
-              })
-          .put(
-              "X500PrivateCredential",
-              new Import[] {
-                new Import("X500PrivateCredential", "javax.security.auth.x500", false),
-              })
-          .put(
-              "MISCELLANEOUS_MATHEMATICAL_SYMBOLS_B",
-              new Import[] {
-                new Import(
-                    "MISCELLANEOUS_MATHEMATICAL_SYMBOLS_B",
-                    "java.lang.Character.UnicodeBlock",
-                    true),
-              })
-          .put(
-              "ForwardingJavaFileObject",
-              new Import[] {
-                new Import("ForwardingJavaFileObject", "javax.tools", false),
-              })
-          .put(
-              "SecureClassLoader",
-              new Import[] {
-                new Import("SecureClassLoader", "java.security", false),
-              })
-          .put(
-              "TONER_LOW",
-              new Import[] {
-                new Import("TONER_LOW", "javax.print.attribute.standard.PrinterStateReason", true),
-              })
-          .put(
-              "WEDNESDAY",
-              new Import[] {
-                new Import("WEDNESDAY", "java.util.Calendar", true),
-              })
-          .put(
-              "ObjectFactory",
-              new Import[] {
-                new Import("ObjectFactory", "javax.naming.spi", false),
-              })
-          .put(
-              "NormalizedStringAdapter",
-              new Import[] {
-                new Import("NormalizedStringAdapter", "javax.xml.bind.annotation.adapters", false),
-              })
-          .put(
-              "X509KeyManager",
-              new Import[] {
-                new Import("X509KeyManager", "javax.net.ssl", false),
-              })
-          .put(
-              "BALINESE",
-              new Import[] {
-                new Import("BALINESE", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "TimeUnit",
-              new Import[] {
-                new Import("TimeUnit", "java.util.concurrent", false),
-              })
-          .put(
-              "RUNTIME_MXBEAN_NAME",
-              new Import[] {
-                new Import("RUNTIME_MXBEAN_NAME", "java.lang.management.ManagementFactory", true),
-              })
-          .put(
-              "VK_LEFT_PARENTHESIS",
-              new Import[] {
-                new Import("VK_LEFT_PARENTHESIS", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "LayoutStyle",
-              new Import[] {
-                new Import("LayoutStyle", "javax.swing", false),
-              })
-          .put(
-              "Wrapper",
-              new Import[] {
-                new Import("Wrapper", "java.sql", false),
-              })
-          .put(
-              "FieldBorder",
-              new Import[] {
-                new Import("FieldBorder", "javax.swing.plaf.basic.BasicBorders", false),
-              })
-          .put(
-              "PSpecified",
-              new Import[] {
-                new Import("PSpecified", "javax.crypto.spec.PSource", false),
-              })
-          .put(
-              "ARROW_BUTTON",
-              new Import[] {
-                new Import("ARROW_BUTTON", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "not_context",
-              new Import[] {
-                new Import(
-                    "not_context", "org.omg.CosNaming.NamingContextPackage.NotFoundReason", true),
-              })
-          .put(
-              "StartTagType",
-              new Import[] {
-                new Import(
-                    "StartTagType", "javax.swing.text.DefaultStyledDocument.ElementSpec", true),
-              })
-          .put(
-              "COMPONENT_SHOWN",
-              new Import[] {
-                new Import("COMPONENT_SHOWN", "java.awt.event.ComponentEvent", true),
-              })
-          .put(
-              "POSTURE_REGULAR",
-              new Import[] {
-                new Import("POSTURE_REGULAR", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "APPROVE_BUTTON_MNEMONIC_CHANGED_PROPERTY",
-              new Import[] {
-                new Import(
-                    "APPROVE_BUTTON_MNEMONIC_CHANGED_PROPERTY", "javax.swing.JFileChooser", true),
-              })
-          .put(
-              "LongStream",
-              new Import[] {
-                new Import("LongStream", "java.util.stream", false),
-              })
-          .put(
-              "setSharedInstance",
-              new Import[] {
-                new Import("setSharedInstance", "javax.swing.PopupFactory", true),
-              })
-          .put(
-              "DocumentFilter",
-              new Import[] {
-                new Import("DocumentFilter", "javax.swing.text", false),
-              })
-          .put(
-              "ImageCapabilities",
-              new Import[] {
-                new Import("ImageCapabilities", "java.awt", false),
-              })
-          .put(
-              "NA_8X10",
-              new Import[] {
-                new Import("NA_8X10", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import("NA_8X10", "javax.print.attribute.standard.MediaSize.NA", true),
-              })
-          .put(
-              "MultiDocPrintService",
-              new Import[] {
-                new Import("MultiDocPrintService", "javax.print", false),
-              })
-          .put(
-              "AttributedCharacterIterator",
-              new Import[] {
-                new Import("AttributedCharacterIterator", "java.text", false),
-              })
-          .put(
-              "URLStreamHandler",
-              new Import[] {
-                new Import("URLStreamHandler", "java.net", false),
-              })
-          .put(
-              "ForcedBreakWeight",
-              new Import[] {
-                new Import("ForcedBreakWeight", "javax.swing.text.View", true),
-              })
-          .put(
-              "doAs",
-              new Import[] {
-                new Import("doAs", "javax.security.auth.Subject", true),
-              })
-          .put(
-              "scanForPlugins",
-              new Import[] {
-                new Import("scanForPlugins", "javax.imageio.ImageIO", true),
-              })
-          .put(
-              "ContextNotEmptyException",
-              new Import[] {
-                new Import("ContextNotEmptyException", "javax.naming", false),
-              })
-          .put(
-              "BasicToolBarSeparatorUI",
-              new Import[] {
-                new Import("BasicToolBarSeparatorUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "WrongAdapterHelper",
-              new Import[] {
-                new Import("WrongAdapterHelper", "org.omg.PortableServer.POAPackage", false),
-              })
-          .put(
-              "ParserDelegator",
-              new Import[] {
-                new Import("ParserDelegator", "javax.swing.text.html.parser", false),
-              })
-          .put(
-              "VK_CIRCUMFLEX",
-              new Import[] {
-                new Import("VK_CIRCUMFLEX", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "intersects",
-              new Import[] {
-                new Import("intersects", "java.awt.geom.Path2D", true),
-              })
-          .put(
-              "HTTP_REQ_TOO_LONG",
-              new Import[] {
-                new Import("HTTP_REQ_TOO_LONG", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "UnknownError",
-              new Import[] {
-                new Import("UnknownError", "java.lang", false),
-              })
-          .put(
-              "MARKER_WASTE_ALMOST_FULL",
-              new Import[] {
-                new Import(
-                    "MARKER_WASTE_ALMOST_FULL",
-                    "javax.print.attribute.standard.PrinterStateReason",
-                    true),
-              })
-          .put(
-              "XMLFilter",
-              new Import[] {
-                new Import("XMLFilter", "org.xml.sax", false),
-              })
-          .put(
-              "AttributeValueExp",
-              new Import[] {
-                new Import("AttributeValueExp", "javax.management", false),
-              })
-          .put(
-              "HashAttributeSet",
-              new Import[] {
-                new Import("HashAttributeSet", "javax.print.attribute", false),
-              })
-          .put(
-              "EMBEDS_PROPERTY",
-              new Import[] {
-                new Import("EMBEDS_PROPERTY", "javax.accessibility.AccessibleRelation", true),
-              })
-          .put(
-              "BASELINE",
-              new Import[] {
-                new Import("BASELINE", "java.awt.GridBagConstraints", true),
-                new Import("BASELINE", "javax.swing.SpringLayout", true),
-              })
-          .put(
-              "INTERNAL_FRAME_LAST",
-              new Import[] {
-                new Import("INTERNAL_FRAME_LAST", "javax.swing.event.InternalFrameEvent", true),
-              })
-          .put(
-              "ItalicAction",
-              new Import[] {
-                new Import("ItalicAction", "javax.swing.text.StyledEditorKit", false),
-              })
-          .put(
-              "SignatureValue",
-              new Import[] {
-                new Import("SignatureValue", "javax.xml.crypto.dsig.XMLSignature", false),
-              })
-          .put(
-              "BasicCaret",
-              new Import[] {
-                new Import("BasicCaret", "javax.swing.plaf.basic.BasicTextUI", false),
-              })
-          .put(
-              "firstInMonth",
-              new Import[] {
-                new Import("firstInMonth", "java.time.temporal.TemporalAdjusters", true),
-              })
-          .put(
-              "INV_IDENT",
-              new Import[] {
-                new Import("INV_IDENT", "org.omg.CORBA", false),
-              })
-          .put(
-              "checkedSet",
-              new Import[] {
-                new Import("checkedSet", "java.util.Collections", true),
-              })
-          .put(
-              "ConcurrentHashMap",
-              new Import[] {
-                new Import("ConcurrentHashMap", "java.util.concurrent", false),
-              })
-          .put(
-              "DISPOSE_ON_CLOSE",
-              new Import[] {
-                new Import("DISPOSE_ON_CLOSE", "javax.swing.WindowConstants", true),
-              })
-          .put(
-              "SynthContext",
-              new Import[] {
-                new Import("SynthContext", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "DocumentParser",
-              new Import[] {
-                new Import("DocumentParser", "javax.swing.text.html.parser", false),
-              })
-          .put(
-              "THREAD_MXBEAN_NAME",
-              new Import[] {
-                new Import("THREAD_MXBEAN_NAME", "java.lang.management.ManagementFactory", true),
-              })
-          .put(
-              "XAException",
-              new Import[] {
-                new Import("XAException", "javax.transaction.xa", false),
-              })
-          .put(
-              "UnknownHostException",
-              new Import[] {
-                new Import("UnknownHostException", "java.net", false),
-                new Import("UnknownHostException", "java.rmi", false),
-              })
-          .put(
-              "InvalidAttributeIdentifierException",
-              new Import[] {
-                new Import("InvalidAttributeIdentifierException", "javax.naming.directory", false),
-              })
-          .put(
-              "getRowEnd",
-              new Import[] {
-                new Import("getRowEnd", "javax.swing.text.Utilities", true),
-              })
-          .put(
-              "dumpStack",
-              new Import[] {
-                new Import("dumpStack", "java.lang.Thread", true),
-              })
-          .put(
-              "getBreakLocation",
-              new Import[] {
-                new Import("getBreakLocation", "javax.swing.text.Utilities", true),
-              })
-          .put(
-              "MEETEI_MAYEK_EXTENSIONS",
-              new Import[] {
-                new Import("MEETEI_MAYEK_EXTENSIONS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "MBeanServerInvocationHandler",
-              new Import[] {
-                new Import("MBeanServerInvocationHandler", "javax.management", false),
-              })
-          .put(
-              "SearchResult",
-              new Import[] {
-                new Import("SearchResult", "javax.naming.directory", false),
-              })
-          .put(
-              "INTERNAL_FRAME_OPENED",
-              new Import[] {
-                new Import("INTERNAL_FRAME_OPENED", "javax.swing.event.InternalFrameEvent", true),
-              })
-          .put(
-              "newWorkStealingPool",
-              new Import[] {
-                new Import("newWorkStealingPool", "java.util.concurrent.Executors", true),
-              })
-          .put(
-              "XmlMixed",
-              new Import[] {
-                new Import("XmlMixed", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "PlainView",
-              new Import[] {
-                new Import("PlainView", "javax.swing.text", false),
-              })
-          .put(
-              "OPEN",
-              new Import[] {
-                new Import("OPEN", "java.awt.geom.Arc2D", true),
-                new Import("OPEN", "javax.sound.sampled.LineEvent.Type", true),
-              })
-          .put(
-              "SeekableByteChannel",
-              new Import[] {
-                new Import("SeekableByteChannel", "java.nio.channels", false),
-              })
-          .put(
-              "UShortSeqHolder",
-              new Import[] {
-                new Import("UShortSeqHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "StrikeThrough",
-              new Import[] {
-                new Import("StrikeThrough", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "plainTextFlavor",
-              new Import[] {
-                new Import("plainTextFlavor", "java.awt.datatransfer.DataFlavor", true),
-              })
-          .put(
-              "MARCH",
-              new Import[] {
-                new Import("MARCH", "java.util.Calendar", true),
-                new Import("MARCH", "javax.xml.datatype.DatatypeConstants", true),
-              })
-          .put(
-              "MILLISECOND",
-              new Import[] {
-                new Import("MILLISECOND", "java.text.DateFormat.Field", true),
-                new Import("MILLISECOND", "java.util.Calendar", true),
-              })
-          .put(
-              "SpinnerListModel",
-              new Import[] {
-                new Import("SpinnerListModel", "javax.swing", false),
-              })
-          .put(
-              "PrintServiceAttributeSet",
-              new Import[] {
-                new Import("PrintServiceAttributeSet", "javax.print.attribute", false),
-              })
-          .put(
-              "Validator",
-              new Import[] {
-                new Import("Validator", "javax.xml.bind", false),
-                new Import("Validator", "javax.xml.validation", false),
-              })
-          .put(
-              "getSubject",
-              new Import[] {
-                new Import("getSubject", "javax.security.auth.Subject", true),
-              })
-          .put(
-              "ROUND_HALF_UP",
-              new Import[] {
-                new Import("ROUND_HALF_UP", "java.math.BigDecimal", true),
-              })
-          .put(
-              "DynEnumHelper",
-              new Import[] {
-                new Import("DynEnumHelper", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "ServantLocatorHelper",
-              new Import[] {
-                new Import("ServantLocatorHelper", "org.omg.PortableServer", false),
-              })
-          .put(
-              "BooleanHolder",
-              new Import[] {
-                new Import("BooleanHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "isNaN",
-              new Import[] {
-                new Import("isNaN", "java.lang.Double", true),
-                new Import("isNaN", "java.lang.Float", true),
-              })
-          .put(
-              "ReadPendingException",
-              new Import[] {
-                new Import("ReadPendingException", "java.nio.channels", false),
-              })
-          .put(
-              "IdUniquenessPolicyOperations",
-              new Import[] {
-                new Import("IdUniquenessPolicyOperations", "org.omg.PortableServer", false),
-              })
-          .put(
-              "WritableRenderedImage",
-              new Import[] {
-                new Import("WritableRenderedImage", "java.awt.image", false),
-              })
-          .put(
-              "CollationKey",
-              new Import[] {
-                new Import("CollationKey", "java.text", false),
-              })
-          .put(
-              "DESERET",
-              new Import[] {
-                new Import("DESERET", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "inForkJoinPool",
-              new Import[] {
-                new Import("inForkJoinPool", "java.util.concurrent.ForkJoinTask", true),
-              })
-          .put(
-              "ALT_DOWN_MASK",
-              new Import[] {
-                new Import("ALT_DOWN_MASK", "java.awt.event.InputEvent", true),
-              })
-          .put(
-              "ORIENTATION_PROPERTY",
-              new Import[] {
-                new Import("ORIENTATION_PROPERTY", "javax.swing.JSplitPane", true),
-              })
-          .put(
-              "XMLValidateContext",
-              new Import[] {
-                new Import("XMLValidateContext", "javax.xml.crypto.dsig", false),
-              })
-          .put(
-              "getWriterFormatNames",
-              new Import[] {
-                new Import("getWriterFormatNames", "javax.imageio.ImageIO", true),
-              })
-          .put(
-              "sinh",
-              new Import[] {
-                new Import("sinh", "java.lang.Math", true),
-                new Import("sinh", "java.lang.StrictMath", true),
-              })
-          .put(
-              "JobAttributes",
-              new Import[] {
-                new Import("JobAttributes", "java.awt", false),
-              })
-          .put(
-              "SaslClientFactory",
-              new Import[] {
-                new Import("SaslClientFactory", "javax.security.sasl", false),
-              })
-          .put(
-              "InvalidSeq",
-              new Import[] {
-                new Import("InvalidSeq", "org.omg.CORBA.DynAnyPackage", false),
-              })
-          .put(
-              "BasicGraphicsUtils",
-              new Import[] {
-                new Import("BasicGraphicsUtils", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "USE_ALL_BEANINFO",
-              new Import[] {
-                new Import("USE_ALL_BEANINFO", "java.beans.Introspector", true),
-              })
-          .put(
-              "numberOfLeadingZeros",
-              new Import[] {
-                new Import("numberOfLeadingZeros", "java.lang.Integer", true),
-                new Import("numberOfLeadingZeros", "java.lang.Long", true),
-              })
-          .put(
-              "ReferralException",
-              new Import[] {
-                new Import("ReferralException", "javax.naming", false),
-              })
-          .put(
-              "InsertBreakAction",
-              new Import[] {
-                new Import("InsertBreakAction", "javax.swing.text.DefaultEditorKit", false),
-              })
-          .put(
-              "_dk_Alias",
-              new Import[] {
-                new Import("_dk_Alias", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "BasicDesktopIconUI",
-              new Import[] {
-                new Import("BasicDesktopIconUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "getMenuItemCheckIcon",
-              new Import[] {
-                new Import("getMenuItemCheckIcon", "javax.swing.plaf.basic.BasicIconFactory", true),
-                new Import("getMenuItemCheckIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
-              })
-          .put(
-              "FileAttributeView",
-              new Import[] {
-                new Import("FileAttributeView", "java.nio.file.attribute", false),
-              })
-          .put(
-              "CANCEL_OPTION",
-              new Import[] {
-                new Import("CANCEL_OPTION", "javax.swing.JFileChooser", true),
-                new Import("CANCEL_OPTION", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "scrollbar",
-              new Import[] {
-                new Import("scrollbar", "java.awt.SystemColor", true),
-              })
-          .put(
-              "Action",
-              new Import[] {
-                new Import("Action", "java.awt.Desktop", false),
-                new Import("Action", "javax.swing", false),
-                new Import("Action", "javax.xml.ws", false),
-              })
-          .put(
-              "ENV_PERSONAL",
-              new Import[] {
-                new Import("ENV_PERSONAL", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "AdapterManagerIdHelper",
-              new Import[] {
-                new Import("AdapterManagerIdHelper", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "PAINT_EVENT_MASK",
-              new Import[] {
-                new Import("PAINT_EVENT_MASK", "java.awt.AWTEvent", true),
-              })
-          .put(
-              "DefaultDesktopManager",
-              new Import[] {
-                new Import("DefaultDesktopManager", "javax.swing", false),
-              })
-          .put(
-              "MenuListener",
-              new Import[] {
-                new Import("MenuListener", "javax.swing.event", false),
-              })
-          .put(
-              "MidiEvent",
-              new Import[] {
-                new Import("MidiEvent", "javax.sound.midi", false),
-              })
-          .put(
-              "Channels",
-              new Import[] {
-                new Import("Channels", "java.nio.channels", false),
-              })
-          .put(
-              "SIGNATURE_VERSION",
-              new Import[] {
-                new Import("SIGNATURE_VERSION", "java.util.jar.Attributes.Name", true),
-              })
-          .put(
-              "NODE_DELETED",
-              new Import[] {
-                new Import("NODE_DELETED", "org.w3c.dom.UserDataHandler", true),
-              })
-          .put(
-              "Proxy",
-              new Import[] {
-                new Import("Proxy", "java.lang.reflect", false),
-                new Import("Proxy", "java.net", false),
-              })
-          .put(
-              "selectionEndAction",
-              new Import[] {
-                new Import("selectionEndAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "TEXT_HTML_UTF_16LE",
-              new Import[] {
-                new Import("TEXT_HTML_UTF_16LE", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("TEXT_HTML_UTF_16LE", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("TEXT_HTML_UTF_16LE", "javax.print.DocFlavor.URL", true),
-              })
-          .put(
-              "TC_ENDBLOCKDATA",
-              new Import[] {
-                new Import("TC_ENDBLOCKDATA", "java.io.ObjectStreamConstants", true),
-              })
-          .put(
-              "SPACE_SEPARATOR",
-              new Import[] {
-                new Import("SPACE_SEPARATOR", "java.lang.Character", true),
-              })
-          .put(
-              "DHKey",
-              new Import[] {
-                new Import("DHKey", "javax.crypto.interfaces", false),
-              })
-          .put(
-              "MANUAL",
-              new Import[] {
-                new Import("MANUAL", "javax.print.attribute.standard.MediaTray", true),
-              })
-          .put(
-              "icSigHsvData",
-              new Import[] {
-                new Import("icSigHsvData", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "setDefaultCommandMap",
-              new Import[] {
-                new Import("setDefaultCommandMap", "javax.activation.CommandMap", true),
-              })
-          .put(
-              "AbstractDoubleSpliterator",
-              new Import[] {
-                new Import("AbstractDoubleSpliterator", "java.util.Spliterators", false),
-              })
-          .put(
-              "Preferences",
-              new Import[] {
-                new Import("Preferences", "java.util.prefs", false),
-              })
-          .put(
-              "addPropertyChangeListener",
-              new Import[] {
-                new Import("addPropertyChangeListener", "javax.swing.UIManager", true),
-              })
-          .put(
-              "DATATYPE_DOUBLE",
-              new Import[] {
-                new Import("DATATYPE_DOUBLE", "javax.imageio.metadata.IIOMetadataFormat", true),
-              })
-          .put(
-              "BASIC_LATIN",
-              new Import[] {
-                new Import("BASIC_LATIN", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "getAncestorOfClass",
-              new Import[] {
-                new Import("getAncestorOfClass", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "HTTPBinding",
-              new Import[] {
-                new Import("HTTPBinding", "javax.xml.ws.http", false),
-              })
-          .put(
-              "ServantRetentionPolicyValue",
-              new Import[] {
-                new Import("ServantRetentionPolicyValue", "org.omg.PortableServer", false),
-              })
-          .put(
-              "PutField",
-              new Import[] {
-                new Import("PutField", "java.io.ObjectOutputStream", false),
-              })
-          .put(
-              "MemoryType",
-              new Import[] {
-                new Import("MemoryType", "java.lang.management", false),
-              })
-          .put(
-              "BORDER_BOTTOM",
-              new Import[] {
-                new Import("BORDER_BOTTOM", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "SHORT_STANDALONE",
-              new Import[] {
-                new Import("SHORT_STANDALONE", "java.util.Calendar", true),
-              })
-          .put(
-              "ConfirmationCallback",
-              new Import[] {
-                new Import("ConfirmationCallback", "javax.security.auth.callback", false),
-              })
-          .put(
-              "SimpleScriptContext",
-              new Import[] {
-                new Import("SimpleScriptContext", "javax.script", false),
-              })
-          .put(
-              "LocaleNameProvider",
-              new Import[] {
-                new Import("LocaleNameProvider", "java.util.spi", false),
-              })
-          .put(
-              "ALIGN_BAR",
-              new Import[] {
-                new Import("ALIGN_BAR", "javax.swing.text.TabStop", true),
-              })
-          .put(
-              "SecurityException",
-              new Import[] {
-                new Import("SecurityException", "java.lang", false),
-              })
-          .put(
-              "parse",
-              new Import[] {
-                new Import("parse", "java.net.HttpCookie", true),
-                new Import("parse", "java.time.Duration", true),
-                new Import("parse", "java.time.Instant", true),
-                new Import("parse", "java.time.LocalDate", true),
-                new Import("parse", "java.time.LocalDateTime", true),
-                new Import("parse", "java.time.LocalTime", true),
-                new Import("parse", "java.time.MonthDay", true),
-                new Import("parse", "java.time.OffsetDateTime", true),
-                new Import("parse", "java.time.OffsetTime", true),
-                new Import("parse", "java.time.Period", true),
-                new Import("parse", "java.time.Year", true),
-                new Import("parse", "java.time.YearMonth", true),
-                new Import("parse", "java.time.ZonedDateTime", true),
-                new Import("parse", "java.util.Date", true),
-                new Import("parse", "java.util.Locale.LanguageRange", true),
-                new Import("parse", "java.util.logging.Level", true),
-              })
-          .put(
-              "IllegalComponentStateException",
-              new Import[] {
-                new Import("IllegalComponentStateException", "java.awt", false),
-              })
-          .put(
-              "UShortSeqHelper",
-              new Import[] {
-                new Import("UShortSeqHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "VK_SEMICOLON",
-              new Import[] {
-                new Import("VK_SEMICOLON", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "SHA512_256",
-              new Import[] {
-                new Import("SHA512_256", "java.security.spec.MGF1ParameterSpec", true),
-              })
-          .put(
-              "OUTPUT_AREA_FULL",
-              new Import[] {
-                new Import(
-                    "OUTPUT_AREA_FULL", "javax.print.attribute.standard.PrinterStateReason", true),
-              })
-          .put(
-              "SampleModel",
-              new Import[] {
-                new Import("SampleModel", "java.awt.image", false),
-              })
-          .put(
-              "isDefined",
-              new Import[] {
-                new Import("isDefined", "java.lang.Character", true),
-              })
-          .put(
-              "FilteredImageSource",
-              new Import[] {
-                new Import("FilteredImageSource", "java.awt.image", false),
-              })
-          .put(
-              "StreamDescriptionProperty",
-              new Import[] {
-                new Import("StreamDescriptionProperty", "javax.swing.text.Document", true),
-              })
-          .put(
-              "SAXParserFactory",
-              new Import[] {
-                new Import("SAXParserFactory", "javax.xml.parsers", false),
-              })
-          .put(
-              "AclNotFoundException",
-              new Import[] {
-                new Import("AclNotFoundException", "java.security.acl", false),
-              })
-          .put(
-              "SynthSpinnerUI",
-              new Import[] {
-                new Import("SynthSpinnerUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "IIOByteBuffer",
-              new Import[] {
-                new Import("IIOByteBuffer", "javax.imageio.stream", false),
-              })
-          .put(
-              "HTTP_RESET",
-              new Import[] {
-                new Import("HTTP_RESET", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "inactive",
-              new Import[] {
-                new Import("inactive", "java.rmi.activation.Activatable", true),
-              })
-          .put(
-              "ComponentInputMapUIResource",
-              new Import[] {
-                new Import("ComponentInputMapUIResource", "javax.swing.plaf", false),
-              })
-          .put(
-              "OutputDeviceAssigned",
-              new Import[] {
-                new Import("OutputDeviceAssigned", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "MacSpi",
-              new Import[] {
-                new Import("MacSpi", "javax.crypto", false),
-              })
-          .put(
-              "getEncoder",
-              new Import[] {
-                new Import("getEncoder", "java.util.Base64", true),
-              })
-          .put(
-              "icSigColorantTableTag",
-              new Import[] {
-                new Import("icSigColorantTableTag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "ERROR_OPTION",
-              new Import[] {
-                new Import("ERROR_OPTION", "javax.swing.JFileChooser", true),
-              })
-          .put(
-              "SIMPLIFIED_CHINESE",
-              new Import[] {
-                new Import("SIMPLIFIED_CHINESE", "java.util.Locale", true),
-              })
-          .put(
-              "InputEvent",
-              new Import[] {
-                new Import("InputEvent", "java.awt.event", false),
-              })
-          .put(
-              "join",
-              new Import[] {
-                new Import("join", "java.lang.String", true),
-              })
-          .put(
-              "NONUPDATABLE_VIEW_SYNC",
-              new Import[] {
-                new Import("NONUPDATABLE_VIEW_SYNC", "javax.sql.rowset.spi.SyncProvider", true),
-              })
-          .put(
-              "SerializablePermission",
-              new Import[] {
-                new Import("SerializablePermission", "java.io", false),
-              })
-          .put(
-              "FETCH_UNKNOWN",
-              new Import[] {
-                new Import("FETCH_UNKNOWN", "java.sql.ResultSet", true),
-              })
-          .put(
-              "RemoteServer",
-              new Import[] {
-                new Import("RemoteServer", "java.rmi.server", false),
-              })
-          .put(
-              "getMenuBackground",
-              new Import[] {
-                new Import("getMenuBackground", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "BATAK",
-              new Import[] {
-                new Import("BATAK", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "Selector",
-              new Import[] {
-                new Import("Selector", "java.nio.channels", false),
-              })
-          .put(
-              "AbortPolicy",
-              new Import[] {
-                new Import("AbortPolicy", "java.util.concurrent.ThreadPoolExecutor", false),
-              })
-          .put(
-              "_tk_ulonglong",
-              new Import[] {
-                new Import("_tk_ulonglong", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "IS_CLOSED_PROPERTY",
-              new Import[] {
-                new Import("IS_CLOSED_PROPERTY", "javax.swing.JInternalFrame", true),
-              })
-          .put(
-              "DefaultFocusTraversalPolicy",
-              new Import[] {
-                new Import("DefaultFocusTraversalPolicy", "java.awt", false),
-              })
-          .put(
-              "doubleToLongBits",
-              new Import[] {
-                new Import("doubleToLongBits", "java.lang.Double", true),
-              })
-          .put(
-              "compareUnsigned",
-              new Import[] {
-                new Import("compareUnsigned", "java.lang.Integer", true),
-                new Import("compareUnsigned", "java.lang.Long", true),
-              })
-          .put(
-              "getPlatformManagementInterfaces",
-              new Import[] {
-                new Import(
-                    "getPlatformManagementInterfaces",
-                    "java.lang.management.ManagementFactory",
-                    true),
-              })
-          .put(
-              "BORDER",
-              new Import[] {
-                new Import("BORDER", "javax.swing.text.html.CSS.Attribute", true),
-                new Import("BORDER", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "VALUE_ANTIALIAS_ON",
-              new Import[] {
-                new Import("VALUE_ANTIALIAS_ON", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "HTTP_CREATED",
-              new Import[] {
-                new Import("HTTP_CREATED", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "TAG_GDEF",
-              new Import[] {
-                new Import("TAG_GDEF", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "StampedLock",
-              new Import[] {
-                new Import("StampedLock", "java.util.concurrent.locks", false),
-              })
-          .put(
-              "Inflater",
-              new Import[] {
-                new Import("Inflater", "java.util.zip", false),
-              })
-          .put(
-              "BoxedValueHelper",
-              new Import[] {
-                new Import("BoxedValueHelper", "org.omg.CORBA.portable", false),
-              })
-          .put(
-              "COLUMN_WIDTH_PROPERTY",
-              new Import[] {
-                new Import("COLUMN_WIDTH_PROPERTY", "javax.swing.table.TableColumn", true),
-              })
-          .put(
-              "DropTargetDropEvent",
-              new Import[] {
-                new Import("DropTargetDropEvent", "java.awt.dnd", false),
-              })
-          .put(
-              "LIST_DIRECTORY",
-              new Import[] {
-                new Import("LIST_DIRECTORY", "java.nio.file.attribute.AclEntryPermission", true),
-              })
-          .put(
-              "getInteriorRectangle",
-              new Import[] {
-                new Import("getInteriorRectangle", "javax.swing.border.AbstractBorder", true),
-              })
-          .put(
-              "WritePendingException",
-              new Import[] {
-                new Import("WritePendingException", "java.nio.channels", false),
-              })
-          .put(
-              "procedureColumnOut",
-              new Import[] {
-                new Import("procedureColumnOut", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "KeyManagementException",
-              new Import[] {
-                new Import("KeyManagementException", "java.security", false),
-              })
-          .put(
-              "ElementScanner8",
-              new Import[] {
-                new Import("ElementScanner8", "javax.lang.model.util", false),
-              })
-          .put(
-              "ElementScanner7",
-              new Import[] {
-                new Import("ElementScanner7", "javax.lang.model.util", false),
-              })
-          .put(
-              "ALIGN",
-              new Import[] {
-                new Import("ALIGN", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "createRaster",
-              new Import[] {
-                new Import("createRaster", "java.awt.image.Raster", true),
-              })
-          .put(
-              "ElementScanner6",
-              new Import[] {
-                new Import("ElementScanner6", "javax.lang.model.util", false),
-              })
-          .put(
-              "BindingType",
-              new Import[] {
-                new Import("BindingType", "javax.xml.ws", false),
-                new Import("BindingType", "org.omg.CosNaming", false),
-              })
-          .put(
-              "TEXT_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("TEXT_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
-              })
-          .put(
-              "BACKGROUND_POSITION",
-              new Import[] {
-                new Import("BACKGROUND_POSITION", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "IDREF",
-              new Import[] {
-                new Import("IDREF", "javax.swing.text.html.parser.DTDConstants", true),
-              })
-          .put(
-              "BindingTypeHolder",
-              new Import[] {
-                new Import("BindingTypeHolder", "org.omg.CosNaming", false),
-              })
-          .put(
-              "VIEWPORT",
-              new Import[] {
-                new Import("VIEWPORT", "javax.accessibility.AccessibleRole", true),
-                new Import("VIEWPORT", "javax.swing.ScrollPaneConstants", true),
-                new Import("VIEWPORT", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "CryptoPrimitive",
-              new Import[] {
-                new Import("CryptoPrimitive", "java.security", false),
-              })
-          .put(
-              "DatagramChannel",
-              new Import[] {
-                new Import("DatagramChannel", "java.nio.channels", false),
-              })
-          .put(
-              "Deque",
-              new Import[] {
-                new Import("Deque", "java.util", false),
-              })
-          .put(
-              "Annotation",
-              new Import[] {
-                new Import("Annotation", "java.lang.annotation", false),
-                new Import("Annotation", "java.text", false),
-              })
-          .put(
-              "NamingSecurityException",
-              new Import[] {
-                new Import("NamingSecurityException", "javax.naming", false),
-              })
-          .put(
-              "Panel",
-              new Import[] {
-                new Import("Panel", "java.awt", false),
-              })
-          .put(
-              "InputMethodRequests",
-              new Import[] {
-                new Import("InputMethodRequests", "java.awt.im", false),
-              })
-          .put(
-              "ThreadFactory",
-              new Import[] {
-                new Import("ThreadFactory", "java.util.concurrent", false),
-              })
-          .put(
-              "LETTER",
-              new Import[] {
-                new Import("LETTER", "java.awt.PageAttributes.MediaType", true),
-                new Import("LETTER", "javax.print.attribute.standard.MediaSize.NA", true),
-              })
-          .put(
-              "XPathType",
-              new Import[] {
-                new Import("XPathType", "javax.xml.crypto.dsig.spec", false),
-              })
-          .put(
-              "ActionEvent",
-              new Import[] {
-                new Import("ActionEvent", "java.awt.event", false),
-              })
-          .put(
-              "ofEpochMilli",
-              new Import[] {
-                new Import("ofEpochMilli", "java.time.Instant", true),
-              })
-          .put(
-              "OBJECT_SCOPE",
-              new Import[] {
-                new Import("OBJECT_SCOPE", "javax.naming.directory.SearchControls", true),
-                new Import("OBJECT_SCOPE", "javax.naming.event.EventContext", true),
-              })
-          .put(
-              "VALUE",
-              new Import[] {
-                new Import("VALUE", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "getAccessibleAt",
-              new Import[] {
-                new Import("getAccessibleAt", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "AccessException",
-              new Import[] {
-                new Import("AccessException", "java.rmi", false),
-              })
-          .put(
-              "DiscardPolicy",
-              new Import[] {
-                new Import("DiscardPolicy", "java.util.concurrent.ThreadPoolExecutor", false),
-              })
-          .put(
-              "JAXB_CONTEXT_FACTORY",
-              new Import[] {
-                new Import("JAXB_CONTEXT_FACTORY", "javax.xml.bind.JAXBContext", true),
-              })
-          .put(
-              "LdapReferralException",
-              new Import[] {
-                new Import("LdapReferralException", "javax.naming.ldap", false),
-              })
-          .put(
-              "DOMStructure",
-              new Import[] {
-                new Import("DOMStructure", "javax.xml.crypto.dom", false),
-              })
-          .put(
-              "Lookup",
-              new Import[] {
-                new Import("Lookup", "java.lang.invoke.MethodHandles", false),
-              })
-          .put(
-              "MINUTE",
-              new Import[] {
-                new Import("MINUTE", "java.text.DateFormat.Field", true),
-                new Import("MINUTE", "java.util.Calendar", true),
-              })
-          .put(
-              "VK_NONCONVERT",
-              new Import[] {
-                new Import("VK_NONCONVERT", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "BLIT_SCROLL_MODE",
-              new Import[] {
-                new Import("BLIT_SCROLL_MODE", "javax.swing.JViewport", true),
-              })
-          .put(
-              "BufferUnderflowException",
-              new Import[] {
-                new Import("BufferUnderflowException", "java.nio", false),
-              })
-          .put(
-              "EXTSIZ",
-              new Import[] {
-                new Import("EXTSIZ", "java.util.jar.JarEntry", true),
-                new Import("EXTSIZ", "java.util.jar.JarFile", true),
-                new Import("EXTSIZ", "java.util.jar.JarInputStream", true),
-                new Import("EXTSIZ", "java.util.jar.JarOutputStream", true),
-                new Import("EXTSIZ", "java.util.zip.ZipEntry", true),
-                new Import("EXTSIZ", "java.util.zip.ZipFile", true),
-                new Import("EXTSIZ", "java.util.zip.ZipInputStream", true),
-                new Import("EXTSIZ", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "LOCHDR",
-              new Import[] {
-                new Import("LOCHDR", "java.util.jar.JarEntry", true),
-                new Import("LOCHDR", "java.util.jar.JarFile", true),
-                new Import("LOCHDR", "java.util.jar.JarInputStream", true),
-                new Import("LOCHDR", "java.util.jar.JarOutputStream", true),
-                new Import("LOCHDR", "java.util.zip.ZipEntry", true),
-                new Import("LOCHDR", "java.util.zip.ZipFile", true),
-                new Import("LOCHDR", "java.util.zip.ZipInputStream", true),
-                new Import("LOCHDR", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "Tool",
-              new Import[] {
-                new Import("Tool", "javax.tools", false),
-              })
-          .put(
-              "JoinFractureDirection",
-              new Import[] {
-                new Import(
-                    "JoinFractureDirection",
-                    "javax.swing.text.DefaultStyledDocument.ElementSpec",
-                    true),
-              })
-          .put(
-              "Receiver",
-              new Import[] {
-                new Import("Receiver", "javax.sound.midi", false),
-              })
-          .put(
-              "icSigPreview1Tag",
-              new Import[] {
-                new Import("icSigPreview1Tag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "beginWordAction",
-              new Import[] {
-                new Import("beginWordAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "icSigHlsData",
-              new Import[] {
-                new Import("icSigHlsData", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "FONT_WEIGHT",
-              new Import[] {
-                new Import("FONT_WEIGHT", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "EntityResolver",
-              new Import[] {
-                new Import("EntityResolver", "org.xml.sax", false),
-              })
-          .put(
-              "OBJECT",
-              new Import[] {
-                new Import("OBJECT", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "Double",
-              new Import[] {
-                new Import("Double", "java.awt.geom.Arc2D", false),
-                new Import("Double", "java.awt.geom.CubicCurve2D", false),
-                new Import("Double", "java.awt.geom.Ellipse2D", false),
-                new Import("Double", "java.awt.geom.Line2D", false),
-                new Import("Double", "java.awt.geom.Path2D", false),
-                new Import("Double", "java.awt.geom.Point2D", false),
-                new Import("Double", "java.awt.geom.QuadCurve2D", false),
-                new Import("Double", "java.awt.geom.Rectangle2D", false),
-                new Import("Double", "java.awt.geom.RoundRectangle2D", false),
-                new Import("Double", "java.lang", false),
-              })
-          .put(
-              "EXTSIG",
-              new Import[] {
-                new Import("EXTSIG", "java.util.jar.JarEntry", true),
-                new Import("EXTSIG", "java.util.jar.JarFile", true),
-                new Import("EXTSIG", "java.util.jar.JarInputStream", true),
-                new Import("EXTSIG", "java.util.jar.JarOutputStream", true),
-                new Import("EXTSIG", "java.util.zip.ZipEntry", true),
-                new Import("EXTSIG", "java.util.zip.ZipFile", true),
-                new Import("EXTSIG", "java.util.zip.ZipInputStream", true),
-                new Import("EXTSIG", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "CredentialNotFoundException",
-              new Import[] {
-                new Import("CredentialNotFoundException", "javax.security.auth.login", false),
-              })
-          .put(
-              "UTC_TIME",
-              new Import[] {
-                new Import("UTC_TIME", "java.util.SimpleTimeZone", true),
-              })
-          .put(
-              "getURLContext",
-              new Import[] {
-                new Import("getURLContext", "javax.naming.spi.NamingManager", true),
-              })
-          .put(
-              "setIcon",
-              new Import[] {
-                new Import("setIcon", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "SC_SERIALIZABLE",
-              new Import[] {
-                new Import("SC_SERIALIZABLE", "java.io.ObjectStreamConstants", true),
-              })
-          .put(
-              "DEFAULT_CLASS_LOADER_NAME",
-              new Import[] {
-                new Import(
-                    "DEFAULT_CLASS_LOADER_NAME",
-                    "javax.management.remote.JMXConnectorServerFactory",
-                    true),
-              })
-          .put(
-              "forwardAction",
-              new Import[] {
-                new Import("forwardAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "GSSCredential",
-              new Import[] {
-                new Import("GSSCredential", "org.ietf.jgss", false),
-              })
-          .put(
-              "WINDOW_LAST",
-              new Import[] {
-                new Import("WINDOW_LAST", "java.awt.event.WindowEvent", true),
-              })
-          .put(
-              "KeyStroke",
-              new Import[] {
-                new Import("KeyStroke", "javax.swing", false),
-              })
-          .put(
-              "setInitialContextFactoryBuilder",
-              new Import[] {
-                new Import(
-                    "setInitialContextFactoryBuilder", "javax.naming.spi.NamingManager", true),
-              })
-          .put(
-              "setLogStream",
-              new Import[] {
-                new Import("setLogStream", "java.sql.DriverManager", true),
-                new Import("setLogStream", "javax.swing.DebugGraphics", true),
-              })
-          .put(
-              "ofHoursMinutesSeconds",
-              new Import[] {
-                new Import("ofHoursMinutesSeconds", "java.time.ZoneOffset", true),
-              })
-          .put(
-              "Dictionary",
-              new Import[] {
-                new Import("Dictionary", "java.util", false),
-              })
-          .put(
-              "DragGestureEvent",
-              new Import[] {
-                new Import("DragGestureEvent", "java.awt.dnd", false),
-              })
-          .put(
-              "LineListener",
-              new Import[] {
-                new Import("LineListener", "javax.sound.sampled", false),
-              })
-          .put(
-              "LineUnavailableException",
-              new Import[] {
-                new Import("LineUnavailableException", "javax.sound.sampled", false),
-              })
-          .put(
-              "PrinterException",
-              new Import[] {
-                new Import("PrinterException", "java.awt.print", false),
-              })
-          .put(
-              "LastOwnerException",
-              new Import[] {
-                new Import("LastOwnerException", "java.security.acl", false),
-              })
-          .put(
-              "getLocalBounds",
-              new Import[] {
-                new Import("getLocalBounds", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "InlineView",
-              new Import[] {
-                new Import("InlineView", "javax.swing.text.html", false),
-              })
-          .put(
-              "BeanContextSupport",
-              new Import[] {
-                new Import("BeanContextSupport", "java.beans.beancontext", false),
-              })
-          .put(
-              "WindowConstants",
-              new Import[] {
-                new Import("WindowConstants", "javax.swing", false),
-              })
-          .put(
-              "ThreadInfo",
-              new Import[] {
-                new Import("ThreadInfo", "java.lang.management", false),
-              })
-          .put(
-              "NetworkChannel",
-              new Import[] {
-                new Import("NetworkChannel", "java.nio.channels", false),
-              })
-          .put(
-              "DPCM",
-              new Import[] {
-                new Import("DPCM", "javax.print.attribute.ResolutionSyntax", true),
-              })
-          .put(
-              "getLoopbackAddress",
-              new Import[] {
-                new Import("getLoopbackAddress", "java.net.InetAddress", true),
-              })
-          .put(
-              "console",
-              new Import[] {
-                new Import("console", "java.lang.System", true),
-              })
-          .put(
-              "Comment",
-              new Import[] {
-                new Import("Comment", "javax.xml.stream.events", false),
-                new Import("Comment", "org.w3c.dom", false),
-              })
-          .put(
-              "DoubleHolder",
-              new Import[] {
-                new Import("DoubleHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "SINGLEFRAMEDONE",
-              new Import[] {
-                new Import("SINGLEFRAMEDONE", "java.awt.image.ImageConsumer", true),
-              })
-          .put(
-              "ChoiceFormat",
-              new Import[] {
-                new Import("ChoiceFormat", "java.text", false),
-              })
-          .put(
-              "isWrapperInstance",
-              new Import[] {
-                new Import("isWrapperInstance", "java.lang.invoke.MethodHandleProxies", true),
-              })
-          .put(
-              "control",
-              new Import[] {
-                new Import("control", "java.awt.SystemColor", true),
-              })
-          .put(
-              "OrientationRequestedType",
-              new Import[] {
-                new Import("OrientationRequestedType", "java.awt.PageAttributes", false),
-              })
-          .put(
-              "AbstractListModel",
-              new Import[] {
-                new Import("AbstractListModel", "javax.swing", false),
-              })
-          .put(
-              "BUGINESE",
-              new Import[] {
-                new Import("BUGINESE", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "TrustedCertificateEntry",
-              new Import[] {
-                new Import("TrustedCertificateEntry", "java.security.KeyStore", false),
-              })
-          .put(
-              "FileImageInputStream",
-              new Import[] {
-                new Import("FileImageInputStream", "javax.imageio.stream", false),
-              })
-          .put(
-              "Size2DSyntax",
-              new Import[] {
-                new Import("Size2DSyntax", "javax.print.attribute", false),
-              })
-          .put(
-              "OBJECT_NOT_EXIST",
-              new Import[] {
-                new Import("OBJECT_NOT_EXIST", "org.omg.CORBA", false),
-              })
-          .put(
-              "VK_STOP",
-              new Import[] {
-                new Import("VK_STOP", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "ENABLED",
-              new Import[] {
-                new Import("ENABLED", "javax.accessibility.AccessibleState", true),
-                new Import("ENABLED", "javax.swing.DefaultButtonModel", true),
-                new Import("ENABLED", "javax.swing.plaf.synth.SynthConstants", true),
-              })
-          .build();
-}
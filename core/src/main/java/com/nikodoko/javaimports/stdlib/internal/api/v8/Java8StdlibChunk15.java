@@ -1,1572 +0,0 @@
-// Code generated by GenerateStdlib.java. DO NOT EDIT.
-package com.nikodoko.javaimports.stdlib.internal.api.v8;
-
-import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
-import java.util.Map;
-
-public class Java8StdlibChunk15 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
-          .put(
-              "VK_QUOTEDBL",
-              new Import[] {
-                new Import("VK_QUOTEDBL", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "CertificateFactorySpi",
-              new Import[] {
-                new Import("CertificateFactorySpi", "java.security.cert", false),
-              })
-          .put(
-              "summarizingInt",
-              new Import[] {
-                new Import("summarizingInt", "java.util.stream.Collectors", true),
-              })
-          .put(
-              "WEEK_OF_MONTH",
-              new Import[] {
-                new Import("WEEK_OF_MONTH", "java.text.DateFormat.Field", true),
-                new Import("WEEK_OF_MONTH", "java.util.Calendar", true),
-              })
-          .put(
-              "PreferencesFactory",
-              new Import[] {
-                new Import("PreferencesFactory", "java.util.prefs", false),
-              })
-          .put(
-              "isDescendingFrom",
-              new Import[] {
-                new Import("isDescendingFrom", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "setOwner",
-              new Import[] {
-                new Import("setOwner", "java.nio.file.Files", true),
-              })
-          .put(
-              "OrientationRequested",
-              new Import[] {
-                new Import("OrientationRequested", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "OpenDataException",
-              new Import[] {
-                new Import("OpenDataException", "javax.management.openmbean", false),
-              })
-          .put(
-              "nextOrSame",
-              new Import[] {
-                new Import("nextOrSame", "java.time.temporal.TemporalAdjusters", true),
-              })
-          .put(
-              "InitialLdapContext",
-              new Import[] {
-                new Import("InitialLdapContext", "javax.naming.ldap", false),
-              })
-          .put(
-              "SynthButtonUI",
-              new Import[] {
-                new Import("SynthButtonUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "MAXBQUALSIZE",
-              new Import[] {
-                new Import("MAXBQUALSIZE", "javax.transaction.xa.Xid", true),
-              })
-          .put(
-              "MessageDigest",
-              new Import[] {
-                new Import("MessageDigest", "java.security", false),
-              })
-          .put(
-              "typePredBasic",
-              new Import[] {
-                new Import("typePredBasic", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "KeySelectionManager",
-              new Import[] {
-                new Import("KeySelectionManager", "javax.swing.JComboBox", false),
-              })
-          .put(
-              "showConfirmDialog",
-              new Import[] {
-                new Import("showConfirmDialog", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "SecureRandom",
-              new Import[] {
-                new Import("SecureRandom", "java.security", false),
-              })
-          .put(
-              "SecretKeyEntry",
-              new Import[] {
-                new Import("SecretKeyEntry", "java.security.KeyStore", false),
-              })
-          .put(
-              "getPrimitiveArrayType",
-              new Import[] {
-                new Import("getPrimitiveArrayType", "javax.management.openmbean.ArrayType", true),
-              })
-          .put(
-              "DatatypeConverter",
-              new Import[] {
-                new Import("DatatypeConverter", "javax.xml.bind", false),
-              })
-          .put(
-              "SAVE_FILE",
-              new Import[] {
-                new Import("SAVE_FILE", "java.awt.Event", true),
-              })
-          .put(
-              "PropertyVetoException",
-              new Import[] {
-                new Import("PropertyVetoException", "java.beans", false),
-              })
-          .put(
-              "ORIYA",
-              new Import[] {
-                new Import("ORIYA", "java.awt.font.NumericShaper", true),
-                new Import("ORIYA", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "SOAP_VERSIONMISMATCH_FAULT",
-              new Import[] {
-                new Import("SOAP_VERSIONMISMATCH_FAULT", "javax.xml.soap.SOAPConstants", true),
-              })
-          .put(
-              "size",
-              new Import[] {
-                new Import("size", "java.nio.file.Files", true),
-              })
-          .put(
-              "URLPermission",
-              new Import[] {
-                new Import("URLPermission", "java.net", false),
-              })
-          .put(
-              "getWriterFileSuffixes",
-              new Import[] {
-                new Import("getWriterFileSuffixes", "javax.imageio.ImageIO", true),
-              })
-          .put(
-              "InvalidApplicationException",
-              new Import[] {
-                new Import("InvalidApplicationException", "javax.management", false),
-              })
-          .put(
-              "getLogManager",
-              new Import[] {
-                new Import("getLogManager", "java.util.logging.LogManager", true),
-              })
-          .put(
-              "ShortBuffer",
-              new Import[] {
-                new Import("ShortBuffer", "java.nio", false),
-              })
-          .put(
-              "icHdrProfileID",
-              new Import[] {
-                new Import("icHdrProfileID", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "FieldView",
-              new Import[] {
-                new Import("FieldView", "javax.swing.text", false),
-              })
-          .put(
-              "AddressingFeature",
-              new Import[] {
-                new Import("AddressingFeature", "javax.xml.ws.soap", false),
-              })
-          .put(
-              "UnknownServiceException",
-              new Import[] {
-                new Import("UnknownServiceException", "java.net", false),
-              })
-          .put(
-              "PKIXReason",
-              new Import[] {
-                new Import("PKIXReason", "java.security.cert", false),
-              })
-          .put(
-              "DataHandler",
-              new Import[] {
-                new Import("DataHandler", "javax.activation", false),
-              })
-          .put(
-              "WrongTransaction",
-              new Import[] {
-                new Import("WrongTransaction", "org.omg.CORBA", false),
-              })
-          .put(
-              "ObjectReferenceFactoryHolder",
-              new Import[] {
-                new Import("ObjectReferenceFactoryHolder", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "synchronizedView",
-              new Import[] {
-                new Import("synchronizedView", "javax.print.attribute.AttributeSetUtilities", true),
-              })
-          .put(
-              "TMENDRSCAN",
-              new Import[] {
-                new Import("TMENDRSCAN", "javax.transaction.xa.XAResource", true),
-              })
-          .put(
-              "createValueHandler",
-              new Import[] {
-                new Import("createValueHandler", "javax.rmi.CORBA.Util", true),
-              })
-          .put(
-              "RespectBindingFeature",
-              new Import[] {
-                new Import("RespectBindingFeature", "javax.xml.ws", false),
-              })
-          .put(
-              "ObjectReferenceTemplateHelper",
-              new Import[] {
-                new Import("ObjectReferenceTemplateHelper", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "DESedeKeySpec",
-              new Import[] {
-                new Import("DESedeKeySpec", "javax.crypto.spec", false),
-              })
-          .put(
-              "GapContent",
-              new Import[] {
-                new Import("GapContent", "javax.swing.text", false),
-              })
-          .put(
-              "OverlappingFileLockException",
-              new Import[] {
-                new Import("OverlappingFileLockException", "java.nio.channels", false),
-              })
-          .put(
-              "COMPONENT_MOVED",
-              new Import[] {
-                new Import("COMPONENT_MOVED", "java.awt.event.ComponentEvent", true),
-              })
-          .put(
-              "CJK_COMPATIBILITY_FORMS",
-              new Import[] {
-                new Import("CJK_COMPATIBILITY_FORMS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "_USE_ACTIVE_OBJECT_MAP_ONLY",
-              new Import[] {
-                new Import(
-                    "_USE_ACTIVE_OBJECT_MAP_ONLY",
-                    "org.omg.PortableServer.RequestProcessingPolicyValue",
-                    true),
-              })
-          .put(
-              "MULTISELECTABLE",
-              new Import[] {
-                new Import("MULTISELECTABLE", "javax.accessibility.AccessibleState", true),
-              })
-          .put(
-              "getLoggingMXBean",
-              new Import[] {
-                new Import("getLoggingMXBean", "java.util.logging.LogManager", true),
-              })
-          .put(
-              "InvalidKeyException",
-              new Import[] {
-                new Import("InvalidKeyException", "java.security", false),
-                new Import("InvalidKeyException", "javax.management.openmbean", false),
-              })
-          .put(
-              "JarFile",
-              new Import[] {
-                new Import("JarFile", "java.util.jar", false),
-              })
-          .put(
-              "CheckedInputStream",
-              new Import[] {
-                new Import("CheckedInputStream", "java.util.zip", false),
-              })
-          .put(
-              "TEXT_PLAIN_UTF_16BE",
-              new Import[] {
-                new Import("TEXT_PLAIN_UTF_16BE", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("TEXT_PLAIN_UTF_16BE", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("TEXT_PLAIN_UTF_16BE", "javax.print.DocFlavor.URL", true),
-              })
-          .put(
-              "AtomicLong",
-              new Import[] {
-                new Import("AtomicLong", "java.util.concurrent.atomic", false),
-              })
-          .put(
-              "SELECTED_FILE_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("SELECTED_FILE_CHANGED_PROPERTY", "javax.swing.JFileChooser", true),
-              })
-          .put(
-              "ComponentView",
-              new Import[] {
-                new Import("ComponentView", "javax.swing.text", false),
-              })
-          .put(
-              "isBmpCodePoint",
-              new Import[] {
-                new Import("isBmpCodePoint", "java.lang.Character", true),
-              })
-          .put(
-              "RegisterableService",
-              new Import[] {
-                new Import("RegisterableService", "javax.imageio.spi", false),
-              })
-          .put(
-              "InternalFrameAdapter",
-              new Import[] {
-                new Import("InternalFrameAdapter", "javax.swing.event", false),
-              })
-          .put(
-              "isTransient",
-              new Import[] {
-                new Import("isTransient", "java.lang.reflect.Modifier", true),
-              })
-          .put(
-              "ElementKindVisitor7",
-              new Import[] {
-                new Import("ElementKindVisitor7", "javax.lang.model.util", false),
-              })
-          .put(
-              "ElementKindVisitor6",
-              new Import[] {
-                new Import("ElementKindVisitor6", "javax.lang.model.util", false),
-              })
-          .put(
-              "ElementKindVisitor8",
-              new Import[] {
-                new Import("ElementKindVisitor8", "javax.lang.model.util", false),
-              })
-          .put(
-              "Comparable",
-              new Import[] {
-                new Import("Comparable", "java.lang", false),
-              })
-          .put(
-              "ParameterStyle",
-              new Import[] {
-                new Import("ParameterStyle", "javax.jws.soap.SOAPBinding", false),
-              })
-          .put(
-              "RowSetEvent",
-              new Import[] {
-                new Import("RowSetEvent", "javax.sql", false),
-              })
-          .put(
-              "icSigColorantOrderTag",
-              new Import[] {
-                new Import("icSigColorantOrderTag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "GarbageCollectorMXBean",
-              new Import[] {
-                new Import("GarbageCollectorMXBean", "java.lang.management", false),
-              })
-          .put(
-              "Transmitter",
-              new Import[] {
-                new Import("Transmitter", "javax.sound.midi", false),
-              })
-          .put(
-              "UIManager",
-              new Import[] {
-                new Import("UIManager", "javax.swing", false),
-              })
-          .put(
-              "functionReturn",
-              new Import[] {
-                new Import("functionReturn", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "invokeLater",
-              new Import[] {
-                new Import("invokeLater", "java.awt.EventQueue", true),
-                new Import("invokeLater", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "replaceUIActionMap",
-              new Import[] {
-                new Import("replaceUIActionMap", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "Checkbox",
-              new Import[] {
-                new Import("Checkbox", "java.awt", false),
-              })
-          .put(
-              "OPTIONS_PROPERTY",
-              new Import[] {
-                new Import("OPTIONS_PROPERTY", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "getDimension",
-              new Import[] {
-                new Import("getDimension", "javax.swing.UIManager", true),
-              })
-          .put(
-              "isExecutable",
-              new Import[] {
-                new Import("isExecutable", "java.nio.file.Files", true),
-              })
-          .put(
-              "WebResult",
-              new Import[] {
-                new Import("WebResult", "javax.jws", false),
-              })
-          .put(
-              "parseInteger",
-              new Import[] {
-                new Import("parseInteger", "javax.xml.bind.DatatypeConverter", true),
-              })
-          .put(
-              "BasicProgressBarUI",
-              new Import[] {
-                new Import("BasicProgressBarUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "MessageType",
-              new Import[] {
-                new Import("MessageType", "java.awt.TrayIcon", false),
-              })
-          .put(
-              "ContentHandlerFactory",
-              new Import[] {
-                new Import("ContentHandlerFactory", "java.net", false),
-              })
-          .put(
-              "ZoneOffsetTransitionRule",
-              new Import[] {
-                new Import("ZoneOffsetTransitionRule", "java.time.zone", false),
-              })
-          .put(
-              "LabelView",
-              new Import[] {
-                new Import("LabelView", "javax.swing.text", false),
-              })
-          .put(
-              "TAG_POST",
-              new Import[] {
-                new Import("TAG_POST", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "IIOException",
-              new Import[] {
-                new Import("IIOException", "javax.imageio", false),
-              })
-          .put(
-              "ServantLocator",
-              new Import[] {
-                new Import("ServantLocator", "org.omg.PortableServer", false),
-              })
-          .put(
-              "AbstractIntSpliterator",
-              new Import[] {
-                new Import("AbstractIntSpliterator", "java.util.Spliterators", false),
-              })
-          .put(
-              "HandshakeCompletedListener",
-              new Import[] {
-                new Import("HandshakeCompletedListener", "javax.net.ssl", false),
-              })
-          .put(
-              "PADDING_LEFT",
-              new Import[] {
-                new Import("PADDING_LEFT", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "BufferPoolMXBean",
-              new Import[] {
-                new Import("BufferPoolMXBean", "java.lang.management", false),
-              })
-          .put(
-              "ObjID",
-              new Import[] {
-                new Import("ObjID", "java.rmi.server", false),
-              })
-          .put(
-              "SheetCollate",
-              new Import[] {
-                new Import("SheetCollate", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "BigDecimalLayoutForm",
-              new Import[] {
-                new Import("BigDecimalLayoutForm", "java.util.Formatter", false),
-              })
-          .put(
-              "SHA512",
-              new Import[] {
-                new Import("SHA512", "java.security.spec.MGF1ParameterSpec", true),
-                new Import("SHA512", "javax.xml.crypto.dsig.DigestMethod", true),
-              })
-          .put(
-              "AlgorithmParameters",
-              new Import[] {
-                new Import("AlgorithmParameters", "java.security", false),
-              })
-          .put(
-              "createUnresolved",
-              new Import[] {
-                new Import("createUnresolved", "java.net.InetSocketAddress", true),
-              })
-          .put(
-              "CertificateNotYetValidException",
-              new Import[] {
-                new Import("CertificateNotYetValidException", "java.security.cert", false),
-                new Import("CertificateNotYetValidException", "javax.security.cert", false),
-              })
-          .put(
-              "NavigableSet",
-              new Import[] {
-                new Import("NavigableSet", "java.util", false),
-              })
-          .put(
-              "TYPE_INT_ARGB_PRE",
-              new Import[] {
-                new Import("TYPE_INT_ARGB_PRE", "java.awt.image.BufferedImage", true),
-              })
-          .put(
-              "SAURASHTRA",
-              new Import[] {
-                new Import("SAURASHTRA", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "AlgorithmParameterGenerator",
-              new Import[] {
-                new Import("AlgorithmParameterGenerator", "java.security", false),
-              })
-          .put(
-              "DirectoryNotEmptyException",
-              new Import[] {
-                new Import("DirectoryNotEmptyException", "java.nio.file", false),
-              })
-          .put(
-              "SOAPMessageHandlers",
-              new Import[] {
-                new Import("SOAPMessageHandlers", "javax.jws.soap", false),
-              })
-          .put(
-              "MetalLookAndFeel",
-              new Import[] {
-                new Import("MetalLookAndFeel", "javax.swing.plaf.metal", false),
-              })
-          .put(
-              "ListPainter",
-              new Import[] {
-                new Import("ListPainter", "javax.swing.text.html.StyleSheet", false),
-              })
-          .put(
-              "XmlAnyAttribute",
-              new Import[] {
-                new Import("XmlAnyAttribute", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "MENU_TEXT",
-              new Import[] {
-                new Import("MENU_TEXT", "java.awt.SystemColor", true),
-              })
-          .put(
-              "VirtualMachineError",
-              new Import[] {
-                new Import("VirtualMachineError", "java.lang", false),
-              })
-          .put(
-              "Skeleton",
-              new Import[] {
-                new Import("Skeleton", "java.rmi.server", false),
-              })
-          .put(
-              "ComponentAdapter",
-              new Import[] {
-                new Import("ComponentAdapter", "java.awt.event", false),
-              })
-          .put(
-              "singleton",
-              new Import[] {
-                new Import("singleton", "java.util.Collections", true),
-              })
-          .put(
-              "ParagraphAttribute",
-              new Import[] {
-                new Import("ParagraphAttribute", "javax.swing.text.AttributeSet", false),
-              })
-          .put(
-              "JAXB_ENCODING",
-              new Import[] {
-                new Import("JAXB_ENCODING", "javax.xml.bind.Marshaller", true),
-              })
-          .put(
-              "TaggedProfileHelper",
-              new Import[] {
-                new Import("TaggedProfileHelper", "org.omg.IOP", false),
-              })
-          .put(
-              "ATTEMPTED",
-              new Import[] {
-                new Import(
-                    "ATTEMPTED", "javax.print.attribute.standard.PDLOverrideSupported", true),
-              })
-          .put(
-              "NamedNodeMap",
-              new Import[] {
-                new Import("NamedNodeMap", "org.w3c.dom", false),
-              })
-          .put(
-              "ReferenceQueue",
-              new Import[] {
-                new Import("ReferenceQueue", "java.lang.ref", false),
-              })
-          .put(
-              "getDeepestComponentAt",
-              new Import[] {
-                new Import("getDeepestComponentAt", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "GLASS_PANE",
-              new Import[] {
-                new Import("GLASS_PANE", "javax.accessibility.AccessibleRole", true),
-              })
-          .put(
-              "GenericArrayType",
-              new Import[] {
-                new Import("GenericArrayType", "java.lang.reflect", false),
-              })
-          .put(
-              "DEFAULT_MODALITY_TYPE",
-              new Import[] {
-                new Import("DEFAULT_MODALITY_TYPE", "java.awt.Dialog", true),
-              })
-          .put(
-              "ByteBuffer",
-              new Import[] {
-                new Import("ByteBuffer", "java.nio", false),
-              })
-          .put(
-              "InitialContext",
-              new Import[] {
-                new Import("InitialContext", "javax.naming", false),
-              })
-          .put(
-              "Subject",
-              new Import[] {
-                new Import("Subject", "javax.security.auth", false),
-              })
-          .put(
-              "DEFLATE",
-              new Import[] {
-                new Import("DEFLATE", "javax.print.attribute.standard.Compression", true),
-              })
-          .put(
-              "AbstractBorder",
-              new Import[] {
-                new Import("AbstractBorder", "javax.swing.border", false),
-              })
-          .put(
-              "UnknownTag",
-              new Import[] {
-                new Import("UnknownTag", "javax.swing.text.html.HTML", false),
-              })
-          .put(
-              "CONCUR_UPDATABLE",
-              new Import[] {
-                new Import("CONCUR_UPDATABLE", "java.sql.ResultSet", true),
-              })
-          .put(
-              "PrinterGraphics",
-              new Import[] {
-                new Import("PrinterGraphics", "java.awt.print", false),
-              })
-          .put(
-              "AccessController",
-              new Import[] {
-                new Import("AccessController", "java.security", false),
-              })
-          .put(
-              "JDesktopIcon",
-              new Import[] {
-                new Import("JDesktopIcon", "javax.swing.JInternalFrame", false),
-              })
-          .put(
-              "_TRANSIENT",
-              new Import[] {
-                new Import("_TRANSIENT", "org.omg.PortableServer.LifespanPolicyValue", true),
-              })
-          .put(
-              "JIS",
-              new Import[] {
-                new Import("JIS", "javax.print.attribute.standard.MediaSize", false),
-              })
-          .put(
-              "FATAL_ERROR",
-              new Import[] {
-                new Import("FATAL_ERROR", "javax.xml.bind.ValidationEvent", true),
-              })
-          .put(
-              "TAG_INTERNET_IOP",
-              new Import[] {
-                new Import("TAG_INTERNET_IOP", "org.omg.IOP", false),
-              })
-          .put(
-              "ProxyLazyValue",
-              new Import[] {
-                new Import("ProxyLazyValue", "javax.swing.UIDefaults", false),
-              })
-          .put(
-              "procedureColumnReturn",
-              new Import[] {
-                new Import("procedureColumnReturn", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "MULTI_SELECTION_ENABLED_CHANGED_PROPERTY",
-              new Import[] {
-                new Import(
-                    "MULTI_SELECTION_ENABLED_CHANGED_PROPERTY", "javax.swing.JFileChooser", true),
-              })
-          .put(
-              "DynFixed",
-              new Import[] {
-                new Import("DynFixed", "org.omg.CORBA", false),
-                new Import("DynFixed", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "ParameterModeHolder",
-              new Import[] {
-                new Import("ParameterModeHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "MetalMenuBarUI",
-              new Import[] {
-                new Import("MetalMenuBarUI", "javax.swing.plaf.metal", false),
-              })
-          .put(
-              "ThreadPoolExecutor",
-              new Import[] {
-                new Import("ThreadPoolExecutor", "java.util.concurrent", false),
-              })
-          .put(
-              "JOB_COMPLETED_WITH_ERRORS",
-              new Import[] {
-                new Import(
-                    "JOB_COMPLETED_WITH_ERRORS",
-                    "javax.print.attribute.standard.JobStateReason",
-                    true),
-              })
-          .put(
-              "ServerRuntimeException",
-              new Import[] {
-                new Import("ServerRuntimeException", "java.rmi", false),
-              })
-          .put(
-              "DATATYPE_STRING",
-              new Import[] {
-                new Import("DATATYPE_STRING", "javax.imageio.metadata.IIOMetadataFormat", true),
-              })
-          .put(
-              "TYPE_Yxy",
-              new Import[] {
-                new Import("TYPE_Yxy", "java.awt.color.ColorSpace", true),
-              })
-          .put(
-              "ActivationMonitor",
-              new Import[] {
-                new Import("ActivationMonitor", "java.rmi.activation", false),
-              })
-          .put(
-              "isMXBeanInterface",
-              new Import[] {
-                new Import("isMXBeanInterface", "javax.management.JMX", true),
-              })
-          .put(
-              "PARAM_OUT",
-              new Import[] {
-                new Import("PARAM_OUT", "org.omg.CORBA.ParameterMode", true),
-              })
-          .put(
-              "deepToString",
-              new Import[] {
-                new Import("deepToString", "java.util.Arrays", true),
-              })
-          .put(
-              "newWriter",
-              new Import[] {
-                new Import("newWriter", "java.nio.channels.Channels", true),
-              })
-          .put(
-              "ECPrivateKeySpec",
-              new Import[] {
-                new Import("ECPrivateKeySpec", "java.security.spec", false),
-              })
-          .put(
-              "copySign",
-              new Import[] {
-                new Import("copySign", "java.lang.Math", true),
-                new Import("copySign", "java.lang.StrictMath", true),
-              })
-          .put(
-              "XMLEventConsumer",
-              new Import[] {
-                new Import("XMLEventConsumer", "javax.xml.stream.util", false),
-              })
-          .put(
-              "ACTIVE_CAPTION_TEXT",
-              new Import[] {
-                new Import("ACTIVE_CAPTION_TEXT", "java.awt.SystemColor", true),
-              })
-          .put(
-              "ImageTranscoder",
-              new Import[] {
-                new Import("ImageTranscoder", "javax.imageio", false),
-              })
-          .put(
-              "getExtendedKeyCodeForChar",
-              new Import[] {
-                new Import("getExtendedKeyCodeForChar", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "getTreeFolderIcon",
-              new Import[] {
-                new Import("getTreeFolderIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
-              })
-          .put(
-              "TableColumnModel",
-              new Import[] {
-                new Import("TableColumnModel", "javax.swing.table", false),
-              })
-          .put(
-              "NULL_NS_URI",
-              new Import[] {
-                new Import("NULL_NS_URI", "javax.xml.XMLConstants", true),
-              })
-          .put(
-              "PartialResultException",
-              new Import[] {
-                new Import("PartialResultException", "javax.naming", false),
-              })
-          .put(
-              "CENNAM",
-              new Import[] {
-                new Import("CENNAM", "java.util.jar.JarEntry", true),
-                new Import("CENNAM", "java.util.jar.JarFile", true),
-                new Import("CENNAM", "java.util.jar.JarInputStream", true),
-                new Import("CENNAM", "java.util.jar.JarOutputStream", true),
-                new Import("CENNAM", "java.util.zip.ZipEntry", true),
-                new Import("CENNAM", "java.util.zip.ZipFile", true),
-                new Import("CENNAM", "java.util.zip.ZipInputStream", true),
-                new Import("CENNAM", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "TAG_JAVA_CODEBASE",
-              new Import[] {
-                new Import("TAG_JAVA_CODEBASE", "org.omg.IOP", false),
-              })
-          .put(
-              "AbstractMap",
-              new Import[] {
-                new Import("AbstractMap", "java.util", false),
-              })
-          .put(
-              "UNSELECTED_CONVERTED_TEXT_HIGHLIGHT",
-              new Import[] {
-                new Import(
-                    "UNSELECTED_CONVERTED_TEXT_HIGHLIGHT",
-                    "java.awt.im.InputMethodHighlight",
-                    true),
-              })
-          .put(
-              "NA_9x12_ENVELOPE",
-              new Import[] {
-                new Import("NA_9x12_ENVELOPE", "javax.print.attribute.standard.MediaSize.NA", true),
-              })
-          .put(
-              "defaultManager",
-              new Import[] {
-                new Import("defaultManager", "javax.swing.MenuSelectionManager", true),
-              })
-          .put(
-              "AtomicLongFieldUpdater",
-              new Import[] {
-                new Import("AtomicLongFieldUpdater", "java.util.concurrent.atomic", false),
-              })
-          .put(
-              "Alignment",
-              new Import[] {
-                new Import("Alignment", "javax.swing.GroupLayout", false),
-                new Import("Alignment", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "VALIDATION_ERR",
-              new Import[] {
-                new Import("VALIDATION_ERR", "org.w3c.dom.DOMException", true),
-              })
-          .put(
-              "ColorModel",
-              new Import[] {
-                new Import("ColorModel", "java.awt.image", false),
-              })
-          .put(
-              "Checksum",
-              new Import[] {
-                new Import("Checksum", "java.util.zip", false),
-              })
-          .put(
-              "TYPE_3CLR",
-              new Import[] {
-                new Import("TYPE_3CLR", "java.awt.color.ColorSpace", true),
-              })
-          .put(
-              "StackOverflowError",
-              new Import[] {
-                new Import("StackOverflowError", "java.lang", false),
-              })
-          .put(
-              "between",
-              new Import[] {
-                new Import("between", "java.time.Duration", true),
-                new Import("between", "java.time.Period", true),
-                new Import("between", "java.time.chrono.ChronoPeriod", true),
-                new Import("between", "javax.management.Query", true),
-              })
-          .put(
-              "BORDER_RIGHT_COLOR",
-              new Import[] {
-                new Import("BORDER_RIGHT_COLOR", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "ElementSpec",
-              new Import[] {
-                new Import("ElementSpec", "javax.swing.text.DefaultStyledDocument", false),
-              })
-          .put(
-              "getInstanceStrong",
-              new Import[] {
-                new Import("getInstanceStrong", "java.security.SecureRandom", true),
-              })
-          .put(
-              "VK_BACK_SPACE",
-              new Import[] {
-                new Import("VK_BACK_SPACE", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "ListDataListener",
-              new Import[] {
-                new Import("ListDataListener", "javax.swing.event", false),
-              })
-          .put(
-              "ScatteringByteChannel",
-              new Import[] {
-                new Import("ScatteringByteChannel", "java.nio.channels", false),
-              })
-          .put(
-              "UNIFIED_CANADIAN_ABORIGINAL_SYLLABICS_EXTENDED",
-              new Import[] {
-                new Import(
-                    "UNIFIED_CANADIAN_ABORIGINAL_SYLLABICS_EXTENDED",
-                    "java.lang.Character.UnicodeBlock",
-                    true),
-              })
-          .put(
-              "ServiceLoader",
-              new Import[] {
-                new Import("ServiceLoader", "java.util", false),
-              })
-          .put(
-              "getSaslServerFactories",
-              new Import[] {
-                new Import("getSaslServerFactories", "javax.security.sasl.Sasl", true),
-              })
-          .put(
-              "Resources",
-              new Import[] {
-                new Import("Resources", "javax.annotation", false),
-              })
-          .put(
-              "logicalOr",
-              new Import[] {
-                new Import("logicalOr", "java.lang.Boolean", true),
-              })
-          .put(
-              "getAlgorithms",
-              new Import[] {
-                new Import("getAlgorithms", "java.security.Security", true),
-              })
-          .put(
-              "CompoundBorderUIResource",
-              new Import[] {
-                new Import("CompoundBorderUIResource", "javax.swing.plaf.BorderUIResource", false),
-              })
-          .put(
-              "StdDCChrominance",
-              new Import[] {
-                new Import("StdDCChrominance", "javax.imageio.plugins.jpeg.JPEGHuffmanTable", true),
-              })
-          .put(
-              "AttachmentMarshaller",
-              new Import[] {
-                new Import("AttachmentMarshaller", "javax.xml.bind.attachment", false),
-              })
-          .put(
-              "SynthTableUI",
-              new Import[] {
-                new Import("SynthTableUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "PolicyTypeHelper",
-              new Import[] {
-                new Import("PolicyTypeHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "tk_abstract_interface",
-              new Import[] {
-                new Import("tk_abstract_interface", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "FOCUS",
-              new Import[] {
-                new Import("FOCUS", "javax.swing.plaf.synth.ColorType", true),
-              })
-          .put(
-              "PERSONAL",
-              new Import[] {
-                new Import("PERSONAL", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "DataBufferShort",
-              new Import[] {
-                new Import("DataBufferShort", "java.awt.image", false),
-              })
-          .put(
-              "AccessibleTableModelChange",
-              new Import[] {
-                new Import("AccessibleTableModelChange", "javax.accessibility", false),
-              })
-          .put(
-              "CANVAS",
-              new Import[] {
-                new Import("CANVAS", "javax.accessibility.AccessibleRole", true),
-              })
-          .put(
-              "ResolutionSyntax",
-              new Import[] {
-                new Import("ResolutionSyntax", "javax.print.attribute", false),
-              })
-          .put(
-              "AppletStub",
-              new Import[] {
-                new Import("AppletStub", "java.applet", false),
-              })
-          .put(
-              "EventListener",
-              new Import[] {
-                new Import("EventListener", "java.util", false),
-                new Import("EventListener", "org.w3c.dom.events", false),
-              })
-          .put(
-              "JAXB_FRAGMENT",
-              new Import[] {
-                new Import("JAXB_FRAGMENT", "javax.xml.bind.Marshaller", true),
-              })
-          .put(
-              "JMRuntimeException",
-              new Import[] {
-                new Import("JMRuntimeException", "javax.management", false),
-              })
-          .put(
-              "INDEFINITE_LIFETIME",
-              new Import[] {
-                new Import("INDEFINITE_LIFETIME", "org.ietf.jgss.GSSContext", true),
-                new Import("INDEFINITE_LIFETIME", "org.ietf.jgss.GSSCredential", true),
-              })
-          .put(
-              "ContainerEvent",
-              new Import[] {
-                new Import("ContainerEvent", "java.awt.event", false),
-              })
-          .put(
-              "referenceKindToString",
-              new Import[] {
-                new Import("referenceKindToString", "java.lang.invoke.MethodHandleInfo", true),
-              })
-          .put(
-              "DomainManagerOperations",
-              new Import[] {
-                new Import("DomainManagerOperations", "org.omg.CORBA", false),
-              })
-          .put(
-              "SEG_QUADTO",
-              new Import[] {
-                new Import("SEG_QUADTO", "java.awt.geom.PathIterator", true),
-              })
-          .put(
-              "CompoundEdit",
-              new Import[] {
-                new Import("CompoundEdit", "javax.swing.undo", false),
-              })
-          .put(
-              "Reference",
-              new Import[] {
-                new Import("Reference", "java.lang.ref", false),
-                new Import("Reference", "javax.naming", false),
-                new Import("Reference", "javax.xml.crypto.dsig", false),
-              })
-          .put(
-              "createEmptyBorder",
-              new Import[] {
-                new Import("createEmptyBorder", "javax.swing.BorderFactory", true),
-              })
-          .put(
-              "bestRowPseudo",
-              new Import[] {
-                new Import("bestRowPseudo", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "AlignmentAction",
-              new Import[] {
-                new Import("AlignmentAction", "javax.swing.text.StyledEditorKit", false),
-              })
-          .put(
-              "setLastModifiedTime",
-              new Import[] {
-                new Import("setLastModifiedTime", "java.nio.file.Files", true),
-              })
-          .put(
-              "copyOf",
-              new Import[] {
-                new Import("copyOf", "java.util.Arrays", true),
-                new Import("copyOf", "java.util.EnumSet", true),
-              })
-          .put(
-              "DialogTypeSelection",
-              new Import[] {
-                new Import("DialogTypeSelection", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "getIcon",
-              new Import[] {
-                new Import("getIcon", "javax.swing.UIManager", true),
-                new Import("getIcon", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "IMG_ALIGN_MIDDLE",
-              new Import[] {
-                new Import("IMG_ALIGN_MIDDLE", "javax.swing.text.html.HTMLEditorKit", true),
-              })
-          .put(
-              "POLY_PRESSURE",
-              new Import[] {
-                new Import("POLY_PRESSURE", "javax.sound.midi.ShortMessage", true),
-              })
-          .put(
-              "SequenceInputStream",
-              new Import[] {
-                new Import("SequenceInputStream", "java.io", false),
-              })
-          .put(
-              "JMX",
-              new Import[] {
-                new Import("JMX", "javax.management", false),
-              })
-          .put(
-              "TYPE_INT_RGB",
-              new Import[] {
-                new Import("TYPE_INT_RGB", "java.awt.image.BufferedImage", true),
-              })
-          .put(
-              "VALUE_INTERPOLATION_NEAREST_NEIGHBOR",
-              new Import[] {
-                new Import("VALUE_INTERPOLATION_NEAREST_NEIGHBOR", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "SONG_SELECT",
-              new Import[] {
-                new Import("SONG_SELECT", "javax.sound.midi.ShortMessage", true),
-              })
-          .put(
-              "E_RESIZE_CURSOR",
-              new Import[] {
-                new Import("E_RESIZE_CURSOR", "java.awt.Cursor", true),
-                new Import("E_RESIZE_CURSOR", "java.awt.Frame", true),
-              })
-          .put(
-              "AttributeInUseException",
-              new Import[] {
-                new Import("AttributeInUseException", "javax.naming.directory", false),
-              })
-          .put(
-              "NA_NUMBER_11_ENVELOPE",
-              new Import[] {
-                new Import("NA_NUMBER_11_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-                new Import(
-                    "NA_NUMBER_11_ENVELOPE", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import(
-                    "NA_NUMBER_11_ENVELOPE", "javax.print.attribute.standard.MediaSize.NA", true),
-              })
-          .put(
-              "Policy",
-              new Import[] {
-                new Import("Policy", "java.security", false),
-                new Import("Policy", "javax.security.auth", false),
-                new Import("Policy", "org.omg.CORBA", false),
-              })
-          .put(
-              "managedBlock",
-              new Import[] {
-                new Import("managedBlock", "java.util.concurrent.ForkJoinPool", true),
-              })
-          .put(
-              "LazyValue",
-              new Import[] {
-                new Import("LazyValue", "javax.swing.UIDefaults", false),
-              })
-          .put(
-              "CertificateParsingException",
-              new Import[] {
-                new Import("CertificateParsingException", "java.security.cert", false),
-                new Import("CertificateParsingException", "javax.security.cert", false),
-              })
-          .put(
-              "AttributeContext",
-              new Import[] {
-                new Import("AttributeContext", "javax.swing.text.AbstractDocument", false),
-              })
-          .put(
-              "DATE_EDITOR",
-              new Import[] {
-                new Import("DATE_EDITOR", "javax.accessibility.AccessibleRole", true),
-              })
-          .put(
-              "Mixer",
-              new Import[] {
-                new Import("Mixer", "javax.sound.sampled", false),
-              })
-          .put(
-              "ForkJoinTask",
-              new Import[] {
-                new Import("ForkJoinTask", "java.util.concurrent", false),
-              })
-          .put(
-              "BeanContextServiceRevokedEvent",
-              new Import[] {
-                new Import("BeanContextServiceRevokedEvent", "java.beans.beancontext", false),
-              })
-          .put(
-              "ACCESSIBLE_CHILD_PROPERTY",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_CHILD_PROPERTY", "javax.accessibility.AccessibleContext", true),
-              })
-          .put(
-              "isJavaLetter",
-              new Import[] {
-                new Import("isJavaLetter", "java.lang.Character", true),
-              })
-          .put(
-              "importedKeyCascade",
-              new Import[] {
-                new Import("importedKeyCascade", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "UnsupportedAudioFileException",
-              new Import[] {
-                new Import("UnsupportedAudioFileException", "javax.sound.sampled", false),
-              })
-          .put(
-              "InvalidName",
-              new Import[] {
-                new Import("InvalidName", "org.omg.CORBA.ORBPackage", false),
-                new Import("InvalidName", "org.omg.CosNaming.NamingContextPackage", false),
-                new Import("InvalidName", "org.omg.PortableInterceptor.ORBInitInfoPackage", false),
-              })
-          .put(
-              "computeStringWidth",
-              new Import[] {
-                new Import("computeStringWidth", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "Encoder",
-              new Import[] {
-                new Import("Encoder", "java.beans", false),
-                new Import("Encoder", "java.util.Base64", false),
-              })
-          .put(
-              "_tk_except",
-              new Import[] {
-                new Import("_tk_except", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "TRANSFORM",
-              new Import[] {
-                new Import("TRANSFORM", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "NamingException",
-              new Import[] {
-                new Import("NamingException", "javax.naming", false),
-              })
-          .put(
-              "ACCESSIBLE_TABLE_COLUMN_HEADER_CHANGED",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_TABLE_COLUMN_HEADER_CHANGED",
-                    "javax.accessibility.AccessibleContext",
-                    true),
-              })
-          .put(
-              "SYNCHRONIZED",
-              new Import[] {
-                new Import("SYNCHRONIZED", "java.lang.reflect.Modifier", true),
-              })
-          .put(
-              "RowSetWriter",
-              new Import[] {
-                new Import("RowSetWriter", "javax.sql", false),
-              })
-          .put(
-              "FORMATTED_TEXT_FIELD",
-              new Import[] {
-                new Import("FORMATTED_TEXT_FIELD", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "icSigAbstractClass",
-              new Import[] {
-                new Import("icSigAbstractClass", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "ValidationEventHandler",
-              new Import[] {
-                new Import("ValidationEventHandler", "javax.xml.bind", false),
-              })
-          .put(
-              "ISO_C4_ENVELOPE",
-              new Import[] {
-                new Import("ISO_C4_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "SIMPLIFIED_HANZI",
-              new Import[] {
-                new Import("SIMPLIFIED_HANZI", "java.awt.im.InputSubset", true),
-              })
-          .put(
-              "SetOfIntegerSyntax",
-              new Import[] {
-                new Import("SetOfIntegerSyntax", "javax.print.attribute", false),
-              })
-          .put(
-              "VK_DECIMAL",
-              new Import[] {
-                new Import("VK_DECIMAL", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "BeanContextServiceAvailableEvent",
-              new Import[] {
-                new Import("BeanContextServiceAvailableEvent", "java.beans.beancontext", false),
-              })
-          .put(
-              "IDENTICAL",
-              new Import[] {
-                new Import("IDENTICAL", "java.text.Collator", true),
-              })
-          .put(
-              "comparing",
-              new Import[] {
-                new Import("comparing", "java.util.Comparator", true),
-              })
-          .put(
-              "SynthProgressBarUI",
-              new Import[] {
-                new Import("SynthProgressBarUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "IS_VALIDATING",
-              new Import[] {
-                new Import("IS_VALIDATING", "javax.xml.stream.XMLInputFactory", true),
-              })
-          .put(
-              "LongConsumer",
-              new Import[] {
-                new Import("LongConsumer", "java.util.function", false),
-              })
-          .put(
-              "NetPermission",
-              new Import[] {
-                new Import("NetPermission", "java.net", false),
-              })
-          .put(
-              "PostConstruct",
-              new Import[] {
-                new Import("PostConstruct", "javax.annotation", false),
-              })
-          .put(
-              "icSigMediaBlackPointTag",
-              new Import[] {
-                new Import("icSigMediaBlackPointTag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "MouseInputAdapter",
-              new Import[] {
-                new Import("MouseInputAdapter", "javax.swing.event", false),
-              })
-          .put(
-              "HandshakeStatus",
-              new Import[] {
-                new Import("HandshakeStatus", "javax.net.ssl.SSLEngineResult", false),
-              })
-          .put(
-              "BasicAttributes",
-              new Import[] {
-                new Import("BasicAttributes", "javax.naming.directory", false),
-              })
-          .put(
-              "PALETTE_LAYER",
-              new Import[] {
-                new Import("PALETTE_LAYER", "javax.swing.JLayeredPane", true),
-              })
-          .put(
-              "BindingTypeHelper",
-              new Import[] {
-                new Import("BindingTypeHelper", "org.omg.CosNaming", false),
-              })
-          .put(
-              "X509Extension",
-              new Import[] {
-                new Import("X509Extension", "java.security.cert", false),
-              })
-          .put(
-              "RoundRectangle2D",
-              new Import[] {
-                new Import("RoundRectangle2D", "java.awt.geom", false),
-              })
-          .put(
-              "BeanContextChild",
-              new Import[] {
-                new Import("BeanContextChild", "java.beans.beancontext", false),
-              })
-          .put(
-              "BEST_SPEED",
-              new Import[] {
-                new Import("BEST_SPEED", "java.util.zip.Deflater", true),
-              })
-          .put(
-              "ENTITY_DECLARATION",
-              new Import[] {
-                new Import("ENTITY_DECLARATION", "javax.xml.stream.XMLStreamConstants", true),
-              })
-          .put(
-              "versionColumnPseudo",
-              new Import[] {
-                new Import("versionColumnPseudo", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "SwingConstants",
-              new Import[] {
-                new Import("SwingConstants", "javax.swing", false),
-              })
-          .put(
-              "UndoManager",
-              new Import[] {
-                new Import("UndoManager", "javax.swing.undo", false),
-              })
-          .put(
-              "SyncResolver",
-              new Import[] {
-                new Import("SyncResolver", "javax.sql.rowset.spi", false),
-              })
-          .put(
-              "BORDER_RIGHT_WIDTH",
-              new Import[] {
-                new Import("BORDER_RIGHT_WIDTH", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "ICC_ProfileRGB",
-              new Import[] {
-                new Import("ICC_ProfileRGB", "java.awt.color", false),
-              })
-          .put(
-              "AccessibleContext",
-              new Import[] {
-                new Import("AccessibleContext", "javax.accessibility", false),
-              })
-          .put(
-              "getShort",
-              new Import[] {
-                new Import("getShort", "java.lang.reflect.Array", true),
-              })
-          .put(
-              "DirStateFactory",
-              new Import[] {
-                new Import("DirStateFactory", "javax.naming.spi", false),
-              })
-          .put(
-              "EnumSet",
-              new Import[] {
-                new Import("EnumSet", "java.util", false),
-              })
-          .put(
-              "getObjectInstance",
-              new Import[] {
-                new Import("getObjectInstance", "javax.naming.spi.DirectoryManager", true),
-                new Import("getObjectInstance", "javax.naming.spi.NamingManager", true),
-              })
-          .put(
-              "match",
-              new Import[] {
-                new Import("match", "javax.management.Query", true),
-              })
-          .put(
-              "CanonicalizationMethod",
-              new Import[] {
-                new Import("CanonicalizationMethod", "javax.xml.crypto.dsig", false),
-              })
-          .put(
-              "EDITBAR",
-              new Import[] {
-                new Import("EDITBAR", "javax.accessibility.AccessibleRole", true),
-              })
-          .put(
-              "DATATYPEFACTORY_IMPLEMENTATION_CLASS",
-              new Import[] {
-                new Import(
-                    "DATATYPEFACTORY_IMPLEMENTATION_CLASS",
-                    "javax.xml.datatype.DatatypeFactory",
-                    true),
-              })
-          .put(
-              "ServantActivatorOperations",
-              new Import[] {
-                new Import("ServantActivatorOperations", "org.omg.PortableServer", false),
-              })
-          .put(
-              "ZipOutputStream",
-              new Import[] {
-                new Import("ZipOutputStream", "java.util.zip", false),
-              })
-          .put(
-              "PROCESSING_INSTRUCTION",
-              new Import[] {
-                new Import("PROCESSING_INSTRUCTION", "javax.xml.stream.XMLStreamConstants", true),
-              })
-          .put(
-              "DATASOURCE_TABLE_LOCK",
-              new Import[] {
-                new Import("DATASOURCE_TABLE_LOCK", "javax.sql.rowset.spi.SyncProvider", true),
-              })
-          .put(
-              "AccessMode",
-              new Import[] {
-                new Import("AccessMode", "java.nio.file", false),
-              })
-          .put(
-              "NameComponentHolder",
-              new Import[] {
-                new Import("NameComponentHolder", "org.omg.CosNaming", false),
-              })
-          .build();
-}
@@ -1,1573 +0,0 @@
-// Code generated by GenerateStdlib.java. DO NOT EDIT.
-package com.nikodoko.javaimports.stdlib.internal.api.v8;
-
-import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
-import java.util.Map;
-
-public class Java8StdlibChunk16 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
-          .put(
-              "ScrollPaneAdjustable",
-              new Import[] {
-                new Import("ScrollPaneAdjustable", "java.awt", false),
-              })
-          .put(
-              "Node",
-              new Import[] {
-                new Import("Node", "javax.xml.soap", false),
-                new Import("Node", "org.w3c.dom", false),
-              })
-          .put(
-              "RowSet",
-              new Import[] {
-                new Import("RowSet", "javax.sql", false),
-              })
-          .put(
-              "BasicSliderUI",
-              new Import[] {
-                new Import("BasicSliderUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "ResponseWrapper",
-              new Import[] {
-                new Import("ResponseWrapper", "javax.xml.ws", false),
-              })
-          .put(
-              "MenuShortcut",
-              new Import[] {
-                new Import("MenuShortcut", "java.awt", false),
-              })
-          .put(
-              "INVITE",
-              new Import[] {
-                new Import("INVITE", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "getFailureHandler",
-              new Import[] {
-                new Import("getFailureHandler", "java.rmi.server.RMISocketFactory", true),
-              })
-          .put(
-              "DOCUMENT_FORMAT_ERROR",
-              new Import[] {
-                new Import(
-                    "DOCUMENT_FORMAT_ERROR", "javax.print.attribute.standard.JobStateReason", true),
-              })
-          .put(
-              "AtomicReferenceArray",
-              new Import[] {
-                new Import("AtomicReferenceArray", "java.util.concurrent.atomic", false),
-              })
-          .put(
-              "leq",
-              new Import[] {
-                new Import("leq", "javax.management.Query", true),
-              })
-          .put(
-              "NO_DECOMPOSITION",
-              new Import[] {
-                new Import("NO_DECOMPOSITION", "java.text.Collator", true),
-              })
-          .put(
-              "ImplicitActivationPolicy",
-              new Import[] {
-                new Import("ImplicitActivationPolicy", "org.omg.PortableServer", false),
-              })
-          .put(
-              "TYPE1_FONT",
-              new Import[] {
-                new Import("TYPE1_FONT", "java.awt.Font", true),
-              })
-          .put(
-              "URI_NS_SOAP_1_2_ENCODING",
-              new Import[] {
-                new Import("URI_NS_SOAP_1_2_ENCODING", "javax.xml.soap.SOAPConstants", true),
-              })
-          .put(
-              "IncompatibleClassChangeError",
-              new Import[] {
-                new Import("IncompatibleClassChangeError", "java.lang", false),
-              })
-          .put(
-              "getSeparatorForeground",
-              new Import[] {
-                new Import(
-                    "getSeparatorForeground", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "_tk_abstract_interface",
-              new Import[] {
-                new Import("_tk_abstract_interface", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "PITCH_BEND",
-              new Import[] {
-                new Import("PITCH_BEND", "javax.sound.midi.ShortMessage", true),
-              })
-          .put(
-              "INITIAL_VALUE_PROPERTY",
-              new Import[] {
-                new Import("INITIAL_VALUE_PROPERTY", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "PARAM_INOUT",
-              new Import[] {
-                new Import("PARAM_INOUT", "org.omg.CORBA.ParameterMode", true),
-              })
-          .put(
-              "ORBInitInfo",
-              new Import[] {
-                new Import("ORBInitInfo", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "ListSelectionListener",
-              new Import[] {
-                new Import("ListSelectionListener", "javax.swing.event", false),
-              })
-          .put(
-              "selectionForwardAction",
-              new Import[] {
-                new Import("selectionForwardAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "getQueuedTaskCount",
-              new Import[] {
-                new Import("getQueuedTaskCount", "java.util.concurrent.ForkJoinTask", true),
-              })
-          .put(
-              "EXPANDS_SELECTED_PATHS_PROPERTY",
-              new Import[] {
-                new Import("EXPANDS_SELECTED_PATHS_PROPERTY", "javax.swing.JTree", true),
-              })
-          .put(
-              "BASELINE_TRAILING",
-              new Import[] {
-                new Import("BASELINE_TRAILING", "java.awt.GridBagConstraints", true),
-              })
-          .put(
-              "KATAKANA",
-              new Import[] {
-                new Import("KATAKANA", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "icSigCopyrightTag",
-              new Import[] {
-                new Import("icSigCopyrightTag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "XAER_NOTA",
-              new Import[] {
-                new Import("XAER_NOTA", "javax.transaction.xa.XAException", true),
-              })
-          .put(
-              "ISO_C3_ENVELOPE",
-              new Import[] {
-                new Import("ISO_C3_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "InternalError",
-              new Import[] {
-                new Import("InternalError", "java.lang", false),
-              })
-          .put(
-              "getGrooveInsets",
-              new Import[] {
-                new Import("getGrooveInsets", "javax.swing.plaf.basic.BasicGraphicsUtils", true),
-              })
-          .put(
-              "MethodHandle",
-              new Import[] {
-                new Import("MethodHandle", "java.lang.invoke", false),
-              })
-          .put(
-              "getFileStore",
-              new Import[] {
-                new Import("getFileStore", "java.nio.file.Files", true),
-              })
-          .put(
-              "FONT_CHANGE_SMALLER",
-              new Import[] {
-                new Import("FONT_CHANGE_SMALLER", "javax.swing.text.html.HTMLEditorKit", true),
-              })
-          .put(
-              "INVALID_STATE_ERR",
-              new Import[] {
-                new Import("INVALID_STATE_ERR", "org.w3c.dom.DOMException", true),
-              })
-          .put(
-              "SynthSplitPaneUI",
-              new Import[] {
-                new Import("SynthSplitPaneUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "Highlight",
-              new Import[] {
-                new Import("Highlight", "javax.swing.text.Highlighter", false),
-              })
-          .put(
-              "JAXB",
-              new Import[] {
-                new Import("JAXB", "javax.xml.bind", false),
-              })
-          .put(
-              "createEtchedBorder",
-              new Import[] {
-                new Import("createEtchedBorder", "javax.swing.BorderFactory", true),
-              })
-          .put(
-              "XMLEventFactory",
-              new Import[] {
-                new Import("XMLEventFactory", "javax.xml.stream", false),
-              })
-          .put(
-              "getAllTags",
-              new Import[] {
-                new Import("getAllTags", "javax.swing.text.html.HTML", true),
-              })
-          .put(
-              "TransformService",
-              new Import[] {
-                new Import("TransformService", "javax.xml.crypto.dsig", false),
-              })
-          .put(
-              "USERNAME_PROPERTY",
-              new Import[] {
-                new Import("USERNAME_PROPERTY", "javax.xml.ws.BindingProvider", true),
-              })
-          .put(
-              "AncestorEvent",
-              new Import[] {
-                new Import("AncestorEvent", "javax.swing.event", false),
-              })
-          .put(
-              "isFinite",
-              new Import[] {
-                new Import("isFinite", "java.lang.Double", true),
-                new Import("isFinite", "java.lang.Float", true),
-              })
-          .put(
-              "JobStateReasons",
-              new Import[] {
-                new Import("JobStateReasons", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "TRACKING_LOOSE",
-              new Import[] {
-                new Import("TRACKING_LOOSE", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "SQLDataException",
-              new Import[] {
-                new Import("SQLDataException", "java.sql", false),
-              })
-          .put(
-              "CallableStatement",
-              new Import[] {
-                new Import("CallableStatement", "java.sql", false),
-              })
-          .put(
-              "builder",
-              new Import[] {
-                new Import("builder", "java.util.stream.DoubleStream", true),
-                new Import("builder", "java.util.stream.IntStream", true),
-                new Import("builder", "java.util.stream.LongStream", true),
-                new Import("builder", "java.util.stream.Stream", true),
-              })
-          .put(
-              "COPTIC",
-              new Import[] {
-                new Import("COPTIC", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "CLOSE_CURRENT_RESULT",
-              new Import[] {
-                new Import("CLOSE_CURRENT_RESULT", "java.sql.Statement", true),
-              })
-          .put(
-              "DefaultValidationEventHandler",
-              new Import[] {
-                new Import("DefaultValidationEventHandler", "javax.xml.bind.helpers", false),
-              })
-          .put(
-              "DateTimeAtProcessing",
-              new Import[] {
-                new Import("DateTimeAtProcessing", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "drawLoweredBezel",
-              new Import[] {
-                new Import("drawLoweredBezel", "javax.swing.plaf.basic.BasicGraphicsUtils", true),
-              })
-          .put(
-              "Repeatable",
-              new Import[] {
-                new Import("Repeatable", "java.lang.annotation", false),
-              })
-          .put(
-              "VALUE_RENDER_SPEED",
-              new Import[] {
-                new Import("VALUE_RENDER_SPEED", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "DINGBATS",
-              new Import[] {
-                new Import("DINGBATS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "BasicToggleButtonUI",
-              new Import[] {
-                new Import("BasicToggleButtonUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "newDirectoryStream",
-              new Import[] {
-                new Import("newDirectoryStream", "java.nio.file.Files", true),
-              })
-          .put(
-              "DocPrintJob",
-              new Import[] {
-                new Import("DocPrintJob", "javax.print", false),
-              })
-          .put(
-              "SCROLL_BAR_TRACK",
-              new Import[] {
-                new Import("SCROLL_BAR_TRACK", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "SELECTABLE",
-              new Import[] {
-                new Import("SELECTABLE", "javax.accessibility.AccessibleState", true),
-              })
-          .put(
-              "NA_9x11_ENVELOPE",
-              new Import[] {
-                new Import("NA_9x11_ENVELOPE", "javax.print.attribute.standard.MediaSize.NA", true),
-              })
-          .put(
-              "MathContext",
-              new Import[] {
-                new Import("MathContext", "java.math", false),
-              })
-          .put(
-              "ALIGN_DECIMAL",
-              new Import[] {
-                new Import("ALIGN_DECIMAL", "javax.swing.text.TabStop", true),
-              })
-          .put(
-              "KAITHI",
-              new Import[] {
-                new Import("KAITHI", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "RequestProcessingPolicyValue",
-              new Import[] {
-                new Import("RequestProcessingPolicyValue", "org.omg.PortableServer", false),
-              })
-          .put(
-              "RIGHT_TO_LEFT",
-              new Import[] {
-                new Import("RIGHT_TO_LEFT", "java.awt.ComponentOrientation", true),
-              })
-          .put(
-              "ICON_PROPERTY",
-              new Import[] {
-                new Import("ICON_PROPERTY", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "MULTI_LINE",
-              new Import[] {
-                new Import("MULTI_LINE", "javax.accessibility.AccessibleState", true),
-              })
-          .put(
-              "TreeSelectionModel",
-              new Import[] {
-                new Import("TreeSelectionModel", "javax.swing.tree", false),
-              })
-          .put(
-              "InterruptedByTimeoutException",
-              new Import[] {
-                new Import("InterruptedByTimeoutException", "java.nio.channels", false),
-              })
-          .put(
-              "ACTION_LAST",
-              new Import[] {
-                new Import("ACTION_LAST", "java.awt.event.ActionEvent", true),
-              })
-          .put(
-              "AnnotatedElement",
-              new Import[] {
-                new Import("AnnotatedElement", "java.lang.reflect", false),
-              })
-          .put(
-              "TAKRI",
-              new Import[] {
-                new Import("TAKRI", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "AbstractWriter",
-              new Import[] {
-                new Import("AbstractWriter", "javax.swing.text", false),
-              })
-          .put(
-              "FormSubmitEvent",
-              new Import[] {
-                new Import("FormSubmitEvent", "javax.swing.text.html", false),
-              })
-          .put(
-              "CONCUR_READ_ONLY",
-              new Import[] {
-                new Import("CONCUR_READ_ONLY", "java.sql.ResultSet", true),
-              })
-          .put(
-              "getInternalFrameAltMaximizeIcon",
-              new Import[] {
-                new Import(
-                    "getInternalFrameAltMaximizeIcon",
-                    "javax.swing.plaf.metal.MetalIconFactory",
-                    true),
-              })
-          .put(
-              "RMIFailureHandler",
-              new Import[] {
-                new Import("RMIFailureHandler", "java.rmi.server", false),
-              })
-          .put(
-              "ofDefaultLocale",
-              new Import[] {
-                new Import("ofDefaultLocale", "java.time.format.DecimalStyle", true),
-              })
-          .put(
-              "ProxySelector",
-              new Import[] {
-                new Import("ProxySelector", "java.net", false),
-              })
-          .put(
-              "ISO_LOCAL_TIME",
-              new Import[] {
-                new Import("ISO_LOCAL_TIME", "java.time.format.DateTimeFormatter", true),
-              })
-          .put(
-              "ECField",
-              new Import[] {
-                new Import("ECField", "java.security.spec", false),
-              })
-          .put(
-              "TEXT_DECORATION",
-              new Import[] {
-                new Import("TEXT_DECORATION", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "ServantLocatorOperations",
-              new Import[] {
-                new Import("ServantLocatorOperations", "org.omg.PortableServer", false),
-              })
-          .put(
-              "XMLReporter",
-              new Import[] {
-                new Import("XMLReporter", "javax.xml.stream", false),
-              })
-          .put(
-              "compile",
-              new Import[] {
-                new Import("compile", "java.util.regex.Pattern", true),
-              })
-          .put(
-              "UnknownUserExceptionHolder",
-              new Import[] {
-                new Import("UnknownUserExceptionHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "AccessibleRelation",
-              new Import[] {
-                new Import("AccessibleRelation", "javax.accessibility", false),
-              })
-          .put(
-              "VK_UNDO",
-              new Import[] {
-                new Import("VK_UNDO", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "BasicIconFactory",
-              new Import[] {
-                new Import("BasicIconFactory", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "OP_WRITE",
-              new Import[] {
-                new Import("OP_WRITE", "java.nio.channels.SelectionKey", true),
-              })
-          .put(
-              "HTTP_NO_CONTENT",
-              new Import[] {
-                new Import("HTTP_NO_CONTENT", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "ofSeconds",
-              new Import[] {
-                new Import("ofSeconds", "java.time.Duration", true),
-              })
-          .put(
-              "LongLongSeqHelper",
-              new Import[] {
-                new Import("LongLongSeqHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "TYPE_3BYTE_BGR",
-              new Import[] {
-                new Import("TYPE_3BYTE_BGR", "java.awt.image.BufferedImage", true),
-              })
-          .put(
-              "HierarchyBoundsListener",
-              new Import[] {
-                new Import("HierarchyBoundsListener", "java.awt.event", false),
-              })
-          .put(
-              "BIG_ENDIAN",
-              new Import[] {
-                new Import("BIG_ENDIAN", "java.nio.ByteOrder", true),
-              })
-          .put(
-              "CompositeDataSupport",
-              new Import[] {
-                new Import("CompositeDataSupport", "javax.management.openmbean", false),
-              })
-          .put(
-              "ACCESSIBLE_SELECTION_PROPERTY",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_SELECTION_PROPERTY", "javax.accessibility.AccessibleContext", true),
-              })
-          .put(
-              "AccessControlException",
-              new Import[] {
-                new Import("AccessControlException", "java.security", false),
-              })
-          .put(
-              "getPolicy",
-              new Import[] {
-                new Import("getPolicy", "java.security.Policy", true),
-                new Import("getPolicy", "javax.security.auth.Policy", true),
-              })
-          .put(
-              "unmodifiableMap",
-              new Import[] {
-                new Import("unmodifiableMap", "java.util.Collections", true),
-              })
-          .put(
-              "XmlEnum",
-              new Import[] {
-                new Import("XmlEnum", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "CacheResponse",
-              new Import[] {
-                new Import("CacheResponse", "java.net", false),
-              })
-          .put(
-              "KerberosKey",
-              new Import[] {
-                new Import("KerberosKey", "javax.security.auth.kerberos", false),
-              })
-          .put(
-              "endAction",
-              new Import[] {
-                new Import("endAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "FRACTION_FIELD",
-              new Import[] {
-                new Import("FRACTION_FIELD", "java.text.NumberFormat", true),
-              })
-          .put(
-              "fixed",
-              new Import[] {
-                new Import("fixed", "java.time.Clock", true),
-              })
-          .put(
-              "START_DOCUMENT",
-              new Import[] {
-                new Import("START_DOCUMENT", "javax.xml.stream.XMLStreamConstants", true),
-              })
-          .put(
-              "CENHOW",
-              new Import[] {
-                new Import("CENHOW", "java.util.jar.JarEntry", true),
-                new Import("CENHOW", "java.util.jar.JarFile", true),
-                new Import("CENHOW", "java.util.jar.JarInputStream", true),
-                new Import("CENHOW", "java.util.jar.JarOutputStream", true),
-                new Import("CENHOW", "java.util.zip.ZipEntry", true),
-                new Import("CENHOW", "java.util.zip.ZipFile", true),
-                new Import("CENHOW", "java.util.zip.ZipInputStream", true),
-                new Import("CENHOW", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "XmlAccessorOrder",
-              new Import[] {
-                new Import("XmlAccessorOrder", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "_dk_Wstring",
-              new Import[] {
-                new Import("_dk_Wstring", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "Iterable",
-              new Import[] {
-                new Import("Iterable", "java.lang", false),
-              })
-          .put(
-              "getParagraphElement",
-              new Import[] {
-                new Import("getParagraphElement", "javax.swing.text.Utilities", true),
-              })
-          .put(
-              "CertPathBuilderResult",
-              new Import[] {
-                new Import("CertPathBuilderResult", "java.security.cert", false),
-              })
-          .put(
-              "VK_SUBTRACT",
-              new Import[] {
-                new Import("VK_SUBTRACT", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "setDataContentHandlerFactory",
-              new Import[] {
-                new Import("setDataContentHandlerFactory", "javax.activation.DataHandler", true),
-              })
-          .put(
-              "ExecutorCompletionService",
-              new Import[] {
-                new Import("ExecutorCompletionService", "java.util.concurrent", false),
-              })
-          .put(
-              "RolloverButtonBorder",
-              new Import[] {
-                new Import("RolloverButtonBorder", "javax.swing.plaf.basic.BasicBorders", false),
-                new Import("RolloverButtonBorder", "javax.swing.plaf.metal.MetalBorders", false),
-              })
-          .put(
-              "toOctalString",
-              new Import[] {
-                new Import("toOctalString", "java.lang.Integer", true),
-                new Import("toOctalString", "java.lang.Long", true),
-              })
-          .put(
-              "MAXGTRIDSIZE",
-              new Import[] {
-                new Import("MAXGTRIDSIZE", "javax.transaction.xa.Xid", true),
-              })
-          .put(
-              "WEIGHT_EXTRA_LIGHT",
-              new Import[] {
-                new Import("WEIGHT_EXTRA_LIGHT", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "ReferenceUriSchemesSupported",
-              new Import[] {
-                new Import("ReferenceUriSchemesSupported", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "documentBaseKey",
-              new Import[] {
-                new Import("documentBaseKey", "javax.swing.plaf.basic.BasicHTML", true),
-              })
-          .put(
-              "PUBLIC_MEMBER",
-              new Import[] {
-                new Import("PUBLIC_MEMBER", "org.omg.CORBA", false),
-              })
-          .put(
-              "HijrahEra",
-              new Import[] {
-                new Import("HijrahEra", "java.time.chrono", false),
-              })
-          .put(
-              "CardLayout",
-              new Import[] {
-                new Import("CardLayout", "java.awt", false),
-              })
-          .put(
-              "getUnboundInstance",
-              new Import[] {
-                new Import("getUnboundInstance", "javax.security.auth.kerberos.KeyTab", true),
-              })
-          .put(
-              "UnsolicitedNotificationEvent",
-              new Import[] {
-                new Import("UnsolicitedNotificationEvent", "javax.naming.ldap", false),
-              })
-          .put(
-              "JobPriority",
-              new Import[] {
-                new Import("JobPriority", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "Provider",
-              new Import[] {
-                new Import("Provider", "java.security", false),
-                new Import("Provider", "javax.xml.ws", false),
-                new Import("Provider", "javax.xml.ws.spi", false),
-              })
-          .put(
-              "DOCUMENT_POSITION_DISCONNECTED",
-              new Import[] {
-                new Import("DOCUMENT_POSITION_DISCONNECTED", "org.w3c.dom.Node", true),
-              })
-          .put(
-              "parseInt",
-              new Import[] {
-                new Import("parseInt", "java.lang.Integer", true),
-                new Import("parseInt", "javax.xml.bind.DatatypeConverter", true),
-              })
-          .put(
-              "MONDAY",
-              new Import[] {
-                new Import("MONDAY", "java.util.Calendar", true),
-              })
-          .put(
-              "downAction",
-              new Import[] {
-                new Import("downAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "SELECTED_CONVERTED_TEXT_HIGHLIGHT",
-              new Import[] {
-                new Import(
-                    "SELECTED_CONVERTED_TEXT_HIGHLIGHT", "java.awt.im.InputMethodHighlight", true),
-              })
-          .put(
-              "maxBy",
-              new Import[] {
-                new Import("maxBy", "java.util.function.BinaryOperator", true),
-                new Import("maxBy", "java.util.stream.Collectors", true),
-              })
-          .put(
-              "InputMapUIResource",
-              new Import[] {
-                new Import("InputMapUIResource", "javax.swing.plaf", false),
-              })
-          .put(
-              "ABOVE_BASELINE_LEADING",
-              new Import[] {
-                new Import("ABOVE_BASELINE_LEADING", "java.awt.GridBagConstraints", true),
-              })
-          .put(
-              "MalformedInputException",
-              new Import[] {
-                new Import("MalformedInputException", "java.nio.charset", false),
-              })
-          .put(
-              "FALSE",
-              new Import[] {
-                new Import("FALSE", "java.lang.Boolean", true),
-                new Import("FALSE", "java.util.jar.Pack200.Packer", true),
-                new Import("FALSE", "java.util.jar.Pack200.Unpacker", true),
-              })
-          .put(
-              "HTTP_FORBIDDEN",
-              new Import[] {
-                new Import("HTTP_FORBIDDEN", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "DoubleStream",
-              new Import[] {
-                new Import("DoubleStream", "java.util.stream", false),
-              })
-          .put(
-              "TAGBANWA",
-              new Import[] {
-                new Import("TAGBANWA", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "REGISTRY_PORT",
-              new Import[] {
-                new Import("REGISTRY_PORT", "java.rmi.registry.Registry", true),
-              })
-          .put(
-              "UnknownObjectException",
-              new Import[] {
-                new Import("UnknownObjectException", "java.rmi.activation", false),
-              })
-          .put(
-              "StringValueHelper",
-              new Import[] {
-                new Import("StringValueHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "SYSTEM_RESET",
-              new Import[] {
-                new Import("SYSTEM_RESET", "javax.sound.midi.ShortMessage", true),
-              })
-          .put(
-              "RUN_DIRECTION",
-              new Import[] {
-                new Import("RUN_DIRECTION", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "TWO_SIDED_SHORT_EDGE",
-              new Import[] {
-                new Import("TWO_SIDED_SHORT_EDGE", "java.awt.JobAttributes.SidesType", true),
-                new Import("TWO_SIDED_SHORT_EDGE", "javax.print.attribute.standard.Sides", true),
-              })
-          .put(
-              "BASE64",
-              new Import[] {
-                new Import("BASE64", "javax.xml.crypto.dsig.Transform", true),
-              })
-          .put(
-              "TEXT_PLAIN_UTF_16LE",
-              new Import[] {
-                new Import("TEXT_PLAIN_UTF_16LE", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("TEXT_PLAIN_UTF_16LE", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("TEXT_PLAIN_UTF_16LE", "javax.print.DocFlavor.URL", true),
-              })
-          .put(
-              "INPUT_METHOD_HIGHLIGHT",
-              new Import[] {
-                new Import("INPUT_METHOD_HIGHLIGHT", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "AdapterAlreadyExists",
-              new Import[] {
-                new Import("AdapterAlreadyExists", "org.omg.PortableServer.POAPackage", false),
-              })
-          .put(
-              "FileLock",
-              new Import[] {
-                new Import("FileLock", "java.nio.channels", false),
-              })
-          .put(
-              "DigestException",
-              new Import[] {
-                new Import("DigestException", "java.security", false),
-              })
-          .put(
-              "Boolean",
-              new Import[] {
-                new Import("Boolean", "java.lang", false),
-              })
-          .put(
-              "DUPLEX",
-              new Import[] {
-                new Import("DUPLEX", "javax.print.attribute.standard.Sides", true),
-              })
-          .put(
-              "ValidationEventCollector",
-              new Import[] {
-                new Import("ValidationEventCollector", "javax.xml.bind.util", false),
-              })
-          .put(
-              "LdapContext",
-              new Import[] {
-                new Import("LdapContext", "javax.naming.ldap", false),
-              })
-          .put(
-              "TYPE_INT",
-              new Import[] {
-                new Import("TYPE_INT", "java.awt.image.DataBuffer", true),
-              })
-          .put(
-              "URIReference",
-              new Import[] {
-                new Import("URIReference", "javax.xml.crypto", false),
-              })
-          .put(
-              "DES_KEY_LEN",
-              new Import[] {
-                new Import("DES_KEY_LEN", "javax.crypto.spec.DESKeySpec", true),
-              })
-          .put(
-              "EmptySelectionModel",
-              new Import[] {
-                new Import("EmptySelectionModel", "javax.swing.JTree", false),
-              })
-          .put(
-              "RetrievalMethod",
-              new Import[] {
-                new Import("RetrievalMethod", "javax.xml.crypto.dsig.keyinfo", false),
-              })
-          .put(
-              "javaRemoteObjectMimeType",
-              new Import[] {
-                new Import("javaRemoteObjectMimeType", "java.awt.datatransfer.DataFlavor", true),
-              })
-          .put(
-              "DISTINCT",
-              new Import[] {
-                new Import("DISTINCT", "java.sql.Types", true),
-                new Import("DISTINCT", "java.util.Spliterator", true),
-              })
-          .put(
-              "printDate",
-              new Import[] {
-                new Import("printDate", "javax.xml.bind.DatatypeConverter", true),
-              })
-          .put(
-              "NodeList",
-              new Import[] {
-                new Import("NodeList", "org.w3c.dom", false),
-              })
-          .put(
-              "STYLE",
-              new Import[] {
-                new Import("STYLE", "javax.swing.text.html.HTML.Attribute", true),
-                new Import("STYLE", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "NEW_TAI_LUE",
-              new Import[] {
-                new Import("NEW_TAI_LUE", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "InputMethodEvent",
-              new Import[] {
-                new Import("InputMethodEvent", "java.awt.event", false),
-              })
-          .put(
-              "DynEnum",
-              new Import[] {
-                new Import("DynEnum", "org.omg.CORBA", false),
-                new Import("DynEnum", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "CELLSPACING",
-              new Import[] {
-                new Import("CELLSPACING", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "CannotProceedHolder",
-              new Import[] {
-                new Import("CannotProceedHolder", "org.omg.CosNaming.NamingContextPackage", false),
-              })
-          .put(
-              "FULL_FLUSH",
-              new Import[] {
-                new Import("FULL_FLUSH", "java.util.zip.Deflater", true),
-              })
-          .put(
-              "StringMonitor",
-              new Import[] {
-                new Import("StringMonitor", "javax.management.monitor", false),
-              })
-          .put(
-              "Applet",
-              new Import[] {
-                new Import("Applet", "java.applet", false),
-              })
-          .put(
-              "getByAddress",
-              new Import[] {
-                new Import("getByAddress", "java.net.Inet6Address", true),
-                new Import("getByAddress", "java.net.InetAddress", true),
-              })
-          .put(
-              "TEXT_PANE",
-              new Import[] {
-                new Import("TEXT_PANE", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "HttpsURLConnection",
-              new Import[] {
-                new Import("HttpsURLConnection", "javax.net.ssl", false),
-              })
-          .put(
-              "ProcessingInstruction",
-              new Import[] {
-                new Import("ProcessingInstruction", "javax.xml.stream.events", false),
-                new Import("ProcessingInstruction", "org.w3c.dom", false),
-              })
-          .put(
-              "comparingByKey",
-              new Import[] {
-                new Import("comparingByKey", "java.util.Map.Entry", true),
-              })
-          .put(
-              "getBlocker",
-              new Import[] {
-                new Import("getBlocker", "java.util.concurrent.locks.LockSupport", true),
-              })
-          .put(
-              "LARGE_ICON_KEY",
-              new Import[] {
-                new Import("LARGE_ICON_KEY", "javax.swing.Action", true),
-              })
-          .put(
-              "OPC_NEAR_EOL",
-              new Import[] {
-                new Import(
-                    "OPC_NEAR_EOL", "javax.print.attribute.standard.PrinterStateReason", true),
-              })
-          .put(
-              "NAME_NOT_MN",
-              new Import[] {
-                new Import("NAME_NOT_MN", "org.ietf.jgss.GSSException", true),
-              })
-          .put(
-              "DoubleAccumulator",
-              new Import[] {
-                new Import("DoubleAccumulator", "java.util.concurrent.atomic", false),
-              })
-          .put(
-              "getInstanceOf",
-              new Import[] {
-                new Import("getInstanceOf", "java.beans.Beans", true),
-              })
-          .put(
-              "KEY_ACTION",
-              new Import[] {
-                new Import("KEY_ACTION", "java.awt.Event", true),
-              })
-          .put(
-              "SHIFT_MASK",
-              new Import[] {
-                new Import("SHIFT_MASK", "java.awt.Event", true),
-                new Import("SHIFT_MASK", "java.awt.event.ActionEvent", true),
-                new Import("SHIFT_MASK", "java.awt.event.InputEvent", true),
-              })
-          .put(
-              "MetalScrollPaneUI",
-              new Import[] {
-                new Import("MetalScrollPaneUI", "javax.swing.plaf.metal", false),
-              })
-          .put(
-              "StackTraceElement",
-              new Import[] {
-                new Import("StackTraceElement", "java.lang", false),
-              })
-          .put(
-              "FEBRUARY",
-              new Import[] {
-                new Import("FEBRUARY", "java.util.Calendar", true),
-                new Import("FEBRUARY", "javax.xml.datatype.DatatypeConstants", true),
-              })
-          .put(
-              "NamespaceSupport",
-              new Import[] {
-                new Import("NamespaceSupport", "org.xml.sax.helpers", false),
-              })
-          .put(
-              "EventSetDescriptor",
-              new Import[] {
-                new Import("EventSetDescriptor", "java.beans", false),
-              })
-          .put(
-              "BACKINGSTORE_SCROLL_MODE",
-              new Import[] {
-                new Import("BACKINGSTORE_SCROLL_MODE", "javax.swing.JViewport", true),
-              })
-          .put(
-              "MimeType",
-              new Import[] {
-                new Import("MimeType", "javax.activation", false),
-              })
-          .put(
-              "MenuDragMouseEvent",
-              new Import[] {
-                new Import("MenuDragMouseEvent", "javax.swing.event", false),
-              })
-          .put(
-              "XPathFactory",
-              new Import[] {
-                new Import("XPathFactory", "javax.xml.xpath", false),
-              })
-          .put(
-              "tk_except",
-              new Import[] {
-                new Import("tk_except", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "Executor",
-              new Import[] {
-                new Import("Executor", "java.util.concurrent", false),
-              })
-          .put(
-              "StringWriter",
-              new Import[] {
-                new Import("StringWriter", "java.io", false),
-              })
-          .put(
-              "ForkJoinWorkerThread",
-              new Import[] {
-                new Import("ForkJoinWorkerThread", "java.util.concurrent", false),
-              })
-          .put(
-              "BIGINTEGER",
-              new Import[] {
-                new Import("BIGINTEGER", "javax.management.openmbean.SimpleType", true),
-              })
-          .put(
-              "RefreshFailedException",
-              new Import[] {
-                new Import("RefreshFailedException", "javax.security.auth", false),
-              })
-          .put(
-              "TAG_LTSH",
-              new Import[] {
-                new Import("TAG_LTSH", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "N_RESIZE_CURSOR",
-              new Import[] {
-                new Import("N_RESIZE_CURSOR", "java.awt.Cursor", true),
-                new Import("N_RESIZE_CURSOR", "java.awt.Frame", true),
-              })
-          .put(
-              "firstDayOfNextMonth",
-              new Import[] {
-                new Import("firstDayOfNextMonth", "java.time.temporal.TemporalAdjusters", true),
-              })
-          .put(
-              "SSLSession",
-              new Import[] {
-                new Import("SSLSession", "javax.net.ssl", false),
-              })
-          .put(
-              "selectionUpAction",
-              new Import[] {
-                new Import("selectionUpAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "globalHierarchyLock",
-              new Import[] {
-                new Import("globalHierarchyLock", "java.beans.beancontext.BeanContext", true),
-              })
-          .put(
-              "MimeTypeParameterList",
-              new Import[] {
-                new Import("MimeTypeParameterList", "javax.activation", false),
-              })
-          .put(
-              "BELOW_TOP",
-              new Import[] {
-                new Import("BELOW_TOP", "javax.swing.border.TitledBorder", true),
-              })
-          .put(
-              "getLayeredPaneAbove",
-              new Import[] {
-                new Import("getLayeredPaneAbove", "javax.swing.JLayeredPane", true),
-              })
-          .put(
-              "isTitleCase",
-              new Import[] {
-                new Import("isTitleCase", "java.lang.Character", true),
-              })
-          .put(
-              "MultiListUI",
-              new Import[] {
-                new Import("MultiListUI", "javax.swing.plaf.multi", false),
-              })
-          .put(
-              "ACTION_EVENT",
-              new Import[] {
-                new Import("ACTION_EVENT", "java.awt.Event", true),
-              })
-          .put(
-              "hasInitialContextFactoryBuilder",
-              new Import[] {
-                new Import(
-                    "hasInitialContextFactoryBuilder", "javax.naming.spi.NamingManager", true),
-              })
-          .put(
-              "ServerIdHelper",
-              new Import[] {
-                new Import("ServerIdHelper", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "GZIP",
-              new Import[] {
-                new Import("GZIP", "javax.print.attribute.standard.Compression", true),
-              })
-          .put(
-              "DynUnionOperations",
-              new Import[] {
-                new Import("DynUnionOperations", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "augmentList",
-              new Import[] {
-                new Import("augmentList", "javax.swing.text.TextAction", true),
-              })
-          .put(
-              "_PARAM_INOUT",
-              new Import[] {
-                new Import("_PARAM_INOUT", "org.omg.CORBA.ParameterMode", true),
-              })
-          .put(
-              "MediaTracker",
-              new Import[] {
-                new Import("MediaTracker", "java.awt", false),
-              })
-          .put(
-              "URI_NS_SOAP_1_2_ENVELOPE",
-              new Import[] {
-                new Import("URI_NS_SOAP_1_2_ENVELOPE", "javax.xml.soap.SOAPConstants", true),
-              })
-          .put(
-              "RMIServerImpl",
-              new Import[] {
-                new Import("RMIServerImpl", "javax.management.remote.rmi", false),
-              })
-          .put(
-              "getLog",
-              new Import[] {
-                new Import("getLog", "java.rmi.server.RemoteServer", true),
-              })
-          .put(
-              "WIDTH_REGULAR",
-              new Import[] {
-                new Import("WIDTH_REGULAR", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "RESET",
-              new Import[] {
-                new Import("RESET", "javax.swing.text.html.FormView", true),
-              })
-          .put(
-              "decode",
-              new Import[] {
-                new Import("decode", "java.awt.Color", true),
-                new Import("decode", "java.awt.Font", true),
-                new Import("decode", "java.lang.Byte", true),
-                new Import("decode", "java.lang.Integer", true),
-                new Import("decode", "java.lang.Long", true),
-                new Import("decode", "java.lang.Short", true),
-                new Import("decode", "java.net.URLDecoder", true),
-              })
-          .put(
-              "setPolicy",
-              new Import[] {
-                new Import("setPolicy", "java.security.Policy", true),
-                new Import("setPolicy", "javax.security.auth.Policy", true),
-              })
-          .put(
-              "AbstractSequentialList",
-              new Import[] {
-                new Import("AbstractSequentialList", "java.util", false),
-              })
-          .put(
-              "MAIN_CLASS",
-              new Import[] {
-                new Import("MAIN_CLASS", "java.util.jar.Attributes.Name", true),
-              })
-          .put(
-              "tk_objref",
-              new Import[] {
-                new Import("tk_objref", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "RoleInfo",
-              new Import[] {
-                new Import("RoleInfo", "javax.management.relation", false),
-              })
-          .put(
-              "IntHolder",
-              new Import[] {
-                new Import("IntHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "TAG_HHEA",
-              new Import[] {
-                new Import("TAG_HHEA", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "RSAPrivateCrtKeySpec",
-              new Import[] {
-                new Import("RSAPrivateCrtKeySpec", "java.security.spec", false),
-              })
-          .put(
-              "BasicViewportUI",
-              new Import[] {
-                new Import("BasicViewportUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "toLowerCase",
-              new Import[] {
-                new Import("toLowerCase", "java.lang.Character", true),
-              })
-          .put(
-              "ConnectionPendingException",
-              new Import[] {
-                new Import("ConnectionPendingException", "java.nio.channels", false),
-              })
-          .put(
-              "STAPLE",
-              new Import[] {
-                new Import("STAPLE", "javax.print.attribute.standard.Finishings", true),
-              })
-          .put(
-              "KEY_RENDERING",
-              new Import[] {
-                new Import("KEY_RENDERING", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "ISO_DATE_TIME",
-              new Import[] {
-                new Import("ISO_DATE_TIME", "java.time.format.DateTimeFormatter", true),
-              })
-          .put(
-              "KeyPairGeneratorSpi",
-              new Import[] {
-                new Import("KeyPairGeneratorSpi", "java.security", false),
-              })
-          .put(
-              "NAMESPACE_ERR",
-              new Import[] {
-                new Import("NAMESPACE_ERR", "org.w3c.dom.DOMException", true),
-              })
-          .put(
-              "getImageWritersByMIMEType",
-              new Import[] {
-                new Import("getImageWritersByMIMEType", "javax.imageio.ImageIO", true),
-              })
-          .put(
-              "NameDynAnyPairSeqHelper",
-              new Import[] {
-                new Import("NameDynAnyPairSeqHelper", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "COMBINING_HALF_MARKS",
-              new Import[] {
-                new Import("COMBINING_HALF_MARKS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "LoggingMXBean",
-              new Import[] {
-                new Import("LoggingMXBean", "java.util.logging", false),
-              })
-          .put(
-              "_dk_Attribute",
-              new Import[] {
-                new Import("_dk_Attribute", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "RectangularShape",
-              new Import[] {
-                new Import("RectangularShape", "java.awt.geom", false),
-              })
-          .put(
-              "SourceDataLine",
-              new Import[] {
-                new Import("SourceDataLine", "javax.sound.sampled", false),
-              })
-          .put(
-              "ActivationGroup_Stub",
-              new Import[] {
-                new Import("ActivationGroup_Stub", "java.rmi.activation", false),
-              })
-          .put(
-              "ParagraphConstants",
-              new Import[] {
-                new Import("ParagraphConstants", "javax.swing.text.StyleConstants", false),
-              })
-          .put(
-              "SynthToggleButtonUI",
-              new Import[] {
-                new Import("SynthToggleButtonUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "NO_IMPLEMENT",
-              new Import[] {
-                new Import("NO_IMPLEMENT", "org.omg.CORBA", false),
-              })
-          .put(
-              "BOTTOM_ALIGNMENT",
-              new Import[] {
-                new Import("BOTTOM_ALIGNMENT", "java.awt.Component", true),
-                new Import("BOTTOM_ALIGNMENT", "java.awt.font.GraphicAttribute", true),
-              })
-          .put(
-              "WINDOW_BORDER",
-              new Import[] {
-                new Import("WINDOW_BORDER", "java.awt.SystemColor", true),
-              })
-          .put(
-              "WEEK_BASED_YEAR",
-              new Import[] {
-                new Import("WEEK_BASED_YEAR", "java.time.temporal.IsoFields", true),
-              })
-          .put(
-              "ReentrantReadWriteLock",
-              new Import[] {
-                new Import("ReentrantReadWriteLock", "java.util.concurrent.locks", false),
-              })
-          .put(
-              "KBD",
-              new Import[] {
-                new Import("KBD", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "tk_wstring",
-              new Import[] {
-                new Import("tk_wstring", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "Notation",
-              new Import[] {
-                new Import("Notation", "org.w3c.dom", false),
-              })
-          .put(
-              "AttributedString",
-              new Import[] {
-                new Import("AttributedString", "java.text", false),
-              })
-          .put(
-              "EndDocument",
-              new Import[] {
-                new Import("EndDocument", "javax.xml.stream.events", false),
-              })
-          .put(
-              "TAG_ACNT",
-              new Import[] {
-                new Import("TAG_ACNT", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "toCollection",
-              new Import[] {
-                new Import("toCollection", "java.util.stream.Collectors", true),
-              })
-          .put(
-              "AVESTAN",
-              new Import[] {
-                new Import("AVESTAN", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "TAG_GVAR",
-              new Import[] {
-                new Import("TAG_GVAR", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "TOBOTTOM_TORIGHT",
-              new Import[] {
-                new Import(
-                    "TOBOTTOM_TORIGHT",
-                    "javax.print.attribute.standard.PresentationDirection",
-                    true),
-              })
-          .put(
-              "floor",
-              new Import[] {
-                new Import("floor", "java.lang.Math", true),
-                new Import("floor", "java.lang.StrictMath", true),
-              })
-          .put(
-              "VM_NONE",
-              new Import[] {
-                new Import("VM_NONE", "org.omg.CORBA", false),
-              })
-          .put(
-              "KeyFactory",
-              new Import[] {
-                new Import("KeyFactory", "java.security", false),
-              })
-          .put(
-              "INACTIVE_CAPTION_TEXT",
-              new Import[] {
-                new Import("INACTIVE_CAPTION_TEXT", "java.awt.SystemColor", true),
-              })
-          .put(
-              "ToolBarBorder",
-              new Import[] {
-                new Import("ToolBarBorder", "javax.swing.plaf.metal.MetalBorders", false),
-              })
-          .put(
-              "AtomicIntegerArray",
-              new Import[] {
-                new Import("AtomicIntegerArray", "java.util.concurrent.atomic", false),
-              })
-          .put(
-              "VALUE_TEXT_ANTIALIAS_GASP",
-              new Import[] {
-                new Import("VALUE_TEXT_ANTIALIAS_GASP", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "SAMARITAN",
-              new Import[] {
-                new Import("SAMARITAN", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "getColor",
-              new Import[] {
-                new Import("getColor", "java.awt.Color", true),
-                new Import("getColor", "javax.swing.UIManager", true),
-              })
-          .put(
-              "SortOrder",
-              new Import[] {
-                new Import("SortOrder", "javax.swing", false),
-              })
-          .put(
-              "Point",
-              new Import[] {
-                new Import("Point", "java.awt", false),
-              })
-          .put(
-              "KeySelectorResult",
-              new Import[] {
-                new Import("KeySelectorResult", "javax.xml.crypto", false),
-              })
-          .put(
-              "VALUE_INTERPOLATION_BILINEAR",
-              new Import[] {
-                new Import("VALUE_INTERPOLATION_BILINEAR", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "StandardCopyOption",
-              new Import[] {
-                new Import("StandardCopyOption", "java.nio.file", false),
-              })
-          .put(
-              "PasteAction",
-              new Import[] {
-                new Import("PasteAction", "javax.swing.text.DefaultEditorKit", false),
-              })
-          .put(
-              "SAXSource",
-              new Import[] {
-                new Import("SAXSource", "javax.xml.transform.sax", false),
-              })
-          .put(
-              "END_OF_EXCLUSIVE",
-              new Import[] {
-                new Import("END_OF_EXCLUSIVE", "javax.sound.midi.ShortMessage", true),
-              })
-          .put(
-              "ofLocalizedTime",
-              new Import[] {
-                new Import("ofLocalizedTime", "java.time.format.DateTimeFormatter", true),
-              })
-          .put(
-              "WARNING_MESSAGE",
-              new Import[] {
-                new Import("WARNING_MESSAGE", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "ExtendedRequest",
-              new Import[] {
-                new Import("ExtendedRequest", "javax.naming.ldap", false),
-              })
-          .put(
-              "AnnotationValue",
-              new Import[] {
-                new Import("AnnotationValue", "javax.lang.model.element", false),
-              })
-          .put(
-              "UNKNOWN",
-              new Import[] {
-                new Import("UNKNOWN", "java.awt.ComponentOrientation", true),
-                new Import("UNKNOWN", "javax.accessibility.AccessibleRole", true),
-                new Import("UNKNOWN", "javax.management.MBeanOperationInfo", true),
-                new Import("UNKNOWN", "javax.print.attribute.standard.JobState", true),
-                new Import("UNKNOWN", "javax.print.attribute.standard.PrinterState", true),
-                new Import("UNKNOWN", "org.omg.CORBA", false),
-                new Import("UNKNOWN", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "BidiElementName",
-              new Import[] {
-                new Import("BidiElementName", "javax.swing.text.AbstractDocument", true),
-              })
-          .build();
-}
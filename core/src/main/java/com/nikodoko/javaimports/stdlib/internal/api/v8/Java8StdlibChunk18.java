@@ -1,1608 +0,0 @@
-// Code generated by GenerateStdlib.java. DO NOT EDIT.
-package com.nikodoko.javaimports.stdlib.internal.api.v8;
-
-import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
-import java.util.Map;
-
-public class Java8StdlibChunk18 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
-          .put(
-              "setUnderline",
-              new Import[] {
-                new Import("setUnderline", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "StandardLocation",
-              new Import[] {
-                new Import("StandardLocation", "javax.tools", false),
-              })
-          .put(
-              "ENVELOPED",
-              new Import[] {
-                new Import("ENVELOPED", "javax.xml.crypto.dsig.Transform", true),
-              })
-          .put(
-              "BooleanSeqHelper",
-              new Import[] {
-                new Import("BooleanSeqHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "newJMXConnector",
-              new Import[] {
-                new Import("newJMXConnector", "javax.management.remote.JMXConnectorFactory", true),
-              })
-          .put(
-              "OutputStream",
-              new Import[] {
-                new Import("OutputStream", "java.io", false),
-                new Import("OutputStream", "org.omg.CORBA.portable", false),
-                new Import("OutputStream", "org.omg.CORBA_2_3.portable", false),
-              })
-          .put(
-              "CLOSE",
-              new Import[] {
-                new Import("CLOSE", "javax.sound.sampled.LineEvent.Type", true),
-              })
-          .put(
-              "NamingContextExtHelper",
-              new Import[] {
-                new Import("NamingContextExtHelper", "org.omg.CosNaming", false),
-              })
-          .put(
-              "tk_native",
-              new Import[] {
-                new Import("tk_native", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "DefaultMetalTheme",
-              new Import[] {
-                new Import("DefaultMetalTheme", "javax.swing.plaf.metal", false),
-              })
-          .put(
-              "_NamingContextImplBase",
-              new Import[] {
-                new Import("_NamingContextImplBase", "org.omg.CosNaming", false),
-              })
-          .put(
-              "KANBUN",
-              new Import[] {
-                new Import("KANBUN", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "MONTHS",
-              new Import[] {
-                new Import("MONTHS", "javax.xml.datatype.DatatypeConstants", true),
-              })
-          .put(
-              "UserPrincipalNotFoundException",
-              new Import[] {
-                new Import("UserPrincipalNotFoundException", "java.nio.file.attribute", false),
-              })
-          .put(
-              "StringBufferInputStream",
-              new Import[] {
-                new Import("StringBufferInputStream", "java.io", false),
-              })
-          .put(
-              "INTERNAL",
-              new Import[] {
-                new Import("INTERNAL", "org.omg.CORBA", false),
-              })
-          .put(
-              "ACCESSIBLE_TABLE_MODEL_CHANGED",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_TABLE_MODEL_CHANGED",
-                    "javax.accessibility.AccessibleContext",
-                    true),
-              })
-          .put(
-              "ICC_Profile",
-              new Import[] {
-                new Import("ICC_Profile", "java.awt.color", false),
-              })
-          .put(
-              "PERSONAL_ENVELOPE",
-              new Import[] {
-                new Import("PERSONAL_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-                new Import(
-                    "PERSONAL_ENVELOPE", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import(
-                    "PERSONAL_ENVELOPE", "javax.print.attribute.standard.MediaSize.Other", true),
-              })
-          .put(
-              "DateTimeFormatterBuilder",
-              new Import[] {
-                new Import("DateTimeFormatterBuilder", "java.time.format", false),
-              })
-          .put(
-              "StubNotFoundException",
-              new Import[] {
-                new Import("StubNotFoundException", "java.rmi", false),
-              })
-          .put(
-              "MBeanServer",
-              new Import[] {
-                new Import("MBeanServer", "javax.management", false),
-              })
-          .put(
-              "height",
-              new Import[] {
-                new Import("height", "javax.swing.Spring", true),
-              })
-          .put(
-              "allocateDirect",
-              new Import[] {
-                new Import("allocateDirect", "java.nio.ByteBuffer", true),
-              })
-          .put(
-              "readFrom",
-              new Import[] {
-                new Import("readFrom", "javax.xml.ws.EndpointReference", true),
-              })
-          .put(
-              "checkedCollection",
-              new Import[] {
-                new Import("checkedCollection", "java.util.Collections", true),
-              })
-          .put(
-              "MEMORY_POOL_MXBEAN_DOMAIN_TYPE",
-              new Import[] {
-                new Import(
-                    "MEMORY_POOL_MXBEAN_DOMAIN_TYPE",
-                    "java.lang.management.ManagementFactory",
-                    true),
-              })
-          .put(
-              "NODE",
-              new Import[] {
-                new Import("NODE", "javax.xml.xpath.XPathConstants", true),
-              })
-          .put(
-              "paintComponent",
-              new Import[] {
-                new Import("paintComponent", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "getKeyStroke",
-              new Import[] {
-                new Import("getKeyStroke", "javax.swing.KeyStroke", true),
-              })
-          .put(
-              "INNER_JOIN",
-              new Import[] {
-                new Import("INNER_JOIN", "javax.sql.rowset.JoinRowSet", true),
-              })
-          .put(
-              "dk_ValueMember",
-              new Import[] {
-                new Import("dk_ValueMember", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "importedKeyInitiallyDeferred",
-              new Import[] {
-                new Import("importedKeyInitiallyDeferred", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "Parser",
-              new Import[] {
-                new Import("Parser", "javax.swing.text.html.HTMLEditorKit", false),
-                new Import("Parser", "javax.swing.text.html.parser", false),
-                new Import("Parser", "org.xml.sax", false),
-              })
-          .put(
-              "HOUR_OF_DAY1_FIELD",
-              new Import[] {
-                new Import("HOUR_OF_DAY1_FIELD", "java.text.DateFormat", true),
-              })
-          .put(
-              "AtomicBoolean",
-              new Import[] {
-                new Import("AtomicBoolean", "java.util.concurrent.atomic", false),
-              })
-          .put(
-              "ChoiceCallback",
-              new Import[] {
-                new Import("ChoiceCallback", "javax.security.auth.callback", false),
-              })
-          .put(
-              "ICON_COLOR_32x32",
-              new Import[] {
-                new Import("ICON_COLOR_32x32", "java.beans.BeanInfo", true),
-              })
-          .put(
-              "AffineTransform",
-              new Import[] {
-                new Import("AffineTransform", "java.awt.geom", false),
-              })
-          .put(
-              "Key",
-              new Import[] {
-                new Import("Key", "java.awt.RenderingHints", false),
-                new Import("Key", "java.security", false),
-              })
-          .put(
-              "PasswordProtection",
-              new Import[] {
-                new Import("PasswordProtection", "java.security.KeyStore", false),
-              })
-          .put(
-              "PagedResultsControl",
-              new Import[] {
-                new Import("PagedResultsControl", "javax.naming.ldap", false),
-              })
-          .put(
-              "MOUSE_EVENT_MASK",
-              new Import[] {
-                new Import("MOUSE_EVENT_MASK", "java.awt.AWTEvent", true),
-              })
-          .put(
-              "CutAction",
-              new Import[] {
-                new Import("CutAction", "javax.swing.text.DefaultEditorKit", false),
-              })
-          .put(
-              "IPA_EXTENSIONS",
-              new Import[] {
-                new Import("IPA_EXTENSIONS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "DynSequenceHelper",
-              new Import[] {
-                new Import("DynSequenceHelper", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "PathIterator",
-              new Import[] {
-                new Import("PathIterator", "java.awt.geom", false),
-              })
-          .put(
-              "JOB_HOLD_UNTIL_SPECIFIED",
-              new Import[] {
-                new Import(
-                    "JOB_HOLD_UNTIL_SPECIFIED",
-                    "javax.print.attribute.standard.JobStateReason",
-                    true),
-              })
-          .put(
-              "PARAGRAPH_SEPARATOR",
-              new Import[] {
-                new Import("PARAGRAPH_SEPARATOR", "java.lang.Character", true),
-              })
-          .put(
-              "EventHandler",
-              new Import[] {
-                new Import("EventHandler", "java.beans", false),
-              })
-          .put(
-              "isPrivate",
-              new Import[] {
-                new Import("isPrivate", "java.lang.reflect.Modifier", true),
-              })
-          .put(
-              "Logger",
-              new Import[] {
-                new Import("Logger", "java.util.logging", false),
-              })
-          .put(
-              "Elements",
-              new Import[] {
-                new Import("Elements", "javax.lang.model.util", false),
-              })
-          .put(
-              "min",
-              new Import[] {
-                new Import("min", "java.lang.Double", true),
-                new Import("min", "java.lang.Float", true),
-                new Import("min", "java.lang.Integer", true),
-                new Import("min", "java.lang.Long", true),
-                new Import("min", "java.lang.Math", true),
-                new Import("min", "java.lang.StrictMath", true),
-                new Import("min", "java.util.Collections", true),
-              })
-          .put(
-              "PRIVATE_USE_EXTENSION",
-              new Import[] {
-                new Import("PRIVATE_USE_EXTENSION", "java.util.Locale", true),
-              })
-          .put(
-              "arraycopy",
-              new Import[] {
-                new Import("arraycopy", "java.lang.System", true),
-              })
-          .put(
-              "BLOCK_ELEMENTS",
-              new Import[] {
-                new Import("BLOCK_ELEMENTS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "HMAC_SHA1",
-              new Import[] {
-                new Import("HMAC_SHA1", "javax.xml.crypto.dsig.SignatureMethod", true),
-              })
-          .put(
-              "getBoolean",
-              new Import[] {
-                new Import("getBoolean", "java.lang.Boolean", true),
-                new Import("getBoolean", "java.lang.reflect.Array", true),
-                new Import("getBoolean", "javax.swing.UIManager", true),
-              })
-          .put(
-              "icSigDeviceModelDescTag",
-              new Import[] {
-                new Import("icSigDeviceModelDescTag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "DECIMAL32",
-              new Import[] {
-                new Import("DECIMAL32", "java.math.MathContext", true),
-              })
-          .put(
-              "getPreferredButtonSize",
-              new Import[] {
-                new Import(
-                    "getPreferredButtonSize", "javax.swing.plaf.basic.BasicGraphicsUtils", true),
-              })
-          .put(
-              "SOAPConnectionFactory",
-              new Import[] {
-                new Import("SOAPConnectionFactory", "javax.xml.soap", false),
-              })
-          .put(
-              "VK_KANA",
-              new Import[] {
-                new Import("VK_KANA", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "LARGE_CAPACITY",
-              new Import[] {
-                new Import("LARGE_CAPACITY", "javax.print.attribute.standard.MediaTray", true),
-              })
-          .put(
-              "getMenuSelectedForeground",
-              new Import[] {
-                new Import(
-                    "getMenuSelectedForeground", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "Calendar",
-              new Import[] {
-                new Import("Calendar", "java.util", false),
-              })
-          .put(
-              "TYPE_USHORT_GRAY",
-              new Import[] {
-                new Import("TYPE_USHORT_GRAY", "java.awt.image.BufferedImage", true),
-              })
-          .put(
-              "emptySpliterator",
-              new Import[] {
-                new Import("emptySpliterator", "java.util.Spliterators", true),
-              })
-          .put(
-              "UNDERLINE_LOW_DOTTED",
-              new Import[] {
-                new Import("UNDERLINE_LOW_DOTTED", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "UP_CYCLE_TRAVERSAL_KEYS",
-              new Import[] {
-                new Import("UP_CYCLE_TRAVERSAL_KEYS", "java.awt.KeyboardFocusManager", true),
-              })
-          .put(
-              "DoubleSummaryStatistics",
-              new Import[] {
-                new Import("DoubleSummaryStatistics", "java.util", false),
-              })
-          .put(
-              "InsertContentAction",
-              new Import[] {
-                new Import("InsertContentAction", "javax.swing.text.DefaultEditorKit", false),
-              })
-          .put(
-              "Observable",
-              new Import[] {
-                new Import("Observable", "java.util", false),
-              })
-          .put(
-              "icSigScreeningTag",
-              new Import[] {
-                new Import("icSigScreeningTag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "BEFORE_LINE_BEGINS",
-              new Import[] {
-                new Import("BEFORE_LINE_BEGINS", "java.awt.BorderLayout", true),
-              })
-          .put(
-              "QUERY_STRING",
-              new Import[] {
-                new Import("QUERY_STRING", "javax.xml.ws.handler.MessageContext", true),
-              })
-          .put(
-              "functionReturnsTable",
-              new Import[] {
-                new Import("functionReturnsTable", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "SUBMIT",
-              new Import[] {
-                new Import("SUBMIT", "javax.swing.text.html.FormView", true),
-              })
-          .put(
-              "JEditorPane",
-              new Import[] {
-                new Import("JEditorPane", "javax.swing", false),
-              })
-          .put(
-              "XmlElement",
-              new Import[] {
-                new Import("XmlElement", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "open",
-              new Import[] {
-                new Import("open", "java.nio.channels.AsynchronousFileChannel", true),
-                new Import("open", "java.nio.channels.AsynchronousServerSocketChannel", true),
-                new Import("open", "java.nio.channels.AsynchronousSocketChannel", true),
-                new Import("open", "java.nio.channels.DatagramChannel", true),
-                new Import("open", "java.nio.channels.FileChannel", true),
-                new Import("open", "java.nio.channels.Pipe", true),
-                new Import("open", "java.nio.channels.Selector", true),
-                new Import("open", "java.nio.channels.ServerSocketChannel", true),
-                new Import("open", "java.nio.channels.SocketChannel", true),
-              })
-          .put(
-              "OP_ACCEPT",
-              new Import[] {
-                new Import("OP_ACCEPT", "java.nio.channels.SelectionKey", true),
-              })
-          .put(
-              "XPathExpression",
-              new Import[] {
-                new Import("XPathExpression", "javax.xml.xpath", false),
-              })
-          .put(
-              "ResponseHandler",
-              new Import[] {
-                new Import("ResponseHandler", "org.omg.CORBA.portable", false),
-              })
-          .put(
-              "AlgorithmParametersSpi",
-              new Import[] {
-                new Import("AlgorithmParametersSpi", "java.security", false),
-              })
-          .put(
-              "filterArguments",
-              new Import[] {
-                new Import("filterArguments", "java.lang.invoke.MethodHandles", true),
-              })
-          .put(
-              "chronology",
-              new Import[] {
-                new Import("chronology", "java.time.temporal.TemporalQueries", true),
-              })
-          .put(
-              "MouseWheelListener",
-              new Import[] {
-                new Import("MouseWheelListener", "java.awt.event", false),
-              })
-          .put(
-              "Process",
-              new Import[] {
-                new Import("Process", "java.lang", false),
-              })
-          .put(
-              "VK_DEAD_ABOVEDOT",
-              new Import[] {
-                new Import("VK_DEAD_ABOVEDOT", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "StreamFilter",
-              new Import[] {
-                new Import("StreamFilter", "javax.xml.stream", false),
-              })
-          .put(
-              "isSpace",
-              new Import[] {
-                new Import("isSpace", "java.lang.Character", true),
-              })
-          .put(
-              "SslRMIClientSocketFactory",
-              new Import[] {
-                new Import("SslRMIClientSocketFactory", "javax.rmi.ssl", false),
-              })
-          .put(
-              "ThreadDeath",
-              new Import[] {
-                new Import("ThreadDeath", "java.lang", false),
-              })
-          .put(
-              "ORDERED",
-              new Import[] {
-                new Import("ORDERED", "java.util.Spliterator", true),
-              })
-          .put(
-              "TIMED_OUT",
-              new Import[] {
-                new Import("TIMED_OUT", "javax.print.attribute.standard.PrinterStateReason", true),
-              })
-          .put(
-              "UNIT_INCREMENT",
-              new Import[] {
-                new Import("UNIT_INCREMENT", "java.awt.event.AdjustmentEvent", true),
-              })
-          .put(
-              "WEEK_OF_YEAR_FIELD",
-              new Import[] {
-                new Import("WEEK_OF_YEAR_FIELD", "java.text.DateFormat", true),
-              })
-          .put(
-              "BadBreakWeight",
-              new Import[] {
-                new Import("BadBreakWeight", "javax.swing.text.View", true),
-              })
-          .put(
-              "dk_Array",
-              new Import[] {
-                new Import("dk_Array", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "PrivateMLet",
-              new Import[] {
-                new Import("PrivateMLet", "javax.management.loading", false),
-              })
-          .put(
-              "Polygon",
-              new Import[] {
-                new Import("Polygon", "java.awt", false),
-              })
-          .put(
-              "AbstractAction",
-              new Import[] {
-                new Import("AbstractAction", "javax.swing", false),
-              })
-          .put(
-              "DECIMAL64",
-              new Import[] {
-                new Import("DECIMAL64", "java.math.MathContext", true),
-              })
-          .put(
-              "HANGUL_SYLLABLES",
-              new Import[] {
-                new Import("HANGUL_SYLLABLES", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "TMFAIL",
-              new Import[] {
-                new Import("TMFAIL", "javax.transaction.xa.XAResource", true),
-              })
-          .put(
-              "StandardCharsets",
-              new Import[] {
-                new Import("StandardCharsets", "java.nio.charset", false),
-              })
-          .put(
-              "standardMetadataFormatName",
-              new Import[] {
-                new Import(
-                    "standardMetadataFormatName",
-                    "javax.imageio.metadata.IIOMetadataFormatImpl",
-                    true),
-              })
-          .put(
-              "FontUIResource",
-              new Import[] {
-                new Import("FontUIResource", "javax.swing.plaf", false),
-              })
-          .put(
-              "VK_HALF_WIDTH",
-              new Import[] {
-                new Import("VK_HALF_WIDTH", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "printHexBinary",
-              new Import[] {
-                new Import("printHexBinary", "javax.xml.bind.DatatypeConverter", true),
-              })
-          .put(
-              "MidiDevice",
-              new Import[] {
-                new Import("MidiDevice", "javax.sound.midi", false),
-              })
-          .put(
-              "getSecurityManager",
-              new Import[] {
-                new Import("getSecurityManager", "java.lang.System", true),
-              })
-          .put(
-              "ImageReaderWriterSpi",
-              new Import[] {
-                new Import("ImageReaderWriterSpi", "javax.imageio.spi", false),
-              })
-          .put(
-              "AnnotatedType",
-              new Import[] {
-                new Import("AnnotatedType", "java.lang.reflect", false),
-              })
-          .put(
-              "GrayFilter",
-              new Import[] {
-                new Import("GrayFilter", "javax.swing", false),
-              })
-          .put(
-              "HTTP_MULT_CHOICE",
-              new Import[] {
-                new Import("HTTP_MULT_CHOICE", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "NameCallback",
-              new Import[] {
-                new Import("NameCallback", "javax.security.auth.callback", false),
-              })
-          .put(
-              "StringHolder",
-              new Import[] {
-                new Import("StringHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "ProcessBuilder",
-              new Import[] {
-                new Import("ProcessBuilder", "java.lang", false),
-              })
-          .put(
-              "icSigViewingCondDescTag",
-              new Import[] {
-                new Import("icSigViewingCondDescTag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "VK_CONVERT",
-              new Import[] {
-                new Import("VK_CONVERT", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "setByte",
-              new Import[] {
-                new Import("setByte", "java.lang.reflect.Array", true),
-              })
-          .put(
-              "ERROR_MESSAGE",
-              new Import[] {
-                new Import("ERROR_MESSAGE", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "PaletteCloseIcon",
-              new Import[] {
-                new Import("PaletteCloseIcon", "javax.swing.plaf.metal.MetalIconFactory", false),
-              })
-          .put(
-              "binarySearch",
-              new Import[] {
-                new Import("binarySearch", "java.util.Arrays", true),
-                new Import("binarySearch", "java.util.Collections", true),
-              })
-          .put(
-              "getStandardFormatInstance",
-              new Import[] {
-                new Import(
-                    "getStandardFormatInstance",
-                    "javax.imageio.metadata.IIOMetadataFormatImpl",
-                    true),
-              })
-          .put(
-              "ZoneOffset",
-              new Import[] {
-                new Import("ZoneOffset", "java.time", false),
-              })
-          .put(
-              "Control",
-              new Import[] {
-                new Import("Control", "java.util.ResourceBundle", false),
-                new Import("Control", "javax.naming.ldap", false),
-                new Import("Control", "javax.sound.sampled", false),
-              })
-          .put(
-              "MetalComboBoxEditor",
-              new Import[] {
-                new Import("MetalComboBoxEditor", "javax.swing.plaf.metal", false),
-              })
-          .put(
-              "isAlphabetic",
-              new Import[] {
-                new Import("isAlphabetic", "java.lang.Character", true),
-              })
-          .put(
-              "SO_RCVBUF",
-              new Import[] {
-                new Import("SO_RCVBUF", "java.net.SocketOptions", true),
-                new Import("SO_RCVBUF", "java.net.StandardSocketOptions", true),
-              })
-          .put(
-              "ChronoLocalDateTime",
-              new Import[] {
-                new Import("ChronoLocalDateTime", "java.time.chrono", false),
-              })
-          .put(
-              "Console",
-              new Import[] {
-                new Import("Console", "java.io", false),
-              })
-          .put(
-              "Iterator",
-              new Import[] {
-                new Import("Iterator", "java.util", false),
-                new Import("Iterator", "javax.swing.text.html.HTMLDocument", false),
-              })
-          .put(
-              "PAGE_TAB_LIST",
-              new Import[] {
-                new Import("PAGE_TAB_LIST", "javax.accessibility.AccessibleRole", true),
-              })
-          .put(
-              "HIERARCHY_LAST",
-              new Import[] {
-                new Import("HIERARCHY_LAST", "java.awt.event.HierarchyEvent", true),
-              })
-          .put(
-              "GOTHIC",
-              new Import[] {
-                new Import("GOTHIC", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "TEXT_FIELD",
-              new Import[] {
-                new Import("TEXT_FIELD", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "importPreferences",
-              new Import[] {
-                new Import("importPreferences", "java.util.prefs.Preferences", true),
-              })
-          .put(
-              "padSpaceBetweenStrings",
-              new Import[] {
-                new Import("padSpaceBetweenStrings", "javax.swing.plaf.metal.MetalToolTipUI", true),
-              })
-          .put(
-              "ABOUT_UIROLE",
-              new Import[] {
-                new Import("ABOUT_UIROLE", "javax.print.ServiceUIFactory", true),
-              })
-          .put(
-              "DestroyFailedException",
-              new Import[] {
-                new Import("DestroyFailedException", "javax.security.auth", false),
-              })
-          .put(
-              "CharsetDecoder",
-              new Import[] {
-                new Import("CharsetDecoder", "java.nio.charset", false),
-              })
-          .put(
-              "MediaSize",
-              new Import[] {
-                new Import("MediaSize", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "nextDown",
-              new Import[] {
-                new Import("nextDown", "java.lang.Math", true),
-                new Import("nextDown", "java.lang.StrictMath", true),
-              })
-          .put(
-              "SCALE_SMOOTH",
-              new Import[] {
-                new Import("SCALE_SMOOTH", "java.awt.Image", true),
-              })
-          .put(
-              "COLS",
-              new Import[] {
-                new Import("COLS", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "RMICustomMaxStreamFormat",
-              new Import[] {
-                new Import("RMICustomMaxStreamFormat", "org.omg.IOP", false),
-              })
-          .put(
-              "getTargetLineInfo",
-              new Import[] {
-                new Import("getTargetLineInfo", "javax.sound.sampled.AudioSystem", true),
-              })
-          .put(
-              "InvalidRoleInfoException",
-              new Import[] {
-                new Import("InvalidRoleInfoException", "javax.management.relation", false),
-              })
-          .put(
-              "CONTROLLER_FOR_PROPERTY",
-              new Import[] {
-                new Import(
-                    "CONTROLLER_FOR_PROPERTY", "javax.accessibility.AccessibleRelation", true),
-              })
-          .put(
-              "AIFF",
-              new Import[] {
-                new Import("AIFF", "javax.sound.sampled.AudioFileFormat.Type", true),
-              })
-          .put(
-              "WHEEL_UNIT_SCROLL",
-              new Import[] {
-                new Import("WHEEL_UNIT_SCROLL", "java.awt.event.MouseWheelEvent", true),
-              })
-          .put(
-              "ncontext",
-              new Import[] {
-                new Import("ncontext", "org.omg.CosNaming.BindingType", true),
-              })
-          .put(
-              "MenuItemBorder",
-              new Import[] {
-                new Import("MenuItemBorder", "javax.swing.plaf.metal.MetalBorders", false),
-              })
-          .put(
-              "AIFC",
-              new Import[] {
-                new Import("AIFC", "javax.sound.sampled.AudioFileFormat.Type", true),
-              })
-          .put(
-              "TIMEZONE_FIELD",
-              new Import[] {
-                new Import("TIMEZONE_FIELD", "java.text.DateFormat", true),
-              })
-          .put(
-              "PLAYING_CARDS",
-              new Import[] {
-                new Import("PLAYING_CARDS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "HIERARCHY_CHANGED",
-              new Import[] {
-                new Import("HIERARCHY_CHANGED", "java.awt.event.HierarchyEvent", true),
-              })
-          .put(
-              "HIGH_SURROGATES",
-              new Import[] {
-                new Import("HIGH_SURROGATES", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "INPUT_STREAM",
-              new Import[] {
-                new Import("INPUT_STREAM", "javax.print.DocFlavor", false),
-              })
-          .put(
-              "SERVLET_REQUEST",
-              new Import[] {
-                new Import("SERVLET_REQUEST", "javax.xml.ws.handler.MessageContext", true),
-              })
-          .put(
-              "Security",
-              new Import[] {
-                new Import("Security", "java.security", false),
-              })
-          .put(
-              "PARENT_WINDOW_OF",
-              new Import[] {
-                new Import("PARENT_WINDOW_OF", "javax.accessibility.AccessibleRelation", true),
-              })
-          .put(
-              "setDefaultFileTypeMap",
-              new Import[] {
-                new Import("setDefaultFileTypeMap", "javax.activation.FileTypeMap", true),
-              })
-          .put(
-              "getWordStart",
-              new Import[] {
-                new Import("getWordStart", "javax.swing.text.Utilities", true),
-              })
-          .put(
-              "RoleStatus",
-              new Import[] {
-                new Import("RoleStatus", "javax.management.relation", false),
-              })
-          .put(
-              "SQLInputImpl",
-              new Import[] {
-                new Import("SQLInputImpl", "javax.sql.rowset.serial", false),
-              })
-          .put(
-              "ConfigurationException",
-              new Import[] {
-                new Import("ConfigurationException", "javax.naming", false),
-              })
-          .put(
-              "AudioPermission",
-              new Import[] {
-                new Import("AudioPermission", "javax.sound.sampled", false),
-              })
-          .put(
-              "NONE",
-              new Import[] {
-                new Import("NONE", "java.awt.GridBagConstraints", true),
-                new Import("NONE", "java.awt.JobAttributes.DialogType", true),
-                new Import("NONE", "javax.print.attribute.standard.Compression", true),
-                new Import("NONE", "javax.print.attribute.standard.Finishings", true),
-                new Import("NONE", "javax.print.attribute.standard.JobSheets", true),
-                new Import("NONE", "javax.swing.JRootPane", true),
-                new Import("NONE", "javax.swing.TransferHandler", true),
-              })
-          .put(
-              "ofMinutes",
-              new Import[] {
-                new Import("ofMinutes", "java.time.Duration", true),
-              })
-          .put(
-              "getWindowTitleInactiveForeground",
-              new Import[] {
-                new Import(
-                    "getWindowTitleInactiveForeground",
-                    "javax.swing.plaf.metal.MetalLookAndFeel",
-                    true),
-              })
-          .put(
-              "SWAP_COLORS_ON",
-              new Import[] {
-                new Import("SWAP_COLORS_ON", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "VK_JAPANESE_KATAKANA",
-              new Import[] {
-                new Import("VK_JAPANESE_KATAKANA", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "ARABIC",
-              new Import[] {
-                new Import("ARABIC", "java.awt.font.NumericShaper", true),
-                new Import("ARABIC", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "TYPE_HLS",
-              new Import[] {
-                new Import("TYPE_HLS", "java.awt.color.ColorSpace", true),
-              })
-          .put(
-              "getFileSystem",
-              new Import[] {
-                new Import("getFileSystem", "java.nio.file.FileSystems", true),
-              })
-          .put(
-              "INTERNAL_FRAME_DEACTIVATED",
-              new Import[] {
-                new Import(
-                    "INTERNAL_FRAME_DEACTIVATED", "javax.swing.event.InternalFrameEvent", true),
-              })
-          .put(
-              "ServerRequestInterceptor",
-              new Import[] {
-                new Import("ServerRequestInterceptor", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "SQLNonTransientConnectionException",
-              new Import[] {
-                new Import("SQLNonTransientConnectionException", "java.sql", false),
-              })
-          .put(
-              "icHdrPcs",
-              new Import[] {
-                new Import("icHdrPcs", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "TrustManagerFactory",
-              new Import[] {
-                new Import("TrustManagerFactory", "javax.net.ssl", false),
-              })
-          .put(
-              "DateFormatSymbols",
-              new Import[] {
-                new Import("DateFormatSymbols", "java.text", false),
-              })
-          .put(
-              "DO_NOTHING_ON_CLOSE",
-              new Import[] {
-                new Import("DO_NOTHING_ON_CLOSE", "javax.swing.WindowConstants", true),
-              })
-          .put(
-              "PolicyOperations",
-              new Import[] {
-                new Import("PolicyOperations", "org.omg.CORBA", false),
-              })
-          .put(
-              "DIRECTIONALITY_LEFT_TO_RIGHT_OVERRIDE",
-              new Import[] {
-                new Import("DIRECTIONALITY_LEFT_TO_RIGHT_OVERRIDE", "java.lang.Character", true),
-              })
-          .put(
-              "PROTOCOL_PROVIDER_CLASS_LOADER",
-              new Import[] {
-                new Import(
-                    "PROTOCOL_PROVIDER_CLASS_LOADER",
-                    "javax.management.remote.JMXConnectorFactory",
-                    true),
-                new Import(
-                    "PROTOCOL_PROVIDER_CLASS_LOADER",
-                    "javax.management.remote.JMXConnectorServerFactory",
-                    true),
-              })
-          .put(
-              "MEDIA_JAM",
-              new Import[] {
-                new Import("MEDIA_JAM", "javax.print.attribute.standard.PrinterStateReason", true),
-              })
-          .put(
-              "COMMIT_OR_REVERT",
-              new Import[] {
-                new Import("COMMIT_OR_REVERT", "javax.swing.JFormattedTextField", true),
-              })
-          .put(
-              "getAccessibleStateSet",
-              new Import[] {
-                new Import("getAccessibleStateSet", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "parseAnySimpleType",
-              new Import[] {
-                new Import("parseAnySimpleType", "javax.xml.bind.DatatypeConverter", true),
-              })
-          .put(
-              "GridBagLayout",
-              new Import[] {
-                new Import("GridBagLayout", "java.awt", false),
-              })
-          .put(
-              "NOON",
-              new Import[] {
-                new Import("NOON", "java.time.LocalTime", true),
-              })
-          .put(
-              "TONER_EMPTY",
-              new Import[] {
-                new Import(
-                    "TONER_EMPTY", "javax.print.attribute.standard.PrinterStateReason", true),
-              })
-          .put(
-              "INITIALIZE",
-              new Import[] {
-                new Import("INITIALIZE", "org.omg.CORBA", false),
-              })
-          .put(
-              "FocusManager",
-              new Import[] {
-                new Import("FocusManager", "javax.swing", false),
-              })
-          .put(
-              "CellRendererPane",
-              new Import[] {
-                new Import("CellRendererPane", "javax.swing", false),
-              })
-          .put(
-              "FontAttribute",
-              new Import[] {
-                new Import("FontAttribute", "javax.swing.text.AttributeSet", false),
-              })
-          .put(
-              "BACKWARD_TRAVERSAL_KEYS",
-              new Import[] {
-                new Import("BACKWARD_TRAVERSAL_KEYS", "java.awt.KeyboardFocusManager", true),
-              })
-          .put(
-              "Addressing",
-              new Import[] {
-                new Import("Addressing", "javax.xml.ws.soap", false),
-              })
-          .put(
-              "SyncScopeHelper",
-              new Import[] {
-                new Import("SyncScopeHelper", "org.omg.Messaging", false),
-              })
-          .put(
-              "CREDENTIALS",
-              new Import[] {
-                new Import("CREDENTIALS", "javax.management.remote.JMXConnector", true),
-                new Import("CREDENTIALS", "javax.security.sasl.Sasl", true),
-              })
-          .put(
-              "computeUnion",
-              new Import[] {
-                new Import("computeUnion", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "GREENCOMPONENT",
-              new Import[] {
-                new Import("GREENCOMPONENT", "java.awt.color.ICC_ProfileRGB", true),
-              })
-          .put(
-              "WINDOW_OPENED",
-              new Import[] {
-                new Import("WINDOW_OPENED", "java.awt.event.WindowEvent", true),
-              })
-          .put(
-              "getPlatformMXBean",
-              new Import[] {
-                new Import("getPlatformMXBean", "java.lang.management.ManagementFactory", true),
-              })
-          .put(
-              "NO_COMPRESSION",
-              new Import[] {
-                new Import("NO_COMPRESSION", "java.util.zip.Deflater", true),
-              })
-          .put(
-              "VK_DEAD_ACUTE",
-              new Import[] {
-                new Import("VK_DEAD_ACUTE", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "copyValueOf",
-              new Import[] {
-                new Import("copyValueOf", "java.lang.String", true),
-              })
-          .put(
-              "getSystemResources",
-              new Import[] {
-                new Import("getSystemResources", "java.lang.ClassLoader", true),
-              })
-          .put(
-              "UIEvent",
-              new Import[] {
-                new Import("UIEvent", "org.w3c.dom.events", false),
-              })
-          .put(
-              "setContentHandlerFactory",
-              new Import[] {
-                new Import("setContentHandlerFactory", "java.net.URLConnection", true),
-              })
-          .put(
-              "NodeChangeListener",
-              new Import[] {
-                new Import("NodeChangeListener", "java.util.prefs", false),
-              })
-          .put(
-              "max",
-              new Import[] {
-                new Import("max", "java.lang.Double", true),
-                new Import("max", "java.lang.Float", true),
-                new Import("max", "java.lang.Integer", true),
-                new Import("max", "java.lang.Long", true),
-                new Import("max", "java.lang.Math", true),
-                new Import("max", "java.lang.StrictMath", true),
-                new Import("max", "java.util.Collections", true),
-                new Import("max", "javax.swing.Spring", true),
-              })
-          .put(
-              "PROCESSING_INSTRUCTION_NODE",
-              new Import[] {
-                new Import("PROCESSING_INSTRUCTION_NODE", "org.w3c.dom.Node", true),
-              })
-          .put(
-              "ExceptionList",
-              new Import[] {
-                new Import("ExceptionList", "org.omg.CORBA", false),
-              })
-          .put(
-              "FunctionalInterface",
-              new Import[] {
-                new Import("FunctionalInterface", "java.lang", false),
-              })
-          .put(
-              "LayoutQueue",
-              new Import[] {
-                new Import("LayoutQueue", "javax.swing.text", false),
-              })
-          .put(
-              "InvocationHandler",
-              new Import[] {
-                new Import("InvocationHandler", "java.lang.reflect", false),
-              })
-          .put(
-              "TRANSACTION_SERIALIZABLE",
-              new Import[] {
-                new Import("TRANSACTION_SERIALIZABLE", "java.sql.Connection", true),
-              })
-          .put(
-              "KeyException",
-              new Import[] {
-                new Import("KeyException", "java.security", false),
-              })
-          .put(
-              "CENHDR",
-              new Import[] {
-                new Import("CENHDR", "java.util.jar.JarEntry", true),
-                new Import("CENHDR", "java.util.jar.JarFile", true),
-                new Import("CENHDR", "java.util.jar.JarInputStream", true),
-                new Import("CENHDR", "java.util.jar.JarOutputStream", true),
-                new Import("CENHDR", "java.util.zip.ZipEntry", true),
-                new Import("CENHDR", "java.util.zip.ZipFile", true),
-                new Import("CENHDR", "java.util.zip.ZipInputStream", true),
-                new Import("CENHDR", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "PARSE_ERR",
-              new Import[] {
-                new Import("PARSE_ERR", "org.w3c.dom.ls.LSException", true),
-              })
-          .put(
-              "Italic",
-              new Import[] {
-                new Import("Italic", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "ApplicationException",
-              new Import[] {
-                new Import("ApplicationException", "org.omg.CORBA.portable", false),
-              })
-          .put(
-              "Expression",
-              new Import[] {
-                new Import("Expression", "java.beans", false),
-              })
-          .put(
-              "TAG_CVT",
-              new Import[] {
-                new Import("TAG_CVT", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "JobKOctets",
-              new Import[] {
-                new Import("JobKOctets", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "SPACING_MODIFIER_LETTERS",
-              new Import[] {
-                new Import("SPACING_MODIFIER_LETTERS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "Clipboard",
-              new Import[] {
-                new Import("Clipboard", "java.awt.datatransfer", false),
-              })
-          .put(
-              "LAO",
-              new Import[] {
-                new Import("LAO", "java.awt.font.NumericShaper", true),
-                new Import("LAO", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "ACCESS_EXTERNAL_SCHEMA",
-              new Import[] {
-                new Import("ACCESS_EXTERNAL_SCHEMA", "javax.xml.XMLConstants", true),
-              })
-          .put(
-              "SHORT_IDS",
-              new Import[] {
-                new Import("SHORT_IDS", "java.time.ZoneId", true),
-              })
-          .put(
-              "NON_EXISTENT",
-              new Import[] {
-                new Import("NON_EXISTENT", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "APPROVE_BUTTON_TEXT_CHANGED_PROPERTY",
-              new Import[] {
-                new Import(
-                    "APPROVE_BUTTON_TEXT_CHANGED_PROPERTY", "javax.swing.JFileChooser", true),
-              })
-          .put(
-              "Result",
-              new Import[] {
-                new Import("Result", "javax.naming.spi.DirStateFactory", false),
-                new Import("Result", "javax.xml.transform", false),
-              })
-          .put(
-              "nextUp",
-              new Import[] {
-                new Import("nextUp", "java.lang.Math", true),
-                new Import("nextUp", "java.lang.StrictMath", true),
-              })
-          .put(
-              "HTTP_SERVER_ERROR",
-              new Import[] {
-                new Import("HTTP_SERVER_ERROR", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "RSAPublicKey",
-              new Import[] {
-                new Import("RSAPublicKey", "java.security.interfaces", false),
-              })
-          .put(
-              "KeySetView",
-              new Import[] {
-                new Import("KeySetView", "java.util.concurrent.ConcurrentHashMap", false),
-              })
-          .put(
-              "INTERNAL_FRAME_TITLE_PANE",
-              new Import[] {
-                new Import("INTERNAL_FRAME_TITLE_PANE", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "VK_KANJI",
-              new Import[] {
-                new Import("VK_KANJI", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "DefaultLinkDrop",
-              new Import[] {
-                new Import("DefaultLinkDrop", "java.awt.dnd.DragSource", true),
-              })
-          .put(
-              "FlavorListener",
-              new Import[] {
-                new Import("FlavorListener", "java.awt.datatransfer", false),
-              })
-          .put(
-              "SOAPConstants",
-              new Import[] {
-                new Import("SOAPConstants", "javax.xml.soap", false),
-              })
-          .put(
-              "NotEmptyHelper",
-              new Import[] {
-                new Import("NotEmptyHelper", "org.omg.CosNaming.NamingContextPackage", false),
-              })
-          .put(
-              "PropertyEditorSupport",
-              new Import[] {
-                new Import("PropertyEditorSupport", "java.beans", false),
-              })
-          .put(
-              "OpenMBeanParameterInfo",
-              new Import[] {
-                new Import("OpenMBeanParameterInfo", "javax.management.openmbean", false),
-              })
-          .put(
-              "CLOSE_ALL_RESULTS",
-              new Import[] {
-                new Import("CLOSE_ALL_RESULTS", "java.sql.Statement", true),
-              })
-          .put(
-              "LESSER",
-              new Import[] {
-                new Import("LESSER", "javax.xml.datatype.DatatypeConstants", true),
-              })
-          .put(
-              "FILE_CHOOSER_DIALOG",
-              new Import[] {
-                new Import("FILE_CHOOSER_DIALOG", "javax.swing.JRootPane", true),
-              })
-          .put(
-              "interrupted",
-              new Import[] {
-                new Import("interrupted", "java.lang.Thread", true),
-              })
-          .put(
-              "InvocationTargetException",
-              new Import[] {
-                new Import("InvocationTargetException", "java.lang.reflect", false),
-              })
-          .put(
-              "RELATION_BASIC_REMOVAL",
-              new Import[] {
-                new Import(
-                    "RELATION_BASIC_REMOVAL",
-                    "javax.management.relation.RelationNotification",
-                    true),
-              })
-          .put(
-              "SCALE_DEFAULT",
-              new Import[] {
-                new Import("SCALE_DEFAULT", "java.awt.Image", true),
-              })
-          .put(
-              "THRESHOLD_VALUE_EXCEEDED",
-              new Import[] {
-                new Import(
-                    "THRESHOLD_VALUE_EXCEEDED",
-                    "javax.management.monitor.MonitorNotification",
-                    true),
-              })
-          .put(
-              "Descriptor",
-              new Import[] {
-                new Import("Descriptor", "javax.management", false),
-              })
-          .put(
-              "isValidCodePoint",
-              new Import[] {
-                new Import("isValidCodePoint", "java.lang.Character", true),
-              })
-          .put(
-              "getComponent",
-              new Import[] {
-                new Import("getComponent", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "IllegalFormatWidthException",
-              new Import[] {
-                new Import("IllegalFormatWidthException", "java.util", false),
-              })
-          .put(
-              "WRAP_MODE",
-              new Import[] {
-                new Import("WRAP_MODE", "javax.crypto.Cipher", true),
-              })
-          .put(
-              "Destination",
-              new Import[] {
-                new Import("Destination", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "SoundbankReader",
-              new Import[] {
-                new Import("SoundbankReader", "javax.sound.midi.spi", false),
-              })
-          .put(
-              "OP_READ",
-              new Import[] {
-                new Import("OP_READ", "java.nio.channels.SelectionKey", true),
-              })
-          .put(
-              "PropertyException",
-              new Import[] {
-                new Import("PropertyException", "javax.xml.bind", false),
-              })
-          .put(
-              "NT_USER_NAME",
-              new Import[] {
-                new Import("NT_USER_NAME", "org.ietf.jgss.GSSName", true),
-              })
-          .put(
-              "EnumSyntax",
-              new Import[] {
-                new Import("EnumSyntax", "javax.print.attribute", false),
-              })
-          .put(
-              "DOMImplementation",
-              new Import[] {
-                new Import("DOMImplementation", "org.w3c.dom", false),
-              })
-          .put(
-              "LANGUAGE_VERSION",
-              new Import[] {
-                new Import("LANGUAGE_VERSION", "javax.script.ScriptEngine", true),
-              })
-          .put(
-              "ALT_GRAPH_MASK",
-              new Import[] {
-                new Import("ALT_GRAPH_MASK", "java.awt.event.InputEvent", true),
-              })
-          .put(
-              "SynthOptionPaneUI",
-              new Import[] {
-                new Import("SynthOptionPaneUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "println",
-              new Import[] {
-                new Import("println", "java.sql.DriverManager", true),
-              })
-          .put(
-              "ModelWrapper",
-              new Import[] {
-                new Import("ModelWrapper", "javax.swing.DefaultRowSorter", false),
-              })
-          .put(
-              "CHILD_POLICY_MAX",
-              new Import[] {
-                new Import("CHILD_POLICY_MAX", "javax.imageio.metadata.IIOMetadataFormat", true),
-              })
-          .put(
-              "MISCELLANEOUS_TECHNICAL",
-              new Import[] {
-                new Import("MISCELLANEOUS_TECHNICAL", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "MidiSystem",
-              new Import[] {
-                new Import("MidiSystem", "javax.sound.midi", false),
-              })
-          .put(
-              "drawEtchedRect",
-              new Import[] {
-                new Import("drawEtchedRect", "javax.swing.plaf.basic.BasicGraphicsUtils", true),
-              })
-          .put(
-              "VK_LEFT",
-              new Import[] {
-                new Import("VK_LEFT", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "SelectionKey",
-              new Import[] {
-                new Import("SelectionKey", "java.nio.channels", false),
-              })
-          .put(
-              "DHGenParameterSpec",
-              new Import[] {
-                new Import("DHGenParameterSpec", "javax.crypto.spec", false),
-              })
-          .put(
-              "MinimalHTMLWriter",
-              new Import[] {
-                new Import("MinimalHTMLWriter", "javax.swing.text.html", false),
-              })
-          .put(
-              "RIPEMD160",
-              new Import[] {
-                new Import("RIPEMD160", "javax.xml.crypto.dsig.DigestMethod", true),
-              })
-          .put(
-              "unregister",
-              new Import[] {
-                new Import("unregister", "java.rmi.activation.Activatable", true),
-              })
-          .put(
-              "registerTarget",
-              new Import[] {
-                new Import("registerTarget", "javax.rmi.CORBA.Util", true),
-              })
-          .put(
-              "BITMASK",
-              new Import[] {
-                new Import("BITMASK", "java.awt.Transparency", true),
-              })
-          .put(
-              "Error",
-              new Import[] {
-                new Import("Error", "java.lang", false),
-              })
-          .put(
-              "AbstractProcessor",
-              new Import[] {
-                new Import("AbstractProcessor", "javax.annotation.processing", false),
-              })
-          .put(
-              "toRadians",
-              new Import[] {
-                new Import("toRadians", "java.lang.Math", true),
-                new Import("toRadians", "java.lang.StrictMath", true),
-              })
-          .put(
-              "CountDownLatch",
-              new Import[] {
-                new Import("CountDownLatch", "java.util.concurrent", false),
-              })
-          .put(
-              "PaletteBorder",
-              new Import[] {
-                new Import("PaletteBorder", "javax.swing.plaf.metal.MetalBorders", false),
-              })
-          .put(
-              "orange",
-              new Import[] {
-                new Import("orange", "java.awt.Color", true),
-              })
-          .put(
-              "CODE",
-              new Import[] {
-                new Import("CODE", "javax.swing.text.html.HTML.Attribute", true),
-                new Import("CODE", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "INITIAL_QUOTE_PUNCTUATION",
-              new Import[] {
-                new Import("INITIAL_QUOTE_PUNCTUATION", "java.lang.Character", true),
-              })
-          .put(
-              "UPDATE_ROW_CONFLICT",
-              new Import[] {
-                new Import("UPDATE_ROW_CONFLICT", "javax.sql.rowset.spi.SyncResolver", true),
-              })
-          .put(
-              "Paper",
-              new Import[] {
-                new Import("Paper", "java.awt.print", false),
-              })
-          .put(
-              "INTERNAL_FRAME_ICONIFIED",
-              new Import[] {
-                new Import(
-                    "INTERNAL_FRAME_ICONIFIED", "javax.swing.event.InternalFrameEvent", true),
-              })
-          .put(
-              "TEXT_BACKGROUND",
-              new Import[] {
-                new Import("TEXT_BACKGROUND", "javax.swing.plaf.synth.ColorType", true),
-              })
-          .build();
-}
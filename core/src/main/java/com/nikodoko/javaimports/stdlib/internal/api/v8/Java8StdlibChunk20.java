@@ -1,1599 +0,0 @@
-// Code generated by GenerateStdlib.java. DO NOT EDIT.
-package com.nikodoko.javaimports.stdlib.internal.api.v8;
-
-import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
-import java.util.Map;
-
-public class Java8StdlibChunk20 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
-          .put(
-              "ContainerOrderFocusTraversalPolicy",
-              new Import[] {
-                new Import("ContainerOrderFocusTraversalPolicy", "java.awt", false),
-              })
-          .put(
-              "USE_SERVANT_MANAGER",
-              new Import[] {
-                new Import(
-                    "USE_SERVANT_MANAGER",
-                    "org.omg.PortableServer.RequestProcessingPolicyValue",
-                    true),
-              })
-          .put(
-              "ScheduledThreadPoolExecutor",
-              new Import[] {
-                new Import("ScheduledThreadPoolExecutor", "java.util.concurrent", false),
-              })
-          .put(
-              "BeanInfo",
-              new Import[] {
-                new Import("BeanInfo", "java.beans", false),
-              })
-          .put(
-              "InitParam",
-              new Import[] {
-                new Import("InitParam", "javax.jws.soap", false),
-              })
-          .put(
-              "rint",
-              new Import[] {
-                new Import("rint", "java.lang.Math", true),
-                new Import("rint", "java.lang.StrictMath", true),
-              })
-          .put(
-              "FloatHolder",
-              new Import[] {
-                new Import("FloatHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "GROUP_BOX",
-              new Import[] {
-                new Import("GROUP_BOX", "javax.accessibility.AccessibleRole", true),
-              })
-          .put(
-              "FontConstants",
-              new Import[] {
-                new Import("FontConstants", "javax.swing.text.StyleConstants", false),
-              })
-          .put(
-              "verifyAttributeValue",
-              new Import[] {
-                new Import(
-                    "verifyAttributeValue", "javax.print.attribute.AttributeSetUtilities", true),
-              })
-          .put(
-              "createDashedBorder",
-              new Import[] {
-                new Import("createDashedBorder", "javax.swing.BorderFactory", true),
-              })
-          .put(
-              "MULTIPLE_INTERVAL_SELECTION",
-              new Import[] {
-                new Import("MULTIPLE_INTERVAL_SELECTION", "javax.swing.ListSelectionModel", true),
-              })
-          .put(
-              "SE_RESIZE_CURSOR",
-              new Import[] {
-                new Import("SE_RESIZE_CURSOR", "java.awt.Cursor", true),
-                new Import("SE_RESIZE_CURSOR", "java.awt.Frame", true),
-              })
-          .put(
-              "TAG_AVAR",
-              new Import[] {
-                new Import("TAG_AVAR", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "getMediaSizeForName",
-              new Import[] {
-                new Import("getMediaSizeForName", "javax.print.attribute.standard.MediaSize", true),
-              })
-          .put(
-              "Endpoint",
-              new Import[] {
-                new Import("Endpoint", "javax.xml.ws", false),
-              })
-          .put(
-              "POAManager",
-              new Import[] {
-                new Import("POAManager", "org.omg.PortableServer", false),
-              })
-          .put(
-              "ThreadLocal",
-              new Import[] {
-                new Import("ThreadLocal", "java.lang", false),
-              })
-          .put(
-              "deepHashCode",
-              new Import[] {
-                new Import("deepHashCode", "java.util.Arrays", true),
-              })
-          .put(
-              "RunnableFuture",
-              new Import[] {
-                new Import("RunnableFuture", "java.util.concurrent", false),
-              })
-          .put(
-              "JMXConnectionNotification",
-              new Import[] {
-                new Import("JMXConnectionNotification", "javax.management.remote", false),
-              })
-          .put(
-              "disableSwingFocusManager",
-              new Import[] {
-                new Import("disableSwingFocusManager", "javax.swing.FocusManager", true),
-              })
-          .put(
-              "tk_double",
-              new Import[] {
-                new Import("tk_double", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "MOUSE_EXIT",
-              new Import[] {
-                new Import("MOUSE_EXIT", "java.awt.Event", true),
-              })
-          .put(
-              "IdAssignmentPolicyOperations",
-              new Import[] {
-                new Import("IdAssignmentPolicyOperations", "org.omg.PortableServer", false),
-              })
-          .put(
-              "IS_REPLACING_ENTITY_REFERENCES",
-              new Import[] {
-                new Import(
-                    "IS_REPLACING_ENTITY_REFERENCES", "javax.xml.stream.XMLInputFactory", true),
-              })
-          .put(
-              "MINUTE_FIELD",
-              new Import[] {
-                new Import("MINUTE_FIELD", "java.text.DateFormat", true),
-              })
-          .put(
-              "Instant",
-              new Import[] {
-                new Import("Instant", "java.time", false),
-              })
-          .put(
-              "windowForComponent",
-              new Import[] {
-                new Import("windowForComponent", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "WritableByteChannel",
-              new Import[] {
-                new Import("WritableByteChannel", "java.nio.channels", false),
-              })
-          .put(
-              "JapaneseChronology",
-              new Import[] {
-                new Import("JapaneseChronology", "java.time.chrono", false),
-              })
-          .put(
-              "VERTICAL_SCROLLBAR",
-              new Import[] {
-                new Import("VERTICAL_SCROLLBAR", "javax.swing.ScrollPaneConstants", true),
-              })
-          .put(
-              "MIN",
-              new Import[] {
-                new Import("MIN", "java.time.Instant", true),
-                new Import("MIN", "java.time.LocalDate", true),
-                new Import("MIN", "java.time.LocalDateTime", true),
-                new Import("MIN", "java.time.LocalTime", true),
-                new Import("MIN", "java.time.OffsetDateTime", true),
-                new Import("MIN", "java.time.OffsetTime", true),
-                new Import("MIN", "java.time.ZoneOffset", true),
-              })
-          .put(
-              "UNICODE_CASE",
-              new Import[] {
-                new Import("UNICODE_CASE", "java.util.regex.Pattern", true),
-              })
-          .put(
-              "addExact",
-              new Import[] {
-                new Import("addExact", "java.lang.Math", true),
-                new Import("addExact", "java.lang.StrictMath", true),
-              })
-          .put(
-              "OVERFLOW",
-              new Import[] {
-                new Import("OVERFLOW", "java.nio.charset.CoderResult", true),
-                new Import("OVERFLOW", "java.nio.file.StandardWatchEventKinds", true),
-              })
-          .put(
-              "SNIHostName",
-              new Import[] {
-                new Import("SNIHostName", "javax.net.ssl", false),
-              })
-          .put(
-              "IS_ICON_PROPERTY",
-              new Import[] {
-                new Import("IS_ICON_PROPERTY", "javax.swing.JInternalFrame", true),
-              })
-          .put(
-              "PHONETIC_EXTENSIONS_SUPPLEMENT",
-              new Import[] {
-                new Import(
-                    "PHONETIC_EXTENSIONS_SUPPLEMENT", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "DATASOURCE_DB_LOCK",
-              new Import[] {
-                new Import("DATASOURCE_DB_LOCK", "javax.sql.rowset.spi.SyncProvider", true),
-              })
-          .put(
-              "InsertTabAction",
-              new Import[] {
-                new Import("InsertTabAction", "javax.swing.text.DefaultEditorKit", false),
-              })
-          .put(
-              "BevelBorder",
-              new Import[] {
-                new Import("BevelBorder", "javax.swing.border", false),
-              })
-          .put(
-              "COMPONENT_HIDDEN",
-              new Import[] {
-                new Import("COMPONENT_HIDDEN", "java.awt.event.ComponentEvent", true),
-              })
-          .put(
-              "VK_CAPS_LOCK",
-              new Import[] {
-                new Import("VK_CAPS_LOCK", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "SynthCheckBoxUI",
-              new Import[] {
-                new Import("SynthCheckBoxUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "LinkedTransferQueue",
-              new Import[] {
-                new Import("LinkedTransferQueue", "java.util.concurrent", false),
-              })
-          .put(
-              "INVOCATION_LAST",
-              new Import[] {
-                new Import("INVOCATION_LAST", "java.awt.event.InvocationEvent", true),
-              })
-          .put(
-              "DefaultTableCellRenderer",
-              new Import[] {
-                new Import("DefaultTableCellRenderer", "javax.swing.table", false),
-              })
-          .put(
-              "DISCARDING",
-              new Import[] {
-                new Import("DISCARDING", "org.omg.PortableInterceptor", false),
-                new Import("DISCARDING", "org.omg.PortableServer.POAManagerPackage.State", true),
-              })
-          .put(
-              "INTERNAL_FRAME",
-              new Import[] {
-                new Import("INTERNAL_FRAME", "javax.accessibility.AccessibleRole", true),
-                new Import("INTERNAL_FRAME", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "setSystem",
-              new Import[] {
-                new Import("setSystem", "java.rmi.activation.ActivationGroup", true),
-              })
-          .put(
-              "UNICODE_LOCALE_EXTENSION",
-              new Import[] {
-                new Import("UNICODE_LOCALE_EXTENSION", "java.util.Locale", true),
-              })
-          .put(
-              "typesIn",
-              new Import[] {
-                new Import("typesIn", "javax.lang.model.util.ElementFilter", true),
-              })
-          .put(
-              "CoderMalfunctionError",
-              new Import[] {
-                new Import("CoderMalfunctionError", "java.nio.charset", false),
-              })
-          .put(
-              "activeCount",
-              new Import[] {
-                new Import("activeCount", "java.lang.Thread", true),
-              })
-          .put(
-              "SUPPLEMENTARY_PRIVATE_USE_AREA_B",
-              new Import[] {
-                new Import(
-                    "SUPPLEMENTARY_PRIVATE_USE_AREA_B", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "InvalidMidiDataException",
-              new Import[] {
-                new Import("InvalidMidiDataException", "javax.sound.midi", false),
-              })
-          .put(
-              "_COMPLETED_NO",
-              new Import[] {
-                new Import("_COMPLETED_NO", "org.omg.CORBA.CompletionStatus", true),
-              })
-          .put(
-              "FLAG_HAS_POSITION_ADJUSTMENTS",
-              new Import[] {
-                new Import("FLAG_HAS_POSITION_ADJUSTMENTS", "java.awt.font.GlyphVector", true),
-              })
-          .put(
-              "SerialDatalink",
-              new Import[] {
-                new Import("SerialDatalink", "javax.sql.rowset.serial", false),
-              })
-          .put(
-              "MIN_SCROLL",
-              new Import[] {
-                new Import("MIN_SCROLL", "javax.swing.plaf.basic.BasicSliderUI", true),
-              })
-          .put(
-              "SUPPLEMENTARY_PRIVATE_USE_AREA_A",
-              new Import[] {
-                new Import(
-                    "SUPPLEMENTARY_PRIVATE_USE_AREA_A", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "LocalObject",
-              new Import[] {
-                new Import("LocalObject", "org.omg.CORBA", false),
-              })
-          .put(
-              "ISO_OFFSET_DATE_TIME",
-              new Import[] {
-                new Import("ISO_OFFSET_DATE_TIME", "java.time.format.DateTimeFormatter", true),
-              })
-          .put(
-              "nextDouble",
-              new Import[] {
-                new Import("nextDouble", "java.text.ChoiceFormat", true),
-              })
-          .put(
-              "TRUNCATED",
-              new Import[] {
-                new Import("TRUNCATED", "javax.accessibility.AccessibleState", true),
-              })
-          .put(
-              "previousWordAction",
-              new Import[] {
-                new Import("previousWordAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "SectionElementName",
-              new Import[] {
-                new Import("SectionElementName", "javax.swing.text.AbstractDocument", true),
-              })
-          .put(
-              "TRANSACTION_READ_UNCOMMITTED",
-              new Import[] {
-                new Import("TRANSACTION_READ_UNCOMMITTED", "java.sql.Connection", true),
-              })
-          .put(
-              "Cipher",
-              new Import[] {
-                new Import("Cipher", "javax.crypto", false),
-              })
-          .put(
-              "UndoableEditSupport",
-              new Import[] {
-                new Import("UndoableEditSupport", "javax.swing.undo", false),
-              })
-          .put(
-              "BAD_OPERATION",
-              new Import[] {
-                new Import("BAD_OPERATION", "org.omg.CORBA", false),
-              })
-          .put(
-              "WARNING_DIALOG",
-              new Import[] {
-                new Import("WARNING_DIALOG", "javax.swing.JRootPane", true),
-              })
-          .put(
-              "TRADITIONAL_HANZI",
-              new Import[] {
-                new Import("TRADITIONAL_HANZI", "java.awt.im.InputSubset", true),
-              })
-          .put(
-              "lookupAny",
-              new Import[] {
-                new Import("lookupAny", "java.io.ObjectStreamClass", true),
-              })
-          .put(
-              "ClassFormatError",
-              new Import[] {
-                new Import("ClassFormatError", "java.lang", false),
-              })
-          .put(
-              "ROLLOVER_ENABLED_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("ROLLOVER_ENABLED_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
-              })
-          .put(
-              "OpenMBeanInfoSupport",
-              new Import[] {
-                new Import("OpenMBeanInfoSupport", "javax.management.openmbean", false),
-              })
-          .put(
-              "FolderIcon16",
-              new Import[] {
-                new Import("FolderIcon16", "javax.swing.plaf.metal.MetalIconFactory", false),
-              })
-          .put(
-              "getTargetFormats",
-              new Import[] {
-                new Import("getTargetFormats", "javax.sound.sampled.AudioSystem", true),
-              })
-          .put(
-              "NARROW_STANDALONE",
-              new Import[] {
-                new Import("NARROW_STANDALONE", "java.util.Calendar", true),
-              })
-          .put(
-              "SynthStyle",
-              new Import[] {
-                new Import("SynthStyle", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "showInputDialog",
-              new Import[] {
-                new Import("showInputDialog", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "SSLContextSpi",
-              new Import[] {
-                new Import("SSLContextSpi", "javax.net.ssl", false),
-              })
-          .put(
-              "UndeclaredThrowableException",
-              new Import[] {
-                new Import("UndeclaredThrowableException", "java.lang.reflect", false),
-              })
-          .put(
-              "StreamHandler",
-              new Import[] {
-                new Import("StreamHandler", "java.util.logging", false),
-              })
-          .put(
-              "URI_SOAP_1_2_ROLE_NONE",
-              new Import[] {
-                new Import("URI_SOAP_1_2_ROLE_NONE", "javax.xml.soap.SOAPConstants", true),
-              })
-          .put(
-              "defaultForkJoinWorkerThreadFactory",
-              new Import[] {
-                new Import(
-                    "defaultForkJoinWorkerThreadFactory",
-                    "java.util.concurrent.ForkJoinPool",
-                    true),
-              })
-          .put(
-              "BasicScrollBarUI",
-              new Import[] {
-                new Import("BasicScrollBarUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "Guard",
-              new Import[] {
-                new Import("Guard", "java.security", false),
-              })
-          .put(
-              "icHdrDeviceClass",
-              new Import[] {
-                new Import("icHdrDeviceClass", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "ClassNotFoundException",
-              new Import[] {
-                new Import("ClassNotFoundException", "java.lang", false),
-              })
-          .put(
-              "AccountLockedException",
-              new Import[] {
-                new Import("AccountLockedException", "javax.security.auth.login", false),
-              })
-          .put(
-              "newMBeanProxy",
-              new Import[] {
-                new Import("newMBeanProxy", "javax.management.JMX", true),
-              })
-          .put(
-              "ServerSocketFactory",
-              new Import[] {
-                new Import("ServerSocketFactory", "javax.net", false),
-              })
-          .put(
-              "icCurveData",
-              new Import[] {
-                new Import("icCurveData", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "TRAILING",
-              new Import[] {
-                new Import("TRAILING", "java.awt.FlowLayout", true),
-                new Import("TRAILING", "javax.swing.SwingConstants", true),
-                new Import("TRAILING", "javax.swing.border.TitledBorder", true),
-              })
-          .put(
-              "XMLEventAllocator",
-              new Import[] {
-                new Import("XMLEventAllocator", "javax.xml.stream.util", false),
-              })
-          .put(
-              "MLet",
-              new Import[] {
-                new Import("MLet", "javax.management.loading", false),
-              })
-          .put(
-              "InvalidTargetObjectTypeException",
-              new Import[] {
-                new Import(
-                    "InvalidTargetObjectTypeException", "javax.management.modelmbean", false),
-              })
-          .put(
-              "PAINT_FIRST",
-              new Import[] {
-                new Import("PAINT_FIRST", "java.awt.event.PaintEvent", true),
-              })
-          .put(
-              "CyclicBarrier",
-              new Import[] {
-                new Import("CyclicBarrier", "java.util.concurrent", false),
-              })
-          .put(
-              "EndpointReference",
-              new Import[] {
-                new Import("EndpointReference", "javax.xml.ws", false),
-              })
-          .put(
-              "StateEditable",
-              new Import[] {
-                new Import("StateEditable", "javax.swing.undo", false),
-              })
-          .put(
-              "type2name",
-              new Import[] {
-                new Import("type2name", "javax.swing.text.html.parser.AttributeList", true),
-              })
-          .put(
-              "VK_INVERTED_EXCLAMATION_MARK",
-              new Import[] {
-                new Import("VK_INVERTED_EXCLAMATION_MARK", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "JTable",
-              new Import[] {
-                new Import("JTable", "javax.swing", false),
-              })
-          .put(
-              "GSSContext",
-              new Import[] {
-                new Import("GSSContext", "org.ietf.jgss", false),
-              })
-          .put(
-              "PreDestroy",
-              new Import[] {
-                new Import("PreDestroy", "javax.annotation", false),
-              })
-          .put(
-              "setSubscript",
-              new Import[] {
-                new Import("setSubscript", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "TYPE_MASK_SCALE",
-              new Import[] {
-                new Import("TYPE_MASK_SCALE", "java.awt.geom.AffineTransform", true),
-              })
-          .put(
-              "PERSIST_STORE",
-              new Import[] {
-                new Import("PERSIST_STORE", "org.omg.CORBA", false),
-              })
-          .put(
-              "VALUE_LIST",
-              new Import[] {
-                new Import("VALUE_LIST", "javax.imageio.metadata.IIOMetadataFormat", true),
-              })
-          .put(
-              "NotFoundHelper",
-              new Import[] {
-                new Import("NotFoundHelper", "org.omg.CosNaming.NamingContextPackage", false),
-              })
-          .put(
-              "IIOInvalidTreeException",
-              new Import[] {
-                new Import("IIOInvalidTreeException", "javax.imageio.metadata", false),
-              })
-          .put(
-              "IMG_ALIGN_TOP",
-              new Import[] {
-                new Import("IMG_ALIGN_TOP", "javax.swing.text.html.HTMLEditorKit", true),
-              })
-          .put(
-              "VERIFY",
-              new Import[] {
-                new Import("VERIFY", "javax.xml.crypto.KeySelector.Purpose", true),
-              })
-          .put(
-              "HTTP_BINDING",
-              new Import[] {
-                new Import("HTTP_BINDING", "javax.xml.ws.http.HTTPBinding", true),
-              })
-          .put(
-              "MemoryHandler",
-              new Import[] {
-                new Import("MemoryHandler", "java.util.logging", false),
-              })
-          .put(
-              "UNSPECIFIED_OPTION",
-              new Import[] {
-                new Import(
-                    "UNSPECIFIED_OPTION",
-                    "javax.security.auth.callback.ConfirmationCallback",
-                    true),
-              })
-          .put(
-              "SrcIn",
-              new Import[] {
-                new Import("SrcIn", "java.awt.AlphaComposite", true),
-              })
-          .put(
-              "guessContentTypeFromStream",
-              new Import[] {
-                new Import("guessContentTypeFromStream", "java.net.URLConnection", true),
-              })
-          .put(
-              "not",
-              new Import[] {
-                new Import("not", "javax.management.Query", true),
-              })
-          .put(
-              "DISPLAY",
-              new Import[] {
-                new Import("DISPLAY", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "EDGE_STITCH",
-              new Import[] {
-                new Import("EDGE_STITCH", "javax.print.attribute.standard.Finishings", true),
-              })
-          .put(
-              "attributeNullableUnknown",
-              new Import[] {
-                new Import("attributeNullableUnknown", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "functionColumnInOut",
-              new Import[] {
-                new Import("functionColumnInOut", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "now",
-              new Import[] {
-                new Import("now", "java.time.Instant", true),
-                new Import("now", "java.time.LocalDate", true),
-                new Import("now", "java.time.LocalDateTime", true),
-                new Import("now", "java.time.LocalTime", true),
-                new Import("now", "java.time.MonthDay", true),
-                new Import("now", "java.time.OffsetDateTime", true),
-                new Import("now", "java.time.OffsetTime", true),
-                new Import("now", "java.time.Year", true),
-                new Import("now", "java.time.YearMonth", true),
-                new Import("now", "java.time.ZonedDateTime", true),
-                new Import("now", "java.time.chrono.HijrahDate", true),
-                new Import("now", "java.time.chrono.JapaneseDate", true),
-                new Import("now", "java.time.chrono.MinguoDate", true),
-                new Import("now", "java.time.chrono.ThaiBuddhistDate", true),
-              })
-          .put(
-              "BufferedOutputStream",
-              new Import[] {
-                new Import("BufferedOutputStream", "java.io", false),
-              })
-          .put(
-              "BindingHelper",
-              new Import[] {
-                new Import("BindingHelper", "org.omg.CosNaming", false),
-              })
-          .put(
-              "CONNECTING_TO_DEVICE",
-              new Import[] {
-                new Import(
-                    "CONNECTING_TO_DEVICE",
-                    "javax.print.attribute.standard.PrinterStateReason",
-                    true),
-              })
-          .put(
-              "LAYERED_PANE_PROPERTY",
-              new Import[] {
-                new Import("LAYERED_PANE_PROPERTY", "javax.swing.JInternalFrame", true),
-              })
-          .put(
-              "NameNotFoundException",
-              new Import[] {
-                new Import("NameNotFoundException", "javax.naming", false),
-              })
-          .put(
-              "CopyAction",
-              new Import[] {
-                new Import("CopyAction", "javax.swing.text.DefaultEditorKit", false),
-              })
-          .put(
-              "RETAIN",
-              new Import[] {
-                new Import("RETAIN", "org.omg.PortableServer.ServantRetentionPolicyValue", true),
-              })
-          .put(
-              "InputStream",
-              new Import[] {
-                new Import("InputStream", "java.io", false),
-                new Import("InputStream", "org.omg.CORBA.portable", false),
-                new Import("InputStream", "org.omg.CORBA_2_3.portable", false),
-              })
-          .put(
-              "DAY_OF_WEEK_IN_MONTH_FIELD",
-              new Import[] {
-                new Import("DAY_OF_WEEK_IN_MONTH_FIELD", "java.text.DateFormat", true),
-              })
-          .put(
-              "Activatable",
-              new Import[] {
-                new Import("Activatable", "java.rmi.activation", false),
-              })
-          .put(
-              "ENV_7X9",
-              new Import[] {
-                new Import("ENV_7X9", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "LanguageRange",
-              new Import[] {
-                new Import("LanguageRange", "java.util.Locale", false),
-              })
-          .put(
-              "WEEK_OF_WEEK_BASED_YEAR",
-              new Import[] {
-                new Import("WEEK_OF_WEEK_BASED_YEAR", "java.time.temporal.IsoFields", true),
-              })
-          .put(
-              "UNSUPPORTED_POLICY",
-              new Import[] {
-                new Import("UNSUPPORTED_POLICY", "org.omg.CORBA", false),
-              })
-          .put(
-              "_dk_Enum",
-              new Import[] {
-                new Import("_dk_Enum", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "LSProgressEvent",
-              new Import[] {
-                new Import("LSProgressEvent", "org.w3c.dom.ls", false),
-              })
-          .put(
-              "TextLayout",
-              new Import[] {
-                new Import("TextLayout", "java.awt.font", false),
-              })
-          .put(
-              "REUSE",
-              new Import[] {
-                new Import("REUSE", "javax.security.sasl.Sasl", true),
-              })
-          .put(
-              "StartElement",
-              new Import[] {
-                new Import("StartElement", "javax.xml.stream.events", false),
-              })
-          .put(
-              "TransformAttribute",
-              new Import[] {
-                new Import("TransformAttribute", "java.awt.font", false),
-              })
-          .put(
-              "ISO_OFFSET_DATE",
-              new Import[] {
-                new Import("ISO_OFFSET_DATE", "java.time.format.DateTimeFormatter", true),
-              })
-          .put(
-              "PrinterMoreInfo",
-              new Import[] {
-                new Import("PrinterMoreInfo", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "IndexedPropertyChangeEvent",
-              new Import[] {
-                new Import("IndexedPropertyChangeEvent", "java.beans", false),
-              })
-          .put(
-              "genericMethodType",
-              new Import[] {
-                new Import("genericMethodType", "java.lang.invoke.MethodType", true),
-              })
-          .put(
-              "UNDERLINE_LOW_TWO_PIXEL",
-              new Import[] {
-                new Import("UNDERLINE_LOW_TWO_PIXEL", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "OptionDialogBorder",
-              new Import[] {
-                new Import("OptionDialogBorder", "javax.swing.plaf.metal.MetalBorders", false),
-              })
-          .put(
-              "JMXProviderException",
-              new Import[] {
-                new Import("JMXProviderException", "javax.management.remote", false),
-              })
-          .put(
-              "ChronoZonedDateTime",
-              new Import[] {
-                new Import("ChronoZonedDateTime", "java.time.chrono", false),
-              })
-          .put(
-              "LineBorder",
-              new Import[] {
-                new Import("LineBorder", "javax.swing.border", false),
-              })
-          .put(
-              "PrintConversionEventImpl",
-              new Import[] {
-                new Import("PrintConversionEventImpl", "javax.xml.bind.helpers", false),
-              })
-          .put(
-              "NO_GENERATED_KEYS",
-              new Import[] {
-                new Import("NO_GENERATED_KEYS", "java.sql.Statement", true),
-              })
-          .put(
-              "WIDTH_SEMI_EXTENDED",
-              new Import[] {
-                new Import("WIDTH_SEMI_EXTENDED", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "ACCEPT_ONLY",
-              new Import[] {
-                new Import("ACCEPT_ONLY", "org.ietf.jgss.GSSCredential", true),
-              })
-          .put(
-              "CHOOSER_PANELS_PROPERTY",
-              new Import[] {
-                new Import("CHOOSER_PANELS_PROPERTY", "javax.swing.JColorChooser", true),
-              })
-          .put(
-              "ISO_C2_ENVELOPE",
-              new Import[] {
-                new Import("ISO_C2_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "WEEK_OF_YEAR",
-              new Import[] {
-                new Import("WEEK_OF_YEAR", "java.text.DateFormat.Field", true),
-                new Import("WEEK_OF_YEAR", "java.util.Calendar", true),
-              })
-          .put(
-              "DigestMethodParameterSpec",
-              new Import[] {
-                new Import("DigestMethodParameterSpec", "javax.xml.crypto.dsig.spec", false),
-              })
-          .put(
-              "MBeanServerDelegateMBean",
-              new Import[] {
-                new Import("MBeanServerDelegateMBean", "javax.management", false),
-              })
-          .put(
-              "IndexedPropertyDescriptor",
-              new Import[] {
-                new Import("IndexedPropertyDescriptor", "java.beans", false),
-              })
-          .put(
-              "LabelUI",
-              new Import[] {
-                new Import("LabelUI", "javax.swing.plaf", false),
-              })
-          .put(
-              "BasicFileAttributes",
-              new Import[] {
-                new Import("BasicFileAttributes", "java.nio.file.attribute", false),
-              })
-          .put(
-              "getMouseModifiersText",
-              new Import[] {
-                new Import("getMouseModifiersText", "java.awt.event.MouseEvent", true),
-              })
-          .put(
-              "ADD_SUBDIRECTORY",
-              new Import[] {
-                new Import("ADD_SUBDIRECTORY", "java.nio.file.attribute.AclEntryPermission", true),
-              })
-          .put(
-              "InvalidAddressHelper",
-              new Import[] {
-                new Import(
-                    "InvalidAddressHelper", "org.omg.CosNaming.NamingContextExtPackage", false),
-              })
-          .put(
-              "isDefaultLookAndFeelDecorated",
-              new Import[] {
-                new Import("isDefaultLookAndFeelDecorated", "javax.swing.JDialog", true),
-                new Import("isDefaultLookAndFeelDecorated", "javax.swing.JFrame", true),
-              })
-          .put(
-              "LookupOp",
-              new Import[] {
-                new Import("LookupOp", "java.awt.image", false),
-              })
-          .put(
-              "ModalExclusionType",
-              new Import[] {
-                new Import("ModalExclusionType", "java.awt.Dialog", false),
-              })
-          .put(
-              "BeanContext",
-              new Import[] {
-                new Import("BeanContext", "java.beans.beancontext", false),
-              })
-          .put(
-              "COMMON",
-              new Import[] {
-                new Import("COMMON", "java.awt.JobAttributes.DialogType", true),
-                new Import("COMMON", "javax.print.attribute.standard.DialogTypeSelection", true),
-              })
-          .put(
-              "PUBLIC",
-              new Import[] {
-                new Import("PUBLIC", "java.lang.invoke.MethodHandles.Lookup", true),
-                new Import("PUBLIC", "java.lang.reflect.Member", true),
-                new Import("PUBLIC", "java.lang.reflect.Modifier", true),
-                new Import("PUBLIC", "javax.swing.text.html.parser.DTDConstants", true),
-              })
-          .put(
-              "DEFAULT_CURSOR",
-              new Import[] {
-                new Import("DEFAULT_CURSOR", "java.awt.Cursor", true),
-                new Import("DEFAULT_CURSOR", "java.awt.Frame", true),
-              })
-          .put(
-              "MultipleDocumentHandling",
-              new Import[] {
-                new Import("MultipleDocumentHandling", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "LongSupplier",
-              new Import[] {
-                new Import("LongSupplier", "java.util.function", false),
-              })
-          .put(
-              "DOMImplementationList",
-              new Import[] {
-                new Import("DOMImplementationList", "org.w3c.dom", false),
-              })
-          .put(
-              "KeyValue",
-              new Import[] {
-                new Import("KeyValue", "javax.xml.crypto.dsig.keyinfo", false),
-              })
-          .put(
-              "parallelPrefix",
-              new Import[] {
-                new Import("parallelPrefix", "java.util.Arrays", true),
-              })
-          .put(
-              "INPUT_METHOD_EVENT_MASK",
-              new Import[] {
-                new Import("INPUT_METHOD_EVENT_MASK", "java.awt.AWTEvent", true),
-              })
-          .put(
-              "RSAKeyGenParameterSpec",
-              new Import[] {
-                new Import("RSAKeyGenParameterSpec", "java.security.spec", false),
-              })
-          .put(
-              "CompositeDataInvocationHandler",
-              new Import[] {
-                new Import("CompositeDataInvocationHandler", "javax.management.openmbean", false),
-              })
-          .put(
-              "CertPathParameters",
-              new Import[] {
-                new Import("CertPathParameters", "java.security.cert", false),
-              })
-          .put(
-              "getPreviousWord",
-              new Import[] {
-                new Import("getPreviousWord", "javax.swing.text.Utilities", true),
-              })
-          .put(
-              "SCALE_REPLICATE",
-              new Import[] {
-                new Import("SCALE_REPLICATE", "java.awt.Image", true),
-              })
-          .put(
-              "getPreviewPanel",
-              new Import[] {
-                new Import(
-                    "getPreviewPanel",
-                    "javax.swing.colorchooser.ColorChooserComponentFactory",
-                    true),
-              })
-          .put(
-              "MetalRadioButtonUI",
-              new Import[] {
-                new Import("MetalRadioButtonUI", "javax.swing.plaf.metal", false),
-              })
-          .put(
-              "WebServiceFeatureAnnotation",
-              new Import[] {
-                new Import("WebServiceFeatureAnnotation", "javax.xml.ws.spi", false),
-              })
-          .put(
-              "StringSeqHelper",
-              new Import[] {
-                new Import("StringSeqHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "ContextualRenderedImageFactory",
-              new Import[] {
-                new Import("ContextualRenderedImageFactory", "java.awt.image.renderable", false),
-              })
-          .put(
-              "SQLData",
-              new Import[] {
-                new Import("SQLData", "java.sql", false),
-              })
-          .put(
-              "RowSetWarning",
-              new Import[] {
-                new Import("RowSetWarning", "javax.sql.rowset", false),
-              })
-          .put(
-              "W3CDomHandler",
-              new Import[] {
-                new Import("W3CDomHandler", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "FileVisitor",
-              new Import[] {
-                new Import("FileVisitor", "java.nio.file", false),
-              })
-          .put(
-              "JOB_OUTGOING",
-              new Import[] {
-                new Import("JOB_OUTGOING", "javax.print.attribute.standard.JobStateReason", true),
-              })
-          .put(
-              "FLAG_HAS_TRANSFORMS",
-              new Import[] {
-                new Import("FLAG_HAS_TRANSFORMS", "java.awt.font.GlyphVector", true),
-              })
-          .put(
-              "DOMStringList",
-              new Import[] {
-                new Import("DOMStringList", "org.w3c.dom", false),
-              })
-          .put(
-              "SocketPermission",
-              new Import[] {
-                new Import("SocketPermission", "java.net", false),
-              })
-          .put(
-              "convertPointFromScreen",
-              new Import[] {
-                new Import("convertPointFromScreen", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "CallSite",
-              new Import[] {
-                new Import("CallSite", "java.lang.invoke", false),
-              })
-          .put(
-              "SYSTEM_EXCLUSIVE",
-              new Import[] {
-                new Import("SYSTEM_EXCLUSIVE", "javax.sound.midi.SysexMessage", true),
-              })
-          .put(
-              "LARGE_MODEL_PROPERTY",
-              new Import[] {
-                new Import("LARGE_MODEL_PROPERTY", "javax.swing.JTree", true),
-              })
-          .put(
-              "URLConnection",
-              new Import[] {
-                new Import("URLConnection", "java.net", false),
-              })
-          .put(
-              "Graphics2D",
-              new Import[] {
-                new Import("Graphics2D", "java.awt", false),
-              })
-          .put(
-              "PRIVATE",
-              new Import[] {
-                new Import("PRIVATE", "java.lang.invoke.MethodHandles.Lookup", true),
-                new Import("PRIVATE", "java.lang.reflect.Modifier", true),
-                new Import("PRIVATE", "java.nio.channels.FileChannel.MapMode", true),
-              })
-          .put(
-              "IIORegistry",
-              new Import[] {
-                new Import("IIORegistry", "javax.imageio.spi", false),
-              })
-          .put(
-              "decodeDataFlavor",
-              new Import[] {
-                new Import("decodeDataFlavor", "java.awt.datatransfer.SystemFlavorMap", true),
-              })
-          .put(
-              "SERVICE_FORMATTED",
-              new Import[] {
-                new Import("SERVICE_FORMATTED", "javax.print.DocFlavor", false),
-              })
-          .put(
-              "Completion",
-              new Import[] {
-                new Import("Completion", "javax.annotation.processing", false),
-              })
-          .put(
-              "nCopies",
-              new Import[] {
-                new Import("nCopies", "java.util.Collections", true),
-              })
-          .put(
-              "MenuItemUI",
-              new Import[] {
-                new Import("MenuItemUI", "javax.swing.plaf", false),
-              })
-          .put(
-              "JMXAddressable",
-              new Import[] {
-                new Import("JMXAddressable", "javax.management.remote", false),
-              })
-          .put(
-              "STRIKETHROUGH",
-              new Import[] {
-                new Import("STRIKETHROUGH", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "AbstractSpliterator",
-              new Import[] {
-                new Import("AbstractSpliterator", "java.util.Spliterators", false),
-              })
-          .put(
-              "UnmodifiableSetException",
-              new Import[] {
-                new Import("UnmodifiableSetException", "javax.print.attribute", false),
-              })
-          .put(
-              "GURMUKHI",
-              new Import[] {
-                new Import("GURMUKHI", "java.awt.font.NumericShaper", true),
-                new Import("GURMUKHI", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "ValidationEvent",
-              new Import[] {
-                new Import("ValidationEvent", "javax.xml.bind", false),
-              })
-          .put(
-              "width",
-              new Import[] {
-                new Import("width", "javax.swing.Spring", true),
-              })
-          .put(
-              "DSAPrivateKey",
-              new Import[] {
-                new Import("DSAPrivateKey", "java.security.interfaces", false),
-              })
-          .put(
-              "MBeanServerNotificationFilter",
-              new Import[] {
-                new Import("MBeanServerNotificationFilter", "javax.management.relation", false),
-              })
-          .put(
-              "ComponentAttribute",
-              new Import[] {
-                new Import("ComponentAttribute", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "HOLDING",
-              new Import[] {
-                new Import("HOLDING", "org.omg.PortableInterceptor", false),
-                new Import("HOLDING", "org.omg.PortableServer.POAManagerPackage.State", true),
-              })
-          .put(
-              "VK_KANA_LOCK",
-              new Import[] {
-                new Import("VK_KANA_LOCK", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "isSameFile",
-              new Import[] {
-                new Import("isSameFile", "java.nio.file.Files", true),
-              })
-          .put(
-              "CELL_RENDERER_PROPERTY",
-              new Import[] {
-                new Import("CELL_RENDERER_PROPERTY", "javax.swing.JTree", true),
-                new Import("CELL_RENDERER_PROPERTY", "javax.swing.table.TableColumn", true),
-              })
-          .put(
-              "procedureNoNulls",
-              new Import[] {
-                new Import("procedureNoNulls", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "AttributeListImpl",
-              new Import[] {
-                new Import("AttributeListImpl", "org.xml.sax.helpers", false),
-              })
-          .put(
-              "MissingResourceException",
-              new Import[] {
-                new Import("MissingResourceException", "java.util", false),
-              })
-          .put(
-              "MIN_PRIORITY",
-              new Import[] {
-                new Import("MIN_PRIORITY", "java.lang.Thread", true),
-              })
-          .put(
-              "putLayer",
-              new Import[] {
-                new Import("putLayer", "javax.swing.JLayeredPane", true),
-              })
-          .put(
-              "getWordEnd",
-              new Import[] {
-                new Import("getWordEnd", "javax.swing.text.Utilities", true),
-              })
-          .put(
-              "IntUnaryOperator",
-              new Import[] {
-                new Import("IntUnaryOperator", "java.util.function", false),
-              })
-          .put(
-              "MICROPHONE",
-              new Import[] {
-                new Import("MICROPHONE", "javax.sound.sampled.Port.Info", true),
-              })
-          .put(
-              "VK_ENTER",
-              new Import[] {
-                new Import("VK_ENTER", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "MAX_RADIX",
-              new Import[] {
-                new Import("MAX_RADIX", "java.lang.Character", true),
-              })
-          .put(
-              "CHOU_30",
-              new Import[] {
-                new Import("CHOU_30", "javax.print.attribute.standard.MediaSize.JIS", true),
-              })
-          .put(
-              "PosixFileAttributeView",
-              new Import[] {
-                new Import("PosixFileAttributeView", "java.nio.file.attribute", false),
-              })
-          .put(
-              "PAGEABLE",
-              new Import[] {
-                new Import("PAGEABLE", "javax.print.DocFlavor.SERVICE_FORMATTED", true),
-              })
-          .put(
-              "ServerRequestInterceptorOperations",
-              new Import[] {
-                new Import(
-                    "ServerRequestInterceptorOperations", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "SHAVIAN",
-              new Import[] {
-                new Import("SHAVIAN", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "Utilities",
-              new Import[] {
-                new Import("Utilities", "javax.swing.text", false),
-              })
-          .put(
-              "findMBeanServer",
-              new Import[] {
-                new Import("findMBeanServer", "javax.management.MBeanServerFactory", true),
-              })
-          .put(
-              "URIException",
-              new Import[] {
-                new Import("URIException", "javax.print", false),
-              })
-          .put(
-              "AccessibleComponent",
-              new Import[] {
-                new Import("AccessibleComponent", "javax.accessibility", false),
-              })
-          .put(
-              "BeanContextChildSupport",
-              new Import[] {
-                new Import("BeanContextChildSupport", "java.beans.beancontext", false),
-              })
-          .put(
-              "MAXIMIZED_VERT",
-              new Import[] {
-                new Import("MAXIMIZED_VERT", "java.awt.Frame", true),
-              })
-          .put(
-              "getCurrentTheme",
-              new Import[] {
-                new Import("getCurrentTheme", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "CompilationMXBean",
-              new Import[] {
-                new Import("CompilationMXBean", "java.lang.management", false),
-              })
-          .put(
-              "POINT_INFINITY",
-              new Import[] {
-                new Import("POINT_INFINITY", "java.security.spec.ECPoint", true),
-              })
-          .put(
-              "DESKTOP_ICON",
-              new Import[] {
-                new Import("DESKTOP_ICON", "javax.accessibility.AccessibleRole", true),
-                new Import("DESKTOP_ICON", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "NUMBERS",
-              new Import[] {
-                new Import("NUMBERS", "javax.swing.text.html.parser.DTDConstants", true),
-              })
-          .put(
-              "setJNDIContext",
-              new Import[] {
-                new Import("setJNDIContext", "javax.sql.rowset.spi.SyncFactory", true),
-              })
-          .put(
-              "readOnlyAction",
-              new Import[] {
-                new Import("readOnlyAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "newInstance",
-              new Import[] {
-                new Import("newInstance", "java.lang.reflect.Array", true),
-                new Import("newInstance", "java.net.URLClassLoader", true),
-                new Import("newInstance", "java.security.KeyStore.Builder", true),
-                new Import("newInstance", "javax.xml.bind.JAXBContext", true),
-                new Import("newInstance", "javax.xml.datatype.DatatypeFactory", true),
-                new Import("newInstance", "javax.xml.parsers.DocumentBuilderFactory", true),
-                new Import("newInstance", "javax.xml.parsers.SAXParserFactory", true),
-                new Import("newInstance", "javax.xml.soap.MessageFactory", true),
-                new Import("newInstance", "javax.xml.soap.SOAPConnectionFactory", true),
-                new Import("newInstance", "javax.xml.soap.SOAPElementFactory", true),
-                new Import("newInstance", "javax.xml.soap.SOAPFactory", true),
-                new Import("newInstance", "javax.xml.stream.XMLEventFactory", true),
-                new Import("newInstance", "javax.xml.stream.XMLInputFactory", true),
-                new Import("newInstance", "javax.xml.stream.XMLOutputFactory", true),
-                new Import("newInstance", "javax.xml.transform.TransformerFactory", true),
-                new Import("newInstance", "javax.xml.validation.SchemaFactory", true),
-                new Import("newInstance", "javax.xml.xpath.XPathFactory", true),
-                new Import("newInstance", "org.w3c.dom.bootstrap.DOMImplementationRegistry", true),
-              })
-          .put(
-              "SEPTEMBER",
-              new Import[] {
-                new Import("SEPTEMBER", "java.util.Calendar", true),
-                new Import("SEPTEMBER", "javax.xml.datatype.DatatypeConstants", true),
-              })
-          .put(
-              "BACKGROUND_REPEAT",
-              new Import[] {
-                new Import("BACKGROUND_REPEAT", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "parkNanos",
-              new Import[] {
-                new Import("parkNanos", "java.util.concurrent.locks.LockSupport", true),
-              })
-          .put(
-              "SpaceBelow",
-              new Import[] {
-                new Import("SpaceBelow", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "TypeParameterElement",
-              new Import[] {
-                new Import("TypeParameterElement", "javax.lang.model.element", false),
-              })
-          .put(
-              "CHOU_40",
-              new Import[] {
-                new Import("CHOU_40", "javax.print.attribute.standard.MediaSize.JIS", true),
-              })
-          .put(
-              "functionColumnResult",
-              new Import[] {
-                new Import("functionColumnResult", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "HTTP_UNSUPPORTED_TYPE",
-              new Import[] {
-                new Import("HTTP_UNSUPPORTED_TYPE", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "File",
-              new Import[] {
-                new Import("File", "java.io", false),
-              })
-          .put(
-              "withThreadPool",
-              new Import[] {
-                new Import("withThreadPool", "java.nio.channels.AsynchronousChannelGroup", true),
-              })
-          .put(
-              "magenta",
-              new Import[] {
-                new Import("magenta", "java.awt.Color", true),
-              })
-          .put(
-              "FLOAT",
-              new Import[] {
-                new Import("FLOAT", "java.sql.Types", true),
-                new Import("FLOAT", "javax.management.openmbean.SimpleType", true),
-                new Import("FLOAT", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "XmlAttribute",
-              new Import[] {
-                new Import("XmlAttribute", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "BasicDesktopPaneUI",
-              new Import[] {
-                new Import("BasicDesktopPaneUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "ISO_INSTANT",
-              new Import[] {
-                new Import("ISO_INSTANT", "java.time.format.DateTimeFormatter", true),
-              })
-          .put(
-              "CONTROL_TEXT",
-              new Import[] {
-                new Import("CONTROL_TEXT", "java.awt.SystemColor", true),
-              })
-          .put(
-              "READ_ONLY",
-              new Import[] {
-                new Import("READ_ONLY", "java.nio.channels.FileChannel.MapMode", true),
-              })
-          .put(
-              "parallelSort",
-              new Import[] {
-                new Import("parallelSort", "java.util.Arrays", true),
-              })
-          .put(
-              "RATA_DIE",
-              new Import[] {
-                new Import("RATA_DIE", "java.time.temporal.JulianFields", true),
-              })
-          .put(
-              "GroupLayout",
-              new Import[] {
-                new Import("GroupLayout", "javax.swing", false),
-              })
-          .put(
-              "InputMethodListener",
-              new Import[] {
-                new Import("InputMethodListener", "java.awt.event", false),
-              })
-          .put(
-              "StrokeBorder",
-              new Import[] {
-                new Import("StrokeBorder", "javax.swing.border", false),
-              })
-          .put(
-              "LEAD_NONE",
-              new Import[] {
-                new Import("LEAD_NONE", "javax.swing.text.TabStop", true),
-              })
-          .put(
-              "Synthesizer",
-              new Import[] {
-                new Import("Synthesizer", "javax.sound.midi", false),
-              })
-          .put(
-              "icHdrModel",
-              new Import[] {
-                new Import("icHdrModel", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "FONT_SIZE",
-              new Import[] {
-                new Import("FONT_SIZE", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "AUTO_RESIZE_OFF",
-              new Import[] {
-                new Import("AUTO_RESIZE_OFF", "javax.swing.JTable", true),
-              })
-          .put(
-              "icSaturation",
-              new Import[] {
-                new Import("icSaturation", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "MetalButtonUI",
-              new Import[] {
-                new Import("MetalButtonUI", "javax.swing.plaf.metal", false),
-              })
-          .put(
-              "MOUSE_MOVE",
-              new Import[] {
-                new Import("MOUSE_MOVE", "java.awt.Event", true),
-              })
-          .put(
-              "POPUP_MENU",
-              new Import[] {
-                new Import("POPUP_MENU", "javax.accessibility.AccessibleRole", true),
-                new Import("POPUP_MENU", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "dayOfWeekInMonth",
-              new Import[] {
-                new Import("dayOfWeekInMonth", "java.time.temporal.TemporalAdjusters", true),
-              })
-          .put(
-              "SERVER_AUTH",
-              new Import[] {
-                new Import("SERVER_AUTH", "javax.security.sasl.Sasl", true),
-              })
-          .put(
-              "ValidationEventLocatorImpl",
-              new Import[] {
-                new Import("ValidationEventLocatorImpl", "javax.xml.bind.helpers", false),
-              })
-          .put(
-              "MEDIA_LOW",
-              new Import[] {
-                new Import("MEDIA_LOW", "javax.print.attribute.standard.PrinterStateReason", true),
-              })
-          .put(
-              "ROUND_HALF_EVEN",
-              new Import[] {
-                new Import("ROUND_HALF_EVEN", "java.math.BigDecimal", true),
-              })
-          .put(
-              "SECOND",
-              new Import[] {
-                new Import("SECOND", "java.text.DateFormat.Field", true),
-                new Import("SECOND", "java.util.Calendar", true),
-              })
-          .put(
-              "BasicTextPaneUI",
-              new Import[] {
-                new Import("BasicTextPaneUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "SynthLabelUI",
-              new Import[] {
-                new Import("SynthLabelUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "FileDialog",
-              new Import[] {
-                new Import("FileDialog", "java.awt", false),
-              })
-          .put(
-              "APPROVE_SELECTION",
-              new Import[] {
-                new Import("APPROVE_SELECTION", "javax.swing.JFileChooser", true),
-              })
-          .build();
-}
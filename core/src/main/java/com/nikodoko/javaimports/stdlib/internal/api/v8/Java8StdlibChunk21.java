@@ -1,1569 +0,0 @@
-// Code generated by GenerateStdlib.java. DO NOT EDIT.
-package com.nikodoko.javaimports.stdlib.internal.api.v8;
-
-import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
-import java.util.Map;
-
-public class Java8StdlibChunk21 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
-          .put(
-              "Entity",
-              new Import[] {
-                new Import("Entity", "javax.swing.text.html.parser", false),
-                new Import("Entity", "org.w3c.dom", false),
-              })
-          .put(
-              "ofLocalizedDateTime",
-              new Import[] {
-                new Import("ofLocalizedDateTime", "java.time.format.DateTimeFormatter", true),
-              })
-          .put(
-              "Query",
-              new Import[] {
-                new Import("Query", "javax.management", false),
-              })
-          .put(
-              "getCurrentEvent",
-              new Import[] {
-                new Import("getCurrentEvent", "java.awt.EventQueue", true),
-              })
-          .put(
-              "ENCTYPE",
-              new Import[] {
-                new Import("ENCTYPE", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "TAG_FEAT",
-              new Import[] {
-                new Import("TAG_FEAT", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "getOwner",
-              new Import[] {
-                new Import("getOwner", "java.nio.file.Files", true),
-              })
-          .put(
-              "LookAndFeel",
-              new Import[] {
-                new Import("LookAndFeel", "javax.swing", false),
-              })
-          .put(
-              "asList",
-              new Import[] {
-                new Import("asList", "java.util.Arrays", true),
-              })
-          .put(
-              "systemDefault",
-              new Import[] {
-                new Import("systemDefault", "java.time.ZoneId", true),
-              })
-          .put(
-              "MixerProvider",
-              new Import[] {
-                new Import("MixerProvider", "javax.sound.sampled.spi", false),
-              })
-          .put(
-              "trailing",
-              new Import[] {
-                new Import("trailing", "java.awt.font.TextHitInfo", true),
-              })
-          .put(
-              "StdDCLuminance",
-              new Import[] {
-                new Import("StdDCLuminance", "javax.imageio.plugins.jpeg.JPEGHuffmanTable", true),
-              })
-          .put(
-              "MultiDocPrintJob",
-              new Import[] {
-                new Import("MultiDocPrintJob", "javax.print", false),
-              })
-          .put(
-              "UnresolvedAddressException",
-              new Import[] {
-                new Import("UnresolvedAddressException", "java.nio.channels", false),
-              })
-          .put(
-              "AccessibleTable",
-              new Import[] {
-                new Import("AccessibleTable", "javax.accessibility", false),
-              })
-          .put(
-              "SeparatorUI",
-              new Import[] {
-                new Import("SeparatorUI", "javax.swing.plaf", false),
-              })
-          .put(
-              "INSCRIPTIONAL_PARTHIAN",
-              new Import[] {
-                new Import("INSCRIPTIONAL_PARTHIAN", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "FilterReader",
-              new Import[] {
-                new Import("FilterReader", "java.io", false),
-              })
-          .put(
-              "ReadLock",
-              new Import[] {
-                new Import("ReadLock", "java.util.concurrent.locks.ReentrantReadWriteLock", false),
-              })
-          .put(
-              "TOGGLE_POPUP",
-              new Import[] {
-                new Import("TOGGLE_POPUP", "javax.accessibility.AccessibleAction", true),
-              })
-          .put(
-              "parameterModeIn",
-              new Import[] {
-                new Import("parameterModeIn", "java.sql.ParameterMetaData", true),
-              })
-          .put(
-              "BindException",
-              new Import[] {
-                new Import("BindException", "java.net", false),
-              })
-          .put(
-              "MetalComboBoxUI",
-              new Import[] {
-                new Import("MetalComboBoxUI", "javax.swing.plaf.metal", false),
-              })
-          .put(
-              "ACTION_COPY_OR_MOVE",
-              new Import[] {
-                new Import("ACTION_COPY_OR_MOVE", "java.awt.dnd.DnDConstants", true),
-              })
-          .put(
-              "IMMUTABLE",
-              new Import[] {
-                new Import("IMMUTABLE", "java.util.Spliterator", true),
-              })
-          .put(
-              "BMPImageWriteParam",
-              new Import[] {
-                new Import("BMPImageWriteParam", "javax.imageio.plugins.bmp", false),
-              })
-          .put(
-              "OBSERVED_ATTRIBUTE_ERROR",
-              new Import[] {
-                new Import(
-                    "OBSERVED_ATTRIBUTE_ERROR",
-                    "javax.management.monitor.MonitorNotification",
-                    true),
-              })
-          .put(
-              "BALANCE",
-              new Import[] {
-                new Import("BALANCE", "javax.sound.sampled.FloatControl.Type", true),
-              })
-          .put(
-              "AsynchronousChannelProvider",
-              new Import[] {
-                new Import("AsynchronousChannelProvider", "java.nio.channels.spi", false),
-              })
-          .put(
-              "SQLNonTransientException",
-              new Import[] {
-                new Import("SQLNonTransientException", "java.sql", false),
-              })
-          .put(
-              "StyleSheet",
-              new Import[] {
-                new Import("StyleSheet", "javax.swing.text.html", false),
-              })
-          .put(
-              "XmlAccessorType",
-              new Import[] {
-                new Import("XmlAccessorType", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "JULY",
-              new Import[] {
-                new Import("JULY", "java.util.Calendar", true),
-                new Import("JULY", "javax.xml.datatype.DatatypeConstants", true),
-              })
-          .put(
-              "DefaultCopyDrop",
-              new Import[] {
-                new Import("DefaultCopyDrop", "java.awt.dnd.DragSource", true),
-              })
-          .put(
-              "TAGS",
-              new Import[] {
-                new Import("TAGS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "getSystemTextColor",
-              new Import[] {
-                new Import("getSystemTextColor", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "CellEditor",
-              new Import[] {
-                new Import("CellEditor", "javax.swing", false),
-              })
-          .put(
-              "HORIZONTAL_SPLIT",
-              new Import[] {
-                new Import("HORIZONTAL_SPLIT", "javax.swing.JSplitPane", true),
-              })
-          .put(
-              "SEG_LINETO",
-              new Import[] {
-                new Import("SEG_LINETO", "java.awt.geom.PathIterator", true),
-              })
-          .put(
-              "FocusTraversalPolicy",
-              new Import[] {
-                new Import("FocusTraversalPolicy", "java.awt", false),
-              })
-          .put(
-              "MultiPixelPackedSampleModel",
-              new Import[] {
-                new Import("MultiPixelPackedSampleModel", "java.awt.image", false),
-              })
-          .put(
-              "nextAfter",
-              new Import[] {
-                new Import("nextAfter", "java.lang.Math", true),
-                new Import("nextAfter", "java.lang.StrictMath", true),
-              })
-          .put(
-              "getMenuBarBorder",
-              new Import[] {
-                new Import("getMenuBarBorder", "javax.swing.plaf.basic.BasicBorders", true),
-              })
-          .put(
-              "MAX_VALUE",
-              new Import[] {
-                new Import("MAX_VALUE", "java.lang.Byte", true),
-                new Import("MAX_VALUE", "java.lang.Character", true),
-                new Import("MAX_VALUE", "java.lang.Double", true),
-                new Import("MAX_VALUE", "java.lang.Float", true),
-                new Import("MAX_VALUE", "java.lang.Integer", true),
-                new Import("MAX_VALUE", "java.lang.Long", true),
-                new Import("MAX_VALUE", "java.lang.Short", true),
-                new Import("MAX_VALUE", "java.time.Year", true),
-              })
-          .put(
-              "InvalidMarkException",
-              new Import[] {
-                new Import("InvalidMarkException", "java.nio", false),
-              })
-          .put(
-              "MatteBorder",
-              new Import[] {
-                new Import("MatteBorder", "javax.swing.border", false),
-              })
-          .put(
-              "showMessageDialog",
-              new Import[] {
-                new Import("showMessageDialog", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "MultiRootPaneUI",
-              new Import[] {
-                new Import("MultiRootPaneUI", "javax.swing.plaf.multi", false),
-              })
-          .put(
-              "SystemException",
-              new Import[] {
-                new Import("SystemException", "org.omg.CORBA", false),
-              })
-          .put(
-              "TrayIcon",
-              new Import[] {
-                new Import("TrayIcon", "java.awt", false),
-              })
-          .put(
-              "SOAP12HTTP_BINDING",
-              new Import[] {
-                new Import("SOAP12HTTP_BINDING", "javax.xml.ws.soap.SOAPBinding", true),
-              })
-          .put(
-              "WatchEvent",
-              new Import[] {
-                new Import("WatchEvent", "java.nio.file", false),
-              })
-          .put(
-              "getRadioButtonBorder",
-              new Import[] {
-                new Import("getRadioButtonBorder", "javax.swing.plaf.basic.BasicBorders", true),
-              })
-          .put(
-              "DatatypeConverterInterface",
-              new Import[] {
-                new Import("DatatypeConverterInterface", "javax.xml.bind", false),
-              })
-          .put(
-              "Queue",
-              new Import[] {
-                new Import("Queue", "java.util", false),
-              })
-          .put(
-              "TINYINT",
-              new Import[] {
-                new Import("TINYINT", "java.sql.Types", true),
-              })
-          .put(
-              "NA_LETTER_TRANSPARENT",
-              new Import[] {
-                new Import(
-                    "NA_LETTER_TRANSPARENT", "javax.print.attribute.standard.MediaName", true),
-              })
-          .put(
-              "JUNE",
-              new Import[] {
-                new Import("JUNE", "java.util.Calendar", true),
-                new Import("JUNE", "javax.xml.datatype.DatatypeConstants", true),
-              })
-          .put(
-              "AccessibleResourceBundle",
-              new Import[] {
-                new Import("AccessibleResourceBundle", "javax.accessibility", false),
-              })
-          .put(
-              "_PERSISTENT",
-              new Import[] {
-                new Import("_PERSISTENT", "org.omg.PortableServer.LifespanPolicyValue", true),
-              })
-          .put(
-              "REF_invokeVirtual",
-              new Import[] {
-                new Import("REF_invokeVirtual", "java.lang.invoke.MethodHandleInfo", true),
-              })
-          .put(
-              "BORDER_RIGHT",
-              new Import[] {
-                new Import("BORDER_RIGHT", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "newCachedThreadPool",
-              new Import[] {
-                new Import("newCachedThreadPool", "java.util.concurrent.Executors", true),
-              })
-          .put(
-              "ColorUIResource",
-              new Import[] {
-                new Import("ColorUIResource", "javax.swing.plaf", false),
-              })
-          .put(
-              "MODAL_LAYER",
-              new Import[] {
-                new Import("MODAL_LAYER", "javax.swing.JLayeredPane", true),
-              })
-          .put(
-              "LoadStoreParameter",
-              new Import[] {
-                new Import("LoadStoreParameter", "java.security.KeyStore", false),
-              })
-          .put(
-              "OP_CONNECT",
-              new Import[] {
-                new Import("OP_CONNECT", "java.nio.channels.SelectionKey", true),
-              })
-          .put(
-              "COMBINING",
-              new Import[] {
-                new Import("COMBINING", "java.awt.font.GlyphMetrics", true),
-              })
-          .put(
-              "ITEM_LAST",
-              new Import[] {
-                new Import("ITEM_LAST", "java.awt.event.ItemEvent", true),
-              })
-          .put(
-              "GroupPrincipal",
-              new Import[] {
-                new Import("GroupPrincipal", "java.nio.file.attribute", false),
-              })
-          .put(
-              "AdapterActivatorOperations",
-              new Import[] {
-                new Import("AdapterActivatorOperations", "org.omg.PortableServer", false),
-              })
-          .put(
-              "TAG_FVAR",
-              new Import[] {
-                new Import("TAG_FVAR", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "JMenuBar",
-              new Import[] {
-                new Import("JMenuBar", "javax.swing", false),
-              })
-          .put(
-              "Types",
-              new Import[] {
-                new Import("Types", "java.sql", false),
-                new Import("Types", "javax.lang.model.util", false),
-              })
-          .put(
-              "getFileAttributeView",
-              new Import[] {
-                new Import("getFileAttributeView", "java.nio.file.Files", true),
-              })
-          .put(
-              "ISO_A10",
-              new Import[] {
-                new Import("ISO_A10", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_A10", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "getDefaultSocketFactory",
-              new Import[] {
-                new Import("getDefaultSocketFactory", "java.rmi.server.RMISocketFactory", true),
-              })
-          .put(
-              "PRIVATE_KEY",
-              new Import[] {
-                new Import("PRIVATE_KEY", "javax.crypto.Cipher", true),
-              })
-          .put(
-              "JobStateReason",
-              new Import[] {
-                new Import("JobStateReason", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "TOOL_BAR_CONTENT",
-              new Import[] {
-                new Import("TOOL_BAR_CONTENT", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "DST_ATOP",
-              new Import[] {
-                new Import("DST_ATOP", "java.awt.AlphaComposite", true),
-              })
-          .put(
-              "longBitsToDouble",
-              new Import[] {
-                new Import("longBitsToDouble", "java.lang.Double", true),
-              })
-          .put(
-              "ROOT_PANE",
-              new Import[] {
-                new Import("ROOT_PANE", "javax.accessibility.AccessibleRole", true),
-                new Import("ROOT_PANE", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "Comparator",
-              new Import[] {
-                new Import("Comparator", "java.util", false),
-              })
-          .put(
-              "ComponentUI",
-              new Import[] {
-                new Import("ComponentUI", "javax.swing.plaf", false),
-              })
-          .put(
-              "TreeNode",
-              new Import[] {
-                new Import("TreeNode", "javax.swing.tree", false),
-              })
-          .put(
-              "IIOWriteWarningListener",
-              new Import[] {
-                new Import("IIOWriteWarningListener", "javax.imageio.event", false),
-              })
-          .put(
-              "decrementExact",
-              new Import[] {
-                new Import("decrementExact", "java.lang.Math", true),
-              })
-          .put(
-              "CompoundBorder",
-              new Import[] {
-                new Import("CompoundBorder", "javax.swing.border", false),
-              })
-          .put(
-              "InvalidKeySpecException",
-              new Import[] {
-                new Import("InvalidKeySpecException", "java.security.spec", false),
-              })
-          .put(
-              "propertyKey",
-              new Import[] {
-                new Import("propertyKey", "javax.swing.plaf.basic.BasicHTML", true),
-              })
-          .put(
-              "ENCLOSED_ALPHANUMERICS",
-              new Import[] {
-                new Import("ENCLOSED_ALPHANUMERICS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "SynthSeparatorUI",
-              new Import[] {
-                new Import("SynthSeparatorUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "IndexOutOfBoundsException",
-              new Import[] {
-                new Import("IndexOutOfBoundsException", "java.lang", false),
-              })
-          .put(
-              "FIXED",
-              new Import[] {
-                new Import("FIXED", "javax.swing.text.html.parser.DTDConstants", true),
-              })
-          .put(
-              "RootPaneContainer",
-              new Import[] {
-                new Import("RootPaneContainer", "javax.swing", false),
-              })
-          .put(
-              "VK_GREATER",
-              new Import[] {
-                new Import("VK_GREATER", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "getRootFrame",
-              new Import[] {
-                new Import("getRootFrame", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "WIDTH_CONDENSED",
-              new Import[] {
-                new Import("WIDTH_CONDENSED", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "MouseWheelEvent",
-              new Import[] {
-                new Import("MouseWheelEvent", "java.awt.event", false),
-              })
-          .put(
-              "OffsetDateTime",
-              new Import[] {
-                new Import("OffsetDateTime", "java.time", false),
-              })
-          .put(
-              "SEVERITY_ERROR",
-              new Import[] {
-                new Import("SEVERITY_ERROR", "org.w3c.dom.DOMError", true),
-              })
-          .put(
-              "TYPE_BICUBIC",
-              new Import[] {
-                new Import("TYPE_BICUBIC", "java.awt.image.AffineTransformOp", true),
-              })
-          .put(
-              "IconUIResource",
-              new Import[] {
-                new Import("IconUIResource", "javax.swing.plaf", false),
-              })
-          .put(
-              "CheckedOutputStream",
-              new Import[] {
-                new Import("CheckedOutputStream", "java.util.zip", false),
-              })
-          .put(
-              "tk_string",
-              new Import[] {
-                new Import("tk_string", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "isDirectory",
-              new Import[] {
-                new Import("isDirectory", "java.nio.file.Files", true),
-              })
-          .put(
-              "CANADA",
-              new Import[] {
-                new Import("CANADA", "java.util.Locale", true),
-              })
-          .put(
-              "getReceiver",
-              new Import[] {
-                new Import("getReceiver", "javax.sound.midi.MidiSystem", true),
-              })
-          .put(
-              "DefaultMutableTreeNode",
-              new Import[] {
-                new Import("DefaultMutableTreeNode", "javax.swing.tree", false),
-              })
-          .put(
-              "CRC32",
-              new Import[] {
-                new Import("CRC32", "java.util.zip", false),
-              })
-          .put(
-              "MARKER_SUPPLY_EMPTY",
-              new Import[] {
-                new Import(
-                    "MARKER_SUPPLY_EMPTY",
-                    "javax.print.attribute.standard.PrinterStateReason",
-                    true),
-              })
-          .put(
-              "ALCHEMICAL_SYMBOLS",
-              new Import[] {
-                new Import("ALCHEMICAL_SYMBOLS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "random",
-              new Import[] {
-                new Import("random", "java.lang.Math", true),
-                new Import("random", "java.lang.StrictMath", true),
-              })
-          .put(
-              "ALIGN_CENTER",
-              new Import[] {
-                new Import("ALIGN_CENTER", "javax.swing.text.StyleConstants", true),
-                new Import("ALIGN_CENTER", "javax.swing.text.TabStop", true),
-              })
-          .put(
-              "FutureTask",
-              new Import[] {
-                new Import("FutureTask", "java.util.concurrent", false),
-              })
-          .put(
-              "SIZED",
-              new Import[] {
-                new Import("SIZED", "java.util.Spliterator", true),
-              })
-          .put(
-              "BORDER_BOTTOM_STYLE",
-              new Import[] {
-                new Import("BORDER_BOTTOM_STYLE", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "XMLReaderFactory",
-              new Import[] {
-                new Import("XMLReaderFactory", "org.xml.sax.helpers", false),
-              })
-          .put(
-              "getTreeComputerIcon",
-              new Import[] {
-                new Import("getTreeComputerIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
-              })
-          .put(
-              "isMirrored",
-              new Import[] {
-                new Import("isMirrored", "java.lang.Character", true),
-              })
-          .put(
-              "EQUAL",
-              new Import[] {
-                new Import("EQUAL", "javax.xml.datatype.DatatypeConstants", true),
-              })
-          .put(
-              "MTOMFeature",
-              new Import[] {
-                new Import("MTOMFeature", "javax.xml.ws.soap", false),
-              })
-          .put(
-              "TaggedProfile",
-              new Import[] {
-                new Import("TaggedProfile", "org.omg.IOP", false),
-              })
-          .put(
-              "RoleResult",
-              new Import[] {
-                new Import("RoleResult", "javax.management.relation", false),
-              })
-          .put(
-              "Severity",
-              new Import[] {
-                new Import("Severity", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "getString",
-              new Import[] {
-                new Import("getString", "javax.swing.UIManager", true),
-              })
-          .put(
-              "lastDayOfMonth",
-              new Import[] {
-                new Import("lastDayOfMonth", "java.time.temporal.TemporalAdjusters", true),
-              })
-          .put(
-              "DefaultHandler",
-              new Import[] {
-                new Import("DefaultHandler", "org.xml.sax.helpers", false),
-              })
-          .put(
-              "currentManager",
-              new Import[] {
-                new Import("currentManager", "javax.swing.RepaintManager", true),
-              })
-          .put(
-              "TEXT_TRANSFORM",
-              new Import[] {
-                new Import("TEXT_TRANSFORM", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "SSLEngineResult",
-              new Import[] {
-                new Import("SSLEngineResult", "javax.net.ssl", false),
-              })
-          .put(
-              "publish",
-              new Import[] {
-                new Import("publish", "javax.xml.ws.Endpoint", true),
-              })
-          .put(
-              "LOCLEN",
-              new Import[] {
-                new Import("LOCLEN", "java.util.jar.JarEntry", true),
-                new Import("LOCLEN", "java.util.jar.JarFile", true),
-                new Import("LOCLEN", "java.util.jar.JarInputStream", true),
-                new Import("LOCLEN", "java.util.jar.JarOutputStream", true),
-                new Import("LOCLEN", "java.util.zip.ZipEntry", true),
-                new Import("LOCLEN", "java.util.zip.ZipFile", true),
-                new Import("LOCLEN", "java.util.zip.ZipInputStream", true),
-                new Import("LOCLEN", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "HOME",
-              new Import[] {
-                new Import("HOME", "java.awt.Event", true),
-              })
-          .put(
-              "numberOfTrailingZeros",
-              new Import[] {
-                new Import("numberOfTrailingZeros", "java.lang.Integer", true),
-                new Import("numberOfTrailingZeros", "java.lang.Long", true),
-              })
-          .put(
-              "FLAG_MARKERS",
-              new Import[] {
-                new Import("FLAG_MARKERS", "java.lang.invoke.LambdaMetafactory", true),
-              })
-          .put(
-              "Fidelity",
-              new Import[] {
-                new Import("Fidelity", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "computeDifference",
-              new Import[] {
-                new Import("computeDifference", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "ClientRequestInterceptor",
-              new Import[] {
-                new Import("ClientRequestInterceptor", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "NUMERIC_SHAPING",
-              new Import[] {
-                new Import("NUMERIC_SHAPING", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "CopyOption",
-              new Import[] {
-                new Import("CopyOption", "java.nio.file", false),
-              })
-          .put(
-              "typeSearchable",
-              new Import[] {
-                new Import("typeSearchable", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "XmlMimeType",
-              new Import[] {
-                new Import("XmlMimeType", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "PROCESSING",
-              new Import[] {
-                new Import("PROCESSING", "javax.print.attribute.standard.JobState", true),
-                new Import("PROCESSING", "javax.print.attribute.standard.PrinterState", true),
-              })
-          .put(
-              "TransferQueue",
-              new Import[] {
-                new Import("TransferQueue", "java.util.concurrent", false),
-              })
-          .put(
-              "StateEdit",
-              new Import[] {
-                new Import("StateEdit", "javax.swing.undo", false),
-              })
-          .put(
-              "NT_STRING_UID_NAME",
-              new Import[] {
-                new Import("NT_STRING_UID_NAME", "org.ietf.jgss.GSSName", true),
-              })
-          .put(
-              "BasicRadioButtonMenuItemUI",
-              new Import[] {
-                new Import("BasicRadioButtonMenuItemUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "MemoryNotificationInfo",
-              new Import[] {
-                new Import("MemoryNotificationInfo", "java.lang.management", false),
-              })
-          .put(
-              "encodeJavaMIMEType",
-              new Import[] {
-                new Import("encodeJavaMIMEType", "java.awt.datatransfer.SystemFlavorMap", true),
-              })
-          .put(
-              "HOLD_CURSORS_OVER_COMMIT",
-              new Import[] {
-                new Import("HOLD_CURSORS_OVER_COMMIT", "java.sql.ResultSet", true),
-              })
-          .put(
-              "TYPE_USHORT",
-              new Import[] {
-                new Import("TYPE_USHORT", "java.awt.image.DataBuffer", true),
-              })
-          .put(
-              "HORIZONTAL_SCROLLBAR_AS_NEEDED",
-              new Import[] {
-                new Import(
-                    "HORIZONTAL_SCROLLBAR_AS_NEEDED", "javax.swing.ScrollPaneConstants", true),
-              })
-          .put(
-              "XAConnection",
-              new Import[] {
-                new Import("XAConnection", "javax.sql", false),
-              })
-          .put(
-              "VK_AT",
-              new Import[] {
-                new Import("VK_AT", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "AsynchronousByteChannel",
-              new Import[] {
-                new Import("AsynchronousByteChannel", "java.nio.channels", false),
-              })
-          .put(
-              "AbstractLongSpliterator",
-              new Import[] {
-                new Import("AbstractLongSpliterator", "java.util.Spliterators", false),
-              })
-          .put(
-              "MENU_ITEM",
-              new Import[] {
-                new Import("MENU_ITEM", "javax.accessibility.AccessibleRole", true),
-                new Import("MENU_ITEM", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "SocketFactory",
-              new Import[] {
-                new Import("SocketFactory", "javax.net", false),
-              })
-          .put(
-              "RecursiveAction",
-              new Import[] {
-                new Import("RecursiveAction", "java.util.concurrent", false),
-              })
-          .put(
-              "printAnySimpleType",
-              new Import[] {
-                new Import("printAnySimpleType", "javax.xml.bind.DatatypeConverter", true),
-              })
-          .put(
-              "UnsatisfiedLinkError",
-              new Import[] {
-                new Import("UnsatisfiedLinkError", "java.lang", false),
-              })
-          .put(
-              "SslRMIServerSocketFactory",
-              new Import[] {
-                new Import("SslRMIServerSocketFactory", "javax.rmi.ssl", false),
-              })
-          .put(
-              "getDriver",
-              new Import[] {
-                new Import("getDriver", "java.sql.DriverManager", true),
-              })
-          .put(
-              "Mac",
-              new Import[] {
-                new Import("Mac", "javax.crypto", false),
-              })
-          .put(
-              "YI_RADICALS",
-              new Import[] {
-                new Import("YI_RADICALS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "findMedia",
-              new Import[] {
-                new Import("findMedia", "javax.print.attribute.standard.MediaSize", true),
-              })
-          .put(
-              "HTTP_NOT_IMPLEMENTED",
-              new Import[] {
-                new Import("HTTP_NOT_IMPLEMENTED", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "averagingDouble",
-              new Import[] {
-                new Import("averagingDouble", "java.util.stream.Collectors", true),
-              })
-          .put(
-              "Map",
-              new Import[] {
-                new Import("Map", "java.util", false),
-              })
-          .put(
-              "PolicyErrorHelper",
-              new Import[] {
-                new Import("PolicyErrorHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "RowSetMetaData",
-              new Import[] {
-                new Import("RowSetMetaData", "javax.sql", false),
-              })
-          .put(
-              "ItemEvent",
-              new Import[] {
-                new Import("ItemEvent", "java.awt.event", false),
-              })
-          .put(
-              "GYEARMONTH",
-              new Import[] {
-                new Import("GYEARMONTH", "javax.xml.datatype.DatatypeConstants", true),
-              })
-          .put(
-              "REF_newInvokeSpecial",
-              new Import[] {
-                new Import("REF_newInvokeSpecial", "java.lang.invoke.MethodHandleInfo", true),
-              })
-          .put(
-              "isHTMLString",
-              new Import[] {
-                new Import("isHTMLString", "javax.swing.plaf.basic.BasicHTML", true),
-              })
-          .put(
-              "TAG_EBDT",
-              new Import[] {
-                new Import("TAG_EBDT", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "ofLocale",
-              new Import[] {
-                new Import("ofLocale", "java.time.chrono.Chronology", true),
-              })
-          .put(
-              "Diagnostic",
-              new Import[] {
-                new Import("Diagnostic", "javax.tools", false),
-              })
-          .put(
-              "JPEGQTable",
-              new Import[] {
-                new Import("JPEGQTable", "javax.imageio.plugins.jpeg", false),
-              })
-          .put(
-              "Callable",
-              new Import[] {
-                new Import("Callable", "java.util.concurrent", false),
-              })
-          .put(
-              "ToggleButtonBorder",
-              new Import[] {
-                new Import("ToggleButtonBorder", "javax.swing.plaf.basic.BasicBorders", false),
-                new Import("ToggleButtonBorder", "javax.swing.plaf.metal.MetalBorders", false),
-              })
-          .put(
-              "CalendarNameProvider",
-              new Import[] {
-                new Import("CalendarNameProvider", "java.util.spi", false),
-              })
-          .put(
-              "BEST_COMPRESSION",
-              new Import[] {
-                new Import("BEST_COMPRESSION", "java.util.zip.Deflater", true),
-              })
-          .put(
-              "EFFORT",
-              new Import[] {
-                new Import("EFFORT", "java.util.jar.Pack200.Packer", true),
-              })
-          .put(
-              "NamespaceContext",
-              new Import[] {
-                new Import("NamespaceContext", "javax.xml.namespace", false),
-              })
-          .put(
-              "TAG_OPBD",
-              new Import[] {
-                new Import("TAG_OPBD", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "longStream",
-              new Import[] {
-                new Import("longStream", "java.util.stream.StreamSupport", true),
-              })
-          .put(
-              "MultiToolBarUI",
-              new Import[] {
-                new Import("MultiToolBarUI", "javax.swing.plaf.multi", false),
-              })
-          .put(
-              "FILE",
-              new Import[] {
-                new Import("FILE", "java.awt.JobAttributes.DestinationType", true),
-                new Import(
-                    "FILE", "javax.print.attribute.standard.ReferenceUriSchemesSupported", true),
-              })
-          .put(
-              "DIVIDER_SIZE_PROPERTY",
-              new Import[] {
-                new Import("DIVIDER_SIZE_PROPERTY", "javax.swing.JSplitPane", true),
-              })
-          .put(
-              "JoinRowSet",
-              new Import[] {
-                new Import("JoinRowSet", "javax.sql.rowset", false),
-              })
-          .put(
-              "TAG_CMAP",
-              new Import[] {
-                new Import("TAG_CMAP", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "ENGLISH",
-              new Import[] {
-                new Import("ENGLISH", "java.util.Locale", true),
-              })
-          .put(
-              "getSplitPaneDividerBorder",
-              new Import[] {
-                new Import(
-                    "getSplitPaneDividerBorder", "javax.swing.plaf.basic.BasicBorders", true),
-              })
-          .put(
-              "icCurveCount",
-              new Import[] {
-                new Import("icCurveCount", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "dk_String",
-              new Import[] {
-                new Import("dk_String", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "CharConversionException",
-              new Import[] {
-                new Import("CharConversionException", "java.io", false),
-              })
-          .put(
-              "TELUGU",
-              new Import[] {
-                new Import("TELUGU", "java.awt.font.NumericShaper", true),
-                new Import("TELUGU", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "VK_CONTROL",
-              new Import[] {
-                new Import("VK_CONTROL", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "procedureColumnInOut",
-              new Import[] {
-                new Import("procedureColumnInOut", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "INSERT_ROW_CONFLICT",
-              new Import[] {
-                new Import("INSERT_ROW_CONFLICT", "javax.sql.rowset.spi.SyncResolver", true),
-              })
-          .put(
-              "AttributeSetUtilities",
-              new Import[] {
-                new Import("AttributeSetUtilities", "javax.print.attribute", false),
-              })
-          .put(
-              "PrintMode",
-              new Import[] {
-                new Import("PrintMode", "javax.swing.JTable", false),
-              })
-          .put(
-              "TypeKind",
-              new Import[] {
-                new Import("TypeKind", "javax.lang.model.type", false),
-              })
-          .put(
-              "FixedHolder",
-              new Import[] {
-                new Import("FixedHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "AM_PM_FIELD",
-              new Import[] {
-                new Import("AM_PM_FIELD", "java.text.DateFormat", true),
-              })
-          .put(
-              "SQLPermission",
-              new Import[] {
-                new Import("SQLPermission", "java.sql", false),
-              })
-          .put(
-              "WebParam",
-              new Import[] {
-                new Import("WebParam", "javax.jws", false),
-              })
-          .put(
-              "RELATION_MBEAN_CREATION",
-              new Import[] {
-                new Import(
-                    "RELATION_MBEAN_CREATION",
-                    "javax.management.relation.RelationNotification",
-                    true),
-              })
-          .put(
-              "SetOverrideTypeHelper",
-              new Import[] {
-                new Import("SetOverrideTypeHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "isSymbolicLink",
-              new Import[] {
-                new Import("isSymbolicLink", "java.nio.file.Files", true),
-              })
-          .put(
-              "QUARTO",
-              new Import[] {
-                new Import("QUARTO", "java.awt.PageAttributes.MediaType", true),
-                new Import("QUARTO", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import("QUARTO", "javax.print.attribute.standard.MediaSize.Other", true),
-              })
-          .put(
-              "TYPE_7CLR",
-              new Import[] {
-                new Import("TYPE_7CLR", "java.awt.color.ColorSpace", true),
-              })
-          .put(
-              "SecretKeySpec",
-              new Import[] {
-                new Import("SecretKeySpec", "javax.crypto.spec", false),
-              })
-          .put(
-              "XMLNS_ATTRIBUTE",
-              new Import[] {
-                new Import("XMLNS_ATTRIBUTE", "javax.xml.XMLConstants", true),
-              })
-          .put(
-              "marshal",
-              new Import[] {
-                new Import("marshal", "javax.xml.bind.JAXB", true),
-              })
-          .put(
-              "UNIFIED_CANADIAN_ABORIGINAL_SYLLABICS",
-              new Import[] {
-                new Import(
-                    "UNIFIED_CANADIAN_ABORIGINAL_SYLLABICS",
-                    "java.lang.Character.UnicodeBlock",
-                    true),
-              })
-          .put(
-              "NOTATION_DECLARATION",
-              new Import[] {
-                new Import("NOTATION_DECLARATION", "javax.xml.stream.XMLStreamConstants", true),
-              })
-          .put(
-              "setLookAndFeel",
-              new Import[] {
-                new Import("setLookAndFeel", "javax.swing.UIManager", true),
-              })
-          .put(
-              "FINE",
-              new Import[] {
-                new Import("FINE", "java.util.logging.Level", true),
-              })
-          .put(
-              "_USE_DEFAULT_SERVANT",
-              new Import[] {
-                new Import(
-                    "_USE_DEFAULT_SERVANT",
-                    "org.omg.PortableServer.RequestProcessingPolicyValue",
-                    true),
-              })
-          .put(
-              "localDate",
-              new Import[] {
-                new Import("localDate", "java.time.temporal.TemporalQueries", true),
-              })
-          .put(
-              "UUID",
-              new Import[] {
-                new Import("UUID", "java.util", false),
-              })
-          .put(
-              "ServerRef",
-              new Import[] {
-                new Import("ServerRef", "java.rmi.server", false),
-              })
-          .put(
-              "getLogTimers",
-              new Import[] {
-                new Import("getLogTimers", "javax.swing.Timer", true),
-              })
-          .put(
-              "BUTTON1_DOWN_MASK",
-              new Import[] {
-                new Import("BUTTON1_DOWN_MASK", "java.awt.event.InputEvent", true),
-              })
-          .put(
-              "getWindowTitleForeground",
-              new Import[] {
-                new Import(
-                    "getWindowTitleForeground", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "getPositionBelow",
-              new Import[] {
-                new Import("getPositionBelow", "javax.swing.text.Utilities", true),
-              })
-          .put(
-              "tk_wchar",
-              new Import[] {
-                new Import("tk_wchar", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "createGrayscale",
-              new Import[] {
-                new Import("createGrayscale", "javax.imageio.ImageTypeSpecifier", true),
-              })
-          .put(
-              "setErr",
-              new Import[] {
-                new Import("setErr", "java.lang.System", true),
-              })
-          .put(
-              "SHOWING",
-              new Import[] {
-                new Import("SHOWING", "javax.accessibility.AccessibleState", true),
-              })
-          .put(
-              "URIParameter",
-              new Import[] {
-                new Import("URIParameter", "java.security", false),
-              })
-          .put(
-              "ToolTipManager",
-              new Import[] {
-                new Import("ToolTipManager", "javax.swing", false),
-              })
-          .put(
-              "createBandedRaster",
-              new Import[] {
-                new Import("createBandedRaster", "java.awt.image.Raster", true),
-              })
-          .put(
-              "FILL",
-              new Import[] {
-                new Import("FILL", "java.awt.font.ShapeGraphicAttribute", true),
-              })
-          .put(
-              "AsynchronousCloseException",
-              new Import[] {
-                new Import("AsynchronousCloseException", "java.nio.channels", false),
-              })
-          .put(
-              "RoleList",
-              new Import[] {
-                new Import("RoleList", "javax.management.relation", false),
-              })
-          .put(
-              "PrintEvent",
-              new Import[] {
-                new Import("PrintEvent", "javax.print.event", false),
-              })
-          .put(
-              "tk_ulonglong",
-              new Import[] {
-                new Import("tk_ulonglong", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "HttpExchange",
-              new Import[] {
-                new Import("HttpExchange", "javax.xml.ws.spi.http", false),
-              })
-          .put(
-              "TRUE",
-              new Import[] {
-                new Import("TRUE", "java.lang.Boolean", true),
-                new Import("TRUE", "java.util.jar.Pack200.Packer", true),
-                new Import("TRUE", "java.util.jar.Pack200.Unpacker", true),
-              })
-          .put(
-              "TYPE_BCLR",
-              new Import[] {
-                new Import("TYPE_BCLR", "java.awt.color.ColorSpace", true),
-              })
-          .put(
-              "TextOutputCallback",
-              new Import[] {
-                new Import("TextOutputCallback", "javax.security.auth.callback", false),
-              })
-          .put(
-              "ImageOutputStreamImpl",
-              new Import[] {
-                new Import("ImageOutputStreamImpl", "javax.imageio.stream", false),
-              })
-          .put(
-              "TEXT_PLAIN_UTF_16",
-              new Import[] {
-                new Import("TEXT_PLAIN_UTF_16", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("TEXT_PLAIN_UTF_16", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("TEXT_PLAIN_UTF_16", "javax.print.DocFlavor.URL", true),
-              })
-          .put(
-              "Spliterators",
-              new Import[] {
-                new Import("Spliterators", "java.util", false),
-              })
-          .put(
-              "MetalFileChooserUI",
-              new Import[] {
-                new Import("MetalFileChooserUI", "javax.swing.plaf.metal", false),
-              })
-          .put(
-              "SHOWING_CHANGED",
-              new Import[] {
-                new Import("SHOWING_CHANGED", "java.awt.event.HierarchyEvent", true),
-              })
-          .put(
-              "_DynSequenceStub",
-              new Import[] {
-                new Import("_DynSequenceStub", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "FileOutputStream",
-              new Import[] {
-                new Import("FileOutputStream", "java.io", false),
-              })
-          .put(
-              "DIRECTIONALITY_RIGHT_TO_LEFT_ARABIC",
-              new Import[] {
-                new Import("DIRECTIONALITY_RIGHT_TO_LEFT_ARABIC", "java.lang.Character", true),
-              })
-          .put(
-              "NotActiveException",
-              new Import[] {
-                new Import("NotActiveException", "java.io", false),
-              })
-          .put(
-              "TREE",
-              new Import[] {
-                new Import("TREE", "javax.accessibility.AccessibleRole", true),
-                new Import("TREE", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "TemporalAdjuster",
-              new Import[] {
-                new Import("TemporalAdjuster", "java.time.temporal", false),
-              })
-          .put(
-              "DebugGraphics",
-              new Import[] {
-                new Import("DebugGraphics", "javax.swing", false),
-              })
-          .put(
-              "WatchService",
-              new Import[] {
-                new Import("WatchService", "java.nio.file", false),
-              })
-          .put(
-              "TEXT_FOREGROUND",
-              new Import[] {
-                new Import("TEXT_FOREGROUND", "javax.swing.plaf.synth.ColorType", true),
-              })
-          .put(
-              "GREEK_EXTENDED",
-              new Import[] {
-                new Import("GREEK_EXTENDED", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "ExemptionMechanismSpi",
-              new Import[] {
-                new Import("ExemptionMechanismSpi", "javax.crypto", false),
-              })
-          .put(
-              "FlowLayout",
-              new Import[] {
-                new Import("FlowLayout", "java.awt", false),
-              })
-          .put(
-              "FormattableFlags",
-              new Import[] {
-                new Import("FormattableFlags", "java.util", false),
-              })
-          .put(
-              "JobPrioritySupported",
-              new Import[] {
-                new Import("JobPrioritySupported", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "icSigBlueColorantTag",
-              new Import[] {
-                new Import("icSigBlueColorantTag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "INVOKES_STOP_CELL_EDITING_PROPERTY",
-              new Import[] {
-                new Import("INVOKES_STOP_CELL_EDITING_PROPERTY", "javax.swing.JTree", true),
-              })
-          .put(
-              "COMPLETE",
-              new Import[] {
-                new Import("COMPLETE", "java.awt.MediaTracker", true),
-              })
-          .put(
-              "XAER_RMERR",
-              new Import[] {
-                new Import("XAER_RMERR", "javax.transaction.xa.XAException", true),
-              })
-          .put(
-              "ARG_OUT",
-              new Import[] {
-                new Import("ARG_OUT", "org.omg.CORBA", false),
-              })
-          .put(
-              "TIME_ZONE",
-              new Import[] {
-                new Import("TIME_ZONE", "java.text.DateFormat.Field", true),
-              })
-          .put(
-              "NODESET",
-              new Import[] {
-                new Import("NODESET", "javax.xml.xpath.XPathConstants", true),
-              })
-          .put(
-              "CJK_COMPATIBILITY",
-              new Import[] {
-                new Import("CJK_COMPATIBILITY", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "ClassLoadingMXBean",
-              new Import[] {
-                new Import("ClassLoadingMXBean", "java.lang.management", false),
-              })
-          .put(
-              "CodecOperations",
-              new Import[] {
-                new Import("CodecOperations", "org.omg.IOP", false),
-              })
-          .put(
-              "SMPTE_25",
-              new Import[] {
-                new Import("SMPTE_25", "javax.sound.midi.Sequence", true),
-              })
-          .put(
-              "SMPTE_24",
-              new Import[] {
-                new Import("SMPTE_24", "javax.sound.midi.Sequence", true),
-              })
-          .put(
-              "RegistryHandler",
-              new Import[] {
-                new Import("RegistryHandler", "java.rmi.registry", false),
-              })
-          .put(
-              "VK_DEAD_CARON",
-              new Import[] {
-                new Import("VK_DEAD_CARON", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "Oneway",
-              new Import[] {
-                new Import("Oneway", "javax.jws", false),
-              })
-          .put(
-              "RMIServer",
-              new Import[] {
-                new Import("RMIServer", "javax.management.remote.rmi", false),
-              })
-          .put(
-              "COMMIT",
-              new Import[] {
-                new Import("COMMIT", "javax.swing.JFormattedTextField", true),
-              })
-          .put(
-              "SCROLL_LINE_UP",
-              new Import[] {
-                new Import("SCROLL_LINE_UP", "java.awt.Event", true),
-              })
-          .put(
-              "TYPE_MASK_ROTATION",
-              new Import[] {
-                new Import("TYPE_MASK_ROTATION", "java.awt.geom.AffineTransform", true),
-              })
-          .put(
-              "ServerSocket",
-              new Import[] {
-                new Import("ServerSocket", "java.net", false),
-              })
-          .put(
-              "BOX_DRAWING",
-              new Import[] {
-                new Import("BOX_DRAWING", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "UNDEFINED_CONDITION",
-              new Import[] {
-                new Import("UNDEFINED_CONDITION", "javax.swing.JComponent", true),
-              })
-          .put(
-              "processKeyBindings",
-              new Import[] {
-                new Import("processKeyBindings", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "readSymbolicLink",
-              new Import[] {
-                new Import("readSymbolicLink", "java.nio.file.Files", true),
-              })
-          .put(
-              "SMPTE_30",
-              new Import[] {
-                new Import("SMPTE_30", "javax.sound.midi.Sequence", true),
-              })
-          .put(
-              "emptySortedMap",
-              new Import[] {
-                new Import("emptySortedMap", "java.util.Collections", true),
-              })
-          .put(
-              "CONTINUOUS_LAYOUT_PROPERTY",
-              new Import[] {
-                new Import("CONTINUOUS_LAYOUT_PROPERTY", "javax.swing.JSplitPane", true),
-              })
-          .put(
-              "DatagramSocket",
-              new Import[] {
-                new Import("DatagramSocket", "java.net", false),
-              })
-          .put(
-              "ACTIVATED",
-              new Import[] {
-                new Import("ACTIVATED", "javax.swing.event.HyperlinkEvent.EventType", true),
-              })
-          .put(
-              "VALUE_TEXT_ANTIALIAS_LCD_HRGB",
-              new Import[] {
-                new Import("VALUE_TEXT_ANTIALIAS_LCD_HRGB", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "FILE_SELECTION_MODE_CHANGED_PROPERTY",
-              new Import[] {
-                new Import(
-                    "FILE_SELECTION_MODE_CHANGED_PROPERTY", "javax.swing.JFileChooser", true),
-              })
-          .put(
-              "metafactory",
-              new Import[] {
-                new Import("metafactory", "java.lang.invoke.LambdaMetafactory", true),
-              })
-          .put(
-              "AbstractScriptEngine",
-              new Import[] {
-                new Import("AbstractScriptEngine", "javax.script", false),
-              })
-          .put(
-              "DEFAULT_JUSTIFICATION",
-              new Import[] {
-                new Import("DEFAULT_JUSTIFICATION", "javax.swing.border.TitledBorder", true),
-              })
-          .build();
-}
@@ -1,1774 +0,0 @@
-// Code generated by GenerateStdlib.java. DO NOT EDIT.
-package com.nikodoko.javaimports.stdlib.internal.api.v8;
-
-import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
-import java.util.Map;
-
-public class Java8StdlibChunk22 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
-          .put(
-              "getDefaultStream",
-              new Import[] {
-                new Import("getDefaultStream", "java.rmi.server.LogStream", true),
-              })
-          .put(
-              "NA_10X13_ENVELOPE",
-              new Import[] {
-                new Import("NA_10X13_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-                new Import(
-                    "NA_10X13_ENVELOPE", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "MONTH",
-              new Import[] {
-                new Import("MONTH", "java.text.DateFormat.Field", true),
-                new Import("MONTH", "java.util.Calendar", true),
-              })
-          .put(
-              "INACTIVE_CAPTION",
-              new Import[] {
-                new Import("INACTIVE_CAPTION", "java.awt.SystemColor", true),
-              })
-          .put(
-              "CONTENT_AREA_FILLED_CHANGED_PROPERTY",
-              new Import[] {
-                new Import(
-                    "CONTENT_AREA_FILLED_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
-              })
-          .put(
-              "COMPLETESCANLINES",
-              new Import[] {
-                new Import("COMPLETESCANLINES", "java.awt.image.ImageConsumer", true),
-              })
-          .put(
-              "ManagementPermission",
-              new Import[] {
-                new Import("ManagementPermission", "java.lang.management", false),
-              })
-          .put(
-              "TabExpander",
-              new Import[] {
-                new Import("TabExpander", "javax.swing.text", false),
-              })
-          .put(
-              "ScrollPaneBorder",
-              new Import[] {
-                new Import("ScrollPaneBorder", "javax.swing.plaf.metal.MetalBorders", false),
-              })
-          .put(
-              "VALUE_COLOR_RENDER_DEFAULT",
-              new Import[] {
-                new Import("VALUE_COLOR_RENDER_DEFAULT", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "interfaceModifiers",
-              new Import[] {
-                new Import("interfaceModifiers", "java.lang.reflect.Modifier", true),
-              })
-          .put(
-              "ToIntBiFunction",
-              new Import[] {
-                new Import("ToIntBiFunction", "java.util.function", false),
-              })
-          .put(
-              "WEIGHT",
-              new Import[] {
-                new Import("WEIGHT", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "PrintJobEvent",
-              new Import[] {
-                new Import("PrintJobEvent", "javax.print.event", false),
-              })
-          .put(
-              "StringNameHelper",
-              new Import[] {
-                new Import("StringNameHelper", "org.omg.CosNaming.NamingContextExtPackage", false),
-              })
-          .put(
-              "ObjectHelper",
-              new Import[] {
-                new Import("ObjectHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "MATHEMATICAL_ALPHANUMERIC_SYMBOLS",
-              new Import[] {
-                new Import(
-                    "MATHEMATICAL_ALPHANUMERIC_SYMBOLS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "GregorianCalendar",
-              new Import[] {
-                new Import("GregorianCalendar", "java.util", false),
-              })
-          .put(
-              "installColors",
-              new Import[] {
-                new Import("installColors", "javax.swing.LookAndFeel", true),
-              })
-          .put(
-              "BadAttributeValueExpException",
-              new Import[] {
-                new Import("BadAttributeValueExpException", "javax.management", false),
-              })
-          .put(
-              "MBeanAttributeInfo",
-              new Import[] {
-                new Import("MBeanAttributeInfo", "javax.management", false),
-              })
-          .put(
-              "SYNC_WITH_TRANSPORT",
-              new Import[] {
-                new Import("SYNC_WITH_TRANSPORT", "org.omg.Messaging", false),
-              })
-          .put(
-              "PathMatcher",
-              new Import[] {
-                new Import("PathMatcher", "java.nio.file", false),
-              })
-          .put(
-              "NKO",
-              new Import[] {
-                new Import("NKO", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "RequestingUserName",
-              new Import[] {
-                new Import("RequestingUserName", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "TYPE_BYTE_GRAY",
-              new Import[] {
-                new Import("TYPE_BYTE_GRAY", "java.awt.image.BufferedImage", true),
-              })
-          .put(
-              "XMLSignatureException",
-              new Import[] {
-                new Import("XMLSignatureException", "javax.xml.crypto.dsig", false),
-              })
-          .put(
-              "CompiledScript",
-              new Import[] {
-                new Import("CompiledScript", "javax.script", false),
-              })
-          .put(
-              "minus",
-              new Import[] {
-                new Import("minus", "javax.management.Query", true),
-                new Import("minus", "javax.swing.Spring", true),
-              })
-          .put(
-              "INVALID_MODIFICATION_ERR",
-              new Import[] {
-                new Import("INVALID_MODIFICATION_ERR", "org.w3c.dom.DOMException", true),
-              })
-          .put(
-              "log10",
-              new Import[] {
-                new Import("log10", "java.lang.Math", true),
-                new Import("log10", "java.lang.StrictMath", true),
-              })
-          .put(
-              "BUTTON",
-              new Import[] {
-                new Import("BUTTON", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "AccessibleRole",
-              new Import[] {
-                new Import("AccessibleRole", "javax.accessibility", false),
-              })
-          .put(
-              "InitialDirContext",
-              new Import[] {
-                new Import("InitialDirContext", "javax.naming.directory", false),
-              })
-          .put(
-              "removeAuxiliaryLookAndFeel",
-              new Import[] {
-                new Import("removeAuxiliaryLookAndFeel", "javax.swing.UIManager", true),
-              })
-          .put(
-              "BasicTabbedPaneUI",
-              new Import[] {
-                new Import("BasicTabbedPaneUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "MODIFIER_TONE_LETTERS",
-              new Import[] {
-                new Import("MODIFIER_TONE_LETTERS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "PARAM_IN",
-              new Import[] {
-                new Import("PARAM_IN", "org.omg.CORBA.ParameterMode", true),
-              })
-          .put(
-              "parseUnsignedInt",
-              new Import[] {
-                new Import("parseUnsignedInt", "java.lang.Integer", true),
-                new Import("parseUnsignedInt", "javax.xml.bind.DatatypeConverter", true),
-              })
-          .put(
-              "getRaisedBevelBorderUIResource",
-              new Import[] {
-                new Import(
-                    "getRaisedBevelBorderUIResource", "javax.swing.plaf.BorderUIResource", true),
-              })
-          .put(
-              "exactInvoker",
-              new Import[] {
-                new Import("exactInvoker", "java.lang.invoke.MethodHandles", true),
-              })
-          .put(
-              "newBufferedWriter",
-              new Import[] {
-                new Import("newBufferedWriter", "java.nio.file.Files", true),
-              })
-          .put(
-              "Observer",
-              new Import[] {
-                new Import("Observer", "java.util", false),
-              })
-          .put(
-              "_tk_short",
-              new Import[] {
-                new Import("_tk_short", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "OMIT_XML_DECLARATION",
-              new Import[] {
-                new Import("OMIT_XML_DECLARATION", "javax.xml.transform.OutputKeys", true),
-              })
-          .put(
-              "getTextHighlightColor",
-              new Import[] {
-                new Import(
-                    "getTextHighlightColor", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "_tk_ulong",
-              new Import[] {
-                new Import("_tk_ulong", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "FLAG_COMPLEX_GLYPHS",
-              new Import[] {
-                new Import("FLAG_COMPLEX_GLYPHS", "java.awt.font.GlyphVector", true),
-              })
-          .put(
-              "ConstantCallSite",
-              new Import[] {
-                new Import("ConstantCallSite", "java.lang.invoke", false),
-              })
-          .put(
-              "JLabel",
-              new Import[] {
-                new Import("JLabel", "javax.swing", false),
-              })
-          .put(
-              "InputMethodHighlight",
-              new Import[] {
-                new Import("InputMethodHighlight", "java.awt.im", false),
-              })
-          .put(
-              "JMXConnectorServer",
-              new Import[] {
-                new Import("JMXConnectorServer", "javax.management.remote", false),
-              })
-          .put(
-              "LdapName",
-              new Import[] {
-                new Import("LdapName", "javax.naming.ldap", false),
-              })
-          .put(
-              "newUpdater",
-              new Import[] {
-                new Import(
-                    "newUpdater", "java.util.concurrent.atomic.AtomicIntegerFieldUpdater", true),
-                new Import(
-                    "newUpdater", "java.util.concurrent.atomic.AtomicLongFieldUpdater", true),
-                new Import(
-                    "newUpdater", "java.util.concurrent.atomic.AtomicReferenceFieldUpdater", true),
-              })
-          .put(
-              "INVALID_ACTIVITY",
-              new Import[] {
-                new Import("INVALID_ACTIVITY", "org.omg.CORBA", false),
-              })
-          .put(
-              "SCROLL_LOCK",
-              new Import[] {
-                new Import("SCROLL_LOCK", "java.awt.Event", true),
-              })
-          .put(
-              "VALUE_ENUMERATION",
-              new Import[] {
-                new Import("VALUE_ENUMERATION", "javax.imageio.metadata.IIOMetadataFormat", true),
-              })
-          .put(
-              "JAPANESE",
-              new Import[] {
-                new Import("JAPANESE", "java.util.Locale", true),
-              })
-          .put(
-              "timeLineOrder",
-              new Import[] {
-                new Import("timeLineOrder", "java.time.OffsetDateTime", true),
-                new Import("timeLineOrder", "java.time.chrono.ChronoLocalDate", true),
-                new Import("timeLineOrder", "java.time.chrono.ChronoLocalDateTime", true),
-                new Import("timeLineOrder", "java.time.chrono.ChronoZonedDateTime", true),
-              })
-          .put(
-              "RemoteException",
-              new Import[] {
-                new Import("RemoteException", "java.rmi", false),
-              })
-          .put(
-              "POSTSCRIPT",
-              new Import[] {
-                new Import("POSTSCRIPT", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("POSTSCRIPT", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("POSTSCRIPT", "javax.print.DocFlavor.URL", true),
-              })
-          .put(
-              "BAD_STATUS",
-              new Import[] {
-                new Import("BAD_STATUS", "org.ietf.jgss.GSSException", true),
-              })
-          .put(
-              "CAPTION",
-              new Import[] {
-                new Import("CAPTION", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "AlgorithmParameterGeneratorSpi",
-              new Import[] {
-                new Import("AlgorithmParameterGeneratorSpi", "java.security", false),
-              })
-          .put(
-              "TaggedProfileHolder",
-              new Import[] {
-                new Import("TaggedProfileHolder", "org.omg.IOP", false),
-              })
-          .put(
-              "TYPE_GRAY",
-              new Import[] {
-                new Import("TYPE_GRAY", "java.awt.color.ColorSpace", true),
-              })
-          .put(
-              "log1p",
-              new Import[] {
-                new Import("log1p", "java.lang.Math", true),
-                new Import("log1p", "java.lang.StrictMath", true),
-              })
-          .put(
-              "getWindowTitleInactiveBackground",
-              new Import[] {
-                new Import(
-                    "getWindowTitleInactiveBackground",
-                    "javax.swing.plaf.metal.MetalLookAndFeel",
-                    true),
-              })
-          .put(
-              "isEqual",
-              new Import[] {
-                new Import("isEqual", "java.security.MessageDigest", true),
-                new Import("isEqual", "java.util.function.Predicate", true),
-              })
-          .put(
-              "Predicate",
-              new Import[] {
-                new Import("Predicate", "java.util.function", false),
-                new Import("Predicate", "javax.sql.rowset", false),
-              })
-          .put(
-              "Name",
-              new Import[] {
-                new Import("Name", "java.util.jar.Attributes", false),
-                new Import("Name", "javax.lang.model.element", false),
-                new Import("Name", "javax.naming", false),
-                new Import("Name", "javax.xml.soap", false),
-              })
-          .put(
-              "ResultSetMetaData",
-              new Import[] {
-                new Import("ResultSetMetaData", "java.sql", false),
-              })
-          .put(
-              "printUnsignedShort",
-              new Import[] {
-                new Import("printUnsignedShort", "javax.xml.bind.DatatypeConverter", true),
-              })
-          .put(
-              "XA_RBTRANSIENT",
-              new Import[] {
-                new Import("XA_RBTRANSIENT", "javax.transaction.xa.XAException", true),
-              })
-          .put(
-              "CS_LINEAR_RGB",
-              new Import[] {
-                new Import("CS_LINEAR_RGB", "java.awt.color.ColorSpace", true),
-              })
-          .put(
-              "VolatileImage",
-              new Import[] {
-                new Import("VolatileImage", "java.awt.image", false),
-              })
-          .put(
-              "GARBAGE_COLLECTOR_MXBEAN_DOMAIN_TYPE",
-              new Import[] {
-                new Import(
-                    "GARBAGE_COLLECTOR_MXBEAN_DOMAIN_TYPE",
-                    "java.lang.management.ManagementFactory",
-                    true),
-              })
-          .put(
-              "KRB_NT_SRV_XHST",
-              new Import[] {
-                new Import(
-                    "KRB_NT_SRV_XHST", "javax.security.auth.kerberos.KerberosPrincipal", true),
-              })
-          .put(
-              "DefaultListCellRenderer",
-              new Import[] {
-                new Import("DefaultListCellRenderer", "javax.swing", false),
-              })
-          .put(
-              "PrinterStateReasons",
-              new Import[] {
-                new Import("PrinterStateReasons", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "BindingIteratorOperations",
-              new Import[] {
-                new Import("BindingIteratorOperations", "org.omg.CosNaming", false),
-              })
-          .put(
-              "icSigSpace6CLR",
-              new Import[] {
-                new Import("icSigSpace6CLR", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "missing_node",
-              new Import[] {
-                new Import(
-                    "missing_node", "org.omg.CosNaming.NamingContextPackage.NotFoundReason", true),
-              })
-          .put(
-              "Collectors",
-              new Import[] {
-                new Import("Collectors", "java.util.stream", false),
-              })
-          .put(
-              "VK_F9",
-              new Import[] {
-                new Import("VK_F9", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_F8",
-              new Import[] {
-                new Import("VK_F8", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_F7",
-              new Import[] {
-                new Import("VK_F7", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "TYPE_IMAGE_BUFFER",
-              new Import[] {
-                new Import("TYPE_IMAGE_BUFFER", "java.awt.GraphicsDevice", true),
-              })
-          .put(
-              "VK_EXCLAMATION_MARK",
-              new Import[] {
-                new Import("VK_EXCLAMATION_MARK", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_F6",
-              new Import[] {
-                new Import("VK_F6", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_F5",
-              new Import[] {
-                new Import("VK_F5", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "REFRESH_RATE_UNKNOWN",
-              new Import[] {
-                new Import("REFRESH_RATE_UNKNOWN", "java.awt.DisplayMode", true),
-              })
-          .put(
-              "AdjustmentEvent",
-              new Import[] {
-                new Import("AdjustmentEvent", "java.awt.event", false),
-              })
-          .put(
-              "VK_F4",
-              new Import[] {
-                new Import("VK_F4", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_F3",
-              new Import[] {
-                new Import("VK_F3", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_F2",
-              new Import[] {
-                new Import("VK_F2", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_F1",
-              new Import[] {
-                new Import("VK_F1", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "icSigLabData",
-              new Import[] {
-                new Import("icSigLabData", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "extract",
-              new Import[] {
-                new Import("extract", "org.omg.CORBA.AnySeqHelper", true),
-                new Import("extract", "org.omg.CORBA.BooleanSeqHelper", true),
-                new Import("extract", "org.omg.CORBA.CharSeqHelper", true),
-                new Import("extract", "org.omg.CORBA.CompletionStatusHelper", true),
-                new Import("extract", "org.omg.CORBA.CurrentHelper", true),
-                new Import("extract", "org.omg.CORBA.DefinitionKindHelper", true),
-                new Import("extract", "org.omg.CORBA.DoubleSeqHelper", true),
-                new Import("extract", "org.omg.CORBA.FieldNameHelper", true),
-                new Import("extract", "org.omg.CORBA.FloatSeqHelper", true),
-                new Import("extract", "org.omg.CORBA.IDLTypeHelper", true),
-                new Import("extract", "org.omg.CORBA.IdentifierHelper", true),
-                new Import("extract", "org.omg.CORBA.LongLongSeqHelper", true),
-                new Import("extract", "org.omg.CORBA.LongSeqHelper", true),
-                new Import("extract", "org.omg.CORBA.NameValuePairHelper", true),
-                new Import("extract", "org.omg.CORBA.ObjectHelper", true),
-                new Import("extract", "org.omg.CORBA.OctetSeqHelper", true),
-                new Import("extract", "org.omg.CORBA.ParameterModeHelper", true),
-                new Import("extract", "org.omg.CORBA.PolicyErrorCodeHelper", true),
-                new Import("extract", "org.omg.CORBA.PolicyErrorHelper", true),
-                new Import("extract", "org.omg.CORBA.PolicyHelper", true),
-                new Import("extract", "org.omg.CORBA.PolicyListHelper", true),
-                new Import("extract", "org.omg.CORBA.PolicyTypeHelper", true),
-                new Import("extract", "org.omg.CORBA.RepositoryIdHelper", true),
-                new Import("extract", "org.omg.CORBA.ServiceDetailHelper", true),
-                new Import("extract", "org.omg.CORBA.ServiceInformationHelper", true),
-                new Import("extract", "org.omg.CORBA.SetOverrideTypeHelper", true),
-                new Import("extract", "org.omg.CORBA.ShortSeqHelper", true),
-                new Import("extract", "org.omg.CORBA.StringSeqHelper", true),
-                new Import("extract", "org.omg.CORBA.StringValueHelper", true),
-                new Import("extract", "org.omg.CORBA.StructMemberHelper", true),
-                new Import("extract", "org.omg.CORBA.ULongLongSeqHelper", true),
-                new Import("extract", "org.omg.CORBA.ULongSeqHelper", true),
-                new Import("extract", "org.omg.CORBA.UShortSeqHelper", true),
-                new Import("extract", "org.omg.CORBA.UnionMemberHelper", true),
-                new Import("extract", "org.omg.CORBA.UnknownUserExceptionHelper", true),
-                new Import("extract", "org.omg.CORBA.ValueBaseHelper", true),
-                new Import("extract", "org.omg.CORBA.ValueMemberHelper", true),
-                new Import("extract", "org.omg.CORBA.VersionSpecHelper", true),
-                new Import("extract", "org.omg.CORBA.VisibilityHelper", true),
-                new Import("extract", "org.omg.CORBA.WCharSeqHelper", true),
-                new Import("extract", "org.omg.CORBA.WStringSeqHelper", true),
-                new Import("extract", "org.omg.CORBA.WStringValueHelper", true),
-                new Import("extract", "org.omg.CORBA.WrongTransactionHelper", true),
-                new Import("extract", "org.omg.CosNaming.BindingHelper", true),
-                new Import("extract", "org.omg.CosNaming.BindingIteratorHelper", true),
-                new Import("extract", "org.omg.CosNaming.BindingListHelper", true),
-                new Import("extract", "org.omg.CosNaming.BindingTypeHelper", true),
-                new Import("extract", "org.omg.CosNaming.IstringHelper", true),
-                new Import("extract", "org.omg.CosNaming.NameComponentHelper", true),
-                new Import("extract", "org.omg.CosNaming.NameHelper", true),
-                new Import("extract", "org.omg.CosNaming.NamingContextExtHelper", true),
-                new Import("extract", "org.omg.CosNaming.NamingContextHelper", true),
-                new Import(
-                    "extract", "org.omg.CosNaming.NamingContextExtPackage.AddressHelper", true),
-                new Import(
-                    "extract",
-                    "org.omg.CosNaming.NamingContextExtPackage.InvalidAddressHelper",
-                    true),
-                new Import(
-                    "extract", "org.omg.CosNaming.NamingContextExtPackage.StringNameHelper", true),
-                new Import(
-                    "extract", "org.omg.CosNaming.NamingContextExtPackage.URLStringHelper", true),
-                new Import(
-                    "extract", "org.omg.CosNaming.NamingContextPackage.AlreadyBoundHelper", true),
-                new Import(
-                    "extract", "org.omg.CosNaming.NamingContextPackage.CannotProceedHelper", true),
-                new Import(
-                    "extract", "org.omg.CosNaming.NamingContextPackage.InvalidNameHelper", true),
-                new Import(
-                    "extract", "org.omg.CosNaming.NamingContextPackage.NotEmptyHelper", true),
-                new Import(
-                    "extract", "org.omg.CosNaming.NamingContextPackage.NotFoundHelper", true),
-                new Import(
-                    "extract", "org.omg.CosNaming.NamingContextPackage.NotFoundReasonHelper", true),
-                new Import("extract", "org.omg.DynamicAny.AnySeqHelper", true),
-                new Import("extract", "org.omg.DynamicAny.DynAnyFactoryHelper", true),
-                new Import("extract", "org.omg.DynamicAny.DynAnyHelper", true),
-                new Import("extract", "org.omg.DynamicAny.DynAnySeqHelper", true),
-                new Import("extract", "org.omg.DynamicAny.DynArrayHelper", true),
-                new Import("extract", "org.omg.DynamicAny.DynEnumHelper", true),
-                new Import("extract", "org.omg.DynamicAny.DynFixedHelper", true),
-                new Import("extract", "org.omg.DynamicAny.DynSequenceHelper", true),
-                new Import("extract", "org.omg.DynamicAny.DynStructHelper", true),
-                new Import("extract", "org.omg.DynamicAny.DynUnionHelper", true),
-                new Import("extract", "org.omg.DynamicAny.DynValueHelper", true),
-                new Import("extract", "org.omg.DynamicAny.FieldNameHelper", true),
-                new Import("extract", "org.omg.DynamicAny.NameDynAnyPairHelper", true),
-                new Import("extract", "org.omg.DynamicAny.NameDynAnyPairSeqHelper", true),
-                new Import("extract", "org.omg.DynamicAny.NameValuePairHelper", true),
-                new Import("extract", "org.omg.DynamicAny.NameValuePairSeqHelper", true),
-                new Import(
-                    "extract",
-                    "org.omg.DynamicAny.DynAnyFactoryPackage.InconsistentTypeCodeHelper",
-                    true),
-                new Import("extract", "org.omg.DynamicAny.DynAnyPackage.InvalidValueHelper", true),
-                new Import("extract", "org.omg.DynamicAny.DynAnyPackage.TypeMismatchHelper", true),
-                new Import("extract", "org.omg.IOP.CodecFactoryHelper", true),
-                new Import("extract", "org.omg.IOP.ComponentIdHelper", true),
-                new Import("extract", "org.omg.IOP.IORHelper", true),
-                new Import("extract", "org.omg.IOP.MultipleComponentProfileHelper", true),
-                new Import("extract", "org.omg.IOP.ProfileIdHelper", true),
-                new Import("extract", "org.omg.IOP.ServiceContextHelper", true),
-                new Import("extract", "org.omg.IOP.ServiceContextListHelper", true),
-                new Import("extract", "org.omg.IOP.ServiceIdHelper", true),
-                new Import("extract", "org.omg.IOP.TaggedComponentHelper", true),
-                new Import("extract", "org.omg.IOP.TaggedProfileHelper", true),
-                new Import(
-                    "extract", "org.omg.IOP.CodecFactoryPackage.UnknownEncodingHelper", true),
-                new Import("extract", "org.omg.IOP.CodecPackage.FormatMismatchHelper", true),
-                new Import(
-                    "extract", "org.omg.IOP.CodecPackage.InvalidTypeForEncodingHelper", true),
-                new Import("extract", "org.omg.IOP.CodecPackage.TypeMismatchHelper", true),
-                new Import("extract", "org.omg.Messaging.SyncScopeHelper", true),
-                new Import("extract", "org.omg.PortableInterceptor.AdapterManagerIdHelper", true),
-                new Import("extract", "org.omg.PortableInterceptor.AdapterNameHelper", true),
-                new Import("extract", "org.omg.PortableInterceptor.AdapterStateHelper", true),
-                new Import("extract", "org.omg.PortableInterceptor.CurrentHelper", true),
-                new Import("extract", "org.omg.PortableInterceptor.ForwardRequestHelper", true),
-                new Import("extract", "org.omg.PortableInterceptor.IORInterceptor_3_0Helper", true),
-                new Import("extract", "org.omg.PortableInterceptor.InvalidSlotHelper", true),
-                new Import("extract", "org.omg.PortableInterceptor.ORBIdHelper", true),
-                new Import("extract", "org.omg.PortableInterceptor.ObjectIdHelper", true),
-                new Import(
-                    "extract", "org.omg.PortableInterceptor.ObjectReferenceFactoryHelper", true),
-                new Import(
-                    "extract", "org.omg.PortableInterceptor.ObjectReferenceTemplateHelper", true),
-                new Import(
-                    "extract",
-                    "org.omg.PortableInterceptor.ObjectReferenceTemplateSeqHelper",
-                    true),
-                new Import("extract", "org.omg.PortableInterceptor.ServerIdHelper", true),
-                new Import(
-                    "extract",
-                    "org.omg.PortableInterceptor.ORBInitInfoPackage.DuplicateNameHelper",
-                    true),
-                new Import(
-                    "extract",
-                    "org.omg.PortableInterceptor.ORBInitInfoPackage.InvalidNameHelper",
-                    true),
-                new Import(
-                    "extract",
-                    "org.omg.PortableInterceptor.ORBInitInfoPackage.ObjectIdHelper",
-                    true),
-                new Import("extract", "org.omg.PortableServer.CurrentHelper", true),
-                new Import("extract", "org.omg.PortableServer.ForwardRequestHelper", true),
-                new Import("extract", "org.omg.PortableServer.POAHelper", true),
-                new Import("extract", "org.omg.PortableServer.ServantActivatorHelper", true),
-                new Import("extract", "org.omg.PortableServer.ServantLocatorHelper", true),
-                new Import(
-                    "extract", "org.omg.PortableServer.CurrentPackage.NoContextHelper", true),
-                new Import(
-                    "extract",
-                    "org.omg.PortableServer.POAManagerPackage.AdapterInactiveHelper",
-                    true),
-                new Import(
-                    "extract",
-                    "org.omg.PortableServer.POAPackage.AdapterAlreadyExistsHelper",
-                    true),
-                new Import(
-                    "extract", "org.omg.PortableServer.POAPackage.AdapterNonExistentHelper", true),
-                new Import(
-                    "extract", "org.omg.PortableServer.POAPackage.InvalidPolicyHelper", true),
-                new Import("extract", "org.omg.PortableServer.POAPackage.NoServantHelper", true),
-                new Import(
-                    "extract", "org.omg.PortableServer.POAPackage.ObjectAlreadyActiveHelper", true),
-                new Import(
-                    "extract", "org.omg.PortableServer.POAPackage.ObjectNotActiveHelper", true),
-                new Import(
-                    "extract",
-                    "org.omg.PortableServer.POAPackage.ServantAlreadyActiveHelper",
-                    true),
-                new Import(
-                    "extract", "org.omg.PortableServer.POAPackage.ServantNotActiveHelper", true),
-                new Import("extract", "org.omg.PortableServer.POAPackage.WrongAdapterHelper", true),
-                new Import("extract", "org.omg.PortableServer.POAPackage.WrongPolicyHelper", true),
-              })
-          .put(
-              "icSigSpaceACLR",
-              new Import[] {
-                new Import("icSigSpaceACLR", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "MNEMONIC_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("MNEMONIC_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
-              })
-          .put(
-              "DIALOG_TYPE_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("DIALOG_TYPE_CHANGED_PROPERTY", "javax.swing.JFileChooser", true),
-              })
-          .put(
-              "Bold",
-              new Import[] {
-                new Import("Bold", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "OPEN_DELETE",
-              new Import[] {
-                new Import("OPEN_DELETE", "java.util.zip.ZipFile", true),
-              })
-          .put(
-              "NameParser",
-              new Import[] {
-                new Import("NameParser", "javax.naming", false),
-              })
-          .put(
-              "CAPS_LOCK",
-              new Import[] {
-                new Import("CAPS_LOCK", "java.awt.Event", true),
-              })
-          .put(
-              "dk_Interface",
-              new Import[] {
-                new Import("dk_Interface", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "icSigChromaticAdaptationTag",
-              new Import[] {
-                new Import("icSigChromaticAdaptationTag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "COORDS",
-              new Import[] {
-                new Import("COORDS", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "createScrollPaneForTable",
-              new Import[] {
-                new Import("createScrollPaneForTable", "javax.swing.JTable", true),
-              })
-          .put(
-              "AbstractUndoableEdit",
-              new Import[] {
-                new Import("AbstractUndoableEdit", "javax.swing.undo", false),
-              })
-          .put(
-              "PopupMenuUI",
-              new Import[] {
-                new Import("PopupMenuUI", "javax.swing.plaf", false),
-              })
-          .put(
-              "writeRemoteObject",
-              new Import[] {
-                new Import("writeRemoteObject", "javax.rmi.CORBA.Util", true),
-              })
-          .put(
-              "LEGAL",
-              new Import[] {
-                new Import("LEGAL", "java.awt.PageAttributes.MediaType", true),
-                new Import("LEGAL", "javax.print.attribute.standard.MediaSize.NA", true),
-              })
-          .put(
-              "ALT_MASK",
-              new Import[] {
-                new Import("ALT_MASK", "java.awt.Event", true),
-                new Import("ALT_MASK", "java.awt.event.ActionEvent", true),
-                new Import("ALT_MASK", "java.awt.event.InputEvent", true),
-              })
-          .put(
-              "Parameterizable",
-              new Import[] {
-                new Import("Parameterizable", "javax.lang.model.element", false),
-              })
-          .put(
-              "PrivateCredentialPermission",
-              new Import[] {
-                new Import("PrivateCredentialPermission", "javax.security.auth", false),
-              })
-          .put(
-              "DimensionUIResource",
-              new Import[] {
-                new Import("DimensionUIResource", "javax.swing.plaf", false),
-              })
-          .put(
-              "FOCUS_LOST",
-              new Import[] {
-                new Import("FOCUS_LOST", "java.awt.event.FocusEvent", true),
-              })
-          .put(
-              "bestRowTransaction",
-              new Import[] {
-                new Import("bestRowTransaction", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "MultiFileChooserUI",
-              new Import[] {
-                new Import("MultiFileChooserUI", "javax.swing.plaf.multi", false),
-              })
-          .put(
-              "ChangedCharSetException",
-              new Import[] {
-                new Import("ChangedCharSetException", "javax.swing.text", false),
-              })
-          .put(
-              "SEG_CLOSE",
-              new Import[] {
-                new Import("SEG_CLOSE", "java.awt.geom.PathIterator", true),
-              })
-          .put(
-              "DirectoryManager",
-              new Import[] {
-                new Import("DirectoryManager", "javax.naming.spi", false),
-              })
-          .put(
-              "DIALOG_UI",
-              new Import[] {
-                new Import("DIALOG_UI", "javax.print.ServiceUIFactory", true),
-              })
-          .put(
-              "JComponent",
-              new Import[] {
-                new Import("JComponent", "javax.swing", false),
-              })
-          .put(
-              "Request",
-              new Import[] {
-                new Import("Request", "org.omg.CORBA", false),
-              })
-          .put(
-              "procedureNullable",
-              new Import[] {
-                new Import("procedureNullable", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "getUnwrappedParent",
-              new Import[] {
-                new Import("getUnwrappedParent", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "RowSetFactory",
-              new Import[] {
-                new Import("RowSetFactory", "javax.sql.rowset", false),
-              })
-          .put(
-              "getAudioFileTypes",
-              new Import[] {
-                new Import("getAudioFileTypes", "javax.sound.sampled.AudioSystem", true),
-              })
-          .put(
-              "HEADER_RENDERER_PROPERTY",
-              new Import[] {
-                new Import("HEADER_RENDERER_PROPERTY", "javax.swing.table.TableColumn", true),
-              })
-          .put(
-              "View",
-              new Import[] {
-                new Import("View", "javax.swing.text", false),
-              })
-          .put(
-              "Extension",
-              new Import[] {
-                new Import("Extension", "java.security.cert", false),
-              })
-          .put(
-              "LinkPermission",
-              new Import[] {
-                new Import("LinkPermission", "java.nio.file", false),
-              })
-          .put(
-              "MOUSE_OVER",
-              new Import[] {
-                new Import("MOUSE_OVER", "javax.swing.plaf.synth.SynthConstants", true),
-              })
-          .put(
-              "DOMSignContext",
-              new Import[] {
-                new Import("DOMSignContext", "javax.xml.crypto.dsig.dom", false),
-              })
-          .put(
-              "checkedQueue",
-              new Import[] {
-                new Import("checkedQueue", "java.util.Collections", true),
-              })
-          .put(
-              "TITLE",
-              new Import[] {
-                new Import("TITLE", "javax.swing.text.html.HTML.Attribute", true),
-                new Import("TITLE", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "BasicFormattedTextFieldUI",
-              new Import[] {
-                new Import("BasicFormattedTextFieldUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "ADJUSTMENT_EVENT_MASK",
-              new Import[] {
-                new Import("ADJUSTMENT_EVENT_MASK", "java.awt.AWTEvent", true),
-              })
-          .put(
-              "getTiledSizeRequirements",
-              new Import[] {
-                new Import("getTiledSizeRequirements", "javax.swing.SizeRequirements", true),
-              })
-          .put(
-              "registerService",
-              new Import[] {
-                new Import("registerService", "javax.print.PrintServiceLookup", true),
-              })
-          .put(
-              "ProviderException",
-              new Import[] {
-                new Import("ProviderException", "java.security", false),
-              })
-          .put(
-              "showInternalInputDialog",
-              new Import[] {
-                new Import("showInternalInputDialog", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "FONT_VARIANT",
-              new Import[] {
-                new Import("FONT_VARIANT", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "addKeymap",
-              new Import[] {
-                new Import("addKeymap", "javax.swing.text.JTextComponent", true),
-              })
-          .put(
-              "HierarchyBoundsAdapter",
-              new Import[] {
-                new Import("HierarchyBoundsAdapter", "java.awt.event", false),
-              })
-          .put(
-              "ObjDoubleConsumer",
-              new Import[] {
-                new Import("ObjDoubleConsumer", "java.util.function", false),
-              })
-          .put(
-              "GROUPING_SEPARATOR",
-              new Import[] {
-                new Import("GROUPING_SEPARATOR", "java.text.NumberFormat.Field", true),
-              })
-          .put(
-              "getUnwrappedView",
-              new Import[] {
-                new Import("getUnwrappedView", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "VERTICAL",
-              new Import[] {
-                new Import("VERTICAL", "java.awt.Adjustable", true),
-                new Import("VERTICAL", "java.awt.GridBagConstraints", true),
-                new Import("VERTICAL", "java.awt.Scrollbar", true),
-                new Import("VERTICAL", "javax.accessibility.AccessibleState", true),
-                new Import("VERTICAL", "javax.swing.JList", true),
-                new Import("VERTICAL", "javax.swing.SwingConstants", true),
-              })
-          .put(
-              "MBeanServerBuilder",
-              new Import[] {
-                new Import("MBeanServerBuilder", "javax.management", false),
-              })
-          .put(
-              "WHITESPACE",
-              new Import[] {
-                new Import("WHITESPACE", "java.awt.font.GlyphMetrics", true),
-              })
-          .put(
-              "Book",
-              new Import[] {
-                new Import("Book", "java.awt.print", false),
-              })
-          .put(
-              "CounterMonitorMBean",
-              new Import[] {
-                new Import("CounterMonitorMBean", "javax.management.monitor", false),
-              })
-          .put(
-              "separatorChar",
-              new Import[] {
-                new Import("separatorChar", "java.io.File", true),
-              })
-          .put(
-              "RC2ParameterSpec",
-              new Import[] {
-                new Import("RC2ParameterSpec", "javax.crypto.spec", false),
-              })
-          .put(
-              "Identity",
-              new Import[] {
-                new Import("Identity", "java.security", false),
-              })
-          .put(
-              "TabbedPaneUI",
-              new Import[] {
-                new Import("TabbedPaneUI", "javax.swing.plaf", false),
-              })
-          .put(
-              "TreeUI",
-              new Import[] {
-                new Import("TreeUI", "javax.swing.plaf", false),
-              })
-          .put(
-              "PasswordAuthentication",
-              new Import[] {
-                new Import("PasswordAuthentication", "java.net", false),
-              })
-          .put(
-              "MEMORY_MXBEAN_NAME",
-              new Import[] {
-                new Import("MEMORY_MXBEAN_NAME", "java.lang.management.ManagementFactory", true),
-              })
-          .put(
-              "ThreadMXBean",
-              new Import[] {
-                new Import("ThreadMXBean", "java.lang.management", false),
-              })
-          .put(
-              "DUPLICATE_ELEMENT",
-              new Import[] {
-                new Import("DUPLICATE_ELEMENT", "org.ietf.jgss.GSSException", true),
-              })
-          .put(
-              "ofHoursMinutes",
-              new Import[] {
-                new Import("ofHoursMinutes", "java.time.ZoneOffset", true),
-              })
-          .put(
-              "StandardMBean",
-              new Import[] {
-                new Import("StandardMBean", "javax.management", false),
-              })
-          .put(
-              "XAER_PROTO",
-              new Import[] {
-                new Import("XAER_PROTO", "javax.transaction.xa.XAException", true),
-              })
-          .put(
-              "SMALL_ICON",
-              new Import[] {
-                new Import("SMALL_ICON", "javax.swing.Action", true),
-              })
-          .put(
-              "ENV_6X9",
-              new Import[] {
-                new Import("ENV_6X9", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "TypeMismatchHelper",
-              new Import[] {
-                new Import("TypeMismatchHelper", "org.omg.DynamicAny.DynAnyPackage", false),
-                new Import("TypeMismatchHelper", "org.omg.IOP.CodecPackage", false),
-              })
-          .put(
-              "APPLET",
-              new Import[] {
-                new Import("APPLET", "javax.naming.Context", true),
-                new Import("APPLET", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "MIN_WEIGHT",
-              new Import[] {
-                new Import("MIN_WEIGHT", "java.util.Locale.LanguageRange", true),
-              })
-          .put(
-              "BasicCheckBoxUI",
-              new Import[] {
-                new Import("BasicCheckBoxUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "VisibilityHelper",
-              new Import[] {
-                new Import("VisibilityHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "KERNING",
-              new Import[] {
-                new Import("KERNING", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "NotificationBroadcaster",
-              new Import[] {
-                new Import("NotificationBroadcaster", "javax.management", false),
-              })
-          .put(
-              "Level",
-              new Import[] {
-                new Import("Level", "java.util.logging", false),
-              })
-          .put(
-              "ACCESSIBLE_TEXT_PROPERTY",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_TEXT_PROPERTY", "javax.accessibility.AccessibleContext", true),
-              })
-          .put(
-              "SystemFlavorMap",
-              new Import[] {
-                new Import("SystemFlavorMap", "java.awt.datatransfer", false),
-              })
-          .put(
-              "getMidiFileFormat",
-              new Import[] {
-                new Import("getMidiFileFormat", "javax.sound.midi.MidiSystem", true),
-              })
-          .put(
-              "AddressHelper",
-              new Import[] {
-                new Import("AddressHelper", "org.omg.CosNaming.NamingContextExtPackage", false),
-              })
-          .put(
-              "Path2D",
-              new Import[] {
-                new Import("Path2D", "java.awt.geom", false),
-              })
-          .put(
-              "HighlightPainter",
-              new Import[] {
-                new Import("HighlightPainter", "javax.swing.text.Highlighter", false),
-              })
-          .put(
-              "StandardEmitterMBean",
-              new Import[] {
-                new Import("StandardEmitterMBean", "javax.management", false),
-              })
-          .put(
-              "PrivateClassLoader",
-              new Import[] {
-                new Import("PrivateClassLoader", "javax.management.loading", false),
-              })
-          .put(
-              "CertificateFactory",
-              new Import[] {
-                new Import("CertificateFactory", "java.security.cert", false),
-              })
-          .put(
-              "out",
-              new Import[] {
-                new Import("out", "java.io.FileDescriptor", true),
-                new Import("out", "java.lang.System", true),
-              })
-          .put(
-              "MEMORY_THRESHOLD_EXCEEDED",
-              new Import[] {
-                new Import(
-                    "MEMORY_THRESHOLD_EXCEEDED",
-                    "java.lang.management.MemoryNotificationInfo",
-                    true),
-              })
-          .put(
-              "serialVersionUID",
-              new Import[] {
-                new Import("serialVersionUID", "java.rmi.server.RemoteRef", true),
-                new Import("serialVersionUID", "java.rmi.server.ServerRef", true),
-                new Import("serialVersionUID", "java.security.Key", true),
-                new Import("serialVersionUID", "java.security.PrivateKey", true),
-                new Import("serialVersionUID", "java.security.PublicKey", true),
-                new Import("serialVersionUID", "java.security.interfaces.DSAPrivateKey", true),
-                new Import("serialVersionUID", "java.security.interfaces.DSAPublicKey", true),
-                new Import("serialVersionUID", "java.security.interfaces.ECPrivateKey", true),
-                new Import("serialVersionUID", "java.security.interfaces.ECPublicKey", true),
-                new Import(
-                    "serialVersionUID",
-                    "java.security.interfaces.RSAMultiPrimePrivateCrtKey",
-                    true),
-                new Import("serialVersionUID", "java.security.interfaces.RSAPrivateCrtKey", true),
-                new Import("serialVersionUID", "java.security.interfaces.RSAPrivateKey", true),
-                new Import("serialVersionUID", "java.security.interfaces.RSAPublicKey", true),
-                new Import("serialVersionUID", "javax.crypto.SecretKey", true),
-                new Import("serialVersionUID", "javax.crypto.interfaces.DHPrivateKey", true),
-                new Import("serialVersionUID", "javax.crypto.interfaces.DHPublicKey", true),
-                new Import("serialVersionUID", "javax.crypto.interfaces.PBEKey", true),
-                new Import("serialVersionUID", "javax.naming.Name", true),
-                new Import("serialVersionUID", "javax.naming.directory.Attribute", true),
-              })
-          .put(
-              "methodType",
-              new Import[] {
-                new Import("methodType", "java.lang.invoke.MethodType", true),
-              })
-          .put(
-              "Locator2",
-              new Import[] {
-                new Import("Locator2", "org.xml.sax.ext", false),
-              })
-          .put(
-              "copy",
-              new Import[] {
-                new Import("copy", "java.nio.file.Files", true),
-                new Import("copy", "java.util.Collections", true),
-              })
-          .put(
-              "VALUE_RANGE_MIN_INCLUSIVE",
-              new Import[] {
-                new Import(
-                    "VALUE_RANGE_MIN_INCLUSIVE", "javax.imageio.metadata.IIOMetadataFormat", true),
-              })
-          .put(
-              "Streamable",
-              new Import[] {
-                new Import("Streamable", "org.omg.CORBA.portable", false),
-              })
-          .put(
-              "RowSorterListener",
-              new Import[] {
-                new Import("RowSorterListener", "javax.swing.event", false),
-              })
-          .put(
-              "VK_PRINTSCREEN",
-              new Import[] {
-                new Import("VK_PRINTSCREEN", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "ITALIC",
-              new Import[] {
-                new Import("ITALIC", "java.awt.Font", true),
-              })
-          .put(
-              "BORDER_TOP",
-              new Import[] {
-                new Import("BORDER_TOP", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "DOMErrorHandler",
-              new Import[] {
-                new Import("DOMErrorHandler", "org.w3c.dom", false),
-              })
-          .put(
-              "FontSizeAction",
-              new Import[] {
-                new Import("FontSizeAction", "javax.swing.text.StyledEditorKit", false),
-              })
-          .put(
-              "ISO_LOCAL_DATE_TIME",
-              new Import[] {
-                new Import("ISO_LOCAL_DATE_TIME", "java.time.format.DateTimeFormatter", true),
-              })
-          .put(
-              "StrictMath",
-              new Import[] {
-                new Import("StrictMath", "java.lang", false),
-              })
-          .put(
-              "SPAN",
-              new Import[] {
-                new Import("SPAN", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "isAbstract",
-              new Import[] {
-                new Import("isAbstract", "java.lang.reflect.Modifier", true),
-              })
-          .put(
-              "newReader",
-              new Import[] {
-                new Import("newReader", "java.nio.channels.Channels", true),
-              })
-          .put(
-              "APPROVE_BUTTON_TOOL_TIP_TEXT_CHANGED_PROPERTY",
-              new Import[] {
-                new Import(
-                    "APPROVE_BUTTON_TOOL_TIP_TEXT_CHANGED_PROPERTY",
-                    "javax.swing.JFileChooser",
-                    true),
-              })
-          .put(
-              "isBold",
-              new Import[] {
-                new Import("isBold", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "Thread",
-              new Import[] {
-                new Import("Thread", "java.lang", false),
-              })
-          .put(
-              "TexturePaint",
-              new Import[] {
-                new Import("TexturePaint", "java.awt", false),
-              })
-          .put(
-              "KEY_LOCATION_UNKNOWN",
-              new Import[] {
-                new Import("KEY_LOCATION_UNKNOWN", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "DoubleFunction",
-              new Import[] {
-                new Import("DoubleFunction", "java.util.function", false),
-              })
-          .put(
-              "REVERSE_PORTRAIT",
-              new Import[] {
-                new Import(
-                    "REVERSE_PORTRAIT",
-                    "javax.print.attribute.standard.OrientationRequested",
-                    true),
-              })
-          .put(
-              "VK_DEAD_TILDE",
-              new Import[] {
-                new Import("VK_DEAD_TILDE", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "isName",
-              new Import[] {
-                new Import("isName", "javax.lang.model.SourceVersion", true),
-              })
-          .put(
-              "KANGXI_RADICALS",
-              new Import[] {
-                new Import("KANGXI_RADICALS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "MANIFEST_NAME",
-              new Import[] {
-                new Import("MANIFEST_NAME", "java.util.jar.JarFile", true),
-              })
-          .put(
-              "UnsupportedAddressTypeException",
-              new Import[] {
-                new Import("UnsupportedAddressTypeException", "java.nio.channels", false),
-              })
-          .put(
-              "PLAIN_MESSAGE",
-              new Import[] {
-                new Import("PLAIN_MESSAGE", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "PolicyErrorHolder",
-              new Import[] {
-                new Import("PolicyErrorHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "RuntimeErrorException",
-              new Import[] {
-                new Import("RuntimeErrorException", "javax.management", false),
-              })
-          .put(
-              "VK_NUMBER_SIGN",
-              new Import[] {
-                new Import("VK_NUMBER_SIGN", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "MailcapCommandMap",
-              new Import[] {
-                new Import("MailcapCommandMap", "javax.activation", false),
-              })
-          .put(
-              "VariableHeightLayoutCache",
-              new Import[] {
-                new Import("VariableHeightLayoutCache", "javax.swing.tree", false),
-              })
-          .put(
-              "checkedSortedMap",
-              new Import[] {
-                new Import("checkedSortedMap", "java.util.Collections", true),
-              })
-          .put(
-              "AUTO_RESIZE_ALL_COLUMNS",
-              new Import[] {
-                new Import("AUTO_RESIZE_ALL_COLUMNS", "javax.swing.JTable", true),
-              })
-          .put(
-              "pathSeparator",
-              new Import[] {
-                new Import("pathSeparator", "java.io.File", true),
-              })
-          .put(
-              "VK_DEAD_OGONEK",
-              new Import[] {
-                new Import("VK_DEAD_OGONEK", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "Kind",
-              new Import[] {
-                new Import("Kind", "java.nio.file.WatchEvent", false),
-                new Import("Kind", "javax.tools.Diagnostic", false),
-                new Import("Kind", "javax.tools.JavaFileObject", false),
-              })
-          .put(
-              "RMIConnectionImpl_Stub",
-              new Import[] {
-                new Import("RMIConnectionImpl_Stub", "javax.management.remote.rmi", false),
-              })
-          .put(
-              "Stream",
-              new Import[] {
-                new Import("Stream", "java.util.stream", false),
-              })
-          .put(
-              "printDecimal",
-              new Import[] {
-                new Import("printDecimal", "javax.xml.bind.DatatypeConverter", true),
-              })
-          .put(
-              "isJavaMIMEType",
-              new Import[] {
-                new Import("isJavaMIMEType", "java.awt.datatransfer.SystemFlavorMap", true),
-              })
-          .put(
-              "DST_OFFSET",
-              new Import[] {
-                new Import("DST_OFFSET", "java.util.Calendar", true),
-              })
-          .put(
-              "RAW_X509_CERTIFICATE_TYPE",
-              new Import[] {
-                new Import(
-                    "RAW_X509_CERTIFICATE_TYPE", "javax.xml.crypto.dsig.keyinfo.X509Data", true),
-              })
-          .put(
-              "TransformException",
-              new Import[] {
-                new Import("TransformException", "javax.xml.crypto.dsig", false),
-              })
-          .put(
-              "Period",
-              new Import[] {
-                new Import("Period", "java.time", false),
-              })
-          .put(
-              "INTERLOCK_OPEN",
-              new Import[] {
-                new Import(
-                    "INTERLOCK_OPEN", "javax.print.attribute.standard.PrinterStateReason", true),
-              })
-          .put(
-              "EventObject",
-              new Import[] {
-                new Import("EventObject", "java.util", false),
-              })
-          .put(
-              "LOGGING_MXBEAN_NAME",
-              new Import[] {
-                new Import("LOGGING_MXBEAN_NAME", "java.util.logging.LogManager", true),
-              })
-          .put(
-              "ObjectHolder",
-              new Import[] {
-                new Import("ObjectHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "SOAPBody",
-              new Import[] {
-                new Import("SOAPBody", "javax.xml.soap", false),
-              })
-          .put(
-              "PrinterName",
-              new Import[] {
-                new Import("PrinterName", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "CannotProceedHelper",
-              new Import[] {
-                new Import("CannotProceedHelper", "org.omg.CosNaming.NamingContextPackage", false),
-              })
-          .put(
-              "EnumControl",
-              new Import[] {
-                new Import("EnumControl", "javax.sound.sampled", false),
-              })
-          .put(
-              "LAYOUT_LEFT_TO_RIGHT",
-              new Import[] {
-                new Import("LAYOUT_LEFT_TO_RIGHT", "java.awt.Font", true),
-              })
-          .put(
-              "VALUE_FRACTIONALMETRICS_DEFAULT",
-              new Import[] {
-                new Import("VALUE_FRACTIONALMETRICS_DEFAULT", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "AUGUST",
-              new Import[] {
-                new Import("AUGUST", "java.util.Calendar", true),
-                new Import("AUGUST", "javax.xml.datatype.DatatypeConstants", true),
-              })
-          .put(
-              "logStream",
-              new Import[] {
-                new Import("logStream", "javax.swing.DebugGraphics", true),
-              })
-          .put(
-              "AccessibleHyperlink",
-              new Import[] {
-                new Import("AccessibleHyperlink", "javax.accessibility", false),
-              })
-          .put(
-              "QualifiedNameable",
-              new Import[] {
-                new Import("QualifiedNameable", "javax.lang.model.element", false),
-              })
-          .put(
-              "XmlJavaTypeAdapters",
-              new Import[] {
-                new Import("XmlJavaTypeAdapters", "javax.xml.bind.annotation.adapters", false),
-              })
-          .put(
-              "InvalidAddressHolder",
-              new Import[] {
-                new Import(
-                    "InvalidAddressHolder", "org.omg.CosNaming.NamingContextExtPackage", false),
-              })
-          .put(
-              "XmlInlineBinaryData",
-              new Import[] {
-                new Import("XmlInlineBinaryData", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "STRUCT",
-              new Import[] {
-                new Import("STRUCT", "java.sql.Types", true),
-              })
-          .put(
-              "dk_Module",
-              new Import[] {
-                new Import("dk_Module", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "getFileChooserNewFolderIcon",
-              new Import[] {
-                new Import(
-                    "getFileChooserNewFolderIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
-              })
-          .put(
-              "PolicyNode",
-              new Import[] {
-                new Import("PolicyNode", "java.security.cert", false),
-              })
-          .put(
-              "VK_BACK_SLASH",
-              new Import[] {
-                new Import("VK_BACK_SLASH", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "MAX_CODE_POINT",
-              new Import[] {
-                new Import("MAX_CODE_POINT", "java.lang.Character", true),
-              })
-          .put(
-              "icSigBlueTRCTag",
-              new Import[] {
-                new Import("icSigBlueTRCTag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "ObjectReferenceFactoryHelper",
-              new Import[] {
-                new Import("ObjectReferenceFactoryHelper", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "BlockView",
-              new Import[] {
-                new Import("BlockView", "javax.swing.text.html", false),
-              })
-          .put(
-              "Insets",
-              new Import[] {
-                new Import("Insets", "java.awt", false),
-              })
-          .put(
-              "CodingErrorAction",
-              new Import[] {
-                new Import("CodingErrorAction", "java.nio.charset", false),
-              })
-          .put(
-              "setURLStreamHandlerFactory",
-              new Import[] {
-                new Import("setURLStreamHandlerFactory", "java.net.URL", true),
-              })
-          .put(
-              "HOUR",
-              new Import[] {
-                new Import("HOUR", "java.util.Calendar", true),
-              })
-          .put(
-              "MODIFIED_JULIAN_DAY",
-              new Import[] {
-                new Import("MODIFIED_JULIAN_DAY", "java.time.temporal.JulianFields", true),
-              })
-          .put(
-              "HTMLFrameHyperlinkEvent",
-              new Import[] {
-                new Import("HTMLFrameHyperlinkEvent", "javax.swing.text.html", false),
-              })
-          .put(
-              "XPathFilterParameterSpec",
-              new Import[] {
-                new Import("XPathFilterParameterSpec", "javax.xml.crypto.dsig.spec", false),
-              })
-          .put(
-              "UnknownUserException",
-              new Import[] {
-                new Import("UnknownUserException", "org.omg.CORBA", false),
-              })
-          .put(
-              "URLStreamHandlerFactory",
-              new Import[] {
-                new Import("URLStreamHandlerFactory", "java.net", false),
-              })
-          .put(
-              "getScaleInstance",
-              new Import[] {
-                new Import("getScaleInstance", "java.awt.geom.AffineTransform", true),
-              })
-          .put(
-              "Operation",
-              new Import[] {
-                new Import("Operation", "java.rmi.server", false),
-              })
-          .put(
-              "ENTRY_CREATE",
-              new Import[] {
-                new Import("ENTRY_CREATE", "java.nio.file.StandardWatchEventKinds", true),
-              })
-          .put(
-              "GLOBAL_LOGGER_NAME",
-              new Import[] {
-                new Import("GLOBAL_LOGGER_NAME", "java.util.logging.Logger", true),
-              })
-          .put(
-              "createWritableRaster",
-              new Import[] {
-                new Import("createWritableRaster", "java.awt.image.Raster", true),
-              })
-          .put(
-              "SubjectDomainCombiner",
-              new Import[] {
-                new Import("SubjectDomainCombiner", "javax.security.auth", false),
-              })
-          .put(
-              "selectionEndLineAction",
-              new Import[] {
-                new Import("selectionEndLineAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "Reason",
-              new Import[] {
-                new Import("Reason", "java.security.cert.CertPathValidatorException", false),
-              })
-          .put(
-              "ENTITY",
-              new Import[] {
-                new Import("ENTITY", "javax.swing.text.html.parser.DTDConstants", true),
-              })
-          .put(
-              "_DynArrayStub",
-              new Import[] {
-                new Import("_DynArrayStub", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "ALWAYS_UPDATE",
-              new Import[] {
-                new Import("ALWAYS_UPDATE", "javax.swing.text.DefaultCaret", true),
-              })
-          .put(
-              "CLOSE_CURSORS_AT_COMMIT",
-              new Import[] {
-                new Import("CLOSE_CURSORS_AT_COMMIT", "java.sql.ResultSet", true),
-              })
-          .put(
-              "FormatMismatchHelper",
-              new Import[] {
-                new Import("FormatMismatchHelper", "org.omg.IOP.CodecPackage", false),
-              })
-          .put(
-              "ItemSelectable",
-              new Import[] {
-                new Import("ItemSelectable", "java.awt", false),
-              })
-          .put(
-              "EncodedKeySpec",
-              new Import[] {
-                new Import("EncodedKeySpec", "java.security.spec", false),
-              })
-          .put(
-              "Mode",
-              new Import[] {
-                new Import("Mode", "javax.jws.WebParam", false),
-                new Import("Mode", "javax.xml.ws.Service", false),
-              })
-          .put(
-              "ToDoubleBiFunction",
-              new Import[] {
-                new Import("ToDoubleBiFunction", "java.util.function", false),
-              })
-          .put(
-              "KRB_NT_UID",
-              new Import[] {
-                new Import("KRB_NT_UID", "javax.security.auth.kerberos.KerberosPrincipal", true),
-              })
-          .put(
-              "ofDays",
-              new Import[] {
-                new Import("ofDays", "java.time.Duration", true),
-                new Import("ofDays", "java.time.Period", true),
-              })
-          .put(
-              "AbstractElementVisitor6",
-              new Import[] {
-                new Import("AbstractElementVisitor6", "javax.lang.model.util", false),
-              })
-          .put(
-              "AbstractElementVisitor7",
-              new Import[] {
-                new Import("AbstractElementVisitor7", "javax.lang.model.util", false),
-              })
-          .put(
-              "AbstractElementVisitor8",
-              new Import[] {
-                new Import("AbstractElementVisitor8", "javax.lang.model.util", false),
-              })
-          .put(
-              "getSystemToolClassLoader",
-              new Import[] {
-                new Import("getSystemToolClassLoader", "javax.tools.ToolProvider", true),
-              })
-          .put(
-              "ULongLongSeqHolder",
-              new Import[] {
-                new Import("ULongLongSeqHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "SONG_POSITION_POINTER",
-              new Import[] {
-                new Import("SONG_POSITION_POINTER", "javax.sound.midi.ShortMessage", true),
-              })
-          .put(
-              "KeyBinding",
-              new Import[] {
-                new Import("KeyBinding", "javax.swing.text.JTextComponent", false),
-              })
-          .put(
-              "FORMAT_CLASS",
-              new Import[] {
-                new Import("FORMAT_CLASS", "java.util.ResourceBundle.Control", true),
-              })
-          .put(
-              "ChronoUnit",
-              new Import[] {
-                new Import("ChronoUnit", "java.time.temporal", false),
-              })
-          .build();
-}
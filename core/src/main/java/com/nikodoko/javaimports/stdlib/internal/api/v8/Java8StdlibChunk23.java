@@ -1,1728 +0,0 @@
-// Code generated by GenerateStdlib.java. DO NOT EDIT.
-package com.nikodoko.javaimports.stdlib.internal.api.v8;
-
-import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
-import java.util.Map;
-
-public class Java8StdlibChunk23 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
-          .put(
-              "DST_OVER",
-              new Import[] {
-                new Import("DST_OVER", "java.awt.AlphaComposite", true),
-              })
-          .put(
-              "UTF_16LE",
-              new Import[] {
-                new Import("UTF_16LE", "java.nio.charset.StandardCharsets", true),
-              })
-          .put(
-              "TableModelEvent",
-              new Import[] {
-                new Import("TableModelEvent", "javax.swing.event", false),
-              })
-          .put(
-              "TYPE_SHORT",
-              new Import[] {
-                new Import("TYPE_SHORT", "java.awt.image.DataBuffer", true),
-              })
-          .put(
-              "FileNotFoundException",
-              new Import[] {
-                new Import("FileNotFoundException", "java.io", false),
-              })
-          .put(
-              "toUnsignedLong",
-              new Import[] {
-                new Import("toUnsignedLong", "java.lang.Byte", true),
-                new Import("toUnsignedLong", "java.lang.Integer", true),
-                new Import("toUnsignedLong", "java.lang.Short", true),
-              })
-          .put(
-              "NodeDimensions",
-              new Import[] {
-                new Import("NodeDimensions", "javax.swing.tree.AbstractLayoutCache", false),
-              })
-          .put(
-              "newSingleThreadExecutor",
-              new Import[] {
-                new Import("newSingleThreadExecutor", "java.util.concurrent.Executors", true),
-              })
-          .put(
-              "ElementVisitor",
-              new Import[] {
-                new Import("ElementVisitor", "javax.lang.model.element", false),
-              })
-          .put(
-              "VALUE_STROKE_DEFAULT",
-              new Import[] {
-                new Import("VALUE_STROKE_DEFAULT", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "createUI",
-              new Import[] {
-                new Import("createUI", "javax.swing.plaf.ComponentUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicButtonUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicCheckBoxMenuItemUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicCheckBoxUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicColorChooserUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicComboBoxUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicDesktopIconUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicDesktopPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicEditorPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicFileChooserUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicFormattedTextFieldUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicInternalFrameUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicLabelUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicListUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicMenuBarUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicMenuItemUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicMenuUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicOptionPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicPanelUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicPasswordFieldUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicPopupMenuSeparatorUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicPopupMenuUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicProgressBarUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicRadioButtonMenuItemUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicRadioButtonUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicRootPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicScrollBarUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicScrollPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicSeparatorUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicSliderUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicSpinnerUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicSplitPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicTabbedPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicTableHeaderUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicTableUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicTextAreaUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicTextFieldUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicTextPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicToggleButtonUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicToolBarSeparatorUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicToolBarUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicToolTipUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicTreeUI", true),
-                new Import("createUI", "javax.swing.plaf.basic.BasicViewportUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalButtonUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalCheckBoxUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalComboBoxUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalDesktopIconUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalFileChooserUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalInternalFrameUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalLabelUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalMenuBarUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalPopupMenuSeparatorUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalProgressBarUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalRadioButtonUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalRootPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalScrollBarUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalScrollPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalSeparatorUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalSliderUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalSplitPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalTabbedPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalTextFieldUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalToggleButtonUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalToolBarUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalToolTipUI", true),
-                new Import("createUI", "javax.swing.plaf.metal.MetalTreeUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiButtonUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiColorChooserUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiComboBoxUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiDesktopIconUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiDesktopPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiFileChooserUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiInternalFrameUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiLabelUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiListUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiMenuBarUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiMenuItemUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiOptionPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiPanelUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiPopupMenuUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiProgressBarUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiRootPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiScrollBarUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiScrollPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiSeparatorUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiSliderUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiSpinnerUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiSplitPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiTabbedPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiTableHeaderUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiTableUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiTextUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiToolBarUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiToolTipUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiTreeUI", true),
-                new Import("createUI", "javax.swing.plaf.multi.MultiViewportUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthButtonUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthCheckBoxMenuItemUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthCheckBoxUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthColorChooserUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthComboBoxUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthDesktopIconUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthDesktopPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthEditorPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthFormattedTextFieldUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthInternalFrameUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthLabelUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthListUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthLookAndFeel", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthMenuBarUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthMenuItemUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthMenuUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthOptionPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthPanelUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthPasswordFieldUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthPopupMenuUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthProgressBarUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthRadioButtonMenuItemUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthRadioButtonUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthRootPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthScrollBarUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthScrollPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthSeparatorUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthSliderUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthSpinnerUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthSplitPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthTabbedPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthTableHeaderUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthTableUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthTextAreaUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthTextFieldUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthTextPaneUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthToggleButtonUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthToolBarUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthToolTipUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthTreeUI", true),
-                new Import("createUI", "javax.swing.plaf.synth.SynthViewportUI", true),
-              })
-          .put(
-              "SynthColorChooserUI",
-              new Import[] {
-                new Import("SynthColorChooserUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "RemoteObject",
-              new Import[] {
-                new Import("RemoteObject", "java.rmi.server", false),
-              })
-          .put(
-              "StreamableValue",
-              new Import[] {
-                new Import("StreamableValue", "org.omg.CORBA.portable", false),
-              })
-          .put(
-              "getFileChooserDetailViewIcon",
-              new Import[] {
-                new Import(
-                    "getFileChooserDetailViewIcon",
-                    "javax.swing.plaf.metal.MetalIconFactory",
-                    true),
-              })
-          .put(
-              "TAG_MULTIPLE_COMPONENTS",
-              new Import[] {
-                new Import("TAG_MULTIPLE_COMPONENTS", "org.omg.IOP", false),
-              })
-          .put(
-              "ObjectNotActive",
-              new Import[] {
-                new Import("ObjectNotActive", "org.omg.PortableServer.POAPackage", false),
-              })
-          .put(
-              "InterruptibleChannel",
-              new Import[] {
-                new Import("InterruptibleChannel", "java.nio.channels", false),
-              })
-          .put(
-              "DEVANAGARI_EXTENDED",
-              new Import[] {
-                new Import("DEVANAGARI_EXTENDED", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "randomUUID",
-              new Import[] {
-                new Import("randomUUID", "java.util.UUID", true),
-              })
-          .put(
-              "DropLocation",
-              new Import[] {
-                new Import("DropLocation", "javax.swing.JList", false),
-                new Import("DropLocation", "javax.swing.JTable", false),
-                new Import("DropLocation", "javax.swing.JTree", false),
-                new Import("DropLocation", "javax.swing.TransferHandler", false),
-                new Import("DropLocation", "javax.swing.text.JTextComponent", false),
-              })
-          .put(
-              "Inherited",
-              new Import[] {
-                new Import("Inherited", "java.lang.annotation", false),
-              })
-          .put(
-              "CHILD_NODE_OF",
-              new Import[] {
-                new Import("CHILD_NODE_OF", "javax.accessibility.AccessibleRelation", true),
-              })
-          .put(
-              "CompilationTask",
-              new Import[] {
-                new Import("CompilationTask", "javax.tools.JavaCompiler", false),
-              })
-          .put(
-              "IIOWriteProgressListener",
-              new Import[] {
-                new Import("IIOWriteProgressListener", "javax.imageio.event", false),
-              })
-          .put(
-              "getIntegerInstance",
-              new Import[] {
-                new Import("getIntegerInstance", "java.text.NumberFormat", true),
-              })
-          .put(
-              "makeComponentInputMap",
-              new Import[] {
-                new Import("makeComponentInputMap", "javax.swing.LookAndFeel", true),
-              })
-          .put(
-              "TYPE_6CLR",
-              new Import[] {
-                new Import("TYPE_6CLR", "java.awt.color.ColorSpace", true),
-              })
-          .put(
-              "INPUT_METHOD_SEGMENT",
-              new Import[] {
-                new Import(
-                    "INPUT_METHOD_SEGMENT",
-                    "java.text.AttributedCharacterIterator.Attribute",
-                    true),
-              })
-          .put(
-              "JoinPreviousDirection",
-              new Import[] {
-                new Import(
-                    "JoinPreviousDirection",
-                    "javax.swing.text.DefaultStyledDocument.ElementSpec",
-                    true),
-              })
-          .put(
-              "Arrays",
-              new Import[] {
-                new Import("Arrays", "java.util", false),
-              })
-          .put(
-              "getTargetEncodings",
-              new Import[] {
-                new Import("getTargetEncodings", "javax.sound.sampled.AudioSystem", true),
-              })
-          .put(
-              "MBeanRegistrationException",
-              new Import[] {
-                new Import("MBeanRegistrationException", "javax.management", false),
-              })
-          .put(
-              "NamingContextHelper",
-              new Import[] {
-                new Import("NamingContextHelper", "org.omg.CosNaming", false),
-              })
-          .put(
-              "DOMResult",
-              new Import[] {
-                new Import("DOMResult", "javax.xml.transform.dom", false),
-              })
-          .put(
-              "TransformerConfigurationException",
-              new Import[] {
-                new Import("TransformerConfigurationException", "javax.xml.transform", false),
-              })
-          .put(
-              "yellow",
-              new Import[] {
-                new Import("yellow", "java.awt.Color", true),
-              })
-          .put(
-              "ICON_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("ICON_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
-              })
-          .put(
-              "EMPTY_DESCRIPTOR",
-              new Import[] {
-                new Import("EMPTY_DESCRIPTOR", "javax.management.ImmutableDescriptor", true),
-              })
-          .put(
-              "ShutdownChannelGroupException",
-              new Import[] {
-                new Import("ShutdownChannelGroupException", "java.nio.channels", false),
-              })
-          .put(
-              "Notification",
-              new Import[] {
-                new Import("Notification", "javax.management", false),
-              })
-          .put(
-              "VALUE_RENDER_DEFAULT",
-              new Import[] {
-                new Import("VALUE_RENDER_DEFAULT", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "ForegroundAction",
-              new Import[] {
-                new Import("ForegroundAction", "javax.swing.text.StyledEditorKit", false),
-              })
-          .put(
-              "OBJECT_ADDED",
-              new Import[] {
-                new Import("OBJECT_ADDED", "javax.naming.event.NamingEvent", true),
-              })
-          .put(
-              "PackedColorModel",
-              new Import[] {
-                new Import("PackedColorModel", "java.awt.image", false),
-              })
-          .put(
-              "MouseEvent",
-              new Import[] {
-                new Import("MouseEvent", "java.awt.event", false),
-                new Import("MouseEvent", "org.w3c.dom.events", false),
-              })
-          .put(
-              "JDBCType",
-              new Import[] {
-                new Import("JDBCType", "java.sql", false),
-              })
-          .put(
-              "BasicReason",
-              new Import[] {
-                new Import("BasicReason", "java.security.cert.CertPathValidatorException", false),
-              })
-          .put(
-              "TRANSACTION_NONE",
-              new Import[] {
-                new Import("TRANSACTION_NONE", "java.sql.Connection", true),
-              })
-          .put(
-              "HTMLEditorKit",
-              new Import[] {
-                new Import("HTMLEditorKit", "javax.swing.text.html", false),
-              })
-          .put(
-              "TextAction",
-              new Import[] {
-                new Import("TextAction", "javax.swing.text", false),
-              })
-          .put(
-              "BAD_NAMETYPE",
-              new Import[] {
-                new Import("BAD_NAMETYPE", "org.ietf.jgss.GSSException", true),
-              })
-          .put(
-              "blue",
-              new Import[] {
-                new Import("blue", "java.awt.Color", true),
-              })
-          .put(
-              "IllegalFormatException",
-              new Import[] {
-                new Import("IllegalFormatException", "java.util", false),
-              })
-          .put(
-              "MetalTreeUI",
-              new Import[] {
-                new Import("MetalTreeUI", "javax.swing.plaf.metal", false),
-              })
-          .put(
-              "ListUI",
-              new Import[] {
-                new Import("ListUI", "javax.swing.plaf", false),
-              })
-          .put(
-              "sqlStateSQL99",
-              new Import[] {
-                new Import("sqlStateSQL99", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "getMemoryMXBean",
-              new Import[] {
-                new Import("getMemoryMXBean", "java.lang.management.ManagementFactory", true),
-              })
-          .put(
-              "MetalToolBarUI",
-              new Import[] {
-                new Import("MetalToolBarUI", "javax.swing.plaf.metal", false),
-              })
-          .put(
-              "INSCRIPTIONAL_PAHLAVI",
-              new Import[] {
-                new Import("INSCRIPTIONAL_PAHLAVI", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "XMLStreamWriter",
-              new Import[] {
-                new Import("XMLStreamWriter", "javax.xml.stream", false),
-              })
-          .put(
-              "TAG_VDMX",
-              new Import[] {
-                new Import("TAG_VDMX", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "asInterfaceInstance",
-              new Import[] {
-                new Import("asInterfaceInstance", "java.lang.invoke.MethodHandleProxies", true),
-              })
-          .put(
-              "NORTHWEST",
-              new Import[] {
-                new Import("NORTHWEST", "java.awt.GridBagConstraints", true),
-              })
-          .put(
-              "Compiler",
-              new Import[] {
-                new Import("Compiler", "java.lang", false),
-              })
-          .put(
-              "NotOwnerException",
-              new Import[] {
-                new Import("NotOwnerException", "java.security.acl", false),
-              })
-          .put(
-              "TransactionRequiredException",
-              new Import[] {
-                new Import("TransactionRequiredException", "javax.transaction", false),
-              })
-          .put(
-              "TransformerFactory",
-              new Import[] {
-                new Import("TransformerFactory", "javax.xml.transform", false),
-              })
-          .put(
-              "AbstractTypeVisitor6",
-              new Import[] {
-                new Import("AbstractTypeVisitor6", "javax.lang.model.util", false),
-              })
-          .put(
-              "AbstractTypeVisitor7",
-              new Import[] {
-                new Import("AbstractTypeVisitor7", "javax.lang.model.util", false),
-              })
-          .put(
-              "KeyEventPostProcessor",
-              new Import[] {
-                new Import("KeyEventPostProcessor", "java.awt", false),
-              })
-          .put(
-              "AbstractTypeVisitor8",
-              new Import[] {
-                new Import("AbstractTypeVisitor8", "javax.lang.model.util", false),
-              })
-          .put(
-              "INVOCATION_DEFAULT",
-              new Import[] {
-                new Import("INVOCATION_DEFAULT", "java.awt.event.InvocationEvent", true),
-              })
-          .put(
-              "NA_NUMBER_12_ENVELOPE",
-              new Import[] {
-                new Import("NA_NUMBER_12_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-                new Import(
-                    "NA_NUMBER_12_ENVELOPE", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import(
-                    "NA_NUMBER_12_ENVELOPE", "javax.print.attribute.standard.MediaSize.NA", true),
-              })
-          .put(
-              "createGrayLineBorder",
-              new Import[] {
-                new Import("createGrayLineBorder", "javax.swing.border.LineBorder", true),
-              })
-          .put(
-              "list",
-              new Import[] {
-                new Import("list", "java.nio.file.Files", true),
-                new Import("list", "java.rmi.Naming", true),
-                new Import("list", "java.util.Collections", true),
-              })
-          .put(
-              "AFTER_LAST_LINE",
-              new Import[] {
-                new Import("AFTER_LAST_LINE", "java.awt.BorderLayout", true),
-              })
-          .put(
-              "XA_RBINTEGRITY",
-              new Import[] {
-                new Import("XA_RBINTEGRITY", "javax.transaction.xa.XAException", true),
-              })
-          .put(
-              "InconsistentTypeCode",
-              new Import[] {
-                new Import("InconsistentTypeCode", "org.omg.CORBA.ORBPackage", false),
-                new Import(
-                    "InconsistentTypeCode", "org.omg.DynamicAny.DynAnyFactoryPackage", false),
-              })
-          .put(
-              "SOAPFaultElement",
-              new Import[] {
-                new Import("SOAPFaultElement", "javax.xml.soap", false),
-              })
-          .put(
-              "LoginModuleControlFlag",
-              new Import[] {
-                new Import(
-                    "LoginModuleControlFlag",
-                    "javax.security.auth.login.AppConfigurationEntry",
-                    false),
-              })
-          .put(
-              "ObjectFactoryBuilder",
-              new Import[] {
-                new Import("ObjectFactoryBuilder", "javax.naming.spi", false),
-              })
-          .put(
-              "getClip",
-              new Import[] {
-                new Import("getClip", "javax.sound.sampled.AudioSystem", true),
-              })
-          .put(
-              "JSpinner",
-              new Import[] {
-                new Import("JSpinner", "javax.swing", false),
-              })
-          .put(
-              "VK_SLASH",
-              new Import[] {
-                new Import("VK_SLASH", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "Icon",
-              new Import[] {
-                new Import("Icon", "javax.swing", false),
-              })
-          .put(
-              "NimbusLookAndFeel",
-              new Import[] {
-                new Import("NimbusLookAndFeel", "javax.swing.plaf.nimbus", false),
-              })
-          .put(
-              "MidiFileWriter",
-              new Import[] {
-                new Import("MidiFileWriter", "javax.sound.midi.spi", false),
-              })
-          .put(
-              "AtomicMarkableReference",
-              new Import[] {
-                new Import("AtomicMarkableReference", "java.util.concurrent.atomic", false),
-              })
-          .put(
-              "IllegalStateException",
-              new Import[] {
-                new Import("IllegalStateException", "java.lang", false),
-              })
-          .put(
-              "GlobalScope",
-              new Import[] {
-                new Import("GlobalScope", "javax.xml.bind.JAXBElement", false),
-              })
-          .put(
-              "HIERARCHY_FIRST",
-              new Import[] {
-                new Import("HIERARCHY_FIRST", "java.awt.event.HierarchyEvent", true),
-              })
-          .put(
-              "HTTP_BAD_REQUEST",
-              new Import[] {
-                new Import("HTTP_BAD_REQUEST", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "lookupDefaultPrintService",
-              new Import[] {
-                new Import("lookupDefaultPrintService", "javax.print.PrintServiceLookup", true),
-              })
-          .put(
-              "MBeanInfo",
-              new Import[] {
-                new Import("MBeanInfo", "javax.management", false),
-              })
-          .put(
-              "WindowStateListener",
-              new Import[] {
-                new Import("WindowStateListener", "java.awt.event", false),
-              })
-          .put(
-              "getImageWritersByFormatName",
-              new Import[] {
-                new Import("getImageWritersByFormatName", "javax.imageio.ImageIO", true),
-              })
-          .put(
-              "JMXAuthenticator",
-              new Import[] {
-                new Import("JMXAuthenticator", "javax.management.remote", false),
-              })
-          .put(
-              "SerialBlob",
-              new Import[] {
-                new Import("SerialBlob", "javax.sql.rowset.serial", false),
-              })
-          .put(
-              "ACCEPT_ORIGINAL_SERVER",
-              new Import[] {
-                new Import("ACCEPT_ORIGINAL_SERVER", "java.net.CookiePolicy", true),
-              })
-          .put(
-              "UnsolicitedNotification",
-              new Import[] {
-                new Import("UnsolicitedNotification", "javax.naming.ldap", false),
-              })
-          .put(
-              "XmlSeeAlso",
-              new Import[] {
-                new Import("XmlSeeAlso", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "remove",
-              new Import[] {
-                new Import("remove", "java.awt.AWTEventMulticaster", true),
-              })
-          .put(
-              "NCHAR",
-              new Import[] {
-                new Import("NCHAR", "java.sql.Types", true),
-              })
-          .put(
-              "OBJECT_FACTORIES",
-              new Import[] {
-                new Import("OBJECT_FACTORIES", "javax.naming.Context", true),
-              })
-          .put(
-              "INTERNAL_FRAME_DEICONIFIED",
-              new Import[] {
-                new Import(
-                    "INTERNAL_FRAME_DEICONIFIED", "javax.swing.event.InternalFrameEvent", true),
-              })
-          .put(
-              "SORA_SOMPENG",
-              new Import[] {
-                new Import("SORA_SOMPENG", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "TOOL_BAR",
-              new Import[] {
-                new Import("TOOL_BAR", "javax.accessibility.AccessibleRole", true),
-                new Import("TOOL_BAR", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "ServiceContextHelper",
-              new Import[] {
-                new Import("ServiceContextHelper", "org.omg.IOP", false),
-              })
-          .put(
-              "ChronoField",
-              new Import[] {
-                new Import("ChronoField", "java.time.temporal", false),
-              })
-          .put(
-              "PolicyError",
-              new Import[] {
-                new Import("PolicyError", "org.omg.CORBA", false),
-              })
-          .put(
-              "NaN",
-              new Import[] {
-                new Import("NaN", "java.lang.Double", true),
-                new Import("NaN", "java.lang.Float", true),
-              })
-          .put(
-              "wrapperInstanceTarget",
-              new Import[] {
-                new Import("wrapperInstanceTarget", "java.lang.invoke.MethodHandleProxies", true),
-              })
-          .put(
-              "IndexColorModel",
-              new Import[] {
-                new Import("IndexColorModel", "java.awt.image", false),
-              })
-          .put(
-              "CURRENCY",
-              new Import[] {
-                new Import("CURRENCY", "java.text.NumberFormat.Field", true),
-              })
-          .put(
-              "PGDN",
-              new Import[] {
-                new Import("PGDN", "java.awt.Event", true),
-              })
-          .put(
-              "loadInstalled",
-              new Import[] {
-                new Import("loadInstalled", "java.util.ServiceLoader", true),
-              })
-          .put(
-              "IGNORE_IMMEDIATE_BEANINFO",
-              new Import[] {
-                new Import("IGNORE_IMMEDIATE_BEANINFO", "java.beans.Introspector", true),
-              })
-          .put(
-              "INTERSECT",
-              new Import[] {
-                new Import("INTERSECT", "javax.xml.crypto.dsig.spec.XPathType.Filter", true),
-              })
-          .put(
-              "Adler32",
-              new Import[] {
-                new Import("Adler32", "java.util.zip", false),
-              })
-          .put(
-              "WRAP_TAB_LAYOUT",
-              new Import[] {
-                new Import("WRAP_TAB_LAYOUT", "javax.swing.JTabbedPane", true),
-              })
-          .put(
-              "TABLOID",
-              new Import[] {
-                new Import("TABLOID", "java.awt.PageAttributes.MediaType", true),
-                new Import("TABLOID", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import("TABLOID", "javax.print.attribute.standard.MediaSize.Other", true),
-              })
-          .put(
-              "getPointerInfo",
-              new Import[] {
-                new Import("getPointerInfo", "java.awt.MouseInfo", true),
-              })
-          .put(
-              "VK_SEPARATOR",
-              new Import[] {
-                new Import("VK_SEPARATOR", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "BeanDescriptor",
-              new Import[] {
-                new Import("BeanDescriptor", "java.beans", false),
-              })
-          .put(
-              "ExtendedResponse",
-              new Import[] {
-                new Import("ExtendedResponse", "javax.naming.ldap", false),
-              })
-          .put(
-              "ActivationDesc",
-              new Import[] {
-                new Import("ActivationDesc", "java.rmi.activation", false),
-              })
-          .put(
-              "NoSuchObjectException",
-              new Import[] {
-                new Import("NoSuchObjectException", "java.rmi", false),
-              })
-          .put(
-              "emptySortedSet",
-              new Import[] {
-                new Import("emptySortedSet", "java.util.Collections", true),
-              })
-          .put(
-              "MetalToggleButtonUI",
-              new Import[] {
-                new Import("MetalToggleButtonUI", "javax.swing.plaf.metal", false),
-              })
-          .put(
-              "getContextualShaper",
-              new Import[] {
-                new Import("getContextualShaper", "java.awt.font.NumericShaper", true),
-              })
-          .put(
-              "GMONTHDAY",
-              new Import[] {
-                new Import("GMONTHDAY", "javax.xml.datatype.DatatypeConstants", true),
-              })
-          .put(
-              "ImageGraphicAttribute",
-              new Import[] {
-                new Import("ImageGraphicAttribute", "java.awt.font", false),
-              })
-          .put(
-              "WHEEL_BLOCK_SCROLL",
-              new Import[] {
-                new Import("WHEEL_BLOCK_SCROLL", "java.awt.event.MouseWheelEvent", true),
-              })
-          .put(
-              "_tk_longlong",
-              new Import[] {
-                new Import("_tk_longlong", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "SINGLE_SELECTION",
-              new Import[] {
-                new Import("SINGLE_SELECTION", "javax.swing.ListSelectionModel", true),
-              })
-          .put(
-              "GraphicsConfiguration",
-              new Import[] {
-                new Import("GraphicsConfiguration", "java.awt", false),
-              })
-          .put(
-              "ChannelBinding",
-              new Import[] {
-                new Import("ChannelBinding", "org.ietf.jgss", false),
-              })
-          .put(
-              "BRAHMI",
-              new Import[] {
-                new Import("BRAHMI", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "BeanContextContainerProxy",
-              new Import[] {
-                new Import("BeanContextContainerProxy", "java.beans.beancontext", false),
-              })
-          .put(
-              "COMBINING_DIACRITICAL_MARKS",
-              new Import[] {
-                new Import("COMBINING_DIACRITICAL_MARKS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "SRC_OVER",
-              new Import[] {
-                new Import("SRC_OVER", "java.awt.AlphaComposite", true),
-              })
-          .put(
-              "codePointBefore",
-              new Import[] {
-                new Import("codePointBefore", "java.lang.Character", true),
-              })
-          .put(
-              "getTreeLeafIcon",
-              new Import[] {
-                new Import("getTreeLeafIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
-              })
-          .put(
-              "spliterator",
-              new Import[] {
-                new Import("spliterator", "java.util.Arrays", true),
-                new Import("spliterator", "java.util.Spliterators", true),
-              })
-          .put(
-              "ACTIVATOR_ID",
-              new Import[] {
-                new Import("ACTIVATOR_ID", "java.rmi.server.ObjID", true),
-              })
-          .put(
-              "VK_DELETE",
-              new Import[] {
-                new Import("VK_DELETE", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "TAG_POLICIES",
-              new Import[] {
-                new Import("TAG_POLICIES", "org.omg.IOP", false),
-              })
-          .put(
-              "ForwardRequestHelper",
-              new Import[] {
-                new Import("ForwardRequestHelper", "org.omg.PortableInterceptor", false),
-                new Import("ForwardRequestHelper", "org.omg.PortableServer", false),
-              })
-          .put(
-              "getExponent",
-              new Import[] {
-                new Import("getExponent", "java.lang.Math", true),
-                new Import("getExponent", "java.lang.StrictMath", true),
-              })
-          .put(
-              "SUPERSCRIPT",
-              new Import[] {
-                new Import("SUPERSCRIPT", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "HMACParameterSpec",
-              new Import[] {
-                new Import("HMACParameterSpec", "javax.xml.crypto.dsig.spec", false),
-              })
-          .put(
-              "PKIXRevocationChecker",
-              new Import[] {
-                new Import("PKIXRevocationChecker", "java.security.cert", false),
-              })
-          .put(
-              "DocumentationTask",
-              new Import[] {
-                new Import("DocumentationTask", "javax.tools.DocumentationTool", false),
-              })
-          .put(
-              "ReadOnlyBufferException",
-              new Import[] {
-                new Import("ReadOnlyBufferException", "java.nio", false),
-              })
-          .put(
-              "ofMillis",
-              new Import[] {
-                new Import("ofMillis", "java.time.Duration", true),
-              })
-          .put(
-              "selectionBeginParagraphAction",
-              new Import[] {
-                new Import(
-                    "selectionBeginParagraphAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "WIDTH",
-              new Import[] {
-                new Import("WIDTH", "java.awt.font.TextAttribute", true),
-                new Import("WIDTH", "java.awt.image.ImageObserver", true),
-                new Import("WIDTH", "javax.swing.SpringLayout", true),
-                new Import("WIDTH", "javax.swing.text.html.CSS.Attribute", true),
-                new Import("WIDTH", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "IGNORE",
-              new Import[] {
-                new Import("IGNORE", "java.nio.charset.CodingErrorAction", true),
-              })
-          .put(
-              "AnnotationTypeMismatchException",
-              new Import[] {
-                new Import("AnnotationTypeMismatchException", "java.lang.annotation", false),
-              })
-          .put(
-              "OFF",
-              new Import[] {
-                new Import("OFF", "java.util.logging.Level", true),
-              })
-          .put(
-              "VALUE_ANTIALIAS_OFF",
-              new Import[] {
-                new Import("VALUE_ANTIALIAS_OFF", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "CHARACTERS",
-              new Import[] {
-                new Import("CHARACTERS", "javax.xml.stream.XMLStreamConstants", true),
-              })
-          .put(
-              "spreadInvoker",
-              new Import[] {
-                new Import("spreadInvoker", "java.lang.invoke.MethodHandles", true),
-              })
-          .put(
-              "WebMethod",
-              new Import[] {
-                new Import("WebMethod", "javax.jws", false),
-              })
-          .put(
-              "OriginateDirection",
-              new Import[] {
-                new Import(
-                    "OriginateDirection",
-                    "javax.swing.text.DefaultStyledDocument.ElementSpec",
-                    true),
-              })
-          .put(
-              "PRIORITY_NONE",
-              new Import[] {
-                new Import("PRIORITY_NONE", "java.awt.font.GlyphJustificationInfo", true),
-              })
-          .put(
-              "NOTIFS_LOST",
-              new Import[] {
-                new Import(
-                    "NOTIFS_LOST", "javax.management.remote.JMXConnectionNotification", true),
-              })
-          .put(
-              "_tk_TypeCode",
-              new Import[] {
-                new Import("_tk_TypeCode", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "READING",
-              new Import[] {
-                new Import("READING", "java.text.AttributedCharacterIterator.Attribute", true),
-              })
-          .put(
-              "MetalSeparatorUI",
-              new Import[] {
-                new Import("MetalSeparatorUI", "javax.swing.plaf.metal", false),
-              })
-          .put(
-              "icHdrRenderingIntent",
-              new Import[] {
-                new Import("icHdrRenderingIntent", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "_tk_wchar",
-              new Import[] {
-                new Import("_tk_wchar", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "RAW_TEXT",
-              new Import[] {
-                new Import("RAW_TEXT", "java.awt.im.InputMethodHighlight", true),
-              })
-          .put(
-              "ServiceContextListHolder",
-              new Import[] {
-                new Import("ServiceContextListHolder", "org.omg.IOP", false),
-              })
-          .put(
-              "TEXT_FIRST",
-              new Import[] {
-                new Import("TEXT_FIRST", "java.awt.event.TextEvent", true),
-              })
-          .put(
-              "Introspector",
-              new Import[] {
-                new Import("Introspector", "java.beans", false),
-              })
-          .put(
-              "ADD_ATTRIBUTE",
-              new Import[] {
-                new Import("ADD_ATTRIBUTE", "javax.naming.directory.DirContext", true),
-              })
-          .put(
-              "KeyManagerFactorySpi",
-              new Import[] {
-                new Import("KeyManagerFactorySpi", "javax.net.ssl", false),
-              })
-          .put(
-              "LayoutFocusTraversalPolicy",
-              new Import[] {
-                new Import("LayoutFocusTraversalPolicy", "javax.swing", false),
-              })
-          .put(
-              "KEY_LOCATION_NUMPAD",
-              new Import[] {
-                new Import("KEY_LOCATION_NUMPAD", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "IEEEremainder",
-              new Import[] {
-                new Import("IEEEremainder", "java.lang.Math", true),
-                new Import("IEEEremainder", "java.lang.StrictMath", true),
-              })
-          .put(
-              "TileObserver",
-              new Import[] {
-                new Import("TileObserver", "java.awt.image", false),
-              })
-          .put(
-              "Beans",
-              new Import[] {
-                new Import("Beans", "java.beans", false),
-              })
-          .put(
-              "ByteChannel",
-              new Import[] {
-                new Import("ByteChannel", "java.nio.channels", false),
-              })
-          .put(
-              "_tk_native",
-              new Import[] {
-                new Import("_tk_native", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "VK_DEAD_GRAVE",
-              new Import[] {
-                new Import("VK_DEAD_GRAVE", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "PrinterMakeAndModel",
-              new Import[] {
-                new Import("PrinterMakeAndModel", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "MenuBarUI",
-              new Import[] {
-                new Import("MenuBarUI", "javax.swing.plaf", false),
-              })
-          .put(
-              "ImageInputStreamSpi",
-              new Import[] {
-                new Import("ImageInputStreamSpi", "javax.imageio.spi", false),
-              })
-          .put(
-              "setLog",
-              new Import[] {
-                new Import("setLog", "java.rmi.server.RemoteServer", true),
-              })
-          .put(
-              "Choice",
-              new Import[] {
-                new Import("Choice", "java.awt", false),
-              })
-          .put(
-              "PORTRAIT",
-              new Import[] {
-                new Import("PORTRAIT", "java.awt.PageAttributes.OrientationRequestedType", true),
-                new Import("PORTRAIT", "java.awt.print.PageFormat", true),
-                new Import("PORTRAIT", "javax.print.attribute.standard.OrientationRequested", true),
-              })
-          .put(
-              "FlavorException",
-              new Import[] {
-                new Import("FlavorException", "javax.print", false),
-              })
-          .put(
-              "toList",
-              new Import[] {
-                new Import("toList", "java.util.stream.Collectors", true),
-              })
-          .put(
-              "CharsetEncoder",
-              new Import[] {
-                new Import("CharsetEncoder", "java.nio.charset", false),
-              })
-          .put(
-              "FRENCH",
-              new Import[] {
-                new Import("FRENCH", "java.util.Locale", true),
-              })
-          .put(
-              "HierarchyListener",
-              new Import[] {
-                new Import("HierarchyListener", "java.awt.event", false),
-              })
-          .put(
-              "BasicRadioButtonUI",
-              new Import[] {
-                new Import("BasicRadioButtonUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "SchemaOutputResolver",
-              new Import[] {
-                new Import("SchemaOutputResolver", "javax.xml.bind", false),
-              })
-          .put(
-              "CJK_SYMBOLS_AND_PUNCTUATION",
-              new Import[] {
-                new Import("CJK_SYMBOLS_AND_PUNCTUATION", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "NA_5X7",
-              new Import[] {
-                new Import("NA_5X7", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import("NA_5X7", "javax.print.attribute.standard.MediaSize.NA", true),
-              })
-          .put(
-              "CENVER",
-              new Import[] {
-                new Import("CENVER", "java.util.jar.JarEntry", true),
-                new Import("CENVER", "java.util.jar.JarFile", true),
-                new Import("CENVER", "java.util.jar.JarInputStream", true),
-                new Import("CENVER", "java.util.jar.JarOutputStream", true),
-                new Import("CENVER", "java.util.zip.ZipEntry", true),
-                new Import("CENVER", "java.util.zip.ZipFile", true),
-                new Import("CENVER", "java.util.zip.ZipInputStream", true),
-                new Import("CENVER", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "YIJING_HEXAGRAM_SYMBOLS",
-              new Import[] {
-                new Import("YIJING_HEXAGRAM_SYMBOLS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "AtomicIntegerFieldUpdater",
-              new Import[] {
-                new Import("AtomicIntegerFieldUpdater", "java.util.concurrent.atomic", false),
-              })
-          .put(
-              "CJK_UNIFIED_IDEOGRAPHS",
-              new Import[] {
-                new Import("CJK_UNIFIED_IDEOGRAPHS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "CENVEM",
-              new Import[] {
-                new Import("CENVEM", "java.util.jar.JarEntry", true),
-                new Import("CENVEM", "java.util.jar.JarFile", true),
-                new Import("CENVEM", "java.util.jar.JarInputStream", true),
-                new Import("CENVEM", "java.util.jar.JarOutputStream", true),
-                new Import("CENVEM", "java.util.zip.ZipEntry", true),
-                new Import("CENVEM", "java.util.zip.ZipFile", true),
-                new Import("CENVEM", "java.util.zip.ZipInputStream", true),
-                new Import("CENVEM", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "setDefaultHostnameVerifier",
-              new Import[] {
-                new Import("setDefaultHostnameVerifier", "javax.net.ssl.HttpsURLConnection", true),
-              })
-          .put(
-              "getSplashScreen",
-              new Import[] {
-                new Import("getSplashScreen", "java.awt.SplashScreen", true),
-              })
-          .put(
-              "ALPHABETIC_PRESENTATION_FORMS",
-              new Import[] {
-                new Import(
-                    "ALPHABETIC_PRESENTATION_FORMS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "NamingListener",
-              new Import[] {
-                new Import("NamingListener", "javax.naming.event", false),
-              })
-          .put(
-              "YEAR_FIELD",
-              new Import[] {
-                new Import("YEAR_FIELD", "java.text.DateFormat", true),
-              })
-          .put(
-              "AdapterInactive",
-              new Import[] {
-                new Import("AdapterInactive", "org.omg.PortableServer.POAManagerPackage", false),
-              })
-          .put(
-              "OID",
-              new Import[] {
-                new Import("OID", "javax.naming.ldap.ManageReferralControl", true),
-                new Import("OID", "javax.naming.ldap.PagedResultsControl", true),
-                new Import("OID", "javax.naming.ldap.PagedResultsResponseControl", true),
-                new Import("OID", "javax.naming.ldap.SortControl", true),
-                new Import("OID", "javax.naming.ldap.SortResponseControl", true),
-                new Import("OID", "javax.naming.ldap.StartTlsRequest", true),
-                new Import("OID", "javax.naming.ldap.StartTlsResponse", true),
-              })
-          .put(
-              "LongPredicate",
-              new Import[] {
-                new Import("LongPredicate", "java.util.function", false),
-              })
-          .put(
-              "icSigLinkClass",
-              new Import[] {
-                new Import("icSigLinkClass", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "getClassLoaderRepository",
-              new Import[] {
-                new Import("getClassLoaderRepository", "javax.management.MBeanServerFactory", true),
-              })
-          .put(
-              "TOTOP_TOLEFT",
-              new Import[] {
-                new Import(
-                    "TOTOP_TOLEFT", "javax.print.attribute.standard.PresentationDirection", true),
-              })
-          .put(
-              "getDecoder",
-              new Import[] {
-                new Import("getDecoder", "java.util.Base64", true),
-              })
-          .put(
-              "SizeSequence",
-              new Import[] {
-                new Import("SizeSequence", "javax.swing", false),
-              })
-          .put(
-              "SERVLET_CONTEXT",
-              new Import[] {
-                new Import("SERVLET_CONTEXT", "javax.xml.ws.handler.MessageContext", true),
-              })
-          .put(
-              "SimpleBindings",
-              new Import[] {
-                new Import("SimpleBindings", "javax.script", false),
-              })
-          .put(
-              "JMException",
-              new Import[] {
-                new Import("JMException", "javax.management", false),
-              })
-          .put(
-              "BODY",
-              new Import[] {
-                new Import("BODY", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "InvalidNameHolder",
-              new Import[] {
-                new Import("InvalidNameHolder", "org.omg.CosNaming.NamingContextPackage", false),
-              })
-          .put(
-              "ALAW",
-              new Import[] {
-                new Import("ALAW", "javax.sound.sampled.AudioFormat.Encoding", true),
-              })
-          .put(
-              "TextUI",
-              new Import[] {
-                new Import("TextUI", "javax.swing.plaf", false),
-              })
-          .put(
-              "BasicStroke",
-              new Import[] {
-                new Import("BasicStroke", "java.awt", false),
-              })
-          .put(
-              "ChronoPeriod",
-              new Import[] {
-                new Import("ChronoPeriod", "java.time.chrono", false),
-              })
-          .put(
-              "EUROPEAN",
-              new Import[] {
-                new Import("EUROPEAN", "java.awt.font.NumericShaper", true),
-              })
-          .put(
-              "FlowView",
-              new Import[] {
-                new Import("FlowView", "javax.swing.text", false),
-              })
-          .put(
-              "SINGLE_INTERVAL_SELECTION",
-              new Import[] {
-                new Import("SINGLE_INTERVAL_SELECTION", "javax.swing.ListSelectionModel", true),
-              })
-          .put(
-              "CELLPADDING",
-              new Import[] {
-                new Import("CELLPADDING", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "getFontFamily",
-              new Import[] {
-                new Import("getFontFamily", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "TYPE_ACLR",
-              new Import[] {
-                new Import("TYPE_ACLR", "java.awt.color.ColorSpace", true),
-              })
-          .put(
-              "VK_SEPARATER",
-              new Import[] {
-                new Import("VK_SEPARATER", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "Segment",
-              new Import[] {
-                new Import("Segment", "javax.swing.text", false),
-              })
-          .put(
-              "MenuKeyEvent",
-              new Import[] {
-                new Import("MenuKeyEvent", "javax.swing.event", false),
-              })
-          .put(
-              "MirroredTypeException",
-              new Import[] {
-                new Import("MirroredTypeException", "javax.lang.model.type", false),
-              })
-          .put(
-              "PRESSED",
-              new Import[] {
-                new Import("PRESSED", "javax.accessibility.AccessibleState", true),
-                new Import("PRESSED", "javax.swing.DefaultButtonModel", true),
-                new Import("PRESSED", "javax.swing.plaf.synth.SynthConstants", true),
-              })
-          .put(
-              "parameterModeInOut",
-              new Import[] {
-                new Import("parameterModeInOut", "java.sql.ParameterMetaData", true),
-              })
-          .put(
-              "GERMANY",
-              new Import[] {
-                new Import("GERMANY", "java.util.Locale", true),
-              })
-          .put(
-              "SSLParameters",
-              new Import[] {
-                new Import("SSLParameters", "javax.net.ssl", false),
-              })
-          .put(
-              "UNAUTHORIZED",
-              new Import[] {
-                new Import("UNAUTHORIZED", "org.ietf.jgss.GSSException", true),
-              })
-          .put(
-              "LogRecord",
-              new Import[] {
-                new Import("LogRecord", "java.util.logging", false),
-              })
-          .put(
-              "BATCHSIZE",
-              new Import[] {
-                new Import("BATCHSIZE", "javax.naming.Context", true),
-              })
-          .put(
-              "XMLEventWriter",
-              new Import[] {
-                new Import("XMLEventWriter", "javax.xml.stream", false),
-              })
-          .put(
-              "IIOMetadataFormatImpl",
-              new Import[] {
-                new Import("IIOMetadataFormatImpl", "javax.imageio.metadata", false),
-              })
-          .put(
-              "MBeanTrustPermission",
-              new Import[] {
-                new Import("MBeanTrustPermission", "javax.management", false),
-              })
-          .put(
-              "UPPERCASE",
-              new Import[] {
-                new Import("UPPERCASE", "java.util.FormattableFlags", true),
-              })
-          .put(
-              "BasicTreeUI",
-              new Import[] {
-                new Import("BasicTreeUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "ValidationEventLocator",
-              new Import[] {
-                new Import("ValidationEventLocator", "javax.xml.bind", false),
-              })
-          .put(
-              "TC_STRING",
-              new Import[] {
-                new Import("TC_STRING", "java.io.ObjectStreamConstants", true),
-              })
-          .put(
-              "ANCESTOR_ADDED",
-              new Import[] {
-                new Import("ANCESTOR_ADDED", "javax.swing.event.AncestorEvent", true),
-              })
-          .put(
-              "CHANGE",
-              new Import[] {
-                new Import("CHANGE", "javax.swing.event.DocumentEvent.EventType", true),
-              })
-          .put(
-              "NotIdentifiableEvent",
-              new Import[] {
-                new Import("NotIdentifiableEvent", "javax.xml.bind", false),
-              })
-          .put(
-              "icSigPs2CSATag",
-              new Import[] {
-                new Import("icSigPs2CSATag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "getMenuDisabledForeground",
-              new Import[] {
-                new Import(
-                    "getMenuDisabledForeground", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "selectLineAction",
-              new Import[] {
-                new Import("selectLineAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "PatternSyntaxException",
-              new Import[] {
-                new Import("PatternSyntaxException", "java.util.regex", false),
-              })
-          .put(
-              "RELATION_BASIC_UPDATE",
-              new Import[] {
-                new Import(
-                    "RELATION_BASIC_UPDATE",
-                    "javax.management.relation.RelationNotification",
-                    true),
-              })
-          .put(
-              "PrintStream",
-              new Import[] {
-                new Import("PrintStream", "java.io", false),
-              })
-          .put(
-              "NameValuePair",
-              new Import[] {
-                new Import("NameValuePair", "org.omg.CORBA", false),
-                new Import("NameValuePair", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "setFloat",
-              new Import[] {
-                new Import("setFloat", "java.lang.reflect.Array", true),
-              })
-          .put(
-              "XMLSignatureFactory",
-              new Import[] {
-                new Import("XMLSignatureFactory", "javax.xml.crypto.dsig", false),
-              })
-          .put(
-              "INPUT_METHOD_UNDERLINE",
-              new Import[] {
-                new Import("INPUT_METHOD_UNDERLINE", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "MAX_COUNT",
-              new Import[] {
-                new Import("MAX_COUNT", "javax.swing.plaf.synth.ColorType", true),
-              })
-          .put(
-              "Generated",
-              new Import[] {
-                new Import("Generated", "javax.annotation", false),
-              })
-          .put(
-              "ISO_C7_ENVELOPE",
-              new Import[] {
-                new Import("ISO_C7_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "ActivationException",
-              new Import[] {
-                new Import("ActivationException", "java.rmi.activation", false),
-              })
-          .put(
-              "KeyStoreBuilderParameters",
-              new Import[] {
-                new Import("KeyStoreBuilderParameters", "javax.net.ssl", false),
-              })
-          .put(
-              "TypeElement",
-              new Import[] {
-                new Import("TypeElement", "javax.lang.model.element", false),
-              })
-          .put(
-              "TAG_FDSC",
-              new Import[] {
-                new Import("TAG_FDSC", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "TAG_PROP",
-              new Import[] {
-                new Import("TAG_PROP", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "InputContext",
-              new Import[] {
-                new Import("InputContext", "java.awt.im", false),
-              })
-          .put(
-              "controlText",
-              new Import[] {
-                new Import("controlText", "java.awt.SystemColor", true),
-              })
-          .put(
-              "LocaleServiceProvider",
-              new Import[] {
-                new Import("LocaleServiceProvider", "java.util.spi", false),
-              })
-          .put(
-              "DuplicateNameHelper",
-              new Import[] {
-                new Import(
-                    "DuplicateNameHelper", "org.omg.PortableInterceptor.ORBInitInfoPackage", false),
-              })
-          .put(
-              "CertPathValidatorSpi",
-              new Import[] {
-                new Import("CertPathValidatorSpi", "java.security.cert", false),
-              })
-          .put(
-              "NOT_SUPPORTED_ERR",
-              new Import[] {
-                new Import("NOT_SUPPORTED_ERR", "org.w3c.dom.DOMException", true),
-              })
-          .put(
-              "cosh",
-              new Import[] {
-                new Import("cosh", "java.lang.Math", true),
-                new Import("cosh", "java.lang.StrictMath", true),
-              })
-          .put(
-              "getMaxAllowedKeyLength",
-              new Import[] {
-                new Import("getMaxAllowedKeyLength", "javax.crypto.Cipher", true),
-              })
-          .put(
-              "DynStructOperations",
-              new Import[] {
-                new Import("DynStructOperations", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "KeyName",
-              new Import[] {
-                new Import("KeyName", "javax.xml.crypto.dsig.keyinfo", false),
-              })
-          .put(
-              "DIVIDER_LOCATION_PROPERTY",
-              new Import[] {
-                new Import("DIVIDER_LOCATION_PROPERTY", "javax.swing.JSplitPane", true),
-              })
-          .put(
-              "setFontFamily",
-              new Import[] {
-                new Import("setFontFamily", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "RMIConnector",
-              new Import[] {
-                new Import("RMIConnector", "javax.management.remote.rmi", false),
-              })
-          .put(
-              "YearMonth",
-              new Import[] {
-                new Import("YearMonth", "java.time", false),
-              })
-          .put(
-              "icSigPs2CRD1Tag",
-              new Import[] {
-                new Import("icSigPs2CRD1Tag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "ComboBoxUI",
-              new Import[] {
-                new Import("ComboBoxUI", "javax.swing.plaf", false),
-              })
-          .put(
-              "SCROLL_PAGE_DOWN",
-              new Import[] {
-                new Import("SCROLL_PAGE_DOWN", "java.awt.Event", true),
-              })
-          .put(
-              "LockSupport",
-              new Import[] {
-                new Import("LockSupport", "java.util.concurrent.locks", false),
-              })
-          .put(
-              "MANIFEST_VERSION",
-              new Import[] {
-                new Import("MANIFEST_VERSION", "java.util.jar.Attributes.Name", true),
-              })
-          .put(
-              "SoftBevelBorder",
-              new Import[] {
-                new Import("SoftBevelBorder", "javax.swing.border", false),
-              })
-          .put(
-              "ACCESSORY_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("ACCESSORY_CHANGED_PROPERTY", "javax.swing.JFileChooser", true),
-              })
-          .put(
-              "NOHREF",
-              new Import[] {
-                new Import("NOHREF", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "VALUE_TEXT_ANTIALIAS_LCD_HBGR",
-              new Import[] {
-                new Import("VALUE_TEXT_ANTIALIAS_LCD_HBGR", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "HTTP_UNAUTHORIZED",
-              new Import[] {
-                new Import("HTTP_UNAUTHORIZED", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "VK_META",
-              new Import[] {
-                new Import("VK_META", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "PrivateKeyEntry",
-              new Import[] {
-                new Import("PrivateKeyEntry", "java.security.KeyStore", false),
-              })
-          .build();
-}
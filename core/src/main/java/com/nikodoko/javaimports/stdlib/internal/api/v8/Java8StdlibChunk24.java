@@ -1,1570 +0,0 @@
-// Code generated by GenerateStdlib.java. DO NOT EDIT.
-package com.nikodoko.javaimports.stdlib.internal.api.v8;
-
-import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
-import java.util.Map;
-
-public class Java8StdlibChunk24 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
-          .put(
-              "WStringValueHelper",
-              new Import[] {
-                new Import("WStringValueHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "getByte",
-              new Import[] {
-                new Import("getByte", "java.lang.reflect.Array", true),
-              })
-          .put(
-              "DesktopIconUI",
-              new Import[] {
-                new Import("DesktopIconUI", "javax.swing.plaf", false),
-              })
-          .put(
-              "XMLStreamReader",
-              new Import[] {
-                new Import("XMLStreamReader", "javax.xml.stream", false),
-              })
-          .put(
-              "FOCUS_ACCELERATOR_KEY",
-              new Import[] {
-                new Import("FOCUS_ACCELERATOR_KEY", "javax.swing.text.JTextComponent", true),
-              })
-          .put(
-              "dk_none",
-              new Import[] {
-                new Import("dk_none", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "ActivationID",
-              new Import[] {
-                new Import("ActivationID", "java.rmi.activation", false),
-              })
-          .put(
-              "isSuperscript",
-              new Import[] {
-                new Import("isSuperscript", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "AnnotationFormatError",
-              new Import[] {
-                new Import("AnnotationFormatError", "java.lang.annotation", false),
-              })
-          .put(
-              "ISO_C8_ENVELOPE",
-              new Import[] {
-                new Import("ISO_C8_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "VALUE_COLOR_RENDER_QUALITY",
-              new Import[] {
-                new Import("VALUE_COLOR_RENDER_QUALITY", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "REF_getStatic",
-              new Import[] {
-                new Import("REF_getStatic", "java.lang.invoke.MethodHandleInfo", true),
-              })
-          .put(
-              "BUTTON1",
-              new Import[] {
-                new Import("BUTTON1", "java.awt.event.MouseEvent", true),
-              })
-          .put(
-              "getInternalFrameMaximizeIcon",
-              new Import[] {
-                new Import(
-                    "getInternalFrameMaximizeIcon",
-                    "javax.swing.plaf.metal.MetalIconFactory",
-                    true),
-              })
-          .put(
-              "CONTENT_TYPE",
-              new Import[] {
-                new Import("CONTENT_TYPE", "java.util.jar.Attributes.Name", true),
-              })
-          .put(
-              "Currency",
-              new Import[] {
-                new Import("Currency", "java.util", false),
-              })
-          .put(
-              "CounterMonitor",
-              new Import[] {
-                new Import("CounterMonitor", "javax.management.monitor", false),
-              })
-          .put(
-              "ServiceContextListHelper",
-              new Import[] {
-                new Import("ServiceContextListHelper", "org.omg.IOP", false),
-              })
-          .put(
-              "StandardConstants",
-              new Import[] {
-                new Import("StandardConstants", "javax.net.ssl", false),
-              })
-          .put(
-              "ARROWS",
-              new Import[] {
-                new Import("ARROWS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "BatchUpdateException",
-              new Import[] {
-                new Import("BatchUpdateException", "java.sql", false),
-              })
-          .put(
-              "attributeNoNulls",
-              new Import[] {
-                new Import("attributeNoNulls", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "PropertyChangeEvent",
-              new Import[] {
-                new Import("PropertyChangeEvent", "java.beans", false),
-              })
-          .put(
-              "GlyphVector",
-              new Import[] {
-                new Import("GlyphVector", "java.awt.font", false),
-              })
-          .put(
-              "getProperties",
-              new Import[] {
-                new Import("getProperties", "java.lang.System", true),
-              })
-          .put(
-              "StringValueExp",
-              new Import[] {
-                new Import("StringValueExp", "javax.management", false),
-              })
-          .put(
-              "AbstractInterruptibleChannel",
-              new Import[] {
-                new Import("AbstractInterruptibleChannel", "java.nio.channels.spi", false),
-              })
-          .put(
-              "SourceVersion",
-              new Import[] {
-                new Import("SourceVersion", "javax.lang.model", false),
-              })
-          .put(
-              "SSLPermission",
-              new Import[] {
-                new Import("SSLPermission", "javax.net.ssl", false),
-              })
-          .put(
-              "HANUNOO",
-              new Import[] {
-                new Import("HANUNOO", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "IMG_ALIGN_BOTTOM",
-              new Import[] {
-                new Import("IMG_ALIGN_BOTTOM", "javax.swing.text.html.HTMLEditorKit", true),
-              })
-          .put(
-              "SecretKey",
-              new Import[] {
-                new Import("SecretKey", "javax.crypto", false),
-              })
-          .put(
-              "DEFLATE_HINT",
-              new Import[] {
-                new Import("DEFLATE_HINT", "java.util.jar.Pack200.Packer", true),
-                new Import("DEFLATE_HINT", "java.util.jar.Pack200.Unpacker", true),
-              })
-          .put(
-              "VALIGN",
-              new Import[] {
-                new Import("VALIGN", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "windowText",
-              new Import[] {
-                new Import("windowText", "java.awt.SystemColor", true),
-              })
-          .put(
-              "MultiPanelUI",
-              new Import[] {
-                new Import("MultiPanelUI", "javax.swing.plaf.multi", false),
-              })
-          .put(
-              "DataBufferFloat",
-              new Import[] {
-                new Import("DataBufferFloat", "java.awt.image", false),
-              })
-          .put(
-              "InvalidDnDOperationException",
-              new Import[] {
-                new Import("InvalidDnDOperationException", "java.awt.dnd", false),
-              })
-          .put(
-              "LazyInputMap",
-              new Import[] {
-                new Import("LazyInputMap", "javax.swing.UIDefaults", false),
-              })
-          .put(
-              "Attribute",
-              new Import[] {
-                new Import("Attribute", "java.security.KeyStore.Entry", false),
-                new Import("Attribute", "java.text.AttributedCharacterIterator", false),
-                new Import("Attribute", "javax.management", false),
-                new Import("Attribute", "javax.naming.directory", false),
-                new Import("Attribute", "javax.print.attribute", false),
-                new Import("Attribute", "javax.swing.text.html.CSS", false),
-                new Import("Attribute", "javax.swing.text.html.HTML", false),
-                new Import("Attribute", "javax.xml.stream.events", false),
-              })
-          .put(
-              "BGCOLOR",
-              new Import[] {
-                new Import("BGCOLOR", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "ONE",
-              new Import[] {
-                new Import("ONE", "java.math.BigDecimal", true),
-                new Import("ONE", "java.math.BigInteger", true),
-              })
-          .put(
-              "_PARAM_IN",
-              new Import[] {
-                new Import("_PARAM_IN", "org.omg.CORBA.ParameterMode", true),
-              })
-          .put(
-              "getImageWriter",
-              new Import[] {
-                new Import("getImageWriter", "javax.imageio.ImageIO", true),
-              })
-          .put(
-              "Timestamp",
-              new Import[] {
-                new Import("Timestamp", "java.security", false),
-                new Import("Timestamp", "java.sql", false),
-              })
-          .put(
-              "InvalidSearchControlsException",
-              new Import[] {
-                new Import("InvalidSearchControlsException", "javax.naming.directory", false),
-              })
-          .put(
-              "AccessibleIcon",
-              new Import[] {
-                new Import("AccessibleIcon", "javax.accessibility", false),
-              })
-          .put(
-              "getCurrentKeyboardFocusManager",
-              new Import[] {
-                new Import("getCurrentKeyboardFocusManager", "java.awt.KeyboardFocusManager", true),
-              })
-          .put(
-              "TreeModel",
-              new Import[] {
-                new Import("TreeModel", "javax.swing.tree", false),
-              })
-          .put(
-              "UNDECIMBER",
-              new Import[] {
-                new Import("UNDECIMBER", "java.util.Calendar", true),
-              })
-          .put(
-              "TYPE_UNIFORM_SCALE",
-              new Import[] {
-                new Import("TYPE_UNIFORM_SCALE", "java.awt.geom.AffineTransform", true),
-              })
-          .put(
-              "Backward",
-              new Import[] {
-                new Import("Backward", "javax.swing.text.Position.Bias", true),
-              })
-          .put(
-              "DefaultEditorKit",
-              new Import[] {
-                new Import("DefaultEditorKit", "javax.swing.text", false),
-              })
-          .put(
-              "pow",
-              new Import[] {
-                new Import("pow", "java.lang.Math", true),
-                new Import("pow", "java.lang.StrictMath", true),
-              })
-          .put(
-              "IIOParamController",
-              new Import[] {
-                new Import("IIOParamController", "javax.imageio", false),
-              })
-          .put(
-              "STANDARD",
-              new Import[] {
-                new Import("STANDARD", "java.awt.font.GlyphMetrics", true),
-                new Import("STANDARD", "java.time.format.DecimalStyle", true),
-                new Import("STANDARD", "javax.print.attribute.standard.JobSheets", true),
-              })
-          .put(
-              "latest",
-              new Import[] {
-                new Import("latest", "javax.lang.model.SourceVersion", true),
-              })
-          .put(
-              "ASCII_STREAM_PARAM",
-              new Import[] {
-                new Import("ASCII_STREAM_PARAM", "javax.sql.rowset.BaseRowSet", true),
-              })
-          .put(
-              "BufferedImageOp",
-              new Import[] {
-                new Import("BufferedImageOp", "java.awt.image", false),
-              })
-          .put(
-              "DateTimeAtCreation",
-              new Import[] {
-                new Import("DateTimeAtCreation", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "FileView",
-              new Import[] {
-                new Import("FileView", "javax.swing.filechooser", false),
-              })
-          .put(
-              "PropertyDescriptor",
-              new Import[] {
-                new Import("PropertyDescriptor", "java.beans", false),
-              })
-          .put(
-              "getQuadrantRotateInstance",
-              new Import[] {
-                new Import("getQuadrantRotateInstance", "java.awt.geom.AffineTransform", true),
-              })
-          .put(
-              "Statement",
-              new Import[] {
-                new Import("Statement", "java.beans", false),
-                new Import("Statement", "java.sql", false),
-              })
-          .put(
-              "XmlElementRefs",
-              new Import[] {
-                new Import("XmlElementRefs", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "getHorizontalSliderThumbIcon",
-              new Import[] {
-                new Import(
-                    "getHorizontalSliderThumbIcon",
-                    "javax.swing.plaf.metal.MetalIconFactory",
-                    true),
-              })
-          .put(
-              "BUTTON2",
-              new Import[] {
-                new Import("BUTTON2", "java.awt.event.MouseEvent", true),
-              })
-          .put(
-              "BUTTON3",
-              new Import[] {
-                new Import("BUTTON3", "java.awt.event.MouseEvent", true),
-              })
-          .put(
-              "flashColor",
-              new Import[] {
-                new Import("flashColor", "javax.swing.DebugGraphics", true),
-              })
-          .put(
-              "ZipFile",
-              new Import[] {
-                new Import("ZipFile", "java.util.zip", false),
-              })
-          .put(
-              "ITEM_EVENT_MASK",
-              new Import[] {
-                new Import("ITEM_EVENT_MASK", "java.awt.AWTEvent", true),
-              })
-          .put(
-              "PERCENT",
-              new Import[] {
-                new Import("PERCENT", "java.text.NumberFormat.Field", true),
-              })
-          .put(
-              "DragSourceDropEvent",
-              new Import[] {
-                new Import("DragSourceDropEvent", "java.awt.dnd", false),
-              })
-          .put(
-              "doPrivileged",
-              new Import[] {
-                new Import("doPrivileged", "java.security.AccessController", true),
-              })
-          .put(
-              "BandCombineOp",
-              new Import[] {
-                new Import("BandCombineOp", "java.awt.image", false),
-              })
-          .put(
-              "getSoundbank",
-              new Import[] {
-                new Import("getSoundbank", "javax.sound.midi.MidiSystem", true),
-              })
-          .put(
-              "AbstractFormatter",
-              new Import[] {
-                new Import("AbstractFormatter", "javax.swing.JFormattedTextField", false),
-              })
-          .put(
-              "DERIVATION_LIST",
-              new Import[] {
-                new Import("DERIVATION_LIST", "org.w3c.dom.TypeInfo", true),
-              })
-          .put(
-              "SQLInput",
-              new Import[] {
-                new Import("SQLInput", "java.sql", false),
-              })
-          .put(
-              "getPosixFilePermissions",
-              new Import[] {
-                new Import("getPosixFilePermissions", "java.nio.file.Files", true),
-              })
-          .put(
-              "Schema",
-              new Import[] {
-                new Import("Schema", "javax.xml.validation", false),
-              })
-          .put(
-              "MEDIA_EMPTY",
-              new Import[] {
-                new Import(
-                    "MEDIA_EMPTY", "javax.print.attribute.standard.PrinterStateReason", true),
-              })
-          .put(
-              "CLASS",
-              new Import[] {
-                new Import("CLASS", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "SOAPEnvelope",
-              new Import[] {
-                new Import("SOAPEnvelope", "javax.xml.soap", false),
-              })
-          .put(
-              "getRotateInstance",
-              new Import[] {
-                new Import("getRotateInstance", "java.awt.geom.AffineTransform", true),
-              })
-          .put(
-              "BAD_INV_ORDER",
-              new Import[] {
-                new Import("BAD_INV_ORDER", "org.omg.CORBA", false),
-              })
-          .put(
-              "procedureNoResult",
-              new Import[] {
-                new Import("procedureNoResult", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "Container",
-              new Import[] {
-                new Import("Container", "java.awt", false),
-              })
-          .put(
-              "SynthEditorPaneUI",
-              new Import[] {
-                new Import("SynthEditorPaneUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "NameDynAnyPair",
-              new Import[] {
-                new Import("NameDynAnyPair", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "HEADPHONE",
-              new Import[] {
-                new Import("HEADPHONE", "javax.sound.sampled.Port.Info", true),
-              })
-          .put(
-              "CDATA_SECTION_ELEMENTS",
-              new Import[] {
-                new Import("CDATA_SECTION_ELEMENTS", "javax.xml.transform.OutputKeys", true),
-              })
-          .put(
-              "SOAPPart",
-              new Import[] {
-                new Import("SOAPPart", "javax.xml.soap", false),
-              })
-          .put(
-              "explicitCastArguments",
-              new Import[] {
-                new Import("explicitCastArguments", "java.lang.invoke.MethodHandles", true),
-              })
-          .put(
-              "CompletionHandler",
-              new Import[] {
-                new Import("CompletionHandler", "java.nio.channels", false),
-              })
-          .put(
-              "BOLD",
-              new Import[] {
-                new Import("BOLD", "java.awt.Font", true),
-              })
-          .put(
-              "KeyManager",
-              new Import[] {
-                new Import("KeyManager", "javax.net.ssl", false),
-              })
-          .put(
-              "DocAttribute",
-              new Import[] {
-                new Import("DocAttribute", "javax.print.attribute", false),
-              })
-          .put(
-              "RGBtoHSB",
-              new Import[] {
-                new Import("RGBtoHSB", "java.awt.Color", true),
-              })
-          .put(
-              "createVerticalStrut",
-              new Import[] {
-                new Import("createVerticalStrut", "javax.swing.Box", true),
-              })
-          .put(
-              "PageRanges",
-              new Import[] {
-                new Import("PageRanges", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "TAG_EBLC",
-              new Import[] {
-                new Import("TAG_EBLC", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "PARENT_CHANGED",
-              new Import[] {
-                new Import("PARENT_CHANGED", "java.awt.event.HierarchyEvent", true),
-              })
-          .put(
-              "ENTITY_NODE",
-              new Import[] {
-                new Import("ENTITY_NODE", "org.w3c.dom.Node", true),
-              })
-          .put(
-              "getTabbedTextOffset",
-              new Import[] {
-                new Import("getTabbedTextOffset", "javax.swing.text.Utilities", true),
-              })
-          .put(
-              "ComponentOrientation",
-              new Import[] {
-                new Import("ComponentOrientation", "java.awt", false),
-              })
-          .put(
-              "FileNameMap",
-              new Import[] {
-                new Import("FileNameMap", "java.net", false),
-              })
-          .put(
-              "NAME",
-              new Import[] {
-                new Import("NAME", "javax.script.ScriptEngine", true),
-                new Import("NAME", "javax.swing.Action", true),
-                new Import("NAME", "javax.swing.text.html.HTML.Attribute", true),
-                new Import("NAME", "javax.swing.text.html.parser.DTDConstants", true),
-              })
-          .put(
-              "DataInput",
-              new Import[] {
-                new Import("DataInput", "java.io", false),
-              })
-          .put(
-              "IMAGEERROR",
-              new Import[] {
-                new Import("IMAGEERROR", "java.awt.image.ImageConsumer", true),
-              })
-          .put(
-              "XmlSchema",
-              new Import[] {
-                new Import("XmlSchema", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "INITIATE_ONLY",
-              new Import[] {
-                new Import("INITIATE_ONLY", "org.ietf.jgss.GSSCredential", true),
-              })
-          .put(
-              "TableHeaderBorder",
-              new Import[] {
-                new Import("TableHeaderBorder", "javax.swing.plaf.metal.MetalBorders", false),
-              })
-          .put(
-              "NamingContextHolder",
-              new Import[] {
-                new Import("NamingContextHolder", "org.omg.CosNaming", false),
-              })
-          .put(
-              "AlreadyBoundHelper",
-              new Import[] {
-                new Import("AlreadyBoundHelper", "org.omg.CosNaming.NamingContextPackage", false),
-              })
-          .put(
-              "InputMap",
-              new Import[] {
-                new Import("InputMap", "javax.swing", false),
-              })
-          .put(
-              "TransactionRolledbackException",
-              new Import[] {
-                new Import("TransactionRolledbackException", "javax.transaction", false),
-              })
-          .put(
-              "FileSystemLoopException",
-              new Import[] {
-                new Import("FileSystemLoopException", "java.nio.file", false),
-              })
-          .put(
-              "DateTimeFormatter",
-              new Import[] {
-                new Import("DateTimeFormatter", "java.time.format", false),
-              })
-          .put(
-              "ORB",
-              new Import[] {
-                new Import("ORB", "org.omg.CORBA", false),
-                new Import("ORB", "org.omg.CORBA_2_3", false),
-              })
-          .put(
-              "functionColumnOut",
-              new Import[] {
-                new Import("functionColumnOut", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "isStatic",
-              new Import[] {
-                new Import("isStatic", "java.lang.reflect.Modifier", true),
-              })
-          .put(
-              "PropertyChangeListener",
-              new Import[] {
-                new Import("PropertyChangeListener", "java.beans", false),
-              })
-          .put(
-              "icSigProfileSequenceDescTag",
-              new Import[] {
-                new Import("icSigProfileSequenceDescTag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "HIERARCHY_BOUNDS_EVENT_MASK",
-              new Import[] {
-                new Import("HIERARCHY_BOUNDS_EVENT_MASK", "java.awt.AWTEvent", true),
-              })
-          .put(
-              "ofYears",
-              new Import[] {
-                new Import("ofYears", "java.time.Period", true),
-              })
-          .put(
-              "icSigBToA0Tag",
-              new Import[] {
-                new Import("icSigBToA0Tag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "getClassLoader",
-              new Import[] {
-                new Import("getClassLoader", "java.rmi.server.RMIClassLoader", true),
-              })
-          .put(
-              "synchronizedCollection",
-              new Import[] {
-                new Import("synchronizedCollection", "java.util.Collections", true),
-              })
-          .put(
-              "GENERAL",
-              new Import[] {
-                new Import("GENERAL", "javax.swing.text.html.parser.DTDConstants", true),
-              })
-          .put(
-              "Line2D",
-              new Import[] {
-                new Import("Line2D", "java.awt.geom", false),
-              })
-          .put(
-              "MNEMONIC_KEY",
-              new Import[] {
-                new Import("MNEMONIC_KEY", "javax.swing.Action", true),
-              })
-          .put(
-              "BufferedImage",
-              new Import[] {
-                new Import("BufferedImage", "java.awt.image", false),
-              })
-          .put(
-              "HttpURLConnection",
-              new Import[] {
-                new Import("HttpURLConnection", "java.net", false),
-              })
-          .put(
-              "EXIT_ON_CLOSE",
-              new Import[] {
-                new Import("EXIT_ON_CLOSE", "javax.swing.JFrame", true),
-                new Import("EXIT_ON_CLOSE", "javax.swing.WindowConstants", true),
-              })
-          .put(
-              "TemporalQueries",
-              new Import[] {
-                new Import("TemporalQueries", "java.time.temporal", false),
-              })
-          .put(
-              "icSigSpaceBCLR",
-              new Import[] {
-                new Import("icSigSpaceBCLR", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "SPECIFICATION_TITLE",
-              new Import[] {
-                new Import("SPECIFICATION_TITLE", "java.util.jar.Attributes.Name", true),
-              })
-          .put(
-              "SSLServerSocketFactory",
-              new Import[] {
-                new Import("SSLServerSocketFactory", "javax.net.ssl", false),
-              })
-          .put(
-              "getRGBdefault",
-              new Import[] {
-                new Import("getRGBdefault", "java.awt.image.ColorModel", true),
-              })
-          .put(
-              "DECRYPT_MODE",
-              new Import[] {
-                new Import("DECRYPT_MODE", "javax.crypto.Cipher", true),
-              })
-          .put(
-              "QueryEval",
-              new Import[] {
-                new Import("QueryEval", "javax.management", false),
-              })
-          .put(
-              "IIOParam",
-              new Import[] {
-                new Import("IIOParam", "javax.imageio", false),
-              })
-          .put(
-              "NORTHEAST",
-              new Import[] {
-                new Import("NORTHEAST", "java.awt.GridBagConstraints", true),
-              })
-          .put(
-              "FormatFlagsConversionMismatchException",
-              new Import[] {
-                new Import("FormatFlagsConversionMismatchException", "java.util", false),
-              })
-          .put(
-              "ECFieldF2m",
-              new Import[] {
-                new Import("ECFieldF2m", "java.security.spec", false),
-              })
-          .put(
-              "registerProvider",
-              new Import[] {
-                new Import("registerProvider", "java.time.zone.ZoneRulesProvider", true),
-                new Import("registerProvider", "javax.sql.rowset.spi.SyncFactory", true),
-              })
-          .put(
-              "SSLContext",
-              new Import[] {
-                new Import("SSLContext", "javax.net.ssl", false),
-              })
-          .put(
-              "SHIFT_DOWN_MASK",
-              new Import[] {
-                new Import("SHIFT_DOWN_MASK", "java.awt.event.InputEvent", true),
-              })
-          .put(
-              "_ORB_CTRL_MODEL",
-              new Import[] {
-                new Import("_ORB_CTRL_MODEL", "org.omg.PortableServer.ThreadPolicyValue", true),
-              })
-          .put(
-              "UTF_16BE",
-              new Import[] {
-                new Import("UTF_16BE", "java.nio.charset.StandardCharsets", true),
-              })
-          .put(
-              "SynthDesktopPaneUI",
-              new Import[] {
-                new Import("SynthDesktopPaneUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "DATETIME",
-              new Import[] {
-                new Import("DATETIME", "javax.xml.datatype.DatatypeConstants", true),
-              })
-          .put(
-              "XMLConstants",
-              new Import[] {
-                new Import("XMLConstants", "javax.xml", false),
-              })
-          .put(
-              "PGUP",
-              new Import[] {
-                new Import("PGUP", "java.awt.Event", true),
-              })
-          .put(
-              "MOUSE_RELEASED",
-              new Import[] {
-                new Import("MOUSE_RELEASED", "java.awt.event.MouseEvent", true),
-              })
-          .put(
-              "IntBinaryOperator",
-              new Import[] {
-                new Import("IntBinaryOperator", "java.util.function", false),
-              })
-          .put(
-              "findFocusOwner",
-              new Import[] {
-                new Import("findFocusOwner", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "IntStream",
-              new Import[] {
-                new Import("IntStream", "java.util.stream", false),
-              })
-          .put(
-              "SOAP_1_1_CONTENT_TYPE",
-              new Import[] {
-                new Import("SOAP_1_1_CONTENT_TYPE", "javax.xml.soap.SOAPConstants", true),
-              })
-          .put(
-              "AbstractLayoutCache",
-              new Import[] {
-                new Import("AbstractLayoutCache", "javax.swing.tree", false),
-              })
-          .put(
-              "VALUE_TEXT_ANTIALIAS_ON",
-              new Import[] {
-                new Import("VALUE_TEXT_ANTIALIAS_ON", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "icSigSpace7CLR",
-              new Import[] {
-                new Import("icSigSpace7CLR", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "ObjectInputStream",
-              new Import[] {
-                new Import("ObjectInputStream", "java.io", false),
-              })
-          .put(
-              "DoubleToIntFunction",
-              new Import[] {
-                new Import("DoubleToIntFunction", "java.util.function", false),
-              })
-          .put(
-              "MetalToolTipUI",
-              new Import[] {
-                new Import("MetalToolTipUI", "javax.swing.plaf.metal", false),
-              })
-          .put(
-              "TYPE_Luv",
-              new Import[] {
-                new Import("TYPE_Luv", "java.awt.color.ColorSpace", true),
-              })
-          .put(
-              "DATATYPE_INTEGER",
-              new Import[] {
-                new Import("DATATYPE_INTEGER", "javax.imageio.metadata.IIOMetadataFormat", true),
-              })
-          .put(
-              "PolicySpi",
-              new Import[] {
-                new Import("PolicySpi", "java.security", false),
-              })
-          .put(
-              "SUCCESS_NO_INFO",
-              new Import[] {
-                new Import("SUCCESS_NO_INFO", "java.sql.Statement", true),
-              })
-          .put(
-              "sourceToInputSource",
-              new Import[] {
-                new Import("sourceToInputSource", "javax.xml.transform.sax.SAXSource", true),
-              })
-          .put(
-              "PASS_FILE_PFX",
-              new Import[] {
-                new Import("PASS_FILE_PFX", "java.util.jar.Pack200.Packer", true),
-              })
-          .put(
-              "DeflaterInputStream",
-              new Import[] {
-                new Import("DeflaterInputStream", "java.util.zip", false),
-              })
-          .put(
-              "SCALE_FAST",
-              new Import[] {
-                new Import("SCALE_FAST", "java.awt.Image", true),
-              })
-          .put(
-              "ECKey",
-              new Import[] {
-                new Import("ECKey", "java.security.interfaces", false),
-              })
-          .put(
-              "createSaslServer",
-              new Import[] {
-                new Import("createSaslServer", "javax.security.sasl.Sasl", true),
-              })
-          .put(
-              "getTabSet",
-              new Import[] {
-                new Import("getTabSet", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "MODIFIER_SYMBOL",
-              new Import[] {
-                new Import("MODIFIER_SYMBOL", "java.lang.Character", true),
-              })
-          .put(
-              "put",
-              new Import[] {
-                new Import("put", "javax.swing.UIManager", true),
-              })
-          .put(
-              "TRANSACTION_REPEATABLE_READ",
-              new Import[] {
-                new Import("TRANSACTION_REPEATABLE_READ", "java.sql.Connection", true),
-              })
-          .put(
-              "SCROLL_ABSOLUTE",
-              new Import[] {
-                new Import("SCROLL_ABSOLUTE", "java.awt.Event", true),
-              })
-          .put(
-              "MYANMAR",
-              new Import[] {
-                new Import("MYANMAR", "java.awt.font.NumericShaper", true),
-                new Import("MYANMAR", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "CUSTOM_CURSOR",
-              new Import[] {
-                new Import("CUSTOM_CURSOR", "java.awt.Cursor", true),
-              })
-          .put(
-              "LOWER_LEFT_CORNER",
-              new Import[] {
-                new Import("LOWER_LEFT_CORNER", "javax.swing.ScrollPaneConstants", true),
-              })
-          .put(
-              "FAILED",
-              new Import[] {
-                new Import("FAILED", "javax.management.remote.JMXConnectionNotification", true),
-              })
-          .put(
-              "RUMI_NUMERAL_SYMBOLS",
-              new Import[] {
-                new Import("RUMI_NUMERAL_SYMBOLS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "TemporalQuery",
-              new Import[] {
-                new Import("TemporalQuery", "java.time.temporal", false),
-              })
-          .put(
-              "REF_invokeSpecial",
-              new Import[] {
-                new Import("REF_invokeSpecial", "java.lang.invoke.MethodHandleInfo", true),
-              })
-          .put(
-              "HTTP_BAD_GATEWAY",
-              new Import[] {
-                new Import("HTTP_BAD_GATEWAY", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "CROSSHAIR_CURSOR",
-              new Import[] {
-                new Import("CROSSHAIR_CURSOR", "java.awt.Cursor", true),
-                new Import("CROSSHAIR_CURSOR", "java.awt.Frame", true),
-              })
-          .put(
-              "RowSetReader",
-              new Import[] {
-                new Import("RowSetReader", "javax.sql", false),
-              })
-          .put(
-              "DynAnyFactory",
-              new Import[] {
-                new Import("DynAnyFactory", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "VK_UNDERSCORE",
-              new Import[] {
-                new Import("VK_UNDERSCORE", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "DEFAULT_STYLE",
-              new Import[] {
-                new Import("DEFAULT_STYLE", "javax.swing.text.StyleContext", true),
-              })
-          .put(
-              "LONGVARCHAR",
-              new Import[] {
-                new Import("LONGVARCHAR", "java.sql.Types", true),
-              })
-          .put(
-              "HORIZONTAL_TEXT_POSITION_CHANGED_PROPERTY",
-              new Import[] {
-                new Import(
-                    "HORIZONTAL_TEXT_POSITION_CHANGED_PROPERTY",
-                    "javax.swing.AbstractButton",
-                    true),
-              })
-          .put(
-              "DigestInputStream",
-              new Import[] {
-                new Import("DigestInputStream", "java.security", false),
-              })
-          .put(
-              "Normalizer",
-              new Import[] {
-                new Import("Normalizer", "java.text", false),
-              })
-          .put(
-              "ISO_2A0",
-              new Import[] {
-                new Import("ISO_2A0", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "AlreadyBoundHolder",
-              new Import[] {
-                new Import("AlreadyBoundHolder", "org.omg.CosNaming.NamingContextPackage", false),
-              })
-          .put(
-              "VERTICAL_SCROLLBAR_NEVER",
-              new Import[] {
-                new Import("VERTICAL_SCROLLBAR_NEVER", "javax.swing.ScrollPaneConstants", true),
-              })
-          .put(
-              "readAttributeSet",
-              new Import[] {
-                new Import("readAttributeSet", "javax.swing.text.StyleContext", true),
-              })
-          .put(
-              "ERA_FIELD",
-              new Import[] {
-                new Import("ERA_FIELD", "java.text.DateFormat", true),
-              })
-          .put(
-              "setFontSize",
-              new Import[] {
-                new Import("setFontSize", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "SUNDAY_START",
-              new Import[] {
-                new Import("SUNDAY_START", "java.time.temporal.WeekFields", true),
-              })
-          .put(
-              "DOCUMENT_FRAGMENT_NODE",
-              new Import[] {
-                new Import("DOCUMENT_FRAGMENT_NODE", "org.w3c.dom.Node", true),
-              })
-          .put(
-              "BasicSplitPaneDivider",
-              new Import[] {
-                new Import("BasicSplitPaneDivider", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "InstantiationError",
-              new Import[] {
-                new Import("InstantiationError", "java.lang", false),
-              })
-          .put(
-              "TABBED_PANE_TAB_AREA",
-              new Import[] {
-                new Import("TABBED_PANE_TAB_AREA", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "solveQuadratic",
-              new Import[] {
-                new Import("solveQuadratic", "java.awt.geom.QuadCurve2D", true),
-              })
-          .put(
-              "AbstractOwnableSynchronizer",
-              new Import[] {
-                new Import("AbstractOwnableSynchronizer", "java.util.concurrent.locks", false),
-              })
-          .put(
-              "InvalidNameHelper",
-              new Import[] {
-                new Import("InvalidNameHelper", "org.omg.CosNaming.NamingContextPackage", false),
-                new Import(
-                    "InvalidNameHelper", "org.omg.PortableInterceptor.ORBInitInfoPackage", false),
-              })
-          .put(
-              "SCROLL_TAB_LAYOUT",
-              new Import[] {
-                new Import("SCROLL_TAB_LAYOUT", "javax.swing.JTabbedPane", true),
-              })
-          .put(
-              "VK_END",
-              new Import[] {
-                new Import("VK_END", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "printBase64Binary",
-              new Import[] {
-                new Import("printBase64Binary", "javax.xml.bind.DatatypeConverter", true),
-              })
-          .put(
-              "Current",
-              new Import[] {
-                new Import("Current", "org.omg.CORBA", false),
-                new Import("Current", "org.omg.PortableInterceptor", false),
-                new Import("Current", "org.omg.PortableServer", false),
-              })
-          .put(
-              "LABELED_BY",
-              new Import[] {
-                new Import("LABELED_BY", "javax.accessibility.AccessibleRelation", true),
-              })
-          .put(
-              "VERTICAL_FORMS",
-              new Import[] {
-                new Import("VERTICAL_FORMS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "RSAPublicKeySpec",
-              new Import[] {
-                new Import("RSAPublicKeySpec", "java.security.spec", false),
-              })
-          .put(
-              "InterruptedException",
-              new Import[] {
-                new Import("InterruptedException", "java.lang", false),
-              })
-          .put(
-              "RMIClientSocketFactory",
-              new Import[] {
-                new Import("RMIClientSocketFactory", "java.rmi.server", false),
-              })
-          .put(
-              "VK_F12",
-              new Import[] {
-                new Import("VK_F12", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "userRoot",
-              new Import[] {
-                new Import("userRoot", "java.util.prefs.Preferences", true),
-              })
-          .put(
-              "getDefaultInstance",
-              new Import[] {
-                new Import("getDefaultInstance", "javax.imageio.spi.IIORegistry", true),
-              })
-          .put(
-              "VK_F11",
-              new Import[] {
-                new Import("VK_F11", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_F14",
-              new Import[] {
-                new Import("VK_F14", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_F13",
-              new Import[] {
-                new Import("VK_F13", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "icSigPs2CRD2Tag",
-              new Import[] {
-                new Import("icSigPs2CRD2Tag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "VK_F10",
-              new Import[] {
-                new Import("VK_F10", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "ACCESSIBLE_TABLE_ROW_DESCRIPTION_CHANGED",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_TABLE_ROW_DESCRIPTION_CHANGED",
-                    "javax.accessibility.AccessibleContext",
-                    true),
-              })
-          .put(
-              "STAPLE_DUAL_LEFT",
-              new Import[] {
-                new Import("STAPLE_DUAL_LEFT", "javax.print.attribute.standard.Finishings", true),
-              })
-          .put(
-              "QUEUED_IN_DEVICE",
-              new Import[] {
-                new Import(
-                    "QUEUED_IN_DEVICE", "javax.print.attribute.standard.JobStateReason", true),
-              })
-          .put(
-              "icSigNamedColor2Tag",
-              new Import[] {
-                new Import("icSigNamedColor2Tag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "convertMouseEvent",
-              new Import[] {
-                new Import("convertMouseEvent", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "StAXResult",
-              new Import[] {
-                new Import("StAXResult", "javax.xml.transform.stax", false),
-              })
-          .put(
-              "LongHolder",
-              new Import[] {
-                new Import("LongHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "getControlHighlight",
-              new Import[] {
-                new Import("getControlHighlight", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "LIST_STYLE_TYPE",
-              new Import[] {
-                new Import("LIST_STYLE_TYPE", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "END_DOCUMENT",
-              new Import[] {
-                new Import("END_DOCUMENT", "javax.xml.stream.XMLStreamConstants", true),
-              })
-          .put(
-              "VK_F19",
-              new Import[] {
-                new Import("VK_F19", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "HANGUL_COMPATIBILITY_JAMO",
-              new Import[] {
-                new Import("HANGUL_COMPATIBILITY_JAMO", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "NamespaceChangeListener",
-              new Import[] {
-                new Import("NamespaceChangeListener", "javax.naming.event", false),
-              })
-          .put(
-              "VK_F16",
-              new Import[] {
-                new Import("VK_F16", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_F15",
-              new Import[] {
-                new Import("VK_F15", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_F18",
-              new Import[] {
-                new Import("VK_F18", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "loadProxyClass",
-              new Import[] {
-                new Import("loadProxyClass", "java.rmi.server.RMIClassLoader", true),
-              })
-          .put(
-              "getDefaultLocale",
-              new Import[] {
-                new Import("getDefaultLocale", "javax.swing.JComponent", true),
-              })
-          .put(
-              "VK_F17",
-              new Import[] {
-                new Import("VK_F17", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_F23",
-              new Import[] {
-                new Import("VK_F23", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_F22",
-              new Import[] {
-                new Import("VK_F22", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_F24",
-              new Import[] {
-                new Import("VK_F24", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "ActionMapUIResource",
-              new Import[] {
-                new Import("ActionMapUIResource", "javax.swing.plaf", false),
-              })
-          .put(
-              "SplitPaneUI",
-              new Import[] {
-                new Import("SplitPaneUI", "javax.swing.plaf", false),
-              })
-          .put(
-              "OPAQUE",
-              new Import[] {
-                new Import("OPAQUE", "java.awt.Transparency", true),
-                new Import("OPAQUE", "javax.accessibility.AccessibleState", true),
-              })
-          .put(
-              "NOTE_OFF",
-              new Import[] {
-                new Import("NOTE_OFF", "javax.sound.midi.ShortMessage", true),
-              })
-          .put(
-              "VK_F21",
-              new Import[] {
-                new Import("VK_F21", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_F20",
-              new Import[] {
-                new Import("VK_F20", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "MEMORY_MANAGER_MXBEAN_DOMAIN_TYPE",
-              new Import[] {
-                new Import(
-                    "MEMORY_MANAGER_MXBEAN_DOMAIN_TYPE",
-                    "java.lang.management.ManagementFactory",
-                    true),
-              })
-          .put(
-              "LOGICAL_STYLE_ACTION",
-              new Import[] {
-                new Import("LOGICAL_STYLE_ACTION", "javax.swing.text.html.HTMLEditorKit", true),
-              })
-          .put(
-              "convertPoint",
-              new Import[] {
-                new Import("convertPoint", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "TRANSACTION_ROLLEDBACK",
-              new Import[] {
-                new Import("TRANSACTION_ROLLEDBACK", "org.omg.CORBA", false),
-              })
-          .put(
-              "HashPrintRequestAttributeSet",
-              new Import[] {
-                new Import("HashPrintRequestAttributeSet", "javax.print.attribute", false),
-              })
-          .put(
-              "WHEN_IN_FOCUSED_WINDOW",
-              new Import[] {
-                new Import("WHEN_IN_FOCUSED_WINDOW", "javax.swing.JComponent", true),
-              })
-          .put(
-              "OTHER_LETTER",
-              new Import[] {
-                new Import("OTHER_LETTER", "java.lang.Character", true),
-              })
-          .put(
-              "TAG_ORB_TYPE",
-              new Import[] {
-                new Import("TAG_ORB_TYPE", "org.omg.IOP", false),
-              })
-          .put(
-              "TAG_EBSC",
-              new Import[] {
-                new Import("TAG_EBSC", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "CHINESE",
-              new Import[] {
-                new Import("CHINESE", "java.util.Locale", true),
-              })
-          .put(
-              "getClassAnnotation",
-              new Import[] {
-                new Import("getClassAnnotation", "java.rmi.server.RMIClassLoader", true),
-              })
-          .put(
-              "IMMUTABLE_INFO_FIELD",
-              new Import[] {
-                new Import("IMMUTABLE_INFO_FIELD", "javax.management.JMX", true),
-              })
-          .put(
-              "SNIServerName",
-              new Import[] {
-                new Import("SNIServerName", "javax.net.ssl", false),
-              })
-          .put(
-              "BRIEF",
-              new Import[] {
-                new Import("BRIEF", "java.rmi.server.LogStream", true),
-              })
-          .put(
-              "JoinNextDirection",
-              new Import[] {
-                new Import(
-                    "JoinNextDirection",
-                    "javax.swing.text.DefaultStyledDocument.ElementSpec",
-                    true),
-              })
-          .put(
-              "getInitialContext",
-              new Import[] {
-                new Import("getInitialContext", "javax.naming.spi.NamingManager", true),
-              })
-          .put(
-              "AWTEvent",
-              new Import[] {
-                new Import("AWTEvent", "java.awt", false),
-              })
-          .put(
-              "MultiScrollBarUI",
-              new Import[] {
-                new Import("MultiScrollBarUI", "javax.swing.plaf.multi", false),
-              })
-          .put(
-              "RequestWrapper",
-              new Import[] {
-                new Import("RequestWrapper", "javax.xml.ws", false),
-              })
-          .put(
-              "LOAD_FILE",
-              new Import[] {
-                new Import("LOAD_FILE", "java.awt.Event", true),
-              })
-          .put(
-              "BOTH",
-              new Import[] {
-                new Import("BOTH", "java.awt.GridBagConstraints", true),
-              })
-          .put(
-              "TableView",
-              new Import[] {
-                new Import("TableView", "javax.swing.text", false),
-              })
-          .put(
-              "procedureResultUnknown",
-              new Import[] {
-                new Import("procedureResultUnknown", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "setIn",
-              new Import[] {
-                new Import("setIn", "java.lang.System", true),
-              })
-          .put(
-              "SO_TIMEOUT",
-              new Import[] {
-                new Import("SO_TIMEOUT", "java.net.SocketOptions", true),
-              })
-          .put(
-              "ConcurrentMap",
-              new Import[] {
-                new Import("ConcurrentMap", "java.util.concurrent", false),
-              })
-          .put(
-              "NetworkInterface",
-              new Import[] {
-                new Import("NetworkInterface", "java.net", false),
-              })
-          .put(
-              "_NO_IMPLICIT_ACTIVATION",
-              new Import[] {
-                new Import(
-                    "_NO_IMPLICIT_ACTIVATION",
-                    "org.omg.PortableServer.ImplicitActivationPolicyValue",
-                    true),
-              })
-          .put(
-              "ETHIOPIC_SUPPLEMENT",
-              new Import[] {
-                new Import("ETHIOPIC_SUPPLEMENT", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "ManagedBlocker",
-              new Import[] {
-                new Import("ManagedBlocker", "java.util.concurrent.ForkJoinPool", false),
-              })
-          .put(
-              "EXTENSION_LIST",
-              new Import[] {
-                new Import("EXTENSION_LIST", "java.util.jar.Attributes.Name", true),
-              })
-          .put(
-              "getImageTranscoders",
-              new Import[] {
-                new Import("getImageTranscoders", "javax.imageio.ImageIO", true),
-              })
-          .put(
-              "BasicLookAndFeel",
-              new Import[] {
-                new Import("BasicLookAndFeel", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "IS_NAMESPACE_AWARE",
-              new Import[] {
-                new Import("IS_NAMESPACE_AWARE", "javax.xml.stream.XMLInputFactory", true),
-              })
-          .put(
-              "unbind",
-              new Import[] {
-                new Import("unbind", "java.rmi.Naming", true),
-              })
-          .put(
-              "CENDSK",
-              new Import[] {
-                new Import("CENDSK", "java.util.jar.JarEntry", true),
-                new Import("CENDSK", "java.util.jar.JarFile", true),
-                new Import("CENDSK", "java.util.jar.JarInputStream", true),
-                new Import("CENDSK", "java.util.jar.JarOutputStream", true),
-                new Import("CENDSK", "java.util.zip.ZipEntry", true),
-                new Import("CENDSK", "java.util.zip.ZipFile", true),
-                new Import("CENDSK", "java.util.zip.ZipInputStream", true),
-                new Import("CENDSK", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "MouseInputListener",
-              new Import[] {
-                new Import("MouseInputListener", "javax.swing.event", false),
-              })
-          .put(
-              "FEATURE_SECURE_PROCESSING",
-              new Import[] {
-                new Import("FEATURE_SECURE_PROCESSING", "javax.xml.XMLConstants", true),
-              })
-          .put(
-              "FEATURE_XMLFILTER",
-              new Import[] {
-                new Import(
-                    "FEATURE_XMLFILTER", "javax.xml.transform.sax.SAXTransformerFactory", true),
-              })
-          .put(
-              "dk_Fixed",
-              new Import[] {
-                new Import("dk_Fixed", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "SC_ENUM",
-              new Import[] {
-                new Import("SC_ENUM", "java.io.ObjectStreamConstants", true),
-              })
-          .put(
-              "DstOut",
-              new Import[] {
-                new Import("DstOut", "java.awt.AlphaComposite", true),
-              })
-          .put(
-              "MBeanParameterInfo",
-              new Import[] {
-                new Import("MBeanParameterInfo", "javax.management", false),
-              })
-          .build();
-}
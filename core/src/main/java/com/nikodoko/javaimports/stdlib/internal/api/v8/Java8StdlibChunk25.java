@@ -1,1586 +0,0 @@
-// Code generated by GenerateStdlib.java. DO NOT EDIT.
-package com.nikodoko.javaimports.stdlib.internal.api.v8;
-
-import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
-import java.util.Map;
-
-public class Java8StdlibChunk25 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
-          .put(
-              "SECONDARY",
-              new Import[] {
-                new Import("SECONDARY", "java.text.Collator", true),
-              })
-          .put(
-              "MINUS",
-              new Import[] {
-                new Import("MINUS", "javax.management.Query", true),
-              })
-          .put(
-              "checkPermission",
-              new Import[] {
-                new Import("checkPermission", "java.security.AccessController", true),
-              })
-          .put(
-              "DEFAULT_OPTION",
-              new Import[] {
-                new Import("DEFAULT_OPTION", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "VK_COPY",
-              new Import[] {
-                new Import("VK_COPY", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "NotFoundReasonHolder",
-              new Import[] {
-                new Import("NotFoundReasonHolder", "org.omg.CosNaming.NamingContextPackage", false),
-              })
-          .put(
-              "LABEL_FOR_PROPERTY",
-              new Import[] {
-                new Import("LABEL_FOR_PROPERTY", "javax.accessibility.AccessibleRelation", true),
-              })
-          .put(
-              "POPUP_LAYER",
-              new Import[] {
-                new Import("POPUP_LAYER", "javax.swing.JLayeredPane", true),
-              })
-          .put(
-              "CropImageFilter",
-              new Import[] {
-                new Import("CropImageFilter", "java.awt.image", false),
-              })
-          .put(
-              "IIOMetadataNode",
-              new Import[] {
-                new Import("IIOMetadataNode", "javax.imageio.metadata", false),
-              })
-          .put(
-              "COLLAPSED",
-              new Import[] {
-                new Import("COLLAPSED", "javax.accessibility.AccessibleState", true),
-              })
-          .put(
-              "DirObjectFactory",
-              new Import[] {
-                new Import("DirObjectFactory", "javax.naming.spi", false),
-              })
-          .put(
-              "INDEX_SIZE_ERR",
-              new Import[] {
-                new Import("INDEX_SIZE_ERR", "org.w3c.dom.DOMException", true),
-              })
-          .put(
-              "getWordInstance",
-              new Import[] {
-                new Import("getWordInstance", "java.text.BreakIterator", true),
-              })
-          .put(
-              "LSParserFilter",
-              new Import[] {
-                new Import("LSParserFilter", "org.w3c.dom.ls", false),
-              })
-          .put(
-              "UndoableEditEvent",
-              new Import[] {
-                new Import("UndoableEditEvent", "javax.swing.event", false),
-              })
-          .put(
-              "Method",
-              new Import[] {
-                new Import("Method", "java.lang.reflect", false),
-              })
-          .put(
-              "GOPHER",
-              new Import[] {
-                new Import(
-                    "GOPHER", "javax.print.attribute.standard.ReferenceUriSchemesSupported", true),
-              })
-          .put(
-              "icSigUcrBgTag",
-              new Import[] {
-                new Import("icSigUcrBgTag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "HTTP_OK",
-              new Import[] {
-                new Import("HTTP_OK", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "DefinitionKindHelper",
-              new Import[] {
-                new Import("DefinitionKindHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "ContentModel",
-              new Import[] {
-                new Import("ContentModel", "javax.swing.text.html.parser", false),
-              })
-          .put(
-              "ELEMENT_NODE",
-              new Import[] {
-                new Import("ELEMENT_NODE", "org.w3c.dom.Node", true),
-              })
-          .put(
-              "XAResource",
-              new Import[] {
-                new Import("XAResource", "javax.transaction.xa", false),
-              })
-          .put(
-              "DEFAULT_LIFETIME",
-              new Import[] {
-                new Import("DEFAULT_LIFETIME", "org.ietf.jgss.GSSContext", true),
-                new Import("DEFAULT_LIFETIME", "org.ietf.jgss.GSSCredential", true),
-              })
-          .put(
-              "CREDENTIALS_EXPIRED",
-              new Import[] {
-                new Import("CREDENTIALS_EXPIRED", "org.ietf.jgss.GSSException", true),
-              })
-          .put(
-              "DIRECTIONALITY_OTHER_NEUTRALS",
-              new Import[] {
-                new Import("DIRECTIONALITY_OTHER_NEUTRALS", "java.lang.Character", true),
-              })
-          .put(
-              "CHILD_NODE_OF_PROPERTY",
-              new Import[] {
-                new Import(
-                    "CHILD_NODE_OF_PROPERTY", "javax.accessibility.AccessibleRelation", true),
-              })
-          .put(
-              "AnnotationValueVisitor",
-              new Import[] {
-                new Import("AnnotationValueVisitor", "javax.lang.model.element", false),
-              })
-          .put(
-              "InetAddress",
-              new Import[] {
-                new Import("InetAddress", "java.net", false),
-              })
-          .put(
-              "JList",
-              new Import[] {
-                new Import("JList", "javax.swing", false),
-              })
-          .put(
-              "setLogWriter",
-              new Import[] {
-                new Import("setLogWriter", "java.sql.DriverManager", true),
-              })
-          .put(
-              "Matcher",
-              new Import[] {
-                new Import("Matcher", "java.util.regex", false),
-              })
-          .put(
-              "OPTION_PANE",
-              new Import[] {
-                new Import("OPTION_PANE", "javax.accessibility.AccessibleRole", true),
-                new Import("OPTION_PANE", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "MetalCheckBoxUI",
-              new Import[] {
-                new Import("MetalCheckBoxUI", "javax.swing.plaf.metal", false),
-              })
-          .put(
-              "TOLEFT_TOTOP",
-              new Import[] {
-                new Import(
-                    "TOLEFT_TOTOP", "javax.print.attribute.standard.PresentationDirection", true),
-              })
-          .put(
-              "CertPathTrustManagerParameters",
-              new Import[] {
-                new Import("CertPathTrustManagerParameters", "javax.net.ssl", false),
-              })
-          .put(
-              "PUBLIC_XML_SCHEMA",
-              new Import[] {
-                new Import("PUBLIC_XML_SCHEMA", "javax.sql.rowset.WebRowSet", true),
-              })
-          .put(
-              "SupportedValuesAttribute",
-              new Import[] {
-                new Import("SupportedValuesAttribute", "javax.print.attribute", false),
-              })
-          .put(
-              "RequestInfo",
-              new Import[] {
-                new Import("RequestInfo", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "CENCRC",
-              new Import[] {
-                new Import("CENCRC", "java.util.jar.JarEntry", true),
-                new Import("CENCRC", "java.util.jar.JarFile", true),
-                new Import("CENCRC", "java.util.jar.JarInputStream", true),
-                new Import("CENCRC", "java.util.jar.JarOutputStream", true),
-                new Import("CENCRC", "java.util.zip.ZipEntry", true),
-                new Import("CENCRC", "java.util.zip.ZipFile", true),
-                new Import("CENCRC", "java.util.zip.ZipInputStream", true),
-                new Import("CENCRC", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "FAMILY",
-              new Import[] {
-                new Import("FAMILY", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "ImageReaderSpi",
-              new Import[] {
-                new Import("ImageReaderSpi", "javax.imageio.spi", false),
-              })
-          .put(
-              "RelationNotFoundException",
-              new Import[] {
-                new Import("RelationNotFoundException", "javax.management.relation", false),
-              })
-          .put(
-              "NotBoundException",
-              new Import[] {
-                new Import("NotBoundException", "java.rmi", false),
-              })
-          .put(
-              "UnknownElementException",
-              new Import[] {
-                new Import("UnknownElementException", "javax.lang.model.element", false),
-              })
-          .put(
-              "AncestorListener",
-              new Import[] {
-                new Import("AncestorListener", "javax.swing.event", false),
-              })
-          .put(
-              "Transient",
-              new Import[] {
-                new Import("Transient", "java.beans", false),
-              })
-          .put(
-              "Paths",
-              new Import[] {
-                new Import("Paths", "java.nio.file", false),
-              })
-          .put(
-              "ICON",
-              new Import[] {
-                new Import("ICON", "javax.accessibility.AccessibleRole", true),
-              })
-          .put(
-              "UserException",
-              new Import[] {
-                new Import("UserException", "org.omg.CORBA", false),
-              })
-          .put(
-              "SHA224",
-              new Import[] {
-                new Import("SHA224", "java.security.spec.MGF1ParameterSpec", true),
-              })
-          .put(
-              "TYPE_QUADRANT_ROTATION",
-              new Import[] {
-                new Import("TYPE_QUADRANT_ROTATION", "java.awt.geom.AffineTransform", true),
-              })
-          .put(
-              "NimbusStyle",
-              new Import[] {
-                new Import("NimbusStyle", "javax.swing.plaf.nimbus", false),
-              })
-          .put(
-              "NameList",
-              new Import[] {
-                new Import("NameList", "org.w3c.dom", false),
-              })
-          .put(
-              "TAG_KERN",
-              new Import[] {
-                new Import("TAG_KERN", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "INVOCATION_FIRST",
-              new Import[] {
-                new Import("INVOCATION_FIRST", "java.awt.event.InvocationEvent", true),
-              })
-          .put(
-              "CertificateEncodingException",
-              new Import[] {
-                new Import("CertificateEncodingException", "java.security.cert", false),
-                new Import("CertificateEncodingException", "javax.security.cert", false),
-              })
-          .put(
-              "KeyPairGenerator",
-              new Import[] {
-                new Import("KeyPairGenerator", "java.security", false),
-              })
-          .put(
-              "WrongTransactionHolder",
-              new Import[] {
-                new Import("WrongTransactionHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "SynthListUI",
-              new Import[] {
-                new Import("SynthListUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "isFileTypeSupported",
-              new Import[] {
-                new Import("isFileTypeSupported", "javax.sound.midi.MidiSystem", true),
-                new Import("isFileTypeSupported", "javax.sound.sampled.AudioSystem", true),
-              })
-          .put(
-              "CHOU_4",
-              new Import[] {
-                new Import("CHOU_4", "javax.print.attribute.standard.MediaSize.JIS", true),
-              })
-          .put(
-              "RasterOp",
-              new Import[] {
-                new Import("RasterOp", "java.awt.image", false),
-              })
-          .put(
-              "BCSIterator",
-              new Import[] {
-                new Import("BCSIterator", "java.beans.beancontext.BeanContextSupport", false),
-              })
-          .put(
-              "VK_PAUSE",
-              new Import[] {
-                new Import("VK_PAUSE", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "ofCalendarField",
-              new Import[] {
-                new Import("ofCalendarField", "java.text.DateFormat.Field", true),
-              })
-          .put(
-              "GRADE_NONE",
-              new Import[] {
-                new Import("GRADE_NONE", "javax.sql.rowset.spi.SyncProvider", true),
-              })
-          .put(
-              "PAN",
-              new Import[] {
-                new Import("PAN", "javax.sound.sampled.FloatControl.Type", true),
-              })
-          .put(
-              "setEditorSearchPath",
-              new Import[] {
-                new Import("setEditorSearchPath", "java.beans.PropertyEditorManager", true),
-              })
-          .put(
-              "BiConsumer",
-              new Import[] {
-                new Import("BiConsumer", "java.util.function", false),
-              })
-          .put(
-              "createRegistry",
-              new Import[] {
-                new Import("createRegistry", "java.rmi.registry.LocateRegistry", true),
-              })
-          .put(
-              "SYSTEM",
-              new Import[] {
-                new Import("SYSTEM", "javax.swing.text.html.parser.DTDConstants", true),
-              })
-          .put(
-              "XPATH",
-              new Import[] {
-                new Import("XPATH", "javax.xml.crypto.dsig.Transform", true),
-              })
-          .put(
-              "TYPE_Lab",
-              new Import[] {
-                new Import("TYPE_Lab", "java.awt.color.ColorSpace", true),
-              })
-          .put(
-              "DescriptorRead",
-              new Import[] {
-                new Import("DescriptorRead", "javax.management", false),
-              })
-          .put(
-              "ENCLOSED_ALPHANUMERIC_SUPPLEMENT",
-              new Import[] {
-                new Import(
-                    "ENCLOSED_ALPHANUMERIC_SUPPLEMENT", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "createImageOutputStream",
-              new Import[] {
-                new Import("createImageOutputStream", "javax.imageio.ImageIO", true),
-              })
-          .put(
-              "getImageReadersByMIMEType",
-              new Import[] {
-                new Import("getImageReadersByMIMEType", "javax.imageio.ImageIO", true),
-              })
-          .put(
-              "setChar",
-              new Import[] {
-                new Import("setChar", "java.lang.reflect.Array", true),
-              })
-          .put(
-              "createTitledBorder",
-              new Import[] {
-                new Import("createTitledBorder", "javax.swing.BorderFactory", true),
-              })
-          .put(
-              "NE_RESIZE_CURSOR",
-              new Import[] {
-                new Import("NE_RESIZE_CURSOR", "java.awt.Cursor", true),
-                new Import("NE_RESIZE_CURSOR", "java.awt.Frame", true),
-              })
-          .put(
-              "CONTROL_HIGHLIGHT",
-              new Import[] {
-                new Import("CONTROL_HIGHLIGHT", "java.awt.SystemColor", true),
-              })
-          .put(
-              "COLOR",
-              new Import[] {
-                new Import("COLOR", "java.awt.PageAttributes.ColorType", true),
-                new Import("COLOR", "javax.print.attribute.standard.Chromaticity", true),
-                new Import("COLOR", "javax.swing.text.html.CSS.Attribute", true),
-                new Import("COLOR", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "DOMImplementationRegistry",
-              new Import[] {
-                new Import("DOMImplementationRegistry", "org.w3c.dom.bootstrap", false),
-              })
-          .put(
-              "UNAVAILABLE",
-              new Import[] {
-                new Import("UNAVAILABLE", "org.ietf.jgss.GSSException", true),
-              })
-          .put(
-              "HOUR_OF_DAY0_FIELD",
-              new Import[] {
-                new Import("HOUR_OF_DAY0_FIELD", "java.text.DateFormat", true),
-              })
-          .put(
-              "UnsupportedOperationException",
-              new Import[] {
-                new Import("UnsupportedOperationException", "java.lang", false),
-              })
-          .put(
-              "ECPrivateKey",
-              new Import[] {
-                new Import("ECPrivateKey", "java.security.interfaces", false),
-              })
-          .put(
-              "SERVLET_RESPONSE",
-              new Import[] {
-                new Import("SERVLET_RESPONSE", "javax.xml.ws.handler.MessageContext", true),
-              })
-          .put(
-              "loadClassWithout",
-              new Import[] {
-                new Import("loadClassWithout", "javax.management.DefaultLoaderRepository", true),
-                new Import(
-                    "loadClassWithout", "javax.management.loading.DefaultLoaderRepository", true),
-              })
-          .put(
-              "UNICODE_CHARACTER_CLASS",
-              new Import[] {
-                new Import("UNICODE_CHARACTER_CLASS", "java.util.regex.Pattern", true),
-              })
-          .put(
-              "getLoweredBevelBorderUIResource",
-              new Import[] {
-                new Import(
-                    "getLoweredBevelBorderUIResource", "javax.swing.plaf.BorderUIResource", true),
-              })
-          .put(
-              "NO_ROW_CONFLICT",
-              new Import[] {
-                new Import("NO_ROW_CONFLICT", "javax.sql.rowset.spi.SyncResolver", true),
-              })
-          .put(
-              "NameValuePairHelper",
-              new Import[] {
-                new Import("NameValuePairHelper", "org.omg.CORBA", false),
-                new Import("NameValuePairHelper", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "LinkedList",
-              new Import[] {
-                new Import("LinkedList", "java.util", false),
-              })
-          .put(
-              "MARKER_WASTE_FULL",
-              new Import[] {
-                new Import(
-                    "MARKER_WASTE_FULL", "javax.print.attribute.standard.PrinterStateReason", true),
-              })
-          .put(
-              "CROSS_JOIN",
-              new Import[] {
-                new Import("CROSS_JOIN", "javax.sql.rowset.JoinRowSet", true),
-              })
-          .put(
-              "getDesktopPaneForComponent",
-              new Import[] {
-                new Import("getDesktopPaneForComponent", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "Role",
-              new Import[] {
-                new Import("Role", "javax.management.relation", false),
-              })
-          .put(
-              "DIRECTIONALITY_UNDEFINED",
-              new Import[] {
-                new Import("DIRECTIONALITY_UNDEFINED", "java.lang.Character", true),
-              })
-          .put(
-              "spliteratorUnknownSize",
-              new Import[] {
-                new Import("spliteratorUnknownSize", "java.util.Spliterators", true),
-              })
-          .put(
-              "sharedInstance",
-              new Import[] {
-                new Import("sharedInstance", "javax.swing.ToolTipManager", true),
-                new Import("sharedInstance", "javax.swing.JTree.EmptySelectionModel", true),
-              })
-          .put(
-              "PCL",
-              new Import[] {
-                new Import("PCL", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("PCL", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("PCL", "javax.print.DocFlavor.URL", true),
-              })
-          .put(
-              "XMLEvent",
-              new Import[] {
-                new Import("XMLEvent", "javax.xml.stream.events", false),
-              })
-          .put(
-              "SynthSliderUI",
-              new Import[] {
-                new Import("SynthSliderUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "AreaAveragingScaleFilter",
-              new Import[] {
-                new Import("AreaAveragingScaleFilter", "java.awt.image", false),
-              })
-          .put(
-              "ENCRYPT",
-              new Import[] {
-                new Import("ENCRYPT", "javax.xml.crypto.KeySelector.Purpose", true),
-              })
-          .put(
-              "Patch",
-              new Import[] {
-                new Import("Patch", "javax.sound.midi", false),
-              })
-          .put(
-              "Caret",
-              new Import[] {
-                new Import("Caret", "javax.swing.text", false),
-              })
-          .put(
-              "HTTP_NOT_FOUND",
-              new Import[] {
-                new Import("HTTP_NOT_FOUND", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "ServantAlreadyActiveHelper",
-              new Import[] {
-                new Import(
-                    "ServantAlreadyActiveHelper", "org.omg.PortableServer.POAPackage", false),
-              })
-          .put(
-              "BasicPermission",
-              new Import[] {
-                new Import("BasicPermission", "java.security", false),
-              })
-          .put(
-              "_NamingContextExtStub",
-              new Import[] {
-                new Import("_NamingContextExtStub", "org.omg.CosNaming", false),
-              })
-          .put(
-              "ADD_FILE",
-              new Import[] {
-                new Import("ADD_FILE", "java.nio.file.attribute.AclEntryPermission", true),
-              })
-          .put(
-              "GRADE_CHECK_ALL_AT_COMMIT",
-              new Import[] {
-                new Import("GRADE_CHECK_ALL_AT_COMMIT", "javax.sql.rowset.spi.SyncProvider", true),
-              })
-          .put(
-              "BINARY",
-              new Import[] {
-                new Import("BINARY", "java.sql.Types", true),
-              })
-          .put(
-              "IntToDoubleFunction",
-              new Import[] {
-                new Import("IntToDoubleFunction", "java.util.function", false),
-              })
-          .put(
-              "WINDOW_CLOSING",
-              new Import[] {
-                new Import("WINDOW_CLOSING", "java.awt.event.WindowEvent", true),
-              })
-          .put(
-              "EDGE_ZERO_FILL",
-              new Import[] {
-                new Import("EDGE_ZERO_FILL", "java.awt.image.ConvolveOp", true),
-              })
-          .put(
-              "ViewportUI",
-              new Import[] {
-                new Import("ViewportUI", "javax.swing.plaf", false),
-              })
-          .put(
-              "tanh",
-              new Import[] {
-                new Import("tanh", "java.lang.Math", true),
-                new Import("tanh", "java.lang.StrictMath", true),
-              })
-          .put(
-              "Field",
-              new Import[] {
-                new Import("Field", "java.lang.reflect", false),
-                new Import("Field", "java.text.DateFormat", false),
-                new Import("Field", "java.text.Format", false),
-                new Import("Field", "java.text.MessageFormat", false),
-                new Import("Field", "java.text.NumberFormat", false),
-                new Import("Field", "javax.xml.datatype.DatatypeConstants", false),
-              })
-          .put(
-              "PDF",
-              new Import[] {
-                new Import("PDF", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("PDF", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("PDF", "javax.print.DocFlavor.URL", true),
-              })
-          .put(
-              "_tk_boolean",
-              new Import[] {
-                new Import("_tk_boolean", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "TRACKING",
-              new Import[] {
-                new Import("TRACKING", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "availableCharsets",
-              new Import[] {
-                new Import("availableCharsets", "java.nio.charset.Charset", true),
-              })
-          .put(
-              "ULongSeqHelper",
-              new Import[] {
-                new Import("ULongSeqHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "NO_RESOURCES",
-              new Import[] {
-                new Import("NO_RESOURCES", "org.omg.CORBA", false),
-              })
-          .put(
-              "ENV_11",
-              new Import[] {
-                new Import("ENV_11", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "ENV_12",
-              new Import[] {
-                new Import("ENV_12", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "MalformedParameterizedTypeException",
-              new Import[] {
-                new Import("MalformedParameterizedTypeException", "java.lang.reflect", false),
-              })
-          .put(
-              "ENV_10",
-              new Import[] {
-                new Import("ENV_10", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "FormatConversionProvider",
-              new Import[] {
-                new Import("FormatConversionProvider", "javax.sound.sampled.spi", false),
-              })
-          .put(
-              "NO_RESPONSE",
-              new Import[] {
-                new Import("NO_RESPONSE", "org.omg.CORBA", false),
-              })
-          .put(
-              "_dk_Constant",
-              new Import[] {
-                new Import("_dk_Constant", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "ENV_14",
-              new Import[] {
-                new Import("ENV_14", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "SocketOptions",
-              new Import[] {
-                new Import("SocketOptions", "java.net", false),
-              })
-          .put(
-              "K1Luminance",
-              new Import[] {
-                new Import("K1Luminance", "javax.imageio.plugins.jpeg.JPEGQTable", true),
-              })
-          .put(
-              "APPROVE_OPTION",
-              new Import[] {
-                new Import("APPROVE_OPTION", "javax.swing.JFileChooser", true),
-              })
-          .put(
-              "RSA_TYPE",
-              new Import[] {
-                new Import("RSA_TYPE", "javax.xml.crypto.dsig.keyinfo.KeyValue", true),
-              })
-          .put(
-              "DisplayMode",
-              new Import[] {
-                new Import("DisplayMode", "java.awt", false),
-              })
-          .put(
-              "SCROLLBARS_AS_NEEDED",
-              new Import[] {
-                new Import("SCROLLBARS_AS_NEEDED", "java.awt.ScrollPane", true),
-              })
-          .put(
-              "getSocketFactory",
-              new Import[] {
-                new Import("getSocketFactory", "java.rmi.server.RMISocketFactory", true),
-              })
-          .put(
-              "Autoscroll",
-              new Import[] {
-                new Import("Autoscroll", "java.awt.dnd", false),
-              })
-          .put(
-              "ThaiBuddhistDate",
-              new Import[] {
-                new Import("ThaiBuddhistDate", "java.time.chrono", false),
-              })
-          .put(
-              "KEY_PRESSED",
-              new Import[] {
-                new Import("KEY_PRESSED", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "DARK_GRAY",
-              new Import[] {
-                new Import("DARK_GRAY", "java.awt.Color", true),
-              })
-          .put(
-              "getControlDarkShadow",
-              new Import[] {
-                new Import("getControlDarkShadow", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "ValueInputStream",
-              new Import[] {
-                new Import("ValueInputStream", "org.omg.CORBA.portable", false),
-              })
-          .put(
-              "JPanel",
-              new Import[] {
-                new Import("JPanel", "javax.swing", false),
-              })
-          .put(
-              "registerStaticAttributeKey",
-              new Import[] {
-                new Import("registerStaticAttributeKey", "javax.swing.text.StyleContext", true),
-              })
-          .put(
-              "PropertyEditorManager",
-              new Import[] {
-                new Import("PropertyEditorManager", "java.beans", false),
-              })
-          .put(
-              "importedKeyNoAction",
-              new Import[] {
-                new Import("importedKeyNoAction", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "GlyphMetrics",
-              new Import[] {
-                new Import("GlyphMetrics", "java.awt.font", false),
-              })
-          .put(
-              "ISO_C10",
-              new Import[] {
-                new Import("ISO_C10", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "HALIGN",
-              new Import[] {
-                new Import("HALIGN", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "DOMConfiguration",
-              new Import[] {
-                new Import("DOMConfiguration", "org.w3c.dom", false),
-              })
-          .put(
-              "DSAParams",
-              new Import[] {
-                new Import("DSAParams", "java.security.interfaces", false),
-              })
-          .put(
-              "NotLinkException",
-              new Import[] {
-                new Import("NotLinkException", "java.nio.file", false),
-              })
-          .put(
-              "bestRowSession",
-              new Import[] {
-                new Import("bestRowSession", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "LEFT_TO_RIGHT",
-              new Import[] {
-                new Import("LEFT_TO_RIGHT", "java.awt.ComponentOrientation", true),
-              })
-          .put(
-              "ActivationGroup",
-              new Import[] {
-                new Import("ActivationGroup", "java.rmi.activation", false),
-              })
-          .put(
-              "identityHashCode",
-              new Import[] {
-                new Import("identityHashCode", "java.lang.System", true),
-              })
-          .put(
-              "ArrayBlockingQueue",
-              new Import[] {
-                new Import("ArrayBlockingQueue", "java.util.concurrent", false),
-              })
-          .put(
-              "PrintJobAttributeListener",
-              new Import[] {
-                new Import("PrintJobAttributeListener", "javax.print.event", false),
-              })
-          .put(
-              "RFC2253",
-              new Import[] {
-                new Import("RFC2253", "javax.security.auth.x500.X500Principal", true),
-              })
-          .put(
-              "ATTRIBUTE_CHANGE",
-              new Import[] {
-                new Import(
-                    "ATTRIBUTE_CHANGE", "javax.management.AttributeChangeNotification", true),
-              })
-          .put(
-              "KeyInfo",
-              new Import[] {
-                new Import("KeyInfo", "javax.xml.crypto.dsig.keyinfo", false),
-              })
-          .put(
-              "Delegate",
-              new Import[] {
-                new Import("Delegate", "org.omg.CORBA.portable", false),
-                new Import("Delegate", "org.omg.CORBA_2_3.portable", false),
-                new Import("Delegate", "org.omg.PortableServer.portable", false),
-              })
-          .put(
-              "BUTTON2_MASK",
-              new Import[] {
-                new Import("BUTTON2_MASK", "java.awt.event.InputEvent", true),
-              })
-          .put(
-              "fieldsIn",
-              new Import[] {
-                new Import("fieldsIn", "javax.lang.model.util.ElementFilter", true),
-              })
-          .put(
-              "unchecked_narrow",
-              new Import[] {
-                new Import("unchecked_narrow", "org.omg.CosNaming.BindingIteratorHelper", true),
-                new Import("unchecked_narrow", "org.omg.CosNaming.NamingContextExtHelper", true),
-                new Import("unchecked_narrow", "org.omg.CosNaming.NamingContextHelper", true),
-                new Import("unchecked_narrow", "org.omg.DynamicAny.DynAnyFactoryHelper", true),
-                new Import("unchecked_narrow", "org.omg.DynamicAny.DynAnyHelper", true),
-                new Import("unchecked_narrow", "org.omg.DynamicAny.DynArrayHelper", true),
-                new Import("unchecked_narrow", "org.omg.DynamicAny.DynEnumHelper", true),
-                new Import("unchecked_narrow", "org.omg.DynamicAny.DynFixedHelper", true),
-                new Import("unchecked_narrow", "org.omg.DynamicAny.DynSequenceHelper", true),
-                new Import("unchecked_narrow", "org.omg.DynamicAny.DynStructHelper", true),
-                new Import("unchecked_narrow", "org.omg.DynamicAny.DynUnionHelper", true),
-                new Import("unchecked_narrow", "org.omg.DynamicAny.DynValueHelper", true),
-                new Import("unchecked_narrow", "org.omg.IOP.CodecFactoryHelper", true),
-                new Import("unchecked_narrow", "org.omg.PortableInterceptor.CurrentHelper", true),
-                new Import(
-                    "unchecked_narrow",
-                    "org.omg.PortableInterceptor.IORInterceptor_3_0Helper",
-                    true),
-                new Import(
-                    "unchecked_narrow", "org.omg.PortableServer.ServantActivatorHelper", true),
-                new Import("unchecked_narrow", "org.omg.PortableServer.ServantLocatorHelper", true),
-              })
-          .put(
-              "SOAPBodyElement",
-              new Import[] {
-                new Import("SOAPBodyElement", "javax.xml.soap", false),
-              })
-          .put(
-              "InvalidActivityException",
-              new Import[] {
-                new Import("InvalidActivityException", "javax.activity", false),
-              })
-          .put(
-              "dk_Sequence",
-              new Import[] {
-                new Import("dk_Sequence", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "isConversionSupported",
-              new Import[] {
-                new Import("isConversionSupported", "javax.sound.sampled.AudioSystem", true),
-              })
-          .put(
-              "BasicTextUI",
-              new Import[] {
-                new Import("BasicTextUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "catchException",
-              new Import[] {
-                new Import("catchException", "java.lang.invoke.MethodHandles", true),
-              })
-          .put(
-              "AuthPermission",
-              new Import[] {
-                new Import("AuthPermission", "javax.security.auth", false),
-              })
-          .put(
-              "END_ELEMENT",
-              new Import[] {
-                new Import("END_ELEMENT", "javax.xml.stream.XMLStreamConstants", true),
-              })
-          .put(
-              "RandomAccess",
-              new Import[] {
-                new Import("RandomAccess", "java.util", false),
-              })
-          .put(
-              "IntConsumer",
-              new Import[] {
-                new Import("IntConsumer", "java.util.function", false),
-              })
-          .put(
-              "reorderVisually",
-              new Import[] {
-                new Import("reorderVisually", "java.text.Bidi", true),
-              })
-          .put(
-              "TAG_HMTX",
-              new Import[] {
-                new Import("TAG_HMTX", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "KeyGeneratorSpi",
-              new Import[] {
-                new Import("KeyGeneratorSpi", "javax.crypto", false),
-              })
-          .put(
-              "DISCONTIGUOUS_TREE_SELECTION",
-              new Import[] {
-                new Import(
-                    "DISCONTIGUOUS_TREE_SELECTION", "javax.swing.tree.TreeSelectionModel", true),
-              })
-          .put(
-              "DomainLoadStoreParameter",
-              new Import[] {
-                new Import("DomainLoadStoreParameter", "java.security", false),
-              })
-          .put(
-              "SO_OOBINLINE",
-              new Import[] {
-                new Import("SO_OOBINLINE", "java.net.SocketOptions", true),
-              })
-          .put(
-              "DEVELOPER_EMPTY",
-              new Import[] {
-                new Import(
-                    "DEVELOPER_EMPTY", "javax.print.attribute.standard.PrinterStateReason", true),
-              })
-          .put(
-              "synchronizedSortedMap",
-              new Import[] {
-                new Import("synchronizedSortedMap", "java.util.Collections", true),
-              })
-          .put(
-              "ComboBoxModel",
-              new Import[] {
-                new Import("ComboBoxModel", "javax.swing", false),
-              })
-          .put(
-              "getListeners",
-              new Import[] {
-                new Import("getListeners", "java.awt.AWTEventMulticaster", true),
-              })
-          .put(
-              "HANGING_BASELINE",
-              new Import[] {
-                new Import("HANGING_BASELINE", "java.awt.Font", true),
-                new Import("HANGING_BASELINE", "java.awt.font.GraphicAttribute", true),
-              })
-          .put(
-              "unregisterProvider",
-              new Import[] {
-                new Import("unregisterProvider", "javax.sql.rowset.spi.SyncFactory", true),
-              })
-          .put(
-              "getFlatnessSq",
-              new Import[] {
-                new Import("getFlatnessSq", "java.awt.geom.CubicCurve2D", true),
-                new Import("getFlatnessSq", "java.awt.geom.QuadCurve2D", true),
-              })
-          .put(
-              "PrintQuality",
-              new Import[] {
-                new Import("PrintQuality", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "IMAGEABORTED",
-              new Import[] {
-                new Import("IMAGEABORTED", "java.awt.image.ImageConsumer", true),
-              })
-          .put(
-              "FRAME",
-              new Import[] {
-                new Import("FRAME", "javax.accessibility.AccessibleRole", true),
-                new Import("FRAME", "javax.swing.JRootPane", true),
-                new Import("FRAME", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "JOB_DATA_INSUFFICIENT",
-              new Import[] {
-                new Import(
-                    "JOB_DATA_INSUFFICIENT", "javax.print.attribute.standard.JobStateReason", true),
-              })
-          .put(
-              "REF_MBEAN_OF_INCORRECT_CLASS",
-              new Import[] {
-                new Import(
-                    "REF_MBEAN_OF_INCORRECT_CLASS", "javax.management.relation.RoleStatus", true),
-              })
-          .put(
-              "parseShort",
-              new Import[] {
-                new Import("parseShort", "java.lang.Short", true),
-                new Import("parseShort", "javax.xml.bind.DatatypeConverter", true),
-              })
-          .put(
-              "CollationElementIterator",
-              new Import[] {
-                new Import("CollationElementIterator", "java.text", false),
-              })
-          .put(
-              "AnnotatedWildcardType",
-              new Import[] {
-                new Import("AnnotatedWildcardType", "java.lang.reflect", false),
-              })
-          .put(
-              "DiagnosticCollector",
-              new Import[] {
-                new Import("DiagnosticCollector", "javax.tools", false),
-              })
-          .put(
-              "PARENT_WINDOW_OF_PROPERTY",
-              new Import[] {
-                new Import(
-                    "PARENT_WINDOW_OF_PROPERTY", "javax.accessibility.AccessibleRelation", true),
-              })
-          .put(
-              "MARGIN_TOP",
-              new Import[] {
-                new Import("MARGIN_TOP", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "PRIVATE_USE",
-              new Import[] {
-                new Import("PRIVATE_USE", "java.lang.Character", true),
-              })
-          .put(
-              "ACTION_INFO",
-              new Import[] {
-                new Import("ACTION_INFO", "javax.management.MBeanOperationInfo", true),
-              })
-          .put(
-              "Sasl",
-              new Import[] {
-                new Import("Sasl", "javax.security.sasl", false),
-              })
-          .put(
-              "FontFamilyAction",
-              new Import[] {
-                new Import("FontFamilyAction", "javax.swing.text.StyledEditorKit", false),
-              })
-          .put(
-              "Marshaller",
-              new Import[] {
-                new Import("Marshaller", "javax.xml.bind", false),
-              })
-          .put(
-              "LogicalMessageContext",
-              new Import[] {
-                new Import("LogicalMessageContext", "javax.xml.ws.handler", false),
-              })
-          .put(
-              "InstanceNotFoundException",
-              new Import[] {
-                new Import("InstanceNotFoundException", "javax.management", false),
-              })
-          .put(
-              "getSystemTray",
-              new Import[] {
-                new Import("getSystemTray", "java.awt.SystemTray", true),
-              })
-          .put(
-              "createVerticalGlue",
-              new Import[] {
-                new Import("createVerticalGlue", "javax.swing.Box", true),
-              })
-          .put(
-              "PIE",
-              new Import[] {
-                new Import("PIE", "java.awt.geom.Arc2D", true),
-              })
-          .put(
-              "getControlInstance",
-              new Import[] {
-                new Import("getControlInstance", "javax.naming.ldap.ControlFactory", true),
-              })
-          .put(
-              "Formattable",
-              new Import[] {
-                new Import("Formattable", "java.util", false),
-              })
-          .put(
-              "ARMENIAN",
-              new Import[] {
-                new Import("ARMENIAN", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "ofHours",
-              new Import[] {
-                new Import("ofHours", "java.time.Duration", true),
-                new Import("ofHours", "java.time.ZoneOffset", true),
-              })
-          .put(
-              "DateFormat",
-              new Import[] {
-                new Import("DateFormat", "java.text", false),
-              })
-          .put(
-              "ValueBaseHolder",
-              new Import[] {
-                new Import("ValueBaseHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "RenderedImage",
-              new Import[] {
-                new Import("RenderedImage", "java.awt.image", false),
-              })
-          .put(
-              "SynthMenuBarUI",
-              new Import[] {
-                new Import("SynthMenuBarUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "DISPLAYED_MNEMONIC_INDEX_KEY",
-              new Import[] {
-                new Import("DISPLAYED_MNEMONIC_INDEX_KEY", "javax.swing.Action", true),
-              })
-          .put(
-              "tk_fixed",
-              new Import[] {
-                new Import("tk_fixed", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "AdapterInactiveHelper",
-              new Import[] {
-                new Import(
-                    "AdapterInactiveHelper", "org.omg.PortableServer.POAManagerPackage", false),
-              })
-          .put(
-              "ServiceIdHelper",
-              new Import[] {
-                new Import("ServiceIdHelper", "org.omg.IOP", false),
-              })
-          .put(
-              "JTableHeader",
-              new Import[] {
-                new Import("JTableHeader", "javax.swing.table", false),
-              })
-          .put(
-              "TC_BLOCKDATALONG",
-              new Import[] {
-                new Import("TC_BLOCKDATALONG", "java.io.ObjectStreamConstants", true),
-              })
-          .put(
-              "WINDOW_DEICONIFIED",
-              new Import[] {
-                new Import("WINDOW_DEICONIFIED", "java.awt.event.WindowEvent", true),
-              })
-          .put(
-              "ScriptException",
-              new Import[] {
-                new Import("ScriptException", "javax.script", false),
-              })
-          .put(
-              "getControlTextColor",
-              new Import[] {
-                new Import("getControlTextColor", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "MultiTableHeaderUI",
-              new Import[] {
-                new Import("MultiTableHeaderUI", "javax.swing.plaf.multi", false),
-              })
-          .put(
-              "BoundedRangeModel",
-              new Import[] {
-                new Import("BoundedRangeModel", "javax.swing", false),
-              })
-          .put(
-              "BIDI_EMBEDDING",
-              new Import[] {
-                new Import("BIDI_EMBEDDING", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "_nobject",
-              new Import[] {
-                new Import("_nobject", "org.omg.CosNaming.BindingType", true),
-              })
-          .put(
-              "JobMediaSheets",
-              new Import[] {
-                new Import("JobMediaSheets", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "find",
-              new Import[] {
-                new Import("find", "java.nio.file.Files", true),
-              })
-          .put(
-              "IsoFields",
-              new Import[] {
-                new Import("IsoFields", "java.time.temporal", false),
-              })
-          .put(
-              "calculateInnerArea",
-              new Import[] {
-                new Import("calculateInnerArea", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "TOOL_BAR_SEPARATOR",
-              new Import[] {
-                new Import("TOOL_BAR_SEPARATOR", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "PhantomReference",
-              new Import[] {
-                new Import("PhantomReference", "java.lang.ref", false),
-              })
-          .put(
-              "_DynAnyFactoryStub",
-              new Import[] {
-                new Import("_DynAnyFactoryStub", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "setDefaultStream",
-              new Import[] {
-                new Import("setDefaultStream", "java.rmi.server.LogStream", true),
-              })
-          .put(
-              "ONE_TOUCH_EXPANDABLE_PROPERTY",
-              new Import[] {
-                new Import("ONE_TOUCH_EXPANDABLE_PROPERTY", "javax.swing.JSplitPane", true),
-              })
-          .put(
-              "TYPE_USHORT_565_RGB",
-              new Import[] {
-                new Import("TYPE_USHORT_565_RGB", "java.awt.image.BufferedImage", true),
-              })
-          .put(
-              "CertStoreException",
-              new Import[] {
-                new Import("CertStoreException", "java.security.cert", false),
-              })
-          .put(
-              "icTagReserved",
-              new Import[] {
-                new Import("icTagReserved", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "PrinterState",
-              new Import[] {
-                new Import("PrinterState", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "SynthRadioButtonUI",
-              new Import[] {
-                new Import("SynthRadioButtonUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "JAXBException",
-              new Import[] {
-                new Import("JAXBException", "javax.xml.bind", false),
-              })
-          .put(
-              "ACTIVITY_REQUIRED",
-              new Import[] {
-                new Import("ACTIVITY_REQUIRED", "org.omg.CORBA", false),
-              })
-          .put(
-              "NotYetConnectedException",
-              new Import[] {
-                new Import("NotYetConnectedException", "java.nio.channels", false),
-              })
-          .put(
-              "sort",
-              new Import[] {
-                new Import("sort", "java.util.Arrays", true),
-                new Import("sort", "java.util.Collections", true),
-              })
-          .put(
-              "wrapException",
-              new Import[] {
-                new Import("wrapException", "javax.rmi.CORBA.Util", true),
-              })
-          .put(
-              "Oid",
-              new Import[] {
-                new Import("Oid", "org.ietf.jgss", false),
-              })
-          .put(
-              "fill",
-              new Import[] {
-                new Import("fill", "java.util.Arrays", true),
-                new Import("fill", "java.util.Collections", true),
-              })
-          .put(
-              "HTTPEQUIV",
-              new Import[] {
-                new Import("HTTPEQUIV", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "ServiceContextHolder",
-              new Import[] {
-                new Import("ServiceContextHolder", "org.omg.IOP", false),
-              })
-          .put(
-              "DOCUMENT_TYPE_NODE",
-              new Import[] {
-                new Import("DOCUMENT_TYPE_NODE", "org.w3c.dom.Node", true),
-              })
-          .put(
-              "GLAGOLITIC",
-              new Import[] {
-                new Import("GLAGOLITIC", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "X509ExtendedTrustManager",
-              new Import[] {
-                new Import("X509ExtendedTrustManager", "javax.net.ssl", false),
-              })
-          .put(
-              "COMPONENT_EVENT_MASK",
-              new Import[] {
-                new Import("COMPONENT_EVENT_MASK", "java.awt.AWTEvent", true),
-              })
-          .put(
-              "Formatter",
-              new Import[] {
-                new Import("Formatter", "java.util", false),
-                new Import("Formatter", "java.util.logging", false),
-              })
-          .put(
-              "DataContentHandlerFactory",
-              new Import[] {
-                new Import("DataContentHandlerFactory", "javax.activation", false),
-              })
-          .put(
-              "XA_RBBASE",
-              new Import[] {
-                new Import("XA_RBBASE", "javax.transaction.xa.XAException", true),
-              })
-          .put(
-              "pathSeparatorChar",
-              new Import[] {
-                new Import("pathSeparatorChar", "java.io.File", true),
-              })
-          .put(
-              "LINE_AXIS",
-              new Import[] {
-                new Import("LINE_AXIS", "javax.swing.BoxLayout", true),
-              })
-          .put(
-              "JButton",
-              new Import[] {
-                new Import("JButton", "javax.swing", false),
-              })
-          .put(
-              "ListSelectionEvent",
-              new Import[] {
-                new Import("ListSelectionEvent", "javax.swing.event", false),
-              })
-          .put(
-              "TAI_VIET",
-              new Import[] {
-                new Import("TAI_VIET", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "Remote",
-              new Import[] {
-                new Import("Remote", "java.rmi", false),
-              })
-          .put(
-              "RoleNotFoundException",
-              new Import[] {
-                new Import("RoleNotFoundException", "javax.management.relation", false),
-              })
-          .put(
-              "ISO_C0_ENVELOPE",
-              new Import[] {
-                new Import("ISO_C0_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "MidiFileReader",
-              new Import[] {
-                new Import("MidiFileReader", "javax.sound.midi.spi", false),
-              })
-          .put(
-              "getSaslClientFactories",
-              new Import[] {
-                new Import("getSaslClientFactories", "javax.security.sasl.Sasl", true),
-              })
-          .put(
-              "SOAP11HTTP_MTOM_BINDING",
-              new Import[] {
-                new Import("SOAP11HTTP_MTOM_BINDING", "javax.xml.ws.soap.SOAPBinding", true),
-              })
-          .put(
-              "ABSTRACT",
-              new Import[] {
-                new Import("ABSTRACT", "java.lang.reflect.Modifier", true),
-              })
-          .put(
-              "delete",
-              new Import[] {
-                new Import("delete", "java.nio.file.Files", true),
-              })
-          .put(
-              "isLetter",
-              new Import[] {
-                new Import("isLetter", "java.lang.Character", true),
-              })
-          .put(
-              "ControllerEventListener",
-              new Import[] {
-                new Import("ControllerEventListener", "javax.sound.midi", false),
-              })
-          .put(
-              "VK_PASTE",
-              new Import[] {
-                new Import("VK_PASTE", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "CHILD_POLICY_CHOICE",
-              new Import[] {
-                new Import("CHILD_POLICY_CHOICE", "javax.imageio.metadata.IIOMetadataFormat", true),
-              })
-          .put(
-              "KEY_LOCATION_STANDARD",
-              new Import[] {
-                new Import("KEY_LOCATION_STANDARD", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "C14NMethodParameterSpec",
-              new Import[] {
-                new Import("C14NMethodParameterSpec", "javax.xml.crypto.dsig.spec", false),
-              })
-          .put(
-              "NotFoundReasonHelper",
-              new Import[] {
-                new Import("NotFoundReasonHelper", "org.omg.CosNaming.NamingContextPackage", false),
-              })
-          .put(
-              "TypeCode",
-              new Import[] {
-                new Import("TypeCode", "org.omg.CORBA", false),
-              })
-          .put(
-              "SynthLookAndFeel",
-              new Import[] {
-                new Import("SynthLookAndFeel", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "unpark",
-              new Import[] {
-                new Import("unpark", "java.util.concurrent.locks.LockSupport", true),
-              })
-          .put(
-              "RadialGradientPaint",
-              new Import[] {
-                new Import("RadialGradientPaint", "java.awt", false),
-              })
-          .put(
-              "DstOver",
-              new Import[] {
-                new Import("DstOver", "java.awt.AlphaComposite", true),
-              })
-          .put(
-              "TaggedComponent",
-              new Import[] {
-                new Import("TaggedComponent", "org.omg.IOP", false),
-              })
-          .put(
-              "REMAINDER",
-              new Import[] {
-                new Import("REMAINDER", "java.awt.GridBagConstraints", true),
-              })
-          .put(
-              "MOVE",
-              new Import[] {
-                new Import("MOVE", "javax.swing.TransferHandler", true),
-              })
-          .put(
-              "DomainManager",
-              new Import[] {
-                new Import("DomainManager", "org.omg.CORBA", false),
-              })
-          .put(
-              "DATALINK",
-              new Import[] {
-                new Import("DATALINK", "java.sql.Types", true),
-              })
-          .put(
-              "COMPACT_DISC",
-              new Import[] {
-                new Import("COMPACT_DISC", "javax.sound.sampled.Port.Info", true),
-              })
-          .put(
-              "CompositeType",
-              new Import[] {
-                new Import("CompositeType", "javax.management.openmbean", false),
-              })
-          .build();
-}
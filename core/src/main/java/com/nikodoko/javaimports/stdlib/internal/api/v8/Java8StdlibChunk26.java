@@ -1,1633 +0,0 @@
-// Code generated by GenerateStdlib.java. DO NOT EDIT.
-package com.nikodoko.javaimports.stdlib.internal.api.v8;
-
-import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
-import java.util.Map;
-
-public class Java8StdlibChunk26 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
-          .put(
-              "XmlElementRef",
-              new Import[] {
-                new Import("XmlElementRef", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "FLAG_BRIDGES",
-              new Import[] {
-                new Import("FLAG_BRIDGES", "java.lang.invoke.LambdaMetafactory", true),
-              })
-          .put(
-              "getArrayType",
-              new Import[] {
-                new Import("getArrayType", "javax.management.openmbean.ArrayType", true),
-              })
-          .put(
-              "MOUSE_FIRST",
-              new Import[] {
-                new Import("MOUSE_FIRST", "java.awt.event.MouseEvent", true),
-              })
-          .put(
-              "UnicastRemoteObject",
-              new Import[] {
-                new Import("UnicastRemoteObject", "java.rmi.server", false),
-              })
-          .put(
-              "QueryExp",
-              new Import[] {
-                new Import("QueryExp", "javax.management", false),
-              })
-          .put(
-              "StandardOpenOption",
-              new Import[] {
-                new Import("StandardOpenOption", "java.nio.file", false),
-              })
-          .put(
-              "setProperties",
-              new Import[] {
-                new Import("setProperties", "java.lang.System", true),
-              })
-          .put(
-              "IIOReadProgressListener",
-              new Import[] {
-                new Import("IIOReadProgressListener", "javax.imageio.event", false),
-              })
-          .put(
-              "PNG",
-              new Import[] {
-                new Import("PNG", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("PNG", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("PNG", "javax.print.DocFlavor.URL", true),
-              })
-          .put(
-              "DIALOG_INPUT",
-              new Import[] {
-                new Import("DIALOG_INPUT", "java.awt.Font", true),
-              })
-          .put(
-              "CYRILLIC_SUPPLEMENTARY",
-              new Import[] {
-                new Import("CYRILLIC_SUPPLEMENTARY", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "ptLineDistSq",
-              new Import[] {
-                new Import("ptLineDistSq", "java.awt.geom.Line2D", true),
-              })
-          .put(
-              "BAD_POLICY_TYPE",
-              new Import[] {
-                new Import("BAD_POLICY_TYPE", "org.omg.CORBA", false),
-              })
-          .put(
-              "PrinterJob",
-              new Import[] {
-                new Import("PrinterJob", "java.awt.print", false),
-              })
-          .put(
-              "CENTER",
-              new Import[] {
-                new Import("CENTER", "java.awt.BorderLayout", true),
-                new Import("CENTER", "java.awt.FlowLayout", true),
-                new Import("CENTER", "java.awt.GridBagConstraints", true),
-                new Import("CENTER", "java.awt.Label", true),
-                new Import("CENTER", "javax.swing.SwingConstants", true),
-                new Import("CENTER", "javax.swing.border.TitledBorder", true),
-                new Import("CENTER", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "XA_HEURHAZ",
-              new Import[] {
-                new Import("XA_HEURHAZ", "javax.transaction.xa.XAException", true),
-              })
-          .put(
-              "Month",
-              new Import[] {
-                new Import("Month", "java.time", false),
-              })
-          .put(
-              "REQUEST_X509CERTIFICATE",
-              new Import[] {
-                new Import("REQUEST_X509CERTIFICATE", "javax.xml.ws.spi.http.HttpExchange", true),
-              })
-          .put(
-              "ENDHDR",
-              new Import[] {
-                new Import("ENDHDR", "java.util.jar.JarEntry", true),
-                new Import("ENDHDR", "java.util.jar.JarFile", true),
-                new Import("ENDHDR", "java.util.jar.JarInputStream", true),
-                new Import("ENDHDR", "java.util.jar.JarOutputStream", true),
-                new Import("ENDHDR", "java.util.zip.ZipEntry", true),
-                new Import("ENDHDR", "java.util.zip.ZipFile", true),
-                new Import("ENDHDR", "java.util.zip.ZipInputStream", true),
-                new Import("ENDHDR", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "CodecFactoryOperations",
-              new Import[] {
-                new Import("CodecFactoryOperations", "org.omg.IOP", false),
-              })
-          .put(
-              "TMSUSPEND",
-              new Import[] {
-                new Import("TMSUSPEND", "javax.transaction.xa.XAResource", true),
-              })
-          .put(
-              "Permission",
-              new Import[] {
-                new Import("Permission", "java.security", false),
-                new Import("Permission", "java.security.acl", false),
-              })
-          .put(
-              "MediaType",
-              new Import[] {
-                new Import("MediaType", "java.awt.PageAttributes", false),
-              })
-          .put(
-              "PROGRESS_BAR",
-              new Import[] {
-                new Import("PROGRESS_BAR", "javax.accessibility.AccessibleRole", true),
-                new Import("PROGRESS_BAR", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "SOAPHeaderElement",
-              new Import[] {
-                new Import("SOAPHeaderElement", "javax.xml.soap", false),
-              })
-          .put(
-              "KEY_TEXT_LCD_CONTRAST",
-              new Import[] {
-                new Import("KEY_TEXT_LCD_CONTRAST", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "POA",
-              new Import[] {
-                new Import("POA", "org.omg.PortableServer", false),
-              })
-          .put(
-              "ObjectChangeListener",
-              new Import[] {
-                new Import("ObjectChangeListener", "javax.naming.event", false),
-              })
-          .put(
-              "ConfigurationSpi",
-              new Import[] {
-                new Import("ConfigurationSpi", "javax.security.auth.login", false),
-              })
-          .put(
-              "toUnsignedInt",
-              new Import[] {
-                new Import("toUnsignedInt", "java.lang.Byte", true),
-                new Import("toUnsignedInt", "java.lang.Short", true),
-              })
-          .put(
-              "Float",
-              new Import[] {
-                new Import("Float", "java.awt.geom.Arc2D", false),
-                new Import("Float", "java.awt.geom.CubicCurve2D", false),
-                new Import("Float", "java.awt.geom.Ellipse2D", false),
-                new Import("Float", "java.awt.geom.Line2D", false),
-                new Import("Float", "java.awt.geom.Path2D", false),
-                new Import("Float", "java.awt.geom.Point2D", false),
-                new Import("Float", "java.awt.geom.QuadCurve2D", false),
-                new Import("Float", "java.awt.geom.Rectangle2D", false),
-                new Import("Float", "java.awt.geom.RoundRectangle2D", false),
-                new Import("Float", "java.lang", false),
-              })
-          .put(
-              "AnnotationMirror",
-              new Import[] {
-                new Import("AnnotationMirror", "javax.lang.model.element", false),
-              })
-          .put(
-              "ANCHOR_SELECTION_PATH_PROPERTY",
-              new Import[] {
-                new Import("ANCHOR_SELECTION_PATH_PROPERTY", "javax.swing.JTree", true),
-              })
-          .put(
-              "ROUND_CEILING",
-              new Import[] {
-                new Import("ROUND_CEILING", "java.math.BigDecimal", true),
-              })
-          .put(
-              "BasicPopupMenuSeparatorUI",
-              new Import[] {
-                new Import("BasicPopupMenuSeparatorUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "ADD_OVERRIDE",
-              new Import[] {
-                new Import("ADD_OVERRIDE", "org.omg.CORBA.SetOverrideType", true),
-              })
-          .put(
-              "BUBBLING_PHASE",
-              new Import[] {
-                new Import("BUBBLING_PHASE", "org.w3c.dom.events.Event", true),
-              })
-          .put(
-              "WINDOW_DESTROY",
-              new Import[] {
-                new Import("WINDOW_DESTROY", "java.awt.Event", true),
-              })
-          .put(
-              "ExemptionMechanismException",
-              new Import[] {
-                new Import("ExemptionMechanismException", "javax.crypto", false),
-              })
-          .put(
-              "AbstractSpinnerModel",
-              new Import[] {
-                new Import("AbstractSpinnerModel", "javax.swing", false),
-              })
-          .put(
-              "ROUND_UNNECESSARY",
-              new Import[] {
-                new Import("ROUND_UNNECESSARY", "java.math.BigDecimal", true),
-              })
-          .put(
-              "RelationSupportMBean",
-              new Import[] {
-                new Import("RelationSupportMBean", "javax.management.relation", false),
-              })
-          .put(
-              "StyleConstants",
-              new Import[] {
-                new Import("StyleConstants", "javax.swing.text", false),
-              })
-          .put(
-              "ALLOWED_CLASSNAMES",
-              new Import[] {
-                new Import("ALLOWED_CLASSNAMES", "javax.management.openmbean.OpenType", true),
-              })
-          .put(
-              "_USER_ID",
-              new Import[] {
-                new Import("_USER_ID", "org.omg.PortableServer.IdAssignmentPolicyValue", true),
-              })
-          .put(
-              "DefaultTableModel",
-              new Import[] {
-                new Import("DefaultTableModel", "javax.swing.table", false),
-              })
-          .put(
-              "JobName",
-              new Import[] {
-                new Import("JobName", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "global",
-              new Import[] {
-                new Import("global", "java.util.logging.Logger", true),
-              })
-          .put(
-              "RESOLVER",
-              new Import[] {
-                new Import("RESOLVER", "javax.xml.stream.XMLInputFactory", true),
-              })
-          .put(
-              "PPQ",
-              new Import[] {
-                new Import("PPQ", "javax.sound.midi.Sequence", true),
-              })
-          .put(
-              "ICON_MONO_16x16",
-              new Import[] {
-                new Import("ICON_MONO_16x16", "java.beans.BeanInfo", true),
-              })
-          .put(
-              "TYPE_CUSTOM",
-              new Import[] {
-                new Import("TYPE_CUSTOM", "java.awt.image.BufferedImage", true),
-              })
-          .put(
-              "functionColumnUnknown",
-              new Import[] {
-                new Import("functionColumnUnknown", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "INTF_REPOS",
-              new Import[] {
-                new Import("INTF_REPOS", "org.omg.CORBA", false),
-              })
-          .put(
-              "SEG_MOVETO",
-              new Import[] {
-                new Import("SEG_MOVETO", "java.awt.geom.PathIterator", true),
-              })
-          .put(
-              "Scrollbar",
-              new Import[] {
-                new Import("Scrollbar", "java.awt", false),
-              })
-          .put(
-              "iterate",
-              new Import[] {
-                new Import("iterate", "java.util.stream.DoubleStream", true),
-                new Import("iterate", "java.util.stream.IntStream", true),
-                new Import("iterate", "java.util.stream.LongStream", true),
-                new Import("iterate", "java.util.stream.Stream", true),
-              })
-          .put(
-              "Stroke",
-              new Import[] {
-                new Import("Stroke", "java.awt", false),
-              })
-          .put(
-              "DEVELOPER_LOW",
-              new Import[] {
-                new Import(
-                    "DEVELOPER_LOW", "javax.print.attribute.standard.PrinterStateReason", true),
-              })
-          .put(
-              "BaseRowSet",
-              new Import[] {
-                new Import("BaseRowSet", "javax.sql.rowset", false),
-              })
-          .put(
-              "Composite",
-              new Import[] {
-                new Import("Composite", "java.awt", false),
-              })
-          .put(
-              "getPrimaryControlShadow",
-              new Import[] {
-                new Import(
-                    "getPrimaryControlShadow", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "UnmodifiableClassException",
-              new Import[] {
-                new Import("UnmodifiableClassException", "java.lang.instrument", false),
-              })
-          .put(
-              "SECONDS",
-              new Import[] {
-                new Import("SECONDS", "javax.xml.datatype.DatatypeConstants", true),
-              })
-          .put(
-              "SimpleAnnotationValueVisitor8",
-              new Import[] {
-                new Import("SimpleAnnotationValueVisitor8", "javax.lang.model.util", false),
-              })
-          .put(
-              "Charset",
-              new Import[] {
-                new Import("Charset", "java.nio.charset", false),
-              })
-          .put(
-              "SealedObject",
-              new Import[] {
-                new Import("SealedObject", "javax.crypto", false),
-              })
-          .put(
-              "SimpleAnnotationValueVisitor6",
-              new Import[] {
-                new Import("SimpleAnnotationValueVisitor6", "javax.lang.model.util", false),
-              })
-          .put(
-              "IOException",
-              new Import[] {
-                new Import("IOException", "java.io", false),
-              })
-          .put(
-              "SimpleAnnotationValueVisitor7",
-              new Import[] {
-                new Import("SimpleAnnotationValueVisitor7", "javax.lang.model.util", false),
-              })
-          .put(
-              "LayoutManager",
-              new Import[] {
-                new Import("LayoutManager", "java.awt", false),
-              })
-          .put(
-              "incrementExact",
-              new Import[] {
-                new Import("incrementExact", "java.lang.Math", true),
-              })
-          .put(
-              "TC_LONGSTRING",
-              new Import[] {
-                new Import("TC_LONGSTRING", "java.io.ObjectStreamConstants", true),
-              })
-          .put(
-              "comparingInt",
-              new Import[] {
-                new Import("comparingInt", "java.util.Comparator", true),
-              })
-          .put(
-              "IDLEntity",
-              new Import[] {
-                new Import("IDLEntity", "org.omg.CORBA.portable", false),
-              })
-          .put(
-              "isLowSurrogate",
-              new Import[] {
-                new Import("isLowSurrogate", "java.lang.Character", true),
-              })
-          .put(
-              "newUnpacker",
-              new Import[] {
-                new Import("newUnpacker", "java.util.jar.Pack200", true),
-              })
-          .put(
-              "CURRENCY_SYMBOLS",
-              new Import[] {
-                new Import("CURRENCY_SYMBOLS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "PRC",
-              new Import[] {
-                new Import("PRC", "java.util.Locale", true),
-              })
-          .put(
-              "TARGET",
-              new Import[] {
-                new Import("TARGET", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "ZERO",
-              new Import[] {
-                new Import("ZERO", "java.math.BigDecimal", true),
-                new Import("ZERO", "java.math.BigInteger", true),
-                new Import("ZERO", "java.time.Duration", true),
-                new Import("ZERO", "java.time.Period", true),
-              })
-          .put(
-              "PRE",
-              new Import[] {
-                new Import("PRE", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "SWAP_COLORS",
-              new Import[] {
-                new Import("SWAP_COLORS", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "CENTIM",
-              new Import[] {
-                new Import("CENTIM", "java.util.jar.JarEntry", true),
-                new Import("CENTIM", "java.util.jar.JarFile", true),
-                new Import("CENTIM", "java.util.jar.JarInputStream", true),
-                new Import("CENTIM", "java.util.jar.JarOutputStream", true),
-                new Import("CENTIM", "java.util.zip.ZipEntry", true),
-                new Import("CENTIM", "java.util.zip.ZipFile", true),
-                new Import("CENTIM", "java.util.zip.ZipInputStream", true),
-                new Import("CENTIM", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "createLink",
-              new Import[] {
-                new Import("createLink", "java.nio.file.Files", true),
-              })
-          .put(
-              "DynArrayOperations",
-              new Import[] {
-                new Import("DynArrayOperations", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "Native",
-              new Import[] {
-                new Import("Native", "java.lang.annotation", false),
-              })
-          .put(
-              "checkedSortedSet",
-              new Import[] {
-                new Import("checkedSortedSet", "java.util.Collections", true),
-              })
-          .put(
-              "printDouble",
-              new Import[] {
-                new Import("printDouble", "javax.xml.bind.DatatypeConverter", true),
-              })
-          .put(
-              "Executable",
-              new Import[] {
-                new Import("Executable", "java.lang.reflect", false),
-              })
-          .put(
-              "NonWritableChannelException",
-              new Import[] {
-                new Import("NonWritableChannelException", "java.nio.channels", false),
-              })
-          .put(
-              "TUNE_REQUEST",
-              new Import[] {
-                new Import("TUNE_REQUEST", "javax.sound.midi.ShortMessage", true),
-              })
-          .put(
-              "ACCESSIBLE_TABLE_CAPTION_CHANGED",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_TABLE_CAPTION_CHANGED",
-                    "javax.accessibility.AccessibleContext",
-                    true),
-              })
-          .put(
-              "AuthenticationType",
-              new Import[] {
-                new Import("AuthenticationType", "javax.annotation.Resource", false),
-              })
-          .put(
-              "CARET_POSITION_CHANGED",
-              new Import[] {
-                new Import("CARET_POSITION_CHANGED", "java.awt.event.InputMethodEvent", true),
-              })
-          .put(
-              "INCLUSIVE_WITH_COMMENTS",
-              new Import[] {
-                new Import(
-                    "INCLUSIVE_WITH_COMMENTS",
-                    "javax.xml.crypto.dsig.CanonicalizationMethod",
-                    true),
-              })
-          .put(
-              "MENU_ITEM_ACCELERATOR",
-              new Import[] {
-                new Import("MENU_ITEM_ACCELERATOR", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "Packer",
-              new Import[] {
-                new Import("Packer", "java.util.jar.Pack200", false),
-              })
-          .put(
-              "OpenMBeanConstructorInfo",
-              new Import[] {
-                new Import("OpenMBeanConstructorInfo", "javax.management.openmbean", false),
-              })
-          .put(
-              "VALUE_ALPHA_INTERPOLATION_QUALITY",
-              new Import[] {
-                new Import("VALUE_ALPHA_INTERPOLATION_QUALITY", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "AccessibleBundle",
-              new Import[] {
-                new Import("AccessibleBundle", "javax.accessibility", false),
-              })
-          .put(
-              "FEATURE",
-              new Import[] {
-                new Import("FEATURE", "javax.xml.transform.dom.DOMResult", true),
-                new Import("FEATURE", "javax.xml.transform.dom.DOMSource", true),
-                new Import("FEATURE", "javax.xml.transform.sax.SAXResult", true),
-                new Import("FEATURE", "javax.xml.transform.sax.SAXSource", true),
-                new Import("FEATURE", "javax.xml.transform.sax.SAXTransformerFactory", true),
-                new Import("FEATURE", "javax.xml.transform.stax.StAXResult", true),
-                new Import("FEATURE", "javax.xml.transform.stax.StAXSource", true),
-                new Import("FEATURE", "javax.xml.transform.stream.StreamResult", true),
-                new Import("FEATURE", "javax.xml.transform.stream.StreamSource", true),
-              })
-          .put(
-              "XPathFunctionResolver",
-              new Import[] {
-                new Import("XPathFunctionResolver", "javax.xml.xpath", false),
-              })
-          .put(
-              "RepositoryIdHelper",
-              new Import[] {
-                new Import("RepositoryIdHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "BigInteger",
-              new Import[] {
-                new Import("BigInteger", "java.math", false),
-              })
-          .put(
-              "makeKeyBindings",
-              new Import[] {
-                new Import("makeKeyBindings", "javax.swing.LookAndFeel", true),
-              })
-          .put(
-              "ISINDEX",
-              new Import[] {
-                new Import("ISINDEX", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "PopupMenu",
-              new Import[] {
-                new Import("PopupMenu", "java.awt", false),
-              })
-          .put(
-              "TAG_PCLT",
-              new Import[] {
-                new Import("TAG_PCLT", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "AttributeChangeNotification",
-              new Import[] {
-                new Import("AttributeChangeNotification", "javax.management", false),
-              })
-          .put(
-              "Element",
-              new Import[] {
-                new Import("Element", "javax.lang.model.element", false),
-                new Import("Element", "javax.swing.text", false),
-                new Import("Element", "javax.swing.text.html.parser", false),
-                new Import("Element", "javax.xml.bind", false),
-                new Import("Element", "org.w3c.dom", false),
-              })
-          .put(
-              "TabularType",
-              new Import[] {
-                new Import("TabularType", "javax.management.openmbean", false),
-              })
-          .put(
-              "InternationalFormatter",
-              new Import[] {
-                new Import("InternationalFormatter", "javax.swing.text", false),
-              })
-          .put(
-              "PRINTER_STOPPED_PARTLY",
-              new Import[] {
-                new Import(
-                    "PRINTER_STOPPED_PARTLY",
-                    "javax.print.attribute.standard.JobStateReason",
-                    true),
-              })
-          .put(
-              "getConnection",
-              new Import[] {
-                new Import("getConnection", "java.sql.DriverManager", true),
-              })
-          .put(
-              "SelectorProvider",
-              new Import[] {
-                new Import("SelectorProvider", "java.nio.channels.spi", false),
-              })
-          .put(
-              "getStyle",
-              new Import[] {
-                new Import("getStyle", "javax.swing.plaf.nimbus.NimbusLookAndFeel", true),
-                new Import("getStyle", "javax.swing.plaf.synth.SynthLookAndFeel", true),
-              })
-          .put(
-              "TYPE_IDENTITY",
-              new Import[] {
-                new Import("TYPE_IDENTITY", "java.awt.geom.AffineTransform", true),
-              })
-          .put(
-              "MIN_HIGH_SURROGATE",
-              new Import[] {
-                new Import("MIN_HIGH_SURROGATE", "java.lang.Character", true),
-              })
-          .put(
-              "PKIXCertPathChecker",
-              new Import[] {
-                new Import("PKIXCertPathChecker", "java.security.cert", false),
-              })
-          .put(
-              "MetalScrollButton",
-              new Import[] {
-                new Import("MetalScrollButton", "javax.swing.plaf.metal", false),
-              })
-          .put(
-              "IdAssignmentPolicyValue",
-              new Import[] {
-                new Import("IdAssignmentPolicyValue", "org.omg.PortableServer", false),
-              })
-          .put(
-              "UnrecoverableEntryException",
-              new Import[] {
-                new Import("UnrecoverableEntryException", "java.security", false),
-              })
-          .put(
-              "EventTarget",
-              new Import[] {
-                new Import("EventTarget", "org.w3c.dom.events", false),
-              })
-          .put(
-              "ClassDesc",
-              new Import[] {
-                new Import("ClassDesc", "javax.rmi.CORBA", false),
-              })
-          .put(
-              "Delayed",
-              new Import[] {
-                new Import("Delayed", "java.util.concurrent", false),
-              })
-          .put(
-              "JarInputStream",
-              new Import[] {
-                new Import("JarInputStream", "java.util.jar", false),
-              })
-          .put(
-              "KeyEventDispatcher",
-              new Import[] {
-                new Import("KeyEventDispatcher", "java.awt", false),
-              })
-          .put(
-              "BasicControl",
-              new Import[] {
-                new Import("BasicControl", "javax.naming.ldap", false),
-              })
-          .put(
-              "EXTLEN",
-              new Import[] {
-                new Import("EXTLEN", "java.util.jar.JarEntry", true),
-                new Import("EXTLEN", "java.util.jar.JarFile", true),
-                new Import("EXTLEN", "java.util.jar.JarInputStream", true),
-                new Import("EXTLEN", "java.util.jar.JarOutputStream", true),
-                new Import("EXTLEN", "java.util.zip.ZipEntry", true),
-                new Import("EXTLEN", "java.util.zip.ZipFile", true),
-                new Import("EXTLEN", "java.util.zip.ZipInputStream", true),
-                new Import("EXTLEN", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "getDefaultCommandMap",
-              new Import[] {
-                new Import("getDefaultCommandMap", "javax.activation.CommandMap", true),
-              })
-          .put(
-              "PreparedStatement",
-              new Import[] {
-                new Import("PreparedStatement", "java.sql", false),
-              })
-          .put(
-              "HTTP_INTERNAL_ERROR",
-              new Import[] {
-                new Import("HTTP_INTERNAL_ERROR", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "NO_SUCH_PAGE",
-              new Import[] {
-                new Import("NO_SUCH_PAGE", "java.awt.print.Printable", true),
-              })
-          .put(
-              "RelationService",
-              new Import[] {
-                new Import("RelationService", "javax.management.relation", false),
-              })
-          .put(
-              "CYRILLIC_EXTENDED_A",
-              new Import[] {
-                new Import("CYRILLIC_EXTENDED_A", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "CYRILLIC_EXTENDED_B",
-              new Import[] {
-                new Import("CYRILLIC_EXTENDED_B", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "BasicMenuUI",
-              new Import[] {
-                new Import("BasicMenuUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "ForwardingJavaFileManager",
-              new Import[] {
-                new Import("ForwardingJavaFileManager", "javax.tools", false),
-              })
-          .put(
-              "getIndexOfSize",
-              new Import[] {
-                new Import("getIndexOfSize", "javax.swing.text.html.StyleSheet", true),
-              })
-          .put(
-              "getSystemCustomCursor",
-              new Import[] {
-                new Import("getSystemCustomCursor", "java.awt.Cursor", true),
-              })
-          .put(
-              "WALL_TIME",
-              new Import[] {
-                new Import("WALL_TIME", "java.util.SimpleTimeZone", true),
-              })
-          .put(
-              "ValueBaseHelper",
-              new Import[] {
-                new Import("ValueBaseHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "ZoneView",
-              new Import[] {
-                new Import("ZoneView", "javax.swing.text", false),
-              })
-          .put(
-              "Location",
-              new Import[] {
-                new Import("Location", "javax.tools.DocumentationTool", false),
-                new Import("Location", "javax.tools.JavaFileManager", false),
-                new Import("Location", "javax.xml.stream", false),
-              })
-          .put(
-              "ContentType",
-              new Import[] {
-                new Import(
-                    "ContentType", "javax.swing.text.DefaultStyledDocument.ElementSpec", true),
-              })
-          .put(
-              "ClientRequestInfoOperations",
-              new Import[] {
-                new Import("ClientRequestInfoOperations", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "TextAttribute",
-              new Import[] {
-                new Import("TextAttribute", "java.awt.font", false),
-              })
-          .put(
-              "Rectangle",
-              new Import[] {
-                new Import("Rectangle", "java.awt", false),
-              })
-          .put(
-              "MANAGES_DESCENDANTS",
-              new Import[] {
-                new Import("MANAGES_DESCENDANTS", "javax.accessibility.AccessibleState", true),
-              })
-          .put(
-              "INPUT_METHOD_TEXT_CHANGED",
-              new Import[] {
-                new Import("INPUT_METHOD_TEXT_CHANGED", "java.awt.event.InputMethodEvent", true),
-              })
-          .put(
-              "HREF",
-              new Import[] {
-                new Import("HREF", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "DIRECTIONALITY_RIGHT_TO_LEFT",
-              new Import[] {
-                new Import("DIRECTIONALITY_RIGHT_TO_LEFT", "java.lang.Character", true),
-              })
-          .put(
-              "ArithmeticException",
-              new Import[] {
-                new Import("ArithmeticException", "java.lang", false),
-              })
-          .put(
-              "Deflater",
-              new Import[] {
-                new Import("Deflater", "java.util.zip", false),
-              })
-          .put(
-              "KEY_RELEASE",
-              new Import[] {
-                new Import("KEY_RELEASE", "java.awt.Event", true),
-              })
-          .put(
-              "DIRECTION_DEFAULT_LEFT_TO_RIGHT",
-              new Import[] {
-                new Import("DIRECTION_DEFAULT_LEFT_TO_RIGHT", "java.text.Bidi", true),
-              })
-          .put(
-              "LexicalHandler",
-              new Import[] {
-                new Import("LexicalHandler", "org.xml.sax.ext", false),
-              })
-          .put(
-              "SATURDAY",
-              new Import[] {
-                new Import("SATURDAY", "java.util.Calendar", true),
-              })
-          .put(
-              "setDefaultSSLSocketFactory",
-              new Import[] {
-                new Import("setDefaultSSLSocketFactory", "javax.net.ssl.HttpsURLConnection", true),
-              })
-          .put(
-              "Buffer",
-              new Import[] {
-                new Import("Buffer", "java.nio", false),
-              })
-          .put(
-              "JMXServiceURL",
-              new Import[] {
-                new Import("JMXServiceURL", "javax.management.remote", false),
-              })
-          .put(
-              "KeyPair",
-              new Import[] {
-                new Import("KeyPair", "java.security", false),
-              })
-          .put(
-              "LocalTime",
-              new Import[] {
-                new Import("LocalTime", "java.time", false),
-              })
-          .put(
-              "getProviders",
-              new Import[] {
-                new Import("getProviders", "java.security.Security", true),
-              })
-          .put(
-              "AccessibleState",
-              new Import[] {
-                new Import("AccessibleState", "javax.accessibility", false),
-              })
-          .put(
-              "LinkLoopException",
-              new Import[] {
-                new Import("LinkLoopException", "javax.naming", false),
-              })
-          .put(
-              "OPTION",
-              new Import[] {
-                new Import("OPTION", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "TOGGLE_EXPAND",
-              new Import[] {
-                new Import("TOGGLE_EXPAND", "javax.accessibility.AccessibleAction", true),
-              })
-          .put(
-              "Namespace",
-              new Import[] {
-                new Import("Namespace", "javax.xml.stream.events", false),
-              })
-          .put(
-              "AffineTransformOp",
-              new Import[] {
-                new Import("AffineTransformOp", "java.awt.image", false),
-              })
-          .put(
-              "getDefaultDragSource",
-              new Import[] {
-                new Import("getDefaultDragSource", "java.awt.dnd.DragSource", true),
-              })
-          .put(
-              "DESIGNATED_LONG",
-              new Import[] {
-                new Import("DESIGNATED_LONG", "javax.print.attribute.standard.MediaSize.ISO", true),
-              })
-          .put(
-              "JTree",
-              new Import[] {
-                new Import("JTree", "javax.swing", false),
-              })
-          .put(
-              "DynamicUtilTreeNode",
-              new Import[] {
-                new Import("DynamicUtilTreeNode", "javax.swing.JTree", false),
-              })
-          .put(
-              "SignatureMethod",
-              new Import[] {
-                new Import("SignatureMethod", "javax.xml.crypto.dsig", false),
-              })
-          .put(
-              "ProviderMismatchException",
-              new Import[] {
-                new Import("ProviderMismatchException", "java.nio.file", false),
-              })
-          .put(
-              "FULL_JOIN",
-              new Import[] {
-                new Import("FULL_JOIN", "javax.sql.rowset.JoinRowSet", true),
-              })
-          .put(
-              "SECOND_FIELD",
-              new Import[] {
-                new Import("SECOND_FIELD", "java.text.DateFormat", true),
-              })
-          .put(
-              "OPENED",
-              new Import[] {
-                new Import("OPENED", "javax.management.remote.JMXConnectionNotification", true),
-              })
-          .put(
-              "SynthViewportUI",
-              new Import[] {
-                new Import("SynthViewportUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "parseDateTime",
-              new Import[] {
-                new Import("parseDateTime", "javax.xml.bind.DatatypeConverter", true),
-              })
-          .put(
-              "_tk_Principal",
-              new Import[] {
-                new Import("_tk_Principal", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "rotateLeft",
-              new Import[] {
-                new Import("rotateLeft", "java.lang.Integer", true),
-                new Import("rotateLeft", "java.lang.Long", true),
-              })
-          .put(
-              "createSymbolicLink",
-              new Import[] {
-                new Import("createSymbolicLink", "java.nio.file.Files", true),
-              })
-          .put(
-              "ECGenParameterSpec",
-              new Import[] {
-                new Import("ECGenParameterSpec", "java.security.spec", false),
-              })
-          .put(
-              "FLAG_RUN_RTL",
-              new Import[] {
-                new Import("FLAG_RUN_RTL", "java.awt.font.GlyphVector", true),
-              })
-          .put(
-              "VK_JAPANESE_ROMAN",
-              new Import[] {
-                new Import("VK_JAPANESE_ROMAN", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "lookupTag",
-              new Import[] {
-                new Import("lookupTag", "java.util.Locale", true),
-              })
-          .put(
-              "Binder",
-              new Import[] {
-                new Import("Binder", "javax.xml.bind", false),
-              })
-          .put(
-              "MemoryMXBean",
-              new Import[] {
-                new Import("MemoryMXBean", "java.lang.management", false),
-              })
-          .put(
-              "OSMANYA",
-              new Import[] {
-                new Import("OSMANYA", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "GLOBAL_SCOPE",
-              new Import[] {
-                new Import("GLOBAL_SCOPE", "javax.script.ScriptContext", true),
-              })
-          .put(
-              "AbstractSelectionKey",
-              new Import[] {
-                new Import("AbstractSelectionKey", "java.nio.channels.spi", false),
-              })
-          .put(
-              "CONTROLLED_BY_PROPERTY",
-              new Import[] {
-                new Import(
-                    "CONTROLLED_BY_PROPERTY", "javax.accessibility.AccessibleRelation", true),
-              })
-          .put(
-              "icHdrMagic",
-              new Import[] {
-                new Import("icHdrMagic", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "FileFilter",
-              new Import[] {
-                new Import("FileFilter", "java.io", false),
-                new Import("FileFilter", "javax.swing.filechooser", false),
-              })
-          .put(
-              "doPrivilegedWithCombiner",
-              new Import[] {
-                new Import("doPrivilegedWithCombiner", "java.security.AccessController", true),
-              })
-          .put(
-              "Spliterator",
-              new Import[] {
-                new Import("Spliterator", "java.util", false),
-              })
-          .put(
-              "Pattern",
-              new Import[] {
-                new Import("Pattern", "java.util.regex", false),
-              })
-          .put(
-              "MetaEventListener",
-              new Import[] {
-                new Import("MetaEventListener", "javax.sound.midi", false),
-              })
-          .put(
-              "IsoChronology",
-              new Import[] {
-                new Import("IsoChronology", "java.time.chrono", false),
-              })
-          .put(
-              "getSystemResource",
-              new Import[] {
-                new Import("getSystemResource", "java.lang.ClassLoader", true),
-              })
-          .put(
-              "ECPoint",
-              new Import[] {
-                new Import("ECPoint", "java.security.spec", false),
-              })
-          .put(
-              "OBSERVED_OBJECT_ERROR",
-              new Import[] {
-                new Import(
-                    "OBSERVED_OBJECT_ERROR", "javax.management.monitor.MonitorNotification", true),
-              })
-          .put(
-              "isLocal",
-              new Import[] {
-                new Import("isLocal", "javax.rmi.CORBA.Util", true),
-              })
-          .put(
-              "AbstractAnnotationValueVisitor7",
-              new Import[] {
-                new Import("AbstractAnnotationValueVisitor7", "javax.lang.model.util", false),
-              })
-          .put(
-              "AbstractAnnotationValueVisitor6",
-              new Import[] {
-                new Import("AbstractAnnotationValueVisitor6", "javax.lang.model.util", false),
-              })
-          .put(
-              "AbstractAnnotationValueVisitor8",
-              new Import[] {
-                new Import("AbstractAnnotationValueVisitor8", "javax.lang.model.util", false),
-              })
-          .put(
-              "Finishings",
-              new Import[] {
-                new Import("Finishings", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "setCurrentTheme",
-              new Import[] {
-                new Import("setCurrentTheme", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "HTTP_GONE",
-              new Import[] {
-                new Import("HTTP_GONE", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "KEEP_FILE_ORDER",
-              new Import[] {
-                new Import("KEEP_FILE_ORDER", "java.util.jar.Pack200.Packer", true),
-              })
-          .put(
-              "DynamicMBean",
-              new Import[] {
-                new Import("DynamicMBean", "javax.management", false),
-              })
-          .put(
-              "AccessDeniedException",
-              new Import[] {
-                new Import("AccessDeniedException", "java.nio.file", false),
-              })
-          .put(
-              "getDefaultLightWeightPopupEnabled",
-              new Import[] {
-                new Import("getDefaultLightWeightPopupEnabled", "javax.swing.JPopupMenu", true),
-              })
-          .put(
-              "SO_SNDBUF",
-              new Import[] {
-                new Import("SO_SNDBUF", "java.net.SocketOptions", true),
-                new Import("SO_SNDBUF", "java.net.StandardSocketOptions", true),
-              })
-          .put(
-              "Builder",
-              new Import[] {
-                new Import("Builder", "java.nio.file.attribute.AclEntry", false),
-                new Import("Builder", "java.security.KeyStore", false),
-                new Import("Builder", "java.util.Calendar", false),
-                new Import("Builder", "java.util.Locale", false),
-                new Import("Builder", "java.util.stream.DoubleStream", false),
-                new Import("Builder", "java.util.stream.IntStream", false),
-                new Import("Builder", "java.util.stream.LongStream", false),
-                new Import("Builder", "java.util.stream.Stream", false),
-              })
-          .put(
-              "NT_EXPORT_NAME",
-              new Import[] {
-                new Import("NT_EXPORT_NAME", "org.ietf.jgss.GSSName", true),
-              })
-          .put(
-              "Executors",
-              new Import[] {
-                new Import("Executors", "java.util.concurrent", false),
-              })
-          .put(
-              "CHOU_1",
-              new Import[] {
-                new Import("CHOU_1", "javax.print.attribute.standard.MediaSize.JIS", true),
-              })
-          .put(
-              "ECPublicKeySpec",
-              new Import[] {
-                new Import("ECPublicKeySpec", "java.security.spec", false),
-              })
-          .put(
-              "CHOU_2",
-              new Import[] {
-                new Import("CHOU_2", "javax.print.attribute.standard.MediaSize.JIS", true),
-              })
-          .put(
-              "CHOU_3",
-              new Import[] {
-                new Import("CHOU_3", "javax.print.attribute.standard.MediaSize.JIS", true),
-              })
-          .put(
-              "NoInitialContextException",
-              new Import[] {
-                new Import("NoInitialContextException", "javax.naming", false),
-              })
-          .put(
-              "PAINT_LAST",
-              new Import[] {
-                new Import("PAINT_LAST", "java.awt.event.PaintEvent", true),
-              })
-          .put(
-              "getMenuArrowIcon",
-              new Import[] {
-                new Import("getMenuArrowIcon", "javax.swing.plaf.basic.BasicIconFactory", true),
-                new Import("getMenuArrowIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
-              })
-          .put(
-              "MOUSE_WHEEL_EVENT_MASK",
-              new Import[] {
-                new Import("MOUSE_WHEEL_EVENT_MASK", "java.awt.AWTEvent", true),
-              })
-          .put(
-              "BadKind",
-              new Import[] {
-                new Import("BadKind", "org.omg.CORBA.TypeCodePackage", false),
-              })
-          .put(
-              "JOIN_MITER",
-              new Import[] {
-                new Import("JOIN_MITER", "java.awt.BasicStroke", true),
-              })
-          .put(
-              "icSigOutputClass",
-              new Import[] {
-                new Import("icSigOutputClass", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "GEORGIAN",
-              new Import[] {
-                new Import("GEORGIAN", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "MARSHAL",
-              new Import[] {
-                new Import("MARSHAL", "org.omg.CORBA", false),
-              })
-          .put(
-              "TITLECASE_LETTER",
-              new Import[] {
-                new Import("TITLECASE_LETTER", "java.lang.Character", true),
-              })
-          .put(
-              "ADMIN_UIROLE",
-              new Import[] {
-                new Import("ADMIN_UIROLE", "javax.print.ServiceUIFactory", true),
-              })
-          .put(
-              "JOptionPane",
-              new Import[] {
-                new Import("JOptionPane", "javax.swing", false),
-              })
-          .put(
-              "CommonDataSource",
-              new Import[] {
-                new Import("CommonDataSource", "javax.sql", false),
-              })
-          .put(
-              "PushbackReader",
-              new Import[] {
-                new Import("PushbackReader", "java.io", false),
-              })
-          .put(
-              "IS_SUPPORTING_EXTERNAL_ENTITIES",
-              new Import[] {
-                new Import(
-                    "IS_SUPPORTING_EXTERNAL_ENTITIES", "javax.xml.stream.XMLInputFactory", true),
-              })
-          .put(
-              "printDialog",
-              new Import[] {
-                new Import("printDialog", "javax.print.ServiceUI", true),
-              })
-          .put(
-              "createBevelBorder",
-              new Import[] {
-                new Import("createBevelBorder", "javax.swing.BorderFactory", true),
-              })
-          .put(
-              "getVerticalSliderThumbIcon",
-              new Import[] {
-                new Import(
-                    "getVerticalSliderThumbIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
-              })
-          .put(
-              "systemUTC",
-              new Import[] {
-                new Import("systemUTC", "java.time.Clock", true),
-              })
-          .put(
-              "INSERT",
-              new Import[] {
-                new Import("INSERT", "java.awt.Event", true),
-                new Import("INSERT", "javax.accessibility.AccessibleTableModelChange", true),
-                new Import("INSERT", "javax.swing.event.TableModelEvent", true),
-                new Import("INSERT", "javax.swing.event.DocumentEvent.EventType", true),
-              })
-          .put(
-              "AccountNotFoundException",
-              new Import[] {
-                new Import("AccountNotFoundException", "javax.security.auth.login", false),
-              })
-          .put(
-              "SRC_IN",
-              new Import[] {
-                new Import("SRC_IN", "java.awt.AlphaComposite", true),
-              })
-          .put(
-              "WindowTranslucency",
-              new Import[] {
-                new Import("WindowTranslucency", "java.awt.GraphicsDevice", false),
-              })
-          .put(
-              "InsufficientResourcesException",
-              new Import[] {
-                new Import("InsufficientResourcesException", "javax.naming", false),
-              })
-          .put(
-              "SSLEngine",
-              new Import[] {
-                new Import("SSLEngine", "javax.net.ssl", false),
-              })
-          .put(
-              "ENDPOINT_ADDRESS_PROPERTY",
-              new Import[] {
-                new Import("ENDPOINT_ADDRESS_PROPERTY", "javax.xml.ws.BindingProvider", true),
-              })
-          .put(
-              "END_PUNCTUATION",
-              new Import[] {
-                new Import("END_PUNCTUATION", "java.lang.Character", true),
-              })
-          .put(
-              "ABOVE_BOTTOM",
-              new Import[] {
-                new Import("ABOVE_BOTTOM", "javax.swing.border.TitledBorder", true),
-              })
-          .put(
-              "tickSeconds",
-              new Import[] {
-                new Import("tickSeconds", "java.time.Clock", true),
-              })
-          .put(
-              "icSigCrdInfoTag",
-              new Import[] {
-                new Import("icSigCrdInfoTag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "reflectAs",
-              new Import[] {
-                new Import("reflectAs", "java.lang.invoke.MethodHandles", true),
-              })
-          .put(
-              "Chronology",
-              new Import[] {
-                new Import("Chronology", "java.time.chrono", false),
-              })
-          .put(
-              "UnsupportedTemporalTypeException",
-              new Import[] {
-                new Import("UnsupportedTemporalTypeException", "java.time.temporal", false),
-              })
-          .put(
-              "HTTP_RESPONSE_HEADERS",
-              new Import[] {
-                new Import("HTTP_RESPONSE_HEADERS", "javax.xml.ws.handler.MessageContext", true),
-              })
-          .put(
-              "MetalScrollBarUI",
-              new Import[] {
-                new Import("MetalScrollBarUI", "javax.swing.plaf.metal", false),
-              })
-          .put(
-              "subtractExact",
-              new Import[] {
-                new Import("subtractExact", "java.lang.Math", true),
-                new Import("subtractExact", "java.lang.StrictMath", true),
-              })
-          .put(
-              "AdapterAlreadyExistsHelper",
-              new Import[] {
-                new Import(
-                    "AdapterAlreadyExistsHelper", "org.omg.PortableServer.POAPackage", false),
-              })
-          .put(
-              "DIRECTIONALITY_EUROPEAN_NUMBER_TERMINATOR",
-              new Import[] {
-                new Import(
-                    "DIRECTIONALITY_EUROPEAN_NUMBER_TERMINATOR", "java.lang.Character", true),
-              })
-          .put(
-              "URLDataSource",
-              new Import[] {
-                new Import("URLDataSource", "javax.activation", false),
-              })
-          .put(
-              "AclFileAttributeView",
-              new Import[] {
-                new Import("AclFileAttributeView", "java.nio.file.attribute", false),
-              })
-          .put(
-              "SPLIT_PANE",
-              new Import[] {
-                new Import("SPLIT_PANE", "javax.accessibility.AccessibleRole", true),
-                new Import("SPLIT_PANE", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "UNINITIALIZED_VALUE",
-              new Import[] {
-                new Import("UNINITIALIZED_VALUE", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "BIT_DEPTH_MULTI",
-              new Import[] {
-                new Import("BIT_DEPTH_MULTI", "java.awt.DisplayMode", true),
-              })
-          .put(
-              "TUMBLE",
-              new Import[] {
-                new Import("TUMBLE", "javax.print.attribute.standard.Sides", true),
-              })
-          .put(
-              "BORDER_STYLE",
-              new Import[] {
-                new Import("BORDER_STYLE", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "TEXT_PLAIN_HOST",
-              new Import[] {
-                new Import("TEXT_PLAIN_HOST", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("TEXT_PLAIN_HOST", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("TEXT_PLAIN_HOST", "javax.print.DocFlavor.URL", true),
-              })
-          .put(
-              "SWING_COMPONENT",
-              new Import[] {
-                new Import("SWING_COMPONENT", "javax.accessibility.AccessibleRole", true),
-              })
-          .put(
-              "NOT_ACCEPTING_JOBS",
-              new Import[] {
-                new Import(
-                    "NOT_ACCEPTING_JOBS",
-                    "javax.print.attribute.standard.PrinterIsAcceptingJobs",
-                    true),
-              })
-          .put(
-              "Pipe",
-              new Import[] {
-                new Import("Pipe", "java.nio.channels", false),
-              })
-          .put(
-              "DataInputStream",
-              new Import[] {
-                new Import("DataInputStream", "java.io", false),
-                new Import("DataInputStream", "org.omg.CORBA", false),
-              })
-          .put(
-              "SSLServerSocket",
-              new Import[] {
-                new Import("SSLServerSocket", "javax.net.ssl", false),
-              })
-          .put(
-              "DIRECTION_LEFT_TO_RIGHT",
-              new Import[] {
-                new Import("DIRECTION_LEFT_TO_RIGHT", "java.text.Bidi", true),
-              })
-          .put(
-              "InputVerifier",
-              new Import[] {
-                new Import("InputVerifier", "javax.swing", false),
-              })
-          .put(
-              "JOB_COMPLETED_SUCCESSFULLY",
-              new Import[] {
-                new Import(
-                    "JOB_COMPLETED_SUCCESSFULLY",
-                    "javax.print.attribute.standard.JobStateReason",
-                    true),
-              })
-          .put(
-              "SHA256",
-              new Import[] {
-                new Import("SHA256", "java.security.spec.MGF1ParameterSpec", true),
-                new Import("SHA256", "javax.xml.crypto.dsig.DigestMethod", true),
-              })
-          .put(
-              "CENCOM",
-              new Import[] {
-                new Import("CENCOM", "java.util.jar.JarEntry", true),
-                new Import("CENCOM", "java.util.jar.JarFile", true),
-                new Import("CENCOM", "java.util.jar.JarInputStream", true),
-                new Import("CENCOM", "java.util.jar.JarOutputStream", true),
-                new Import("CENCOM", "java.util.zip.ZipEntry", true),
-                new Import("CENCOM", "java.util.zip.ZipFile", true),
-                new Import("CENCOM", "java.util.zip.ZipInputStream", true),
-                new Import("CENCOM", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "CLASS_PATH",
-              new Import[] {
-                new Import("CLASS_PATH", "java.util.jar.Attributes.Name", true),
-              })
-          .put(
-              "CertPathValidator",
-              new Import[] {
-                new Import("CertPathValidator", "java.security.cert", false),
-              })
-          .put(
-              "JMXConnectorServerProvider",
-              new Import[] {
-                new Import("JMXConnectorServerProvider", "javax.management.remote", false),
-              })
-          .put(
-              "IntersectionType",
-              new Import[] {
-                new Import("IntersectionType", "javax.lang.model.type", false),
-              })
-          .put(
-              "getNoFallbackControl",
-              new Import[] {
-                new Import("getNoFallbackControl", "java.util.ResourceBundle.Control", true),
-              })
-          .put(
-              "LOCNAM",
-              new Import[] {
-                new Import("LOCNAM", "java.util.jar.JarEntry", true),
-                new Import("LOCNAM", "java.util.jar.JarFile", true),
-                new Import("LOCNAM", "java.util.jar.JarInputStream", true),
-                new Import("LOCNAM", "java.util.jar.JarOutputStream", true),
-                new Import("LOCNAM", "java.util.zip.ZipEntry", true),
-                new Import("LOCNAM", "java.util.zip.ZipFile", true),
-                new Import("LOCNAM", "java.util.zip.ZipInputStream", true),
-                new Import("LOCNAM", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "setCurrentKeyboardFocusManager",
-              new Import[] {
-                new Import("setCurrentKeyboardFocusManager", "java.awt.KeyboardFocusManager", true),
-              })
-          .put(
-              "round",
-              new Import[] {
-                new Import("round", "java.lang.Math", true),
-                new Import("round", "java.lang.StrictMath", true),
-              })
-          .put(
-              "LEFT_JUSTIFY",
-              new Import[] {
-                new Import("LEFT_JUSTIFY", "java.util.FormattableFlags", true),
-              })
-          .put(
-              "ACTION_REPLACE_CHILDREN",
-              new Import[] {
-                new Import("ACTION_REPLACE_CHILDREN", "org.w3c.dom.ls.LSParser", true),
-              })
-          .put(
-              "IDLE",
-              new Import[] {
-                new Import("IDLE", "javax.print.attribute.standard.PrinterState", true),
-              })
-          .put(
-              "MINI_KEY",
-              new Import[] {
-                new Import("MINI_KEY", "javax.swing.plaf.nimbus.NimbusStyle", true),
-              })
-          .put(
-              "TAG_JSTF",
-              new Import[] {
-                new Import("TAG_JSTF", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "CredentialExpiredException",
-              new Import[] {
-                new Import("CredentialExpiredException", "javax.security.auth.login", false),
-              })
-          .put(
-              "DISPLAYABILITY_CHANGED",
-              new Import[] {
-                new Import("DISPLAYABILITY_CHANGED", "java.awt.event.HierarchyEvent", true),
-              })
-          .put(
-              "IP_MULTICAST_TTL",
-              new Import[] {
-                new Import("IP_MULTICAST_TTL", "java.net.StandardSocketOptions", true),
-              })
-          .put(
-              "CertStore",
-              new Import[] {
-                new Import("CertStore", "java.security.cert", false),
-              })
-          .put(
-              "WANTS_INPUT_PROPERTY",
-              new Import[] {
-                new Import("WANTS_INPUT_PROPERTY", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "summingLong",
-              new Import[] {
-                new Import("summingLong", "java.util.stream.Collectors", true),
-              })
-          .build();
-}
@@ -1,1782 +0,0 @@
-// Code generated by GenerateStdlib.java. DO NOT EDIT.
-package com.nikodoko.javaimports.stdlib.internal.api.v8;
-
-import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
-import java.util.Map;
-
-public class Java8StdlibChunk28 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
-          .put(
-              "STATICIMAGEDONE",
-              new Import[] {
-                new Import("STATICIMAGEDONE", "java.awt.image.ImageConsumer", true),
-              })
-          .put(
-              "TYPE_FCLR",
-              new Import[] {
-                new Import("TYPE_FCLR", "java.awt.color.ColorSpace", true),
-              })
-          .put(
-              "YES_OPTION",
-              new Import[] {
-                new Import("YES_OPTION", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "Refreshable",
-              new Import[] {
-                new Import("Refreshable", "javax.security.auth", false),
-              })
-          .put(
-              "Spring",
-              new Import[] {
-                new Import("Spring", "javax.swing", false),
-              })
-          .put(
-              "SUPPLEMENTAL_MATHEMATICAL_OPERATORS",
-              new Import[] {
-                new Import(
-                    "SUPPLEMENTAL_MATHEMATICAL_OPERATORS",
-                    "java.lang.Character.UnicodeBlock",
-                    true),
-              })
-          .put(
-              "BooleanControl",
-              new Import[] {
-                new Import("BooleanControl", "javax.sound.sampled", false),
-              })
-          .put(
-              "setInt",
-              new Import[] {
-                new Import("setInt", "java.lang.reflect.Array", true),
-              })
-          .put(
-              "DataSource",
-              new Import[] {
-                new Import("DataSource", "javax.activation", false),
-                new Import("DataSource", "javax.sql", false),
-              })
-          .put(
-              "selectionBackwardAction",
-              new Import[] {
-                new Import("selectionBackwardAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "DOM_OBJECT_MODEL",
-              new Import[] {
-                new Import("DOM_OBJECT_MODEL", "javax.xml.xpath.XPathConstants", true),
-              })
-          .put(
-              "LIGHT_GRAY",
-              new Import[] {
-                new Import("LIGHT_GRAY", "java.awt.Color", true),
-              })
-          .put(
-              "X509TrustManager",
-              new Import[] {
-                new Import("X509TrustManager", "javax.net.ssl", false),
-              })
-          .put(
-              "MultiMenuItemUI",
-              new Import[] {
-                new Import("MultiMenuItemUI", "javax.swing.plaf.multi", false),
-              })
-          .put(
-              "NotEmpty",
-              new Import[] {
-                new Import("NotEmpty", "org.omg.CosNaming.NamingContextPackage", false),
-              })
-          .put(
-              "procedureReturnsResult",
-              new Import[] {
-                new Import("procedureReturnsResult", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "TEXT_PLAIN",
-              new Import[] {
-                new Import("TEXT_PLAIN", "javax.print.DocFlavor.CHAR_ARRAY", true),
-                new Import("TEXT_PLAIN", "javax.print.DocFlavor.READER", true),
-                new Import("TEXT_PLAIN", "javax.print.DocFlavor.STRING", true),
-              })
-          .put(
-              "FileAlreadyExistsException",
-              new Import[] {
-                new Import("FileAlreadyExistsException", "java.nio.file", false),
-              })
-          .put(
-              "setDefaultLookAndFeelDecorated",
-              new Import[] {
-                new Import("setDefaultLookAndFeelDecorated", "javax.swing.JDialog", true),
-                new Import("setDefaultLookAndFeelDecorated", "javax.swing.JFrame", true),
-              })
-          .put(
-              "LEFT_OUTER_JOIN",
-              new Import[] {
-                new Import("LEFT_OUTER_JOIN", "javax.sql.rowset.JoinRowSet", true),
-              })
-          .put(
-              "SECRET_KEY",
-              new Import[] {
-                new Import("SECRET_KEY", "javax.crypto.Cipher", true),
-              })
-          .put(
-              "CacheMode",
-              new Import[] {
-                new Import(
-                    "CacheMode",
-                    "javax.swing.plaf.nimbus.AbstractRegionPainter.PaintContext",
-                    false),
-              })
-          .put(
-              "ValueHandler",
-              new Import[] {
-                new Import("ValueHandler", "javax.rmi.CORBA", false),
-              })
-          .put(
-              "newMBeanServer",
-              new Import[] {
-                new Import("newMBeanServer", "javax.management.MBeanServerFactory", true),
-              })
-          .put(
-              "VK_LESS",
-              new Import[] {
-                new Import("VK_LESS", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "REFERENCE_PARAMETERS",
-              new Import[] {
-                new Import("REFERENCE_PARAMETERS", "javax.xml.ws.handler.MessageContext", true),
-              })
-          .put(
-              "ErrorType",
-              new Import[] {
-                new Import("ErrorType", "javax.lang.model.type", false),
-              })
-          .put(
-              "hypot",
-              new Import[] {
-                new Import("hypot", "java.lang.Math", true),
-                new Import("hypot", "java.lang.StrictMath", true),
-              })
-          .put(
-              "DigestOutputStream",
-              new Import[] {
-                new Import("DigestOutputStream", "java.security", false),
-              })
-          .put(
-              "VALUE_RANGE_MAX_INCLUSIVE_MASK",
-              new Import[] {
-                new Import(
-                    "VALUE_RANGE_MAX_INCLUSIVE_MASK",
-                    "javax.imageio.metadata.IIOMetadataFormat",
-                    true),
-              })
-          .put(
-              "DIRECTION_RIGHT_TO_LEFT",
-              new Import[] {
-                new Import("DIRECTION_RIGHT_TO_LEFT", "java.text.Bidi", true),
-              })
-          .put(
-              "XmlID",
-              new Import[] {
-                new Import("XmlID", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "getCrossPlatformLookAndFeelClassName",
-              new Import[] {
-                new Import("getCrossPlatformLookAndFeelClassName", "javax.swing.UIManager", true),
-              })
-          .put(
-              "BACKGROUND_IMAGE",
-              new Import[] {
-                new Import("BACKGROUND_IMAGE", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "PROTECTED",
-              new Import[] {
-                new Import("PROTECTED", "java.lang.invoke.MethodHandles.Lookup", true),
-                new Import("PROTECTED", "java.lang.reflect.Modifier", true),
-              })
-          .put(
-              "NA_NUMBER_10_ENVELOPE",
-              new Import[] {
-                new Import("NA_NUMBER_10_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-                new Import(
-                    "NA_NUMBER_10_ENVELOPE", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import(
-                    "NA_NUMBER_10_ENVELOPE", "javax.print.attribute.standard.MediaSize.NA", true),
-              })
-          .put(
-              "LinkageError",
-              new Import[] {
-                new Import("LinkageError", "java.lang", false),
-              })
-          .put(
-              "BAD_TYPECODE",
-              new Import[] {
-                new Import("BAD_TYPECODE", "org.omg.CORBA", false),
-              })
-          .put(
-              "XMLStreamConstants",
-              new Import[] {
-                new Import("XMLStreamConstants", "javax.xml.stream", false),
-              })
-          .put(
-              "getRegisteredProviders",
-              new Import[] {
-                new Import("getRegisteredProviders", "javax.sql.rowset.spi.SyncFactory", true),
-              })
-          .put(
-              "BELOW_BOTTOM",
-              new Import[] {
-                new Import("BELOW_BOTTOM", "javax.swing.border.TitledBorder", true),
-              })
-          .put(
-              "CLOSE_FAILURE",
-              new Import[] {
-                new Import("CLOSE_FAILURE", "java.util.logging.ErrorManager", true),
-              })
-          .put(
-              "holdsLock",
-              new Import[] {
-                new Import("holdsLock", "java.lang.Thread", true),
-              })
-          .put(
-              "SPLIT_PANE_DIVIDER",
-              new Import[] {
-                new Import("SPLIT_PANE_DIVIDER", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "ROUND_HALF_DOWN",
-              new Import[] {
-                new Import("ROUND_HALF_DOWN", "java.math.BigDecimal", true),
-              })
-          .put(
-              "withFixedThreadPool",
-              new Import[] {
-                new Import(
-                    "withFixedThreadPool", "java.nio.channels.AsynchronousChannelGroup", true),
-              })
-          .put(
-              "OutputStreamWriter",
-              new Import[] {
-                new Import("OutputStreamWriter", "java.io", false),
-              })
-          .put(
-              "ShortSeqHelper",
-              new Import[] {
-                new Import("ShortSeqHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "ServiceInformationHolder",
-              new Import[] {
-                new Import("ServiceInformationHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "emptyNavigableSet",
-              new Import[] {
-                new Import("emptyNavigableSet", "java.util.Collections", true),
-              })
-          .put(
-              "BindingIterator",
-              new Import[] {
-                new Import("BindingIterator", "org.omg.CosNaming", false),
-              })
-          .put(
-              "AudioClip",
-              new Import[] {
-                new Import("AudioClip", "java.applet", false),
-              })
-          .put(
-              "NotationDeclaration",
-              new Import[] {
-                new Import("NotationDeclaration", "javax.xml.stream.events", false),
-              })
-          .put(
-              "SaslException",
-              new Import[] {
-                new Import("SaslException", "javax.security.sasl", false),
-              })
-          .put(
-              "_tk_ushort",
-              new Import[] {
-                new Import("_tk_ushort", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "WStringSeqHolder",
-              new Import[] {
-                new Import("WStringSeqHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "TreeCellRenderer",
-              new Import[] {
-                new Import("TreeCellRenderer", "javax.swing.tree", false),
-              })
-          .put(
-              "parseHexBinary",
-              new Import[] {
-                new Import("parseHexBinary", "javax.xml.bind.DatatypeConverter", true),
-              })
-          .put(
-              "quoteReplacement",
-              new Import[] {
-                new Import("quoteReplacement", "java.util.regex.Matcher", true),
-              })
-          .put(
-              "PACKAGE",
-              new Import[] {
-                new Import("PACKAGE", "java.lang.invoke.MethodHandles.Lookup", true),
-              })
-          .put(
-              "NODE_RENAMED",
-              new Import[] {
-                new Import("NODE_RENAMED", "org.w3c.dom.UserDataHandler", true),
-              })
-          .put(
-              "toUpperCase",
-              new Import[] {
-                new Import("toUpperCase", "java.lang.Character", true),
-              })
-          .put(
-              "Permissions",
-              new Import[] {
-                new Import("Permissions", "java.security", false),
-              })
-          .put(
-              "ISO_DESIGNATED_LONG",
-              new Import[] {
-                new Import("ISO_DESIGNATED_LONG", "java.awt.PageAttributes.MediaType", true),
-                new Import(
-                    "ISO_DESIGNATED_LONG", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "HYPERLINK",
-              new Import[] {
-                new Import("HYPERLINK", "javax.accessibility.AccessibleRole", true),
-              })
-          .put(
-              "_dk_Array",
-              new Import[] {
-                new Import("_dk_Array", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "EMBEDS",
-              new Import[] {
-                new Import("EMBEDS", "javax.accessibility.AccessibleRelation", true),
-              })
-          .put(
-              "XmlRootElement",
-              new Import[] {
-                new Import("XmlRootElement", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "activeCaption",
-              new Import[] {
-                new Import("activeCaption", "java.awt.SystemColor", true),
-              })
-          .put(
-              "setStyleFactory",
-              new Import[] {
-                new Import("setStyleFactory", "javax.swing.plaf.synth.SynthLookAndFeel", true),
-              })
-          .put(
-              "addProvider",
-              new Import[] {
-                new Import("addProvider", "java.security.Security", true),
-              })
-          .put(
-              "ACCESSIBLE_INVALIDATE_CHILDREN",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_INVALIDATE_CHILDREN",
-                    "javax.accessibility.AccessibleContext",
-                    true),
-              })
-          .put(
-              "AccessibleValue",
-              new Import[] {
-                new Import("AccessibleValue", "javax.accessibility", false),
-              })
-          .put(
-              "SerialException",
-              new Import[] {
-                new Import("SerialException", "javax.sql.rowset.serial", false),
-              })
-          .put(
-              "SAXTransformerFactory",
-              new Import[] {
-                new Import("SAXTransformerFactory", "javax.xml.transform.sax", false),
-              })
-          .put(
-              "TAG_CODE_SETS",
-              new Import[] {
-                new Import("TAG_CODE_SETS", "org.omg.IOP", false),
-              })
-          .put(
-              "CYPRIOT_SYLLABARY",
-              new Import[] {
-                new Import("CYPRIOT_SYLLABARY", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "ServerNotActiveException",
-              new Import[] {
-                new Import("ServerNotActiveException", "java.rmi.server", false),
-              })
-          .put(
-              "HandlerResolver",
-              new Import[] {
-                new Import("HandlerResolver", "javax.xml.ws.handler", false),
-              })
-          .put(
-              "BASEFONT",
-              new Import[] {
-                new Import("BASEFONT", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "BasicComboBoxUI",
-              new Import[] {
-                new Import("BasicComboBoxUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "Long",
-              new Import[] {
-                new Import("Long", "java.lang", false),
-              })
-          .put(
-              "Class",
-              new Import[] {
-                new Import("Class", "java.lang", false),
-              })
-          .put(
-              "CipherSpi",
-              new Import[] {
-                new Import("CipherSpi", "javax.crypto", false),
-              })
-          .put(
-              "pasteAction",
-              new Import[] {
-                new Import("pasteAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "MultiComboBoxUI",
-              new Import[] {
-                new Import("MultiComboBoxUI", "javax.swing.plaf.multi", false),
-              })
-          .put(
-              "CopyOnWriteArrayList",
-              new Import[] {
-                new Import("CopyOnWriteArrayList", "java.util.concurrent", false),
-              })
-          .put(
-              "YES_NO_OPTION",
-              new Import[] {
-                new Import(
-                    "YES_NO_OPTION", "javax.security.auth.callback.ConfirmationCallback", true),
-                new Import("YES_NO_OPTION", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "NODE_ADOPTED",
-              new Import[] {
-                new Import("NODE_ADOPTED", "org.w3c.dom.UserDataHandler", true),
-              })
-          .put(
-              "DataBufferByte",
-              new Import[] {
-                new Import("DataBufferByte", "java.awt.image", false),
-              })
-          .put(
-              "getInactiveControlTextColor",
-              new Import[] {
-                new Import(
-                    "getInactiveControlTextColor", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "VISIBLE",
-              new Import[] {
-                new Import("VISIBLE", "javax.accessibility.AccessibleState", true),
-              })
-          .put(
-              "createImageInputStream",
-              new Import[] {
-                new Import("createImageInputStream", "javax.imageio.ImageIO", true),
-              })
-          .put(
-              "BIGDECIMAL",
-              new Import[] {
-                new Import("BIGDECIMAL", "javax.management.openmbean.SimpleType", true),
-              })
-          .put(
-              "CENFLG",
-              new Import[] {
-                new Import("CENFLG", "java.util.jar.JarEntry", true),
-                new Import("CENFLG", "java.util.jar.JarFile", true),
-                new Import("CENFLG", "java.util.jar.JarInputStream", true),
-                new Import("CENFLG", "java.util.jar.JarOutputStream", true),
-                new Import("CENFLG", "java.util.zip.ZipEntry", true),
-                new Import("CENFLG", "java.util.zip.ZipFile", true),
-                new Import("CENFLG", "java.util.zip.ZipInputStream", true),
-                new Import("CENFLG", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "SELECTION_VALUES_PROPERTY",
-              new Import[] {
-                new Import("SELECTION_VALUES_PROPERTY", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "MODE_SYNCHRONOUS",
-              new Import[] {
-                new Import("MODE_SYNCHRONOUS", "org.w3c.dom.ls.DOMImplementationLS", true),
-              })
-          .put(
-              "Invoker",
-              new Import[] {
-                new Import("Invoker", "javax.xml.ws.spi", false),
-              })
-          .put(
-              "getUseCache",
-              new Import[] {
-                new Import("getUseCache", "javax.imageio.ImageIO", true),
-              })
-          .put(
-              "UndefinedProperty",
-              new Import[] {
-                new Import("UndefinedProperty", "java.awt.Image", true),
-              })
-          .put(
-              "VERBOSE",
-              new Import[] {
-                new Import("VERBOSE", "java.rmi.server.LogStream", true),
-              })
-          .put(
-              "MidiDeviceReceiver",
-              new Import[] {
-                new Import("MidiDeviceReceiver", "javax.sound.midi", false),
-              })
-          .put(
-              "Interceptor",
-              new Import[] {
-                new Import("Interceptor", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "PrinterMoreInfoManufacturer",
-              new Import[] {
-                new Import("PrinterMoreInfoManufacturer", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "NodeChangeEvent",
-              new Import[] {
-                new Import("NodeChangeEvent", "java.util.prefs", false),
-              })
-          .put(
-              "ThreadPolicyValue",
-              new Import[] {
-                new Import("ThreadPolicyValue", "org.omg.PortableServer", false),
-              })
-          .put(
-              "columnNoNulls",
-              new Import[] {
-                new Import("columnNoNulls", "java.sql.DatabaseMetaData", true),
-                new Import("columnNoNulls", "java.sql.ResultSetMetaData", true),
-              })
-          .put(
-              "MultiLookAndFeel",
-              new Import[] {
-                new Import("MultiLookAndFeel", "javax.swing.plaf.multi", false),
-              })
-          .put(
-              "DataContentHandler",
-              new Import[] {
-                new Import("DataContentHandler", "javax.activation", false),
-              })
-          .put(
-              "CommunicationException",
-              new Import[] {
-                new Import("CommunicationException", "javax.naming", false),
-              })
-          .put(
-              "DIRECTORY_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("DIRECTORY_CHANGED_PROPERTY", "javax.swing.JFileChooser", true),
-              })
-          .put(
-              "SynthScrollBarUI",
-              new Import[] {
-                new Import("SynthScrollBarUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "icSigViewingConditionsTag",
-              new Import[] {
-                new Import("icSigViewingConditionsTag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "Dimension2D",
-              new Import[] {
-                new Import("Dimension2D", "java.awt.geom", false),
-              })
-          .put(
-              "VALUE_STROKE_PURE",
-              new Import[] {
-                new Import("VALUE_STROKE_PURE", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "StringContent",
-              new Import[] {
-                new Import("StringContent", "javax.swing.text", false),
-              })
-          .put(
-              "ALIGN_JUSTIFIED",
-              new Import[] {
-                new Import("ALIGN_JUSTIFIED", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "GAP_TOKEN",
-              new Import[] {
-                new Import("GAP_TOKEN", "org.ietf.jgss.GSSException", true),
-              })
-          .put(
-              "ImageWriteParam",
-              new Import[] {
-                new Import("ImageWriteParam", "javax.imageio", false),
-              })
-          .put(
-              "ArrayDeque",
-              new Import[] {
-                new Import("ArrayDeque", "java.util", false),
-              })
-          .put(
-              "ExemptionMechanism",
-              new Import[] {
-                new Import("ExemptionMechanism", "javax.crypto", false),
-              })
-          .put(
-              "FRAMEBORDER",
-              new Import[] {
-                new Import("FRAMEBORDER", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "OfInt",
-              new Import[] {
-                new Import("OfInt", "java.util.PrimitiveIterator", false),
-                new Import("OfInt", "java.util.Spliterator", false),
-              })
-          .put(
-              "setObjectFactoryBuilder",
-              new Import[] {
-                new Import("setObjectFactoryBuilder", "javax.naming.spi.NamingManager", true),
-              })
-          .put(
-              "OPEN_FAILURE",
-              new Import[] {
-                new Import("OPEN_FAILURE", "java.util.logging.ErrorManager", true),
-              })
-          .put(
-              "RMISecurityException",
-              new Import[] {
-                new Import("RMISecurityException", "java.rmi", false),
-              })
-          .put(
-              "unmarshal",
-              new Import[] {
-                new Import("unmarshal", "javax.xml.bind.JAXB", true),
-              })
-          .put(
-              "TRANSACTION_MODE",
-              new Import[] {
-                new Import("TRANSACTION_MODE", "org.omg.CORBA", false),
-              })
-          .put(
-              "getPackages",
-              new Import[] {
-                new Import("getPackages", "java.lang.Package", true),
-              })
-          .put(
-              "IS_COALESCING",
-              new Import[] {
-                new Import("IS_COALESCING", "javax.xml.stream.XMLInputFactory", true),
-              })
-          .put(
-              "Y_AXIS",
-              new Import[] {
-                new Import("Y_AXIS", "javax.swing.BoxLayout", true),
-                new Import("Y_AXIS", "javax.swing.text.View", true),
-              })
-          .put(
-              "ISO_B0",
-              new Import[] {
-                new Import("ISO_B0", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_B0", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "ISO_B1",
-              new Import[] {
-                new Import("ISO_B1", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_B1", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "ISO_B2",
-              new Import[] {
-                new Import("ISO_B2", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_B2", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "ISO_B3",
-              new Import[] {
-                new Import("ISO_B3", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_B3", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "ofNullable",
-              new Import[] {
-                new Import("ofNullable", "java.util.Optional", true),
-              })
-          .put(
-              "ISO_B4",
-              new Import[] {
-                new Import("ISO_B4", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_B4", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "forLanguageTag",
-              new Import[] {
-                new Import("forLanguageTag", "java.util.Locale", true),
-              })
-          .put(
-              "ISO_B5",
-              new Import[] {
-                new Import("ISO_B5", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_B5", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "TypeKindVisitor8",
-              new Import[] {
-                new Import("TypeKindVisitor8", "javax.lang.model.util", false),
-              })
-          .put(
-              "ISO_B6",
-              new Import[] {
-                new Import("ISO_B6", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_B6", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "ISO_B7",
-              new Import[] {
-                new Import("ISO_B7", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_B7", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "WStringSeqHelper",
-              new Import[] {
-                new Import("WStringSeqHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "LSParser",
-              new Import[] {
-                new Import("LSParser", "org.w3c.dom.ls", false),
-              })
-          .put(
-              "VK_DEAD_DOUBLEACUTE",
-              new Import[] {
-                new Import("VK_DEAD_DOUBLEACUTE", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "URIResolver",
-              new Import[] {
-                new Import("URIResolver", "javax.xml.transform", false),
-              })
-          .put(
-              "TWO_SIDED_LONG_EDGE",
-              new Import[] {
-                new Import("TWO_SIDED_LONG_EDGE", "java.awt.JobAttributes.SidesType", true),
-                new Import("TWO_SIDED_LONG_EDGE", "javax.print.attribute.standard.Sides", true),
-              })
-          .put(
-              "TypeKindVisitor7",
-              new Import[] {
-                new Import("TypeKindVisitor7", "javax.lang.model.util", false),
-              })
-          .put(
-              "TypeKindVisitor6",
-              new Import[] {
-                new Import("TypeKindVisitor6", "javax.lang.model.util", false),
-              })
-          .put(
-              "BOTTOM",
-              new Import[] {
-                new Import("BOTTOM", "javax.print.attribute.standard.MediaTray", true),
-                new Import("BOTTOM", "javax.swing.JSplitPane", true),
-                new Import("BOTTOM", "javax.swing.SwingConstants", true),
-                new Import("BOTTOM", "javax.swing.border.TitledBorder", true),
-              })
-          .put(
-              "Math",
-              new Import[] {
-                new Import("Math", "java.lang", false),
-              })
-          .put(
-              "requestPasswordAuthentication",
-              new Import[] {
-                new Import("requestPasswordAuthentication", "java.net.Authenticator", true),
-              })
-          .put(
-              "Decoder",
-              new Import[] {
-                new Import("Decoder", "java.util.Base64", false),
-              })
-          .put(
-              "SignatureProperty",
-              new Import[] {
-                new Import("SignatureProperty", "javax.xml.crypto.dsig", false),
-              })
-          .put(
-              "JIS_B9",
-              new Import[] {
-                new Import("JIS_B9", "java.awt.PageAttributes.MediaType", true),
-                new Import("JIS_B9", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "AsynchronousFileChannel",
-              new Import[] {
-                new Import("AsynchronousFileChannel", "java.nio.channels", false),
-              })
-          .put(
-              "JIS_B7",
-              new Import[] {
-                new Import("JIS_B7", "java.awt.PageAttributes.MediaType", true),
-                new Import("JIS_B7", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "JIS_B8",
-              new Import[] {
-                new Import("JIS_B8", "java.awt.PageAttributes.MediaType", true),
-                new Import("JIS_B8", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "getPool",
-              new Import[] {
-                new Import("getPool", "java.util.concurrent.ForkJoinTask", true),
-              })
-          .put(
-              "ISO_B8",
-              new Import[] {
-                new Import("ISO_B8", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_B8", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "ISO_B9",
-              new Import[] {
-                new Import("ISO_B9", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_B9", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "CollatorProvider",
-              new Import[] {
-                new Import("CollatorProvider", "java.text.spi", false),
-              })
-          .put(
-              "getSourceDataLine",
-              new Import[] {
-                new Import("getSourceDataLine", "javax.sound.sampled.AudioSystem", true),
-              })
-          .put(
-              "ISO_C1",
-              new Import[] {
-                new Import("ISO_C1", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_C1", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "signum",
-              new Import[] {
-                new Import("signum", "java.lang.Integer", true),
-                new Import("signum", "java.lang.Long", true),
-                new Import("signum", "java.lang.Math", true),
-                new Import("signum", "java.lang.StrictMath", true),
-              })
-          .put(
-              "ISO_C2",
-              new Import[] {
-                new Import("ISO_C2", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_C2", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "ISO_C3",
-              new Import[] {
-                new Import("ISO_C3", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_C3", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "HTMLFactory",
-              new Import[] {
-                new Import("HTMLFactory", "javax.swing.text.html.HTMLEditorKit", false),
-              })
-          .put(
-              "ISO_C4",
-              new Import[] {
-                new Import("ISO_C4", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_C4", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "ISO_C5",
-              new Import[] {
-                new Import("ISO_C5", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_C5", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "ISO_C6",
-              new Import[] {
-                new Import("ISO_C6", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_C6", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "ISO_C7",
-              new Import[] {
-                new Import("ISO_C7", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "ISO_C8",
-              new Import[] {
-                new Import("ISO_C8", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "InstanceAlreadyExistsException",
-              new Import[] {
-                new Import("InstanceAlreadyExistsException", "javax.management", false),
-              })
-          .put(
-              "JIS_B1",
-              new Import[] {
-                new Import("JIS_B1", "java.awt.PageAttributes.MediaType", true),
-                new Import("JIS_B1", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "JIS_B2",
-              new Import[] {
-                new Import("JIS_B2", "java.awt.PageAttributes.MediaType", true),
-                new Import("JIS_B2", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "getLogger",
-              new Import[] {
-                new Import("getLogger", "java.util.logging.Logger", true),
-                new Import("getLogger", "javax.sql.rowset.spi.SyncFactory", true),
-              })
-          .put(
-              "JIS_B0",
-              new Import[] {
-                new Import("JIS_B0", "java.awt.PageAttributes.MediaType", true),
-                new Import("JIS_B0", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "ProfileIdHelper",
-              new Import[] {
-                new Import("ProfileIdHelper", "org.omg.IOP", false),
-              })
-          .put(
-              "JIS_B5",
-              new Import[] {
-                new Import("JIS_B5", "java.awt.PageAttributes.MediaType", true),
-                new Import("JIS_B5", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "AWTEventListenerProxy",
-              new Import[] {
-                new Import("AWTEventListenerProxy", "java.awt.event", false),
-              })
-          .put(
-              "JIS_B6",
-              new Import[] {
-                new Import("JIS_B6", "java.awt.PageAttributes.MediaType", true),
-                new Import("JIS_B6", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "matches",
-              new Import[] {
-                new Import("matches", "java.util.regex.Pattern", true),
-              })
-          .put(
-              "ImageTranscoderSpi",
-              new Import[] {
-                new Import("ImageTranscoderSpi", "javax.imageio.spi", false),
-              })
-          .put(
-              "REQUEST_CIPHER_SUITE",
-              new Import[] {
-                new Import("REQUEST_CIPHER_SUITE", "javax.xml.ws.spi.http.HttpExchange", true),
-              })
-          .put(
-              "JIS_B3",
-              new Import[] {
-                new Import("JIS_B3", "java.awt.PageAttributes.MediaType", true),
-                new Import("JIS_B3", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "PriorityBlockingQueue",
-              new Import[] {
-                new Import("PriorityBlockingQueue", "java.util.concurrent", false),
-              })
-          .put(
-              "toConcurrentMap",
-              new Import[] {
-                new Import("toConcurrentMap", "java.util.stream.Collectors", true),
-              })
-          .put(
-              "ISO_C0",
-              new Import[] {
-                new Import("ISO_C0", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_C0", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "JIS_B4",
-              new Import[] {
-                new Import("JIS_B4", "java.awt.PageAttributes.MediaType", true),
-                new Import("JIS_B4", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "HTTP_CONFLICT",
-              new Import[] {
-                new Import("HTTP_CONFLICT", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "SHORT_DESCRIPTION",
-              new Import[] {
-                new Import("SHORT_DESCRIPTION", "javax.swing.Action", true),
-              })
-          .put(
-              "InputMethod",
-              new Import[] {
-                new Import("InputMethod", "java.awt.im.spi", false),
-              })
-          .put(
-              "ServiceNotFoundException",
-              new Import[] {
-                new Import("ServiceNotFoundException", "javax.management", false),
-              })
-          .put(
-              "ISO_C9",
-              new Import[] {
-                new Import("ISO_C9", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "InvalidPolicyHelper",
-              new Import[] {
-                new Import("InvalidPolicyHelper", "org.omg.PortableServer.POAPackage", false),
-              })
-          .put(
-              "Unreferenced",
-              new Import[] {
-                new Import("Unreferenced", "java.rmi.server", false),
-              })
-          .put(
-              "newByteChannel",
-              new Import[] {
-                new Import("newByteChannel", "java.nio.file.Files", true),
-              })
-          .put(
-              "NO_CRED",
-              new Import[] {
-                new Import("NO_CRED", "org.ietf.jgss.GSSException", true),
-              })
-          .put(
-              "SINHALA",
-              new Import[] {
-                new Import("SINHALA", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "reverseOrder",
-              new Import[] {
-                new Import("reverseOrder", "java.util.Collections", true),
-                new Import("reverseOrder", "java.util.Comparator", true),
-              })
-          .put(
-              "FILES_AND_DIRECTORIES",
-              new Import[] {
-                new Import("FILES_AND_DIRECTORIES", "javax.swing.JFileChooser", true),
-              })
-          .put(
-              "CELL_EDITOR_PROPERTY",
-              new Import[] {
-                new Import("CELL_EDITOR_PROPERTY", "javax.swing.JTree", true),
-              })
-          .put(
-              "StyleContext",
-              new Import[] {
-                new Import("StyleContext", "javax.swing.text", false),
-              })
-          .put(
-              "ModelMBeanNotificationBroadcaster",
-              new Import[] {
-                new Import(
-                    "ModelMBeanNotificationBroadcaster", "javax.management.modelmbean", false),
-              })
-          .put(
-              "EventReaderDelegate",
-              new Import[] {
-                new Import("EventReaderDelegate", "javax.xml.stream.util", false),
-              })
-          .put(
-              "XPathFunctionException",
-              new Import[] {
-                new Import("XPathFunctionException", "javax.xml.xpath", false),
-              })
-          .put(
-              "UnaryOperator",
-              new Import[] {
-                new Import("UnaryOperator", "java.util.function", false),
-              })
-          .put(
-              "ObjectStreamClass",
-              new Import[] {
-                new Import("ObjectStreamClass", "java.io", false),
-              })
-          .put(
-              "CompletionStage",
-              new Import[] {
-                new Import("CompletionStage", "java.util.concurrent", false),
-              })
-          .put(
-              "ISO_A0",
-              new Import[] {
-                new Import("ISO_A0", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_A0", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "ISO_A1",
-              new Import[] {
-                new Import("ISO_A1", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_A1", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "BeanContextServiceProvider",
-              new Import[] {
-                new Import("BeanContextServiceProvider", "java.beans.beancontext", false),
-              })
-          .put(
-              "ISO_A2",
-              new Import[] {
-                new Import("ISO_A2", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_A2", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "ISO_A3",
-              new Import[] {
-                new Import("ISO_A3", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_A3", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "ISO_A4",
-              new Import[] {
-                new Import("ISO_A4", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_A4", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "isJavaIdentifierStart",
-              new Import[] {
-                new Import("isJavaIdentifierStart", "java.lang.Character", true),
-              })
-          .put(
-              "ISO_A5",
-              new Import[] {
-                new Import("ISO_A5", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_A5", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "Constructor",
-              new Import[] {
-                new Import("Constructor", "java.lang.reflect", false),
-              })
-          .put(
-              "ISO_A6",
-              new Import[] {
-                new Import("ISO_A6", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_A6", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "DEFAULT_SOAP_PROTOCOL",
-              new Import[] {
-                new Import("DEFAULT_SOAP_PROTOCOL", "javax.xml.soap.SOAPConstants", true),
-              })
-          .put(
-              "WatchKey",
-              new Import[] {
-                new Import("WatchKey", "java.nio.file", false),
-              })
-          .put(
-              "isUpperCase",
-              new Import[] {
-                new Import("isUpperCase", "java.lang.Character", true),
-              })
-          .put(
-              "Dimension",
-              new Import[] {
-                new Import("Dimension", "java.awt", false),
-              })
-          .put(
-              "ROLE_NOT_WRITABLE",
-              new Import[] {
-                new Import("ROLE_NOT_WRITABLE", "javax.management.relation.RoleStatus", true),
-              })
-          .put(
-              "getInsets",
-              new Import[] {
-                new Import("getInsets", "javax.swing.UIManager", true),
-              })
-          .put(
-              "UNIX_LINES",
-              new Import[] {
-                new Import("UNIX_LINES", "java.util.regex.Pattern", true),
-              })
-          .put(
-              "calculateAlignedPositions",
-              new Import[] {
-                new Import("calculateAlignedPositions", "javax.swing.SizeRequirements", true),
-              })
-          .put(
-              "getLocalHost",
-              new Import[] {
-                new Import("getLocalHost", "java.net.InetAddress", true),
-              })
-          .put(
-              "PrintConversionEvent",
-              new Import[] {
-                new Import("PrintConversionEvent", "javax.xml.bind", false),
-              })
-          .put(
-              "SCROLL_BAR",
-              new Import[] {
-                new Import("SCROLL_BAR", "javax.accessibility.AccessibleRole", true),
-                new Import("SCROLL_BAR", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "SchemaFactoryConfigurationError",
-              new Import[] {
-                new Import("SchemaFactoryConfigurationError", "javax.xml.validation", false),
-              })
-          .put(
-              "SynthTextPaneUI",
-              new Import[] {
-                new Import("SynthTextPaneUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "getInternalFrameBorder",
-              new Import[] {
-                new Import("getInternalFrameBorder", "javax.swing.plaf.basic.BasicBorders", true),
-              })
-          .put(
-              "ISO_A7",
-              new Import[] {
-                new Import("ISO_A7", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_A7", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "DynStructHelper",
-              new Import[] {
-                new Import("DynStructHelper", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "ISO_A8",
-              new Import[] {
-                new Import("ISO_A8", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_A8", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "Family",
-              new Import[] {
-                new Import("Family", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "ISO_A9",
-              new Import[] {
-                new Import("ISO_A9", "java.awt.PageAttributes.MediaType", true),
-                new Import("ISO_A9", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "tk_array",
-              new Import[] {
-                new Import("tk_array", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "ProtectionDomain",
-              new Import[] {
-                new Import("ProtectionDomain", "java.security", false),
-              })
-          .put(
-              "ACCEPT_NONE",
-              new Import[] {
-                new Import("ACCEPT_NONE", "java.net.CookiePolicy", true),
-              })
-          .put(
-              "firstDayOfYear",
-              new Import[] {
-                new Import("firstDayOfYear", "java.time.temporal.TemporalAdjusters", true),
-              })
-          .put(
-              "DefaultListSelectionModel",
-              new Import[] {
-                new Import("DefaultListSelectionModel", "javax.swing", false),
-              })
-          .put(
-              "VALUE_INTERPOLATION_BICUBIC",
-              new Import[] {
-                new Import("VALUE_INTERPOLATION_BICUBIC", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "getCodebase",
-              new Import[] {
-                new Import("getCodebase", "javax.rmi.CORBA.Util", true),
-              })
-          .put(
-              "WIDTH_EXTENDED",
-              new Import[] {
-                new Import("WIDTH_EXTENDED", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "BasicLabelUI",
-              new Import[] {
-                new Import("BasicLabelUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "PKIXCertPathBuilderResult",
-              new Import[] {
-                new Import("PKIXCertPathBuilderResult", "java.security.cert", false),
-              })
-          .put(
-              "XMLDecoder",
-              new Import[] {
-                new Import("XMLDecoder", "java.beans", false),
-              })
-          .put(
-              "EOFException",
-              new Import[] {
-                new Import("EOFException", "java.io", false),
-              })
-          .put(
-              "HORIZONTAL_WRAP",
-              new Import[] {
-                new Import("HORIZONTAL_WRAP", "javax.swing.JList", true),
-              })
-          .put(
-              "TAG_BLOC",
-              new Import[] {
-                new Import("TAG_BLOC", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "TimeDefinition",
-              new Import[] {
-                new Import("TimeDefinition", "java.time.zone.ZoneOffsetTransitionRule", false),
-              })
-          .put(
-              "ISO_WEEK_DATE",
-              new Import[] {
-                new Import("ISO_WEEK_DATE", "java.time.format.DateTimeFormatter", true),
-              })
-          .put(
-              "COMPLETED_YES",
-              new Import[] {
-                new Import("COMPLETED_YES", "org.omg.CORBA.CompletionStatus", true),
-              })
-          .put(
-              "ISO_4A0",
-              new Import[] {
-                new Import("ISO_4A0", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "SOAP_SENDER_FAULT",
-              new Import[] {
-                new Import("SOAP_SENDER_FAULT", "javax.xml.soap.SOAPConstants", true),
-              })
-          .put(
-              "Media",
-              new Import[] {
-                new Import("Media", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "NumberFormatException",
-              new Import[] {
-                new Import("NumberFormatException", "java.lang", false),
-              })
-          .put(
-              "nameUUIDFromBytes",
-              new Import[] {
-                new Import("nameUUIDFromBytes", "java.util.UUID", true),
-              })
-          .put(
-              "HIERARCHY_REQUEST_ERR",
-              new Import[] {
-                new Import("HIERARCHY_REQUEST_ERR", "org.w3c.dom.DOMException", true),
-              })
-          .put(
-              "getWriterMIMETypes",
-              new Import[] {
-                new Import("getWriterMIMETypes", "javax.imageio.ImageIO", true),
-              })
-          .put(
-              "LanguageCallback",
-              new Import[] {
-                new Import("LanguageCallback", "javax.security.auth.callback", false),
-              })
-          .put(
-              "BCSSServiceProvider",
-              new Import[] {
-                new Import(
-                    "BCSSServiceProvider",
-                    "java.beans.beancontext.BeanContextServicesSupport",
-                    false),
-              })
-          .put(
-              "ROMAN_BASELINE",
-              new Import[] {
-                new Import("ROMAN_BASELINE", "java.awt.Font", true),
-                new Import("ROMAN_BASELINE", "java.awt.font.GraphicAttribute", true),
-              })
-          .put(
-              "LongFunction",
-              new Import[] {
-                new Import("LongFunction", "java.util.function", false),
-              })
-          .put(
-              "JFileChooser",
-              new Import[] {
-                new Import("JFileChooser", "javax.swing", false),
-              })
-          .put(
-              "FLOWS_TO",
-              new Import[] {
-                new Import("FLOWS_TO", "javax.accessibility.AccessibleRelation", true),
-              })
-          .put(
-              "functionNoTable",
-              new Import[] {
-                new Import("functionNoTable", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "SwingPropertyChangeSupport",
-              new Import[] {
-                new Import("SwingPropertyChangeSupport", "javax.swing.event", false),
-              })
-          .put(
-              "BasicDirectoryModel",
-              new Import[] {
-                new Import("BasicDirectoryModel", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "BaseStream",
-              new Import[] {
-                new Import("BaseStream", "java.util.stream", false),
-              })
-          .put(
-              "TemporalField",
-              new Import[] {
-                new Import("TemporalField", "java.time.temporal", false),
-              })
-          .put(
-              "CertificateExpiredException",
-              new Import[] {
-                new Import("CertificateExpiredException", "java.security.cert", false),
-                new Import("CertificateExpiredException", "javax.security.cert", false),
-              })
-          .put(
-              "DefaultListModel",
-              new Import[] {
-                new Import("DefaultListModel", "javax.swing", false),
-              })
-          .put(
-              "insert",
-              new Import[] {
-                new Import("insert", "org.omg.CORBA.AnySeqHelper", true),
-                new Import("insert", "org.omg.CORBA.BooleanSeqHelper", true),
-                new Import("insert", "org.omg.CORBA.CharSeqHelper", true),
-                new Import("insert", "org.omg.CORBA.CompletionStatusHelper", true),
-                new Import("insert", "org.omg.CORBA.CurrentHelper", true),
-                new Import("insert", "org.omg.CORBA.DefinitionKindHelper", true),
-                new Import("insert", "org.omg.CORBA.DoubleSeqHelper", true),
-                new Import("insert", "org.omg.CORBA.FieldNameHelper", true),
-                new Import("insert", "org.omg.CORBA.FloatSeqHelper", true),
-                new Import("insert", "org.omg.CORBA.IDLTypeHelper", true),
-                new Import("insert", "org.omg.CORBA.IdentifierHelper", true),
-                new Import("insert", "org.omg.CORBA.LongLongSeqHelper", true),
-                new Import("insert", "org.omg.CORBA.LongSeqHelper", true),
-                new Import("insert", "org.omg.CORBA.NameValuePairHelper", true),
-                new Import("insert", "org.omg.CORBA.ObjectHelper", true),
-                new Import("insert", "org.omg.CORBA.OctetSeqHelper", true),
-                new Import("insert", "org.omg.CORBA.ParameterModeHelper", true),
-                new Import("insert", "org.omg.CORBA.PolicyErrorCodeHelper", true),
-                new Import("insert", "org.omg.CORBA.PolicyErrorHelper", true),
-                new Import("insert", "org.omg.CORBA.PolicyHelper", true),
-                new Import("insert", "org.omg.CORBA.PolicyListHelper", true),
-                new Import("insert", "org.omg.CORBA.PolicyTypeHelper", true),
-                new Import("insert", "org.omg.CORBA.RepositoryIdHelper", true),
-                new Import("insert", "org.omg.CORBA.ServiceDetailHelper", true),
-                new Import("insert", "org.omg.CORBA.ServiceInformationHelper", true),
-                new Import("insert", "org.omg.CORBA.SetOverrideTypeHelper", true),
-                new Import("insert", "org.omg.CORBA.ShortSeqHelper", true),
-                new Import("insert", "org.omg.CORBA.StringSeqHelper", true),
-                new Import("insert", "org.omg.CORBA.StringValueHelper", true),
-                new Import("insert", "org.omg.CORBA.StructMemberHelper", true),
-                new Import("insert", "org.omg.CORBA.ULongLongSeqHelper", true),
-                new Import("insert", "org.omg.CORBA.ULongSeqHelper", true),
-                new Import("insert", "org.omg.CORBA.UShortSeqHelper", true),
-                new Import("insert", "org.omg.CORBA.UnionMemberHelper", true),
-                new Import("insert", "org.omg.CORBA.UnknownUserExceptionHelper", true),
-                new Import("insert", "org.omg.CORBA.ValueBaseHelper", true),
-                new Import("insert", "org.omg.CORBA.ValueMemberHelper", true),
-                new Import("insert", "org.omg.CORBA.VersionSpecHelper", true),
-                new Import("insert", "org.omg.CORBA.VisibilityHelper", true),
-                new Import("insert", "org.omg.CORBA.WCharSeqHelper", true),
-                new Import("insert", "org.omg.CORBA.WStringSeqHelper", true),
-                new Import("insert", "org.omg.CORBA.WStringValueHelper", true),
-                new Import("insert", "org.omg.CORBA.WrongTransactionHelper", true),
-                new Import("insert", "org.omg.CosNaming.BindingHelper", true),
-                new Import("insert", "org.omg.CosNaming.BindingIteratorHelper", true),
-                new Import("insert", "org.omg.CosNaming.BindingListHelper", true),
-                new Import("insert", "org.omg.CosNaming.BindingTypeHelper", true),
-                new Import("insert", "org.omg.CosNaming.IstringHelper", true),
-                new Import("insert", "org.omg.CosNaming.NameComponentHelper", true),
-                new Import("insert", "org.omg.CosNaming.NameHelper", true),
-                new Import("insert", "org.omg.CosNaming.NamingContextExtHelper", true),
-                new Import("insert", "org.omg.CosNaming.NamingContextHelper", true),
-                new Import(
-                    "insert", "org.omg.CosNaming.NamingContextExtPackage.AddressHelper", true),
-                new Import(
-                    "insert",
-                    "org.omg.CosNaming.NamingContextExtPackage.InvalidAddressHelper",
-                    true),
-                new Import(
-                    "insert", "org.omg.CosNaming.NamingContextExtPackage.StringNameHelper", true),
-                new Import(
-                    "insert", "org.omg.CosNaming.NamingContextExtPackage.URLStringHelper", true),
-                new Import(
-                    "insert", "org.omg.CosNaming.NamingContextPackage.AlreadyBoundHelper", true),
-                new Import(
-                    "insert", "org.omg.CosNaming.NamingContextPackage.CannotProceedHelper", true),
-                new Import(
-                    "insert", "org.omg.CosNaming.NamingContextPackage.InvalidNameHelper", true),
-                new Import("insert", "org.omg.CosNaming.NamingContextPackage.NotEmptyHelper", true),
-                new Import("insert", "org.omg.CosNaming.NamingContextPackage.NotFoundHelper", true),
-                new Import(
-                    "insert", "org.omg.CosNaming.NamingContextPackage.NotFoundReasonHelper", true),
-                new Import("insert", "org.omg.DynamicAny.AnySeqHelper", true),
-                new Import("insert", "org.omg.DynamicAny.DynAnyFactoryHelper", true),
-                new Import("insert", "org.omg.DynamicAny.DynAnyHelper", true),
-                new Import("insert", "org.omg.DynamicAny.DynAnySeqHelper", true),
-                new Import("insert", "org.omg.DynamicAny.DynArrayHelper", true),
-                new Import("insert", "org.omg.DynamicAny.DynEnumHelper", true),
-                new Import("insert", "org.omg.DynamicAny.DynFixedHelper", true),
-                new Import("insert", "org.omg.DynamicAny.DynSequenceHelper", true),
-                new Import("insert", "org.omg.DynamicAny.DynStructHelper", true),
-                new Import("insert", "org.omg.DynamicAny.DynUnionHelper", true),
-                new Import("insert", "org.omg.DynamicAny.DynValueHelper", true),
-                new Import("insert", "org.omg.DynamicAny.FieldNameHelper", true),
-                new Import("insert", "org.omg.DynamicAny.NameDynAnyPairHelper", true),
-                new Import("insert", "org.omg.DynamicAny.NameDynAnyPairSeqHelper", true),
-                new Import("insert", "org.omg.DynamicAny.NameValuePairHelper", true),
-                new Import("insert", "org.omg.DynamicAny.NameValuePairSeqHelper", true),
-                new Import(
-                    "insert",
-                    "org.omg.DynamicAny.DynAnyFactoryPackage.InconsistentTypeCodeHelper",
-                    true),
-                new Import("insert", "org.omg.DynamicAny.DynAnyPackage.InvalidValueHelper", true),
-                new Import("insert", "org.omg.DynamicAny.DynAnyPackage.TypeMismatchHelper", true),
-                new Import("insert", "org.omg.IOP.CodecFactoryHelper", true),
-                new Import("insert", "org.omg.IOP.ComponentIdHelper", true),
-                new Import("insert", "org.omg.IOP.IORHelper", true),
-                new Import("insert", "org.omg.IOP.MultipleComponentProfileHelper", true),
-                new Import("insert", "org.omg.IOP.ProfileIdHelper", true),
-                new Import("insert", "org.omg.IOP.ServiceContextHelper", true),
-                new Import("insert", "org.omg.IOP.ServiceContextListHelper", true),
-                new Import("insert", "org.omg.IOP.ServiceIdHelper", true),
-                new Import("insert", "org.omg.IOP.TaggedComponentHelper", true),
-                new Import("insert", "org.omg.IOP.TaggedProfileHelper", true),
-                new Import("insert", "org.omg.IOP.CodecFactoryPackage.UnknownEncodingHelper", true),
-                new Import("insert", "org.omg.IOP.CodecPackage.FormatMismatchHelper", true),
-                new Import("insert", "org.omg.IOP.CodecPackage.InvalidTypeForEncodingHelper", true),
-                new Import("insert", "org.omg.IOP.CodecPackage.TypeMismatchHelper", true),
-                new Import("insert", "org.omg.Messaging.SyncScopeHelper", true),
-                new Import("insert", "org.omg.PortableInterceptor.AdapterManagerIdHelper", true),
-                new Import("insert", "org.omg.PortableInterceptor.AdapterNameHelper", true),
-                new Import("insert", "org.omg.PortableInterceptor.AdapterStateHelper", true),
-                new Import("insert", "org.omg.PortableInterceptor.CurrentHelper", true),
-                new Import("insert", "org.omg.PortableInterceptor.ForwardRequestHelper", true),
-                new Import("insert", "org.omg.PortableInterceptor.IORInterceptor_3_0Helper", true),
-                new Import("insert", "org.omg.PortableInterceptor.InvalidSlotHelper", true),
-                new Import("insert", "org.omg.PortableInterceptor.ORBIdHelper", true),
-                new Import("insert", "org.omg.PortableInterceptor.ObjectIdHelper", true),
-                new Import(
-                    "insert", "org.omg.PortableInterceptor.ObjectReferenceFactoryHelper", true),
-                new Import(
-                    "insert", "org.omg.PortableInterceptor.ObjectReferenceTemplateHelper", true),
-                new Import(
-                    "insert", "org.omg.PortableInterceptor.ObjectReferenceTemplateSeqHelper", true),
-                new Import("insert", "org.omg.PortableInterceptor.ServerIdHelper", true),
-                new Import(
-                    "insert",
-                    "org.omg.PortableInterceptor.ORBInitInfoPackage.DuplicateNameHelper",
-                    true),
-                new Import(
-                    "insert",
-                    "org.omg.PortableInterceptor.ORBInitInfoPackage.InvalidNameHelper",
-                    true),
-                new Import(
-                    "insert",
-                    "org.omg.PortableInterceptor.ORBInitInfoPackage.ObjectIdHelper",
-                    true),
-                new Import("insert", "org.omg.PortableServer.CurrentHelper", true),
-                new Import("insert", "org.omg.PortableServer.ForwardRequestHelper", true),
-                new Import("insert", "org.omg.PortableServer.POAHelper", true),
-                new Import("insert", "org.omg.PortableServer.ServantActivatorHelper", true),
-                new Import("insert", "org.omg.PortableServer.ServantLocatorHelper", true),
-                new Import("insert", "org.omg.PortableServer.CurrentPackage.NoContextHelper", true),
-                new Import(
-                    "insert",
-                    "org.omg.PortableServer.POAManagerPackage.AdapterInactiveHelper",
-                    true),
-                new Import(
-                    "insert", "org.omg.PortableServer.POAPackage.AdapterAlreadyExistsHelper", true),
-                new Import(
-                    "insert", "org.omg.PortableServer.POAPackage.AdapterNonExistentHelper", true),
-                new Import("insert", "org.omg.PortableServer.POAPackage.InvalidPolicyHelper", true),
-                new Import("insert", "org.omg.PortableServer.POAPackage.NoServantHelper", true),
-                new Import(
-                    "insert", "org.omg.PortableServer.POAPackage.ObjectAlreadyActiveHelper", true),
-                new Import(
-                    "insert", "org.omg.PortableServer.POAPackage.ObjectNotActiveHelper", true),
-                new Import(
-                    "insert", "org.omg.PortableServer.POAPackage.ServantAlreadyActiveHelper", true),
-                new Import(
-                    "insert", "org.omg.PortableServer.POAPackage.ServantNotActiveHelper", true),
-                new Import("insert", "org.omg.PortableServer.POAPackage.WrongAdapterHelper", true),
-                new Import("insert", "org.omg.PortableServer.POAPackage.WrongPolicyHelper", true),
-              })
-          .put(
-              "BadPaddingException",
-              new Import[] {
-                new Import("BadPaddingException", "javax.crypto", false),
-              })
-          .put(
-              "BasicFileAttributeView",
-              new Import[] {
-                new Import("BasicFileAttributeView", "java.nio.file.attribute", false),
-              })
-          .put(
-              "SHA384",
-              new Import[] {
-                new Import("SHA384", "java.security.spec.MGF1ParameterSpec", true),
-              })
-          .put(
-              "unmodifiableSet",
-              new Import[] {
-                new Import("unmodifiableSet", "java.util.Collections", true),
-              })
-          .put(
-              "JAPANESE_DOUBLE_POSTCARD",
-              new Import[] {
-                new Import(
-                    "JAPANESE_DOUBLE_POSTCARD",
-                    "javax.print.attribute.standard.MediaSizeName",
-                    true),
-                new Import(
-                    "JAPANESE_DOUBLE_POSTCARD",
-                    "javax.print.attribute.standard.MediaSize.Other",
-                    true),
-              })
-          .put(
-              "TMONEPHASE",
-              new Import[] {
-                new Import("TMONEPHASE", "javax.transaction.xa.XAResource", true),
-              })
-          .put(
-              "DynValue",
-              new Import[] {
-                new Import("DynValue", "org.omg.CORBA", false),
-                new Import("DynValue", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "ENCLOSED_IDEOGRAPHIC_SUPPLEMENT",
-              new Import[] {
-                new Import(
-                    "ENCLOSED_IDEOGRAPHIC_SUPPLEMENT", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "tk_longlong",
-              new Import[] {
-                new Import("tk_longlong", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "RIGHT_OUTER_JOIN",
-              new Import[] {
-                new Import("RIGHT_OUTER_JOIN", "javax.sql.rowset.JoinRowSet", true),
-              })
-          .put(
-              "getAlignment",
-              new Import[] {
-                new Import("getAlignment", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "ExcC14NParameterSpec",
-              new Import[] {
-                new Import("ExcC14NParameterSpec", "javax.xml.crypto.dsig.spec", false),
-              })
-          .put(
-              "move",
-              new Import[] {
-                new Import("move", "java.nio.file.Files", true),
-              })
-          .put(
-              "rotateRight",
-              new Import[] {
-                new Import("rotateRight", "java.lang.Integer", true),
-                new Import("rotateRight", "java.lang.Long", true),
-              })
-          .put(
-              "CipherInputStream",
-              new Import[] {
-                new Import("CipherInputStream", "javax.crypto", false),
-              })
-          .put(
-              "NA_10X15_ENVELOPE",
-              new Import[] {
-                new Import("NA_10X15_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-                new Import(
-                    "NA_10X15_ENVELOPE", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import(
-                    "NA_10X15_ENVELOPE", "javax.print.attribute.standard.MediaSize.NA", true),
-              })
-          .put(
-              "TC_ENUM",
-              new Import[] {
-                new Import("TC_ENUM", "java.io.ObjectStreamConstants", true),
-              })
-          .put(
-              "HEIGHT",
-              new Import[] {
-                new Import("HEIGHT", "java.awt.image.ImageObserver", true),
-                new Import("HEIGHT", "javax.swing.SpringLayout", true),
-                new Import("HEIGHT", "javax.swing.text.html.CSS.Attribute", true),
-                new Import("HEIGHT", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "ETHIOPIC_EXTENDED_A",
-              new Import[] {
-                new Import("ETHIOPIC_EXTENDED_A", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "throwException",
-              new Import[] {
-                new Import("throwException", "java.lang.invoke.MethodHandles", true),
-              })
-          .put(
-              "DOMCryptoContext",
-              new Import[] {
-                new Import("DOMCryptoContext", "javax.xml.crypto.dom", false),
-              })
-          .put(
-              "ShortSeqHolder",
-              new Import[] {
-                new Import("ShortSeqHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "DEFAULT_LAYER",
-              new Import[] {
-                new Import("DEFAULT_LAYER", "javax.swing.JLayeredPane", true),
-              })
-          .build();
-}
@@ -1,1580 +0,0 @@
-// Code generated by GenerateStdlib.java. DO NOT EDIT.
-package com.nikodoko.javaimports.stdlib.internal.api.v8;
-
-import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
-import java.util.Map;
-
-public class Java8StdlibChunk29 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
-          .put(
-              "MAX_SURROGATE",
-              new Import[] {
-                new Import("MAX_SURROGATE", "java.lang.Character", true),
-              })
-          .put(
-              "TEXT_ALIGN",
-              new Import[] {
-                new Import("TEXT_ALIGN", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "icHdrFlags",
-              new Import[] {
-                new Import("icHdrFlags", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "icSigDeviceMfgDescTag",
-              new Import[] {
-                new Import("icSigDeviceMfgDescTag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "DECEMBER",
-              new Import[] {
-                new Import("DECEMBER", "java.util.Calendar", true),
-                new Import("DECEMBER", "javax.xml.datatype.DatatypeConstants", true),
-              })
-          .put(
-              "DEFLATED",
-              new Import[] {
-                new Import("DEFLATED", "java.util.zip.Deflater", true),
-                new Import("DEFLATED", "java.util.zip.ZipEntry", true),
-                new Import("DEFLATED", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "SystemColor",
-              new Import[] {
-                new Import("SystemColor", "java.awt", false),
-              })
-          .put(
-              "functionNullableUnknown",
-              new Import[] {
-                new Import("functionNullableUnknown", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "newPacker",
-              new Import[] {
-                new Import("newPacker", "java.util.jar.Pack200", true),
-              })
-          .put(
-              "CARIAN",
-              new Import[] {
-                new Import("CARIAN", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "US_ASCII",
-              new Import[] {
-                new Import("US_ASCII", "java.nio.charset.StandardCharsets", true),
-              })
-          .put(
-              "unmodifiableCollection",
-              new Import[] {
-                new Import("unmodifiableCollection", "java.util.Collections", true),
-              })
-          .put(
-              "CENEXT",
-              new Import[] {
-                new Import("CENEXT", "java.util.jar.JarEntry", true),
-                new Import("CENEXT", "java.util.jar.JarFile", true),
-                new Import("CENEXT", "java.util.jar.JarInputStream", true),
-                new Import("CENEXT", "java.util.jar.JarOutputStream", true),
-                new Import("CENEXT", "java.util.zip.ZipEntry", true),
-                new Import("CENEXT", "java.util.zip.ZipFile", true),
-                new Import("CENEXT", "java.util.zip.ZipInputStream", true),
-                new Import("CENEXT", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "getSubTextFont",
-              new Import[] {
-                new Import("getSubTextFont", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "icSigHead",
-              new Import[] {
-                new Import("icSigHead", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "SynthTableHeaderUI",
-              new Import[] {
-                new Import("SynthTableHeaderUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "INTERVAL_ADDED",
-              new Import[] {
-                new Import("INTERVAL_ADDED", "javax.swing.event.ListDataEvent", true),
-              })
-          .put(
-              "_PolicyStub",
-              new Import[] {
-                new Import("_PolicyStub", "org.omg.CORBA", false),
-              })
-          .put(
-              "disjoint",
-              new Import[] {
-                new Import("disjoint", "java.util.Collections", true),
-              })
-          .put(
-              "TRAILER_FIELD_BC",
-              new Import[] {
-                new Import("TRAILER_FIELD_BC", "java.security.spec.PSSParameterSpec", true),
-              })
-          .put(
-              "MutableComboBoxModel",
-              new Import[] {
-                new Import("MutableComboBoxModel", "javax.swing", false),
-              })
-          .put(
-              "WEEK_OF_MONTH_FIELD",
-              new Import[] {
-                new Import("WEEK_OF_MONTH_FIELD", "java.text.DateFormat", true),
-              })
-          .put(
-              "NOT_SPECIFIED",
-              new Import[] {
-                new Import("NOT_SPECIFIED", "javax.sound.sampled.AudioSystem", true),
-              })
-          .put(
-              "getCheckBoxMenuItemIcon",
-              new Import[] {
-                new Import(
-                    "getCheckBoxMenuItemIcon", "javax.swing.plaf.basic.BasicIconFactory", true),
-                new Import(
-                    "getCheckBoxMenuItemIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
-              })
-          .put(
-              "newBufferedReader",
-              new Import[] {
-                new Import("newBufferedReader", "java.nio.file.Files", true),
-              })
-          .put(
-              "IDLTypeHelper",
-              new Import[] {
-                new Import("IDLTypeHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "NotCompliantMBeanException",
-              new Import[] {
-                new Import("NotCompliantMBeanException", "javax.management", false),
-              })
-          .put(
-              "ListSelectionModel",
-              new Import[] {
-                new Import("ListSelectionModel", "javax.swing", false),
-              })
-          .put(
-              "RespectBinding",
-              new Import[] {
-                new Import("RespectBinding", "javax.xml.ws", false),
-              })
-          .put(
-              "FieldPosition",
-              new Import[] {
-                new Import("FieldPosition", "java.text", false),
-              })
-          .put(
-              "XMLGregorianCalendar",
-              new Import[] {
-                new Import("XMLGregorianCalendar", "javax.xml.datatype", false),
-              })
-          .put(
-              "CompoundControl",
-              new Import[] {
-                new Import("CompoundControl", "javax.sound.sampled", false),
-              })
-          .put(
-              "ServiceUI",
-              new Import[] {
-                new Import("ServiceUI", "javax.print", false),
-              })
-          .put(
-              "getDesktopIconBorder",
-              new Import[] {
-                new Import("getDesktopIconBorder", "javax.swing.plaf.metal.MetalBorders", true),
-              })
-          .put(
-              "summingInt",
-              new Import[] {
-                new Import("summingInt", "java.util.stream.Collectors", true),
-              })
-          .put(
-              "GOT_FOCUS",
-              new Import[] {
-                new Import("GOT_FOCUS", "java.awt.Event", true),
-              })
-          .put(
-              "KEY_INTERPOLATION",
-              new Import[] {
-                new Import("KEY_INTERPOLATION", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "DAY_OF_WEEK",
-              new Import[] {
-                new Import("DAY_OF_WEEK", "java.text.DateFormat.Field", true),
-                new Import("DAY_OF_WEEK", "java.util.Calendar", true),
-              })
-          .put(
-              "ContainerAdapter",
-              new Import[] {
-                new Import("ContainerAdapter", "java.awt.event", false),
-              })
-          .put(
-              "ForkJoinPool",
-              new Import[] {
-                new Import("ForkJoinPool", "java.util.concurrent", false),
-              })
-          .put(
-              "locationFor",
-              new Import[] {
-                new Import("locationFor", "javax.tools.StandardLocation", true),
-              })
-          .put(
-              "groupingBy",
-              new Import[] {
-                new Import("groupingBy", "java.util.stream.Collectors", true),
-              })
-          .put(
-              "MENU_BAR_PROPERTY",
-              new Import[] {
-                new Import("MENU_BAR_PROPERTY", "javax.swing.JInternalFrame", true),
-              })
-          .put(
-              "getControlShadow",
-              new Import[] {
-                new Import("getControlShadow", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "BAD_POLICY",
-              new Import[] {
-                new Import("BAD_POLICY", "org.omg.CORBA", false),
-              })
-          .put(
-              "ActiveEvent",
-              new Import[] {
-                new Import("ActiveEvent", "java.awt", false),
-              })
-          .put(
-              "beepAction",
-              new Import[] {
-                new Import("beepAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "ActivateFailedException",
-              new Import[] {
-                new Import("ActivateFailedException", "java.rmi.activation", false),
-              })
-          .put(
-              "Dispatch",
-              new Import[] {
-                new Import("Dispatch", "javax.xml.ws", false),
-              })
-          .put(
-              "SCROLLBARS_BOTH",
-              new Import[] {
-                new Import("SCROLLBARS_BOTH", "java.awt.TextArea", true),
-              })
-          .put(
-              "TAG_JUST",
-              new Import[] {
-                new Import("TAG_JUST", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "IntSummaryStatistics",
-              new Import[] {
-                new Import("IntSummaryStatistics", "java.util", false),
-              })
-          .put(
-              "SOAPFactory",
-              new Import[] {
-                new Import("SOAPFactory", "javax.xml.soap", false),
-              })
-          .put(
-              "SPACE",
-              new Import[] {
-                new Import("SPACE", "javax.xml.stream.XMLStreamConstants", true),
-              })
-          .put(
-              "KEY_PRESS",
-              new Import[] {
-                new Import("KEY_PRESS", "java.awt.Event", true),
-              })
-          .put(
-              "IORHolder",
-              new Import[] {
-                new Import("IORHolder", "org.omg.IOP", false),
-              })
-          .put(
-              "_tk_objref",
-              new Import[] {
-                new Import("_tk_objref", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "RSAMultiPrimePrivateCrtKeySpec",
-              new Import[] {
-                new Import("RSAMultiPrimePrivateCrtKeySpec", "java.security.spec", false),
-              })
-          .put(
-              "MBeanServerDelegate",
-              new Import[] {
-                new Import("MBeanServerDelegate", "javax.management", false),
-              })
-          .put(
-              "SO_KEEPALIVE",
-              new Import[] {
-                new Import("SO_KEEPALIVE", "java.net.SocketOptions", true),
-                new Import("SO_KEEPALIVE", "java.net.StandardSocketOptions", true),
-              })
-          .put(
-              "MultiTreeUI",
-              new Import[] {
-                new Import("MultiTreeUI", "javax.swing.plaf.multi", false),
-              })
-          .put(
-              "XMLSignContext",
-              new Import[] {
-                new Import("XMLSignContext", "javax.xml.crypto.dsig", false),
-              })
-          .put(
-              "OpenMBeanOperationInfoSupport",
-              new Import[] {
-                new Import("OpenMBeanOperationInfoSupport", "javax.management.openmbean", false),
-              })
-          .put(
-              "LINE_END",
-              new Import[] {
-                new Import("LINE_END", "java.awt.BorderLayout", true),
-                new Import("LINE_END", "java.awt.GridBagConstraints", true),
-              })
-          .put(
-              "PopupFactory",
-              new Import[] {
-                new Import("PopupFactory", "javax.swing", false),
-              })
-          .put(
-              "set",
-              new Import[] {
-                new Import("set", "java.lang.reflect.Array", true),
-              })
-          .put(
-              "VK_ASTERISK",
-              new Import[] {
-                new Import("VK_ASTERISK", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "COMPRESSION_ERROR",
-              new Import[] {
-                new Import(
-                    "COMPRESSION_ERROR", "javax.print.attribute.standard.JobStateReason", true),
-              })
-          .put(
-              "Rectangle2D",
-              new Import[] {
-                new Import("Rectangle2D", "java.awt.geom", false),
-              })
-          .put(
-              "LSSerializer",
-              new Import[] {
-                new Import("LSSerializer", "org.w3c.dom.ls", false),
-              })
-          .put(
-              "RED",
-              new Import[] {
-                new Import("RED", "java.awt.Color", true),
-              })
-          .put(
-              "MULTIPLE_ID",
-              new Import[] {
-                new Import("MULTIPLE_ID", "org.omg.PortableServer.IdUniquenessPolicyValue", true),
-              })
-          .put(
-              "CertPathBuilderSpi",
-              new Import[] {
-                new Import("CertPathBuilderSpi", "java.security.cert", false),
-              })
-          .put(
-              "NoSuchAttributeException",
-              new Import[] {
-                new Import("NoSuchAttributeException", "javax.naming.directory", false),
-              })
-          .put(
-              "REF",
-              new Import[] {
-                new Import("REF", "java.sql.Types", true),
-              })
-          .put(
-              "Year",
-              new Import[] {
-                new Import("Year", "java.time", false),
-              })
-          .put(
-              "INACTIVE",
-              new Import[] {
-                new Import("INACTIVE", "org.omg.PortableInterceptor", false),
-                new Import("INACTIVE", "org.omg.PortableServer.POAManagerPackage.State", true),
-              })
-          .put(
-              "MimeHeader",
-              new Import[] {
-                new Import("MimeHeader", "javax.xml.soap", false),
-              })
-          .put(
-              "REL",
-              new Import[] {
-                new Import("REL", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "VARBINARY",
-              new Import[] {
-                new Import("VARBINARY", "java.sql.Types", true),
-              })
-          .put(
-              "SEVERITY_FATAL_ERROR",
-              new Import[] {
-                new Import("SEVERITY_FATAL_ERROR", "org.w3c.dom.DOMError", true),
-              })
-          .put(
-              "InvokeHandler",
-              new Import[] {
-                new Import("InvokeHandler", "org.omg.CORBA.portable", false),
-              })
-          .put(
-              "nextWordAction",
-              new Import[] {
-                new Import("nextWordAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "AnnotatedTypeVariable",
-              new Import[] {
-                new Import("AnnotatedTypeVariable", "java.lang.reflect", false),
-              })
-          .put(
-              "drawGroove",
-              new Import[] {
-                new Import("drawGroove", "javax.swing.plaf.basic.BasicGraphicsUtils", true),
-              })
-          .put(
-              "_DynStructStub",
-              new Import[] {
-                new Import("_DynStructStub", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "SQLWarning",
-              new Import[] {
-                new Import("SQLWarning", "java.sql", false),
-              })
-          .put(
-              "REV",
-              new Import[] {
-                new Import("REV", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "VK_DEAD_SEMIVOICED_SOUND",
-              new Import[] {
-                new Import("VK_DEAD_SEMIVOICED_SOUND", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "GaugeMonitor",
-              new Import[] {
-                new Import("GaugeMonitor", "javax.management.monitor", false),
-              })
-          .put(
-              "NullCipher",
-              new Import[] {
-                new Import("NullCipher", "javax.crypto", false),
-              })
-          .put(
-              "LineBorderUIResource",
-              new Import[] {
-                new Import("LineBorderUIResource", "javax.swing.plaf.BorderUIResource", false),
-              })
-          .put(
-              "ORBInitializer",
-              new Import[] {
-                new Import("ORBInitializer", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "IIOImage",
-              new Import[] {
-                new Import("IIOImage", "javax.imageio", false),
-              })
-          .put(
-              "TYPE_YCbCr",
-              new Import[] {
-                new Import("TYPE_YCbCr", "java.awt.color.ColorSpace", true),
-              })
-          .put(
-              "SynthMenuUI",
-              new Import[] {
-                new Import("SynthMenuUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "RMIServerSocketFactory",
-              new Import[] {
-                new Import("RMIServerSocketFactory", "java.rmi.server", false),
-              })
-          .put(
-              "FileChooserUI",
-              new Import[] {
-                new Import("FileChooserUI", "javax.swing.plaf", false),
-              })
-          .put(
-              "STOPPING",
-              new Import[] {
-                new Import("STOPPING", "javax.print.attribute.standard.PrinterStateReason", true),
-              })
-          .put(
-              "SOAPACTION_USE_PROPERTY",
-              new Import[] {
-                new Import("SOAPACTION_USE_PROPERTY", "javax.xml.ws.BindingProvider", true),
-              })
-          .put(
-              "digit",
-              new Import[] {
-                new Import("digit", "java.lang.Character", true),
-              })
-          .put(
-              "JOB_CANCELED_AT_DEVICE",
-              new Import[] {
-                new Import(
-                    "JOB_CANCELED_AT_DEVICE",
-                    "javax.print.attribute.standard.JobStateReason",
-                    true),
-              })
-          .put(
-              "getDefaultAllowUserInteraction",
-              new Import[] {
-                new Import("getDefaultAllowUserInteraction", "java.net.URLConnection", true),
-              })
-          .put(
-              "ServantActivator",
-              new Import[] {
-                new Import("ServantActivator", "org.omg.PortableServer", false),
-              })
-          .put(
-              "INFORMATION",
-              new Import[] {
-                new Import(
-                    "INFORMATION", "javax.security.auth.callback.ConfirmationCallback", true),
-                new Import("INFORMATION", "javax.security.auth.callback.TextOutputCallback", true),
-              })
-          .put(
-              "Color",
-              new Import[] {
-                new Import("Color", "java.awt", false),
-              })
-          .put(
-              "DataLine",
-              new Import[] {
-                new Import("DataLine", "javax.sound.sampled", false),
-              })
-          .put(
-              "Duration",
-              new Import[] {
-                new Import("Duration", "java.time", false),
-                new Import("Duration", "javax.xml.datatype", false),
-              })
-          .put(
-              "URI_NS_SOAP_1_1_ENVELOPE",
-              new Import[] {
-                new Import("URI_NS_SOAP_1_1_ENVELOPE", "javax.xml.soap.SOAPConstants", true),
-              })
-          .put(
-              "icSigGrayData",
-              new Import[] {
-                new Import("icSigGrayData", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "COMBINING_DIACRITICAL_MARKS_SUPPLEMENT",
-              new Import[] {
-                new Import(
-                    "COMBINING_DIACRITICAL_MARKS_SUPPLEMENT",
-                    "java.lang.Character.UnicodeBlock",
-                    true),
-              })
-          .put(
-              "OUTLINE_DRAG_MODE",
-              new Import[] {
-                new Import("OUTLINE_DRAG_MODE", "javax.swing.JDesktopPane", true),
-              })
-          .put(
-              "getCheckBoxIcon",
-              new Import[] {
-                new Import("getCheckBoxIcon", "javax.swing.plaf.basic.BasicIconFactory", true),
-                new Import("getCheckBoxIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
-              })
-          .put(
-              "LSInput",
-              new Import[] {
-                new Import("LSInput", "org.w3c.dom.ls", false),
-              })
-          .put(
-              "getBeanInfoSearchPath",
-              new Import[] {
-                new Import("getBeanInfoSearchPath", "java.beans.Introspector", true),
-              })
-          .put(
-              "_tk_struct",
-              new Import[] {
-                new Import("_tk_struct", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "TRANSACTION_REQUIRED",
-              new Import[] {
-                new Import("TRANSACTION_REQUIRED", "org.omg.CORBA", false),
-              })
-          .put(
-              "DTDHandler",
-              new Import[] {
-                new Import("DTDHandler", "org.xml.sax", false),
-              })
-          .put(
-              "SEPARATE_DOCUMENTS_COLLATED_COPIES",
-              new Import[] {
-                new Import(
-                    "SEPARATE_DOCUMENTS_COLLATED_COPIES",
-                    "java.awt.JobAttributes.MultipleDocumentHandlingType",
-                    true),
-                new Import(
-                    "SEPARATE_DOCUMENTS_COLLATED_COPIES",
-                    "javax.print.attribute.standard.MultipleDocumentHandling",
-                    true),
-              })
-          .put(
-              "Listener",
-              new Import[] {
-                new Import("Listener", "javax.xml.bind.Marshaller", false),
-                new Import("Listener", "javax.xml.bind.Unmarshaller", false),
-              })
-          .put(
-              "LOAD",
-              new Import[] {
-                new Import("LOAD", "java.awt.FileDialog", true),
-              })
-          .put(
-              "CheckboxGroup",
-              new Import[] {
-                new Import("CheckboxGroup", "java.awt", false),
-              })
-          .put(
-              "createGlue",
-              new Import[] {
-                new Import("createGlue", "javax.swing.Box", true),
-              })
-          .put(
-              "EDGE_STITCH_TOP",
-              new Import[] {
-                new Import("EDGE_STITCH_TOP", "javax.print.attribute.standard.Finishings", true),
-              })
-          .put(
-              "ClientRequestInfo",
-              new Import[] {
-                new Import("ClientRequestInfo", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "getFloat",
-              new Import[] {
-                new Import("getFloat", "java.lang.reflect.Array", true),
-              })
-          .put(
-              "RefAddr",
-              new Import[] {
-                new Import("RefAddr", "javax.naming", false),
-              })
-          .put(
-              "NW_RESIZE_CURSOR",
-              new Import[] {
-                new Import("NW_RESIZE_CURSOR", "java.awt.Cursor", true),
-                new Import("NW_RESIZE_CURSOR", "java.awt.Frame", true),
-              })
-          .put(
-              "SET_OVERRIDE",
-              new Import[] {
-                new Import("SET_OVERRIDE", "org.omg.CORBA.SetOverrideType", true),
-              })
-          .put(
-              "getAvailableZoneIds",
-              new Import[] {
-                new Import("getAvailableZoneIds", "java.time.ZoneId", true),
-                new Import("getAvailableZoneIds", "java.time.zone.ZoneRulesProvider", true),
-              })
-          .put(
-              "SYNC_FLUSH",
-              new Import[] {
-                new Import("SYNC_FLUSH", "java.util.zip.Deflater", true),
-              })
-          .put(
-              "Relation",
-              new Import[] {
-                new Import("Relation", "javax.management.relation", false),
-              })
-          .put(
-              "ROWSET_SYNC_VENDOR",
-              new Import[] {
-                new Import("ROWSET_SYNC_VENDOR", "javax.sql.rowset.spi.SyncFactory", true),
-              })
-          .put(
-              "TYPE_INT_ARGB",
-              new Import[] {
-                new Import("TYPE_INT_ARGB", "java.awt.image.BufferedImage", true),
-              })
-          .put(
-              "getSystemTextFont",
-              new Import[] {
-                new Import("getSystemTextFont", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "DatatypeConstants",
-              new Import[] {
-                new Import("DatatypeConstants", "javax.xml.datatype", false),
-              })
-          .put(
-              "javaSerializedObjectMimeType",
-              new Import[] {
-                new Import(
-                    "javaSerializedObjectMimeType", "java.awt.datatransfer.DataFlavor", true),
-              })
-          .put(
-              "TIBETAN",
-              new Import[] {
-                new Import("TIBETAN", "java.awt.font.NumericShaper", true),
-                new Import("TIBETAN", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "sin",
-              new Import[] {
-                new Import("sin", "java.lang.Math", true),
-                new Import("sin", "java.lang.StrictMath", true),
-              })
-          .put(
-              "OK_OPTION",
-              new Import[] {
-                new Import("OK_OPTION", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "ACTION_INSERT_AFTER",
-              new Import[] {
-                new Import("ACTION_INSERT_AFTER", "org.w3c.dom.ls.LSParser", true),
-              })
-          .put(
-              "RealmChoiceCallback",
-              new Import[] {
-                new Import("RealmChoiceCallback", "javax.security.sasl", false),
-              })
-          .put(
-              "COMPONENT_REMOVED",
-              new Import[] {
-                new Import("COMPONENT_REMOVED", "java.awt.event.ContainerEvent", true),
-              })
-          .put(
-              "getEditorKitClassNameForContentType",
-              new Import[] {
-                new Import("getEditorKitClassNameForContentType", "javax.swing.JEditorPane", true),
-              })
-          .put(
-              "DropTargetContext",
-              new Import[] {
-                new Import("DropTargetContext", "java.awt.dnd", false),
-              })
-          .put(
-              "Stub",
-              new Import[] {
-                new Import("Stub", "javax.rmi.CORBA", false),
-              })
-          .put(
-              "AWTPermission",
-              new Import[] {
-                new Import("AWTPermission", "java.awt", false),
-              })
-          .put(
-              "CTRL_DOWN_MASK",
-              new Import[] {
-                new Import("CTRL_DOWN_MASK", "java.awt.event.InputEvent", true),
-              })
-          .put(
-              "CompositeContext",
-              new Import[] {
-                new Import("CompositeContext", "java.awt", false),
-              })
-          .put(
-              "BasicListUI",
-              new Import[] {
-                new Import("BasicListUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "fromString",
-              new Import[] {
-                new Import("fromString", "java.nio.file.attribute.PosixFilePermissions", true),
-                new Import("fromString", "java.util.UUID", true),
-              })
-          .put(
-              "FilterOutputStream",
-              new Import[] {
-                new Import("FilterOutputStream", "java.io", false),
-              })
-          .put(
-              "CS_CIEXYZ",
-              new Import[] {
-                new Import("CS_CIEXYZ", "java.awt.color.ColorSpace", true),
-              })
-          .put(
-              "VK_2",
-              new Import[] {
-                new Import("VK_2", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "WebRowSet",
-              new Import[] {
-                new Import("WebRowSet", "javax.sql.rowset", false),
-              })
-          .put(
-              "VK_3",
-              new Import[] {
-                new Import("VK_3", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "QUESTION_MESSAGE",
-              new Import[] {
-                new Import("QUESTION_MESSAGE", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "IconView",
-              new Import[] {
-                new Import("IconView", "javax.swing.text", false),
-              })
-          .put(
-              "VK_4",
-              new Import[] {
-                new Import("VK_4", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "OpenType",
-              new Import[] {
-                new Import("OpenType", "java.awt.font", false),
-                new Import("OpenType", "javax.management.openmbean", false),
-              })
-          .put(
-              "VK_5",
-              new Import[] {
-                new Import("VK_5", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "_dk_Interface",
-              new Import[] {
-                new Import("_dk_Interface", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "VK_6",
-              new Import[] {
-                new Import("VK_6", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_ALPHANUMERIC",
-              new Import[] {
-                new Import("VK_ALPHANUMERIC", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "AccessibleStateSet",
-              new Import[] {
-                new Import("AccessibleStateSet", "javax.accessibility", false),
-              })
-          .put(
-              "VK_7",
-              new Import[] {
-                new Import("VK_7", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "codePointAt",
-              new Import[] {
-                new Import("codePointAt", "java.lang.Character", true),
-              })
-          .put(
-              "VK_8",
-              new Import[] {
-                new Import("VK_8", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_9",
-              new Import[] {
-                new Import("VK_9", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "defaultKeyTypedAction",
-              new Import[] {
-                new Import("defaultKeyTypedAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "TEXT",
-              new Import[] {
-                new Import("TEXT", "java.awt.SystemColor", true),
-                new Import("TEXT", "javax.accessibility.AccessibleRole", true),
-                new Import("TEXT", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "HALFWIDTH_AND_FULLWIDTH_FORMS",
-              new Import[] {
-                new Import(
-                    "HALFWIDTH_AND_FULLWIDTH_FORMS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "getPrimaryControlHighlight",
-              new Import[] {
-                new Import(
-                    "getPrimaryControlHighlight", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "Image",
-              new Import[] {
-                new Import("Image", "java.awt", false),
-              })
-          .put(
-              "VK_0",
-              new Import[] {
-                new Import("VK_0", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "createFile",
-              new Import[] {
-                new Import("createFile", "java.nio.file.Files", true),
-              })
-          .put(
-              "VK_1",
-              new Import[] {
-                new Import("VK_1", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "CONTROL_CHANGE",
-              new Import[] {
-                new Import("CONTROL_CHANGE", "javax.sound.midi.ShortMessage", true),
-              })
-          .put(
-              "VK_B",
-              new Import[] {
-                new Import("VK_B", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "parseUnsignedLong",
-              new Import[] {
-                new Import("parseUnsignedLong", "java.lang.Long", true),
-              })
-          .put(
-              "VK_C",
-              new Import[] {
-                new Import("VK_C", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "JavaFileObject",
-              new Import[] {
-                new Import("JavaFileObject", "javax.tools", false),
-              })
-          .put(
-              "VK_D",
-              new Import[] {
-                new Import("VK_D", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "SLIDER",
-              new Import[] {
-                new Import("SLIDER", "javax.accessibility.AccessibleRole", true),
-                new Import("SLIDER", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "SyncProviderException",
-              new Import[] {
-                new Import("SyncProviderException", "javax.sql.rowset.spi", false),
-              })
-          .put(
-              "VK_E",
-              new Import[] {
-                new Import("VK_E", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_F",
-              new Import[] {
-                new Import("VK_F", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_G",
-              new Import[] {
-                new Import("VK_G", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "sqrt",
-              new Import[] {
-                new Import("sqrt", "java.lang.Math", true),
-                new Import("sqrt", "java.lang.StrictMath", true),
-              })
-          .put(
-              "VK_H",
-              new Import[] {
-                new Import("VK_H", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_I",
-              new Import[] {
-                new Import("VK_I", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "PADDING_TOP",
-              new Import[] {
-                new Import("PADDING_TOP", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "VK_HIRAGANA",
-              new Import[] {
-                new Import("VK_HIRAGANA", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "getToggleButtonBorder",
-              new Import[] {
-                new Import("getToggleButtonBorder", "javax.swing.plaf.basic.BasicBorders", true),
-                new Import("getToggleButtonBorder", "javax.swing.plaf.metal.MetalBorders", true),
-              })
-          .put(
-              "FILTER_REJECT",
-              new Import[] {
-                new Import("FILTER_REJECT", "org.w3c.dom.ls.LSParserFilter", true),
-              })
-          .put(
-              "VK_A",
-              new Import[] {
-                new Import("VK_A", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "icHdrColorSpace",
-              new Import[] {
-                new Import("icHdrColorSpace", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "FlavorMap",
-              new Import[] {
-                new Import("FlavorMap", "java.awt.datatransfer", false),
-              })
-          .put(
-              "LESS_THAN_MIN_ROLE_DEGREE",
-              new Import[] {
-                new Import(
-                    "LESS_THAN_MIN_ROLE_DEGREE", "javax.management.relation.RoleStatus", true),
-              })
-          .put(
-              "NO_MEMORY",
-              new Import[] {
-                new Import("NO_MEMORY", "org.omg.CORBA", false),
-              })
-          .put(
-              "ACCEPT_ALL_FILE_FILTER_USED_CHANGED_PROPERTY",
-              new Import[] {
-                new Import(
-                    "ACCEPT_ALL_FILE_FILTER_USED_CHANGED_PROPERTY",
-                    "javax.swing.JFileChooser",
-                    true),
-              })
-          .put(
-              "toDegrees",
-              new Import[] {
-                new Import("toDegrees", "java.lang.Math", true),
-                new Import("toDegrees", "java.lang.StrictMath", true),
-              })
-          .put(
-              "BasicMenuItemUI",
-              new Import[] {
-                new Import("BasicMenuItemUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "getInt",
-              new Import[] {
-                new Import("getInt", "java.lang.reflect.Array", true),
-                new Import("getInt", "javax.swing.UIManager", true),
-              })
-          .put(
-              "RadioButtonBorder",
-              new Import[] {
-                new Import("RadioButtonBorder", "javax.swing.plaf.basic.BasicBorders", false),
-              })
-          .put(
-              "ServiceInformationHelper",
-              new Import[] {
-                new Import("ServiceInformationHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "CompletionService",
-              new Import[] {
-                new Import("CompletionService", "java.util.concurrent", false),
-              })
-          .put(
-              "isInstanceOf",
-              new Import[] {
-                new Import("isInstanceOf", "java.beans.Beans", true),
-                new Import("isInstanceOf", "javax.management.Query", true),
-              })
-          .put(
-              "ServerCloneException",
-              new Import[] {
-                new Import("ServerCloneException", "java.rmi.server", false),
-              })
-          .put(
-              "DST_IN",
-              new Import[] {
-                new Import("DST_IN", "java.awt.AlphaComposite", true),
-              })
-          .put(
-              "RMIServerImpl_Stub",
-              new Import[] {
-                new Import("RMIServerImpl_Stub", "javax.management.remote.rmi", false),
-              })
-          .put(
-              "MirroredTypesException",
-              new Import[] {
-                new Import("MirroredTypesException", "javax.lang.model.type", false),
-              })
-          .put(
-              "Frame",
-              new Import[] {
-                new Import("Frame", "java.awt", false),
-              })
-          .put(
-              "newKeySet",
-              new Import[] {
-                new Import("newKeySet", "java.util.concurrent.ConcurrentHashMap", true),
-              })
-          .put(
-              "DATATYPE_BOOLEAN",
-              new Import[] {
-                new Import("DATATYPE_BOOLEAN", "javax.imageio.metadata.IIOMetadataFormat", true),
-              })
-          .put(
-              "DHParameterSpec",
-              new Import[] {
-                new Import("DHParameterSpec", "javax.crypto.spec", false),
-              })
-          .put(
-              "PADDING",
-              new Import[] {
-                new Import("PADDING", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "LABEL_FOR",
-              new Import[] {
-                new Import("LABEL_FOR", "javax.accessibility.AccessibleRelation", true),
-              })
-          .put(
-              "FloatControl",
-              new Import[] {
-                new Import("FloatControl", "javax.sound.sampled", false),
-              })
-          .put(
-              "TOOL_TIP",
-              new Import[] {
-                new Import("TOOL_TIP", "javax.accessibility.AccessibleRole", true),
-                new Import("TOOL_TIP", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "Bindings",
-              new Import[] {
-                new Import("Bindings", "javax.script", false),
-              })
-          .put(
-              "XA_NOMIGRATE",
-              new Import[] {
-                new Import("XA_NOMIGRATE", "javax.transaction.xa.XAException", true),
-              })
-          .put(
-              "BAD_NAME",
-              new Import[] {
-                new Import("BAD_NAME", "org.ietf.jgss.GSSException", true),
-              })
-          .put(
-              "VK_PERIOD",
-              new Import[] {
-                new Import("VK_PERIOD", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "UnrecoverableKeyException",
-              new Import[] {
-                new Import("UnrecoverableKeyException", "java.security", false),
-              })
-          .put(
-              "DocumentationTool",
-              new Import[] {
-                new Import("DocumentationTool", "javax.tools", false),
-              })
-          .put(
-              "WCharSeqHelper",
-              new Import[] {
-                new Import("WCharSeqHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "Supplier",
-              new Import[] {
-                new Import("Supplier", "java.util.function", false),
-              })
-          .put(
-              "ACCESSIBLE_TABLE_COLUMN_DESCRIPTION_CHANGED",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_TABLE_COLUMN_DESCRIPTION_CHANGED",
-                    "javax.accessibility.AccessibleContext",
-                    true),
-              })
-          .put(
-              "SecurityPermission",
-              new Import[] {
-                new Import("SecurityPermission", "java.security", false),
-              })
-          .put(
-              "VK_R",
-              new Import[] {
-                new Import("VK_R", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_S",
-              new Import[] {
-                new Import("VK_S", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_T",
-              new Import[] {
-                new Import("VK_T", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_U",
-              new Import[] {
-                new Import("VK_U", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_V",
-              new Import[] {
-                new Import("VK_V", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_W",
-              new Import[] {
-                new Import("VK_W", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "setCurrentManager",
-              new Import[] {
-                new Import("setCurrentManager", "javax.swing.FocusManager", true),
-                new Import("setCurrentManager", "javax.swing.RepaintManager", true),
-              })
-          .put(
-              "SOAP_ENV_PREFIX",
-              new Import[] {
-                new Import("SOAP_ENV_PREFIX", "javax.xml.soap.SOAPConstants", true),
-              })
-          .put(
-              "VK_X",
-              new Import[] {
-                new Import("VK_X", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_Y",
-              new Import[] {
-                new Import("VK_Y", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "methodsIn",
-              new Import[] {
-                new Import("methodsIn", "javax.lang.model.util.ElementFilter", true),
-              })
-          .put(
-              "VK_J",
-              new Import[] {
-                new Import("VK_J", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_K",
-              new Import[] {
-                new Import("VK_K", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "TC_OBJECT",
-              new Import[] {
-                new Import("TC_OBJECT", "java.io.ObjectStreamConstants", true),
-              })
-          .put(
-              "anyOf",
-              new Import[] {
-                new Import("anyOf", "java.util.concurrent.CompletableFuture", true),
-              })
-          .put(
-              "PROCESSING_STOPPED",
-              new Import[] {
-                new Import("PROCESSING_STOPPED", "javax.print.attribute.standard.JobState", true),
-              })
-          .put(
-              "VK_L",
-              new Import[] {
-                new Import("VK_L", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_M",
-              new Import[] {
-                new Import("VK_M", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "BindingProvider",
-              new Import[] {
-                new Import("BindingProvider", "javax.xml.ws", false),
-              })
-          .put(
-              "VK_N",
-              new Import[] {
-                new Import("VK_N", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_O",
-              new Import[] {
-                new Import("VK_O", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "IdAssignmentPolicy",
-              new Import[] {
-                new Import("IdAssignmentPolicy", "org.omg.PortableServer", false),
-              })
-          .put(
-              "VK_P",
-              new Import[] {
-                new Import("VK_P", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_Q",
-              new Import[] {
-                new Import("VK_Q", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "StringTokenizer",
-              new Import[] {
-                new Import("StringTokenizer", "java.util", false),
-              })
-          .put(
-              "Destroyable",
-              new Import[] {
-                new Import("Destroyable", "javax.security.auth", false),
-              })
-          .put(
-              "getDefaultRequestProperty",
-              new Import[] {
-                new Import("getDefaultRequestProperty", "java.net.URLConnection", true),
-              })
-          .put(
-              "ISO_ORDINAL_DATE",
-              new Import[] {
-                new Import("ISO_ORDINAL_DATE", "java.time.format.DateTimeFormatter", true),
-              })
-          .put(
-              "currentTimeMillis",
-              new Import[] {
-                new Import("currentTimeMillis", "java.lang.System", true),
-              })
-          .put(
-              "SQLIntegrityConstraintViolationException",
-              new Import[] {
-                new Import("SQLIntegrityConstraintViolationException", "java.sql", false),
-              })
-          .put(
-              "VK_Z",
-              new Import[] {
-                new Import("VK_Z", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "icRelativeColorimetric",
-              new Import[] {
-                new Import("icRelativeColorimetric", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "DATASOURCE_NO_LOCK",
-              new Import[] {
-                new Import("DATASOURCE_NO_LOCK", "javax.sql.rowset.spi.SyncProvider", true),
-              })
-          .put(
-              "KEY_ACTION_RELEASE",
-              new Import[] {
-                new Import("KEY_ACTION_RELEASE", "java.awt.Event", true),
-              })
-          .put(
-              "SynthConstants",
-              new Import[] {
-                new Import("SynthConstants", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "ROWSPAN",
-              new Import[] {
-                new Import("ROWSPAN", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "shuffle",
-              new Import[] {
-                new Import("shuffle", "java.util.Collections", true),
-              })
-          .put(
-              "Transform",
-              new Import[] {
-                new Import("Transform", "javax.xml.crypto.dsig", false),
-              })
-          .put(
-              "MARGINHEIGHT",
-              new Import[] {
-                new Import("MARGINHEIGHT", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "Locale",
-              new Import[] {
-                new Import("Locale", "java.util", false),
-              })
-          .put(
-              "ALL",
-              new Import[] {
-                new Import("ALL", "java.awt.JobAttributes.DefaultSelectionType", true),
-                new Import("ALL", "java.util.logging.Level", true),
-              })
-          .put(
-              "SocketException",
-              new Import[] {
-                new Import("SocketException", "java.net", false),
-              })
-          .put(
-              "constant",
-              new Import[] {
-                new Import("constant", "java.lang.invoke.MethodHandles", true),
-                new Import("constant", "javax.swing.Spring", true),
-              })
-          .put(
-              "OfLong",
-              new Import[] {
-                new Import("OfLong", "java.util.PrimitiveIterator", false),
-                new Import("OfLong", "java.util.Spliterator", false),
-              })
-          .put(
-              "MIN_LOW_SURROGATE",
-              new Import[] {
-                new Import("MIN_LOW_SURROGATE", "java.lang.Character", true),
-              })
-          .put(
-              "MLetContent",
-              new Import[] {
-                new Import("MLetContent", "javax.management.loading", false),
-              })
-          .put(
-              "getLookAndFeel",
-              new Import[] {
-                new Import("getLookAndFeel", "javax.swing.UIManager", true),
-              })
-          .put(
-              "ONE_WEEK",
-              new Import[] {
-                new Import("ONE_WEEK", "javax.management.timer.Timer", true),
-              })
-          .put(
-              "ALT",
-              new Import[] {
-                new Import("ALT", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "printByte",
-              new Import[] {
-                new Import("printByte", "javax.xml.bind.DatatypeConverter", true),
-              })
-          .put(
-              "STRING_TO_COMPARE_VALUE_DIFFERED",
-              new Import[] {
-                new Import(
-                    "STRING_TO_COMPARE_VALUE_DIFFERED",
-                    "javax.management.monitor.MonitorNotification",
-                    true),
-              })
-          .put(
-              "ServantNotActive",
-              new Import[] {
-                new Import("ServantNotActive", "org.omg.PortableServer.POAPackage", false),
-              })
-          .put(
-              "createDisabledImage",
-              new Import[] {
-                new Import("createDisabledImage", "javax.swing.GrayFilter", true),
-              })
-          .put(
-              "tableIndexOther",
-              new Import[] {
-                new Import("tableIndexOther", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "BreakIterator",
-              new Import[] {
-                new Import("BreakIterator", "java.text", false),
-              })
-          .put(
-              "OLD_SOUTH_ARABIAN",
-              new Import[] {
-                new Import("OLD_SOUTH_ARABIAN", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "AccessControlContext",
-              new Import[] {
-                new Import("AccessControlContext", "java.security", false),
-              })
-          .put(
-              "LAYOUT_NO_START_CONTEXT",
-              new Import[] {
-                new Import("LAYOUT_NO_START_CONTEXT", "java.awt.Font", true),
-              })
-          .put(
-              "BlockingDeque",
-              new Import[] {
-                new Import("BlockingDeque", "java.util.concurrent", false),
-              })
-          .put(
-              "getGlobal",
-              new Import[] {
-                new Import("getGlobal", "java.util.logging.Logger", true),
-              })
-          .put(
-              "MAIN",
-              new Import[] {
-                new Import("MAIN", "javax.print.attribute.standard.MediaTray", true),
-              })
-          .put(
-              "setDefaultLightWeightPopupEnabled",
-              new Import[] {
-                new Import("setDefaultLightWeightPopupEnabled", "javax.swing.JPopupMenu", true),
-              })
-          .put(
-              "Kernel",
-              new Import[] {
-                new Import("Kernel", "java.awt.image", false),
-              })
-          .put(
-              "SimpleBeanInfo",
-              new Import[] {
-                new Import("SimpleBeanInfo", "java.beans", false),
-              })
-          .put(
-              "wrapperInstanceType",
-              new Import[] {
-                new Import("wrapperInstanceType", "java.lang.invoke.MethodHandleProxies", true),
-              })
-          .put(
-              "getPackage",
-              new Import[] {
-                new Import("getPackage", "java.lang.Package", true),
-              })
-          .put(
-              "parameterNullable",
-              new Import[] {
-                new Import("parameterNullable", "java.sql.ParameterMetaData", true),
-              })
-          .put(
-              "UNIT_DECREMENT",
-              new Import[] {
-                new Import("UNIT_DECREMENT", "java.awt.event.AdjustmentEvent", true),
-              })
-          .put(
-              "NEVER_UPDATE",
-              new Import[] {
-                new Import("NEVER_UPDATE", "javax.swing.text.DefaultCaret", true),
-              })
-          .put(
-              "ERROR_DIALOG",
-              new Import[] {
-                new Import("ERROR_DIALOG", "javax.swing.JRootPane", true),
-              })
-          .build();
-}
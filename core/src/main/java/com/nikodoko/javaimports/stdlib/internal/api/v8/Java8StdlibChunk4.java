@@ -1,1586 +0,0 @@
-// Code generated by GenerateStdlib.java. DO NOT EDIT.
-package com.nikodoko.javaimports.stdlib.internal.api.v8;
-
-import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
-import java.util.Map;
-
-public class Java8StdlibChunk4 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
-          .put(
-              "icHdrIlluminant",
-              new Import[] {
-                new Import("icHdrIlluminant", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "NO_PROXY",
-              new Import[] {
-                new Import("NO_PROXY", "java.net.Proxy", true),
-              })
-          .put(
-              "CallbackHandler",
-              new Import[] {
-                new Import("CallbackHandler", "javax.security.auth.callback", false),
-              })
-          .put(
-              "FRAME_ICON_PROPERTY",
-              new Import[] {
-                new Import("FRAME_ICON_PROPERTY", "javax.swing.JInternalFrame", true),
-              })
-          .put(
-              "OUT_TOP",
-              new Import[] {
-                new Import("OUT_TOP", "java.awt.geom.Rectangle2D", true),
-              })
-          .put(
-              "MinguoEra",
-              new Import[] {
-                new Import("MinguoEra", "java.time.chrono", false),
-              })
-          .put(
-              "BC",
-              new Import[] {
-                new Import("BC", "java.util.GregorianCalendar", true),
-              })
-          .put(
-              "SOUTHWEST",
-              new Import[] {
-                new Import("SOUTHWEST", "java.awt.GridBagConstraints", true),
-              })
-          .put(
-              "_INACTIVE",
-              new Import[] {
-                new Import("_INACTIVE", "org.omg.PortableServer.POAManagerPackage.State", true),
-              })
-          .put(
-              "decapitalize",
-              new Import[] {
-                new Import("decapitalize", "java.beans.Introspector", true),
-              })
-          .put(
-              "createLoweredSoftBevelBorder",
-              new Import[] {
-                new Import("createLoweredSoftBevelBorder", "javax.swing.BorderFactory", true),
-              })
-          .put(
-              "C0",
-              new Import[] {
-                new Import("C0", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "HALFWIDTH_KATAKANA",
-              new Import[] {
-                new Import("HALFWIDTH_KATAKANA", "java.awt.im.InputSubset", true),
-              })
-          .put(
-              "IS_SELECTED_PROPERTY",
-              new Import[] {
-                new Import("IS_SELECTED_PROPERTY", "javax.swing.JInternalFrame", true),
-              })
-          .put(
-              "C1",
-              new Import[] {
-                new Import("C1", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "PREVIOUS",
-              new Import[] {
-                new Import("PREVIOUS", "javax.swing.SwingConstants", true),
-              })
-          .put(
-              "C2",
-              new Import[] {
-                new Import("C2", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "Collator",
-              new Import[] {
-                new Import("Collator", "java.text", false),
-              })
-          .put(
-              "C3",
-              new Import[] {
-                new Import("C3", "java.awt.PageAttributes.MediaType", true),
-                new Import("C3", "javax.print.attribute.standard.MediaSize.ISO", true),
-              })
-          .put(
-              "BR",
-              new Import[] {
-                new Import("BR", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "C4",
-              new Import[] {
-                new Import("C4", "java.awt.PageAttributes.MediaType", true),
-                new Import("C4", "javax.print.attribute.standard.MediaSize.ISO", true),
-              })
-          .put(
-              "C5",
-              new Import[] {
-                new Import("C5", "java.awt.PageAttributes.MediaType", true),
-                new Import("C5", "javax.print.attribute.standard.MediaSize.ISO", true),
-              })
-          .put(
-              "C6",
-              new Import[] {
-                new Import("C6", "java.awt.PageAttributes.MediaType", true),
-                new Import("C6", "javax.print.attribute.standard.MediaSize.ISO", true),
-              })
-          .put(
-              "createHTMLView",
-              new Import[] {
-                new Import("createHTMLView", "javax.swing.plaf.basic.BasicHTML", true),
-              })
-          .put(
-              "C7",
-              new Import[] {
-                new Import("C7", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "C8",
-              new Import[] {
-                new Import("C8", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "INVALID_CHARACTER_ERR",
-              new Import[] {
-                new Import("INVALID_CHARACTER_ERR", "org.w3c.dom.DOMException", true),
-              })
-          .put(
-              "C9",
-              new Import[] {
-                new Import("C9", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "NA_10x13_ENVELOPE",
-              new Import[] {
-                new Import(
-                    "NA_10x13_ENVELOPE", "javax.print.attribute.standard.MediaSize.NA", true),
-              })
-          .put(
-              "SHOWA",
-              new Import[] {
-                new Import("SHOWA", "java.time.chrono.JapaneseEra", true),
-              })
-          .put(
-              "PCM_UNSIGNED",
-              new Import[] {
-                new Import("PCM_UNSIGNED", "javax.sound.sampled.AudioFormat.Encoding", true),
-              })
-          .put(
-              "CONVERTED_TEXT",
-              new Import[] {
-                new Import("CONVERTED_TEXT", "java.awt.im.InputMethodHighlight", true),
-              })
-          .put(
-              "ControlFactory",
-              new Import[] {
-                new Import("ControlFactory", "javax.naming.ldap", false),
-              })
-          .put(
-              "CHARACTER",
-              new Import[] {
-                new Import("CHARACTER", "javax.accessibility.AccessibleText", true),
-                new Import("CHARACTER", "javax.management.openmbean.SimpleType", true),
-              })
-          .put(
-              "CertPathBuilder",
-              new Import[] {
-                new Import("CertPathBuilder", "java.security.cert", false),
-              })
-          .put(
-              "ROWSET_SYNC_PROVIDER",
-              new Import[] {
-                new Import("ROWSET_SYNC_PROVIDER", "javax.sql.rowset.spi.SyncFactory", true),
-              })
-          .put(
-              "ARG_IN",
-              new Import[] {
-                new Import("ARG_IN", "org.omg.CORBA", false),
-              })
-          .put(
-              "AbstractSet",
-              new Import[] {
-                new Import("AbstractSet", "java.util", false),
-              })
-          .put(
-              "DIR",
-              new Import[] {
-                new Import("DIR", "javax.swing.text.html.HTML.Attribute", true),
-                new Import("DIR", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "STANDARD_OUTPUT_TYPE",
-              new Import[] {
-                new Import("STANDARD_OUTPUT_TYPE", "javax.imageio.spi.ImageWriterSpi", true),
-              })
-          .put(
-              "WebEndpoint",
-              new Import[] {
-                new Import("WebEndpoint", "javax.xml.ws", false),
-              })
-          .put(
-              "DIV",
-              new Import[] {
-                new Import("DIV", "javax.management.Query", true),
-                new Import("DIV", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "Tie",
-              new Import[] {
-                new Import("Tie", "javax.rmi.CORBA", false),
-              })
-          .put(
-              "MultipleDocumentHandlingType",
-              new Import[] {
-                new Import("MultipleDocumentHandlingType", "java.awt.JobAttributes", false),
-              })
-          .put(
-              "DynValueHelper",
-              new Import[] {
-                new Import("DynValueHelper", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "WINDOW_FIRST",
-              new Import[] {
-                new Import("WINDOW_FIRST", "java.awt.event.WindowEvent", true),
-              })
-          .put(
-              "KeyListener",
-              new Import[] {
-                new Import("KeyListener", "java.awt.event", false),
-              })
-          .put(
-              "_BindingIteratorImplBase",
-              new Import[] {
-                new Import("_BindingIteratorImplBase", "org.omg.CosNaming", false),
-              })
-          .put(
-              "averagingInt",
-              new Import[] {
-                new Import("averagingInt", "java.util.stream.Collectors", true),
-              })
-          .put(
-              "VoiceStatus",
-              new Import[] {
-                new Import("VoiceStatus", "javax.sound.midi", false),
-              })
-          .put(
-              "CANCEL_SELECTION",
-              new Import[] {
-                new Import("CANCEL_SELECTION", "javax.swing.JFileChooser", true),
-              })
-          .put(
-              "DD",
-              new Import[] {
-                new Import("DD", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "ComponentListener",
-              new Import[] {
-                new Import("ComponentListener", "java.awt.event", false),
-              })
-          .put(
-              "VALUE_TEXT_ANTIALIAS_LCD_VRGB",
-              new Import[] {
-                new Import("VALUE_TEXT_ANTIALIAS_LCD_VRGB", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "SAAJMetaFactory",
-              new Import[] {
-                new Import("SAAJMetaFactory", "javax.xml.soap", false),
-              })
-          .put(
-              "TextArea",
-              new Import[] {
-                new Import("TextArea", "java.awt", false),
-              })
-          .put(
-              "DL",
-              new Import[] {
-                new Import("DL", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "PBEKey",
-              new Import[] {
-                new Import("PBEKey", "javax.crypto.interfaces", false),
-              })
-          .put(
-              "NumberUp",
-              new Import[] {
-                new Import("NumberUp", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "DT",
-              new Import[] {
-                new Import("DT", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "IRObject",
-              new Import[] {
-                new Import("IRObject", "org.omg.CORBA", false),
-              })
-          .put(
-              "AREA",
-              new Import[] {
-                new Import("AREA", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "tableIndexStatistic",
-              new Import[] {
-                new Import("tableIndexStatistic", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "NameHelper",
-              new Import[] {
-                new Import("NameHelper", "org.omg.CosNaming", false),
-              })
-          .put(
-              "DATA_TRANSFER_COMPLETE",
-              new Import[] {
-                new Import("DATA_TRANSFER_COMPLETE", "javax.print.event.PrintJobEvent", true),
-              })
-          .put(
-              "getLeftIndent",
-              new Import[] {
-                new Import("getLeftIndent", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "printQName",
-              new Import[] {
-                new Import("printQName", "javax.xml.bind.DatatypeConverter", true),
-              })
-          .put(
-              "ProgressMonitorInputStream",
-              new Import[] {
-                new Import("ProgressMonitorInputStream", "javax.swing", false),
-              })
-          .put(
-              "DefaultHandler2",
-              new Import[] {
-                new Import("DefaultHandler2", "org.xml.sax.ext", false),
-              })
-          .put(
-              "COVER_OPEN",
-              new Import[] {
-                new Import("COVER_OPEN", "javax.print.attribute.standard.PrinterStateReason", true),
-              })
-          .put(
-              "PKIXBuilderParameters",
-              new Import[] {
-                new Import("PKIXBuilderParameters", "java.security.cert", false),
-              })
-          .put(
-              "NT_HOSTBASED_SERVICE",
-              new Import[] {
-                new Import("NT_HOSTBASED_SERVICE", "org.ietf.jgss.GSSName", true),
-              })
-          .put(
-              "CannotRedoException",
-              new Import[] {
-                new Import("CannotRedoException", "javax.swing.undo", false),
-              })
-          .put(
-              "STAPLE_TOP_RIGHT",
-              new Import[] {
-                new Import("STAPLE_TOP_RIGHT", "javax.print.attribute.standard.Finishings", true),
-              })
-          .put(
-              "EM",
-              new Import[] {
-                new Import("EM", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "F0",
-              new Import[] {
-                new Import("F0", "java.security.spec.RSAKeyGenParameterSpec", true),
-              })
-          .put(
-              "F1",
-              new Import[] {
-                new Import("F1", "java.awt.Event", true),
-              })
-          .put(
-              "F2",
-              new Import[] {
-                new Import("F2", "java.awt.Event", true),
-              })
-          .put(
-              "EQ",
-              new Import[] {
-                new Import("EQ", "javax.management.Query", true),
-              })
-          .put(
-              "F3",
-              new Import[] {
-                new Import("F3", "java.awt.Event", true),
-              })
-          .put(
-              "F4",
-              new Import[] {
-                new Import("F4", "java.awt.Event", true),
-                new Import("F4", "java.security.spec.RSAKeyGenParameterSpec", true),
-              })
-          .put(
-              "F5",
-              new Import[] {
-                new Import("F5", "java.awt.Event", true),
-              })
-          .put(
-              "F6",
-              new Import[] {
-                new Import("F6", "java.awt.Event", true),
-              })
-          .put(
-              "KRB_NT_SRV_HST",
-              new Import[] {
-                new Import(
-                    "KRB_NT_SRV_HST", "javax.security.auth.kerberos.KerberosPrincipal", true),
-              })
-          .put(
-              "F7",
-              new Import[] {
-                new Import("F7", "java.awt.Event", true),
-              })
-          .put(
-              "latestSupported",
-              new Import[] {
-                new Import("latestSupported", "javax.lang.model.SourceVersion", true),
-              })
-          .put(
-              "F8",
-              new Import[] {
-                new Import("F8", "java.awt.Event", true),
-              })
-          .put(
-              "ZipInputStream",
-              new Import[] {
-                new Import("ZipInputStream", "java.util.zip", false),
-              })
-          .put(
-              "dk_Attribute",
-              new Import[] {
-                new Import("dk_Attribute", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "F9",
-              new Import[] {
-                new Import("F9", "java.awt.Event", true),
-              })
-          .put(
-              "ParameterBlock",
-              new Import[] {
-                new Import("ParameterBlock", "java.awt.image.renderable", false),
-              })
-          .put(
-              "icHdrDate",
-              new Import[] {
-                new Import("icHdrDate", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "SCROLL_END",
-              new Import[] {
-                new Import("SCROLL_END", "java.awt.Event", true),
-              })
-          .put(
-              "DECLARED",
-              new Import[] {
-                new Import("DECLARED", "java.lang.reflect.Member", true),
-              })
-          .put(
-              "SIMPLE_SCROLL_MODE",
-              new Import[] {
-                new Import("SIMPLE_SCROLL_MODE", "javax.swing.JViewport", true),
-              })
-          .put(
-              "SizeRequirements",
-              new Import[] {
-                new Import("SizeRequirements", "javax.swing", false),
-              })
-          .put(
-              "tk_float",
-              new Import[] {
-                new Import("tk_float", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "ACTION_REPLACE",
-              new Import[] {
-                new Import("ACTION_REPLACE", "org.w3c.dom.ls.LSParser", true),
-              })
-          .put(
-              "SEPARATE_DOCUMENTS_UNCOLLATED_COPIES",
-              new Import[] {
-                new Import(
-                    "SEPARATE_DOCUMENTS_UNCOLLATED_COPIES",
-                    "java.awt.JobAttributes.MultipleDocumentHandlingType",
-                    true),
-                new Import(
-                    "SEPARATE_DOCUMENTS_UNCOLLATED_COPIES",
-                    "javax.print.attribute.standard.MultipleDocumentHandling",
-                    true),
-              })
-          .put(
-              "icSigOutputResponseTag",
-              new Import[] {
-                new Import("icSigOutputResponseTag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "RuntimeMBeanException",
-              new Import[] {
-                new Import("RuntimeMBeanException", "javax.management", false),
-              })
-          .put(
-              "TableColumnModelListener",
-              new Import[] {
-                new Import("TableColumnModelListener", "javax.swing.event", false),
-              })
-          .put(
-              "TYPE_CMY",
-              new Import[] {
-                new Import("TYPE_CMY", "java.awt.color.ColorSpace", true),
-              })
-          .put(
-              "getDouble",
-              new Import[] {
-                new Import("getDouble", "java.lang.reflect.Array", true),
-              })
-          .put(
-              "LinearGradientPaint",
-              new Import[] {
-                new Import("LinearGradientPaint", "java.awt", false),
-              })
-          .put(
-              "NumberUpSupported",
-              new Import[] {
-                new Import("NumberUpSupported", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "FUSER_UNDER_TEMP",
-              new Import[] {
-                new Import(
-                    "FUSER_UNDER_TEMP", "javax.print.attribute.standard.PrinterStateReason", true),
-              })
-          .put(
-              "PopupMenuEvent",
-              new Import[] {
-                new Import("PopupMenuEvent", "javax.swing.event", false),
-              })
-          .put(
-              "PanelUI",
-              new Import[] {
-                new Import("PanelUI", "javax.swing.plaf", false),
-              })
-          .put(
-              "Signer",
-              new Import[] {
-                new Import("Signer", "java.security", false),
-              })
-          .put(
-              "getDragThreshold",
-              new Import[] {
-                new Import("getDragThreshold", "java.awt.dnd.DragSource", true),
-              })
-          .put(
-              "IllegalClassFormatException",
-              new Import[] {
-                new Import("IllegalClassFormatException", "java.lang.instrument", false),
-              })
-          .put(
-              "BRAILLE_PATTERNS",
-              new Import[] {
-                new Import("BRAILLE_PATTERNS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "TREE_CELL",
-              new Import[] {
-                new Import("TREE_CELL", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "pageDownAction",
-              new Import[] {
-                new Import("pageDownAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "WINDOW_LOST_FOCUS",
-              new Import[] {
-                new Import("WINDOW_LOST_FOCUS", "java.awt.event.WindowEvent", true),
-              })
-          .put(
-              "ViewportLayout",
-              new Import[] {
-                new Import("ViewportLayout", "javax.swing", false),
-              })
-          .put(
-              "HIGH_PRIVATE_USE_SURROGATES",
-              new Import[] {
-                new Import("HIGH_PRIVATE_USE_SURROGATES", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "lines",
-              new Import[] {
-                new Import("lines", "java.nio.file.Files", true),
-              })
-          .put(
-              "BasicComboPopup",
-              new Import[] {
-                new Import("BasicComboPopup", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "codePointCount",
-              new Import[] {
-                new Import("codePointCount", "java.lang.Character", true),
-              })
-          .put(
-              "unquote",
-              new Import[] {
-                new Import("unquote", "javax.management.ObjectName", true),
-              })
-          .put(
-              "GE",
-              new Import[] {
-                new Import("GE", "javax.management.Query", true),
-              })
-          .put(
-              "STRING_TO_COMPARE_VALUE_MATCHED",
-              new Import[] {
-                new Import(
-                    "STRING_TO_COMPARE_VALUE_MATCHED",
-                    "javax.management.monitor.MonitorNotification",
-                    true),
-              })
-          .put(
-              "Condition",
-              new Import[] {
-                new Import("Condition", "java.util.concurrent.locks", false),
-              })
-          .put(
-              "DURATION_YEARMONTH",
-              new Import[] {
-                new Import("DURATION_YEARMONTH", "javax.xml.datatype.DatatypeConstants", true),
-              })
-          .put(
-              "TMRESUME",
-              new Import[] {
-                new Import("TMRESUME", "javax.transaction.xa.XAResource", true),
-              })
-          .put(
-              "TC_CLASSDESC",
-              new Import[] {
-                new Import("TC_CLASSDESC", "java.io.ObjectStreamConstants", true),
-              })
-          .put(
-              "CONTEXT_EXPIRED",
-              new Import[] {
-                new Import("CONTEXT_EXPIRED", "org.ietf.jgss.GSSException", true),
-              })
-          .put(
-              "H1",
-              new Import[] {
-                new Import("H1", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "H2",
-              new Import[] {
-                new Import("H2", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "H3",
-              new Import[] {
-                new Import("H3", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "OPEN_DIALOG",
-              new Import[] {
-                new Import("OPEN_DIALOG", "javax.swing.JFileChooser", true),
-              })
-          .put(
-              "MESSAGE_TYPE_PROPERTY",
-              new Import[] {
-                new Import("MESSAGE_TYPE_PROPERTY", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "H4",
-              new Import[] {
-                new Import("H4", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "RetentionPolicy",
-              new Import[] {
-                new Import("RetentionPolicy", "java.lang.annotation", false),
-              })
-          .put(
-              "GT",
-              new Import[] {
-                new Import("GT", "javax.management.Query", true),
-              })
-          .put(
-              "H5",
-              new Import[] {
-                new Import("H5", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "H6",
-              new Import[] {
-                new Import("H6", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "BAD_CONTEXT",
-              new Import[] {
-                new Import("BAD_CONTEXT", "org.omg.CORBA", false),
-              })
-          .put(
-              "SHORT",
-              new Import[] {
-                new Import("SHORT", "java.text.DateFormat", true),
-                new Import("SHORT", "java.util.Calendar", true),
-                new Import("SHORT", "java.util.TimeZone", true),
-                new Import("SHORT", "javax.management.openmbean.SimpleType", true),
-              })
-          .put(
-              "THRESHOLD_HIGH_VALUE_EXCEEDED",
-              new Import[] {
-                new Import(
-                    "THRESHOLD_HIGH_VALUE_EXCEEDED",
-                    "javax.management.monitor.MonitorNotification",
-                    true),
-              })
-          .put(
-              "HTMLTextAction",
-              new Import[] {
-                new Import("HTMLTextAction", "javax.swing.text.html.HTMLEditorKit", false),
-              })
-          .put(
-              "BORDER_TOP_STYLE",
-              new Import[] {
-                new Import("BORDER_TOP_STYLE", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "CJK_STROKES",
-              new Import[] {
-                new Import("CJK_STROKES", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "START",
-              new Import[] {
-                new Import("START", "javax.sound.midi.ShortMessage", true),
-                new Import("START", "javax.sound.sampled.LineEvent.Type", true),
-                new Import("START", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "TYPE_4CLR",
-              new Import[] {
-                new Import("TYPE_4CLR", "java.awt.color.ColorSpace", true),
-              })
-          .put(
-              "_tk_string",
-              new Import[] {
-                new Import("_tk_string", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "BAD_MIC",
-              new Import[] {
-                new Import("BAD_MIC", "org.ietf.jgss.GSSException", true),
-              })
-          .put(
-              "ARGV",
-              new Import[] {
-                new Import("ARGV", "javax.script.ScriptEngine", true),
-              })
-          .put(
-              "Enum",
-              new Import[] {
-                new Import("Enum", "java.lang", false),
-              })
-          .put(
-              "LOWER_TRAILING_CORNER",
-              new Import[] {
-                new Import("LOWER_TRAILING_CORNER", "javax.swing.ScrollPaneConstants", true),
-              })
-          .put(
-              "exportObject",
-              new Import[] {
-                new Import("exportObject", "java.rmi.activation.Activatable", true),
-                new Import("exportObject", "java.rmi.server.UnicastRemoteObject", true),
-                new Import("exportObject", "javax.rmi.PortableRemoteObject", true),
-              })
-          .put(
-              "getMidiDevice",
-              new Import[] {
-                new Import("getMidiDevice", "javax.sound.midi.MidiSystem", true),
-              })
-          .put(
-              "HR",
-              new Import[] {
-                new Import("HR", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "MBeanServerPermission",
-              new Import[] {
-                new Import("MBeanServerPermission", "javax.management", false),
-              })
-          .put(
-              "getSplitPaneBorder",
-              new Import[] {
-                new Import("getSplitPaneBorder", "javax.swing.plaf.basic.BasicBorders", true),
-              })
-          .put(
-              "CharacterAttribute",
-              new Import[] {
-                new Import("CharacterAttribute", "javax.swing.text.AttributeSet", false),
-              })
-          .put(
-              "VK_OPEN_BRACKET",
-              new Import[] {
-                new Import("VK_OPEN_BRACKET", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "MultiColorChooserUI",
-              new Import[] {
-                new Import("MultiColorChooserUI", "javax.swing.plaf.multi", false),
-              })
-          .put(
-              "narrow",
-              new Import[] {
-                new Import("narrow", "javax.rmi.PortableRemoteObject", true),
-                new Import("narrow", "org.omg.CORBA.CurrentHelper", true),
-                new Import("narrow", "org.omg.CORBA.IDLTypeHelper", true),
-                new Import("narrow", "org.omg.CORBA.PolicyHelper", true),
-                new Import("narrow", "org.omg.CosNaming.BindingIteratorHelper", true),
-                new Import("narrow", "org.omg.CosNaming.NamingContextExtHelper", true),
-                new Import("narrow", "org.omg.CosNaming.NamingContextHelper", true),
-                new Import("narrow", "org.omg.DynamicAny.DynAnyFactoryHelper", true),
-                new Import("narrow", "org.omg.DynamicAny.DynAnyHelper", true),
-                new Import("narrow", "org.omg.DynamicAny.DynArrayHelper", true),
-                new Import("narrow", "org.omg.DynamicAny.DynEnumHelper", true),
-                new Import("narrow", "org.omg.DynamicAny.DynFixedHelper", true),
-                new Import("narrow", "org.omg.DynamicAny.DynSequenceHelper", true),
-                new Import("narrow", "org.omg.DynamicAny.DynStructHelper", true),
-                new Import("narrow", "org.omg.DynamicAny.DynUnionHelper", true),
-                new Import("narrow", "org.omg.DynamicAny.DynValueHelper", true),
-                new Import("narrow", "org.omg.IOP.CodecFactoryHelper", true),
-                new Import("narrow", "org.omg.PortableInterceptor.CurrentHelper", true),
-                new Import("narrow", "org.omg.PortableInterceptor.IORInterceptor_3_0Helper", true),
-                new Import("narrow", "org.omg.PortableServer.CurrentHelper", true),
-                new Import("narrow", "org.omg.PortableServer.POAHelper", true),
-                new Import("narrow", "org.omg.PortableServer.ServantActivatorHelper", true),
-                new Import("narrow", "org.omg.PortableServer.ServantLocatorHelper", true),
-              })
-          .put(
-              "ID",
-              new Import[] {
-                new Import("ID", "javax.swing.text.html.HTML.Attribute", true),
-                new Import("ID", "javax.swing.text.html.parser.DTDConstants", true),
-                new Import("ID", "javax.xml.ws.RespectBindingFeature", true),
-                new Import("ID", "javax.xml.ws.soap.AddressingFeature", true),
-                new Import("ID", "javax.xml.ws.soap.MTOMFeature", true),
-              })
-          .put(
-              "MOUSE_MOTION_EVENT_MASK",
-              new Import[] {
-                new Import("MOUSE_MOTION_EVENT_MASK", "java.awt.AWTEvent", true),
-              })
-          .put(
-              "TYPE_GENERAL_TRANSFORM",
-              new Import[] {
-                new Import("TYPE_GENERAL_TRANSFORM", "java.awt.geom.AffineTransform", true),
-              })
-          .put(
-              "STAPLE_TOP_LEFT",
-              new Import[] {
-                new Import("STAPLE_TOP_LEFT", "javax.print.attribute.standard.Finishings", true),
-              })
-          .put(
-              "FOCUSABLE",
-              new Import[] {
-                new Import("FOCUSABLE", "javax.accessibility.AccessibleState", true),
-              })
-          .put(
-              "ULAW",
-              new Import[] {
-                new Import("ULAW", "javax.sound.sampled.AudioFormat.Encoding", true),
-              })
-          .put(
-              "ceil",
-              new Import[] {
-                new Import("ceil", "java.lang.Math", true),
-                new Import("ceil", "java.lang.StrictMath", true),
-              })
-          .put(
-              "noneOf",
-              new Import[] {
-                new Import("noneOf", "java.util.EnumSet", true),
-              })
-          .put(
-              "CertPathValidatorException",
-              new Import[] {
-                new Import("CertPathValidatorException", "java.security.cert", false),
-              })
-          .put(
-              "SLIDER_THUMB",
-              new Import[] {
-                new Import("SLIDER_THUMB", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "RandomAccessFile",
-              new Import[] {
-                new Import("RandomAccessFile", "java.io", false),
-              })
-          .put(
-              "createSNIMatcher",
-              new Import[] {
-                new Import("createSNIMatcher", "javax.net.ssl.SNIHostName", true),
-              })
-          .put(
-              "VK_MULTIPLY",
-              new Import[] {
-                new Import("VK_MULTIPLY", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VerifyError",
-              new Import[] {
-                new Import("VerifyError", "java.lang", false),
-              })
-          .put(
-              "IntFunction",
-              new Import[] {
-                new Import("IntFunction", "java.util.function", false),
-              })
-          .put(
-              "setDefaultAllowUserInteraction",
-              new Import[] {
-                new Import("setDefaultAllowUserInteraction", "java.net.URLConnection", true),
-              })
-          .put(
-              "RenderableImageOp",
-              new Import[] {
-                new Import("RenderableImageOp", "java.awt.image.renderable", false),
-              })
-          .put(
-              "SOUTH_EAST",
-              new Import[] {
-                new Import("SOUTH_EAST", "javax.swing.SwingConstants", true),
-              })
-          .put(
-              "ConcurrentLinkedQueue",
-              new Import[] {
-                new Import("ConcurrentLinkedQueue", "java.util.concurrent", false),
-              })
-          .put(
-              "DPI",
-              new Import[] {
-                new Import("DPI", "javax.print.attribute.ResolutionSyntax", true),
-              })
-          .put(
-              "showOptionDialog",
-              new Import[] {
-                new Import("showOptionDialog", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "LSSerializerFilter",
-              new Import[] {
-                new Import("LSSerializerFilter", "org.w3c.dom.ls", false),
-              })
-          .put(
-              "getMimeDecoder",
-              new Import[] {
-                new Import("getMimeDecoder", "java.util.Base64", true),
-              })
-          .put(
-              "UNDERLINE_ON",
-              new Import[] {
-                new Import("UNDERLINE_ON", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "SHAPES",
-              new Import[] {
-                new Import("SHAPES", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "UPDATE_WHEN_ON_EDT",
-              new Import[] {
-                new Import("UPDATE_WHEN_ON_EDT", "javax.swing.text.DefaultCaret", true),
-              })
-          .put(
-              "asFileAttribute",
-              new Import[] {
-                new Import("asFileAttribute", "java.nio.file.attribute.PosixFilePermissions", true),
-              })
-          .put(
-              "URI",
-              new Import[] {
-                new Import("URI", "java.net", false),
-              })
-          .put(
-              "MenuElement",
-              new Import[] {
-                new Import("MenuElement", "javax.swing", false),
-              })
-          .put(
-              "SOAPMessage",
-              new Import[] {
-                new Import("SOAPMessage", "javax.xml.soap", false),
-              })
-          .put(
-              "isDispatchThread",
-              new Import[] {
-                new Import("isDispatchThread", "java.awt.EventQueue", true),
-              })
-          .put(
-              "URL",
-              new Import[] {
-                new Import("URL", "java.net", false),
-                new Import("URL", "javax.print.DocFlavor", false),
-              })
-          .put(
-              "SimpleType",
-              new Import[] {
-                new Import("SimpleType", "javax.management.openmbean", false),
-              })
-          .put(
-              "INTERNAL_FRAME_ACTIVATED",
-              new Import[] {
-                new Import(
-                    "INTERNAL_FRAME_ACTIVATED", "javax.swing.event.InternalFrameEvent", true),
-              })
-          .put(
-              "Target",
-              new Import[] {
-                new Import("Target", "java.lang.annotation", false),
-              })
-          .put(
-              "checkedMap",
-              new Import[] {
-                new Import("checkedMap", "java.util.Collections", true),
-              })
-          .put(
-              "PointerInfo",
-              new Import[] {
-                new Import("PointerInfo", "java.awt", false),
-              })
-          .put(
-              "RelationType",
-              new Import[] {
-                new Import("RelationType", "javax.management.relation", false),
-              })
-          .put(
-              "getByName",
-              new Import[] {
-                new Import("getByName", "java.net.InetAddress", true),
-                new Import("getByName", "java.net.NetworkInterface", true),
-              })
-          .put(
-              "JPEGImageWriteParam",
-              new Import[] {
-                new Import("JPEGImageWriteParam", "javax.imageio.plugins.jpeg", false),
-              })
-          .put(
-              "Menu",
-              new Import[] {
-                new Import("Menu", "java.awt", false),
-              })
-          .put(
-              "ExecutionException",
-              new Import[] {
-                new Import("ExecutionException", "java.util.concurrent", false),
-              })
-          .put(
-              "WAIS",
-              new Import[] {
-                new Import(
-                    "WAIS", "javax.print.attribute.standard.ReferenceUriSchemesSupported", true),
-              })
-          .put(
-              "isNormalized",
-              new Import[] {
-                new Import("isNormalized", "java.text.Normalizer", true),
-              })
-          .put(
-              "SOAP_DATAENCODINGUNKNOWN_FAULT",
-              new Import[] {
-                new Import("SOAP_DATAENCODINGUNKNOWN_FAULT", "javax.xml.soap.SOAPConstants", true),
-              })
-          .put(
-              "ParsePosition",
-              new Import[] {
-                new Import("ParsePosition", "java.text", false),
-              })
-          .put(
-              "GraphicsConfigTemplate",
-              new Import[] {
-                new Import("GraphicsConfigTemplate", "java.awt", false),
-              })
-          .put(
-              "comparingDouble",
-              new Import[] {
-                new Import("comparingDouble", "java.util.Comparator", true),
-              })
-          .put(
-              "ClassCircularityError",
-              new Import[] {
-                new Import("ClassCircularityError", "java.lang", false),
-              })
-          .put(
-              "TypeNotPresentException",
-              new Import[] {
-                new Import("TypeNotPresentException", "java.lang", false),
-              })
-          .put(
-              "StringMonitorMBean",
-              new Import[] {
-                new Import("StringMonitorMBean", "javax.management.monitor", false),
-              })
-          .put(
-              "DIALOG",
-              new Import[] {
-                new Import("DIALOG", "java.awt.Font", true),
-                new Import("DIALOG", "javax.accessibility.AccessibleRole", true),
-              })
-          .put(
-              "err",
-              new Import[] {
-                new Import("err", "java.io.FileDescriptor", true),
-                new Import("err", "java.lang.System", true),
-              })
-          .put(
-              "LATIN_1_SUPPLEMENT",
-              new Import[] {
-                new Import("LATIN_1_SUPPLEMENT", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "PROTOCOL_VERSION_2",
-              new Import[] {
-                new Import("PROTOCOL_VERSION_2", "java.io.ObjectStreamConstants", true),
-              })
-          .put(
-              "MessageDigestSpi",
-              new Import[] {
-                new Import("MessageDigestSpi", "java.security", false),
-              })
-          .put(
-              "PROTOCOL_VERSION_1",
-              new Import[] {
-                new Import("PROTOCOL_VERSION_1", "java.io.ObjectStreamConstants", true),
-              })
-          .put(
-              "GaugeMonitorMBean",
-              new Import[] {
-                new Import("GaugeMonitorMBean", "javax.management.monitor", false),
-              })
-          .put(
-              "CONTAINER_LAST",
-              new Import[] {
-                new Import("CONTAINER_LAST", "java.awt.event.ContainerEvent", true),
-              })
-          .put(
-              "SimpleImmutableEntry",
-              new Import[] {
-                new Import("SimpleImmutableEntry", "java.util.AbstractMap", false),
-              })
-          .put(
-              "VALUE_STROKE_NORMALIZE",
-              new Import[] {
-                new Import("VALUE_STROKE_NORMALIZE", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "AtomicLongArray",
-              new Import[] {
-                new Import("AtomicLongArray", "java.util.concurrent.atomic", false),
-              })
-          .put(
-              "LE",
-              new Import[] {
-                new Import("LE", "javax.management.Query", true),
-              })
-          .put(
-              "ExceptionListener",
-              new Import[] {
-                new Import("ExceptionListener", "java.beans", false),
-              })
-          .put(
-              "_IDLTypeStub",
-              new Import[] {
-                new Import("_IDLTypeStub", "org.omg.CORBA", false),
-              })
-          .put(
-              "getLocalizedDateTimePattern",
-              new Import[] {
-                new Import(
-                    "getLocalizedDateTimePattern",
-                    "java.time.format.DateTimeFormatterBuilder",
-                    true),
-              })
-          .put(
-              "LI",
-              new Import[] {
-                new Import("LI", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "NONCRITICAL",
-              new Import[] {
-                new Import("NONCRITICAL", "javax.naming.ldap.Control", true),
-              })
-          .put(
-              "isIdentifier",
-              new Import[] {
-                new Import("isIdentifier", "javax.lang.model.SourceVersion", true),
-              })
-          .put(
-              "SUBSIZED",
-              new Import[] {
-                new Import("SUBSIZED", "java.util.Spliterator", true),
-              })
-          .put(
-              "UTC",
-              new Import[] {
-                new Import("UTC", "java.time.ZoneOffset", true),
-                new Import("UTC", "java.util.Date", true),
-              })
-          .put(
-              "INBOUND_MESSAGE_ATTACHMENTS",
-              new Import[] {
-                new Import(
-                    "INBOUND_MESSAGE_ATTACHMENTS", "javax.xml.ws.handler.MessageContext", true),
-              })
-          .put(
-              "LT",
-              new Import[] {
-                new Import("LT", "javax.management.Query", true),
-              })
-          .put(
-              "DescriptorKey",
-              new Import[] {
-                new Import("DescriptorKey", "javax.management", false),
-              })
-          .put(
-              "dk_Exception",
-              new Import[] {
-                new Import("dk_Exception", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "DGC_ID",
-              new Import[] {
-                new Import("DGC_ID", "java.rmi.server.ObjID", true),
-              })
-          .put(
-              "QUESTION_DIALOG",
-              new Import[] {
-                new Import("QUESTION_DIALOG", "javax.swing.JRootPane", true),
-              })
-          .put(
-              "VLINK",
-              new Import[] {
-                new Import("VLINK", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "MediaPrintableArea",
-              new Import[] {
-                new Import("MediaPrintableArea", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "PushbackInputStream",
-              new Import[] {
-                new Import("PushbackInputStream", "java.io", false),
-              })
-          .put(
-              "PSSParameterSpec",
-              new Import[] {
-                new Import("PSSParameterSpec", "java.security.spec", false),
-              })
-          .put(
-              "MD",
-              new Import[] {
-                new Import("MD", "javax.swing.text.html.parser.DTDConstants", true),
-              })
-          .put(
-              "TC_BASE",
-              new Import[] {
-                new Import("TC_BASE", "java.io.ObjectStreamConstants", true),
-              })
-          .put(
-              "textHighlightText",
-              new Import[] {
-                new Import("textHighlightText", "java.awt.SystemColor", true),
-              })
-          .put(
-              "LoaderHandler",
-              new Import[] {
-                new Import("LoaderHandler", "java.rmi.server", false),
-              })
-          .put(
-              "FileObject",
-              new Import[] {
-                new Import("FileObject", "javax.tools", false),
-              })
-          .put(
-              "NotificationFilter",
-              new Import[] {
-                new Import("NotificationFilter", "javax.management", false),
-              })
-          .put(
-              "dk_Wstring",
-              new Import[] {
-                new Import("dk_Wstring", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "ServerSocketChannel",
-              new Import[] {
-                new Import("ServerSocketChannel", "java.nio.channels", false),
-              })
-          .put(
-              "MM",
-              new Import[] {
-                new Import("MM", "javax.print.attribute.Size2DSyntax", true),
-                new Import("MM", "javax.print.attribute.standard.MediaPrintableArea", true),
-              })
-          .put(
-              "SLIDER_TRACK",
-              new Import[] {
-                new Import("SLIDER_TRACK", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "DST",
-              new Import[] {
-                new Import("DST", "java.awt.AlphaComposite", true),
-              })
-          .put(
-              "MS",
-              new Import[] {
-                new Import("MS", "javax.swing.text.html.parser.DTDConstants", true),
-              })
-          .put(
-              "writableAction",
-              new Import[] {
-                new Import("writableAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "HTTP_USE_PROXY",
-              new Import[] {
-                new Import("HTTP_USE_PROXY", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "DesignMode",
-              new Import[] {
-                new Import("DesignMode", "java.beans", false),
-              })
-          .put(
-              "VK_DEAD_IOTA",
-              new Import[] {
-                new Import("VK_DEAD_IOTA", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "ServiceMode",
-              new Import[] {
-                new Import("ServiceMode", "javax.xml.ws", false),
-              })
-          .put(
-              "doAsPrivileged",
-              new Import[] {
-                new Import("doAsPrivileged", "javax.security.auth.Subject", true),
-              })
-          .put(
-              "NA",
-              new Import[] {
-                new Import("NA", "javax.print.attribute.standard.MediaSize", false),
-              })
-          .put(
-              "NUM_LOCK",
-              new Import[] {
-                new Import("NUM_LOCK", "java.awt.Event", true),
-              })
-          .put(
-              "isLetterOrDigit",
-              new Import[] {
-                new Import("isLetterOrDigit", "java.lang.Character", true),
-              })
-          .put(
-              "lastIndexOfSubList",
-              new Import[] {
-                new Import("lastIndexOfSubList", "java.util.Collections", true),
-              })
-          .put(
-              "DTD",
-              new Import[] {
-                new Import("DTD", "javax.swing.text.html.parser", false),
-                new Import("DTD", "javax.xml.stream.XMLStreamConstants", true),
-                new Import("DTD", "javax.xml.stream.events", false),
-              })
-          .put(
-              "isKeyword",
-              new Import[] {
-                new Import("isKeyword", "javax.lang.model.SourceVersion", true),
-              })
-          .put(
-              "REGISTRY_ID",
-              new Import[] {
-                new Import("REGISTRY_ID", "java.rmi.server.ObjID", true),
-              })
-          .put(
-              "VOID",
-              new Import[] {
-                new Import("VOID", "javax.management.openmbean.SimpleType", true),
-              })
-          .put(
-              "FILTERED",
-              new Import[] {
-                new Import("FILTERED", "java.util.zip.Deflater", true),
-              })
-          .put(
-              "NO",
-              new Import[] {
-                new Import("NO", "javax.security.auth.callback.ConfirmationCallback", true),
-              })
-          .put(
-              "deletePrevWordAction",
-              new Import[] {
-                new Import("deletePrevWordAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "NavigableMap",
-              new Import[] {
-                new Import("NavigableMap", "java.util", false),
-              })
-          .put(
-              "COMPONENT_LAST",
-              new Import[] {
-                new Import("COMPONENT_LAST", "java.awt.event.ComponentEvent", true),
-              })
-          .put(
-              "SocketSecurityException",
-              new Import[] {
-                new Import("SocketSecurityException", "java.rmi.server", false),
-              })
-          .put(
-              "NODE_CLONED",
-              new Import[] {
-                new Import("NODE_CLONED", "org.w3c.dom.UserDataHandler", true),
-              })
-          .put(
-              "LANG",
-              new Import[] {
-                new Import("LANG", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "NoSuchMethodException",
-              new Import[] {
-                new Import("NoSuchMethodException", "java.lang", false),
-              })
-          .put(
-              "CODESET_INCOMPATIBLE",
-              new Import[] {
-                new Import("CODESET_INCOMPATIBLE", "org.omg.CORBA", false),
-              })
-          .put(
-              "VK_MINUS",
-              new Import[] {
-                new Import("VK_MINUS", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "PKIXParameters",
-              new Import[] {
-                new Import("PKIXParameters", "java.security.cert", false),
-              })
-          .put(
-              "parkUntil",
-              new Import[] {
-                new Import("parkUntil", "java.util.concurrent.locks.LockSupport", true),
-              })
-          .put(
-              "OffsetTime",
-              new Import[] {
-                new Import("OffsetTime", "java.time", false),
-              })
-          .put(
-              "DOMValidateContext",
-              new Import[] {
-                new Import("DOMValidateContext", "javax.xml.crypto.dsig.dom", false),
-              })
-          .put(
-              "isPublic",
-              new Import[] {
-                new Import("isPublic", "java.lang.reflect.Modifier", true),
-              })
-          .put(
-              "isDesignTime",
-              new Import[] {
-                new Import("isDesignTime", "java.beans.Beans", true),
-              })
-          .put(
-              "OK",
-              new Import[] {
-                new Import("OK", "javax.security.auth.callback.ConfirmationCallback", true),
-              })
-          .put(
-              "OL",
-              new Import[] {
-                new Import("OL", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "FlavorEvent",
-              new Import[] {
-                new Import("FlavorEvent", "java.awt.datatransfer", false),
-              })
-          .put(
-              "getMBeanServer",
-              new Import[] {
-                new Import("getMBeanServer", "javax.management.QueryEval", true),
-              })
-          .put(
-              "TimeZoneNameProvider",
-              new Import[] {
-                new Import("TimeZoneNameProvider", "java.util.spi", false),
-              })
-          .put(
-              "BUSY",
-              new Import[] {
-                new Import("BUSY", "javax.accessibility.AccessibleState", true),
-              })
-          .put(
-              "MapMode",
-              new Import[] {
-                new Import("MapMode", "java.nio.channels.FileChannel", false),
-              })
-          .put(
-              "MinimumHeight",
-              new Import[] {
-                new Import("MinimumHeight", "javax.swing.plaf.basic.BasicOptionPaneUI", true),
-              })
-          .put(
-              "ENCODING",
-              new Import[] {
-                new Import("ENCODING", "javax.xml.transform.OutputKeys", true),
-              })
-          .put(
-              "_tk_null",
-              new Import[] {
-                new Import("_tk_null", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "getMostRecentEventTime",
-              new Import[] {
-                new Import("getMostRecentEventTime", "java.awt.EventQueue", true),
-              })
-          .put(
-              "Instrument",
-              new Import[] {
-                new Import("Instrument", "javax.sound.midi", false),
-              })
-          .put(
-              "PI",
-              new Import[] {
-                new Import("PI", "java.lang.Math", true),
-                new Import("PI", "java.lang.StrictMath", true),
-                new Import("PI", "javax.swing.text.html.parser.DTDConstants", true),
-              })
-          .put(
-              "BUHID",
-              new Import[] {
-                new Import("BUHID", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "PM",
-              new Import[] {
-                new Import("PM", "java.util.Calendar", true),
-              })
-          .build();
-}
@@ -1,1578 +0,0 @@
-// Code generated by GenerateStdlib.java. DO NOT EDIT.
-package com.nikodoko.javaimports.stdlib.internal.api.v8;
-
-import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
-import java.util.Map;
-
-public class Java8StdlibChunk5 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
-          .put(
-              "IconAttribute",
-              new Import[] {
-                new Import("IconAttribute", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "ENTITY_REFERENCE_NODE",
-              new Import[] {
-                new Import("ENTITY_REFERENCE_NODE", "org.w3c.dom.Node", true),
-              })
-          .put(
-              "TreeModelEvent",
-              new Import[] {
-                new Import("TreeModelEvent", "javax.swing.event", false),
-              })
-          .put(
-              "XA_OK",
-              new Import[] {
-                new Import("XA_OK", "javax.transaction.xa.XAResource", true),
-              })
-          .put(
-              "SQLTransientException",
-              new Import[] {
-                new Import("SQLTransientException", "java.sql", false),
-              })
-          .put(
-              "FINEST",
-              new Import[] {
-                new Import("FINEST", "java.util.logging.Level", true),
-              })
-          .put(
-              "uninstallBorder",
-              new Import[] {
-                new Import("uninstallBorder", "javax.swing.LookAndFeel", true),
-              })
-          .put(
-              "XA_RDONLY",
-              new Import[] {
-                new Import("XA_RDONLY", "javax.transaction.xa.XAException", true),
-                new Import("XA_RDONLY", "javax.transaction.xa.XAResource", true),
-              })
-          .put(
-              "LineBreakMeasurer",
-              new Import[] {
-                new Import("LineBreakMeasurer", "java.awt.font", false),
-              })
-          .put(
-              "isItalic",
-              new Import[] {
-                new Import("isItalic", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "UTF_16",
-              new Import[] {
-                new Import("UTF_16", "java.nio.charset.StandardCharsets", true),
-              })
-          .put(
-              "WriteLock",
-              new Import[] {
-                new Import("WriteLock", "java.util.concurrent.locks.ReentrantReadWriteLock", false),
-              })
-          .put(
-              "LoginContext",
-              new Import[] {
-                new Import("LoginContext", "javax.security.auth.login", false),
-              })
-          .put(
-              "Consumer",
-              new Import[] {
-                new Import("Consumer", "java.util.function", false),
-              })
-          .put(
-              "getMaskForButton",
-              new Import[] {
-                new Import("getMaskForButton", "java.awt.event.InputEvent", true),
-              })
-          .put(
-              "getNumberOfButtons",
-              new Import[] {
-                new Import("getNumberOfButtons", "java.awt.MouseInfo", true),
-              })
-          .put(
-              "exp",
-              new Import[] {
-                new Import("exp", "java.lang.Math", true),
-                new Import("exp", "java.lang.StrictMath", true),
-              })
-          .put(
-              "MIDDLE",
-              new Import[] {
-                new Import("MIDDLE", "javax.print.attribute.standard.MediaTray", true),
-              })
-          .put(
-              "ONE_DAY",
-              new Import[] {
-                new Import("ONE_DAY", "javax.management.timer.Timer", true),
-              })
-          .put(
-              "ScrollBarUI",
-              new Import[] {
-                new Import("ScrollBarUI", "javax.swing.plaf", false),
-              })
-          .put(
-              "getMenuItemArrowIcon",
-              new Import[] {
-                new Import("getMenuItemArrowIcon", "javax.swing.plaf.basic.BasicIconFactory", true),
-                new Import("getMenuItemArrowIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
-              })
-          .put(
-              "TableCellRenderer",
-              new Import[] {
-                new Import("TableCellRenderer", "javax.swing.table", false),
-              })
-          .put(
-              "CurrentHolder",
-              new Import[] {
-                new Import("CurrentHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "FINER",
-              new Import[] {
-                new Import("FINER", "java.util.logging.Level", true),
-              })
-          .put(
-              "XmlAccessOrder",
-              new Import[] {
-                new Import("XmlAccessOrder", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "ImageOutputStreamSpi",
-              new Import[] {
-                new Import("ImageOutputStreamSpi", "javax.imageio.spi", false),
-              })
-          .put(
-              "isSpaceChar",
-              new Import[] {
-                new Import("isSpaceChar", "java.lang.Character", true),
-              })
-          .put(
-              "AWTEventMulticaster",
-              new Import[] {
-                new Import("AWTEventMulticaster", "java.awt", false),
-              })
-          .put(
-              "CHAR_ARRAY",
-              new Import[] {
-                new Import("CHAR_ARRAY", "javax.print.DocFlavor", false),
-              })
-          .put(
-              "GraphicsEnvironment",
-              new Import[] {
-                new Import("GraphicsEnvironment", "java.awt", false),
-              })
-          .put(
-              "getLineInstance",
-              new Import[] {
-                new Import("getLineInstance", "java.text.BreakIterator", true),
-              })
-          .put(
-              "DIRECTIONALITY_NONSPACING_MARK",
-              new Import[] {
-                new Import("DIRECTIONALITY_NONSPACING_MARK", "java.lang.Character", true),
-              })
-          .put(
-              "DropTargetAdapter",
-              new Import[] {
-                new Import("DropTargetAdapter", "java.awt.dnd", false),
-              })
-          .put(
-              "GRADE_LOCK_WHEN_LOADED",
-              new Import[] {
-                new Import("GRADE_LOCK_WHEN_LOADED", "javax.sql.rowset.spi.SyncProvider", true),
-              })
-          .put(
-              "getTargetDataLine",
-              new Import[] {
-                new Import("getTargetDataLine", "javax.sound.sampled.AudioSystem", true),
-              })
-          .put(
-              "JUSTIFICATION",
-              new Import[] {
-                new Import("JUSTIFICATION", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "AccountExpiredException",
-              new Import[] {
-                new Import("AccountExpiredException", "javax.security.auth.login", false),
-              })
-          .put(
-              "ENV_ITALY",
-              new Import[] {
-                new Import("ENV_ITALY", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "MUTE",
-              new Import[] {
-                new Import("MUTE", "javax.sound.sampled.BooleanControl.Type", true),
-              })
-          .put(
-              "NumberFormatter",
-              new Import[] {
-                new Import("NumberFormatter", "javax.swing.text", false),
-              })
-          .put(
-              "ValidationEventImpl",
-              new Import[] {
-                new Import("ValidationEventImpl", "javax.xml.bind.helpers", false),
-              })
-          .put(
-              "POAOperations",
-              new Import[] {
-                new Import("POAOperations", "org.omg.PortableServer", false),
-              })
-          .put(
-              "ParserFactory",
-              new Import[] {
-                new Import("ParserFactory", "org.xml.sax.helpers", false),
-              })
-          .put(
-              "BindingIteratorHelper",
-              new Import[] {
-                new Import("BindingIteratorHelper", "org.omg.CosNaming", false),
-              })
-          .put(
-              "DefaultBoundedRangeModel",
-              new Import[] {
-                new Import("DefaultBoundedRangeModel", "javax.swing", false),
-              })
-          .put(
-              "gray",
-              new Import[] {
-                new Import("gray", "java.awt.Color", true),
-              })
-          .put(
-              "DIRECTION_DEFAULT_RIGHT_TO_LEFT",
-              new Import[] {
-                new Import("DIRECTION_DEFAULT_RIGHT_TO_LEFT", "java.text.Bidi", true),
-              })
-          .put(
-              "isInfinite",
-              new Import[] {
-                new Import("isInfinite", "java.lang.Double", true),
-                new Import("isInfinite", "java.lang.Float", true),
-              })
-          .put(
-              "AbstractSelector",
-              new Import[] {
-                new Import("AbstractSelector", "java.nio.channels.spi", false),
-              })
-          .put(
-              "ResponseCache",
-              new Import[] {
-                new Import("ResponseCache", "java.net", false),
-              })
-          .put(
-              "UPPER_RIGHT_CORNER",
-              new Import[] {
-                new Import("UPPER_RIGHT_CORNER", "javax.swing.ScrollPaneConstants", true),
-              })
-          .put(
-              "ADJUSTMENT_VALUE_CHANGED",
-              new Import[] {
-                new Import("ADJUSTMENT_VALUE_CHANGED", "java.awt.event.AdjustmentEvent", true),
-              })
-          .put(
-              "SSLSessionContext",
-              new Import[] {
-                new Import("SSLSessionContext", "javax.net.ssl", false),
-              })
-          .put(
-              "ExceptionInInitializerError",
-              new Import[] {
-                new Import("ExceptionInInitializerError", "java.lang", false),
-              })
-          .put(
-              "setFirstLineIndent",
-              new Import[] {
-                new Import("setFirstLineIndent", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "DIRECTIONALITY_PARAGRAPH_SEPARATOR",
-              new Import[] {
-                new Import("DIRECTIONALITY_PARAGRAPH_SEPARATOR", "java.lang.Character", true),
-              })
-          .put(
-              "singletonList",
-              new Import[] {
-                new Import("singletonList", "java.util.Collections", true),
-              })
-          .put(
-              "getTreeFloppyDriveIcon",
-              new Import[] {
-                new Import(
-                    "getTreeFloppyDriveIcon", "javax.swing.plaf.metal.MetalIconFactory", true),
-              })
-          .put(
-              "black",
-              new Import[] {
-                new Import("black", "java.awt.Color", true),
-              })
-          .put(
-              "TC_NULL",
-              new Import[] {
-                new Import("TC_NULL", "java.io.ObjectStreamConstants", true),
-              })
-          .put(
-              "JFormattedTextField",
-              new Import[] {
-                new Import("JFormattedTextField", "javax.swing", false),
-              })
-          .put(
-              "InvalidRoleValueException",
-              new Import[] {
-                new Import("InvalidRoleValueException", "javax.management.relation", false),
-              })
-          .put(
-              "SignedInfo",
-              new Import[] {
-                new Import("SignedInfo", "javax.xml.crypto.dsig", false),
-              })
-          .put(
-              "IdentifierHelper",
-              new Import[] {
-                new Import("IdentifierHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "TD",
-              new Import[] {
-                new Import("TD", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "TH",
-              new Import[] {
-                new Import("TH", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "ACTION_EVENT_MASK",
-              new Import[] {
-                new Import("ACTION_EVENT_MASK", "java.awt.AWTEvent", true),
-              })
-          .put(
-              "ItemListener",
-              new Import[] {
-                new Import("ItemListener", "java.awt.event", false),
-              })
-          .put(
-              "Writer",
-              new Import[] {
-                new Import("Writer", "java.io", false),
-              })
-          .put(
-              "TR",
-              new Import[] {
-                new Import("TR", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "DURATION",
-              new Import[] {
-                new Import("DURATION", "javax.xml.datatype.DatatypeConstants", true),
-              })
-          .put(
-              "Other",
-              new Import[] {
-                new Import("Other", "javax.print.attribute.standard.MediaSize", false),
-              })
-          .put(
-              "getStyleFactory",
-              new Import[] {
-                new Import("getStyleFactory", "javax.swing.plaf.synth.SynthLookAndFeel", true),
-              })
-          .put(
-              "TT",
-              new Import[] {
-                new Import("TT", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "DEFAULT_CLASS_LOADER",
-              new Import[] {
-                new Import(
-                    "DEFAULT_CLASS_LOADER", "javax.management.remote.JMXConnectorFactory", true),
-                new Import(
-                    "DEFAULT_CLASS_LOADER",
-                    "javax.management.remote.JMXConnectorServerFactory",
-                    true),
-              })
-          .put(
-              "ComponentElementName",
-              new Import[] {
-                new Import("ComponentElementName", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "DragSourceDragEvent",
-              new Import[] {
-                new Import("DragSourceDragEvent", "java.awt.dnd", false),
-              })
-          .put(
-              "Label",
-              new Import[] {
-                new Import("Label", "java.awt", false),
-              })
-          .put(
-              "PropertyChangeSupport",
-              new Import[] {
-                new Import("PropertyChangeSupport", "java.beans", false),
-              })
-          .put(
-              "MinimumWidth",
-              new Import[] {
-                new Import("MinimumWidth", "javax.swing.plaf.basic.BasicOptionPaneUI", true),
-              })
-          .put(
-              "ComponentSampleModel",
-              new Import[] {
-                new Import("ComponentSampleModel", "java.awt.image", false),
-              })
-          .put(
-              "JapaneseDate",
-              new Import[] {
-                new Import("JapaneseDate", "java.time.chrono", false),
-              })
-          .put(
-              "NT_ANONYMOUS",
-              new Import[] {
-                new Import("NT_ANONYMOUS", "org.ietf.jgss.GSSName", true),
-              })
-          .put(
-              "escapeValue",
-              new Import[] {
-                new Import("escapeValue", "javax.naming.ldap.Rdn", true),
-              })
-          .put(
-              "AuthorizeCallback",
-              new Import[] {
-                new Import("AuthorizeCallback", "javax.security.sasl", false),
-              })
-          .put(
-              "ImageIO",
-              new Import[] {
-                new Import("ImageIO", "javax.imageio", false),
-              })
-          .put(
-              "BORDER_LEFT",
-              new Import[] {
-                new Import("BORDER_LEFT", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "SynthPasswordFieldUI",
-              new Import[] {
-                new Import("SynthPasswordFieldUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "JobImpressionsSupported",
-              new Import[] {
-                new Import("JobImpressionsSupported", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "JApplet",
-              new Import[] {
-                new Import("JApplet", "javax.swing", false),
-              })
-          .put(
-              "white",
-              new Import[] {
-                new Import("white", "java.awt.Color", true),
-              })
-          .put(
-              "VK_CUT",
-              new Import[] {
-                new Import("VK_CUT", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "UK",
-              new Import[] {
-                new Import("UK", "java.util.Locale", true),
-              })
-          .put(
-              "readAttributes",
-              new Import[] {
-                new Import("readAttributes", "java.nio.file.Files", true),
-              })
-          .put(
-              "UL",
-              new Import[] {
-                new Import("UL", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "UP",
-              new Import[] {
-                new Import("UP", "java.awt.Event", true),
-              })
-          .put(
-              "makeParser",
-              new Import[] {
-                new Import("makeParser", "org.xml.sax.helpers.ParserFactory", true),
-              })
-          .put(
-              "FilerException",
-              new Import[] {
-                new Import("FilerException", "javax.annotation.processing", false),
-              })
-          .put(
-              "US",
-              new Import[] {
-                new Import("US", "java.util.Locale", true),
-              })
-          .put(
-              "ChronoLocalDate",
-              new Import[] {
-                new Import("ChronoLocalDate", "java.time.chrono", false),
-              })
-          .put(
-              "BorderFactory",
-              new Import[] {
-                new Import("BorderFactory", "javax.swing", false),
-              })
-          .put(
-              "DropTargetDragEvent",
-              new Import[] {
-                new Import("DropTargetDragEvent", "java.awt.dnd", false),
-              })
-          .put(
-              "FOCUS_GAINED",
-              new Import[] {
-                new Import("FOCUS_GAINED", "java.awt.event.FocusEvent", true),
-              })
-          .put(
-              "DIRECTIONALITY_EUROPEAN_NUMBER_SEPARATOR",
-              new Import[] {
-                new Import("DIRECTIONALITY_EUROPEAN_NUMBER_SEPARATOR", "java.lang.Character", true),
-              })
-          .put(
-              "ISO_C10_ENVELOPE",
-              new Import[] {
-                new Import("ISO_C10_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "icSigDisplayClass",
-              new Import[] {
-                new Import("icSigDisplayClass", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "InterfaceAddress",
-              new Import[] {
-                new Import("InterfaceAddress", "java.net", false),
-              })
-          .put(
-              "CANON_EQ",
-              new Import[] {
-                new Import("CANON_EQ", "java.util.regex.Pattern", true),
-              })
-          .put(
-              "BitSet",
-              new Import[] {
-                new Import("BitSet", "java.util", false),
-              })
-          .put(
-              "FINAL",
-              new Import[] {
-                new Import("FINAL", "java.lang.reflect.Modifier", true),
-              })
-          .put(
-              "REVERB_SEND",
-              new Import[] {
-                new Import("REVERB_SEND", "javax.sound.sampled.FloatControl.Type", true),
-              })
-          .put(
-              "DEFAULT_STRATEGY",
-              new Import[] {
-                new Import("DEFAULT_STRATEGY", "java.util.zip.Deflater", true),
-              })
-          .put(
-              "InvocationEvent",
-              new Import[] {
-                new Import("InvocationEvent", "java.awt.event", false),
-              })
-          .put(
-              "MethodHandleProxies",
-              new Import[] {
-                new Import("MethodHandleProxies", "java.lang.invoke", false),
-              })
-          .put(
-              "FULL_DECOMPOSITION",
-              new Import[] {
-                new Import("FULL_DECOMPOSITION", "java.text.Collator", true),
-              })
-          .put(
-              "LongAdder",
-              new Import[] {
-                new Import("LongAdder", "java.util.concurrent.atomic", false),
-              })
-          .put(
-              "NoContextHelper",
-              new Import[] {
-                new Import("NoContextHelper", "org.omg.PortableServer.CurrentPackage", false),
-              })
-          .put(
-              "JColorChooser",
-              new Import[] {
-                new Import("JColorChooser", "javax.swing", false),
-              })
-          .put(
-              "ONE_SECOND",
-              new Import[] {
-                new Import("ONE_SECOND", "javax.management.timer.Timer", true),
-              })
-          .put(
-              "next",
-              new Import[] {
-                new Import("next", "java.time.temporal.TemporalAdjusters", true),
-              })
-          .put(
-              "TRANSPORT_RETRY",
-              new Import[] {
-                new Import("TRANSPORT_RETRY", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "ModelMBeanOperationInfo",
-              new Import[] {
-                new Import("ModelMBeanOperationInfo", "javax.management.modelmbean", false),
-              })
-          .put(
-              "LAYER_PROPERTY",
-              new Import[] {
-                new Import("LAYER_PROPERTY", "javax.swing.JLayeredPane", true),
-              })
-          .put(
-              "WINDOW_EXPOSE",
-              new Import[] {
-                new Import("WINDOW_EXPOSE", "java.awt.Event", true),
-              })
-          .put(
-              "System",
-              new Import[] {
-                new Import("System", "java.lang", false),
-              })
-          .put(
-              "UPPER_TRAILING_CORNER",
-              new Import[] {
-                new Import("UPPER_TRAILING_CORNER", "javax.swing.ScrollPaneConstants", true),
-              })
-          .put(
-              "VK_KP_UP",
-              new Import[] {
-                new Import("VK_KP_UP", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "WAVE",
-              new Import[] {
-                new Import("WAVE", "javax.sound.sampled.AudioFileFormat.Type", true),
-              })
-          .put(
-              "DOMException",
-              new Import[] {
-                new Import("DOMException", "org.w3c.dom", false),
-              })
-          .put(
-              "RemoteStub",
-              new Import[] {
-                new Import("RemoteStub", "java.rmi.server", false),
-              })
-          .put(
-              "HOUR1",
-              new Import[] {
-                new Import("HOUR1", "java.text.DateFormat.Field", true),
-              })
-          .put(
-              "HOUR0",
-              new Import[] {
-                new Import("HOUR0", "java.text.DateFormat.Field", true),
-              })
-          .put(
-              "VK_DIVIDE",
-              new Import[] {
-                new Import("VK_DIVIDE", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "GLOBAL",
-              new Import[] {
-                new Import("GLOBAL", "javax.xml.bind.annotation.XmlElementDecl", false),
-              })
-          .put(
-              "STARTTAG",
-              new Import[] {
-                new Import("STARTTAG", "javax.swing.text.html.parser.DTDConstants", true),
-              })
-          .put(
-              "SinkChannel",
-              new Import[] {
-                new Import("SinkChannel", "java.nio.channels.Pipe", false),
-              })
-          .put(
-              "FIDELITY_FALSE",
-              new Import[] {
-                new Import("FIDELITY_FALSE", "javax.print.attribute.standard.Fidelity", true),
-              })
-          .put(
-              "green",
-              new Import[] {
-                new Import("green", "java.awt.Color", true),
-              })
-          .put(
-              "MOUSE_MOVED",
-              new Import[] {
-                new Import("MOUSE_MOVED", "java.awt.event.MouseEvent", true),
-              })
-          .put(
-              "HTMLWriter",
-              new Import[] {
-                new Import("HTMLWriter", "javax.swing.text.html", false),
-              })
-          .put(
-              "AttachmentUnmarshaller",
-              new Import[] {
-                new Import("AttachmentUnmarshaller", "javax.xml.bind.attachment", false),
-              })
-          .put(
-              "_tk_long",
-              new Import[] {
-                new Import("_tk_long", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "InheritableThreadLocal",
-              new Import[] {
-                new Import("InheritableThreadLocal", "java.lang", false),
-              })
-          .put(
-              "HTTP_REQUEST_METHOD",
-              new Import[] {
-                new Import("HTTP_REQUEST_METHOD", "javax.xml.ws.handler.MessageContext", true),
-              })
-          .put(
-              "TIME",
-              new Import[] {
-                new Import("TIME", "java.sql.Types", true),
-                new Import("TIME", "javax.xml.datatype.DatatypeConstants", true),
-              })
-          .put(
-              "ValueFactory",
-              new Import[] {
-                new Import("ValueFactory", "org.omg.CORBA.portable", false),
-              })
-          .put(
-              "VK_PAGE_UP",
-              new Import[] {
-                new Import("VK_PAGE_UP", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "KeyManagerFactory",
-              new Import[] {
-                new Import("KeyManagerFactory", "javax.net.ssl", false),
-              })
-          .put(
-              "RoundEnvironment",
-              new Import[] {
-                new Import("RoundEnvironment", "javax.annotation.processing", false),
-              })
-          .put(
-              "isSurrogate",
-              new Import[] {
-                new Import("isSurrogate", "java.lang.Character", true),
-              })
-          .put(
-              "GenericSignatureFormatError",
-              new Import[] {
-                new Import("GenericSignatureFormatError", "java.lang.reflect", false),
-              })
-          .put(
-              "TEXT_HIGHLIGHT",
-              new Import[] {
-                new Import("TEXT_HIGHLIGHT", "java.awt.SystemColor", true),
-              })
-          .put(
-              "ALT_GRAPH_DOWN_MASK",
-              new Import[] {
-                new Import("ALT_GRAPH_DOWN_MASK", "java.awt.event.InputEvent", true),
-              })
-          .put(
-              "VALUE_RANGE",
-              new Import[] {
-                new Import("VALUE_RANGE", "javax.imageio.metadata.IIOMetadataFormat", true),
-              })
-          .put(
-              "HOURS",
-              new Import[] {
-                new Import("HOURS", "javax.xml.datatype.DatatypeConstants", true),
-              })
-          .put(
-              "Scope",
-              new Import[] {
-                new Import("Scope", "javax.xml.ws.handler.MessageContext", false),
-              })
-          .put(
-              "Filter",
-              new Import[] {
-                new Import("Filter", "java.nio.file.DirectoryStream", false),
-                new Import("Filter", "java.util.logging", false),
-                new Import("Filter", "javax.imageio.spi.ServiceRegistry", false),
-                new Import("Filter", "javax.xml.crypto.dsig.spec.XPathType", false),
-              })
-          .put(
-              "collectingAndThen",
-              new Import[] {
-                new Import("collectingAndThen", "java.util.stream.Collectors", true),
-              })
-          .put(
-              "PseudoColumnUsage",
-              new Import[] {
-                new Import("PseudoColumnUsage", "java.sql", false),
-              })
-          .put(
-              "RelationServiceMBean",
-              new Import[] {
-                new Import("RelationServiceMBean", "javax.management.relation", false),
-              })
-          .put(
-              "PagesPerMinuteColor",
-              new Import[] {
-                new Import("PagesPerMinuteColor", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "window",
-              new Import[] {
-                new Import("window", "java.awt.SystemColor", true),
-              })
-          .put(
-              "toTitleCase",
-              new Import[] {
-                new Import("toTitleCase", "java.lang.Character", true),
-              })
-          .put(
-              "createHorizontalBox",
-              new Import[] {
-                new Import("createHorizontalBox", "javax.swing.Box", true),
-              })
-          .put(
-              "setInstalledLookAndFeels",
-              new Import[] {
-                new Import("setInstalledLookAndFeels", "javax.swing.UIManager", true),
-              })
-          .put(
-              "createInterleavedRaster",
-              new Import[] {
-                new Import("createInterleavedRaster", "java.awt.image.Raster", true),
-              })
-          .put(
-              "ArrayIndexOutOfBoundsException",
-              new Import[] {
-                new Import("ArrayIndexOutOfBoundsException", "java.lang", false),
-              })
-          .put(
-              "VAI",
-              new Import[] {
-                new Import("VAI", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "NumberFormat",
-              new Import[] {
-                new Import("NumberFormat", "java.text", false),
-              })
-          .put(
-              "LSLoadEvent",
-              new Import[] {
-                new Import("LSLoadEvent", "org.w3c.dom.ls", false),
-              })
-          .put(
-              "ButtonBorder",
-              new Import[] {
-                new Import("ButtonBorder", "javax.swing.plaf.basic.BasicBorders", false),
-                new Import("ButtonBorder", "javax.swing.plaf.metal.MetalBorders", false),
-              })
-          .put(
-              "VAR",
-              new Import[] {
-                new Import("VAR", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "DuplicateName",
-              new Import[] {
-                new Import(
-                    "DuplicateName", "org.omg.PortableInterceptor.ORBInitInfoPackage", false),
-              })
-          .put(
-              "getDesktopPropertyValue",
-              new Import[] {
-                new Import("getDesktopPropertyValue", "javax.swing.LookAndFeel", true),
-              })
-          .put(
-              "MultiSplitPaneUI",
-              new Import[] {
-                new Import("MultiSplitPaneUI", "javax.swing.plaf.multi", false),
-              })
-          .put(
-              "NoRouteToHostException",
-              new Import[] {
-                new Import("NoRouteToHostException", "java.net", false),
-              })
-          .put(
-              "DefaultTreeCellRenderer",
-              new Import[] {
-                new Import("DefaultTreeCellRenderer", "javax.swing.tree", false),
-              })
-          .put(
-              "AbstractRegionPainter",
-              new Import[] {
-                new Import("AbstractRegionPainter", "javax.swing.plaf.nimbus", false),
-              })
-          .put(
-              "InvalidParameterException",
-              new Import[] {
-                new Import("InvalidParameterException", "java.security", false),
-              })
-          .put(
-              "AbstractDocument",
-              new Import[] {
-                new Import("AbstractDocument", "javax.swing.text", false),
-              })
-          .put(
-              "UnmappableCharacterException",
-              new Import[] {
-                new Import("UnmappableCharacterException", "java.nio.charset", false),
-              })
-          .put(
-              "NameHolder",
-              new Import[] {
-                new Import("NameHolder", "org.omg.CosNaming", false),
-              })
-          .put(
-              "INV_OBJREF",
-              new Import[] {
-                new Import("INV_OBJREF", "org.omg.CORBA", false),
-              })
-          .put(
-              "ServantManager",
-              new Import[] {
-                new Import("ServantManager", "org.omg.PortableServer", false),
-              })
-          .put(
-              "isInterface",
-              new Import[] {
-                new Import("isInterface", "java.lang.reflect.Modifier", true),
-              })
-          .put(
-              "ClosedSelectorException",
-              new Import[] {
-                new Import("ClosedSelectorException", "java.nio.channels", false),
-              })
-          .put(
-              "SPOOL_AREA_FULL",
-              new Import[] {
-                new Import(
-                    "SPOOL_AREA_FULL", "javax.print.attribute.standard.PrinterStateReason", true),
-              })
-          .put(
-              "AbstractMethodError",
-              new Import[] {
-                new Import("AbstractMethodError", "java.lang", false),
-              })
-          .put(
-              "NULLORDER",
-              new Import[] {
-                new Import("NULLORDER", "java.text.CollationElementIterator", true),
-              })
-          .put(
-              "PARA_INDENT_RIGHT",
-              new Import[] {
-                new Import("PARA_INDENT_RIGHT", "javax.swing.text.html.HTMLEditorKit", true),
-              })
-          .put(
-              "parsedExcessDays",
-              new Import[] {
-                new Import("parsedExcessDays", "java.time.format.DateTimeFormatter", true),
-              })
-          .put(
-              "BindingIteratorHolder",
-              new Import[] {
-                new Import("BindingIteratorHolder", "org.omg.CosNaming", false),
-              })
-          .put(
-              "KEEP_CURRENT_RESULT",
-              new Import[] {
-                new Import("KEEP_CURRENT_RESULT", "java.sql.Statement", true),
-              })
-          .put(
-              "INSTANCE",
-              new Import[] {
-                new Import("INSTANCE", "java.time.chrono.HijrahChronology", true),
-                new Import("INSTANCE", "java.time.chrono.IsoChronology", true),
-                new Import("INSTANCE", "java.time.chrono.JapaneseChronology", true),
-                new Import("INSTANCE", "java.time.chrono.MinguoChronology", true),
-                new Import("INSTANCE", "java.time.chrono.ThaiBuddhistChronology", true),
-              })
-          .put(
-              "SerialClob",
-              new Import[] {
-                new Import("SerialClob", "javax.sql.rowset.serial", false),
-              })
-          .put(
-              "TEXT_HIGHLIGHT_TEXT",
-              new Import[] {
-                new Import("TEXT_HIGHLIGHT_TEXT", "java.awt.SystemColor", true),
-              })
-          .put(
-              "ETHIOPIC_EXTENDED",
-              new Import[] {
-                new Import("ETHIOPIC_EXTENDED", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "CYAN",
-              new Import[] {
-                new Import("CYAN", "java.awt.Color", true),
-              })
-          .put(
-              "SQLType",
-              new Import[] {
-                new Import("SQLType", "java.sql", false),
-              })
-          .put(
-              "WAIT_CURSOR",
-              new Import[] {
-                new Import("WAIT_CURSOR", "java.awt.Cursor", true),
-                new Import("WAIT_CURSOR", "java.awt.Frame", true),
-              })
-          .put(
-              "CENSIG",
-              new Import[] {
-                new Import("CENSIG", "java.util.jar.JarEntry", true),
-                new Import("CENSIG", "java.util.jar.JarFile", true),
-                new Import("CENSIG", "java.util.jar.JarInputStream", true),
-                new Import("CENSIG", "java.util.jar.JarOutputStream", true),
-                new Import("CENSIG", "java.util.zip.ZipEntry", true),
-                new Import("CENSIG", "java.util.zip.ZipFile", true),
-                new Import("CENSIG", "java.util.zip.ZipInputStream", true),
-                new Import("CENSIG", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "parseFloat",
-              new Import[] {
-                new Import("parseFloat", "java.lang.Float", true),
-                new Import("parseFloat", "javax.xml.bind.DatatypeConverter", true),
-              })
-          .put(
-              "Transparency",
-              new Import[] {
-                new Import("Transparency", "java.awt", false),
-              })
-          .put(
-              "BENGALI",
-              new Import[] {
-                new Import("BENGALI", "java.awt.font.NumericShaper", true),
-                new Import("BENGALI", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "PropertyPermission",
-              new Import[] {
-                new Import("PropertyPermission", "java.util", false),
-              })
-          .put(
-              "JLayeredPane",
-              new Import[] {
-                new Import("JLayeredPane", "javax.swing", false),
-              })
-          .put(
-              "ZipEntry",
-              new Import[] {
-                new Import("ZipEntry", "java.util.zip", false),
-              })
-          .put(
-              "CHAR",
-              new Import[] {
-                new Import("CHAR", "java.sql.Types", true),
-              })
-          .put(
-              "WEIGHT_REGULAR",
-              new Import[] {
-                new Import("WEIGHT_REGULAR", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "CHAKMA",
-              new Import[] {
-                new Import("CHAKMA", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "X509CertSelector",
-              new Import[] {
-                new Import("X509CertSelector", "java.security.cert", false),
-              })
-          .put(
-              "SortedSet",
-              new Import[] {
-                new Import("SortedSet", "java.util", false),
-              })
-          .put(
-              "CHAM",
-              new Import[] {
-                new Import("CHAM", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "VERTICAL_SCROLLBAR_AS_NEEDED",
-              new Import[] {
-                new Import("VERTICAL_SCROLLBAR_AS_NEEDED", "javax.swing.ScrollPaneConstants", true),
-              })
-          .put(
-              "SOAPMessageHandler",
-              new Import[] {
-                new Import("SOAPMessageHandler", "javax.jws.soap", false),
-              })
-          .put(
-              "UTF_8",
-              new Import[] {
-                new Import("UTF_8", "java.nio.charset.StandardCharsets", true),
-              })
-          .put(
-              "SliderUI",
-              new Import[] {
-                new Import("SliderUI", "javax.swing.plaf", false),
-              })
-          .put(
-              "FontMetrics",
-              new Import[] {
-                new Import("FontMetrics", "java.awt", false),
-              })
-          .put(
-              "ListResourceBundle",
-              new Import[] {
-                new Import("ListResourceBundle", "java.util", false),
-              })
-          .put(
-              "SOAP_1_1_PROTOCOL",
-              new Import[] {
-                new Import("SOAP_1_1_PROTOCOL", "javax.xml.soap.SOAPConstants", true),
-              })
-          .put(
-              "ENVELOPE",
-              new Import[] {
-                new Import("ENVELOPE", "javax.print.attribute.standard.MediaTray", true),
-              })
-          .put(
-              "LIST_STYLE_POSITION",
-              new Import[] {
-                new Import("LIST_STYLE_POSITION", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "isJavaLetterOrDigit",
-              new Import[] {
-                new Import("isJavaLetterOrDigit", "java.lang.Character", true),
-              })
-          .put(
-              "SAVE_DIALOG",
-              new Import[] {
-                new Import("SAVE_DIALOG", "javax.swing.JFileChooser", true),
-              })
-          .put(
-              "CENSIZ",
-              new Import[] {
-                new Import("CENSIZ", "java.util.jar.JarEntry", true),
-                new Import("CENSIZ", "java.util.jar.JarFile", true),
-                new Import("CENSIZ", "java.util.jar.JarInputStream", true),
-                new Import("CENSIZ", "java.util.jar.JarOutputStream", true),
-                new Import("CENSIZ", "java.util.zip.ZipEntry", true),
-                new Import("CENSIZ", "java.util.zip.ZipFile", true),
-                new Import("CENSIZ", "java.util.zip.ZipInputStream", true),
-                new Import("CENSIZ", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "WINDOW_FOCUS_EVENT_MASK",
-              new Import[] {
-                new Import("WINDOW_FOCUS_EVENT_MASK", "java.awt.AWTEvent", true),
-              })
-          .put(
-              "MenuEvent",
-              new Import[] {
-                new Import("MenuEvent", "javax.swing.event", false),
-              })
-          .put(
-              "TreeWillExpandListener",
-              new Import[] {
-                new Import("TreeWillExpandListener", "javax.swing.event", false),
-              })
-          .put(
-              "ShortLookupTable",
-              new Import[] {
-                new Import("ShortLookupTable", "java.awt.image", false),
-              })
-          .put(
-              "CHOOSABLE_FILE_FILTER_CHANGED_PROPERTY",
-              new Import[] {
-                new Import(
-                    "CHOOSABLE_FILE_FILTER_CHANGED_PROPERTY", "javax.swing.JFileChooser", true),
-              })
-          .put(
-              "isGuiAvailable",
-              new Import[] {
-                new Import("isGuiAvailable", "java.beans.Beans", true),
-              })
-          .put(
-              "icSigGamutTag",
-              new Import[] {
-                new Import("icSigGamutTag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "getSystemClassLoader",
-              new Import[] {
-                new Import("getSystemClassLoader", "java.lang.ClassLoader", true),
-              })
-          .put(
-              "IMPLEMENTATION_VERSION",
-              new Import[] {
-                new Import("IMPLEMENTATION_VERSION", "java.util.jar.Attributes.Name", true),
-              })
-          .put(
-              "icHdrCreator",
-              new Import[] {
-                new Import("icHdrCreator", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "getAnonymousLogger",
-              new Import[] {
-                new Import("getAnonymousLogger", "java.util.logging.Logger", true),
-              })
-          .put(
-              "ACCESSIBLE_DESCRIPTION_PROPERTY",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_DESCRIPTION_PROPERTY",
-                    "javax.accessibility.AccessibleContext",
-                    true),
-              })
-          .put(
-              "SynthCheckBoxMenuItemUI",
-              new Import[] {
-                new Import("SynthCheckBoxMenuItemUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "NOT_ATTEMPTED",
-              new Import[] {
-                new Import(
-                    "NOT_ATTEMPTED", "javax.print.attribute.standard.PDLOverrideSupported", true),
-              })
-          .put(
-              "SOUTH_WEST",
-              new Import[] {
-                new Import("SOUTH_WEST", "javax.swing.SwingConstants", true),
-              })
-          .put(
-              "ENTRY_DELETE",
-              new Import[] {
-                new Import("ENTRY_DELETE", "java.nio.file.StandardWatchEventKinds", true),
-              })
-          .put(
-              "SignStyle",
-              new Import[] {
-                new Import("SignStyle", "java.time.format", false),
-              })
-          .put(
-              "nonNull",
-              new Import[] {
-                new Import("nonNull", "java.util.Objects", true),
-              })
-          .put(
-              "BYTES",
-              new Import[] {
-                new Import("BYTES", "java.lang.Byte", true),
-                new Import("BYTES", "java.lang.Character", true),
-                new Import("BYTES", "java.lang.Double", true),
-                new Import("BYTES", "java.lang.Float", true),
-                new Import("BYTES", "java.lang.Integer", true),
-                new Import("BYTES", "java.lang.Long", true),
-                new Import("BYTES", "java.lang.Short", true),
-              })
-          .put(
-              "BrokenBarrierException",
-              new Import[] {
-                new Import("BrokenBarrierException", "java.util.concurrent", false),
-              })
-          .put(
-              "TreeFolderIcon",
-              new Import[] {
-                new Import("TreeFolderIcon", "javax.swing.plaf.metal.MetalIconFactory", false),
-              })
-          .put(
-              "upAction",
-              new Import[] {
-                new Import("upAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "REQUEST_KEY_SIZE",
-              new Import[] {
-                new Import("REQUEST_KEY_SIZE", "javax.xml.ws.spi.http.HttpExchange", true),
-              })
-          .put(
-              "isUnique",
-              new Import[] {
-                new Import("isUnique", "java.rmi.dgc.VMID", true),
-              })
-          .put(
-              "Attributes",
-              new Import[] {
-                new Import("Attributes", "java.util.jar", false),
-                new Import("Attributes", "javax.naming.directory", false),
-                new Import("Attributes", "org.xml.sax", false),
-              })
-          .put(
-              "MaskFormatter",
-              new Import[] {
-                new Import("MaskFormatter", "javax.swing.text", false),
-              })
-          .put(
-              "ToolTipUI",
-              new Import[] {
-                new Import("ToolTipUI", "javax.swing.plaf", false),
-              })
-          .put(
-              "TC_ARRAY",
-              new Import[] {
-                new Import("TC_ARRAY", "java.io.ObjectStreamConstants", true),
-              })
-          .put(
-              "Pageable",
-              new Import[] {
-                new Import("Pageable", "java.awt.print", false),
-              })
-          .put(
-              "TTL_DONT_CACHE",
-              new Import[] {
-                new Import("TTL_DONT_CACHE", "java.util.ResourceBundle.Control", true),
-              })
-          .put(
-              "functionNoNulls",
-              new Import[] {
-                new Import("functionNoNulls", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "ObjectStreamException",
-              new Import[] {
-                new Import("ObjectStreamException", "java.io", false),
-              })
-          .put(
-              "DriverManager",
-              new Import[] {
-                new Import("DriverManager", "java.sql", false),
-              })
-          .put(
-              "selectAllAction",
-              new Import[] {
-                new Import("selectAllAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "LINE_SEPARATOR",
-              new Import[] {
-                new Import("LINE_SEPARATOR", "java.lang.Character", true),
-              })
-          .put(
-              "TypeConstraintException",
-              new Import[] {
-                new Import("TypeConstraintException", "javax.xml.bind", false),
-              })
-          .put(
-              "SOUTHEAST",
-              new Import[] {
-                new Import("SOUTHEAST", "java.awt.GridBagConstraints", true),
-              })
-          .put(
-              "MXBean",
-              new Import[] {
-                new Import("MXBean", "javax.management", false),
-              })
-          .put(
-              "SocketImplFactory",
-              new Import[] {
-                new Import("SocketImplFactory", "java.net", false),
-              })
-          .put(
-              "Inet6Address",
-              new Import[] {
-                new Import("Inet6Address", "java.net", false),
-              })
-          .put(
-              "DefaultTreeModel",
-              new Import[] {
-                new Import("DefaultTreeModel", "javax.swing.tree", false),
-              })
-          .put(
-              "setSocketImplFactory",
-              new Import[] {
-                new Import("setSocketImplFactory", "java.net.Socket", true),
-              })
-          .put(
-              "ofOffset",
-              new Import[] {
-                new Import("ofOffset", "java.time.ZoneId", true),
-              })
-          .put(
-              "CommandObject",
-              new Import[] {
-                new Import("CommandObject", "javax.activation", false),
-              })
-          .put(
-              "EventDirContext",
-              new Import[] {
-                new Import("EventDirContext", "javax.naming.event", false),
-              })
-          .put(
-              "drawBezel",
-              new Import[] {
-                new Import("drawBezel", "javax.swing.plaf.basic.BasicGraphicsUtils", true),
-              })
-          .put(
-              "FREE_STANDING_PROP",
-              new Import[] {
-                new Import("FREE_STANDING_PROP", "javax.swing.plaf.metal.MetalScrollBarUI", true),
-              })
-          .put(
-              "ManagerFactoryParameters",
-              new Import[] {
-                new Import("ManagerFactoryParameters", "javax.net.ssl", false),
-              })
-          .put(
-              "SimpleElementVisitor7",
-              new Import[] {
-                new Import("SimpleElementVisitor7", "javax.lang.model.util", false),
-              })
-          .put(
-              "SimpleElementVisitor6",
-              new Import[] {
-                new Import("SimpleElementVisitor6", "javax.lang.model.util", false),
-              })
-          .put(
-              "SimpleElementVisitor8",
-              new Import[] {
-                new Import("SimpleElementVisitor8", "javax.lang.model.util", false),
-              })
-          .put(
-              "TreeLeafIcon",
-              new Import[] {
-                new Import("TreeLeafIcon", "javax.swing.plaf.metal.MetalIconFactory", false),
-              })
-          .put(
-              "JProgressBar",
-              new Import[] {
-                new Import("JProgressBar", "javax.swing", false),
-              })
-          .put(
-              "ServiceUnavailableException",
-              new Import[] {
-                new Import("ServiceUnavailableException", "javax.naming", false),
-              })
-          .put(
-              "invokeAndWait",
-              new Import[] {
-                new Import("invokeAndWait", "java.awt.EventQueue", true),
-                new Import("invokeAndWait", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "KeyEvent",
-              new Import[] {
-                new Import("KeyEvent", "java.awt.event", false),
-              })
-          .put(
-              "VetoableChangeListenerProxy",
-              new Import[] {
-                new Import("VetoableChangeListenerProxy", "java.beans", false),
-              })
-          .put(
-              "MEROITIC_CURSIVE",
-              new Import[] {
-                new Import("MEROITIC_CURSIVE", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "WeakReference",
-              new Import[] {
-                new Import("WeakReference", "java.lang.ref", false),
-              })
-          .put(
-              "Collector",
-              new Import[] {
-                new Import("Collector", "java.util.stream", false),
-              })
-          .put(
-              "ENCLOSED_CJK_LETTERS_AND_MONTHS",
-              new Import[] {
-                new Import(
-                    "ENCLOSED_CJK_LETTERS_AND_MONTHS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "CurrentHelper",
-              new Import[] {
-                new Import("CurrentHelper", "org.omg.CORBA", false),
-                new Import("CurrentHelper", "org.omg.PortableInterceptor", false),
-                new Import("CurrentHelper", "org.omg.PortableServer", false),
-              })
-          .put(
-              "TIMES",
-              new Import[] {
-                new Import("TIMES", "javax.management.Query", true),
-              })
-          .put(
-              "AclEntryType",
-              new Import[] {
-                new Import("AclEntryType", "java.nio.file.attribute", false),
-              })
-          .put(
-              "selectWordAction",
-              new Import[] {
-                new Import("selectWordAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "forDigit",
-              new Import[] {
-                new Import("forDigit", "java.lang.Character", true),
-              })
-          .put(
-              "CertPathChecker",
-              new Import[] {
-                new Import("CertPathChecker", "java.security.cert", false),
-              })
-          .put(
-              "DATATYPEFACTORY_PROPERTY",
-              new Import[] {
-                new Import("DATATYPEFACTORY_PROPERTY", "javax.xml.datatype.DatatypeFactory", true),
-              })
-          .put(
-              "getDefault",
-              new Import[] {
-                new Import("getDefault", "java.net.CookieHandler", true),
-                new Import("getDefault", "java.net.ProxySelector", true),
-                new Import("getDefault", "java.net.ResponseCache", true),
-                new Import("getDefault", "java.nio.file.FileSystems", true),
-                new Import("getDefault", "java.util.Locale", true),
-                new Import("getDefault", "java.util.TimeZone", true),
-                new Import("getDefault", "javax.net.ServerSocketFactory", true),
-                new Import("getDefault", "javax.net.SocketFactory", true),
-                new Import("getDefault", "javax.net.ssl.SSLContext", true),
-                new Import("getDefault", "javax.net.ssl.SSLServerSocketFactory", true),
-                new Import("getDefault", "javax.net.ssl.SSLSocketFactory", true),
-              })
-          .put(
-              "ParagraphView",
-              new Import[] {
-                new Import("ParagraphView", "javax.swing.text", false),
-                new Import("ParagraphView", "javax.swing.text.html", false),
-              })
-          .put(
-              "FlipContents",
-              new Import[] {
-                new Import("FlipContents", "java.awt.BufferCapabilities", false),
-              })
-          .put(
-              "showInternalMessageDialog",
-              new Import[] {
-                new Import("showInternalMessageDialog", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "BUTTON2_DOWN_MASK",
-              new Import[] {
-                new Import("BUTTON2_DOWN_MASK", "java.awt.event.InputEvent", true),
-              })
-          .put(
-              "PRINTER",
-              new Import[] {
-                new Import("PRINTER", "java.awt.JobAttributes.DestinationType", true),
-              })
-          .put(
-              "VK_JAPANESE_HIRAGANA",
-              new Import[] {
-                new Import("VK_JAPANESE_HIRAGANA", "java.awt.event.KeyEvent", true),
-              })
-          .build();
-}
@@ -1,1840 +0,0 @@
-// Code generated by GenerateStdlib.java. DO NOT EDIT.
-package com.nikodoko.javaimports.stdlib.internal.api.v8;
-
-import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
-import java.util.Map;
-
-public class Java8StdlibChunk6 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
-          .put(
-              "ENDSIZ",
-              new Import[] {
-                new Import("ENDSIZ", "java.util.jar.JarEntry", true),
-                new Import("ENDSIZ", "java.util.jar.JarFile", true),
-                new Import("ENDSIZ", "java.util.jar.JarInputStream", true),
-                new Import("ENDSIZ", "java.util.jar.JarOutputStream", true),
-                new Import("ENDSIZ", "java.util.zip.ZipEntry", true),
-                new Import("ENDSIZ", "java.util.zip.ZipFile", true),
-                new Import("ENDSIZ", "java.util.zip.ZipInputStream", true),
-                new Import("ENDSIZ", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "DST_OUT",
-              new Import[] {
-                new Import("DST_OUT", "java.awt.AlphaComposite", true),
-              })
-          .put(
-              "getControlDisabled",
-              new Import[] {
-                new Import("getControlDisabled", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "ENV_INVITE",
-              new Import[] {
-                new Import("ENV_INVITE", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "SYSTEM_PORT",
-              new Import[] {
-                new Import("SYSTEM_PORT", "java.rmi.activation.ActivationSystem", true),
-              })
-          .put(
-              "CancelledKeyException",
-              new Import[] {
-                new Import("CancelledKeyException", "java.nio.channels", false),
-              })
-          .put(
-              "LATIN_DIGITS",
-              new Import[] {
-                new Import("LATIN_DIGITS", "java.awt.im.InputSubset", true),
-              })
-          .put(
-              "TTL_NO_EXPIRATION_CONTROL",
-              new Import[] {
-                new Import("TTL_NO_EXPIRATION_CONTROL", "java.util.ResourceBundle.Control", true),
-              })
-          .put(
-              "BAD_PARAM",
-              new Import[] {
-                new Import("BAD_PARAM", "org.omg.CORBA", false),
-              })
-          .put(
-              "VK_BRACERIGHT",
-              new Import[] {
-                new Import("VK_BRACERIGHT", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "ToolBarUI",
-              new Import[] {
-                new Import("ToolBarUI", "javax.swing.plaf", false),
-              })
-          .put(
-              "firstDayOfNextYear",
-              new Import[] {
-                new Import("firstDayOfNextYear", "java.time.temporal.TemporalAdjusters", true),
-              })
-          .put(
-              "ONE_SIDED",
-              new Import[] {
-                new Import("ONE_SIDED", "java.awt.JobAttributes.SidesType", true),
-                new Import("ONE_SIDED", "javax.print.attribute.standard.Sides", true),
-              })
-          .put(
-              "KATAKANA_PHONETIC_EXTENSIONS",
-              new Import[] {
-                new Import(
-                    "KATAKANA_PHONETIC_EXTENSIONS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "from_int",
-              new Import[] {
-                new Import("from_int", "org.omg.CORBA.CompletionStatus", true),
-                new Import("from_int", "org.omg.CORBA.DefinitionKind", true),
-                new Import("from_int", "org.omg.CORBA.ParameterMode", true),
-                new Import("from_int", "org.omg.CORBA.SetOverrideType", true),
-                new Import("from_int", "org.omg.CORBA.TCKind", true),
-                new Import("from_int", "org.omg.CosNaming.BindingType", true),
-                new Import(
-                    "from_int", "org.omg.CosNaming.NamingContextPackage.NotFoundReason", true),
-                new Import("from_int", "org.omg.PortableServer.IdAssignmentPolicyValue", true),
-                new Import("from_int", "org.omg.PortableServer.IdUniquenessPolicyValue", true),
-                new Import(
-                    "from_int", "org.omg.PortableServer.ImplicitActivationPolicyValue", true),
-                new Import("from_int", "org.omg.PortableServer.LifespanPolicyValue", true),
-                new Import("from_int", "org.omg.PortableServer.RequestProcessingPolicyValue", true),
-                new Import("from_int", "org.omg.PortableServer.ServantRetentionPolicyValue", true),
-                new Import("from_int", "org.omg.PortableServer.ThreadPolicyValue", true),
-                new Import("from_int", "org.omg.PortableServer.POAManagerPackage.State", true),
-              })
-          .put(
-              "INVOCATION_EVENT_MASK",
-              new Import[] {
-                new Import("INVOCATION_EVENT_MASK", "java.awt.AWTEvent", true),
-              })
-          .put(
-              "SSLProtocolException",
-              new Import[] {
-                new Import("SSLProtocolException", "javax.net.ssl", false),
-              })
-          .put(
-              "JAVA_OBJECT",
-              new Import[] {
-                new Import("JAVA_OBJECT", "java.sql.Types", true),
-              })
-          .put(
-              "DecimalStyle",
-              new Import[] {
-                new Import("DecimalStyle", "java.time.format", false),
-              })
-          .put(
-              "CompositeView",
-              new Import[] {
-                new Import("CompositeView", "javax.swing.text", false),
-              })
-          .put(
-              "DynSequence",
-              new Import[] {
-                new Import("DynSequence", "org.omg.CORBA", false),
-                new Import("DynSequence", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "TAG_LOCA",
-              new Import[] {
-                new Import("TAG_LOCA", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "SignedObject",
-              new Import[] {
-                new Import("SignedObject", "java.security", false),
-              })
-          .put(
-              "getAvailableLocales",
-              new Import[] {
-                new Import("getAvailableLocales", "java.text.BreakIterator", true),
-                new Import("getAvailableLocales", "java.text.Collator", true),
-                new Import("getAvailableLocales", "java.text.DateFormat", true),
-                new Import("getAvailableLocales", "java.text.DateFormatSymbols", true),
-                new Import("getAvailableLocales", "java.text.DecimalFormatSymbols", true),
-                new Import("getAvailableLocales", "java.text.NumberFormat", true),
-                new Import("getAvailableLocales", "java.time.format.DecimalStyle", true),
-                new Import("getAvailableLocales", "java.util.Calendar", true),
-                new Import("getAvailableLocales", "java.util.Locale", true),
-              })
-          .put(
-              "getHSBColor",
-              new Import[] {
-                new Import("getHSBColor", "java.awt.Color", true),
-              })
-          .put(
-              "emptyEnumeration",
-              new Import[] {
-                new Import("emptyEnumeration", "java.util.Collections", true),
-              })
-          .put(
-              "BufferedImageFilter",
-              new Import[] {
-                new Import("BufferedImageFilter", "java.awt.image", false),
-              })
-          .put(
-              "Parameters",
-              new Import[] {
-                new Import("Parameters", "java.security.Policy", false),
-                new Import("Parameters", "javax.security.auth.login.Configuration", false),
-              })
-          .put(
-              "andFilter",
-              new Import[] {
-                new Import("andFilter", "javax.swing.RowFilter", true),
-              })
-          .put(
-              "MAX_BUFFER",
-              new Import[] {
-                new Import("MAX_BUFFER", "javax.security.sasl.Sasl", true),
-              })
-          .put(
-              "VOLUME",
-              new Import[] {
-                new Import("VOLUME", "javax.sound.sampled.FloatControl.Type", true),
-              })
-          .put(
-              "JWindow",
-              new Import[] {
-                new Import("JWindow", "javax.swing", false),
-              })
-          .put(
-              "CompositeName",
-              new Import[] {
-                new Import("CompositeName", "javax.naming", false),
-              })
-          .put(
-              "MemoryImageSource",
-              new Import[] {
-                new Import("MemoryImageSource", "java.awt.image", false),
-              })
-          .put(
-              "layoutCompoundLabel",
-              new Import[] {
-                new Import("layoutCompoundLabel", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "OLD_PERSIAN",
-              new Import[] {
-                new Import("OLD_PERSIAN", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "_tk_any",
-              new Import[] {
-                new Import("_tk_any", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "_dk_none",
-              new Import[] {
-                new Import("_dk_none", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "ParameterMode",
-              new Import[] {
-                new Import("ParameterMode", "org.omg.CORBA", false),
-              })
-          .put(
-              "YES_NO_CANCEL_OPTION",
-              new Import[] {
-                new Import(
-                    "YES_NO_CANCEL_OPTION",
-                    "javax.security.auth.callback.ConfirmationCallback",
-                    true),
-                new Import("YES_NO_CANCEL_OPTION", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "getType",
-              new Import[] {
-                new Import("getType", "java.lang.Character", true),
-              })
-          .put(
-              "PAGE_TAB",
-              new Import[] {
-                new Import("PAGE_TAB", "javax.accessibility.AccessibleRole", true),
-              })
-          .put(
-              "W3CEndpointReference",
-              new Import[] {
-                new Import("W3CEndpointReference", "javax.xml.ws.wsaddressing", false),
-              })
-          .put(
-              "getMenuSelectedBackground",
-              new Import[] {
-                new Import(
-                    "getMenuSelectedBackground", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "ABORTED",
-              new Import[] {
-                new Import("ABORTED", "java.awt.MediaTracker", true),
-                new Import("ABORTED", "javax.print.attribute.standard.JobState", true),
-              })
-          .put(
-              "ImageWriterSpi",
-              new Import[] {
-                new Import("ImageWriterSpi", "javax.imageio.spi", false),
-              })
-          .put(
-              "NORESIZE",
-              new Import[] {
-                new Import("NORESIZE", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "ENDSIG",
-              new Import[] {
-                new Import("ENDSIG", "java.util.jar.JarEntry", true),
-                new Import("ENDSIG", "java.util.jar.JarFile", true),
-                new Import("ENDSIG", "java.util.jar.JarInputStream", true),
-                new Import("ENDSIG", "java.util.jar.JarOutputStream", true),
-                new Import("ENDSIG", "java.util.zip.ZipEntry", true),
-                new Import("ENDSIG", "java.util.zip.ZipFile", true),
-                new Import("ENDSIG", "java.util.zip.ZipInputStream", true),
-                new Import("ENDSIG", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "ACTION_MOVE",
-              new Import[] {
-                new Import("ACTION_MOVE", "java.awt.dnd.DnDConstants", true),
-              })
-          .put(
-              "DOMError",
-              new Import[] {
-                new Import("DOMError", "org.w3c.dom", false),
-              })
-          .put(
-              "SYSTEM_ID",
-              new Import[] {
-                new Import("SYSTEM_ID", "org.omg.PortableServer.IdAssignmentPolicyValue", true),
-              })
-          .put(
-              "SMPTE_30DROP",
-              new Import[] {
-                new Import("SMPTE_30DROP", "javax.sound.midi.Sequence", true),
-              })
-          .put(
-              "isProtected",
-              new Import[] {
-                new Import("isProtected", "java.lang.reflect.Modifier", true),
-              })
-          .put(
-              "SupportedAnnotationTypes",
-              new Import[] {
-                new Import("SupportedAnnotationTypes", "javax.annotation.processing", false),
-              })
-          .put(
-              "selectionBeginLineAction",
-              new Import[] {
-                new Import("selectionBeginLineAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "SOAPElement",
-              new Import[] {
-                new Import("SOAPElement", "javax.xml.soap", false),
-              })
-          .put(
-              "XA_RBPROTO",
-              new Import[] {
-                new Import("XA_RBPROTO", "javax.transaction.xa.XAException", true),
-              })
-          .put(
-              "KEY_RELEASED",
-              new Import[] {
-                new Import("KEY_RELEASED", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "StartTlsRequest",
-              new Import[] {
-                new Import("StartTlsRequest", "javax.naming.ldap", false),
-              })
-          .put(
-              "ParseConversionEvent",
-              new Import[] {
-                new Import("ParseConversionEvent", "javax.xml.bind", false),
-              })
-          .put(
-              "Enumeration",
-              new Import[] {
-                new Import("Enumeration", "java.util", false),
-              })
-          .put(
-              "DynFixedHelper",
-              new Import[] {
-                new Import("DynFixedHelper", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "INVALID_TRANSACTION",
-              new Import[] {
-                new Import("INVALID_TRANSACTION", "org.omg.CORBA", false),
-              })
-          .put(
-              "GREATER",
-              new Import[] {
-                new Import("GREATER", "javax.xml.datatype.DatatypeConstants", true),
-              })
-          .put(
-              "isSynchronized",
-              new Import[] {
-                new Import("isSynchronized", "java.lang.reflect.Modifier", true),
-              })
-          .put(
-              "TreeControlIcon",
-              new Import[] {
-                new Import("TreeControlIcon", "javax.swing.plaf.metal.MetalIconFactory", false),
-              })
-          .put(
-              "ToggleButtonModel",
-              new Import[] {
-                new Import("ToggleButtonModel", "javax.swing.JToggleButton", false),
-              })
-          .put(
-              "ISO_TIME",
-              new Import[] {
-                new Import("ISO_TIME", "java.time.format.DateTimeFormatter", true),
-              })
-          .put(
-              "BORDER_RIGHT_STYLE",
-              new Import[] {
-                new Import("BORDER_RIGHT_STYLE", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "DSAPublicKey",
-              new Import[] {
-                new Import("DSAPublicKey", "java.security.interfaces", false),
-              })
-          .put(
-              "DEFAULT_COMPRESSION",
-              new Import[] {
-                new Import("DEFAULT_COMPRESSION", "java.util.zip.Deflater", true),
-              })
-          .put(
-              "AppConfigurationEntry",
-              new Import[] {
-                new Import("AppConfigurationEntry", "javax.security.auth.login", false),
-              })
-          .put(
-              "WebServiceProvider",
-              new Import[] {
-                new Import("WebServiceProvider", "javax.xml.ws", false),
-              })
-          .put(
-              "DatagramSocketImpl",
-              new Import[] {
-                new Import("DatagramSocketImpl", "java.net", false),
-              })
-          .put(
-              "UNKNOWN_LENGTH",
-              new Import[] {
-                new Import("UNKNOWN_LENGTH", "javax.sound.midi.MidiFileFormat", true),
-              })
-          .put(
-              "XmlEnumValue",
-              new Import[] {
-                new Import("XmlEnumValue", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "COMMON_INDIC_NUMBER_FORMS",
-              new Import[] {
-                new Import("COMMON_INDIC_NUMBER_FORMS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "probablePrime",
-              new Import[] {
-                new Import("probablePrime", "java.math.BigInteger", true),
-              })
-          .put(
-              "SecureRandomSpi",
-              new Import[] {
-                new Import("SecureRandomSpi", "java.security", false),
-              })
-          .put(
-              "PrintGraphics",
-              new Import[] {
-                new Import("PrintGraphics", "java.awt", false),
-              })
-          .put(
-              "encode",
-              new Import[] {
-                new Import("encode", "java.net.URLEncoder", true),
-              })
-          .put(
-              "ENTITY_REFERENCE",
-              new Import[] {
-                new Import("ENTITY_REFERENCE", "javax.xml.stream.XMLStreamConstants", true),
-              })
-          .put(
-              "VALUE_TEXT_ANTIALIAS_LCD_VBGR",
-              new Import[] {
-                new Import("VALUE_TEXT_ANTIALIAS_LCD_VBGR", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "ACTIVE_CAPTION_BORDER",
-              new Import[] {
-                new Import("ACTIVE_CAPTION_BORDER", "java.awt.SystemColor", true),
-              })
-          .put(
-              "EndElement",
-              new Import[] {
-                new Import("EndElement", "javax.xml.stream.events", false),
-              })
-          .put(
-              "verifyAttributeCategory",
-              new Import[] {
-                new Import(
-                    "verifyAttributeCategory", "javax.print.attribute.AttributeSetUtilities", true),
-              })
-          .put(
-              "SEGMENT_LIMIT",
-              new Import[] {
-                new Import("SEGMENT_LIMIT", "java.util.jar.Pack200.Packer", true),
-              })
-          .put(
-              "Port",
-              new Import[] {
-                new Import("Port", "javax.sound.sampled", false),
-              })
-          .put(
-              "URI_NS_SOAP_ENVELOPE",
-              new Import[] {
-                new Import("URI_NS_SOAP_ENVELOPE", "javax.xml.soap.SOAPConstants", true),
-              })
-          .put(
-              "TOTOP_TORIGHT",
-              new Import[] {
-                new Import(
-                    "TOTOP_TORIGHT", "javax.print.attribute.standard.PresentationDirection", true),
-              })
-          .put(
-              "XMLStructure",
-              new Import[] {
-                new Import("XMLStructure", "javax.xml.crypto", false),
-              })
-          .put(
-              "CHECKED",
-              new Import[] {
-                new Import("CHECKED", "javax.accessibility.AccessibleState", true),
-                new Import("CHECKED", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "CENATT",
-              new Import[] {
-                new Import("CENATT", "java.util.jar.JarEntry", true),
-                new Import("CENATT", "java.util.jar.JarFile", true),
-                new Import("CENATT", "java.util.jar.JarInputStream", true),
-                new Import("CENATT", "java.util.jar.JarOutputStream", true),
-                new Import("CENATT", "java.util.zip.ZipEntry", true),
-                new Import("CENATT", "java.util.zip.ZipFile", true),
-                new Import("CENATT", "java.util.zip.ZipInputStream", true),
-                new Import("CENATT", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "GraphicsDevice",
-              new Import[] {
-                new Import("GraphicsDevice", "java.awt", false),
-              })
-          .put(
-              "LYCIAN",
-              new Import[] {
-                new Import("LYCIAN", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "VK_BACK_QUOTE",
-              new Import[] {
-                new Import("VK_BACK_QUOTE", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "NO_OPTION",
-              new Import[] {
-                new Import("NO_OPTION", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "CENATX",
-              new Import[] {
-                new Import("CENATX", "java.util.jar.JarEntry", true),
-                new Import("CENATX", "java.util.jar.JarFile", true),
-                new Import("CENATX", "java.util.jar.JarInputStream", true),
-                new Import("CENATX", "java.util.jar.JarOutputStream", true),
-                new Import("CENATX", "java.util.zip.ZipEntry", true),
-                new Import("CENATX", "java.util.zip.ZipFile", true),
-                new Import("CENATX", "java.util.zip.ZipInputStream", true),
-                new Import("CENATX", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "XA_RBCOMMFAIL",
-              new Import[] {
-                new Import("XA_RBCOMMFAIL", "javax.transaction.xa.XAException", true),
-              })
-          .put(
-              "NOPOS",
-              new Import[] {
-                new Import("NOPOS", "javax.tools.Diagnostic", true),
-              })
-          .put(
-              "DOCUMENT_NODE",
-              new Import[] {
-                new Import("DOCUMENT_NODE", "org.w3c.dom.Node", true),
-              })
-          .put(
-              "ConnectIOException",
-              new Import[] {
-                new Import("ConnectIOException", "java.rmi", false),
-              })
-          .put(
-              "REQUIRED",
-              new Import[] {
-                new Import("REQUIRED", "java.awt.GraphicsConfigTemplate", true),
-                new Import(
-                    "REQUIRED",
-                    "javax.security.auth.login.AppConfigurationEntry.LoginModuleControlFlag",
-                    true),
-                new Import("REQUIRED", "javax.swing.text.html.parser.DTDConstants", true),
-              })
-          .put(
-              "UnsupportedEncodingException",
-              new Import[] {
-                new Import("UnsupportedEncodingException", "java.io", false),
-              })
-          .put(
-              "ACTIVITY_COMPLETED",
-              new Import[] {
-                new Import("ACTIVITY_COMPLETED", "org.omg.CORBA", false),
-              })
-          .put(
-              "BindingListHelper",
-              new Import[] {
-                new Import("BindingListHelper", "org.omg.CosNaming", false),
-              })
-          .put(
-              "VALUE_DITHER_DEFAULT",
-              new Import[] {
-                new Import("VALUE_DITHER_DEFAULT", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "SCROLL_PANE",
-              new Import[] {
-                new Import("SCROLL_PANE", "javax.accessibility.AccessibleRole", true),
-                new Import("SCROLL_PANE", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "Paint",
-              new Import[] {
-                new Import("Paint", "java.awt", false),
-              })
-          .put(
-              "getMimeEncoder",
-              new Import[] {
-                new Import("getMimeEncoder", "java.util.Base64", true),
-              })
-          .put(
-              "BACKGROUND",
-              new Import[] {
-                new Import("BACKGROUND", "java.awt.BufferCapabilities.FlipContents", true),
-                new Import("BACKGROUND", "java.awt.font.TextAttribute", true),
-                new Import("BACKGROUND", "javax.swing.plaf.synth.ColorType", true),
-                new Import("BACKGROUND", "javax.swing.text.html.CSS.Attribute", true),
-                new Import("BACKGROUND", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "eq",
-              new Import[] {
-                new Import("eq", "javax.management.Query", true),
-              })
-          .put(
-              "OptionChecker",
-              new Import[] {
-                new Import("OptionChecker", "javax.tools", false),
-              })
-          .put(
-              "REQUIRES_ATTENTION",
-              new Import[] {
-                new Import("REQUIRES_ATTENTION", "javax.print.event.PrintJobEvent", true),
-              })
-          .put(
-              "THRESHOLD_LOW_VALUE_EXCEEDED",
-              new Import[] {
-                new Import(
-                    "THRESHOLD_LOW_VALUE_EXCEEDED",
-                    "javax.management.monitor.MonitorNotification",
-                    true),
-              })
-          .put(
-              "getMenuTextFont",
-              new Import[] {
-                new Import("getMenuTextFont", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "MessageProp",
-              new Import[] {
-                new Import("MessageProp", "org.ietf.jgss", false),
-              })
-          .put(
-              "END",
-              new Import[] {
-                new Import("END", "java.awt.Event", true),
-              })
-          .put(
-              "LOCCRC",
-              new Import[] {
-                new Import("LOCCRC", "java.util.jar.JarEntry", true),
-                new Import("LOCCRC", "java.util.jar.JarFile", true),
-                new Import("LOCCRC", "java.util.jar.JarInputStream", true),
-                new Import("LOCCRC", "java.util.jar.JarOutputStream", true),
-                new Import("LOCCRC", "java.util.zip.ZipEntry", true),
-                new Import("LOCCRC", "java.util.zip.ZipFile", true),
-                new Import("LOCCRC", "java.util.zip.ZipInputStream", true),
-                new Import("LOCCRC", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "RealmCallback",
-              new Import[] {
-                new Import("RealmCallback", "javax.security.sasl", false),
-              })
-          .put(
-              "LocalDateTime",
-              new Import[] {
-                new Import("LocalDateTime", "java.time", false),
-              })
-          .put(
-              "ValueExp",
-              new Import[] {
-                new Import("ValueExp", "javax.management", false),
-              })
-          .put(
-              "NATIVE",
-              new Import[] {
-                new Import("NATIVE", "java.awt.JobAttributes.DialogType", true),
-                new Import("NATIVE", "java.lang.reflect.Modifier", true),
-                new Import("NATIVE", "javax.print.attribute.standard.DialogTypeSelection", true),
-              })
-          .put(
-              "SuppressWarnings",
-              new Import[] {
-                new Import("SuppressWarnings", "java.lang", false),
-              })
-          .put(
-              "OpenMBeanParameterInfoSupport",
-              new Import[] {
-                new Import("OpenMBeanParameterInfoSupport", "javax.management.openmbean", false),
-              })
-          .put(
-              "KOREA",
-              new Import[] {
-                new Import("KOREA", "java.util.Locale", true),
-              })
-          .put(
-              "MatchResult",
-              new Import[] {
-                new Import("MatchResult", "java.util.regex", false),
-              })
-          .put(
-              "drawString",
-              new Import[] {
-                new Import("drawString", "javax.swing.plaf.basic.BasicGraphicsUtils", true),
-              })
-          .put(
-              "icSigCharTargetTag",
-              new Import[] {
-                new Import("icSigCharTargetTag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "SO_BINDADDR",
-              new Import[] {
-                new Import("SO_BINDADDR", "java.net.SocketOptions", true),
-              })
-          .put(
-              "SYSTEM_EXCEPTION",
-              new Import[] {
-                new Import("SYSTEM_EXCEPTION", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "desktop",
-              new Import[] {
-                new Import("desktop", "java.awt.SystemColor", true),
-              })
-          .put(
-              "Number",
-              new Import[] {
-                new Import("Number", "java.lang", false),
-              })
-          .put(
-              "BasicRootPaneUI",
-              new Import[] {
-                new Import("BasicRootPaneUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "LAYERED_PANE",
-              new Import[] {
-                new Import("LAYERED_PANE", "javax.accessibility.AccessibleRole", true),
-              })
-          .put(
-              "DateTimeSyntax",
-              new Import[] {
-                new Import("DateTimeSyntax", "javax.print.attribute", false),
-              })
-          .put(
-              "PasswordCallback",
-              new Import[] {
-                new Import("PasswordCallback", "javax.security.auth.callback", false),
-              })
-          .put(
-              "AccessibleObject",
-              new Import[] {
-                new Import("AccessibleObject", "java.lang.reflect", false),
-              })
-          .put(
-              "gc",
-              new Import[] {
-                new Import("gc", "java.lang.System", true),
-              })
-          .put(
-              "JMenuItem",
-              new Import[] {
-                new Import("JMenuItem", "javax.swing", false),
-              })
-          .put(
-              "BAD_BINDINGS",
-              new Import[] {
-                new Import("BAD_BINDINGS", "org.ietf.jgss.GSSException", true),
-              })
-          .put(
-              "getAccessibleChildrenCount",
-              new Import[] {
-                new Import("getAccessibleChildrenCount", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "COMPONENT_FIRST",
-              new Import[] {
-                new Import("COMPONENT_FIRST", "java.awt.event.ComponentEvent", true),
-              })
-          .put(
-              "FORMAT_PROPERTIES",
-              new Import[] {
-                new Import("FORMAT_PROPERTIES", "java.util.ResourceBundle.Control", true),
-              })
-          .put(
-              "F10",
-              new Import[] {
-                new Import("F10", "java.awt.Event", true),
-              })
-          .put(
-              "IORInterceptor_3_0Holder",
-              new Import[] {
-                new Import("IORInterceptor_3_0Holder", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "F12",
-              new Import[] {
-                new Import("F12", "java.awt.Event", true),
-              })
-          .put(
-              "LINE_START",
-              new Import[] {
-                new Import("LINE_START", "java.awt.BorderLayout", true),
-                new Import("LINE_START", "java.awt.GridBagConstraints", true),
-              })
-          .put(
-              "F11",
-              new Import[] {
-                new Import("F11", "java.awt.Event", true),
-              })
-          .put(
-              "HttpContext",
-              new Import[] {
-                new Import("HttpContext", "javax.xml.ws.spi.http", false),
-              })
-          .put(
-              "parseLevel",
-              new Import[] {
-                new Import("parseLevel", "java.rmi.server.LogStream", true),
-              })
-          .put(
-              "RelationNotification",
-              new Import[] {
-                new Import("RelationNotification", "javax.management.relation", false),
-              })
-          .put(
-              "FILTER_SKIP",
-              new Import[] {
-                new Import("FILTER_SKIP", "org.w3c.dom.ls.LSParserFilter", true),
-              })
-          .put(
-              "MethodDescriptor",
-              new Import[] {
-                new Import("MethodDescriptor", "java.beans", false),
-              })
-          .put(
-              "gt",
-              new Import[] {
-                new Import("gt", "javax.management.Query", true),
-              })
-          .put(
-              "TAG_GPOS",
-              new Import[] {
-                new Import("TAG_GPOS", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "parseByte",
-              new Import[] {
-                new Import("parseByte", "java.lang.Byte", true),
-                new Import("parseByte", "javax.xml.bind.DatatypeConverter", true),
-              })
-          .put(
-              "WEIGHT_DEMIBOLD",
-              new Import[] {
-                new Import("WEIGHT_DEMIBOLD", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "ObjectNotActiveHelper",
-              new Import[] {
-                new Import("ObjectNotActiveHelper", "org.omg.PortableServer.POAPackage", false),
-              })
-          .put(
-              "META_MASK",
-              new Import[] {
-                new Import("META_MASK", "java.awt.Event", true),
-                new Import("META_MASK", "java.awt.event.ActionEvent", true),
-                new Import("META_MASK", "java.awt.event.InputEvent", true),
-              })
-          .put(
-              "DOCUMENT_POSITION_IMPLEMENTATION_SPECIFIC",
-              new Import[] {
-                new Import("DOCUMENT_POSITION_IMPLEMENTATION_SPECIFIC", "org.w3c.dom.Node", true),
-              })
-          .put(
-              "REVERB_RETURN",
-              new Import[] {
-                new Import("REVERB_RETURN", "javax.sound.sampled.FloatControl.Type", true),
-              })
-          .put(
-              "NotFound",
-              new Import[] {
-                new Import("NotFound", "org.omg.CosNaming.NamingContextPackage", false),
-              })
-          .put(
-              "LinkedBlockingQueue",
-              new Import[] {
-                new Import("LinkedBlockingQueue", "java.util.concurrent", false),
-              })
-          .put(
-              "X509IssuerSerial",
-              new Import[] {
-                new Import("X509IssuerSerial", "javax.xml.crypto.dsig.keyinfo", false),
-              })
-          .put(
-              "regexFilter",
-              new Import[] {
-                new Import("regexFilter", "javax.swing.RowFilter", true),
-              })
-          .put(
-              "sqlStateSQL",
-              new Import[] {
-                new Import("sqlStateSQL", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "Doc",
-              new Import[] {
-                new Import("Doc", "javax.print", false),
-              })
-          .put(
-              "id",
-              new Import[] {
-                new Import("id", "org.omg.CORBA.AnySeqHelper", true),
-                new Import("id", "org.omg.CORBA.BooleanSeqHelper", true),
-                new Import("id", "org.omg.CORBA.CharSeqHelper", true),
-                new Import("id", "org.omg.CORBA.CompletionStatusHelper", true),
-                new Import("id", "org.omg.CORBA.CurrentHelper", true),
-                new Import("id", "org.omg.CORBA.DefinitionKindHelper", true),
-                new Import("id", "org.omg.CORBA.DoubleSeqHelper", true),
-                new Import("id", "org.omg.CORBA.FieldNameHelper", true),
-                new Import("id", "org.omg.CORBA.FloatSeqHelper", true),
-                new Import("id", "org.omg.CORBA.IDLTypeHelper", true),
-                new Import("id", "org.omg.CORBA.IdentifierHelper", true),
-                new Import("id", "org.omg.CORBA.LongLongSeqHelper", true),
-                new Import("id", "org.omg.CORBA.LongSeqHelper", true),
-                new Import("id", "org.omg.CORBA.NameValuePairHelper", true),
-                new Import("id", "org.omg.CORBA.ObjectHelper", true),
-                new Import("id", "org.omg.CORBA.OctetSeqHelper", true),
-                new Import("id", "org.omg.CORBA.ParameterModeHelper", true),
-                new Import("id", "org.omg.CORBA.PolicyErrorCodeHelper", true),
-                new Import("id", "org.omg.CORBA.PolicyErrorHelper", true),
-                new Import("id", "org.omg.CORBA.PolicyHelper", true),
-                new Import("id", "org.omg.CORBA.PolicyListHelper", true),
-                new Import("id", "org.omg.CORBA.PolicyTypeHelper", true),
-                new Import("id", "org.omg.CORBA.RepositoryIdHelper", true),
-                new Import("id", "org.omg.CORBA.ServiceDetailHelper", true),
-                new Import("id", "org.omg.CORBA.ServiceInformationHelper", true),
-                new Import("id", "org.omg.CORBA.SetOverrideTypeHelper", true),
-                new Import("id", "org.omg.CORBA.ShortSeqHelper", true),
-                new Import("id", "org.omg.CORBA.StringSeqHelper", true),
-                new Import("id", "org.omg.CORBA.StringValueHelper", true),
-                new Import("id", "org.omg.CORBA.StructMemberHelper", true),
-                new Import("id", "org.omg.CORBA.ULongLongSeqHelper", true),
-                new Import("id", "org.omg.CORBA.ULongSeqHelper", true),
-                new Import("id", "org.omg.CORBA.UShortSeqHelper", true),
-                new Import("id", "org.omg.CORBA.UnionMemberHelper", true),
-                new Import("id", "org.omg.CORBA.UnknownUserExceptionHelper", true),
-                new Import("id", "org.omg.CORBA.ValueBaseHelper", true),
-                new Import("id", "org.omg.CORBA.ValueMemberHelper", true),
-                new Import("id", "org.omg.CORBA.VersionSpecHelper", true),
-                new Import("id", "org.omg.CORBA.VisibilityHelper", true),
-                new Import("id", "org.omg.CORBA.WCharSeqHelper", true),
-                new Import("id", "org.omg.CORBA.WStringSeqHelper", true),
-                new Import("id", "org.omg.CORBA.WStringValueHelper", true),
-                new Import("id", "org.omg.CORBA.WrongTransactionHelper", true),
-                new Import("id", "org.omg.CosNaming.BindingHelper", true),
-                new Import("id", "org.omg.CosNaming.BindingIteratorHelper", true),
-                new Import("id", "org.omg.CosNaming.BindingListHelper", true),
-                new Import("id", "org.omg.CosNaming.BindingTypeHelper", true),
-                new Import("id", "org.omg.CosNaming.IstringHelper", true),
-                new Import("id", "org.omg.CosNaming.NameComponentHelper", true),
-                new Import("id", "org.omg.CosNaming.NameHelper", true),
-                new Import("id", "org.omg.CosNaming.NamingContextExtHelper", true),
-                new Import("id", "org.omg.CosNaming.NamingContextHelper", true),
-                new Import("id", "org.omg.CosNaming.NamingContextExtPackage.AddressHelper", true),
-                new Import(
-                    "id", "org.omg.CosNaming.NamingContextExtPackage.InvalidAddressHelper", true),
-                new Import(
-                    "id", "org.omg.CosNaming.NamingContextExtPackage.StringNameHelper", true),
-                new Import("id", "org.omg.CosNaming.NamingContextExtPackage.URLStringHelper", true),
-                new Import("id", "org.omg.CosNaming.NamingContextPackage.AlreadyBoundHelper", true),
-                new Import(
-                    "id", "org.omg.CosNaming.NamingContextPackage.CannotProceedHelper", true),
-                new Import("id", "org.omg.CosNaming.NamingContextPackage.InvalidNameHelper", true),
-                new Import("id", "org.omg.CosNaming.NamingContextPackage.NotEmptyHelper", true),
-                new Import("id", "org.omg.CosNaming.NamingContextPackage.NotFoundHelper", true),
-                new Import(
-                    "id", "org.omg.CosNaming.NamingContextPackage.NotFoundReasonHelper", true),
-                new Import("id", "org.omg.DynamicAny.AnySeqHelper", true),
-                new Import("id", "org.omg.DynamicAny.DynAnyFactoryHelper", true),
-                new Import("id", "org.omg.DynamicAny.DynAnyHelper", true),
-                new Import("id", "org.omg.DynamicAny.DynAnySeqHelper", true),
-                new Import("id", "org.omg.DynamicAny.DynArrayHelper", true),
-                new Import("id", "org.omg.DynamicAny.DynEnumHelper", true),
-                new Import("id", "org.omg.DynamicAny.DynFixedHelper", true),
-                new Import("id", "org.omg.DynamicAny.DynSequenceHelper", true),
-                new Import("id", "org.omg.DynamicAny.DynStructHelper", true),
-                new Import("id", "org.omg.DynamicAny.DynUnionHelper", true),
-                new Import("id", "org.omg.DynamicAny.DynValueHelper", true),
-                new Import("id", "org.omg.DynamicAny.FieldNameHelper", true),
-                new Import("id", "org.omg.DynamicAny.NameDynAnyPairHelper", true),
-                new Import("id", "org.omg.DynamicAny.NameDynAnyPairSeqHelper", true),
-                new Import("id", "org.omg.DynamicAny.NameValuePairHelper", true),
-                new Import("id", "org.omg.DynamicAny.NameValuePairSeqHelper", true),
-                new Import(
-                    "id",
-                    "org.omg.DynamicAny.DynAnyFactoryPackage.InconsistentTypeCodeHelper",
-                    true),
-                new Import("id", "org.omg.DynamicAny.DynAnyPackage.InvalidValueHelper", true),
-                new Import("id", "org.omg.DynamicAny.DynAnyPackage.TypeMismatchHelper", true),
-                new Import("id", "org.omg.IOP.CodecFactoryHelper", true),
-                new Import("id", "org.omg.IOP.ComponentIdHelper", true),
-                new Import("id", "org.omg.IOP.IORHelper", true),
-                new Import("id", "org.omg.IOP.MultipleComponentProfileHelper", true),
-                new Import("id", "org.omg.IOP.ProfileIdHelper", true),
-                new Import("id", "org.omg.IOP.ServiceContextHelper", true),
-                new Import("id", "org.omg.IOP.ServiceContextListHelper", true),
-                new Import("id", "org.omg.IOP.ServiceIdHelper", true),
-                new Import("id", "org.omg.IOP.TaggedComponentHelper", true),
-                new Import("id", "org.omg.IOP.TaggedProfileHelper", true),
-                new Import("id", "org.omg.IOP.CodecFactoryPackage.UnknownEncodingHelper", true),
-                new Import("id", "org.omg.IOP.CodecPackage.FormatMismatchHelper", true),
-                new Import("id", "org.omg.IOP.CodecPackage.InvalidTypeForEncodingHelper", true),
-                new Import("id", "org.omg.IOP.CodecPackage.TypeMismatchHelper", true),
-                new Import("id", "org.omg.Messaging.SyncScopeHelper", true),
-                new Import("id", "org.omg.PortableInterceptor.AdapterManagerIdHelper", true),
-                new Import("id", "org.omg.PortableInterceptor.AdapterNameHelper", true),
-                new Import("id", "org.omg.PortableInterceptor.AdapterStateHelper", true),
-                new Import("id", "org.omg.PortableInterceptor.CurrentHelper", true),
-                new Import("id", "org.omg.PortableInterceptor.ForwardRequestHelper", true),
-                new Import("id", "org.omg.PortableInterceptor.IORInterceptor_3_0Helper", true),
-                new Import("id", "org.omg.PortableInterceptor.InvalidSlotHelper", true),
-                new Import("id", "org.omg.PortableInterceptor.ORBIdHelper", true),
-                new Import("id", "org.omg.PortableInterceptor.ObjectIdHelper", true),
-                new Import("id", "org.omg.PortableInterceptor.ObjectReferenceFactoryHelper", true),
-                new Import("id", "org.omg.PortableInterceptor.ObjectReferenceTemplateHelper", true),
-                new Import(
-                    "id", "org.omg.PortableInterceptor.ObjectReferenceTemplateSeqHelper", true),
-                new Import("id", "org.omg.PortableInterceptor.ServerIdHelper", true),
-                new Import(
-                    "id",
-                    "org.omg.PortableInterceptor.ORBInitInfoPackage.DuplicateNameHelper",
-                    true),
-                new Import(
-                    "id", "org.omg.PortableInterceptor.ORBInitInfoPackage.InvalidNameHelper", true),
-                new Import(
-                    "id", "org.omg.PortableInterceptor.ORBInitInfoPackage.ObjectIdHelper", true),
-                new Import("id", "org.omg.PortableServer.CurrentHelper", true),
-                new Import("id", "org.omg.PortableServer.ForwardRequestHelper", true),
-                new Import("id", "org.omg.PortableServer.POAHelper", true),
-                new Import("id", "org.omg.PortableServer.ServantActivatorHelper", true),
-                new Import("id", "org.omg.PortableServer.ServantLocatorHelper", true),
-                new Import("id", "org.omg.PortableServer.CurrentPackage.NoContextHelper", true),
-                new Import(
-                    "id", "org.omg.PortableServer.POAManagerPackage.AdapterInactiveHelper", true),
-                new Import(
-                    "id", "org.omg.PortableServer.POAPackage.AdapterAlreadyExistsHelper", true),
-                new Import(
-                    "id", "org.omg.PortableServer.POAPackage.AdapterNonExistentHelper", true),
-                new Import("id", "org.omg.PortableServer.POAPackage.InvalidPolicyHelper", true),
-                new Import("id", "org.omg.PortableServer.POAPackage.NoServantHelper", true),
-                new Import(
-                    "id", "org.omg.PortableServer.POAPackage.ObjectAlreadyActiveHelper", true),
-                new Import("id", "org.omg.PortableServer.POAPackage.ObjectNotActiveHelper", true),
-                new Import(
-                    "id", "org.omg.PortableServer.POAPackage.ServantAlreadyActiveHelper", true),
-                new Import("id", "org.omg.PortableServer.POAPackage.ServantNotActiveHelper", true),
-                new Import("id", "org.omg.PortableServer.POAPackage.WrongAdapterHelper", true),
-                new Import("id", "org.omg.PortableServer.POAPackage.WrongPolicyHelper", true),
-              })
-          .put(
-              "DIRECTIONALITY_COMMON_NUMBER_SEPARATOR",
-              new Import[] {
-                new Import("DIRECTIONALITY_COMMON_NUMBER_SEPARATOR", "java.lang.Character", true),
-              })
-          .put(
-              "LANGUAGE",
-              new Import[] {
-                new Import("LANGUAGE", "java.text.AttributedCharacterIterator.Attribute", true),
-                new Import("LANGUAGE", "javax.naming.Context", true),
-                new Import("LANGUAGE", "javax.script.ScriptEngine", true),
-                new Import("LANGUAGE", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "getMaxAllowedParameterSpec",
-              new Import[] {
-                new Import("getMaxAllowedParameterSpec", "javax.crypto.Cipher", true),
-              })
-          .put(
-              "drawDashedRect",
-              new Import[] {
-                new Import("drawDashedRect", "javax.swing.plaf.basic.BasicGraphicsUtils", true),
-              })
-          .put(
-              "OriginType",
-              new Import[] {
-                new Import("OriginType", "java.awt.PageAttributes", false),
-              })
-          .put(
-              "Messager",
-              new Import[] {
-                new Import("Messager", "javax.annotation.processing", false),
-              })
-          .put(
-              "in",
-              new Import[] {
-                new Import("in", "java.io.FileDescriptor", true),
-                new Import("in", "java.lang.System", true),
-                new Import("in", "javax.management.Query", true),
-              })
-          .put(
-              "Position",
-              new Import[] {
-                new Import("Position", "javax.swing.text", false),
-              })
-          .put(
-              "Compilable",
-              new Import[] {
-                new Import("Compilable", "javax.script", false),
-              })
-          .put(
-              "KERNING_ON",
-              new Import[] {
-                new Import("KERNING_ON", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "FLUSH_FAILURE",
-              new Import[] {
-                new Import("FLUSH_FAILURE", "java.util.logging.ErrorManager", true),
-              })
-          .put(
-              "TT_WORD",
-              new Import[] {
-                new Import("TT_WORD", "java.io.StreamTokenizer", true),
-              })
-          .put(
-              "StructMember",
-              new Import[] {
-                new Import("StructMember", "org.omg.CORBA", false),
-              })
-          .put(
-              "getDefaultUncaughtExceptionHandler",
-              new Import[] {
-                new Import("getDefaultUncaughtExceptionHandler", "java.lang.Thread", true),
-              })
-          .put(
-              "MARGIN_RIGHT",
-              new Import[] {
-                new Import("MARGIN_RIGHT", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "ERA",
-              new Import[] {
-                new Import("ERA", "java.text.DateFormat.Field", true),
-                new Import("ERA", "java.util.Calendar", true),
-              })
-          .put(
-              "FETCH_FORWARD",
-              new Import[] {
-                new Import("FETCH_FORWARD", "java.sql.ResultSet", true),
-              })
-          .put(
-              "DOOR_OPEN",
-              new Import[] {
-                new Import("DOOR_OPEN", "javax.print.attribute.standard.PrinterStateReason", true),
-              })
-          .put(
-              "REPLACE_ATTRIBUTE",
-              new Import[] {
-                new Import("REPLACE_ATTRIBUTE", "javax.naming.directory.DirContext", true),
-              })
-          .put(
-              "getNetworkInterfaces",
-              new Import[] {
-                new Import("getNetworkInterfaces", "java.net.NetworkInterface", true),
-              })
-          .put(
-              "XmlWriter",
-              new Import[] {
-                new Import("XmlWriter", "javax.sql.rowset.spi", false),
-              })
-          .put(
-              "_DynEnumStub",
-              new Import[] {
-                new Import("_DynEnumStub", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "FileLockInterruptionException",
-              new Import[] {
-                new Import("FileLockInterruptionException", "java.nio.channels", false),
-              })
-          .put(
-              "_dk_Fixed",
-              new Import[] {
-                new Import("_dk_Fixed", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "ENTER",
-              new Import[] {
-                new Import("ENTER", "java.awt.Event", true),
-              })
-          .put(
-              "SOAPConnection",
-              new Import[] {
-                new Import("SOAPConnection", "javax.xml.soap", false),
-              })
-          .put(
-              "ServiceDetailHelper",
-              new Import[] {
-                new Import("ServiceDetailHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "DirContext",
-              new Import[] {
-                new Import("DirContext", "javax.naming.directory", false),
-              })
-          .put(
-              "URIOtherProblem",
-              new Import[] {
-                new Import("URIOtherProblem", "javax.print.URIException", true),
-              })
-          .put(
-              "JScrollBar",
-              new Import[] {
-                new Import("JScrollBar", "javax.swing", false),
-              })
-          .put(
-              "ISO_DESIGNATED_LONG_ENVELOPE",
-              new Import[] {
-                new Import(
-                    "ISO_DESIGNATED_LONG_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "MenuKeyListener",
-              new Import[] {
-                new Import("MenuKeyListener", "javax.swing.event", false),
-              })
-          .put(
-              "FLAG_MASK",
-              new Import[] {
-                new Import("FLAG_MASK", "java.awt.font.GlyphVector", true),
-              })
-          .put(
-              "REVERSE_LANDSCAPE",
-              new Import[] {
-                new Import("REVERSE_LANDSCAPE", "java.awt.print.PageFormat", true),
-                new Import(
-                    "REVERSE_LANDSCAPE",
-                    "javax.print.attribute.standard.OrientationRequested",
-                    true),
-              })
-          .put(
-              "ActivityCompletedException",
-              new Import[] {
-                new Import("ActivityCompletedException", "javax.activity", false),
-              })
-          .put(
-              "RIGHT",
-              new Import[] {
-                new Import("RIGHT", "java.awt.Event", true),
-                new Import("RIGHT", "java.awt.FlowLayout", true),
-                new Import("RIGHT", "java.awt.Label", true),
-                new Import("RIGHT", "javax.swing.JSplitPane", true),
-                new Import("RIGHT", "javax.swing.SwingConstants", true),
-                new Import("RIGHT", "javax.swing.border.TitledBorder", true),
-              })
-          .put(
-              "ACCESSIBLE_STATE_PROPERTY",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_STATE_PROPERTY", "javax.accessibility.AccessibleContext", true),
-              })
-          .put(
-              "WILDCARD",
-              new Import[] {
-                new Import("WILDCARD", "javax.management.ObjectName", true),
-              })
-          .put(
-              "getSeed",
-              new Import[] {
-                new Import("getSeed", "java.security.SecureRandom", true),
-              })
-          .put(
-              "TemporalUnit",
-              new Import[] {
-                new Import("TemporalUnit", "java.time.temporal", false),
-              })
-          .put(
-              "Use",
-              new Import[] {
-                new Import("Use", "javax.jws.soap.SOAPBinding", false),
-              })
-          .put(
-              "UGARITIC",
-              new Import[] {
-                new Import("UGARITIC", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "InvalidValue",
-              new Import[] {
-                new Import("InvalidValue", "org.omg.CORBA.DynAnyPackage", false),
-                new Import("InvalidValue", "org.omg.DynamicAny.DynAnyPackage", false),
-              })
-          .put(
-              "DERIVATION_RESTRICTION",
-              new Import[] {
-                new Import("DERIVATION_RESTRICTION", "org.w3c.dom.TypeInfo", true),
-              })
-          .put(
-              "KEY_FIRST",
-              new Import[] {
-                new Import("KEY_FIRST", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "INCREMENT",
-              new Import[] {
-                new Import("INCREMENT", "javax.accessibility.AccessibleAction", true),
-              })
-          .put(
-              "CurrentOperations",
-              new Import[] {
-                new Import("CurrentOperations", "org.omg.CORBA", false),
-                new Import("CurrentOperations", "org.omg.PortableInterceptor", false),
-                new Import("CurrentOperations", "org.omg.PortableServer", false),
-              })
-          .put(
-              "getEditorSearchPath",
-              new Import[] {
-                new Import("getEditorSearchPath", "java.beans.PropertyEditorManager", true),
-              })
-          .put(
-              "equals",
-              new Import[] {
-                new Import("equals", "java.util.Arrays", true),
-                new Import("equals", "java.util.Objects", true),
-              })
-          .put(
-              "getCurrentManager",
-              new Import[] {
-                new Import("getCurrentManager", "javax.swing.FocusManager", true),
-              })
-          .put(
-              "MENU",
-              new Import[] {
-                new Import("MENU", "java.awt.SystemColor", true),
-                new Import("MENU", "javax.accessibility.AccessibleRole", true),
-                new Import("MENU", "javax.swing.plaf.synth.Region", true),
-                new Import("MENU", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "KOREAN",
-              new Import[] {
-                new Import("KOREAN", "java.util.Locale", true),
-              })
-          .put(
-              "icSigSpace9CLR",
-              new Import[] {
-                new Import("icSigSpace9CLR", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "drawTabbedText",
-              new Import[] {
-                new Import("drawTabbedText", "javax.swing.text.Utilities", true),
-              })
-          .put(
-              "ZoneRulesProvider",
-              new Import[] {
-                new Import("ZoneRulesProvider", "java.time.zone", false),
-              })
-          .put(
-              "HashMap",
-              new Import[] {
-                new Import("HashMap", "java.util", false),
-              })
-          .put(
-              "Closeable",
-              new Import[] {
-                new Import("Closeable", "java.io", false),
-              })
-          .put(
-              "NoSuchFileException",
-              new Import[] {
-                new Import("NoSuchFileException", "java.nio.file", false),
-              })
-          .put(
-              "NumberFormatProvider",
-              new Import[] {
-                new Import("NumberFormatProvider", "java.text.spi", false),
-              })
-          .put(
-              "lt",
-              new Import[] {
-                new Import("lt", "javax.management.Query", true),
-              })
-          .put(
-              "getDefaults",
-              new Import[] {
-                new Import("getDefaults", "javax.swing.UIManager", true),
-              })
-          .put(
-              "SSLException",
-              new Import[] {
-                new Import("SSLException", "javax.net.ssl", false),
-              })
-          .put(
-              "setOut",
-              new Import[] {
-                new Import("setOut", "java.lang.System", true),
-              })
-          .put(
-              "icSigSpaceDCLR",
-              new Import[] {
-                new Import("icSigSpaceDCLR", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "ofLocal",
-              new Import[] {
-                new Import("ofLocal", "java.time.ZonedDateTime", true),
-              })
-          .put(
-              "floatToRawIntBits",
-              new Import[] {
-                new Import("floatToRawIntBits", "java.lang.Float", true),
-              })
-          .put(
-              "ACCESSIBLE_ACTIVE_DESCENDANT_PROPERTY",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_ACTIVE_DESCENDANT_PROPERTY",
-                    "javax.accessibility.AccessibleContext",
-                    true),
-              })
-          .put(
-              "UnionMemberHelper",
-              new Import[] {
-                new Import("UnionMemberHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "AppletInitializer",
-              new Import[] {
-                new Import("AppletInitializer", "java.beans", false),
-              })
-          .put(
-              "Dst",
-              new Import[] {
-                new Import("Dst", "java.awt.AlphaComposite", true),
-              })
-          .put(
-              "TransactionService",
-              new Import[] {
-                new Import("TransactionService", "org.omg.IOP", false),
-              })
-          .put(
-              "SC_BLOCK_DATA",
-              new Import[] {
-                new Import("SC_BLOCK_DATA", "java.io.ObjectStreamConstants", true),
-              })
-          .put(
-              "ObjectIdHelper",
-              new Import[] {
-                new Import("ObjectIdHelper", "org.omg.PortableInterceptor", false),
-                new Import(
-                    "ObjectIdHelper", "org.omg.PortableInterceptor.ORBInitInfoPackage", false),
-              })
-          .put(
-              "TrustAnchor",
-              new Import[] {
-                new Import("TrustAnchor", "java.security.cert", false),
-              })
-          .put(
-              "EMBEDDED_BY_PROPERTY",
-              new Import[] {
-                new Import("EMBEDDED_BY_PROPERTY", "javax.accessibility.AccessibleRelation", true),
-              })
-          .put(
-              "Range",
-              new Import[] {
-                new Import("Range", "java.awt.font.NumericShaper", false),
-              })
-          .put(
-              "ENDSUB",
-              new Import[] {
-                new Import("ENDSUB", "java.util.jar.JarEntry", true),
-                new Import("ENDSUB", "java.util.jar.JarFile", true),
-                new Import("ENDSUB", "java.util.jar.JarInputStream", true),
-                new Import("ENDSUB", "java.util.jar.JarOutputStream", true),
-                new Import("ENDSUB", "java.util.zip.ZipEntry", true),
-                new Import("ENDSUB", "java.util.zip.ZipFile", true),
-                new Import("ENDSUB", "java.util.zip.ZipInputStream", true),
-                new Import("ENDSUB", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "LEAD_UNDERLINE",
-              new Import[] {
-                new Import("LEAD_UNDERLINE", "javax.swing.text.TabStop", true),
-              })
-          .put(
-              "plus",
-              new Import[] {
-                new Import("plus", "javax.management.Query", true),
-              })
-          .put(
-              "UIResource",
-              new Import[] {
-                new Import("UIResource", "javax.swing.DefaultListCellRenderer", false),
-                new Import("UIResource", "javax.swing.ScrollPaneLayout", false),
-                new Import("UIResource", "javax.swing.plaf", false),
-                new Import("UIResource", "javax.swing.plaf.basic.BasicComboBoxEditor", false),
-                new Import("UIResource", "javax.swing.plaf.basic.BasicComboBoxRenderer", false),
-                new Import("UIResource", "javax.swing.plaf.metal.MetalComboBoxEditor", false),
-                new Import("UIResource", "javax.swing.table.DefaultTableCellRenderer", false),
-              })
-          .put(
-              "VK_SHIFT",
-              new Import[] {
-                new Import("VK_SHIFT", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "ALL_RANGES",
-              new Import[] {
-                new Import("ALL_RANGES", "java.awt.font.NumericShaper", true),
-              })
-          .put(
-              "ofWeeks",
-              new Import[] {
-                new Import("ofWeeks", "java.time.Period", true),
-              })
-          .put(
-              "Constraints",
-              new Import[] {
-                new Import("Constraints", "javax.swing.SpringLayout", false),
-              })
-          .put(
-              "ObjectInput",
-              new Import[] {
-                new Import("ObjectInput", "java.io", false),
-              })
-          .put(
-              "ModalityType",
-              new Import[] {
-                new Import("ModalityType", "java.awt.Dialog", false),
-              })
-          .put(
-              "CDATA",
-              new Import[] {
-                new Import("CDATA", "javax.swing.text.html.parser.DTDConstants", true),
-                new Import("CDATA", "javax.xml.stream.XMLStreamConstants", true),
-              })
-          .put(
-              "SOAPElementFactory",
-              new Import[] {
-                new Import("SOAPElementFactory", "javax.xml.soap", false),
-              })
-          .put(
-              "guessContentTypeFromName",
-              new Import[] {
-                new Import("guessContentTypeFromName", "java.net.URLConnection", true),
-              })
-          .put(
-              "textHighlight",
-              new Import[] {
-                new Import("textHighlight", "java.awt.SystemColor", true),
-              })
-          .put(
-              "THRESHOLD_ERROR",
-              new Import[] {
-                new Import("THRESHOLD_ERROR", "javax.management.monitor.MonitorNotification", true),
-              })
-          .put(
-              "XAER_INVAL",
-              new Import[] {
-                new Import("XAER_INVAL", "javax.transaction.xa.XAException", true),
-              })
-          .put(
-              "MenuBar",
-              new Import[] {
-                new Import("MenuBar", "java.awt", false),
-              })
-          .put(
-              "XmlElementDecl",
-              new Import[] {
-                new Import("XmlElementDecl", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "MonthDay",
-              new Import[] {
-                new Import("MonthDay", "java.time", false),
-              })
-          .put(
-              "KeyInfoFactory",
-              new Import[] {
-                new Import("KeyInfoFactory", "javax.xml.crypto.dsig.keyinfo", false),
-              })
-          .put(
-              "parseDouble",
-              new Import[] {
-                new Import("parseDouble", "java.lang.Double", true),
-                new Import("parseDouble", "javax.xml.bind.DatatypeConverter", true),
-              })
-          .put(
-              "name2type",
-              new Import[] {
-                new Import("name2type", "javax.swing.text.html.parser.AttributeList", true),
-                new Import("name2type", "javax.swing.text.html.parser.Element", true),
-                new Import("name2type", "javax.swing.text.html.parser.Entity", true),
-              })
-          .put(
-              "getRowStart",
-              new Import[] {
-                new Import("getRowStart", "javax.swing.text.Utilities", true),
-              })
-          .put(
-              "VK_SCROLL_LOCK",
-              new Import[] {
-                new Import("VK_SCROLL_LOCK", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "of",
-              new Import[] {
-                new Import("of", "java.lang.Character.UnicodeBlock", true),
-                new Import("of", "java.lang.Character.UnicodeScript", true),
-                new Import("of", "java.time.DayOfWeek", true),
-                new Import("of", "java.time.Duration", true),
-                new Import("of", "java.time.LocalDate", true),
-                new Import("of", "java.time.LocalDateTime", true),
-                new Import("of", "java.time.LocalTime", true),
-                new Import("of", "java.time.Month", true),
-                new Import("of", "java.time.MonthDay", true),
-                new Import("of", "java.time.OffsetDateTime", true),
-                new Import("of", "java.time.OffsetTime", true),
-                new Import("of", "java.time.Period", true),
-                new Import("of", "java.time.Year", true),
-                new Import("of", "java.time.YearMonth", true),
-                new Import("of", "java.time.ZoneId", true),
-                new Import("of", "java.time.ZoneOffset", true),
-                new Import("of", "java.time.ZonedDateTime", true),
-                new Import("of", "java.time.chrono.Chronology", true),
-                new Import("of", "java.time.chrono.HijrahDate", true),
-                new Import("of", "java.time.chrono.HijrahEra", true),
-                new Import("of", "java.time.chrono.IsoEra", true),
-                new Import("of", "java.time.chrono.JapaneseDate", true),
-                new Import("of", "java.time.chrono.JapaneseEra", true),
-                new Import("of", "java.time.chrono.MinguoDate", true),
-                new Import("of", "java.time.chrono.MinguoEra", true),
-                new Import("of", "java.time.chrono.ThaiBuddhistDate", true),
-                new Import("of", "java.time.chrono.ThaiBuddhistEra", true),
-                new Import("of", "java.time.format.DecimalStyle", true),
-                new Import("of", "java.time.temporal.ValueRange", true),
-                new Import("of", "java.time.temporal.WeekFields", true),
-                new Import("of", "java.time.zone.ZoneOffsetTransition", true),
-                new Import("of", "java.time.zone.ZoneOffsetTransitionRule", true),
-                new Import("of", "java.time.zone.ZoneRules", true),
-                new Import("of", "java.util.EnumSet", true),
-                new Import("of", "java.util.Optional", true),
-                new Import("of", "java.util.OptionalDouble", true),
-                new Import("of", "java.util.OptionalInt", true),
-                new Import("of", "java.util.OptionalLong", true),
-                new Import("of", "java.util.stream.Collector", true),
-                new Import("of", "java.util.stream.DoubleStream", true),
-                new Import("of", "java.util.stream.IntStream", true),
-                new Import("of", "java.util.stream.LongStream", true),
-                new Import("of", "java.util.stream.Stream", true),
-                new Import("of", "javax.annotation.processing.Completions", true),
-              })
-          .put(
-              "createHorizontalStrut",
-              new Import[] {
-                new Import("createHorizontalStrut", "javax.swing.Box", true),
-              })
-          .put(
-              "systemDefaultZone",
-              new Import[] {
-                new Import("systemDefaultZone", "java.time.Clock", true),
-              })
-          .put(
-              "EntityReference",
-              new Import[] {
-                new Import("EntityReference", "javax.xml.stream.events", false),
-                new Import("EntityReference", "org.w3c.dom", false),
-              })
-          .put(
-              "NumberEditor",
-              new Import[] {
-                new Import("NumberEditor", "javax.swing.JSpinner", false),
-              })
-          .put(
-              "_tk_sequence",
-              new Import[] {
-                new Import("_tk_sequence", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "NamingContextExtOperations",
-              new Import[] {
-                new Import("NamingContextExtOperations", "org.omg.CosNaming", false),
-              })
-          .put(
-              "notFilter",
-              new Import[] {
-                new Import("notFilter", "javax.swing.RowFilter", true),
-              })
-          .put(
-              "StandardWatchEventKinds",
-              new Import[] {
-                new Import("StandardWatchEventKinds", "java.nio.file", false),
-              })
-          .put(
-              "makeIcon",
-              new Import[] {
-                new Import("makeIcon", "javax.swing.LookAndFeel", true),
-              })
-          .put(
-              "or",
-              new Import[] {
-                new Import("or", "javax.management.Query", true),
-              })
-          .put(
-              "VK_TAB",
-              new Import[] {
-                new Import("VK_TAB", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "ShapeGraphicAttribute",
-              new Import[] {
-                new Import("ShapeGraphicAttribute", "java.awt.font", false),
-              })
-          .put(
-              "TAG_FMTX",
-              new Import[] {
-                new Import("TAG_FMTX", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "StartDocument",
-              new Import[] {
-                new Import("StartDocument", "javax.xml.stream.events", false),
-              })
-          .put(
-              "DomainCombiner",
-              new Import[] {
-                new Import("DomainCombiner", "java.security", false),
-              })
-          .put(
-              "GDAY",
-              new Import[] {
-                new Import("GDAY", "javax.xml.datatype.DatatypeConstants", true),
-              })
-          .put(
-              "MAX_HIGH_SURROGATE",
-              new Import[] {
-                new Import("MAX_HIGH_SURROGATE", "java.lang.Character", true),
-              })
-          .put(
-              "UNKNOWN_ATTRIBUTE",
-              new Import[] {
-                new Import("UNKNOWN_ATTRIBUTE", "java.util.jar.Pack200.Packer", true),
-              })
-          .put(
-              "CharacterIterator",
-              new Import[] {
-                new Import("CharacterIterator", "java.text", false),
-              })
-          .put(
-              "getMemoryPoolMXBeans",
-              new Import[] {
-                new Import("getMemoryPoolMXBeans", "java.lang.management.ManagementFactory", true),
-              })
-          .put(
-              "SMALLINT",
-              new Import[] {
-                new Import("SMALLINT", "java.sql.Types", true),
-              })
-          .put(
-              "FILE_SYSTEM_VIEW_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("FILE_SYSTEM_VIEW_CHANGED_PROPERTY", "javax.swing.JFileChooser", true),
-              })
-          .put(
-              "getPredefinedCursor",
-              new Import[] {
-                new Import("getPredefinedCursor", "java.awt.Cursor", true),
-              })
-          .put(
-              "MODE_COPY_FROM_METADATA",
-              new Import[] {
-                new Import("MODE_COPY_FROM_METADATA", "javax.imageio.ImageWriteParam", true),
-              })
-          .put(
-              "BaselineResizeBehavior",
-              new Import[] {
-                new Import("BaselineResizeBehavior", "java.awt.Component", false),
-              })
-          .put(
-              "SimpleDateFormat",
-              new Import[] {
-                new Import("SimpleDateFormat", "java.text", false),
-              })
-          .put(
-              "THREAD_POLICY_ID",
-              new Import[] {
-                new Import("THREAD_POLICY_ID", "org.omg.PortableServer", false),
-              })
-          .put(
-              "TOGGLE_BUTTON",
-              new Import[] {
-                new Import("TOGGLE_BUTTON", "javax.accessibility.AccessibleRole", true),
-                new Import("TOGGLE_BUTTON", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "DriverPropertyInfo",
-              new Import[] {
-                new Import("DriverPropertyInfo", "java.sql", false),
-              })
-          .put(
-              "LINEAR_B_SYLLABARY",
-              new Import[] {
-                new Import("LINEAR_B_SYLLABARY", "java.lang.Character.UnicodeBlock", true),
-              })
-          .build();
-}
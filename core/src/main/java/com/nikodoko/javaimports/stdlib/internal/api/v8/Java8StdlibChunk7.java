@@ -1,1869 +0,0 @@
-// Code generated by GenerateStdlib.java. DO NOT EDIT.
-package com.nikodoko.javaimports.stdlib.internal.api.v8;
-
-import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
-import java.util.Map;
-
-public class Java8StdlibChunk7 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
-          .put(
-              "HTTP_SEE_OTHER",
-              new Import[] {
-                new Import("HTTP_SEE_OTHER", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "Serializable",
-              new Import[] {
-                new Import("Serializable", "java.io", false),
-              })
-          .put(
-              "ConcurrentModificationException",
-              new Import[] {
-                new Import("ConcurrentModificationException", "java.util", false),
-              })
-          .put(
-              "DocumentBuilderFactory",
-              new Import[] {
-                new Import("DocumentBuilderFactory", "javax.xml.parsers", false),
-              })
-          .put(
-              "FORMAT",
-              new Import[] {
-                new Import("FORMAT", "java.lang.Character", true),
-              })
-          .put(
-              "RequestorType",
-              new Import[] {
-                new Import("RequestorType", "java.net.Authenticator", false),
-              })
-          .put(
-              "AWTError",
-              new Import[] {
-                new Import("AWTError", "java.awt", false),
-              })
-          .put(
-              "USER_ID",
-              new Import[] {
-                new Import("USER_ID", "org.omg.PortableServer.IdAssignmentPolicyValue", true),
-              })
-          .put(
-              "LogStream",
-              new Import[] {
-                new Import("LogStream", "java.rmi.server", false),
-              })
-          .put(
-              "KeySelector",
-              new Import[] {
-                new Import("KeySelector", "javax.xml.crypto", false),
-              })
-          .put(
-              "setDatatypeConverter",
-              new Import[] {
-                new Import("setDatatypeConverter", "javax.xml.bind.DatatypeConverter", true),
-              })
-          .put(
-              "DefaultEditor",
-              new Import[] {
-                new Import("DefaultEditor", "javax.swing.JSpinner", false),
-              })
-          .put(
-              "XPathConstants",
-              new Import[] {
-                new Import("XPathConstants", "javax.xml.xpath", false),
-              })
-          .put(
-              "Attr",
-              new Import[] {
-                new Import("Attr", "org.w3c.dom", false),
-              })
-          .put(
-              "STATIC",
-              new Import[] {
-                new Import("STATIC", "java.lang.reflect.Modifier", true),
-              })
-          .put(
-              "icSigRgbData",
-              new Import[] {
-                new Import("icSigRgbData", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "URI_NS_SOAP_ENCODING",
-              new Import[] {
-                new Import("URI_NS_SOAP_ENCODING", "javax.xml.soap.SOAPConstants", true),
-              })
-          .put(
-              "NEGATIVE_INFINITY",
-              new Import[] {
-                new Import("NEGATIVE_INFINITY", "java.lang.Double", true),
-                new Import("NEGATIVE_INFINITY", "java.lang.Float", true),
-              })
-          .put(
-              "iterator",
-              new Import[] {
-                new Import("iterator", "java.util.Spliterators", true),
-              })
-          .put(
-              "ReflectiveOperationException",
-              new Import[] {
-                new Import("ReflectiveOperationException", "java.lang", false),
-              })
-          .put(
-              "TYPE_SCROLL_INSENSITIVE",
-              new Import[] {
-                new Import("TYPE_SCROLL_INSENSITIVE", "java.sql.ResultSet", true),
-              })
-          .put(
-              "STRIKETHROUGH_ON",
-              new Import[] {
-                new Import("STRIKETHROUGH_ON", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "Painter",
-              new Import[] {
-                new Import("Painter", "javax.swing", false),
-              })
-          .put(
-              "KEY_DITHERING",
-              new Import[] {
-                new Import("KEY_DITHERING", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "CHILD_POLICY_ALL",
-              new Import[] {
-                new Import("CHILD_POLICY_ALL", "javax.imageio.metadata.IIOMetadataFormat", true),
-              })
-          .put(
-              "XMLEventReader",
-              new Import[] {
-                new Import("XMLEventReader", "javax.xml.stream", false),
-              })
-          .put(
-              "GlyphView",
-              new Import[] {
-                new Import("GlyphView", "javax.swing.text", false),
-              })
-          .put(
-              "TabableView",
-              new Import[] {
-                new Import("TabableView", "javax.swing.text", false),
-              })
-          .put(
-              "WRITE_XML_DECLARATION",
-              new Import[] {
-                new Import("WRITE_XML_DECLARATION", "javax.xml.soap.SOAPMessage", true),
-              })
-          .put(
-              "TYPE_BYTE_BINARY",
-              new Import[] {
-                new Import("TYPE_BYTE_BINARY", "java.awt.image.BufferedImage", true),
-              })
-          .put(
-              "SOAPACTION_URI_PROPERTY",
-              new Import[] {
-                new Import("SOAPACTION_URI_PROPERTY", "javax.xml.ws.BindingProvider", true),
-              })
-          .put(
-              "KEY_TEXT_ANTIALIASING",
-              new Import[] {
-                new Import("KEY_TEXT_ANTIALIASING", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "META",
-              new Import[] {
-                new Import("META", "javax.sound.midi.MetaMessage", true),
-                new Import("META", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "fieldModifiers",
-              new Import[] {
-                new Import("fieldModifiers", "java.lang.reflect.Modifier", true),
-              })
-          .put(
-              "synchronizedSortedSet",
-              new Import[] {
-                new Import("synchronizedSortedSet", "java.util.Collections", true),
-              })
-          .put(
-              "ServiceContext",
-              new Import[] {
-                new Import("ServiceContext", "org.omg.IOP", false),
-              })
-          .put(
-              "IllformedLocaleException",
-              new Import[] {
-                new Import("IllformedLocaleException", "java.util", false),
-              })
-          .put(
-              "getReaderFileSuffixes",
-              new Import[] {
-                new Import("getReaderFileSuffixes", "javax.imageio.ImageIO", true),
-              })
-          .put(
-              "ACTION_REFERENCE",
-              new Import[] {
-                new Import("ACTION_REFERENCE", "java.awt.dnd.DnDConstants", true),
-              })
-          .put(
-              "DefaultCellEditor",
-              new Import[] {
-                new Import("DefaultCellEditor", "javax.swing", false),
-              })
-          .put(
-              "CommandInfo",
-              new Import[] {
-                new Import("CommandInfo", "javax.activation", false),
-              })
-          .put(
-              "AtomicInteger",
-              new Import[] {
-                new Import("AtomicInteger", "java.util.concurrent.atomic", false),
-              })
-          .put(
-              "ACCESSIBLE_ACTION_PROPERTY",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_ACTION_PROPERTY", "javax.accessibility.AccessibleContext", true),
-              })
-          .put(
-              "Cloneable",
-              new Import[] {
-                new Import("Cloneable", "java.lang", false),
-              })
-          .put(
-              "_ncontext",
-              new Import[] {
-                new Import("_ncontext", "org.omg.CosNaming.BindingType", true),
-              })
-          .put(
-              "icSigGreenMatrixColumnTag",
-              new Import[] {
-                new Import("icSigGreenMatrixColumnTag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "SERVANT_RETENTION_POLICY_ID",
-              new Import[] {
-                new Import("SERVANT_RETENTION_POLICY_ID", "org.omg.PortableServer", false),
-              })
-          .put(
-              "JapaneseEra",
-              new Import[] {
-                new Import("JapaneseEra", "java.time.chrono", false),
-              })
-          .put(
-              "commonPool",
-              new Import[] {
-                new Import("commonPool", "java.util.concurrent.ForkJoinPool", true),
-              })
-          .put(
-              "TYPE_ECLR",
-              new Import[] {
-                new Import("TYPE_ECLR", "java.awt.color.ColorSpace", true),
-              })
-          .put(
-              "ABOVE_TOP",
-              new Import[] {
-                new Import("ABOVE_TOP", "javax.swing.border.TitledBorder", true),
-              })
-          .put(
-              "STRIP",
-              new Import[] {
-                new Import("STRIP", "java.util.jar.Pack200.Packer", true),
-              })
-          .put(
-              "MarshalException",
-              new Import[] {
-                new Import("MarshalException", "java.rmi", false),
-                new Import("MarshalException", "javax.xml.bind", false),
-                new Import("MarshalException", "javax.xml.crypto", false),
-              })
-          .put(
-              "K1Div2Luminance",
-              new Import[] {
-                new Import("K1Div2Luminance", "javax.imageio.plugins.jpeg.JPEGQTable", true),
-              })
-          .put(
-              "MOUSE_WHEEL",
-              new Import[] {
-                new Import("MOUSE_WHEEL", "java.awt.event.MouseEvent", true),
-              })
-          .put(
-              "DSAGenParameterSpec",
-              new Import[] {
-                new Import("DSAGenParameterSpec", "java.security.spec", false),
-              })
-          .put(
-              "DynValueBoxOperations",
-              new Import[] {
-                new Import("DynValueBoxOperations", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "getEtchedInsets",
-              new Import[] {
-                new Import("getEtchedInsets", "javax.swing.plaf.basic.BasicGraphicsUtils", true),
-              })
-          .put(
-              "WindowAdapter",
-              new Import[] {
-                new Import("WindowAdapter", "java.awt.event", false),
-              })
-          .put(
-              "JSeparator",
-              new Import[] {
-                new Import("JSeparator", "javax.swing", false),
-              })
-          .put(
-              "ConnectionPoolDataSource",
-              new Import[] {
-                new Import("ConnectionPoolDataSource", "javax.sql", false),
-              })
-          .put(
-              "getSharedInstance",
-              new Import[] {
-                new Import("getSharedInstance", "javax.swing.PopupFactory", true),
-              })
-          .put(
-              "DELETE",
-              new Import[] {
-                new Import("DELETE", "java.awt.Event", true),
-                new Import("DELETE", "javax.accessibility.AccessibleTableModelChange", true),
-                new Import("DELETE", "javax.swing.event.TableModelEvent", true),
-              })
-          .put(
-              "lowSurrogate",
-              new Import[] {
-                new Import("lowSurrogate", "java.lang.Character", true),
-              })
-          .put(
-              "NoServantHelper",
-              new Import[] {
-                new Import("NoServantHelper", "org.omg.PortableServer.POAPackage", false),
-              })
-          .put(
-              "NamingManager",
-              new Import[] {
-                new Import("NamingManager", "javax.naming.spi", false),
-              })
-          .put(
-              "Files",
-              new Import[] {
-                new Import("Files", "java.nio.file", false),
-              })
-          .put(
-              "Filer",
-              new Import[] {
-                new Import("Filer", "javax.annotation.processing", false),
-              })
-          .put(
-              "AbstractChronology",
-              new Import[] {
-                new Import("AbstractChronology", "java.time.chrono", false),
-              })
-          .put(
-              "cutAction",
-              new Import[] {
-                new Import("cutAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "JToolTip",
-              new Import[] {
-                new Import("JToolTip", "javax.swing", false),
-              })
-          .put(
-              "WINDOW_STATE_CHANGED",
-              new Import[] {
-                new Import("WINDOW_STATE_CHANGED", "java.awt.event.WindowEvent", true),
-              })
-          .put(
-              "SECURITY_PRINCIPAL",
-              new Import[] {
-                new Import("SECURITY_PRINCIPAL", "javax.naming.Context", true),
-              })
-          .put(
-              "Redirect",
-              new Import[] {
-                new Import("Redirect", "java.lang.ProcessBuilder", false),
-              })
-          .put(
-              "OptionalInt",
-              new Import[] {
-                new Import("OptionalInt", "java.util", false),
-              })
-          .put(
-              "CAP_ROUND",
-              new Import[] {
-                new Import("CAP_ROUND", "java.awt.BasicStroke", true),
-              })
-          .put(
-              "parallelSetAll",
-              new Import[] {
-                new Import("parallelSetAll", "java.util.Arrays", true),
-              })
-          .put(
-              "OPEN_READ",
-              new Import[] {
-                new Import("OPEN_READ", "java.util.zip.ZipFile", true),
-              })
-          .put(
-              "IMPLEMENTATION_VENDOR_ID",
-              new Import[] {
-                new Import("IMPLEMENTATION_VENDOR_ID", "java.util.jar.Attributes.Name", true),
-              })
-          .put(
-              "SizeLimitExceededException",
-              new Import[] {
-                new Import("SizeLimitExceededException", "javax.naming", false),
-              })
-          .put(
-              "RMIConnectorServer",
-              new Import[] {
-                new Import("RMIConnectorServer", "javax.management.remote.rmi", false),
-              })
-          .put(
-              "toMap",
-              new Import[] {
-                new Import("toMap", "java.util.stream.Collectors", true),
-              })
-          .put(
-              "BUTTON3_MASK",
-              new Import[] {
-                new Import("BUTTON3_MASK", "java.awt.event.InputEvent", true),
-              })
-          .put(
-              "to",
-              new Import[] {
-                new Import("to", "java.lang.ProcessBuilder.Redirect", true),
-              })
-          .put(
-              "PackageElement",
-              new Import[] {
-                new Import("PackageElement", "javax.lang.model.element", false),
-              })
-          .put(
-              "NoSuchProviderException",
-              new Import[] {
-                new Import("NoSuchProviderException", "java.security", false),
-              })
-          .put(
-              "FACE",
-              new Import[] {
-                new Import("FACE", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "NestingKind",
-              new Import[] {
-                new Import("NestingKind", "javax.lang.model.element", false),
-              })
-          .put(
-              "ROLLOVER_ICON_CHANGED_PROPERTY",
-              new Import[] {
-                new Import("ROLLOVER_ICON_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
-              })
-          .put(
-              "CLASS_OUTPUT",
-              new Import[] {
-                new Import("CLASS_OUTPUT", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "VK_RIGHT_PARENTHESIS",
-              new Import[] {
-                new Import("VK_RIGHT_PARENTHESIS", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "ACCESSIBLE_TEXT_ATTRIBUTES_CHANGED",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_TEXT_ATTRIBUTES_CHANGED",
-                    "javax.accessibility.AccessibleContext",
-                    true),
-              })
-          .put(
-              "Templates",
-              new Import[] {
-                new Import("Templates", "javax.xml.transform", false),
-              })
-          .put(
-              "FloatBuffer",
-              new Import[] {
-                new Import("FloatBuffer", "java.nio", false),
-              })
-          .put(
-              "JAPANESE_POSTCARD",
-              new Import[] {
-                new Import(
-                    "JAPANESE_POSTCARD", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import(
-                    "JAPANESE_POSTCARD", "javax.print.attribute.standard.MediaSize.Other", true),
-              })
-          .put(
-              "PolicyListHolder",
-              new Import[] {
-                new Import("PolicyListHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "DAY_OF_WEEK_IN_MONTH",
-              new Import[] {
-                new Import("DAY_OF_WEEK_IN_MONTH", "java.text.DateFormat.Field", true),
-                new Import("DAY_OF_WEEK_IN_MONTH", "java.util.Calendar", true),
-              })
-          .put(
-              "InvalidPathException",
-              new Import[] {
-                new Import("InvalidPathException", "java.nio.file", false),
-              })
-          .put(
-              "HandlerChain",
-              new Import[] {
-                new Import("HandlerChain", "javax.jws", false),
-              })
-          .put(
-              "BorderLayout",
-              new Import[] {
-                new Import("BorderLayout", "java.awt", false),
-              })
-          .put(
-              "getKeyStrokeForEvent",
-              new Import[] {
-                new Import("getKeyStrokeForEvent", "javax.swing.KeyStroke", true),
-              })
-          .put(
-              "_tk_fixed",
-              new Import[] {
-                new Import("_tk_fixed", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "VK_HOME",
-              new Import[] {
-                new Import("VK_HOME", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "RAW_SEND_SIZE",
-              new Import[] {
-                new Import("RAW_SEND_SIZE", "javax.security.sasl.Sasl", true),
-              })
-          .put(
-              "EXPONENT_SIGN",
-              new Import[] {
-                new Import("EXPONENT_SIGN", "java.text.NumberFormat.Field", true),
-              })
-          .put(
-              "AbstractView",
-              new Import[] {
-                new Import("AbstractView", "org.w3c.dom.views", false),
-              })
-          .put(
-              "TreeModelListener",
-              new Import[] {
-                new Import("TreeModelListener", "javax.swing.event", false),
-              })
-          .put(
-              "LATIN",
-              new Import[] {
-                new Import("LATIN", "java.awt.im.InputSubset", true),
-              })
-          .put(
-              "icAbsoluteColorimetric",
-              new Import[] {
-                new Import("icAbsoluteColorimetric", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "SPINNER",
-              new Import[] {
-                new Import("SPINNER", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "DatabaseMetaData",
-              new Import[] {
-                new Import("DatabaseMetaData", "java.sql", false),
-              })
-          .put(
-              "getAcceleratorForeground",
-              new Import[] {
-                new Import(
-                    "getAcceleratorForeground", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "INTEGER_FIELD",
-              new Import[] {
-                new Import("INTEGER_FIELD", "java.text.NumberFormat", true),
-              })
-          .put(
-              "sqlStateXOpen",
-              new Import[] {
-                new Import("sqlStateXOpen", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "AudioInputStream",
-              new Import[] {
-                new Import("AudioInputStream", "javax.sound.sampled", false),
-              })
-          .put(
-              "NumberOfInterveningJobs",
-              new Import[] {
-                new Import("NumberOfInterveningJobs", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "W3C_XPATH_DATATYPE_NS_URI",
-              new Import[] {
-                new Import("W3C_XPATH_DATATYPE_NS_URI", "javax.xml.XMLConstants", true),
-              })
-          .put(
-              "ResourceBundle",
-              new Import[] {
-                new Import("ResourceBundle", "java.util", false),
-              })
-          .put(
-              "CLICK",
-              new Import[] {
-                new Import("CLICK", "javax.accessibility.AccessibleAction", true),
-              })
-          .put(
-              "ITALY_ENVELOPE",
-              new Import[] {
-                new Import("ITALY_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-                new Import("ITALY_ENVELOPE", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import(
-                    "ITALY_ENVELOPE", "javax.print.attribute.standard.MediaSize.Other", true),
-              })
-          .put(
-              "JDialog",
-              new Import[] {
-                new Import("JDialog", "javax.swing", false),
-              })
-          .put(
-              "AWTException",
-              new Import[] {
-                new Import("AWTException", "java.awt", false),
-              })
-          .put(
-              "MULTILINE",
-              new Import[] {
-                new Import("MULTILINE", "java.util.regex.Pattern", true),
-              })
-          .put(
-              "XMLOutputFactory",
-              new Import[] {
-                new Import("XMLOutputFactory", "javax.xml.stream", false),
-              })
-          .put(
-              "DOMImplementationSource",
-              new Import[] {
-                new Import("DOMImplementationSource", "org.w3c.dom", false),
-              })
-          .put(
-              "CURRENCY_SYMBOL",
-              new Import[] {
-                new Import("CURRENCY_SYMBOL", "java.lang.Character", true),
-              })
-          .put(
-              "OBJECTNAME",
-              new Import[] {
-                new Import("OBJECTNAME", "javax.management.openmbean.SimpleType", true),
-              })
-          .put(
-              "setLogTimers",
-              new Import[] {
-                new Import("setLogTimers", "javax.swing.Timer", true),
-              })
-          .put(
-              "TAI_THAM",
-              new Import[] {
-                new Import("TAI_THAM", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "AtomicStampedReference",
-              new Import[] {
-                new Import("AtomicStampedReference", "java.util.concurrent.atomic", false),
-              })
-          .put(
-              "ClipboardOwner",
-              new Import[] {
-                new Import("ClipboardOwner", "java.awt.datatransfer", false),
-              })
-          .put(
-              "ObjectOutputStream",
-              new Import[] {
-                new Import("ObjectOutputStream", "java.io", false),
-              })
-          .put(
-              "CHILD_POLICY_SOME",
-              new Import[] {
-                new Import("CHILD_POLICY_SOME", "javax.imageio.metadata.IIOMetadataFormat", true),
-              })
-          .put(
-              "FLOWS_FROM",
-              new Import[] {
-                new Import("FLOWS_FROM", "javax.accessibility.AccessibleRelation", true),
-              })
-          .put(
-              "BAMUM_SUPPLEMENT",
-              new Import[] {
-                new Import("BAMUM_SUPPLEMENT", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "EMPTY",
-              new Import[] {
-                new Import("EMPTY", "javax.swing.text.SimpleAttributeSet", true),
-                new Import("EMPTY", "javax.swing.text.html.parser.DTDConstants", true),
-              })
-          .put(
-              "parameterModeOut",
-              new Import[] {
-                new Import("parameterModeOut", "java.sql.ParameterMetaData", true),
-              })
-          .put(
-              "FileCacheImageInputStream",
-              new Import[] {
-                new Import("FileCacheImageInputStream", "javax.imageio.stream", false),
-              })
-          .put(
-              "BindingIteratorPOA",
-              new Import[] {
-                new Import("BindingIteratorPOA", "org.omg.CosNaming", false),
-              })
-          .put(
-              "MessageFormat",
-              new Import[] {
-                new Import("MessageFormat", "java.text", false),
-              })
-          .put(
-              "previous",
-              new Import[] {
-                new Import("previous", "java.time.temporal.TemporalAdjusters", true),
-              })
-          .put(
-              "AWTKeyStroke",
-              new Import[] {
-                new Import("AWTKeyStroke", "java.awt", false),
-              })
-          .put(
-              "valueOf",
-              new Import[] {
-                new Import("valueOf", "java.awt.Component.BaselineResizeBehavior", true),
-                new Import("valueOf", "java.awt.Desktop.Action", true),
-                new Import("valueOf", "java.awt.Dialog.ModalExclusionType", true),
-                new Import("valueOf", "java.awt.Dialog.ModalityType", true),
-                new Import("valueOf", "java.awt.GraphicsDevice.WindowTranslucency", true),
-                new Import("valueOf", "java.awt.MultipleGradientPaint.ColorSpaceType", true),
-                new Import("valueOf", "java.awt.MultipleGradientPaint.CycleMethod", true),
-                new Import("valueOf", "java.awt.TrayIcon.MessageType", true),
-                new Import("valueOf", "java.awt.Window.Type", true),
-                new Import("valueOf", "java.awt.font.NumericShaper.Range", true),
-                new Import("valueOf", "java.lang.Boolean", true),
-                new Import("valueOf", "java.lang.Byte", true),
-                new Import("valueOf", "java.lang.Character", true),
-                new Import("valueOf", "java.lang.Double", true),
-                new Import("valueOf", "java.lang.Enum", true),
-                new Import("valueOf", "java.lang.Float", true),
-                new Import("valueOf", "java.lang.Integer", true),
-                new Import("valueOf", "java.lang.Long", true),
-                new Import("valueOf", "java.lang.Short", true),
-                new Import("valueOf", "java.lang.String", true),
-                new Import("valueOf", "java.lang.Character.UnicodeScript", true),
-                new Import("valueOf", "java.lang.ProcessBuilder.Redirect.Type", true),
-                new Import("valueOf", "java.lang.Thread.State", true),
-                new Import("valueOf", "java.lang.annotation.ElementType", true),
-                new Import("valueOf", "java.lang.annotation.RetentionPolicy", true),
-                new Import("valueOf", "java.lang.management.MemoryType", true),
-                new Import("valueOf", "java.math.BigDecimal", true),
-                new Import("valueOf", "java.math.BigInteger", true),
-                new Import("valueOf", "java.math.RoundingMode", true),
-                new Import("valueOf", "java.net.StandardProtocolFamily", true),
-                new Import("valueOf", "java.net.Authenticator.RequestorType", true),
-                new Import("valueOf", "java.net.Proxy.Type", true),
-                new Import("valueOf", "java.nio.file.AccessMode", true),
-                new Import("valueOf", "java.nio.file.FileVisitOption", true),
-                new Import("valueOf", "java.nio.file.FileVisitResult", true),
-                new Import("valueOf", "java.nio.file.LinkOption", true),
-                new Import("valueOf", "java.nio.file.StandardCopyOption", true),
-                new Import("valueOf", "java.nio.file.StandardOpenOption", true),
-                new Import("valueOf", "java.nio.file.attribute.AclEntryFlag", true),
-                new Import("valueOf", "java.nio.file.attribute.AclEntryPermission", true),
-                new Import("valueOf", "java.nio.file.attribute.AclEntryType", true),
-                new Import("valueOf", "java.nio.file.attribute.PosixFilePermission", true),
-                new Import("valueOf", "java.security.CryptoPrimitive", true),
-                new Import("valueOf", "java.security.KeyRep.Type", true),
-                new Import("valueOf", "java.security.cert.CRLReason", true),
-                new Import("valueOf", "java.security.cert.PKIXReason", true),
-                new Import(
-                    "valueOf", "java.security.cert.CertPathValidatorException.BasicReason", true),
-                new Import("valueOf", "java.security.cert.PKIXRevocationChecker.Option", true),
-                new Import("valueOf", "java.sql.ClientInfoStatus", true),
-                new Import("valueOf", "java.sql.Date", true),
-                new Import("valueOf", "java.sql.JDBCType", true),
-                new Import("valueOf", "java.sql.PseudoColumnUsage", true),
-                new Import("valueOf", "java.sql.RowIdLifetime", true),
-                new Import("valueOf", "java.sql.Time", true),
-                new Import("valueOf", "java.sql.Timestamp", true),
-                new Import("valueOf", "java.text.Normalizer.Form", true),
-                new Import("valueOf", "java.time.DayOfWeek", true),
-                new Import("valueOf", "java.time.Month", true),
-                new Import("valueOf", "java.time.chrono.HijrahEra", true),
-                new Import("valueOf", "java.time.chrono.IsoEra", true),
-                new Import("valueOf", "java.time.chrono.JapaneseEra", true),
-                new Import("valueOf", "java.time.chrono.MinguoEra", true),
-                new Import("valueOf", "java.time.chrono.ThaiBuddhistEra", true),
-                new Import("valueOf", "java.time.format.FormatStyle", true),
-                new Import("valueOf", "java.time.format.ResolverStyle", true),
-                new Import("valueOf", "java.time.format.SignStyle", true),
-                new Import("valueOf", "java.time.format.TextStyle", true),
-                new Import("valueOf", "java.time.temporal.ChronoField", true),
-                new Import("valueOf", "java.time.temporal.ChronoUnit", true),
-                new Import(
-                    "valueOf", "java.time.zone.ZoneOffsetTransitionRule.TimeDefinition", true),
-                new Import("valueOf", "java.util.BitSet", true),
-                new Import("valueOf", "java.util.Formatter.BigDecimalLayoutForm", true),
-                new Import("valueOf", "java.util.Locale.Category", true),
-                new Import("valueOf", "java.util.Locale.FilteringMode", true),
-                new Import("valueOf", "java.util.concurrent.TimeUnit", true),
-                new Import("valueOf", "java.util.stream.Collector.Characteristics", true),
-                new Import("valueOf", "javax.annotation.Resource.AuthenticationType", true),
-                new Import("valueOf", "javax.jws.WebParam.Mode", true),
-                new Import("valueOf", "javax.jws.soap.SOAPBinding.ParameterStyle", true),
-                new Import("valueOf", "javax.jws.soap.SOAPBinding.Style", true),
-                new Import("valueOf", "javax.jws.soap.SOAPBinding.Use", true),
-                new Import("valueOf", "javax.lang.model.SourceVersion", true),
-                new Import("valueOf", "javax.lang.model.element.ElementKind", true),
-                new Import("valueOf", "javax.lang.model.element.Modifier", true),
-                new Import("valueOf", "javax.lang.model.element.NestingKind", true),
-                new Import("valueOf", "javax.lang.model.type.TypeKind", true),
-                new Import("valueOf", "javax.net.ssl.SSLEngineResult.HandshakeStatus", true),
-                new Import("valueOf", "javax.net.ssl.SSLEngineResult.Status", true),
-                new Import("valueOf", "javax.swing.DropMode", true),
-                new Import("valueOf", "javax.swing.SortOrder", true),
-                new Import("valueOf", "javax.swing.GroupLayout.Alignment", true),
-                new Import("valueOf", "javax.swing.JTable.PrintMode", true),
-                new Import("valueOf", "javax.swing.LayoutStyle.ComponentPlacement", true),
-                new Import("valueOf", "javax.swing.RowFilter.ComparisonType", true),
-                new Import("valueOf", "javax.swing.SwingWorker.StateValue", true),
-                new Import("valueOf", "javax.swing.event.RowSorterEvent.Type", true),
-                new Import(
-                    "valueOf",
-                    "javax.swing.plaf.nimbus.AbstractRegionPainter.PaintContext.CacheMode",
-                    true),
-                new Import("valueOf", "javax.swing.text.html.FormSubmitEvent.MethodType", true),
-                new Import("valueOf", "javax.tools.StandardLocation", true),
-                new Import("valueOf", "javax.tools.Diagnostic.Kind", true),
-                new Import("valueOf", "javax.tools.DocumentationTool.Location", true),
-                new Import("valueOf", "javax.tools.JavaFileObject.Kind", true),
-                new Import("valueOf", "javax.xml.bind.annotation.XmlAccessOrder", true),
-                new Import("valueOf", "javax.xml.bind.annotation.XmlAccessType", true),
-                new Import("valueOf", "javax.xml.bind.annotation.XmlNsForm", true),
-                new Import("valueOf", "javax.xml.namespace.QName", true),
-                new Import("valueOf", "javax.xml.ws.Service.Mode", true),
-                new Import("valueOf", "javax.xml.ws.handler.MessageContext.Scope", true),
-                new Import("valueOf", "javax.xml.ws.soap.AddressingFeature.Responses", true),
-              })
-          .put(
-              "isRegularFile",
-              new Import[] {
-                new Import("isRegularFile", "java.nio.file.Files", true),
-              })
-          .put(
-              "JobSheets",
-              new Import[] {
-                new Import("JobSheets", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "UNSELECTED_RAW_TEXT_HIGHLIGHT",
-              new Import[] {
-                new Import(
-                    "UNSELECTED_RAW_TEXT_HIGHLIGHT", "java.awt.im.InputMethodHighlight", true),
-              })
-          .put(
-              "ENGINE_VERSION",
-              new Import[] {
-                new Import("ENGINE_VERSION", "javax.script.ScriptEngine", true),
-              })
-          .put(
-              "Registry",
-              new Import[] {
-                new Import("Registry", "java.rmi.registry", false),
-              })
-          .put(
-              "KeyStoreSpi",
-              new Import[] {
-                new Import("KeyStoreSpi", "java.security", false),
-              })
-          .put(
-              "selectionNextWordAction",
-              new Import[] {
-                new Import("selectionNextWordAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "InvalidSlot",
-              new Import[] {
-                new Import("InvalidSlot", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "MEIJI",
-              new Import[] {
-                new Import("MEIJI", "java.time.chrono.JapaneseEra", true),
-              })
-          .put(
-              "ESCAPE",
-              new Import[] {
-                new Import("ESCAPE", "java.awt.Event", true),
-              })
-          .put(
-              "getDateInstance",
-              new Import[] {
-                new Import("getDateInstance", "java.text.DateFormat", true),
-              })
-          .put(
-              "Integer",
-              new Import[] {
-                new Import("Integer", "java.lang", false),
-              })
-          .put(
-              "SimpleTypeVisitor8",
-              new Import[] {
-                new Import("SimpleTypeVisitor8", "javax.lang.model.util", false),
-              })
-          .put(
-              "ofNanos",
-              new Import[] {
-                new Import("ofNanos", "java.time.Duration", true),
-              })
-          .put(
-              "SimpleTypeVisitor7",
-              new Import[] {
-                new Import("SimpleTypeVisitor7", "javax.lang.model.util", false),
-              })
-          .put(
-              "SimpleTypeVisitor6",
-              new Import[] {
-                new Import("SimpleTypeVisitor6", "javax.lang.model.util", false),
-              })
-          .put(
-              "ADJUSTMENT_LAST",
-              new Import[] {
-                new Import("ADJUSTMENT_LAST", "java.awt.event.AdjustmentEvent", true),
-              })
-          .put(
-              "getInstance",
-              new Import[] {
-                new Import("getInstance", "java.awt.AlphaComposite", true),
-                new Import("getInstance", "java.awt.color.ColorSpace", true),
-                new Import("getInstance", "java.awt.color.ICC_Profile", true),
-                new Import("getInstance", "java.awt.im.InputContext", true),
-                new Import("getInstance", "java.security.AlgorithmParameterGenerator", true),
-                new Import("getInstance", "java.security.AlgorithmParameters", true),
-                new Import("getInstance", "java.security.KeyFactory", true),
-                new Import("getInstance", "java.security.KeyPairGenerator", true),
-                new Import("getInstance", "java.security.KeyStore", true),
-                new Import("getInstance", "java.security.MessageDigest", true),
-                new Import("getInstance", "java.security.Policy", true),
-                new Import("getInstance", "java.security.SecureRandom", true),
-                new Import("getInstance", "java.security.Signature", true),
-                new Import("getInstance", "java.security.cert.CertPathBuilder", true),
-                new Import("getInstance", "java.security.cert.CertPathValidator", true),
-                new Import("getInstance", "java.security.cert.CertStore", true),
-                new Import("getInstance", "java.security.cert.CertificateFactory", true),
-                new Import("getInstance", "java.text.Collator", true),
-                new Import("getInstance", "java.text.DateFormat", true),
-                new Import("getInstance", "java.text.DateFormatSymbols", true),
-                new Import("getInstance", "java.text.DecimalFormatSymbols", true),
-                new Import("getInstance", "java.text.NumberFormat", true),
-                new Import("getInstance", "java.util.Calendar", true),
-                new Import("getInstance", "java.util.Currency", true),
-                new Import("getInstance", "javax.crypto.Cipher", true),
-                new Import("getInstance", "javax.crypto.ExemptionMechanism", true),
-                new Import("getInstance", "javax.crypto.KeyAgreement", true),
-                new Import("getInstance", "javax.crypto.KeyGenerator", true),
-                new Import("getInstance", "javax.crypto.Mac", true),
-                new Import("getInstance", "javax.crypto.SecretKeyFactory", true),
-                new Import("getInstance", "javax.management.ObjectName", true),
-                new Import("getInstance", "javax.net.ssl.KeyManagerFactory", true),
-                new Import("getInstance", "javax.net.ssl.SSLContext", true),
-                new Import("getInstance", "javax.net.ssl.TrustManagerFactory", true),
-                new Import("getInstance", "javax.security.auth.kerberos.KeyTab", true),
-                new Import("getInstance", "javax.security.auth.login.Configuration", true),
-                new Import("getInstance", "javax.security.cert.X509Certificate", true),
-                new Import("getInstance", "javax.sql.rowset.spi.SyncFactory", true),
-                new Import("getInstance", "javax.swing.LayoutStyle", true),
-                new Import("getInstance", "javax.xml.crypto.dsig.TransformService", true),
-                new Import("getInstance", "javax.xml.crypto.dsig.XMLSignatureFactory", true),
-                new Import("getInstance", "javax.xml.crypto.dsig.keyinfo.KeyInfoFactory", true),
-                new Import("getInstance", "org.ietf.jgss.GSSManager", true),
-              })
-          .put(
-              "lastDayOfYear",
-              new Import[] {
-                new Import("lastDayOfYear", "java.time.temporal.TemporalAdjusters", true),
-              })
-          .put(
-              "HEISEI",
-              new Import[] {
-                new Import("HEISEI", "java.time.chrono.JapaneseEra", true),
-              })
-          .put(
-              "DHPrivateKey",
-              new Import[] {
-                new Import("DHPrivateKey", "javax.crypto.interfaces", false),
-              })
-          .put(
-              "NA_NUMBER_14_ENVELOPE",
-              new Import[] {
-                new Import("NA_NUMBER_14_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-                new Import(
-                    "NA_NUMBER_14_ENVELOPE", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import(
-                    "NA_NUMBER_14_ENVELOPE", "javax.print.attribute.standard.MediaSize.NA", true),
-              })
-          .put(
-              "PrivateKey",
-              new Import[] {
-                new Import("PrivateKey", "java.security", false),
-              })
-          .put(
-              "SELECTED_KEY",
-              new Import[] {
-                new Import("SELECTED_KEY", "javax.swing.Action", true),
-              })
-          .put(
-              "BORDER_LEFT_STYLE",
-              new Import[] {
-                new Import("BORDER_LEFT_STYLE", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "SaslServer",
-              new Import[] {
-                new Import("SaslServer", "javax.security.sasl", false),
-              })
-          .put(
-              "XmlAnyElement",
-              new Import[] {
-                new Import("XmlAnyElement", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "BindingListHolder",
-              new Import[] {
-                new Import("BindingListHolder", "org.omg.CosNaming", false),
-              })
-          .put(
-              "_SYSTEM_ID",
-              new Import[] {
-                new Import("_SYSTEM_ID", "org.omg.PortableServer.IdAssignmentPolicyValue", true),
-              })
-          .put(
-              "TC_PROXYCLASSDESC",
-              new Import[] {
-                new Import("TC_PROXYCLASSDESC", "java.io.ObjectStreamConstants", true),
-              })
-          .put(
-              "COMPILATION_MXBEAN_NAME",
-              new Import[] {
-                new Import(
-                    "COMPILATION_MXBEAN_NAME", "java.lang.management.ManagementFactory", true),
-              })
-          .put(
-              "type",
-              new Import[] {
-                new Import("type", "org.omg.CORBA.AnySeqHelper", true),
-                new Import("type", "org.omg.CORBA.BooleanSeqHelper", true),
-                new Import("type", "org.omg.CORBA.CharSeqHelper", true),
-                new Import("type", "org.omg.CORBA.CompletionStatusHelper", true),
-                new Import("type", "org.omg.CORBA.CurrentHelper", true),
-                new Import("type", "org.omg.CORBA.DefinitionKindHelper", true),
-                new Import("type", "org.omg.CORBA.DoubleSeqHelper", true),
-                new Import("type", "org.omg.CORBA.FieldNameHelper", true),
-                new Import("type", "org.omg.CORBA.FloatSeqHelper", true),
-                new Import("type", "org.omg.CORBA.IDLTypeHelper", true),
-                new Import("type", "org.omg.CORBA.IdentifierHelper", true),
-                new Import("type", "org.omg.CORBA.LongLongSeqHelper", true),
-                new Import("type", "org.omg.CORBA.LongSeqHelper", true),
-                new Import("type", "org.omg.CORBA.NameValuePairHelper", true),
-                new Import("type", "org.omg.CORBA.ObjectHelper", true),
-                new Import("type", "org.omg.CORBA.OctetSeqHelper", true),
-                new Import("type", "org.omg.CORBA.ParameterModeHelper", true),
-                new Import("type", "org.omg.CORBA.PolicyErrorCodeHelper", true),
-                new Import("type", "org.omg.CORBA.PolicyErrorHelper", true),
-                new Import("type", "org.omg.CORBA.PolicyHelper", true),
-                new Import("type", "org.omg.CORBA.PolicyListHelper", true),
-                new Import("type", "org.omg.CORBA.PolicyTypeHelper", true),
-                new Import("type", "org.omg.CORBA.RepositoryIdHelper", true),
-                new Import("type", "org.omg.CORBA.ServiceDetailHelper", true),
-                new Import("type", "org.omg.CORBA.ServiceInformationHelper", true),
-                new Import("type", "org.omg.CORBA.SetOverrideTypeHelper", true),
-                new Import("type", "org.omg.CORBA.ShortSeqHelper", true),
-                new Import("type", "org.omg.CORBA.StringSeqHelper", true),
-                new Import("type", "org.omg.CORBA.StringValueHelper", true),
-                new Import("type", "org.omg.CORBA.StructMemberHelper", true),
-                new Import("type", "org.omg.CORBA.ULongLongSeqHelper", true),
-                new Import("type", "org.omg.CORBA.ULongSeqHelper", true),
-                new Import("type", "org.omg.CORBA.UShortSeqHelper", true),
-                new Import("type", "org.omg.CORBA.UnionMemberHelper", true),
-                new Import("type", "org.omg.CORBA.UnknownUserExceptionHelper", true),
-                new Import("type", "org.omg.CORBA.ValueBaseHelper", true),
-                new Import("type", "org.omg.CORBA.ValueMemberHelper", true),
-                new Import("type", "org.omg.CORBA.VersionSpecHelper", true),
-                new Import("type", "org.omg.CORBA.VisibilityHelper", true),
-                new Import("type", "org.omg.CORBA.WCharSeqHelper", true),
-                new Import("type", "org.omg.CORBA.WStringSeqHelper", true),
-                new Import("type", "org.omg.CORBA.WStringValueHelper", true),
-                new Import("type", "org.omg.CORBA.WrongTransactionHelper", true),
-                new Import("type", "org.omg.CosNaming.BindingHelper", true),
-                new Import("type", "org.omg.CosNaming.BindingIteratorHelper", true),
-                new Import("type", "org.omg.CosNaming.BindingListHelper", true),
-                new Import("type", "org.omg.CosNaming.BindingTypeHelper", true),
-                new Import("type", "org.omg.CosNaming.IstringHelper", true),
-                new Import("type", "org.omg.CosNaming.NameComponentHelper", true),
-                new Import("type", "org.omg.CosNaming.NameHelper", true),
-                new Import("type", "org.omg.CosNaming.NamingContextExtHelper", true),
-                new Import("type", "org.omg.CosNaming.NamingContextHelper", true),
-                new Import("type", "org.omg.CosNaming.NamingContextExtPackage.AddressHelper", true),
-                new Import(
-                    "type", "org.omg.CosNaming.NamingContextExtPackage.InvalidAddressHelper", true),
-                new Import(
-                    "type", "org.omg.CosNaming.NamingContextExtPackage.StringNameHelper", true),
-                new Import(
-                    "type", "org.omg.CosNaming.NamingContextExtPackage.URLStringHelper", true),
-                new Import(
-                    "type", "org.omg.CosNaming.NamingContextPackage.AlreadyBoundHelper", true),
-                new Import(
-                    "type", "org.omg.CosNaming.NamingContextPackage.CannotProceedHelper", true),
-                new Import(
-                    "type", "org.omg.CosNaming.NamingContextPackage.InvalidNameHelper", true),
-                new Import("type", "org.omg.CosNaming.NamingContextPackage.NotEmptyHelper", true),
-                new Import("type", "org.omg.CosNaming.NamingContextPackage.NotFoundHelper", true),
-                new Import(
-                    "type", "org.omg.CosNaming.NamingContextPackage.NotFoundReasonHelper", true),
-                new Import("type", "org.omg.DynamicAny.AnySeqHelper", true),
-                new Import("type", "org.omg.DynamicAny.DynAnyFactoryHelper", true),
-                new Import("type", "org.omg.DynamicAny.DynAnyHelper", true),
-                new Import("type", "org.omg.DynamicAny.DynAnySeqHelper", true),
-                new Import("type", "org.omg.DynamicAny.DynArrayHelper", true),
-                new Import("type", "org.omg.DynamicAny.DynEnumHelper", true),
-                new Import("type", "org.omg.DynamicAny.DynFixedHelper", true),
-                new Import("type", "org.omg.DynamicAny.DynSequenceHelper", true),
-                new Import("type", "org.omg.DynamicAny.DynStructHelper", true),
-                new Import("type", "org.omg.DynamicAny.DynUnionHelper", true),
-                new Import("type", "org.omg.DynamicAny.DynValueHelper", true),
-                new Import("type", "org.omg.DynamicAny.FieldNameHelper", true),
-                new Import("type", "org.omg.DynamicAny.NameDynAnyPairHelper", true),
-                new Import("type", "org.omg.DynamicAny.NameDynAnyPairSeqHelper", true),
-                new Import("type", "org.omg.DynamicAny.NameValuePairHelper", true),
-                new Import("type", "org.omg.DynamicAny.NameValuePairSeqHelper", true),
-                new Import(
-                    "type",
-                    "org.omg.DynamicAny.DynAnyFactoryPackage.InconsistentTypeCodeHelper",
-                    true),
-                new Import("type", "org.omg.DynamicAny.DynAnyPackage.InvalidValueHelper", true),
-                new Import("type", "org.omg.DynamicAny.DynAnyPackage.TypeMismatchHelper", true),
-                new Import("type", "org.omg.IOP.CodecFactoryHelper", true),
-                new Import("type", "org.omg.IOP.ComponentIdHelper", true),
-                new Import("type", "org.omg.IOP.IORHelper", true),
-                new Import("type", "org.omg.IOP.MultipleComponentProfileHelper", true),
-                new Import("type", "org.omg.IOP.ProfileIdHelper", true),
-                new Import("type", "org.omg.IOP.ServiceContextHelper", true),
-                new Import("type", "org.omg.IOP.ServiceContextListHelper", true),
-                new Import("type", "org.omg.IOP.ServiceIdHelper", true),
-                new Import("type", "org.omg.IOP.TaggedComponentHelper", true),
-                new Import("type", "org.omg.IOP.TaggedProfileHelper", true),
-                new Import("type", "org.omg.IOP.CodecFactoryPackage.UnknownEncodingHelper", true),
-                new Import("type", "org.omg.IOP.CodecPackage.FormatMismatchHelper", true),
-                new Import("type", "org.omg.IOP.CodecPackage.InvalidTypeForEncodingHelper", true),
-                new Import("type", "org.omg.IOP.CodecPackage.TypeMismatchHelper", true),
-                new Import("type", "org.omg.Messaging.SyncScopeHelper", true),
-                new Import("type", "org.omg.PortableInterceptor.AdapterManagerIdHelper", true),
-                new Import("type", "org.omg.PortableInterceptor.AdapterNameHelper", true),
-                new Import("type", "org.omg.PortableInterceptor.AdapterStateHelper", true),
-                new Import("type", "org.omg.PortableInterceptor.CurrentHelper", true),
-                new Import("type", "org.omg.PortableInterceptor.ForwardRequestHelper", true),
-                new Import("type", "org.omg.PortableInterceptor.IORInterceptor_3_0Helper", true),
-                new Import("type", "org.omg.PortableInterceptor.InvalidSlotHelper", true),
-                new Import("type", "org.omg.PortableInterceptor.ORBIdHelper", true),
-                new Import("type", "org.omg.PortableInterceptor.ObjectIdHelper", true),
-                new Import(
-                    "type", "org.omg.PortableInterceptor.ObjectReferenceFactoryHelper", true),
-                new Import(
-                    "type", "org.omg.PortableInterceptor.ObjectReferenceTemplateHelper", true),
-                new Import(
-                    "type", "org.omg.PortableInterceptor.ObjectReferenceTemplateSeqHelper", true),
-                new Import("type", "org.omg.PortableInterceptor.ServerIdHelper", true),
-                new Import(
-                    "type",
-                    "org.omg.PortableInterceptor.ORBInitInfoPackage.DuplicateNameHelper",
-                    true),
-                new Import(
-                    "type",
-                    "org.omg.PortableInterceptor.ORBInitInfoPackage.InvalidNameHelper",
-                    true),
-                new Import(
-                    "type", "org.omg.PortableInterceptor.ORBInitInfoPackage.ObjectIdHelper", true),
-                new Import("type", "org.omg.PortableServer.CurrentHelper", true),
-                new Import("type", "org.omg.PortableServer.ForwardRequestHelper", true),
-                new Import("type", "org.omg.PortableServer.POAHelper", true),
-                new Import("type", "org.omg.PortableServer.ServantActivatorHelper", true),
-                new Import("type", "org.omg.PortableServer.ServantLocatorHelper", true),
-                new Import("type", "org.omg.PortableServer.CurrentPackage.NoContextHelper", true),
-                new Import(
-                    "type", "org.omg.PortableServer.POAManagerPackage.AdapterInactiveHelper", true),
-                new Import(
-                    "type", "org.omg.PortableServer.POAPackage.AdapterAlreadyExistsHelper", true),
-                new Import(
-                    "type", "org.omg.PortableServer.POAPackage.AdapterNonExistentHelper", true),
-                new Import("type", "org.omg.PortableServer.POAPackage.InvalidPolicyHelper", true),
-                new Import("type", "org.omg.PortableServer.POAPackage.NoServantHelper", true),
-                new Import(
-                    "type", "org.omg.PortableServer.POAPackage.ObjectAlreadyActiveHelper", true),
-                new Import("type", "org.omg.PortableServer.POAPackage.ObjectNotActiveHelper", true),
-                new Import(
-                    "type", "org.omg.PortableServer.POAPackage.ServantAlreadyActiveHelper", true),
-                new Import(
-                    "type", "org.omg.PortableServer.POAPackage.ServantNotActiveHelper", true),
-                new Import("type", "org.omg.PortableServer.POAPackage.WrongAdapterHelper", true),
-                new Import("type", "org.omg.PortableServer.POAPackage.WrongPolicyHelper", true),
-              })
-          .put(
-              "VK_DEAD_CEDILLA",
-              new Import[] {
-                new Import("VK_DEAD_CEDILLA", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "getSequencer",
-              new Import[] {
-                new Import("getSequencer", "javax.sound.midi.MidiSystem", true),
-              })
-          .put(
-              "RunnableScheduledFuture",
-              new Import[] {
-                new Import("RunnableScheduledFuture", "java.util.concurrent", false),
-              })
-          .put(
-              "PANEL_UI",
-              new Import[] {
-                new Import("PANEL_UI", "javax.print.ServiceUIFactory", true),
-              })
-          .put(
-              "DASH_PUNCTUATION",
-              new Import[] {
-                new Import("DASH_PUNCTUATION", "java.lang.Character", true),
-              })
-          .put(
-              "PolicyListHelper",
-              new Import[] {
-                new Import("PolicyListHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "DecimalFormatSymbolsProvider",
-              new Import[] {
-                new Import("DecimalFormatSymbolsProvider", "java.text.spi", false),
-              })
-          .put(
-              "MARGIN_LEFT",
-              new Import[] {
-                new Import("MARGIN_LEFT", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "ImageOutputStream",
-              new Import[] {
-                new Import("ImageOutputStream", "javax.imageio.stream", false),
-              })
-          .put(
-              "ClosedChannelException",
-              new Import[] {
-                new Import("ClosedChannelException", "java.nio.channels", false),
-              })
-          .put(
-              "StatementEventListener",
-              new Import[] {
-                new Import("StatementEventListener", "javax.sql", false),
-              })
-          .put(
-              "InvalidSearchFilterException",
-              new Import[] {
-                new Import("InvalidSearchFilterException", "javax.naming.directory", false),
-              })
-          .put(
-              "getLayer",
-              new Import[] {
-                new Import("getLayer", "javax.swing.JLayeredPane", true),
-              })
-          .put(
-              "CookieHolder",
-              new Import[] {
-                new Import("CookieHolder", "org.omg.PortableServer.ServantLocatorPackage", false),
-              })
-          .put(
-              "TextListener",
-              new Import[] {
-                new Import("TextListener", "java.awt.event", false),
-              })
-          .put(
-              "SCROLLING",
-              new Import[] {
-                new Import("SCROLLING", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "BLOCK_INCREMENT",
-              new Import[] {
-                new Import("BLOCK_INCREMENT", "java.awt.event.AdjustmentEvent", true),
-              })
-          .put(
-              "parameterModifiers",
-              new Import[] {
-                new Import("parameterModifiers", "java.lang.reflect.Modifier", true),
-              })
-          .put(
-              "SubjectDelegationPermission",
-              new Import[] {
-                new Import("SubjectDelegationPermission", "javax.management.remote", false),
-              })
-          .put(
-              "XA_RETRY",
-              new Import[] {
-                new Import("XA_RETRY", "javax.transaction.xa.XAException", true),
-              })
-          .put(
-              "BeepAction",
-              new Import[] {
-                new Import("BeepAction", "javax.swing.text.DefaultEditorKit", false),
-              })
-          .put(
-              "DOTALL",
-              new Import[] {
-                new Import("DOTALL", "java.util.regex.Pattern", true),
-              })
-          .put(
-              "systemNodeForPackage",
-              new Import[] {
-                new Import("systemNodeForPackage", "java.util.prefs.Preferences", true),
-              })
-          .put(
-              "functionResultUnknown",
-              new Import[] {
-                new Import("functionResultUnknown", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "MappedByteBuffer",
-              new Import[] {
-                new Import("MappedByteBuffer", "java.nio", false),
-              })
-          .put(
-              "ROLE_CARDINALITY_INFINITY",
-              new Import[] {
-                new Import("ROLE_CARDINALITY_INFINITY", "javax.management.relation.RoleInfo", true),
-              })
-          .put(
-              "SSLSessionBindingEvent",
-              new Import[] {
-                new Import("SSLSessionBindingEvent", "javax.net.ssl", false),
-              })
-          .put(
-              "TrustManagerFactorySpi",
-              new Import[] {
-                new Import("TrustManagerFactorySpi", "javax.net.ssl", false),
-              })
-          .put(
-              "SynthTabbedPaneUI",
-              new Import[] {
-                new Import("SynthTabbedPaneUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "UNDERFLOW",
-              new Import[] {
-                new Import("UNDERFLOW", "java.nio.charset.CoderResult", true),
-              })
-          .put(
-              "IllegalBlockingModeException",
-              new Import[] {
-                new Import("IllegalBlockingModeException", "java.nio.channels", false),
-              })
-          .put(
-              "dk_AbstractInterface",
-              new Import[] {
-                new Import("dk_AbstractInterface", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "runFinalization",
-              new Import[] {
-                new Import("runFinalization", "java.lang.System", true),
-              })
-          .put(
-              "getRightIndent",
-              new Import[] {
-                new Import("getRightIndent", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "VK_DEAD_CIRCUMFLEX",
-              new Import[] {
-                new Import("VK_DEAD_CIRCUMFLEX", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "showInternalConfirmDialog",
-              new Import[] {
-                new Import("showInternalConfirmDialog", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "COMMENT_NODE",
-              new Import[] {
-                new Import("COMMENT_NODE", "org.w3c.dom.Node", true),
-              })
-          .put(
-              "LOWER_LEADING_CORNER",
-              new Import[] {
-                new Import("LOWER_LEADING_CORNER", "javax.swing.ScrollPaneConstants", true),
-              })
-          .put(
-              "SINGLE_LINE",
-              new Import[] {
-                new Import("SINGLE_LINE", "javax.accessibility.AccessibleState", true),
-              })
-          .put(
-              "geq",
-              new Import[] {
-                new Import("geq", "javax.management.Query", true),
-              })
-          .put(
-              "MetalProgressBarUI",
-              new Import[] {
-                new Import("MetalProgressBarUI", "javax.swing.plaf.metal", false),
-              })
-          .put(
-              "InvalidTypeForEncodingHelper",
-              new Import[] {
-                new Import("InvalidTypeForEncodingHelper", "org.omg.IOP.CodecPackage", false),
-              })
-          .put(
-              "FlatteningPathIterator",
-              new Import[] {
-                new Import("FlatteningPathIterator", "java.awt.geom", false),
-              })
-          .put(
-              "get",
-              new Import[] {
-                new Import("get", "java.lang.reflect.Array", true),
-                new Import("get", "java.nio.file.Paths", true),
-                new Import("get", "javax.swing.UIManager", true),
-              })
-          .put(
-              "emptyMap",
-              new Import[] {
-                new Import("emptyMap", "java.util.Collections", true),
-              })
-          .put(
-              "STAPLE_BOTTOM_LEFT",
-              new Import[] {
-                new Import("STAPLE_BOTTOM_LEFT", "javax.print.attribute.standard.Finishings", true),
-              })
-          .put(
-              "VERTICAL_TEXT_POSITION_CHANGED_PROPERTY",
-              new Import[] {
-                new Import(
-                    "VERTICAL_TEXT_POSITION_CHANGED_PROPERTY", "javax.swing.AbstractButton", true),
-              })
-          .put(
-              "MLetMBean",
-              new Import[] {
-                new Import("MLetMBean", "javax.management.loading", false),
-              })
-          .put(
-              "MUSICAL_SYMBOLS",
-              new Import[] {
-                new Import("MUSICAL_SYMBOLS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "setDefaultQueue",
-              new Import[] {
-                new Import("setDefaultQueue", "javax.swing.text.LayoutQueue", true),
-              })
-          .put(
-              "DescriptorSupport",
-              new Import[] {
-                new Import("DescriptorSupport", "javax.management.modelmbean", false),
-              })
-          .put(
-              "AUTO_RESIZE_LAST_COLUMN",
-              new Import[] {
-                new Import("AUTO_RESIZE_LAST_COLUMN", "javax.swing.JTable", true),
-              })
-          .put(
-              "parseBase64Binary",
-              new Import[] {
-                new Import("parseBase64Binary", "javax.xml.bind.DatatypeConverter", true),
-              })
-          .put(
-              "JAVANESE",
-              new Import[] {
-                new Import("JAVANESE", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "DUMMY",
-              new Import[] {
-                new Import("DUMMY", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "lookupStreamPrintServices",
-              new Import[] {
-                new Import("lookupStreamPrintServices", "java.awt.print.PrinterJob", true),
-              })
-          .put(
-              "LOCTIM",
-              new Import[] {
-                new Import("LOCTIM", "java.util.jar.JarEntry", true),
-                new Import("LOCTIM", "java.util.jar.JarFile", true),
-                new Import("LOCTIM", "java.util.jar.JarInputStream", true),
-                new Import("LOCTIM", "java.util.jar.JarOutputStream", true),
-                new Import("LOCTIM", "java.util.zip.ZipEntry", true),
-                new Import("LOCTIM", "java.util.zip.ZipFile", true),
-                new Import("LOCTIM", "java.util.zip.ZipInputStream", true),
-                new Import("LOCTIM", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "DataFormatException",
-              new Import[] {
-                new Import("DataFormatException", "java.util.zip", false),
-              })
-          .put(
-              "ButtonGroup",
-              new Import[] {
-                new Import("ButtonGroup", "javax.swing", false),
-              })
-          .put(
-              "ADDITION",
-              new Import[] {
-                new Import("ADDITION", "org.w3c.dom.events.MutationEvent", true),
-              })
-          .put(
-              "SecretKeyFactorySpi",
-              new Import[] {
-                new Import("SecretKeyFactorySpi", "javax.crypto", false),
-              })
-          .put(
-              "ParseException",
-              new Import[] {
-                new Import("ParseException", "java.text", false),
-              })
-          .put(
-              "tk_value_box",
-              new Import[] {
-                new Import("tk_value_box", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "relativeCCW",
-              new Import[] {
-                new Import("relativeCCW", "java.awt.geom.Line2D", true),
-              })
-          .put(
-              "NUTOKEN",
-              new Import[] {
-                new Import("NUTOKEN", "javax.swing.text.html.parser.DTDConstants", true),
-              })
-          .put(
-              "MBeanServerNotification",
-              new Import[] {
-                new Import("MBeanServerNotification", "javax.management", false),
-              })
-          .put(
-              "RecursiveTask",
-              new Import[] {
-                new Import("RecursiveTask", "java.util.concurrent", false),
-              })
-          .put(
-              "ContextList",
-              new Import[] {
-                new Import("ContextList", "org.omg.CORBA", false),
-              })
-          .put(
-              "getInteger",
-              new Import[] {
-                new Import("getInteger", "java.lang.Integer", true),
-              })
-          .put(
-              "ClosedWatchServiceException",
-              new Import[] {
-                new Import("ClosedWatchServiceException", "java.nio.file", false),
-              })
-          .put(
-              "IMPLEMENTATION_TITLE",
-              new Import[] {
-                new Import("IMPLEMENTATION_TITLE", "java.util.jar.Attributes.Name", true),
-              })
-          .put(
-              "MultiDoc",
-              new Import[] {
-                new Import("MultiDoc", "javax.print", false),
-              })
-          .put(
-              "isLeftMouseButton",
-              new Import[] {
-                new Import("isLeftMouseButton", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "SC_EXTERNALIZABLE",
-              new Import[] {
-                new Import("SC_EXTERNALIZABLE", "java.io.ObjectStreamConstants", true),
-              })
-          .put(
-              "create",
-              new Import[] {
-                new Import("create", "java.beans.EventHandler", true),
-                new Import("create", "java.net.URI", true),
-                new Import("create", "javax.xml.ws.Endpoint", true),
-                new Import("create", "javax.xml.ws.Service", true),
-              })
-          .put(
-              "inheritedChannel",
-              new Import[] {
-                new Import("inheritedChannel", "java.lang.System", true),
-              })
-          .put(
-              "JUSTIFICATION_FULL",
-              new Import[] {
-                new Import("JUSTIFICATION_FULL", "java.awt.font.TextAttribute", true),
-              })
-          .put(
-              "_SET_OVERRIDE",
-              new Import[] {
-                new Import("_SET_OVERRIDE", "org.omg.CORBA.SetOverrideType", true),
-              })
-          .put(
-              "getControlTextFont",
-              new Import[] {
-                new Import("getControlTextFont", "javax.swing.plaf.metal.MetalLookAndFeel", true),
-              })
-          .put(
-              "Character",
-              new Import[] {
-                new Import("Character", "java.lang", false),
-              })
-          .put(
-              "Resolver",
-              new Import[] {
-                new Import("Resolver", "javax.naming.spi", false),
-              })
-          .put(
-              "deepEquals",
-              new Import[] {
-                new Import("deepEquals", "java.util.Arrays", true),
-                new Import("deepEquals", "java.util.Objects", true),
-              })
-          .put(
-              "makeInputMap",
-              new Import[] {
-                new Import("makeInputMap", "javax.swing.LookAndFeel", true),
-              })
-          .put(
-              "Sequence",
-              new Import[] {
-                new Import("Sequence", "javax.sound.midi", false),
-              })
-          .put(
-              "insertTabAction",
-              new Import[] {
-                new Import("insertTabAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "VK_FIND",
-              new Import[] {
-                new Import("VK_FIND", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "DateTimeParseException",
-              new Import[] {
-                new Import("DateTimeParseException", "java.time.format", false),
-              })
-          .put(
-              "beginLineAction",
-              new Import[] {
-                new Import("beginLineAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "MultipleMaster",
-              new Import[] {
-                new Import("MultipleMaster", "java.awt.font", false),
-              })
-          .put(
-              "FIRST_LINE_START",
-              new Import[] {
-                new Import("FIRST_LINE_START", "java.awt.GridBagConstraints", true),
-              })
-          .put(
-              "SPECIFICATION_VENDOR",
-              new Import[] {
-                new Import("SPECIFICATION_VENDOR", "java.util.jar.Attributes.Name", true),
-              })
-          .put(
-              "EMPTY_SET",
-              new Import[] {
-                new Import("EMPTY_SET", "java.util.Collections", true),
-              })
-          .put(
-              "installLookAndFeel",
-              new Import[] {
-                new Import("installLookAndFeel", "javax.swing.UIManager", true),
-              })
-          .put(
-              "NoPermissionException",
-              new Import[] {
-                new Import("NoPermissionException", "javax.naming", false),
-              })
-          .put(
-              "getFont",
-              new Import[] {
-                new Import("getFont", "java.awt.Font", true),
-                new Import("getFont", "javax.swing.UIManager", true),
-              })
-          .put(
-              "VARIATION_SELECTORS",
-              new Import[] {
-                new Import("VARIATION_SELECTORS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "getFontSize",
-              new Import[] {
-                new Import("getFontSize", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "scalb",
-              new Import[] {
-                new Import("scalb", "java.lang.Math", true),
-                new Import("scalb", "java.lang.StrictMath", true),
-              })
-          .put(
-              "EXECUTE_FAILED",
-              new Import[] {
-                new Import("EXECUTE_FAILED", "java.sql.Statement", true),
-              })
-          .put(
-              "scale",
-              new Import[] {
-                new Import("scale", "javax.swing.Spring", true),
-              })
-          .put(
-              "computeIntersection",
-              new Import[] {
-                new Import("computeIntersection", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "BasicPopupMenuUI",
-              new Import[] {
-                new Import("BasicPopupMenuUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "encodeDataFlavor",
-              new Import[] {
-                new Import("encodeDataFlavor", "java.awt.datatransfer.SystemFlavorMap", true),
-              })
-          .put(
-              "HTTP_GATEWAY_TIMEOUT",
-              new Import[] {
-                new Import("HTTP_GATEWAY_TIMEOUT", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "subdivide",
-              new Import[] {
-                new Import("subdivide", "java.awt.geom.CubicCurve2D", true),
-                new Import("subdivide", "java.awt.geom.QuadCurve2D", true),
-              })
-          .put(
-              "MAX_VALUE_LENGTH",
-              new Import[] {
-                new Import("MAX_VALUE_LENGTH", "java.util.prefs.Preferences", true),
-              })
-          .put(
-              "JAPAN",
-              new Import[] {
-                new Import("JAPAN", "java.util.Locale", true),
-              })
-          .put(
-              "K2Div2Chrominance",
-              new Import[] {
-                new Import("K2Div2Chrominance", "javax.imageio.plugins.jpeg.JPEGQTable", true),
-              })
-          .put(
-              "TEXT_PLAIN_US_ASCII",
-              new Import[] {
-                new Import("TEXT_PLAIN_US_ASCII", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("TEXT_PLAIN_US_ASCII", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("TEXT_PLAIN_US_ASCII", "javax.print.DocFlavor.URL", true),
-              })
-          .put(
-              "WebServiceException",
-              new Import[] {
-                new Import("WebServiceException", "javax.xml.ws", false),
-              })
-          .put(
-              "AutoCloseable",
-              new Import[] {
-                new Import("AutoCloseable", "java.lang", false),
-              })
-          .put(
-              "BasicTextFieldUI",
-              new Import[] {
-                new Import("BasicTextFieldUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "MONARCH_ENVELOPE",
-              new Import[] {
-                new Import("MONARCH_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-                new Import(
-                    "MONARCH_ENVELOPE", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import(
-                    "MONARCH_ENVELOPE", "javax.print.attribute.standard.MediaSize.Other", true),
-              })
-          .put(
-              "ConsoleHandler",
-              new Import[] {
-                new Import("ConsoleHandler", "java.util.logging", false),
-              })
-          .put(
-              "RejectedExecutionException",
-              new Import[] {
-                new Import("RejectedExecutionException", "java.util.concurrent", false),
-              })
-          .put(
-              "MBeanNotificationInfo",
-              new Import[] {
-                new Import("MBeanNotificationInfo", "javax.management", false),
-              })
-          .put(
-              "CLASS_INPUT",
-              new Import[] {
-                new Import("CLASS_INPUT", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "Signature",
-              new Import[] {
-                new Import("Signature", "java.security", false),
-              })
-          .put(
-              "MATH_SYMBOL",
-              new Import[] {
-                new Import("MATH_SYMBOL", "java.lang.Character", true),
-              })
-          .put(
-              "VK_BRACELEFT",
-              new Import[] {
-                new Import("VK_BRACELEFT", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "FILTER_INTERRUPT",
-              new Import[] {
-                new Import("FILTER_INTERRUPT", "org.w3c.dom.ls.LSParserFilter", true),
-              })
-          .put(
-              "offsetByCodePoints",
-              new Import[] {
-                new Import("offsetByCodePoints", "java.lang.Character", true),
-              })
-          .put(
-              "printTime",
-              new Import[] {
-                new Import("printTime", "javax.xml.bind.DatatypeConverter", true),
-              })
-          .put(
-              "SHORT_FORMAT",
-              new Import[] {
-                new Import("SHORT_FORMAT", "java.util.Calendar", true),
-              })
-          .put(
-              "_dk_Module",
-              new Import[] {
-                new Import("_dk_Module", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .build();
-}
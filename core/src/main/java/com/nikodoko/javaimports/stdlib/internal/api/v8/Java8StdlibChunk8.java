@@ -1,1735 +0,0 @@
-// Code generated by GenerateStdlib.java. DO NOT EDIT.
-package com.nikodoko.javaimports.stdlib.internal.api.v8;
-
-import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
-import java.util.Map;
-
-public class Java8StdlibChunk8 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
-          .put(
-              "_DynValueStub",
-              new Import[] {
-                new Import("_DynValueStub", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "HijrahDate",
-              new Import[] {
-                new Import("HijrahDate", "java.time.chrono", false),
-              })
-          .put(
-              "HexBinaryAdapter",
-              new Import[] {
-                new Import("HexBinaryAdapter", "javax.xml.bind.annotation.adapters", false),
-              })
-          .put(
-              "REVERT",
-              new Import[] {
-                new Import("REVERT", "javax.swing.JFormattedTextField", true),
-              })
-          .put(
-              "MultiSpinnerUI",
-              new Import[] {
-                new Import("MultiSpinnerUI", "javax.swing.plaf.multi", false),
-              })
-          .put(
-              "IORInfoOperations",
-              new Import[] {
-                new Import("IORInfoOperations", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "EventQueue",
-              new Import[] {
-                new Import("EventQueue", "java.awt", false),
-              })
-          .put(
-              "USE_STD3_ASCII_RULES",
-              new Import[] {
-                new Import("USE_STD3_ASCII_RULES", "java.net.IDN", true),
-              })
-          .put(
-              "IntegerSyntax",
-              new Import[] {
-                new Import("IntegerSyntax", "javax.print.attribute", false),
-              })
-          .put(
-              "MouseDragGestureRecognizer",
-              new Import[] {
-                new Import("MouseDragGestureRecognizer", "java.awt.dnd", false),
-              })
-          .put(
-              "tk_TypeCode",
-              new Import[] {
-                new Import("tk_TypeCode", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "writeAbstractObject",
-              new Import[] {
-                new Import("writeAbstractObject", "javax.rmi.CORBA.Util", true),
-              })
-          .put(
-              "MenuSelectionManager",
-              new Import[] {
-                new Import("MenuSelectionManager", "javax.swing", false),
-              })
-          .put(
-              "DefaultFormatter",
-              new Import[] {
-                new Import("DefaultFormatter", "javax.swing.text", false),
-              })
-          .put(
-              "MediaTray",
-              new Import[] {
-                new Import("MediaTray", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "IllegalArgumentException",
-              new Import[] {
-                new Import("IllegalArgumentException", "java.lang", false),
-              })
-          .put(
-              "_dk_Primitive",
-              new Import[] {
-                new Import("_dk_Primitive", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "ONE_MINUTE",
-              new Import[] {
-                new Import("ONE_MINUTE", "javax.management.timer.Timer", true),
-              })
-          .put(
-              "RowMapper",
-              new Import[] {
-                new Import("RowMapper", "javax.swing.tree", false),
-              })
-          .put(
-              "DOCTYPE_SYSTEM",
-              new Import[] {
-                new Import("DOCTYPE_SYSTEM", "javax.xml.transform.OutputKeys", true),
-              })
-          .put(
-              "VK_NUMPAD3",
-              new Import[] {
-                new Import("VK_NUMPAD3", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "URIInaccessible",
-              new Import[] {
-                new Import("URIInaccessible", "javax.print.URIException", true),
-              })
-          .put(
-              "VK_NUMPAD4",
-              new Import[] {
-                new Import("VK_NUMPAD4", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "AccessibleRelationSet",
-              new Import[] {
-                new Import("AccessibleRelationSet", "javax.accessibility", false),
-              })
-          .put(
-              "VK_NUMPAD5",
-              new Import[] {
-                new Import("VK_NUMPAD5", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "getBlackLineBorderUIResource",
-              new Import[] {
-                new Import(
-                    "getBlackLineBorderUIResource", "javax.swing.plaf.BorderUIResource", true),
-              })
-          .put(
-              "VK_NUMPAD6",
-              new Import[] {
-                new Import("VK_NUMPAD6", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "RSAPrivateCrtKey",
-              new Import[] {
-                new Import("RSAPrivateCrtKey", "java.security.interfaces", false),
-              })
-          .put(
-              "anySubString",
-              new Import[] {
-                new Import("anySubString", "javax.management.Query", true),
-              })
-          .put(
-              "PADDING_RIGHT",
-              new Import[] {
-                new Import("PADDING_RIGHT", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "VK_NUMPAD0",
-              new Import[] {
-                new Import("VK_NUMPAD0", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_NUMPAD1",
-              new Import[] {
-                new Import("VK_NUMPAD1", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VK_NUMPAD2",
-              new Import[] {
-                new Import("VK_NUMPAD2", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "ACTION_COMMAND_KEY",
-              new Import[] {
-                new Import("ACTION_COMMAND_KEY", "javax.swing.Action", true),
-              })
-          .put(
-              "VK_RIGHT",
-              new Import[] {
-                new Import("VK_RIGHT", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "LoginModule",
-              new Import[] {
-                new Import("LoginModule", "javax.security.auth.spi", false),
-              })
-          .put(
-              "AttachmentPart",
-              new Import[] {
-                new Import("AttachmentPart", "javax.xml.soap", false),
-              })
-          .put(
-              "ACCESSIBLE_TABLE_SUMMARY_CHANGED",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_TABLE_SUMMARY_CHANGED",
-                    "javax.accessibility.AccessibleContext",
-                    true),
-              })
-          .put(
-              "Orientation",
-              new Import[] {
-                new Import("Orientation", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "QuadCurve2D",
-              new Import[] {
-                new Import("QuadCurve2D", "java.awt.geom", false),
-              })
-          .put(
-              "BAD_POLICY_VALUE",
-              new Import[] {
-                new Import("BAD_POLICY_VALUE", "org.omg.CORBA", false),
-              })
-          .put(
-              "SOAPHandler",
-              new Import[] {
-                new Import("SOAPHandler", "javax.xml.ws.handler.soap", false),
-              })
-          .put(
-              "setDefault",
-              new Import[] {
-                new Import("setDefault", "java.net.Authenticator", true),
-                new Import("setDefault", "java.net.CookieHandler", true),
-                new Import("setDefault", "java.net.ProxySelector", true),
-                new Import("setDefault", "java.net.ResponseCache", true),
-                new Import("setDefault", "java.util.Locale", true),
-                new Import("setDefault", "java.util.TimeZone", true),
-                new Import("setDefault", "javax.net.ssl.SSLContext", true),
-              })
-          .put(
-              "UserPrincipal",
-              new Import[] {
-                new Import("UserPrincipal", "java.nio.file.attribute", false),
-              })
-          .put(
-              "LinkException",
-              new Import[] {
-                new Import("LinkException", "javax.naming", false),
-              })
-          .put(
-              "getButtonBorder",
-              new Import[] {
-                new Import("getButtonBorder", "javax.swing.plaf.basic.BasicBorders", true),
-                new Import("getButtonBorder", "javax.swing.plaf.metal.MetalBorders", true),
-              })
-          .put(
-              "MetalTextFieldUI",
-              new Import[] {
-                new Import("MetalTextFieldUI", "javax.swing.plaf.metal", false),
-              })
-          .put(
-              "REVERB",
-              new Import[] {
-                new Import("REVERB", "javax.sound.sampled.EnumControl.Type", true),
-              })
-          .put(
-              "icSigSpaceECLR",
-              new Import[] {
-                new Import("icSigSpaceECLR", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "DynAny",
-              new Import[] {
-                new Import("DynAny", "org.omg.CORBA", false),
-                new Import("DynAny", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "newMXBeanProxy",
-              new Import[] {
-                new Import("newMXBeanProxy", "javax.management.JMX", true),
-              })
-          .put(
-              "SortedMap",
-              new Import[] {
-                new Import("SortedMap", "java.util", false),
-              })
-          .put(
-              "TOP_ALIGNMENT",
-              new Import[] {
-                new Import("TOP_ALIGNMENT", "java.awt.Component", true),
-                new Import("TOP_ALIGNMENT", "java.awt.font.GraphicAttribute", true),
-              })
-          .put(
-              "selectionHtmlFlavor",
-              new Import[] {
-                new Import("selectionHtmlFlavor", "java.awt.datatransfer.DataFlavor", true),
-              })
-          .put(
-              "AbstractTableModel",
-              new Import[] {
-                new Import("AbstractTableModel", "javax.swing.table", false),
-              })
-          .put(
-              "icSigChromaticityTag",
-              new Import[] {
-                new Import("icSigChromaticityTag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "COMMIT_ON_ACCEPT_CHANGES",
-              new Import[] {
-                new Import("COMMIT_ON_ACCEPT_CHANGES", "javax.sql.rowset.CachedRowSet", true),
-              })
-          .put(
-              "numberFilter",
-              new Import[] {
-                new Import("numberFilter", "javax.swing.RowFilter", true),
-              })
-          .put(
-              "SynthComboBoxUI",
-              new Import[] {
-                new Import("SynthComboBoxUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "WeakHashMap",
-              new Import[] {
-                new Import("WeakHashMap", "java.util", false),
-              })
-          .put(
-              "lightGray",
-              new Import[] {
-                new Import("lightGray", "java.awt.Color", true),
-              })
-          .put(
-              "ShortHolder",
-              new Import[] {
-                new Import("ShortHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "ULongLongSeqHelper",
-              new Import[] {
-                new Import("ULongLongSeqHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "PI_ENABLE_OUTPUT_ESCAPING",
-              new Import[] {
-                new Import("PI_ENABLE_OUTPUT_ESCAPING", "javax.xml.transform.Result", true),
-              })
-          .put(
-              "DecimalFormat",
-              new Import[] {
-                new Import("DecimalFormat", "java.text", false),
-              })
-          .put(
-              "DESKTOP_PANE",
-              new Import[] {
-                new Import("DESKTOP_PANE", "javax.accessibility.AccessibleRole", true),
-                new Import("DESKTOP_PANE", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "EDITABLE",
-              new Import[] {
-                new Import("EDITABLE", "javax.accessibility.AccessibleState", true),
-              })
-          .put(
-              "X509Data",
-              new Import[] {
-                new Import("X509Data", "javax.xml.crypto.dsig.keyinfo", false),
-              })
-          .put(
-              "BasicButtonUI",
-              new Import[] {
-                new Import("BasicButtonUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "SMALL_SCALE",
-              new Import[] {
-                new Import("SMALL_SCALE", "javax.swing.plaf.nimbus.NimbusStyle", true),
-              })
-          .put(
-              "ActivationDataFlavor",
-              new Import[] {
-                new Import("ActivationDataFlavor", "javax.activation", false),
-              })
-          .put(
-              "RC5ParameterSpec",
-              new Import[] {
-                new Import("RC5ParameterSpec", "javax.crypto.spec", false),
-              })
-          .put(
-              "ClassLoaderRepository",
-              new Import[] {
-                new Import("ClassLoaderRepository", "javax.management.loading", false),
-              })
-          .put(
-              "NameAlreadyBoundException",
-              new Import[] {
-                new Import("NameAlreadyBoundException", "javax.naming", false),
-              })
-          .put(
-              "MouseListener",
-              new Import[] {
-                new Import("MouseListener", "java.awt.event", false),
-              })
-          .put(
-              "CollectionCertStoreParameters",
-              new Import[] {
-                new Import("CollectionCertStoreParameters", "java.security.cert", false),
-              })
-          .put(
-              "StateFactory",
-              new Import[] {
-                new Import("StateFactory", "javax.naming.spi", false),
-              })
-          .put(
-              "FULLWIDTH_DIGITS",
-              new Import[] {
-                new Import("FULLWIDTH_DIGITS", "java.awt.im.InputSubset", true),
-              })
-          .put(
-              "MetalTheme",
-              new Import[] {
-                new Import("MetalTheme", "javax.swing.plaf.metal", false),
-              })
-          .put(
-              "ONELEVEL_SCOPE",
-              new Import[] {
-                new Import("ONELEVEL_SCOPE", "javax.naming.directory.SearchControls", true),
-                new Import("ONELEVEL_SCOPE", "javax.naming.event.EventContext", true),
-              })
-          .put(
-              "MetalComboBoxIcon",
-              new Import[] {
-                new Import("MetalComboBoxIcon", "javax.swing.plaf.metal", false),
-              })
-          .put(
-              "SynthRootPaneUI",
-              new Import[] {
-                new Import("SynthRootPaneUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "MOUSE_CLICKED",
-              new Import[] {
-                new Import("MOUSE_CLICKED", "java.awt.event.MouseEvent", true),
-              })
-          .put(
-              "StreamPrintServiceFactory",
-              new Import[] {
-                new Import("StreamPrintServiceFactory", "javax.print", false),
-              })
-          .put(
-              "synchronizedMap",
-              new Import[] {
-                new Import("synchronizedMap", "java.util.Collections", true),
-              })
-          .put(
-              "RejectedExecutionHandler",
-              new Import[] {
-                new Import("RejectedExecutionHandler", "java.util.concurrent", false),
-              })
-          .put(
-              "JOB_CANCELED_BY_OPERATOR",
-              new Import[] {
-                new Import(
-                    "JOB_CANCELED_BY_OPERATOR",
-                    "javax.print.attribute.standard.JobStateReason",
-                    true),
-              })
-          .put(
-              "DOCUMENT_ACCESS_ERROR",
-              new Import[] {
-                new Import(
-                    "DOCUMENT_ACCESS_ERROR", "javax.print.attribute.standard.JobStateReason", true),
-              })
-          .put(
-              "union",
-              new Import[] {
-                new Import("union", "java.awt.geom.Rectangle2D", true),
-                new Import("union", "javax.management.ImmutableDescriptor", true),
-              })
-          .put(
-              "PipedInputStream",
-              new Import[] {
-                new Import("PipedInputStream", "java.io", false),
-              })
-          .put(
-              "createLoweredBevelBorder",
-              new Import[] {
-                new Import("createLoweredBevelBorder", "javax.swing.BorderFactory", true),
-              })
-          .put(
-              "getPlatformMXBeans",
-              new Import[] {
-                new Import("getPlatformMXBeans", "java.lang.management.ManagementFactory", true),
-              })
-          .put(
-              "InsertHTMLTextAction",
-              new Import[] {
-                new Import("InsertHTMLTextAction", "javax.swing.text.html.HTMLEditorKit", false),
-              })
-          .put(
-              "DIVIDER",
-              new Import[] {
-                new Import("DIVIDER", "javax.swing.JSplitPane", true),
-              })
-          .put(
-              "CONTINUE",
-              new Import[] {
-                new Import("CONTINUE", "javax.sound.midi.ShortMessage", true),
-              })
-          .put(
-              "getWindows",
-              new Import[] {
-                new Import("getWindows", "java.awt.Window", true),
-              })
-          .put(
-              "EDGE_STITCH_RIGHT",
-              new Import[] {
-                new Import("EDGE_STITCH_RIGHT", "javax.print.attribute.standard.Finishings", true),
-              })
-          .put(
-              "WindowEvent",
-              new Import[] {
-                new Import("WindowEvent", "java.awt.event", false),
-              })
-          .put(
-              "Forward",
-              new Import[] {
-                new Import("Forward", "javax.swing.text.Position.Bias", true),
-              })
-          .put(
-              "getLoginTimeout",
-              new Import[] {
-                new Import("getLoginTimeout", "java.sql.DriverManager", true),
-              })
-          .put(
-              "BevelBorderUIResource",
-              new Import[] {
-                new Import("BevelBorderUIResource", "javax.swing.plaf.BorderUIResource", false),
-              })
-          .put(
-              "ColorAttribute",
-              new Import[] {
-                new Import("ColorAttribute", "javax.swing.text.AttributeSet", false),
-              })
-          .put(
-              "VK_FINAL",
-              new Import[] {
-                new Import("VK_FINAL", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "wrap",
-              new Import[] {
-                new Import("wrap", "java.nio.ByteBuffer", true),
-                new Import("wrap", "java.nio.CharBuffer", true),
-                new Import("wrap", "java.nio.DoubleBuffer", true),
-                new Import("wrap", "java.nio.FloatBuffer", true),
-                new Import("wrap", "java.nio.IntBuffer", true),
-                new Import("wrap", "java.nio.LongBuffer", true),
-                new Import("wrap", "java.nio.ShortBuffer", true),
-              })
-          .put(
-              "MOUSE_ENTERED",
-              new Import[] {
-                new Import("MOUSE_ENTERED", "java.awt.event.MouseEvent", true),
-              })
-          .put(
-              "PrinterURI",
-              new Import[] {
-                new Import("PrinterURI", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "SINGLE_TREE_SELECTION",
-              new Import[] {
-                new Import("SINGLE_TREE_SELECTION", "javax.swing.tree.TreeSelectionModel", true),
-              })
-          .put(
-              "STATEMENT",
-              new Import[] {
-                new Import("STATEMENT", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "isProxyClass",
-              new Import[] {
-                new Import("isProxyClass", "java.lang.reflect.Proxy", true),
-              })
-          .put(
-              "HTTP_PROXY_AUTH",
-              new Import[] {
-                new Import("HTTP_PROXY_AUTH", "java.net.HttpURLConnection", true),
-              })
-          .put(
-              "EXITED",
-              new Import[] {
-                new Import("EXITED", "javax.swing.event.HyperlinkEvent.EventType", true),
-              })
-          .put(
-              "ColorSpace",
-              new Import[] {
-                new Import("ColorSpace", "java.awt.color", false),
-              })
-          .put(
-              "KHAROSHTHI",
-              new Import[] {
-                new Import("KHAROSHTHI", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "PCM_SIGNED",
-              new Import[] {
-                new Import("PCM_SIGNED", "javax.sound.sampled.AudioFormat.Encoding", true),
-              })
-          .put(
-              "PrintJobAttributeEvent",
-              new Import[] {
-                new Import("PrintJobAttributeEvent", "javax.print.event", false),
-              })
-          .put(
-              "icSigCmyData",
-              new Import[] {
-                new Import("icSigCmyData", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "ListView",
-              new Import[] {
-                new Import("ListView", "javax.swing.text.html", false),
-              })
-          .put(
-              "Dialog",
-              new Import[] {
-                new Import("Dialog", "java.awt", false),
-              })
-          .put(
-              "FORMAT_DEFAULT",
-              new Import[] {
-                new Import("FORMAT_DEFAULT", "java.util.ResourceBundle.Control", true),
-              })
-          .put(
-              "MEDIA_TYPE",
-              new Import[] {
-                new Import("MEDIA_TYPE", "javax.xml.transform.OutputKeys", true),
-              })
-          .put(
-              "ACCESSIBLE_VALUE_PROPERTY",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_VALUE_PROPERTY", "javax.accessibility.AccessibleContext", true),
-              })
-          .put(
-              "enumeration",
-              new Import[] {
-                new Import("enumeration", "java.util.Collections", true),
-              })
-          .put(
-              "getStaticAttribute",
-              new Import[] {
-                new Import("getStaticAttribute", "javax.swing.text.StyleContext", true),
-              })
-          .put(
-              "Short",
-              new Import[] {
-                new Import("Short", "java.lang", false),
-              })
-          .put(
-              "setUseCache",
-              new Import[] {
-                new Import("setUseCache", "javax.imageio.ImageIO", true),
-              })
-          .put(
-              "UNCOLLATED",
-              new Import[] {
-                new Import("UNCOLLATED", "javax.print.attribute.standard.SheetCollate", true),
-              })
-          .put(
-              "getMemoryManagerMXBeans",
-              new Import[] {
-                new Import(
-                    "getMemoryManagerMXBeans", "java.lang.management.ManagementFactory", true),
-              })
-          .put(
-              "Optional",
-              new Import[] {
-                new Import("Optional", "java.util", false),
-              })
-          .put(
-              "DefaultSingleSelectionModel",
-              new Import[] {
-                new Import("DefaultSingleSelectionModel", "javax.swing", false),
-              })
-          .put(
-              "ServantLocatorPOA",
-              new Import[] {
-                new Import("ServantLocatorPOA", "org.omg.PortableServer", false),
-              })
-          .put(
-              "VALUE_DITHER_ENABLE",
-              new Import[] {
-                new Import("VALUE_DITHER_ENABLE", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "SUNDANESE",
-              new Import[] {
-                new Import("SUNDANESE", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "ButtonUI",
-              new Import[] {
-                new Import("ButtonUI", "javax.swing.plaf", false),
-              })
-          .put(
-              "MOUSE_LAST",
-              new Import[] {
-                new Import("MOUSE_LAST", "java.awt.event.MouseEvent", true),
-              })
-          .put(
-              "INVOICE",
-              new Import[] {
-                new Import("INVOICE", "java.awt.PageAttributes.MediaType", true),
-                new Import("INVOICE", "javax.print.attribute.standard.MediaSizeName", true),
-                new Import("INVOICE", "javax.print.attribute.standard.MediaSize.Other", true),
-              })
-          .put(
-              "ValueHandlerMultiFormat",
-              new Import[] {
-                new Import("ValueHandlerMultiFormat", "javax.rmi.CORBA", false),
-              })
-          .put(
-              "State",
-              new Import[] {
-                new Import("State", "java.lang.Thread", false),
-                new Import("State", "javax.swing.plaf.nimbus", false),
-                new Import("State", "org.omg.PortableServer.POAManagerPackage", false),
-              })
-          .put(
-              "JMXConnectorServerFactory",
-              new Import[] {
-                new Import("JMXConnectorServerFactory", "javax.management.remote", false),
-              })
-          .put(
-              "PLAIN_DIALOG",
-              new Import[] {
-                new Import("PLAIN_DIALOG", "javax.swing.JRootPane", true),
-              })
-          .put(
-              "RowSetListener",
-              new Import[] {
-                new Import("RowSetListener", "javax.sql", false),
-              })
-          .put(
-              "icSigNamedColorClass",
-              new Import[] {
-                new Import("icSigNamedColorClass", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "_DynFixedStub",
-              new Import[] {
-                new Import("_DynFixedStub", "org.omg.DynamicAny", false),
-              })
-          .put(
-              "RoleUnresolved",
-              new Import[] {
-                new Import("RoleUnresolved", "javax.management.relation", false),
-              })
-          .put(
-              "StringBuilder",
-              new Import[] {
-                new Import("StringBuilder", "java.lang", false),
-              })
-          .put(
-              "PrinterIOException",
-              new Import[] {
-                new Import("PrinterIOException", "java.awt.print", false),
-              })
-          .put(
-              "RuntimePermission",
-              new Import[] {
-                new Import("RuntimePermission", "java.lang", false),
-              })
-          .put(
-              "CertStoreSpi",
-              new Import[] {
-                new Import("CertStoreSpi", "java.security.cert", false),
-              })
-          .put(
-              "TERTIARY",
-              new Import[] {
-                new Import("TERTIARY", "java.text.Collator", true),
-              })
-          .put(
-              "newPlatformMXBeanProxy",
-              new Import[] {
-                new Import(
-                    "newPlatformMXBeanProxy", "java.lang.management.ManagementFactory", true),
-              })
-          .put(
-              "IllegalCharsetNameException",
-              new Import[] {
-                new Import("IllegalCharsetNameException", "java.nio.charset", false),
-              })
-          .put(
-              "emptyList",
-              new Import[] {
-                new Import("emptyList", "java.util.Collections", true),
-              })
-          .put(
-              "setDefaultRequestProperty",
-              new Import[] {
-                new Import("setDefaultRequestProperty", "java.net.URLConnection", true),
-              })
-          .put(
-              "MalformedParametersException",
-              new Import[] {
-                new Import("MalformedParametersException", "java.lang.reflect", false),
-              })
-          .put(
-              "SynthToolBarUI",
-              new Import[] {
-                new Import("SynthToolBarUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "CENTER_BASELINE",
-              new Import[] {
-                new Import("CENTER_BASELINE", "java.awt.Font", true),
-                new Import("CENTER_BASELINE", "java.awt.font.GraphicAttribute", true),
-              })
-          .put(
-              "WHITE",
-              new Import[] {
-                new Import("WHITE", "java.awt.Color", true),
-              })
-          .put(
-              "STATE_FACTORIES",
-              new Import[] {
-                new Import("STATE_FACTORIES", "javax.naming.Context", true),
-              })
-          .put(
-              "OCTOBER",
-              new Import[] {
-                new Import("OCTOBER", "java.util.Calendar", true),
-                new Import("OCTOBER", "javax.xml.datatype.DatatypeConstants", true),
-              })
-          .put(
-              "ImageObserver",
-              new Import[] {
-                new Import("ImageObserver", "java.awt.image", false),
-              })
-          .put(
-              "DoubleSeqHelper",
-              new Import[] {
-                new Import("DoubleSeqHelper", "org.omg.CORBA", false),
-              })
-          .put(
-              "KeyStore",
-              new Import[] {
-                new Import("KeyStore", "java.security", false),
-              })
-          .put(
-              "MultiOptionPaneUI",
-              new Import[] {
-                new Import("MultiOptionPaneUI", "javax.swing.plaf.multi", false),
-              })
-          .put(
-              "isHidden",
-              new Import[] {
-                new Import("isHidden", "java.nio.file.Files", true),
-              })
-          .put(
-              "rangeClosed",
-              new Import[] {
-                new Import("rangeClosed", "java.util.stream.IntStream", true),
-                new Import("rangeClosed", "java.util.stream.LongStream", true),
-              })
-          .put(
-              "FileSystemProvider",
-              new Import[] {
-                new Import("FileSystemProvider", "java.nio.file.spi", false),
-              })
-          .put(
-              "SupportedOptions",
-              new Import[] {
-                new Import("SupportedOptions", "javax.annotation.processing", false),
-              })
-          .put(
-              "tk_struct",
-              new Import[] {
-                new Import("tk_struct", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "JMenu",
-              new Import[] {
-                new Import("JMenu", "javax.swing", false),
-              })
-          .put(
-              "isRoleStatus",
-              new Import[] {
-                new Import("isRoleStatus", "javax.management.relation.RoleStatus", true),
-              })
-          .put(
-              "NamingContextExtPOA",
-              new Import[] {
-                new Import("NamingContextExtPOA", "org.omg.CosNaming", false),
-              })
-          .put(
-              "SHA1",
-              new Import[] {
-                new Import("SHA1", "java.security.spec.MGF1ParameterSpec", true),
-                new Import("SHA1", "javax.xml.crypto.dsig.DigestMethod", true),
-              })
-          .put(
-              "MultiTabbedPaneUI",
-              new Import[] {
-                new Import("MultiTabbedPaneUI", "javax.swing.plaf.multi", false),
-              })
-          .put(
-              "_HOLDING",
-              new Import[] {
-                new Import("_HOLDING", "org.omg.PortableServer.POAManagerPackage.State", true),
-              })
-          .put(
-              "BasicFileChooserUI",
-              new Import[] {
-                new Import("BasicFileChooserUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "SSLKeyException",
-              new Import[] {
-                new Import("SSLKeyException", "javax.net.ssl", false),
-              })
-          .put(
-              "normalize",
-              new Import[] {
-                new Import("normalize", "java.text.Normalizer", true),
-              })
-          .put(
-              "LocatorImpl",
-              new Import[] {
-                new Import("LocatorImpl", "org.xml.sax.helpers", false),
-              })
-          .put(
-              "IncompleteAnnotationException",
-              new Import[] {
-                new Import("IncompleteAnnotationException", "java.lang.annotation", false),
-              })
-          .put(
-              "write",
-              new Import[] {
-                new Import("write", "java.nio.file.Files", true),
-                new Import("write", "javax.imageio.ImageIO", true),
-                new Import("write", "javax.sound.midi.MidiSystem", true),
-                new Import("write", "javax.sound.sampled.AudioSystem", true),
-                new Import("write", "org.omg.CORBA.AnySeqHelper", true),
-                new Import("write", "org.omg.CORBA.BooleanSeqHelper", true),
-                new Import("write", "org.omg.CORBA.CharSeqHelper", true),
-                new Import("write", "org.omg.CORBA.CompletionStatusHelper", true),
-                new Import("write", "org.omg.CORBA.CurrentHelper", true),
-                new Import("write", "org.omg.CORBA.DefinitionKindHelper", true),
-                new Import("write", "org.omg.CORBA.DoubleSeqHelper", true),
-                new Import("write", "org.omg.CORBA.FieldNameHelper", true),
-                new Import("write", "org.omg.CORBA.FloatSeqHelper", true),
-                new Import("write", "org.omg.CORBA.IDLTypeHelper", true),
-                new Import("write", "org.omg.CORBA.IdentifierHelper", true),
-                new Import("write", "org.omg.CORBA.LongLongSeqHelper", true),
-                new Import("write", "org.omg.CORBA.LongSeqHelper", true),
-                new Import("write", "org.omg.CORBA.NameValuePairHelper", true),
-                new Import("write", "org.omg.CORBA.ObjectHelper", true),
-                new Import("write", "org.omg.CORBA.OctetSeqHelper", true),
-                new Import("write", "org.omg.CORBA.ParameterModeHelper", true),
-                new Import("write", "org.omg.CORBA.PolicyErrorCodeHelper", true),
-                new Import("write", "org.omg.CORBA.PolicyErrorHelper", true),
-                new Import("write", "org.omg.CORBA.PolicyHelper", true),
-                new Import("write", "org.omg.CORBA.PolicyListHelper", true),
-                new Import("write", "org.omg.CORBA.PolicyTypeHelper", true),
-                new Import("write", "org.omg.CORBA.RepositoryIdHelper", true),
-                new Import("write", "org.omg.CORBA.ServiceDetailHelper", true),
-                new Import("write", "org.omg.CORBA.ServiceInformationHelper", true),
-                new Import("write", "org.omg.CORBA.SetOverrideTypeHelper", true),
-                new Import("write", "org.omg.CORBA.ShortSeqHelper", true),
-                new Import("write", "org.omg.CORBA.StringSeqHelper", true),
-                new Import("write", "org.omg.CORBA.StringValueHelper", true),
-                new Import("write", "org.omg.CORBA.StructMemberHelper", true),
-                new Import("write", "org.omg.CORBA.ULongLongSeqHelper", true),
-                new Import("write", "org.omg.CORBA.ULongSeqHelper", true),
-                new Import("write", "org.omg.CORBA.UShortSeqHelper", true),
-                new Import("write", "org.omg.CORBA.UnionMemberHelper", true),
-                new Import("write", "org.omg.CORBA.UnknownUserExceptionHelper", true),
-                new Import("write", "org.omg.CORBA.ValueBaseHelper", true),
-                new Import("write", "org.omg.CORBA.ValueMemberHelper", true),
-                new Import("write", "org.omg.CORBA.VersionSpecHelper", true),
-                new Import("write", "org.omg.CORBA.VisibilityHelper", true),
-                new Import("write", "org.omg.CORBA.WCharSeqHelper", true),
-                new Import("write", "org.omg.CORBA.WStringSeqHelper", true),
-                new Import("write", "org.omg.CORBA.WStringValueHelper", true),
-                new Import("write", "org.omg.CORBA.WrongTransactionHelper", true),
-                new Import("write", "org.omg.CosNaming.BindingHelper", true),
-                new Import("write", "org.omg.CosNaming.BindingIteratorHelper", true),
-                new Import("write", "org.omg.CosNaming.BindingListHelper", true),
-                new Import("write", "org.omg.CosNaming.BindingTypeHelper", true),
-                new Import("write", "org.omg.CosNaming.IstringHelper", true),
-                new Import("write", "org.omg.CosNaming.NameComponentHelper", true),
-                new Import("write", "org.omg.CosNaming.NameHelper", true),
-                new Import("write", "org.omg.CosNaming.NamingContextExtHelper", true),
-                new Import("write", "org.omg.CosNaming.NamingContextHelper", true),
-                new Import(
-                    "write", "org.omg.CosNaming.NamingContextExtPackage.AddressHelper", true),
-                new Import(
-                    "write",
-                    "org.omg.CosNaming.NamingContextExtPackage.InvalidAddressHelper",
-                    true),
-                new Import(
-                    "write", "org.omg.CosNaming.NamingContextExtPackage.StringNameHelper", true),
-                new Import(
-                    "write", "org.omg.CosNaming.NamingContextExtPackage.URLStringHelper", true),
-                new Import(
-                    "write", "org.omg.CosNaming.NamingContextPackage.AlreadyBoundHelper", true),
-                new Import(
-                    "write", "org.omg.CosNaming.NamingContextPackage.CannotProceedHelper", true),
-                new Import(
-                    "write", "org.omg.CosNaming.NamingContextPackage.InvalidNameHelper", true),
-                new Import("write", "org.omg.CosNaming.NamingContextPackage.NotEmptyHelper", true),
-                new Import("write", "org.omg.CosNaming.NamingContextPackage.NotFoundHelper", true),
-                new Import(
-                    "write", "org.omg.CosNaming.NamingContextPackage.NotFoundReasonHelper", true),
-                new Import("write", "org.omg.DynamicAny.AnySeqHelper", true),
-                new Import("write", "org.omg.DynamicAny.DynAnyFactoryHelper", true),
-                new Import("write", "org.omg.DynamicAny.DynAnyHelper", true),
-                new Import("write", "org.omg.DynamicAny.DynAnySeqHelper", true),
-                new Import("write", "org.omg.DynamicAny.DynArrayHelper", true),
-                new Import("write", "org.omg.DynamicAny.DynEnumHelper", true),
-                new Import("write", "org.omg.DynamicAny.DynFixedHelper", true),
-                new Import("write", "org.omg.DynamicAny.DynSequenceHelper", true),
-                new Import("write", "org.omg.DynamicAny.DynStructHelper", true),
-                new Import("write", "org.omg.DynamicAny.DynUnionHelper", true),
-                new Import("write", "org.omg.DynamicAny.DynValueHelper", true),
-                new Import("write", "org.omg.DynamicAny.FieldNameHelper", true),
-                new Import("write", "org.omg.DynamicAny.NameDynAnyPairHelper", true),
-                new Import("write", "org.omg.DynamicAny.NameDynAnyPairSeqHelper", true),
-                new Import("write", "org.omg.DynamicAny.NameValuePairHelper", true),
-                new Import("write", "org.omg.DynamicAny.NameValuePairSeqHelper", true),
-                new Import(
-                    "write",
-                    "org.omg.DynamicAny.DynAnyFactoryPackage.InconsistentTypeCodeHelper",
-                    true),
-                new Import("write", "org.omg.DynamicAny.DynAnyPackage.InvalidValueHelper", true),
-                new Import("write", "org.omg.DynamicAny.DynAnyPackage.TypeMismatchHelper", true),
-                new Import("write", "org.omg.IOP.CodecFactoryHelper", true),
-                new Import("write", "org.omg.IOP.ComponentIdHelper", true),
-                new Import("write", "org.omg.IOP.IORHelper", true),
-                new Import("write", "org.omg.IOP.MultipleComponentProfileHelper", true),
-                new Import("write", "org.omg.IOP.ProfileIdHelper", true),
-                new Import("write", "org.omg.IOP.ServiceContextHelper", true),
-                new Import("write", "org.omg.IOP.ServiceContextListHelper", true),
-                new Import("write", "org.omg.IOP.ServiceIdHelper", true),
-                new Import("write", "org.omg.IOP.TaggedComponentHelper", true),
-                new Import("write", "org.omg.IOP.TaggedProfileHelper", true),
-                new Import("write", "org.omg.IOP.CodecFactoryPackage.UnknownEncodingHelper", true),
-                new Import("write", "org.omg.IOP.CodecPackage.FormatMismatchHelper", true),
-                new Import("write", "org.omg.IOP.CodecPackage.InvalidTypeForEncodingHelper", true),
-                new Import("write", "org.omg.IOP.CodecPackage.TypeMismatchHelper", true),
-                new Import("write", "org.omg.Messaging.SyncScopeHelper", true),
-                new Import("write", "org.omg.PortableInterceptor.AdapterManagerIdHelper", true),
-                new Import("write", "org.omg.PortableInterceptor.AdapterNameHelper", true),
-                new Import("write", "org.omg.PortableInterceptor.AdapterStateHelper", true),
-                new Import("write", "org.omg.PortableInterceptor.CurrentHelper", true),
-                new Import("write", "org.omg.PortableInterceptor.ForwardRequestHelper", true),
-                new Import("write", "org.omg.PortableInterceptor.IORInterceptor_3_0Helper", true),
-                new Import("write", "org.omg.PortableInterceptor.InvalidSlotHelper", true),
-                new Import("write", "org.omg.PortableInterceptor.ORBIdHelper", true),
-                new Import("write", "org.omg.PortableInterceptor.ObjectIdHelper", true),
-                new Import(
-                    "write", "org.omg.PortableInterceptor.ObjectReferenceFactoryHelper", true),
-                new Import(
-                    "write", "org.omg.PortableInterceptor.ObjectReferenceTemplateHelper", true),
-                new Import(
-                    "write", "org.omg.PortableInterceptor.ObjectReferenceTemplateSeqHelper", true),
-                new Import("write", "org.omg.PortableInterceptor.ServerIdHelper", true),
-                new Import(
-                    "write",
-                    "org.omg.PortableInterceptor.ORBInitInfoPackage.DuplicateNameHelper",
-                    true),
-                new Import(
-                    "write",
-                    "org.omg.PortableInterceptor.ORBInitInfoPackage.InvalidNameHelper",
-                    true),
-                new Import(
-                    "write", "org.omg.PortableInterceptor.ORBInitInfoPackage.ObjectIdHelper", true),
-                new Import("write", "org.omg.PortableServer.CurrentHelper", true),
-                new Import("write", "org.omg.PortableServer.ForwardRequestHelper", true),
-                new Import("write", "org.omg.PortableServer.POAHelper", true),
-                new Import("write", "org.omg.PortableServer.ServantActivatorHelper", true),
-                new Import("write", "org.omg.PortableServer.ServantLocatorHelper", true),
-                new Import("write", "org.omg.PortableServer.CurrentPackage.NoContextHelper", true),
-                new Import(
-                    "write",
-                    "org.omg.PortableServer.POAManagerPackage.AdapterInactiveHelper",
-                    true),
-                new Import(
-                    "write", "org.omg.PortableServer.POAPackage.AdapterAlreadyExistsHelper", true),
-                new Import(
-                    "write", "org.omg.PortableServer.POAPackage.AdapterNonExistentHelper", true),
-                new Import("write", "org.omg.PortableServer.POAPackage.InvalidPolicyHelper", true),
-                new Import("write", "org.omg.PortableServer.POAPackage.NoServantHelper", true),
-                new Import(
-                    "write", "org.omg.PortableServer.POAPackage.ObjectAlreadyActiveHelper", true),
-                new Import(
-                    "write", "org.omg.PortableServer.POAPackage.ObjectNotActiveHelper", true),
-                new Import(
-                    "write", "org.omg.PortableServer.POAPackage.ServantAlreadyActiveHelper", true),
-                new Import(
-                    "write", "org.omg.PortableServer.POAPackage.ServantNotActiveHelper", true),
-                new Import("write", "org.omg.PortableServer.POAPackage.WrongAdapterHelper", true),
-                new Import("write", "org.omg.PortableServer.POAPackage.WrongPolicyHelper", true),
-              })
-          .put(
-              "CountedCompleter",
-              new Import[] {
-                new Import("CountedCompleter", "java.util.concurrent", false),
-              })
-          .put(
-              "IMPLIED",
-              new Import[] {
-                new Import("IMPLIED", "javax.swing.text.html.HTML.Tag", true),
-                new Import("IMPLIED", "javax.swing.text.html.HTMLEditorKit.ParserCallback", true),
-                new Import("IMPLIED", "javax.swing.text.html.parser.DTDConstants", true),
-              })
-          .put(
-              "PGPData",
-              new Import[] {
-                new Import("PGPData", "javax.xml.crypto.dsig.keyinfo", false),
-              })
-          .put(
-              "MultiPopupMenuUI",
-              new Import[] {
-                new Import("MultiPopupMenuUI", "javax.swing.plaf.multi", false),
-              })
-          .put(
-              "BufferStrategy",
-              new Import[] {
-                new Import("BufferStrategy", "java.awt.image", false),
-              })
-          .put(
-              "EmptyBorderUIResource",
-              new Import[] {
-                new Import("EmptyBorderUIResource", "javax.swing.plaf.BorderUIResource", false),
-              })
-          .put(
-              "UNREGISTRATION_NOTIFICATION",
-              new Import[] {
-                new Import(
-                    "UNREGISTRATION_NOTIFICATION",
-                    "javax.management.MBeanServerNotification",
-                    true),
-              })
-          .put(
-              "notifyAction",
-              new Import[] {
-                new Import("notifyAction", "javax.swing.JTextField", true),
-                new Import("notifyAction", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "altMetafactory",
-              new Import[] {
-                new Import("altMetafactory", "java.lang.invoke.LambdaMetafactory", true),
-              })
-          .put(
-              "TrustManager",
-              new Import[] {
-                new Import("TrustManager", "javax.net.ssl", false),
-              })
-          .put(
-              "IMPLEMENTATION_URL",
-              new Import[] {
-                new Import("IMPLEMENTATION_URL", "java.util.jar.Attributes.Name", true),
-              })
-          .put(
-              "SelectableChannel",
-              new Import[] {
-                new Import("SelectableChannel", "java.nio.channels", false),
-              })
-          .put(
-              "Era",
-              new Import[] {
-                new Import("Era", "java.time.chrono", false),
-              })
-          .put(
-              "NMTOKEN",
-              new Import[] {
-                new Import("NMTOKEN", "javax.swing.text.html.parser.DTDConstants", true),
-              })
-          .put(
-              "ScrollPane",
-              new Import[] {
-                new Import("ScrollPane", "java.awt", false),
-              })
-          .put(
-              "IntBuffer",
-              new Import[] {
-                new Import("IntBuffer", "java.nio", false),
-              })
-          .put(
-              "_ADD_OVERRIDE",
-              new Import[] {
-                new Import("_ADD_OVERRIDE", "org.omg.CORBA.SetOverrideType", true),
-              })
-          .put(
-              "REDCOMPONENT",
-              new Import[] {
-                new Import("REDCOMPONENT", "java.awt.color.ICC_ProfileRGB", true),
-              })
-          .put(
-              "AdapterStateHelper",
-              new Import[] {
-                new Import("AdapterStateHelper", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "INITIAL_SELECTION_VALUE_PROPERTY",
-              new Import[] {
-                new Import("INITIAL_SELECTION_VALUE_PROPERTY", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "OPTICAL_CHARACTER_RECOGNITION",
-              new Import[] {
-                new Import(
-                    "OPTICAL_CHARACTER_RECOGNITION", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "NO_DATA_ALLOWED_ERR",
-              new Import[] {
-                new Import("NO_DATA_ALLOWED_ERR", "org.w3c.dom.DOMException", true),
-              })
-          .put(
-              "FTP",
-              new Import[] {
-                new Import(
-                    "FTP", "javax.print.attribute.standard.ReferenceUriSchemesSupported", true),
-              })
-          .put(
-              "AWTEventListener",
-              new Import[] {
-                new Import("AWTEventListener", "java.awt.event", false),
-              })
-          .put(
-              "ISO_C9_ENVELOPE",
-              new Import[] {
-                new Import("ISO_C9_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "CITE",
-              new Import[] {
-                new Import("CITE", "javax.swing.text.html.HTML.Tag", true),
-              })
-          .put(
-              "SortKey",
-              new Import[] {
-                new Import("SortKey", "javax.naming.ldap", false),
-                new Import("SortKey", "javax.swing.RowSorter", false),
-              })
-          .put(
-              "selectionEndParagraphAction",
-              new Import[] {
-                new Import(
-                    "selectionEndParagraphAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "deleteNextCharAction",
-              new Import[] {
-                new Import("deleteNextCharAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "GridLayout",
-              new Import[] {
-                new Import("GridLayout", "java.awt", false),
-              })
-          .put(
-              "TooManyListenersException",
-              new Import[] {
-                new Import("TooManyListenersException", "java.util", false),
-              })
-          .put(
-              "SynthToolTipUI",
-              new Import[] {
-                new Import("SynthToolTipUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "NA_10X14_ENVELOPE",
-              new Import[] {
-                new Import("NA_10X14_ENVELOPE", "java.awt.PageAttributes.MediaType", true),
-                new Import(
-                    "NA_10X14_ENVELOPE", "javax.print.attribute.standard.MediaSizeName", true),
-              })
-          .put(
-              "StartTlsResponse",
-              new Import[] {
-                new Import("StartTlsResponse", "javax.naming.ldap", false),
-              })
-          .put(
-              "LETTER_NUMBER",
-              new Import[] {
-                new Import("LETTER_NUMBER", "java.lang.Character", true),
-              })
-          .put(
-              "ORANGE",
-              new Import[] {
-                new Import("ORANGE", "java.awt.Color", true),
-              })
-          .put(
-              "ModelMBeanNotificationInfo",
-              new Import[] {
-                new Import("ModelMBeanNotificationInfo", "javax.management.modelmbean", false),
-              })
-          .put(
-              "SaslServerFactory",
-              new Import[] {
-                new Import("SaslServerFactory", "javax.security.sasl", false),
-              })
-          .put(
-              "PrintJobAttributeSet",
-              new Import[] {
-                new Import("PrintJobAttributeSet", "javax.print.attribute", false),
-              })
-          .put(
-              "BeanContextEvent",
-              new Import[] {
-                new Import("BeanContextEvent", "java.beans.beancontext", false),
-              })
-          .put(
-              "PHAISTOS_DISC",
-              new Import[] {
-                new Import("PHAISTOS_DISC", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "CONTROLLER_FOR",
-              new Import[] {
-                new Import("CONTROLLER_FOR", "javax.accessibility.AccessibleRelation", true),
-              })
-          .put(
-              "InvalidAttributeValueException",
-              new Import[] {
-                new Import("InvalidAttributeValueException", "javax.management", false),
-                new Import("InvalidAttributeValueException", "javax.naming.directory", false),
-              })
-          .put(
-              "parseLong",
-              new Import[] {
-                new Import("parseLong", "java.lang.Long", true),
-                new Import("parseLong", "javax.xml.bind.DatatypeConverter", true),
-              })
-          .put(
-              "LambdaMetafactory",
-              new Import[] {
-                new Import("LambdaMetafactory", "java.lang.invoke", false),
-              })
-          .put(
-              "EXPONENT",
-              new Import[] {
-                new Import("EXPONENT", "java.text.NumberFormat.Field", true),
-              })
-          .put(
-              "getDesktop",
-              new Import[] {
-                new Import("getDesktop", "java.awt.Desktop", true),
-              })
-          .put(
-              "nullsFirst",
-              new Import[] {
-                new Import("nullsFirst", "java.util.Comparator", true),
-              })
-          .put(
-              "BYZANTINE_MUSICAL_SYMBOLS",
-              new Import[] {
-                new Import("BYZANTINE_MUSICAL_SYMBOLS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "FileStoreAttributeView",
-              new Import[] {
-                new Import("FileStoreAttributeView", "java.nio.file.attribute", false),
-              })
-          .put(
-              "getIntegerAttributeValue",
-              new Import[] {
-                new Import("getIntegerAttributeValue", "javax.swing.text.html.HTML", true),
-              })
-          .put(
-              "IstringHelper",
-              new Import[] {
-                new Import("IstringHelper", "org.omg.CosNaming", false),
-              })
-          .put(
-              "SCHEMA_SYSTEM_ID",
-              new Import[] {
-                new Import("SCHEMA_SYSTEM_ID", "javax.sql.rowset.WebRowSet", true),
-              })
-          .put(
-              "VK_KP_LEFT",
-              new Import[] {
-                new Import("VK_KP_LEFT", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "COMPRESS",
-              new Import[] {
-                new Import("COMPRESS", "javax.print.attribute.standard.Compression", true),
-              })
-          .put(
-              "TIMESTAMP",
-              new Import[] {
-                new Import("TIMESTAMP", "java.sql.Types", true),
-              })
-          .put(
-              "UPPER_LEFT_CORNER",
-              new Import[] {
-                new Import("UPPER_LEFT_CORNER", "javax.swing.ScrollPaneConstants", true),
-              })
-          .put(
-              "_COMPLETED_MAYBE",
-              new Import[] {
-                new Import("_COMPLETED_MAYBE", "org.omg.CORBA.CompletionStatus", true),
-              })
-          .put(
-              "WHITE_SPACE",
-              new Import[] {
-                new Import("WHITE_SPACE", "javax.swing.text.html.CSS.Attribute", true),
-              })
-          .put(
-              "SynthStyleFactory",
-              new Import[] {
-                new Import("SynthStyleFactory", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "XMLResolver",
-              new Import[] {
-                new Import("XMLResolver", "javax.xml.stream", false),
-              })
-          .put(
-              "ImageView",
-              new Import[] {
-                new Import("ImageView", "javax.swing.text.html", false),
-              })
-          .put(
-              "OBJECT_RENAMED",
-              new Import[] {
-                new Import("OBJECT_RENAMED", "javax.naming.event.NamingEvent", true),
-              })
-          .put(
-              "getRuntime",
-              new Import[] {
-                new Import("getRuntime", "java.lang.Runtime", true),
-              })
-          .put(
-              "JANUARY",
-              new Import[] {
-                new Import("JANUARY", "java.util.Calendar", true),
-                new Import("JANUARY", "javax.xml.datatype.DatatypeConstants", true),
-              })
-          .put(
-              "counting",
-              new Import[] {
-                new Import("counting", "java.util.stream.Collectors", true),
-              })
-          .put(
-              "UNSUPPORTED_DOCUMENT_FORMAT",
-              new Import[] {
-                new Import(
-                    "UNSUPPORTED_DOCUMENT_FORMAT",
-                    "javax.print.attribute.standard.JobStateReason",
-                    true),
-              })
-          .put(
-              "JULIAN_DAY",
-              new Import[] {
-                new Import("JULIAN_DAY", "java.time.temporal.JulianFields", true),
-              })
-          .put(
-              "comparingLong",
-              new Import[] {
-                new Import("comparingLong", "java.util.Comparator", true),
-              })
-          .put(
-              "swap",
-              new Import[] {
-                new Import("swap", "java.util.Collections", true),
-              })
-          .put(
-              "TEXT_AREA",
-              new Import[] {
-                new Import("TEXT_AREA", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "ByteHolder",
-              new Import[] {
-                new Import("ByteHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "privilegedCallableUsingCurrentClassLoader",
-              new Import[] {
-                new Import(
-                    "privilegedCallableUsingCurrentClassLoader",
-                    "java.util.concurrent.Executors",
-                    true),
-              })
-          .put(
-              "getImageReaders",
-              new Import[] {
-                new Import("getImageReaders", "javax.imageio.ImageIO", true),
-              })
-          .put(
-              "tick",
-              new Import[] {
-                new Import("tick", "java.time.Clock", true),
-              })
-          .put(
-              "RootPaneUI",
-              new Import[] {
-                new Import("RootPaneUI", "javax.swing.plaf", false),
-              })
-          .put(
-              "RMISecurityManager",
-              new Import[] {
-                new Import("RMISecurityManager", "java.rmi", false),
-              })
-          .put(
-              "DoubleBinaryOperator",
-              new Import[] {
-                new Import("DoubleBinaryOperator", "java.util.function", false),
-              })
-          .put(
-              "RelationTypeSupport",
-              new Import[] {
-                new Import("RelationTypeSupport", "javax.management.relation", false),
-              })
-          .put(
-              "ServiceInformation",
-              new Import[] {
-                new Import("ServiceInformation", "org.omg.CORBA", false),
-              })
-          .put(
-              "UnsupportedCharsetException",
-              new Import[] {
-                new Import("UnsupportedCharsetException", "java.nio.charset", false),
-              })
-          .put(
-              "ImagingOpException",
-              new Import[] {
-                new Import("ImagingOpException", "java.awt.image", false),
-              })
-          .put(
-              "REAL",
-              new Import[] {
-                new Import("REAL", "java.sql.Types", true),
-              })
-          .put(
-              "SpringLayout",
-              new Import[] {
-                new Import("SpringLayout", "javax.swing", false),
-              })
-          .put(
-              "SCROLLBARS_HORIZONTAL_ONLY",
-              new Import[] {
-                new Import("SCROLLBARS_HORIZONTAL_ONLY", "java.awt.TextArea", true),
-              })
-          .put(
-              "VALUE_ALPHA_INTERPOLATION_DEFAULT",
-              new Import[] {
-                new Import("VALUE_ALPHA_INTERPOLATION_DEFAULT", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "ColorConstants",
-              new Import[] {
-                new Import("ColorConstants", "javax.swing.text.StyleConstants", false),
-              })
-          .put(
-              "flushCaches",
-              new Import[] {
-                new Import("flushCaches", "java.beans.Introspector", true),
-              })
-          .put(
-              "flashCount",
-              new Import[] {
-                new Import("flashCount", "javax.swing.DebugGraphics", true),
-              })
-          .put(
-              "updateComponentTreeUI",
-              new Import[] {
-                new Import("updateComponentTreeUI", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "icSigPreview2Tag",
-              new Import[] {
-                new Import("icSigPreview2Tag", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "RenderedImageFactory",
-              new Import[] {
-                new Import("RenderedImageFactory", "java.awt.image.renderable", false),
-              })
-          .put(
-              "createStrokeBorder",
-              new Import[] {
-                new Import("createStrokeBorder", "javax.swing.BorderFactory", true),
-              })
-          .put(
-              "LayerPainter",
-              new Import[] {
-                new Import("LayerPainter", "javax.swing.text.LayeredHighlighter", false),
-              })
-          .put(
-              "GZIPInputStream",
-              new Import[] {
-                new Import("GZIPInputStream", "java.util.zip", false),
-              })
-          .put(
-              "withInitial",
-              new Import[] {
-                new Import("withInitial", "java.lang.ThreadLocal", true),
-              })
-          .put(
-              "TRANSACTION_READ_COMMITTED",
-              new Import[] {
-                new Import("TRANSACTION_READ_COMMITTED", "java.sql.Connection", true),
-              })
-          .put(
-              "XAER_OUTSIDE",
-              new Import[] {
-                new Import("XAER_OUTSIDE", "javax.transaction.xa.XAException", true),
-              })
-          .put(
-              "tableIndexHashed",
-              new Import[] {
-                new Import("tableIndexHashed", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "endWordAction",
-              new Import[] {
-                new Import("endWordAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "LINEAR_B_IDEOGRAMS",
-              new Import[] {
-                new Import("LINEAR_B_IDEOGRAMS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "APRIL",
-              new Import[] {
-                new Import("APRIL", "java.util.Calendar", true),
-                new Import("APRIL", "javax.xml.datatype.DatatypeConstants", true),
-              })
-          .put(
-              "Invalid",
-              new Import[] {
-                new Import("Invalid", "org.omg.CORBA.DynAnyPackage", false),
-              })
-          .put(
-              "TAG_BSLN",
-              new Import[] {
-                new Import("TAG_BSLN", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "systemRoot",
-              new Import[] {
-                new Import("systemRoot", "java.util.prefs.Preferences", true),
-              })
-          .put(
-              "createTempDirectory",
-              new Import[] {
-                new Import("createTempDirectory", "java.nio.file.Files", true),
-              })
-          .put(
-              "PrimitiveIterator",
-              new Import[] {
-                new Import("PrimitiveIterator", "java.util", false),
-              })
-          .put(
-              "CTX_RESTRICT_SCOPE",
-              new Import[] {
-                new Import("CTX_RESTRICT_SCOPE", "org.omg.CORBA", false),
-              })
-          .put(
-              "AlphaComposite",
-              new Import[] {
-                new Import("AlphaComposite", "java.awt", false),
-              })
-          .put(
-              "CertificateRevokedException",
-              new Import[] {
-                new Import("CertificateRevokedException", "java.security.cert", false),
-              })
-          .put(
-              "isHighSurrogate",
-              new Import[] {
-                new Import("isHighSurrogate", "java.lang.Character", true),
-              })
-          .put(
-              "InternalFrameBorder",
-              new Import[] {
-                new Import("InternalFrameBorder", "javax.swing.plaf.metal.MetalBorders", false),
-              })
-          .put(
-              "AudioFileFormat",
-              new Import[] {
-                new Import("AudioFileFormat", "javax.sound.sampled", false),
-              })
-          .put(
-              "InvalidTypeForEncoding",
-              new Import[] {
-                new Import("InvalidTypeForEncoding", "org.omg.IOP.CodecPackage", false),
-              })
-          .put(
-              "getSystemJavaCompiler",
-              new Import[] {
-                new Import("getSystemJavaCompiler", "javax.tools.ToolProvider", true),
-              })
-          .put(
-              "OTHER_SYMBOL",
-              new Import[] {
-                new Import("OTHER_SYMBOL", "java.lang.Character", true),
-              })
-          .put(
-              "ClassCastException",
-              new Import[] {
-                new Import("ClassCastException", "java.lang", false),
-              })
-          .put(
-              "ObjectReferenceTemplate",
-              new Import[] {
-                new Import("ObjectReferenceTemplate", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "TargetedNotification",
-              new Import[] {
-                new Import("TargetedNotification", "javax.management.remote", false),
-              })
-          .put(
-              "walk",
-              new Import[] {
-                new Import("walk", "java.nio.file.Files", true),
-              })
-          .put(
-              "TAI_XUAN_JING_SYMBOLS",
-              new Import[] {
-                new Import("TAI_XUAN_JING_SYMBOLS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .build();
-}
@@ -1,1671 +0,0 @@
-// Code generated by GenerateStdlib.java. DO NOT EDIT.
-package com.nikodoko.javaimports.stdlib.internal.api.v8;
-
-import com.google.common.collect.ImmutableMap;
-import com.nikodoko.javaimports.parser.Import;
-import java.util.Map;
-
-public class Java8StdlibChunk9 {
-  static final Map<String, Import[]> CLASSES =
-      new ImmutableMap.Builder<String, Import[]>()
-          .put(
-              "CONTROL_DK_SHADOW",
-              new Import[] {
-                new Import("CONTROL_DK_SHADOW", "java.awt.SystemColor", true),
-              })
-          .put(
-              "SocketChannel",
-              new Import[] {
-                new Import("SocketChannel", "java.nio.channels", false),
-              })
-          .put(
-              "KeyFactorySpi",
-              new Import[] {
-                new Import("KeyFactorySpi", "java.security", false),
-              })
-          .put(
-              "DHPublicKey",
-              new Import[] {
-                new Import("DHPublicKey", "javax.crypto.interfaces", false),
-              })
-          .put(
-              "Size",
-              new Import[] {
-                new Import("Size", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "IMAGE_OK",
-              new Import[] {
-                new Import("IMAGE_OK", "java.awt.image.VolatileImage", true),
-              })
-          .put(
-              "CENLEN",
-              new Import[] {
-                new Import("CENLEN", "java.util.jar.JarEntry", true),
-                new Import("CENLEN", "java.util.jar.JarFile", true),
-                new Import("CENLEN", "java.util.jar.JarInputStream", true),
-                new Import("CENLEN", "java.util.jar.JarOutputStream", true),
-                new Import("CENLEN", "java.util.zip.ZipEntry", true),
-                new Import("CENLEN", "java.util.zip.ZipFile", true),
-                new Import("CENLEN", "java.util.zip.ZipInputStream", true),
-                new Import("CENLEN", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "TRUETYPE_FONT",
-              new Import[] {
-                new Import("TRUETYPE_FONT", "java.awt.Font", true),
-              })
-          .put(
-              "getUrlEncoder",
-              new Import[] {
-                new Import("getUrlEncoder", "java.util.Base64", true),
-              })
-          .put(
-              "XmlElements",
-              new Import[] {
-                new Import("XmlElements", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "DropTargetListener",
-              new Import[] {
-                new Import("DropTargetListener", "java.awt.dnd", false),
-              })
-          .put(
-              "inactiveCaption",
-              new Import[] {
-                new Import("inactiveCaption", "java.awt.SystemColor", true),
-              })
-          .put(
-              "MAX_LOW_SURROGATE",
-              new Import[] {
-                new Import("MAX_LOW_SURROGATE", "java.lang.Character", true),
-              })
-          .put(
-              "LeftIndent",
-              new Import[] {
-                new Import("LeftIndent", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "BLACK",
-              new Import[] {
-                new Import("BLACK", "java.awt.Color", true),
-              })
-          .put(
-              "SynthInternalFrameUI",
-              new Import[] {
-                new Import("SynthInternalFrameUI", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "RenderContext",
-              new Import[] {
-                new Import("RenderContext", "java.awt.image.renderable", false),
-              })
-          .put(
-              "VK_HELP",
-              new Import[] {
-                new Import("VK_HELP", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "UnicodeScript",
-              new Import[] {
-                new Import("UnicodeScript", "java.lang.Character", false),
-              })
-          .put(
-              "CDATA_SECTION_NODE",
-              new Import[] {
-                new Import("CDATA_SECTION_NODE", "org.w3c.dom.Node", true),
-              })
-          .put(
-              "isUnicodeIdentifierPart",
-              new Import[] {
-                new Import("isUnicodeIdentifierPart", "java.lang.Character", true),
-              })
-          .put(
-              "ValueMember",
-              new Import[] {
-                new Import("ValueMember", "org.omg.CORBA", false),
-              })
-          .put(
-              "Bounds",
-              new Import[] {
-                new Import("Bounds", "org.omg.CORBA", false),
-                new Import("Bounds", "org.omg.CORBA.TypeCodePackage", false),
-              })
-          .put(
-              "EDGE_STITCH_LEFT",
-              new Import[] {
-                new Import("EDGE_STITCH_LEFT", "javax.print.attribute.standard.Finishings", true),
-              })
-          .put(
-              "DOMSTRING_SIZE_ERR",
-              new Import[] {
-                new Import("DOMSTRING_SIZE_ERR", "org.w3c.dom.DOMException", true),
-              })
-          .put(
-              "TableModelListener",
-              new Import[] {
-                new Import("TableModelListener", "javax.swing.event", false),
-              })
-          .put(
-              "dk_Enum",
-              new Import[] {
-                new Import("dk_Enum", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "CHECK_BOX",
-              new Import[] {
-                new Import("CHECK_BOX", "javax.accessibility.AccessibleRole", true),
-                new Import("CHECK_BOX", "javax.swing.plaf.synth.Region", true),
-              })
-          .put(
-              "XOR",
-              new Import[] {
-                new Import("XOR", "java.awt.AlphaComposite", true),
-              })
-          .put(
-              "MidiDeviceProvider",
-              new Import[] {
-                new Import("MidiDeviceProvider", "javax.sound.midi.spi", false),
-              })
-          .put(
-              "XmlIDREF",
-              new Import[] {
-                new Import("XmlIDREF", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "_NON_RETAIN",
-              new Import[] {
-                new Import(
-                    "_NON_RETAIN", "org.omg.PortableServer.ServantRetentionPolicyValue", true),
-              })
-          .put(
-              "DAY_OF_YEAR",
-              new Import[] {
-                new Import("DAY_OF_YEAR", "java.text.DateFormat.Field", true),
-                new Import("DAY_OF_YEAR", "java.util.Calendar", true),
-              })
-          .put(
-              "HTTPException",
-              new Import[] {
-                new Import("HTTPException", "javax.xml.ws.http", false),
-              })
-          .put(
-              "isLowerCase",
-              new Import[] {
-                new Import("isLowerCase", "java.lang.Character", true),
-              })
-          .put(
-              "OPERATING_SYSTEM_MXBEAN_NAME",
-              new Import[] {
-                new Import(
-                    "OPERATING_SYSTEM_MXBEAN_NAME", "java.lang.management.ManagementFactory", true),
-              })
-          .put(
-              "MESSAGE_OUTBOUND_PROPERTY",
-              new Import[] {
-                new Import(
-                    "MESSAGE_OUTBOUND_PROPERTY", "javax.xml.ws.handler.MessageContext", true),
-              })
-          .put(
-              "setTabSet",
-              new Import[] {
-                new Import("setTabSet", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "CMMException",
-              new Import[] {
-                new Import("CMMException", "java.awt.color", false),
-              })
-          .put(
-              "SerialStruct",
-              new Import[] {
-                new Import("SerialStruct", "javax.sql.rowset.serial", false),
-              })
-          .put(
-              "ExpandVetoException",
-              new Import[] {
-                new Import("ExpandVetoException", "javax.swing.tree", false),
-              })
-          .put(
-              "COMPLETED",
-              new Import[] {
-                new Import("COMPLETED", "javax.print.attribute.standard.JobState", true),
-              })
-          .put(
-              "QUARTER_YEARS",
-              new Import[] {
-                new Import("QUARTER_YEARS", "java.time.temporal.IsoFields", true),
-              })
-          .put(
-              "XML_DTD_NS_URI",
-              new Import[] {
-                new Import("XML_DTD_NS_URI", "javax.xml.XMLConstants", true),
-              })
-          .put(
-              "Deprecated",
-              new Import[] {
-                new Import("Deprecated", "java.lang", false),
-              })
-          .put(
-              "INPUT_VALUE_PROPERTY",
-              new Import[] {
-                new Import("INPUT_VALUE_PROPERTY", "javax.swing.JOptionPane", true),
-              })
-          .put(
-              "SCROLLBARS_ALWAYS",
-              new Import[] {
-                new Import("SCROLLBARS_ALWAYS", "java.awt.ScrollPane", true),
-              })
-          .put(
-              "DOCUMENT_POSITION_FOLLOWING",
-              new Import[] {
-                new Import("DOCUMENT_POSITION_FOLLOWING", "org.w3c.dom.Node", true),
-              })
-          .put(
-              "VK_WINDOWS",
-              new Import[] {
-                new Import("VK_WINDOWS", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "ModelMBeanInfoSupport",
-              new Import[] {
-                new Import("ModelMBeanInfoSupport", "javax.management.modelmbean", false),
-              })
-          .put(
-              "SRC_OUT",
-              new Import[] {
-                new Import("SRC_OUT", "java.awt.AlphaComposite", true),
-              })
-          .put(
-              "getSurplusQueuedTaskCount",
-              new Import[] {
-                new Import("getSurplusQueuedTaskCount", "java.util.concurrent.ForkJoinTask", true),
-              })
-          .put(
-              "PersistentMBean",
-              new Import[] {
-                new Import("PersistentMBean", "javax.management", false),
-              })
-          .put(
-              "CODETYPE",
-              new Import[] {
-                new Import("CODETYPE", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "Window",
-              new Import[] {
-                new Import("Window", "java.awt", false),
-              })
-          .put(
-              "PHAGS_PA",
-              new Import[] {
-                new Import("PHAGS_PA", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "FLOWS_FROM_PROPERTY",
-              new Import[] {
-                new Import("FLOWS_FROM_PROPERTY", "javax.accessibility.AccessibleRelation", true),
-              })
-          .put(
-              "OBSERVED_ATTRIBUTE_TYPE_ERROR",
-              new Import[] {
-                new Import(
-                    "OBSERVED_ATTRIBUTE_TYPE_ERROR",
-                    "javax.management.monitor.MonitorNotification",
-                    true),
-              })
-          .put(
-              "MAIN_UIROLE",
-              new Import[] {
-                new Import("MAIN_UIROLE", "javax.print.ServiceUIFactory", true),
-              })
-          .put(
-              "TYPE_BILINEAR",
-              new Import[] {
-                new Import("TYPE_BILINEAR", "java.awt.image.AffineTransformOp", true),
-              })
-          .put(
-              "invokeAll",
-              new Import[] {
-                new Import("invokeAll", "java.util.concurrent.ForkJoinTask", true),
-              })
-          .put(
-              "DoubleSeqHolder",
-              new Import[] {
-                new Import("DoubleSeqHolder", "org.omg.CORBA", false),
-              })
-          .put(
-              "_tk_float",
-              new Import[] {
-                new Import("_tk_float", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "Connection",
-              new Import[] {
-                new Import("Connection", "java.sql", false),
-              })
-          .put(
-              "ENGINE",
-              new Import[] {
-                new Import("ENGINE", "javax.script.ScriptEngine", true),
-              })
-          .put(
-              "refresh",
-              new Import[] {
-                new Import("refresh", "java.time.zone.ZoneRulesProvider", true),
-              })
-          .put(
-              "FOOTER",
-              new Import[] {
-                new Import("FOOTER", "javax.accessibility.AccessibleRole", true),
-              })
-          .put(
-              "ZipException",
-              new Import[] {
-                new Import("ZipException", "java.util.zip", false),
-              })
-          .put(
-              "INTERVAL_REMOVED",
-              new Import[] {
-                new Import("INTERVAL_REMOVED", "javax.swing.event.ListDataEvent", true),
-              })
-          .put(
-              "USE_DEFAULT_SERVANT",
-              new Import[] {
-                new Import(
-                    "USE_DEFAULT_SERVANT",
-                    "org.omg.PortableServer.RequestProcessingPolicyValue",
-                    true),
-              })
-          .put(
-              "ModelMBeanConstructorInfo",
-              new Import[] {
-                new Import("ModelMBeanConstructorInfo", "javax.management.modelmbean", false),
-              })
-          .put(
-              "ScheduledFuture",
-              new Import[] {
-                new Import("ScheduledFuture", "java.util.concurrent", false),
-              })
-          .put(
-              "RFC1779",
-              new Import[] {
-                new Import("RFC1779", "javax.security.auth.x500.X500Principal", true),
-              })
-          .put(
-              "MODE_DISABLED",
-              new Import[] {
-                new Import("MODE_DISABLED", "javax.imageio.ImageWriteParam", true),
-              })
-          .put(
-              "TEXT_CURSOR",
-              new Import[] {
-                new Import("TEXT_CURSOR", "java.awt.Cursor", true),
-                new Import("TEXT_CURSOR", "java.awt.Frame", true),
-              })
-          .put(
-              "SafeVarargs",
-              new Import[] {
-                new Import("SafeVarargs", "java.lang", false),
-              })
-          .put(
-              "setRightIndent",
-              new Import[] {
-                new Import("setRightIndent", "javax.swing.text.StyleConstants", true),
-              })
-          .put(
-              "W_RESIZE_CURSOR",
-              new Import[] {
-                new Import("W_RESIZE_CURSOR", "java.awt.Cursor", true),
-                new Import("W_RESIZE_CURSOR", "java.awt.Frame", true),
-              })
-          .put(
-              "StringBuffer",
-              new Import[] {
-                new Import("StringBuffer", "java.lang", false),
-              })
-          .put(
-              "SynthGraphicsUtils",
-              new Import[] {
-                new Import("SynthGraphicsUtils", "javax.swing.plaf.synth", false),
-              })
-          .put(
-              "DoubleConsumer",
-              new Import[] {
-                new Import("DoubleConsumer", "java.util.function", false),
-              })
-          .put(
-              "XA_RBROLLBACK",
-              new Import[] {
-                new Import("XA_RBROLLBACK", "javax.transaction.xa.XAException", true),
-              })
-          .put(
-              "CharArrayReader",
-              new Import[] {
-                new Import("CharArrayReader", "java.io", false),
-              })
-          .put(
-              "isIdeographic",
-              new Import[] {
-                new Import("isIdeographic", "java.lang.Character", true),
-              })
-          .put(
-              "NoClassDefFoundError",
-              new Import[] {
-                new Import("NoClassDefFoundError", "java.lang", false),
-              })
-          .put(
-              "addAll",
-              new Import[] {
-                new Import("addAll", "java.util.Collections", true),
-              })
-          .put(
-              "REQUISITE",
-              new Import[] {
-                new Import(
-                    "REQUISITE",
-                    "javax.security.auth.login.AppConfigurationEntry.LoginModuleControlFlag",
-                    true),
-              })
-          .put(
-              "CANCEL",
-              new Import[] {
-                new Import("CANCEL", "javax.security.auth.callback.ConfirmationCallback", true),
-              })
-          .put(
-              "HANJA",
-              new Import[] {
-                new Import("HANJA", "java.awt.im.InputSubset", true),
-              })
-          .put(
-              "ANCESTOR_MOVED",
-              new Import[] {
-                new Import("ANCESTOR_MOVED", "java.awt.event.HierarchyEvent", true),
-                new Import("ANCESTOR_MOVED", "javax.swing.event.AncestorEvent", true),
-              })
-          .put(
-              "RULER",
-              new Import[] {
-                new Import("RULER", "javax.accessibility.AccessibleRole", true),
-              })
-          .put(
-              "TT_EOL",
-              new Import[] {
-                new Import("TT_EOL", "java.io.StreamTokenizer", true),
-              })
-          .put(
-              "CustomMarshal",
-              new Import[] {
-                new Import("CustomMarshal", "org.omg.CORBA", false),
-              })
-          .put(
-              "INV_POLICY",
-              new Import[] {
-                new Import("INV_POLICY", "org.omg.CORBA", false),
-              })
-          .put(
-              "NOTATION_NODE",
-              new Import[] {
-                new Import("NOTATION_NODE", "org.w3c.dom.Node", true),
-              })
-          .put(
-              "CONTROL_FACTORIES",
-              new Import[] {
-                new Import("CONTROL_FACTORIES", "javax.naming.ldap.LdapContext", true),
-              })
-          .put(
-              "LEAD_THICKLINE",
-              new Import[] {
-                new Import("LEAD_THICKLINE", "javax.swing.text.TabStop", true),
-              })
-          .put(
-              "FileSystemView",
-              new Import[] {
-                new Import("FileSystemView", "javax.swing.filechooser", false),
-              })
-          .put(
-              "VERTICAL_SCROLLBAR_POLICY",
-              new Import[] {
-                new Import("VERTICAL_SCROLLBAR_POLICY", "javax.swing.ScrollPaneConstants", true),
-              })
-          .put(
-              "FileVisitOption",
-              new Import[] {
-                new Import("FileVisitOption", "java.nio.file", false),
-              })
-          .put(
-              "TAG_GASP",
-              new Import[] {
-                new Import("TAG_GASP", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "ALERT",
-              new Import[] {
-                new Import("ALERT", "javax.accessibility.AccessibleRole", true),
-              })
-          .put(
-              "icSigInputClass",
-              new Import[] {
-                new Import("icSigInputClass", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "TRADITIONAL_CHINESE",
-              new Import[] {
-                new Import("TRADITIONAL_CHINESE", "java.util.Locale", true),
-              })
-          .put(
-              "PrintException",
-              new Import[] {
-                new Import("PrintException", "javax.print", false),
-              })
-          .put(
-              "OPTIONAL",
-              new Import[] {
-                new Import(
-                    "OPTIONAL",
-                    "javax.security.auth.login.AppConfigurationEntry.LoginModuleControlFlag",
-                    true),
-              })
-          .put(
-              "REF_putStatic",
-              new Import[] {
-                new Import("REF_putStatic", "java.lang.invoke.MethodHandleInfo", true),
-              })
-          .put(
-              "getModifiersExText",
-              new Import[] {
-                new Import("getModifiersExText", "java.awt.event.InputEvent", true),
-              })
-          .put(
-              "PrinterAbortException",
-              new Import[] {
-                new Import("PrinterAbortException", "java.awt.print", false),
-              })
-          .put(
-              "summingDouble",
-              new Import[] {
-                new Import("summingDouble", "java.util.stream.Collectors", true),
-              })
-          .put(
-              "createSaslClient",
-              new Import[] {
-                new Import("createSaslClient", "javax.security.sasl.Sasl", true),
-              })
-          .put(
-              "ARCHIVE",
-              new Import[] {
-                new Import("ARCHIVE", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "TYPE_UNDEFINED",
-              new Import[] {
-                new Import("TYPE_UNDEFINED", "java.awt.image.DataBuffer", true),
-              })
-          .put(
-              "FilterBypass",
-              new Import[] {
-                new Import("FilterBypass", "javax.swing.text.DocumentFilter", false),
-                new Import("FilterBypass", "javax.swing.text.NavigationFilter", false),
-              })
-          .put(
-              "CS_sRGB",
-              new Import[] {
-                new Import("CS_sRGB", "java.awt.color.ColorSpace", true),
-              })
-          .put(
-              "BasicColorChooserUI",
-              new Import[] {
-                new Import("BasicColorChooserUI", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "REPLACE",
-              new Import[] {
-                new Import("REPLACE", "java.nio.charset.CodingErrorAction", true),
-              })
-          .put(
-              "TYPE_FLOAT",
-              new Import[] {
-                new Import("TYPE_FLOAT", "java.awt.image.DataBuffer", true),
-              })
-          .put(
-              "INTEGER",
-              new Import[] {
-                new Import("INTEGER", "java.sql.Types", true),
-                new Import("INTEGER", "java.text.NumberFormat.Field", true),
-                new Import("INTEGER", "javax.management.openmbean.SimpleType", true),
-              })
-          .put(
-              "AbstractUnmarshallerImpl",
-              new Import[] {
-                new Import("AbstractUnmarshallerImpl", "javax.xml.bind.helpers", false),
-              })
-          .put(
-              "adapt",
-              new Import[] {
-                new Import("adapt", "java.util.concurrent.ForkJoinTask", true),
-              })
-          .put(
-              "XSLTTransformParameterSpec",
-              new Import[] {
-                new Import("XSLTTransformParameterSpec", "javax.xml.crypto.dsig.spec", false),
-              })
-          .put(
-              "getCacheDirectory",
-              new Import[] {
-                new Import("getCacheDirectory", "javax.imageio.ImageIO", true),
-              })
-          .put(
-              "XmlReader",
-              new Import[] {
-                new Import("XmlReader", "javax.sql.rowset.spi", false),
-              })
-          .put(
-              "setCacheDirectory",
-              new Import[] {
-                new Import("setCacheDirectory", "javax.imageio.ImageIO", true),
-              })
-          .put(
-              "TAG_BASE",
-              new Import[] {
-                new Import("TAG_BASE", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "URISyntax",
-              new Import[] {
-                new Import("URISyntax", "javax.print.attribute", false),
-              })
-          .put(
-              "ClosedDirectoryStreamException",
-              new Import[] {
-                new Import("ClosedDirectoryStreamException", "java.nio.file", false),
-              })
-          .put(
-              "DUPLICATE_TOKEN",
-              new Import[] {
-                new Import("DUPLICATE_TOKEN", "org.ietf.jgss.GSSException", true),
-              })
-          .put(
-              "URI_SOAP_ACTOR_NEXT",
-              new Import[] {
-                new Import("URI_SOAP_ACTOR_NEXT", "javax.xml.soap.SOAPConstants", true),
-              })
-          .put(
-              "TT_EOF",
-              new Import[] {
-                new Import("TT_EOF", "java.io.StreamTokenizer", true),
-              })
-          .put(
-              "CONTROL",
-              new Import[] {
-                new Import("CONTROL", "java.awt.SystemColor", true),
-                new Import("CONTROL", "java.lang.Character", true),
-              })
-          .put(
-              "CAP_BUTT",
-              new Import[] {
-                new Import("CAP_BUTT", "java.awt.BasicStroke", true),
-              })
-          .put(
-              "URLStringHelper",
-              new Import[] {
-                new Import("URLStringHelper", "org.omg.CosNaming.NamingContextExtPackage", false),
-              })
-          .put(
-              "ACCESSIBLE_COMPONENT_BOUNDS_CHANGED",
-              new Import[] {
-                new Import(
-                    "ACCESSIBLE_COMPONENT_BOUNDS_CHANGED",
-                    "javax.accessibility.AccessibleContext",
-                    true),
-              })
-          .put(
-              "versionColumnUnknown",
-              new Import[] {
-                new Import("versionColumnUnknown", "java.sql.DatabaseMetaData", true),
-              })
-          .put(
-              "MidiChannel",
-              new Import[] {
-                new Import("MidiChannel", "javax.sound.midi", false),
-              })
-          .put(
-              "multiplyExact",
-              new Import[] {
-                new Import("multiplyExact", "java.lang.Math", true),
-                new Import("multiplyExact", "java.lang.StrictMath", true),
-              })
-          .put(
-              "_dk_Exception",
-              new Import[] {
-                new Import("_dk_Exception", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "SEALED",
-              new Import[] {
-                new Import("SEALED", "java.util.jar.Attributes.Name", true),
-              })
-          .put(
-              "DefaultMoveNoDrop",
-              new Import[] {
-                new Import("DefaultMoveNoDrop", "java.awt.dnd.DragSource", true),
-              })
-          .put(
-              "RELATION_BASIC_CREATION",
-              new Import[] {
-                new Import(
-                    "RELATION_BASIC_CREATION",
-                    "javax.management.relation.RelationNotification",
-                    true),
-              })
-          .put(
-              "_tk_double",
-              new Import[] {
-                new Import("_tk_double", "org.omg.CORBA.TCKind", true),
-              })
-          .put(
-              "beginAction",
-              new Import[] {
-                new Import("beginAction", "javax.swing.text.DefaultEditorKit", true),
-              })
-          .put(
-              "TYPE_9CLR",
-              new Import[] {
-                new Import("TYPE_9CLR", "java.awt.color.ColorSpace", true),
-              })
-          .put(
-              "RMIConnection",
-              new Import[] {
-                new Import("RMIConnection", "javax.management.remote.rmi", false),
-              })
-          .put(
-              "ThreadLocalRandom",
-              new Import[] {
-                new Import("ThreadLocalRandom", "java.util.concurrent", false),
-              })
-          .put(
-              "emptyDoubleSpliterator",
-              new Import[] {
-                new Import("emptyDoubleSpliterator", "java.util.Spliterators", true),
-              })
-          .put(
-              "copyObject",
-              new Import[] {
-                new Import("copyObject", "javax.rmi.CORBA.Util", true),
-              })
-          .put(
-              "SHUTDOWN",
-              new Import[] {
-                new Import("SHUTDOWN", "javax.print.attribute.standard.PrinterStateReason", true),
-              })
-          .put(
-              "ALLOCATOR",
-              new Import[] {
-                new Import("ALLOCATOR", "javax.xml.stream.XMLInputFactory", true),
-              })
-          .put(
-              "getRoot",
-              new Import[] {
-                new Import("getRoot", "javax.swing.SwingUtilities", true),
-              })
-          .put(
-              "WindowFocusListener",
-              new Import[] {
-                new Import("WindowFocusListener", "java.awt.event", false),
-              })
-          .put(
-              "TYPE_DCLR",
-              new Import[] {
-                new Import("TYPE_DCLR", "java.awt.color.ColorSpace", true),
-              })
-          .put(
-              "OLD_ITALIC",
-              new Import[] {
-                new Import("OLD_ITALIC", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "AsynchronousCompletionTask",
-              new Import[] {
-                new Import(
-                    "AsynchronousCompletionTask", "java.util.concurrent.CompletableFuture", false),
-              })
-          .put(
-              "DEFAULT_POSITION",
-              new Import[] {
-                new Import("DEFAULT_POSITION", "javax.swing.border.TitledBorder", true),
-              })
-          .put(
-              "ETHIOPIC",
-              new Import[] {
-                new Import("ETHIOPIC", "java.awt.font.NumericShaper", true),
-                new Import("ETHIOPIC", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "DocumentType",
-              new Import[] {
-                new Import("DocumentType", "org.w3c.dom", false),
-              })
-          .put(
-              "CLASS_NAMEDCOLOR",
-              new Import[] {
-                new Import("CLASS_NAMEDCOLOR", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "CONTROLLED_BY",
-              new Import[] {
-                new Import("CONTROLLED_BY", "javax.accessibility.AccessibleRelation", true),
-              })
-          .put(
-              "GREEN",
-              new Import[] {
-                new Import("GREEN", "java.awt.Color", true),
-              })
-          .put(
-              "UnsupportedFlavorException",
-              new Import[] {
-                new Import("UnsupportedFlavorException", "java.awt.datatransfer", false),
-              })
-          .put(
-              "HttpRetryException",
-              new Import[] {
-                new Import("HttpRetryException", "java.net", false),
-              })
-          .put(
-              "GREEK",
-              new Import[] {
-                new Import("GREEK", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "MIN_SURROGATE",
-              new Import[] {
-                new Import("MIN_SURROGATE", "java.lang.Character", true),
-              })
-          .put(
-              "TitledBorderUIResource",
-              new Import[] {
-                new Import("TitledBorderUIResource", "javax.swing.plaf.BorderUIResource", false),
-              })
-          .put(
-              "BeanContextMembershipEvent",
-              new Import[] {
-                new Import("BeanContextMembershipEvent", "java.beans.beancontext", false),
-              })
-          .put(
-              "KHMER_SYMBOLS",
-              new Import[] {
-                new Import("KHMER_SYMBOLS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "updateRenderer",
-              new Import[] {
-                new Import("updateRenderer", "javax.swing.plaf.basic.BasicHTML", true),
-              })
-          .put(
-              "createFont",
-              new Import[] {
-                new Import("createFont", "java.awt.Font", true),
-              })
-          .put(
-              "DateFormatProvider",
-              new Import[] {
-                new Import("DateFormatProvider", "java.text.spi", false),
-              })
-          .put(
-              "MBeanServerConnection",
-              new Import[] {
-                new Import("MBeanServerConnection", "javax.management", false),
-              })
-          .put(
-              "CertificateRep",
-              new Import[] {
-                new Import("CertificateRep", "java.security.cert.Certificate", false),
-              })
-          .put(
-              "previousOrSame",
-              new Import[] {
-                new Import("previousOrSame", "java.time.temporal.TemporalAdjusters", true),
-              })
-          .put(
-              "ElementKind",
-              new Import[] {
-                new Import("ElementKind", "javax.lang.model.element", false),
-              })
-          .put(
-              "DefaultCopyNoDrop",
-              new Import[] {
-                new Import("DefaultCopyNoDrop", "java.awt.dnd.DragSource", true),
-              })
-          .put(
-              "getPositionAbove",
-              new Import[] {
-                new Import("getPositionAbove", "javax.swing.text.Utilities", true),
-              })
-          .put(
-              "STREAM_VERSION",
-              new Import[] {
-                new Import("STREAM_VERSION", "java.io.ObjectStreamConstants", true),
-              })
-          .put(
-              "IP_TOS",
-              new Import[] {
-                new Import("IP_TOS", "java.net.SocketOptions", true),
-                new Import("IP_TOS", "java.net.StandardSocketOptions", true),
-              })
-          .put(
-              "DSA_TYPE",
-              new Import[] {
-                new Import("DSA_TYPE", "javax.xml.crypto.dsig.keyinfo.KeyValue", true),
-              })
-          .put(
-              "CompositeData",
-              new Import[] {
-                new Import("CompositeData", "javax.management.openmbean", false),
-              })
-          .put(
-              "LOCFLG",
-              new Import[] {
-                new Import("LOCFLG", "java.util.jar.JarEntry", true),
-                new Import("LOCFLG", "java.util.jar.JarFile", true),
-                new Import("LOCFLG", "java.util.jar.JarInputStream", true),
-                new Import("LOCFLG", "java.util.jar.JarOutputStream", true),
-                new Import("LOCFLG", "java.util.zip.ZipEntry", true),
-                new Import("LOCFLG", "java.util.zip.ZipFile", true),
-                new Import("LOCFLG", "java.util.zip.ZipInputStream", true),
-                new Import("LOCFLG", "java.util.zip.ZipOutputStream", true),
-              })
-          .put(
-              "GCMParameterSpec",
-              new Import[] {
-                new Import("GCMParameterSpec", "javax.crypto.spec", false),
-              })
-          .put(
-              "Scrollable",
-              new Import[] {
-                new Import("Scrollable", "javax.swing", false),
-              })
-          .put(
-              "cyan",
-              new Import[] {
-                new Import("cyan", "java.awt.Color", true),
-              })
-          .put(
-              "FilePermission",
-              new Import[] {
-                new Import("FilePermission", "java.io", false),
-              })
-          .put(
-              "FILES_ONLY",
-              new Import[] {
-                new Import("FILES_ONLY", "javax.swing.JFileChooser", true),
-              })
-          .put(
-              "DatagramPacket",
-              new Import[] {
-                new Import("DatagramPacket", "java.net", false),
-              })
-          .put(
-              "XmlValue",
-              new Import[] {
-                new Import("XmlValue", "javax.xml.bind.annotation", false),
-              })
-          .put(
-              "XMLReaderAdapter",
-              new Import[] {
-                new Import("XMLReaderAdapter", "org.xml.sax.helpers", false),
-              })
-          .put(
-              "EmptyBorder",
-              new Import[] {
-                new Import("EmptyBorder", "javax.swing.border", false),
-              })
-          .put(
-              "USE_ACTIVE_OBJECT_MAP_ONLY",
-              new Import[] {
-                new Import(
-                    "USE_ACTIVE_OBJECT_MAP_ONLY",
-                    "org.omg.PortableServer.RequestProcessingPolicyValue",
-                    true),
-              })
-          .put(
-              "GetField",
-              new Import[] {
-                new Import("GetField", "java.io.ObjectInputStream", false),
-              })
-          .put(
-              "HSBtoRGB",
-              new Import[] {
-                new Import("HSBtoRGB", "java.awt.Color", true),
-              })
-          .put(
-              "DefaultLinkNoDrop",
-              new Import[] {
-                new Import("DefaultLinkNoDrop", "java.awt.dnd.DragSource", true),
-              })
-          .put(
-              "DEFAULT_VALUE_FIELD",
-              new Import[] {
-                new Import("DEFAULT_VALUE_FIELD", "javax.management.JMX", true),
-              })
-          .put(
-              "IIOMetadata",
-              new Import[] {
-                new Import("IIOMetadata", "javax.imageio.metadata", false),
-              })
-          .put(
-              "SHAPE",
-              new Import[] {
-                new Import("SHAPE", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "ComponentEvent",
-              new Import[] {
-                new Import("ComponentEvent", "java.awt.event", false),
-              })
-          .put(
-              "getMixerInfo",
-              new Import[] {
-                new Import("getMixerInfo", "javax.sound.sampled.AudioSystem", true),
-              })
-          .put(
-              "KAKU_1",
-              new Import[] {
-                new Import("KAKU_1", "javax.print.attribute.standard.MediaSize.JIS", true),
-              })
-          .put(
-              "KAKU_2",
-              new Import[] {
-                new Import("KAKU_2", "javax.print.attribute.standard.MediaSize.JIS", true),
-              })
-          .put(
-              "KAKU_0",
-              new Import[] {
-                new Import("KAKU_0", "javax.print.attribute.standard.MediaSize.JIS", true),
-              })
-          .put(
-              "KAKU_5",
-              new Import[] {
-                new Import("KAKU_5", "javax.print.attribute.standard.MediaSize.JIS", true),
-              })
-          .put(
-              "KerberosTicket",
-              new Import[] {
-                new Import("KerberosTicket", "javax.security.auth.kerberos", false),
-              })
-          .put(
-              "KAKU_6",
-              new Import[] {
-                new Import("KAKU_6", "javax.print.attribute.standard.MediaSize.JIS", true),
-              })
-          .put(
-              "KAKU_3",
-              new Import[] {
-                new Import("KAKU_3", "javax.print.attribute.standard.MediaSize.JIS", true),
-              })
-          .put(
-              "HONOR_DISPLAY_PROPERTIES",
-              new Import[] {
-                new Import("HONOR_DISPLAY_PROPERTIES", "javax.swing.JEditorPane", true),
-              })
-          .put(
-              "KAKU_4",
-              new Import[] {
-                new Import("KAKU_4", "javax.print.attribute.standard.MediaSize.JIS", true),
-              })
-          .put(
-              "JobMediaSheetsSupported",
-              new Import[] {
-                new Import("JobMediaSheetsSupported", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "KAKU_7",
-              new Import[] {
-                new Import("KAKU_7", "javax.print.attribute.standard.MediaSize.JIS", true),
-              })
-          .put(
-              "KAKU_8",
-              new Import[] {
-                new Import("KAKU_8", "javax.print.attribute.standard.MediaSize.JIS", true),
-              })
-          .put(
-              "OptionalDataException",
-              new Import[] {
-                new Import("OptionalDataException", "java.io", false),
-              })
-          .put(
-              "ManagementFactory",
-              new Import[] {
-                new Import("ManagementFactory", "java.lang.management", false),
-              })
-          .put(
-              "ZONE_OFFSET",
-              new Import[] {
-                new Import("ZONE_OFFSET", "java.util.Calendar", true),
-              })
-          .put(
-              "TAG_CVAR",
-              new Import[] {
-                new Import("TAG_CVAR", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "CompletionStatus",
-              new Import[] {
-                new Import("CompletionStatus", "org.omg.CORBA", false),
-              })
-          .put(
-              "InputSubset",
-              new Import[] {
-                new Import("InputSubset", "java.awt.im", false),
-              })
-          .put(
-              "JScrollPane",
-              new Import[] {
-                new Import("JScrollPane", "javax.swing", false),
-              })
-          .put(
-              "BasicComboBoxEditor",
-              new Import[] {
-                new Import("BasicComboBoxEditor", "javax.swing.plaf.basic", false),
-              })
-          .put(
-              "createXMLReader",
-              new Import[] {
-                new Import("createXMLReader", "org.xml.sax.helpers.XMLReaderFactory", true),
-              })
-          .put(
-              "reverse",
-              new Import[] {
-                new Import("reverse", "java.lang.Integer", true),
-                new Import("reverse", "java.lang.Long", true),
-                new Import("reverse", "java.util.Collections", true),
-              })
-          .put(
-              "getPercentInstance",
-              new Import[] {
-                new Import("getPercentInstance", "java.text.NumberFormat", true),
-              })
-          .put(
-              "IORInterceptor_3_0Helper",
-              new Import[] {
-                new Import("IORInterceptor_3_0Helper", "org.omg.PortableInterceptor", false),
-              })
-          .put(
-              "OptionalDouble",
-              new Import[] {
-                new Import("OptionalDouble", "java.util", false),
-              })
-          .put(
-              "getTranslateInstance",
-              new Import[] {
-                new Import("getTranslateInstance", "java.awt.geom.AffineTransform", true),
-              })
-          .put(
-              "KEY_LOCATION_RIGHT",
-              new Import[] {
-                new Import("KEY_LOCATION_RIGHT", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "COMPLETED_MAYBE",
-              new Import[] {
-                new Import("COMPLETED_MAYBE", "org.omg.CORBA.CompletionStatus", true),
-              })
-          .put(
-              "_RETAIN",
-              new Import[] {
-                new Import("_RETAIN", "org.omg.PortableServer.ServantRetentionPolicyValue", true),
-              })
-          .put(
-              "LongUnaryOperator",
-              new Import[] {
-                new Import("LongUnaryOperator", "java.util.function", false),
-              })
-          .put(
-              "NotFoundHolder",
-              new Import[] {
-                new Import("NotFoundHolder", "org.omg.CosNaming.NamingContextPackage", false),
-              })
-          .put(
-              "CLASS_DEVICELINK",
-              new Import[] {
-                new Import("CLASS_DEVICELINK", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "VK_QUOTE",
-              new Import[] {
-                new Import("VK_QUOTE", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "VOLATILE",
-              new Import[] {
-                new Import("VOLATILE", "java.lang.reflect.Modifier", true),
-              })
-          .put(
-              "ForwardRequest",
-              new Import[] {
-                new Import("ForwardRequest", "org.omg.PortableInterceptor", false),
-                new Import("ForwardRequest", "org.omg.PortableServer", false),
-              })
-          .put(
-              "CLASS_LOADING_MXBEAN_NAME",
-              new Import[] {
-                new Import(
-                    "CLASS_LOADING_MXBEAN_NAME", "java.lang.management.ManagementFactory", true),
-              })
-          .put(
-              "StyledDocument",
-              new Import[] {
-                new Import("StyledDocument", "javax.swing.text", false),
-              })
-          .put(
-              "SUBTREE_SCOPE",
-              new Import[] {
-                new Import("SUBTREE_SCOPE", "javax.naming.directory.SearchControls", true),
-                new Import("SUBTREE_SCOPE", "javax.naming.event.EventContext", true),
-              })
-          .put(
-              "XPathVariableResolver",
-              new Import[] {
-                new Import("XPathVariableResolver", "javax.xml.xpath", false),
-              })
-          .put(
-              "AbstractColorChooserPanel",
-              new Import[] {
-                new Import("AbstractColorChooserPanel", "javax.swing.colorchooser", false),
-              })
-          .put(
-              "CredentialException",
-              new Import[] {
-                new Import("CredentialException", "javax.security.auth.login", false),
-              })
-          .put(
-              "TEXT_LAST",
-              new Import[] {
-                new Import("TEXT_LAST", "java.awt.event.TextEvent", true),
-              })
-          .put(
-              "controlHighlight",
-              new Import[] {
-                new Import("controlHighlight", "java.awt.SystemColor", true),
-              })
-          .put(
-              "PasswordView",
-              new Import[] {
-                new Import("PasswordView", "javax.swing.text", false),
-              })
-          .put(
-              "TagElement",
-              new Import[] {
-                new Import("TagElement", "javax.swing.text.html.parser", false),
-              })
-          .put(
-              "KeySelectorException",
-              new Import[] {
-                new Import("KeySelectorException", "javax.xml.crypto", false),
-              })
-          .put(
-              "KerberosPrincipal",
-              new Import[] {
-                new Import("KerberosPrincipal", "javax.security.auth.kerberos", false),
-              })
-          .put(
-              "XMLNS_ATTRIBUTE_NS_URI",
-              new Import[] {
-                new Import("XMLNS_ATTRIBUTE_NS_URI", "javax.xml.XMLConstants", true),
-              })
-          .put(
-              "GIF",
-              new Import[] {
-                new Import("GIF", "javax.print.DocFlavor.BYTE_ARRAY", true),
-                new Import("GIF", "javax.print.DocFlavor.INPUT_STREAM", true),
-                new Import("GIF", "javax.print.DocFlavor.URL", true),
-              })
-          .put(
-              "INTERFACE_CLASS_NAME_FIELD",
-              new Import[] {
-                new Import("INTERFACE_CLASS_NAME_FIELD", "javax.management.JMX", true),
-              })
-          .put(
-              "isSupported",
-              new Import[] {
-                new Import("isSupported", "java.awt.SystemTray", true),
-                new Import("isSupported", "java.nio.charset.Charset", true),
-              })
-          .put(
-              "_dk_String",
-              new Import[] {
-                new Import("_dk_String", "org.omg.CORBA.DefinitionKind", true),
-              })
-          .put(
-              "nullsLast",
-              new Import[] {
-                new Import("nullsLast", "java.util.Comparator", true),
-              })
-          .put(
-              "MemoryPoolMXBean",
-              new Import[] {
-                new Import("MemoryPoolMXBean", "java.lang.management", false),
-              })
-          .put(
-              "JobImpressionsCompleted",
-              new Import[] {
-                new Import("JobImpressionsCompleted", "javax.print.attribute.standard", false),
-              })
-          .put(
-              "IDLTypeOperations",
-              new Import[] {
-                new Import("IDLTypeOperations", "org.omg.CORBA", false),
-              })
-          .put(
-              "AEGEAN_NUMBERS",
-              new Import[] {
-                new Import("AEGEAN_NUMBERS", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "ACTION_APPEND_AS_CHILDREN",
-              new Import[] {
-                new Import("ACTION_APPEND_AS_CHILDREN", "org.w3c.dom.ls.LSParser", true),
-              })
-          .put(
-              "LOADING",
-              new Import[] {
-                new Import("LOADING", "java.awt.MediaTracker", true),
-              })
-          .put(
-              "getSentenceInstance",
-              new Import[] {
-                new Import("getSentenceInstance", "java.text.BreakIterator", true),
-              })
-          .put(
-              "TransformerHandler",
-              new Import[] {
-                new Import("TransformerHandler", "javax.xml.transform.sax", false),
-              })
-          .put(
-              "JRadioButton",
-              new Import[] {
-                new Import("JRadioButton", "javax.swing", false),
-              })
-          .put(
-              "FORWARD_TRAVERSAL_KEYS",
-              new Import[] {
-                new Import("FORWARD_TRAVERSAL_KEYS", "java.awt.KeyboardFocusManager", true),
-              })
-          .put(
-              "values",
-              new Import[] {
-                new Import("values", "java.awt.Component.BaselineResizeBehavior", true),
-                new Import("values", "java.awt.Desktop.Action", true),
-                new Import("values", "java.awt.Dialog.ModalExclusionType", true),
-                new Import("values", "java.awt.Dialog.ModalityType", true),
-                new Import("values", "java.awt.GraphicsDevice.WindowTranslucency", true),
-                new Import("values", "java.awt.MultipleGradientPaint.ColorSpaceType", true),
-                new Import("values", "java.awt.MultipleGradientPaint.CycleMethod", true),
-                new Import("values", "java.awt.TrayIcon.MessageType", true),
-                new Import("values", "java.awt.Window.Type", true),
-                new Import("values", "java.awt.font.NumericShaper.Range", true),
-                new Import("values", "java.lang.Character.UnicodeScript", true),
-                new Import("values", "java.lang.ProcessBuilder.Redirect.Type", true),
-                new Import("values", "java.lang.Thread.State", true),
-                new Import("values", "java.lang.annotation.ElementType", true),
-                new Import("values", "java.lang.annotation.RetentionPolicy", true),
-                new Import("values", "java.lang.management.MemoryType", true),
-                new Import("values", "java.math.RoundingMode", true),
-                new Import("values", "java.net.StandardProtocolFamily", true),
-                new Import("values", "java.net.Authenticator.RequestorType", true),
-                new Import("values", "java.net.Proxy.Type", true),
-                new Import("values", "java.nio.file.AccessMode", true),
-                new Import("values", "java.nio.file.FileVisitOption", true),
-                new Import("values", "java.nio.file.FileVisitResult", true),
-                new Import("values", "java.nio.file.LinkOption", true),
-                new Import("values", "java.nio.file.StandardCopyOption", true),
-                new Import("values", "java.nio.file.StandardOpenOption", true),
-                new Import("values", "java.nio.file.attribute.AclEntryFlag", true),
-                new Import("values", "java.nio.file.attribute.AclEntryPermission", true),
-                new Import("values", "java.nio.file.attribute.AclEntryType", true),
-                new Import("values", "java.nio.file.attribute.PosixFilePermission", true),
-                new Import("values", "java.security.CryptoPrimitive", true),
-                new Import("values", "java.security.KeyRep.Type", true),
-                new Import("values", "java.security.cert.CRLReason", true),
-                new Import("values", "java.security.cert.PKIXReason", true),
-                new Import(
-                    "values", "java.security.cert.CertPathValidatorException.BasicReason", true),
-                new Import("values", "java.security.cert.PKIXRevocationChecker.Option", true),
-                new Import("values", "java.sql.ClientInfoStatus", true),
-                new Import("values", "java.sql.JDBCType", true),
-                new Import("values", "java.sql.PseudoColumnUsage", true),
-                new Import("values", "java.sql.RowIdLifetime", true),
-                new Import("values", "java.text.Normalizer.Form", true),
-                new Import("values", "java.time.DayOfWeek", true),
-                new Import("values", "java.time.Month", true),
-                new Import("values", "java.time.chrono.HijrahEra", true),
-                new Import("values", "java.time.chrono.IsoEra", true),
-                new Import("values", "java.time.chrono.JapaneseEra", true),
-                new Import("values", "java.time.chrono.MinguoEra", true),
-                new Import("values", "java.time.chrono.ThaiBuddhistEra", true),
-                new Import("values", "java.time.format.FormatStyle", true),
-                new Import("values", "java.time.format.ResolverStyle", true),
-                new Import("values", "java.time.format.SignStyle", true),
-                new Import("values", "java.time.format.TextStyle", true),
-                new Import("values", "java.time.temporal.ChronoField", true),
-                new Import("values", "java.time.temporal.ChronoUnit", true),
-                new Import(
-                    "values", "java.time.zone.ZoneOffsetTransitionRule.TimeDefinition", true),
-                new Import("values", "java.util.Formatter.BigDecimalLayoutForm", true),
-                new Import("values", "java.util.Locale.Category", true),
-                new Import("values", "java.util.Locale.FilteringMode", true),
-                new Import("values", "java.util.concurrent.TimeUnit", true),
-                new Import("values", "java.util.stream.Collector.Characteristics", true),
-                new Import("values", "javax.annotation.Resource.AuthenticationType", true),
-                new Import("values", "javax.jws.WebParam.Mode", true),
-                new Import("values", "javax.jws.soap.SOAPBinding.ParameterStyle", true),
-                new Import("values", "javax.jws.soap.SOAPBinding.Style", true),
-                new Import("values", "javax.jws.soap.SOAPBinding.Use", true),
-                new Import("values", "javax.lang.model.SourceVersion", true),
-                new Import("values", "javax.lang.model.element.ElementKind", true),
-                new Import("values", "javax.lang.model.element.Modifier", true),
-                new Import("values", "javax.lang.model.element.NestingKind", true),
-                new Import("values", "javax.lang.model.type.TypeKind", true),
-                new Import("values", "javax.net.ssl.SSLEngineResult.HandshakeStatus", true),
-                new Import("values", "javax.net.ssl.SSLEngineResult.Status", true),
-                new Import("values", "javax.swing.DropMode", true),
-                new Import("values", "javax.swing.SortOrder", true),
-                new Import("values", "javax.swing.GroupLayout.Alignment", true),
-                new Import("values", "javax.swing.JTable.PrintMode", true),
-                new Import("values", "javax.swing.LayoutStyle.ComponentPlacement", true),
-                new Import("values", "javax.swing.RowFilter.ComparisonType", true),
-                new Import("values", "javax.swing.SwingWorker.StateValue", true),
-                new Import("values", "javax.swing.event.RowSorterEvent.Type", true),
-                new Import(
-                    "values",
-                    "javax.swing.plaf.nimbus.AbstractRegionPainter.PaintContext.CacheMode",
-                    true),
-                new Import("values", "javax.swing.text.html.FormSubmitEvent.MethodType", true),
-                new Import("values", "javax.tools.StandardLocation", true),
-                new Import("values", "javax.tools.Diagnostic.Kind", true),
-                new Import("values", "javax.tools.DocumentationTool.Location", true),
-                new Import("values", "javax.tools.JavaFileObject.Kind", true),
-                new Import("values", "javax.xml.bind.annotation.XmlAccessOrder", true),
-                new Import("values", "javax.xml.bind.annotation.XmlAccessType", true),
-                new Import("values", "javax.xml.bind.annotation.XmlNsForm", true),
-                new Import("values", "javax.xml.ws.Service.Mode", true),
-                new Import("values", "javax.xml.ws.handler.MessageContext.Scope", true),
-                new Import("values", "javax.xml.ws.soap.AddressingFeature.Responses", true),
-              })
-          .put(
-              "POLICY_PASS_CREDENTIALS",
-              new Import[] {
-                new Import("POLICY_PASS_CREDENTIALS", "javax.security.sasl.Sasl", true),
-              })
-          .put(
-              "LATIN_EXTENDED_ADDITIONAL",
-              new Import[] {
-                new Import("LATIN_EXTENDED_ADDITIONAL", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "MultiScrollPaneUI",
-              new Import[] {
-                new Import("MultiScrollPaneUI", "javax.swing.plaf.multi", false),
-              })
-          .put(
-              "VALUE_TEXT_ANTIALIAS_OFF",
-              new Import[] {
-                new Import("VALUE_TEXT_ANTIALIAS_OFF", "java.awt.RenderingHints", true),
-              })
-          .put(
-              "DestinationType",
-              new Import[] {
-                new Import("DestinationType", "java.awt.JobAttributes", false),
-              })
-          .put(
-              "HOUR_OF_DAY",
-              new Import[] {
-                new Import("HOUR_OF_DAY", "java.util.Calendar", true),
-              })
-          .put(
-              "CANCELED",
-              new Import[] {
-                new Import("CANCELED", "javax.print.attribute.standard.JobState", true),
-              })
-          .put(
-              "SQLTimeoutException",
-              new Import[] {
-                new Import("SQLTimeoutException", "java.sql", false),
-              })
-          .put(
-              "ENV_MONARCH",
-              new Import[] {
-                new Import("ENV_MONARCH", "java.awt.PageAttributes.MediaType", true),
-              })
-          .put(
-              "UnsupportedCallbackException",
-              new Import[] {
-                new Import("UnsupportedCallbackException", "javax.security.auth.callback", false),
-              })
-          .put(
-              "VK_NUMPAD7",
-              new Import[] {
-                new Import("VK_NUMPAD7", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "DefaultPainter",
-              new Import[] {
-                new Import("DefaultPainter", "javax.swing.text.DefaultHighlighter", true),
-              })
-          .put(
-              "VK_NUMPAD8",
-              new Import[] {
-                new Import("VK_NUMPAD8", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "singletonKeySelector",
-              new Import[] {
-                new Import("singletonKeySelector", "javax.xml.crypto.KeySelector", true),
-              })
-          .put(
-              "VK_NUMPAD9",
-              new Import[] {
-                new Import("VK_NUMPAD9", "java.awt.event.KeyEvent", true),
-              })
-          .put(
-              "Highlighter",
-              new Import[] {
-                new Import("Highlighter", "javax.swing.text", false),
-              })
-          .put(
-              "REF_getField",
-              new Import[] {
-                new Import("REF_getField", "java.lang.invoke.MethodHandleInfo", true),
-              })
-          .put(
-              "CompoundName",
-              new Import[] {
-                new Import("CompoundName", "javax.naming", false),
-              })
-          .put(
-              "getPrinterJob",
-              new Import[] {
-                new Import("getPrinterJob", "java.awt.print.PrinterJob", true),
-              })
-          .put(
-              "icHdrCmmId",
-              new Import[] {
-                new Import("icHdrCmmId", "java.awt.color.ICC_Profile", true),
-              })
-          .put(
-              "VetoableChangeListener",
-              new Import[] {
-                new Import("VetoableChangeListener", "java.beans", false),
-              })
-          .put(
-              "XA_RBTIMEOUT",
-              new Import[] {
-                new Import("XA_RBTIMEOUT", "javax.transaction.xa.XAException", true),
-              })
-          .put(
-              "MODE_ASYNCHRONOUS",
-              new Import[] {
-                new Import("MODE_ASYNCHRONOUS", "org.w3c.dom.ls.DOMImplementationLS", true),
-              })
-          .put(
-              "CS_GRAY",
-              new Import[] {
-                new Import("CS_GRAY", "java.awt.color.ColorSpace", true),
-              })
-          .put(
-              "TAG_MAXP",
-              new Import[] {
-                new Import("TAG_MAXP", "java.awt.font.OpenType", true),
-              })
-          .put(
-              "OpenOption",
-              new Import[] {
-                new Import("OpenOption", "java.nio.file", false),
-              })
-          .put(
-              "StringCharacterIterator",
-              new Import[] {
-                new Import("StringCharacterIterator", "java.text", false),
-              })
-          .put(
-              "FRAME_CONTENT_LAYER",
-              new Import[] {
-                new Import("FRAME_CONTENT_LAYER", "javax.swing.JLayeredPane", true),
-              })
-          .put(
-              "invalidateAll",
-              new Import[] {
-                new Import("invalidateAll", "java.lang.invoke.SwitchPoint", true),
-              })
-          .put(
-              "Timer",
-              new Import[] {
-                new Import("Timer", "java.util", false),
-                new Import("Timer", "javax.management.timer", false),
-                new Import("Timer", "javax.swing", false),
-              })
-          .put(
-              "PKCS8EncodedKeySpec",
-              new Import[] {
-                new Import("PKCS8EncodedKeySpec", "java.security.spec", false),
-              })
-          .put(
-              "VARIATION_SELECTORS_SUPPLEMENT",
-              new Import[] {
-                new Import(
-                    "VARIATION_SELECTORS_SUPPLEMENT", "java.lang.Character.UnicodeBlock", true),
-              })
-          .put(
-              "setFileNameMap",
-              new Import[] {
-                new Import("setFileNameMap", "java.net.URLConnection", true),
-              })
-          .put(
-              "ISMAP",
-              new Import[] {
-                new Import("ISMAP", "javax.swing.text.html.HTML.Attribute", true),
-              })
-          .put(
-              "getBackground",
-              new Import[] {
-                new Import("getBackground", "javax.swing.text.StyleConstants", true),
-              })
-          .build();
-}
@@ -0,0 +1,45 @@
+package com.nikodoko.javaimports;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+public class ExecutionStrategyTest {
+  @Test
+  void testThatOwnedExecutorIsShutDownOnClose() {
+    var options = Options.builder().execution(ExecutionStrategy.fixed(2)).build();
+
+    options.close();
+
+    assertThat(((ExecutorService) options.executor()).isShutdown()).isTrue();
+  }
+
+  @Test
+  void testThatSuppliedExecutorIsNotShutDownOnClose() {
+    var supplied = Executors.newSingleThreadExecutor();
+    var options = Options.builder().execution(ExecutionStrategy.of(supplied)).build();
+
+    options.close();
+
+    assertThat(supplied.isShutdown()).isFalse();
+    supplied.shutdown();
+  }
+
+  @Test
+  void testThatVirtualThreadsStrategyRunsTasks() {
+    var options = Options.builder().execution(ExecutionStrategy.virtualThreads()).build();
+    try {
+      var ran = new boolean[1];
+      var task = CompletableFuture.runAsync(() -> ran[0] = true, options.executor());
+
+      task.join();
+
+      assertThat(ran[0]).isTrue();
+    } finally {
+      options.close();
+    }
+  }
+}
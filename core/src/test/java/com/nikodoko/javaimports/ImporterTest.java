@@ -0,0 +1,189 @@
+package com.nikodoko.javaimports;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.nikodoko.javaimports.parser.Import;
+import com.nikodoko.javaimports.stdlib.FakeStdlibProvider;
+import com.nikodoko.javaimports.stdlib.StdlibProviders;
+import com.nikodoko.packagetest.BuildSystem;
+import com.nikodoko.packagetest.Export;
+import com.nikodoko.packagetest.Exported;
+import com.nikodoko.packagetest.Module;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ImporterTest {
+  Exported project;
+  @TempDir Path cache;
+
+  @AfterEach
+  void cleanup() throws Exception {
+    project.cleanup();
+  }
+
+  @Test
+  void testThatExceededTimeBudgetGivesBestEffortResult() throws Exception {
+    String main = "package test.module; public class Main { List<Helper> helpers; }";
+    Module module =
+        Module.named("test.module")
+            .containing(
+                Module.file("Main.java", main),
+                Module.file("Helper.java", "package test.module; public class Helper {}"));
+    project = Export.of(BuildSystem.MAVEN, module);
+    Path target = project.file(module.name(), "Main.java").get();
+    Options options =
+        Options.builder()
+            .stdlib(FakeStdlibProvider.of(new Import("List", "java.util", false)))
+            .timeBudget(Duration.ZERO)
+            .build();
+
+    String got = new Importer(options).addUsedImports(target, main);
+
+    assertThat(got)
+        .isEqualTo(
+            "package test.module;import java.util.List; public class Main { List<Helper>"
+                + " helpers; }");
+  }
+
+  @Test
+  void testThatFailedEnvironmentIsNotReportedAsExceedingTimeBudget() throws Exception {
+    String main = "package test.module; public class Main { Helper helper; }";
+    Module module =
+        Module.named("test.module")
+            .containing(
+                Module.file("Main.java", main),
+                Module.file("other/Helper.java", "package test.module.other; class Helper {}"));
+    project = Export.of(BuildSystem.MAVEN, module);
+    Path target = project.file(module.name(), "Main.java").get();
+    // Loading the environment fails, as it cannot submit anything
+    Executor rejecting =
+        r -> {
+          throw new RejectedExecutionException("rejected");
+        };
+    Options options =
+        Options.builder()
+            .stdlib(StdlibProviders.empty())
+            .execution(ExecutionStrategy.of(rejecting))
+            .timeBudget(Duration.ofMinutes(1))
+            .build();
+
+    assertThrows(
+        RejectedExecutionException.class,
+        () -> new Importer(options).addUsedImports(target, main));
+  }
+
+  @Test
+  void testThatSiblingsOfOtherPackagesAreNotParsed() throws Exception {
+    String main = "package test.module; public class Main { Helper helper; }";
+    Module module =
+        Module.named("test.module")
+            .containing(
+                Module.file("Main.java", main),
+                Module.file("Helper.java", "package test.module; public class Helper {}"),
+                Module.file("Broken.java", "package test.other; public class Broken {"));
+    project = Export.of(BuildSystem.MAVEN, module);
+    Path target = project.file(module.name(), "Main.java").get();
+
+    String got = new Importer(Options.defaults()).addUsedImports(target, main);
+
+    assertThat(got).isEqualTo(main);
+  }
+
+  @Test
+  void testThatStatsAreRecordedWhenEnabled() throws Exception {
+    String main = "package test.module; public class Main { Helper helper; }";
+    Module module =
+        Module.named("test.module")
+            .containing(
+                Module.file("Main.java", main),
+                Module.file("Helper.java", "package test.module; public class Helper {}"));
+    project = Export.of(BuildSystem.MAVEN, module);
+    Path target = project.file(module.name(), "Main.java").get();
+    Importer importer = new Importer(Options.builder().stats(Stats.create()).build());
+
+    importer.addUsedImports(target, main);
+
+    Stats got = importer.stats();
+    assertThat(got.timing(Stats.Phase.PARSE_TARGET).count()).isEqualTo(1);
+    assertThat(got.timing(Stats.Phase.PARSE_SIBLINGS).count()).isEqualTo(1);
+    assertThat(got.timing(Stats.Phase.APPLY_FIXES).count()).isEqualTo(1);
+    // The project may also be parsed in the background, depending on timing
+    assertThat(got.count(Stats.Counter.FILES_PARSED)).isAtLeast(2);
+  }
+
+  @Test
+  void testThatResultsAreReusedWhenNothingChanged() throws Exception {
+    String main = "package test.module; public class Main { Helper helper; }";
+    Module module =
+        Module.named("test.module")
+            .containing(
+                Module.file("Main.java", main),
+                Module.file("Helper.java", "package test.module; public class Helper {}"));
+    project = Export.of(BuildSystem.MAVEN, module);
+    Path target = project.file(module.name(), "Main.java").get();
+    new Importer(Options.builder().cache(cache).build()).addUsedImports(target, main);
+    Importer importer = new Importer(Options.builder().cache(cache).stats(Stats.create()).build());
+
+    String got = importer.addUsedImports(target, main);
+
+    assertThat(got).isEqualTo(main);
+    assertThat(importer.stats().count(Stats.Counter.RESULTS_REUSED)).isEqualTo(1);
+    assertThat(importer.stats().count(Stats.Counter.FILES_PARSED)).isEqualTo(0);
+  }
+
+  @Test
+  void testThatResultsAreNotReusedWhenSiblingsChange() throws Exception {
+    String main = "package test.module; public class Main { Helper helper; }";
+    Module module =
+        Module.named("test.module")
+            .containing(
+                Module.file("Main.java", main),
+                Module.file("Helper.java", "package test.module; public class Helper {}"));
+    project = Export.of(BuildSystem.MAVEN, module);
+    Path target = project.file(module.name(), "Main.java").get();
+    new Importer(Options.builder().cache(cache).build()).addUsedImports(target, main);
+    Files.writeString(
+        project.file(module.name(), "Helper.java").get(),
+        "package test.module; public class Helper { int i; }");
+    Importer importer = new Importer(Options.builder().cache(cache).stats(Stats.create()).build());
+
+    importer.addUsedImports(target, main);
+
+    assertThat(importer.stats().count(Stats.Counter.RESULTS_REUSED)).isEqualTo(0);
+  }
+
+  @Test
+  void testThatResultsDependingOnTheEnvironmentAreNotReusedWhenTheProjectChanges()
+      throws Exception {
+    String main = "package test.module; public class Main { List<String> strings; }";
+    Module module =
+        Module.named("test.module")
+            .containing(
+                Module.file("Main.java", main),
+                Module.file("other/Other.java", "package test.module.other; class Other {}"));
+    project = Export.of(BuildSystem.MAVEN, module);
+    Path target = project.file(module.name(), "Main.java").get();
+    Options.Builder options = Options.builder().cache(cache).stdlib(StdlibProviders.java8());
+    String fixed = new Importer(options.build()).addUsedImports(target, main);
+    Importer reusing = new Importer(options.stats(Stats.create()).build());
+    Importer notReusing = new Importer(options.stats(Stats.create()).build());
+
+    String got = reusing.addUsedImports(target, main);
+    Files.writeString(
+        project.file(module.name(), "other/Other.java").get().resolveSibling("List.java"),
+        "package test.module.other; public class List {}");
+    notReusing.addUsedImports(target, main);
+
+    assertThat(got).isEqualTo(fixed);
+    assertThat(got).contains("import java.util.List;");
+    assertThat(reusing.stats().count(Stats.Counter.RESULTS_REUSED)).isEqualTo(1);
+    assertThat(notReusing.stats().count(Stats.Counter.RESULTS_REUSED)).isEqualTo(0);
+  }
+}
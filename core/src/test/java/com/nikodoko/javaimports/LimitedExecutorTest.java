@@ -0,0 +1,47 @@
+package com.nikodoko.javaimports;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class LimitedExecutorTest {
+  ExecutorService pool = Executors.newFixedThreadPool(8);
+
+  @AfterEach
+  void cleanup() {
+    pool.shutdown();
+  }
+
+  @Test
+  void testThatLimitIsNeverExceeded() throws Exception {
+    var executor = new LimitedExecutor(pool, 2);
+    var running = new AtomicInteger();
+    var maxRunning = new AtomicInteger();
+    List<CompletableFuture<Void>> tasks = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      tasks.add(
+          CompletableFuture.runAsync(
+              () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                  Thread.sleep(2);
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+              },
+              executor));
+    }
+
+    CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+
+    assertThat(maxRunning.get()).isAtMost(2);
+  }
+}
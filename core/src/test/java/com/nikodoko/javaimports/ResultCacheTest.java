@@ -0,0 +1,35 @@
+package com.nikodoko.javaimports;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ResultCacheTest {
+  @TempDir Path cache;
+
+  @Test
+  void testThatUnusedEntriesArePruned() throws Exception {
+    var results = ResultCache.in(cache);
+    var entry = new ResultCache.Entry(ResultCache.Stage.FILE, "", "class A {}");
+    results.write(Path.of("/old/A.java"), "class A {}", entry);
+    results.write(Path.of("/used/A.java"), "class A {}", entry);
+    var monthsAgo = FileTime.from(Instant.now().minus(Duration.ofDays(60)));
+    for (var file : Files.list(cache.resolve("results")).collect(Collectors.toList())) {
+      Files.setLastModifiedTime(file, monthsAgo);
+    }
+    results.touch(Path.of("/used/A.java"));
+
+    results.write(Path.of("/new/A.java"), "class A {}", entry);
+
+    assertThat(results.read(Path.of("/old/A.java"), "class A {}").isPresent()).isFalse();
+    assertThat(results.read(Path.of("/used/A.java"), "class A {}").isPresent()).isTrue();
+    assertThat(results.read(Path.of("/new/A.java"), "class A {}").isPresent()).isTrue();
+  }
+}
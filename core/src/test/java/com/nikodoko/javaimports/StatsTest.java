@@ -0,0 +1,94 @@
+package com.nikodoko.javaimports;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.StringWriter;
+import org.junit.jupiter.api.Test;
+
+public class StatsTest {
+  @Test
+  void testThatDisabledStatsRecordNothing() {
+    var stats = Stats.disabled();
+
+    try (var span = stats.start(Stats.Phase.PARSE_TARGET)) {
+      stats.increment(Stats.Counter.FILES_PARSED);
+    }
+
+    assertThat(stats.timing(Stats.Phase.PARSE_TARGET).count()).isEqualTo(0);
+    assertThat(stats.count(Stats.Counter.FILES_PARSED)).isEqualTo(0);
+  }
+
+  @Test
+  void testThatSpansAreRecordedByPhase() {
+    var stats = Stats.create();
+
+    for (int i = 0; i < 3; i++) {
+      try (var span = stats.start(Stats.Phase.LOAD_JAR)) {
+        stats.increment(Stats.Counter.JARS_SCANNED);
+      }
+    }
+
+    var timing = stats.timing(Stats.Phase.LOAD_JAR);
+    assertThat(timing.count()).isEqualTo(3);
+    assertThat(timing.totalNanos()).isAtLeast(timing.maxNanos());
+    assertThat(timing.percentileNanos(50)).isAtMost(timing.maxNanos());
+    assertThat(stats.count(Stats.Counter.JARS_SCANNED)).isEqualTo(3);
+    assertThat(stats.timing(Stats.Phase.FORMAT).count()).isEqualTo(0);
+  }
+
+  @Test
+  void testThatReportContainsAllPhasesAndCounters() {
+    var stats = Stats.create();
+    stats.add(Stats.Counter.CACHE_HITS, 4);
+
+    var got = stats.toJson();
+
+    for (var phase : Stats.Phase.values()) {
+      assertThat(got).contains("\"" + phase.name().toLowerCase() + "\": {\"count\": 0");
+    }
+    assertThat(got).contains("\"cache_hits\": 4");
+    assertThat(got).contains("\"files_parsed\": 0");
+  }
+
+  @Test
+  void testThatTraceContainsSpansOnTheirThreads() throws Exception {
+    var stats = Stats.tracing();
+    Thread worker =
+        new Thread(
+            () -> {
+              try (var span = stats.start(Stats.Phase.LOAD_JAR, "lib \"1\".jar")) {}
+            },
+            "some-worker");
+
+    try (var span = stats.start(Stats.Phase.PARSE_TARGET, "Main.java")) {
+      worker.start();
+      worker.join();
+    }
+    var got = new StringWriter();
+    stats.writeTrace(got);
+
+    assertThat(got.toString()).startsWith("{\"displayTimeUnit\": \"ms\", \"traceEvents\": [");
+    assertThat(got.toString())
+        .contains(
+            String.format("\"tid\": %d, \"args\": {\"name\": \"some-worker\"}", worker.getId()));
+    assertThat(got.toString())
+        .containsMatch(String.format("\"name\": \"load_jar\", [^}]* \"tid\": %d,", worker.getId()));
+    assertThat(got.toString()).contains("\"args\": {\"detail\": \"lib \\\"1\\\".jar\"}");
+    assertThat(got.toString())
+        .containsMatch(
+            String.format(
+                "\"name\": \"parse_target\", [^}]* \"tid\": %d,", Thread.currentThread().getId()));
+    assertThat(stats.timing(Stats.Phase.LOAD_JAR).count()).isEqualTo(1);
+  }
+
+  @Test
+  void testThatTraceIsEmptyWhenNotTracing() throws Exception {
+    var stats = Stats.create();
+    try (var span = stats.start(Stats.Phase.PARSE_TARGET, "Main.java")) {}
+
+    var got = new StringWriter();
+    stats.writeTrace(got);
+
+    assertThat(got.toString()).isEqualTo("{\"displayTimeUnit\": \"ms\", \"traceEvents\": [\n]}\n");
+  }
+}
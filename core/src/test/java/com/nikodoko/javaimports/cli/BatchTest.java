@@ -0,0 +1,115 @@
+package com.nikodoko.javaimports.cli;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.Stats;
+import com.nikodoko.javaimports.environment.maven.EnvironmentCache;
+import com.nikodoko.javaimports.stdlib.StdlibProviders;
+import com.nikodoko.packagetest.BuildSystem;
+import com.nikodoko.packagetest.Export;
+import com.nikodoko.packagetest.Exported;
+import com.nikodoko.packagetest.Module;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BatchTest {
+  Module module;
+  Exported project;
+
+  @BeforeEach
+  void setup() throws Exception {
+    module =
+        Module.named("test.module")
+            .containing(
+                Module.file("Main.java", "package test.module; public class Main { Second s; }"),
+                Module.file("Other.java", "package test.module; public class Other { Second s; }"),
+                Module.file("broken/Broken.java", "package test.module.broken; public class"),
+                Module.file(
+                    "second/Second.java", "package test.module.second; public class Second {}"));
+    project = Export.of(BuildSystem.MAVEN, module);
+  }
+
+  @AfterEach
+  void cleanup() throws Exception {
+    project.cleanup();
+  }
+
+  @Test
+  void testThatAllFilesAreFixedInPlace() throws Exception {
+    Path main = project.file(module.name(), "Main.java").get();
+    Path other = project.file(module.name(), "Other.java").get();
+    Path second = project.file(module.name(), "second/Second.java").get();
+    var options =
+        Options.builder()
+            .stdlib(StdlibProviders.empty())
+            .numThreads(2)
+            .environments(EnvironmentCache.unbounded())
+            .build();
+    var err = new StringWriter();
+
+    var report = new Batch(options, s -> s, new PrintWriter(err)).run(List.of(main, other, second));
+
+    assertThat(report.files).isEqualTo(3);
+    assertThat(report.changed).isEqualTo(2);
+    assertThat(report.failed).isEqualTo(0);
+    assertThat(read(main)).contains("import test.module.second.Second;");
+    assertThat(read(other)).contains("import test.module.second.Second;");
+  }
+
+  @Test
+  void testThatFailuresAreReported() throws Exception {
+    Path broken = project.file(module.name(), "broken/Broken.java").get();
+    var err = new StringWriter();
+
+    var report = new Batch(Options.defaults(), s -> s, new PrintWriter(err)).run(List.of(broken));
+
+    assertThat(report.failed).isEqualTo(1);
+    assertThat(err.toString()).contains("Broken.java");
+  }
+
+  @Test
+  void testThatDirectoriesAndGlobsAreExpanded() throws Exception {
+    Path main = project.file(module.name(), "Main.java").get();
+    Path second = project.file(module.name(), "second/Second.java").get();
+    Path root = main.getParent();
+
+    assertThat(Batch.expand(List.of(root.toString()))).hasSize(4);
+    assertThat(Batch.expand(List.of(root + "/**/*.java")))
+        .containsExactly(second, root.resolve("broken/Broken.java"));
+    assertThat(Batch.expand(List.of(root + "/M*.java", main.toString()))).containsExactly(main);
+  }
+
+  @Test
+  void testThatSiblingsAreOnlyParsedOnce(@TempDir Path directory) throws Exception {
+    var files = new ArrayList<Path>();
+    for (int i = 0; i < 10; i++) {
+      var file = directory.resolve("File" + i + ".java");
+      Files.write(file, ("package a; class File" + i + " { Shared s; }").getBytes(UTF_8));
+      files.add(file);
+    }
+    Files.write(directory.resolve("Shared.java"), "package a; class Shared {}".getBytes(UTF_8));
+    var stats = Stats.create();
+    var options =
+        Options.builder().stdlib(StdlibProviders.empty()).numThreads(4).stats(stats).build();
+
+    var report = new Batch(options, s -> s, new PrintWriter(new StringWriter())).run(files);
+
+    assertThat(report.failed).isEqualTo(0);
+    // Each file as the one to fix, and each file as a sibling of the others
+    assertThat(stats.count(Stats.Counter.FILES_PARSED)).isAtMost(2 * files.size() + 1);
+  }
+
+  private static String read(Path file) throws Exception {
+    return new String(Files.readAllBytes(file), UTF_8);
+  }
+}
@@ -0,0 +1,37 @@
+package com.nikodoko.javaimports.common;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import org.junit.jupiter.api.Test;
+
+public class CancellationTokenTest {
+  @Test
+  void testThatTokenIsCancelledOnDemand() {
+    var token = CancellationToken.create();
+    assertThat(token.isCancelled()).isFalse();
+
+    token.cancel();
+
+    assertThat(token.isCancelled()).isTrue();
+    assertThrows(CancellationException.class, token::throwIfCancelled);
+  }
+
+  @Test
+  void testThatTokenIsCancelledAfterTimeout() {
+    assertThat(CancellationToken.withTimeout(Duration.ZERO).isCancelled()).isTrue();
+    assertThat(CancellationToken.withTimeout(Duration.ofHours(1)).isCancelled()).isFalse();
+  }
+
+  @Test
+  void testThatNoneIsNeverCancelled() {
+    var token = CancellationToken.none();
+    token.cancel();
+
+    assertThat(token.isCancelled()).isFalse();
+    assertThat(token.remaining()).isEmpty();
+  }
+}
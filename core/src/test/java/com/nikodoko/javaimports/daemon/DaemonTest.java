@@ -0,0 +1,172 @@
+package com.nikodoko.javaimports.daemon;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.environment.maven.EnvironmentCache;
+import com.nikodoko.javaimports.stdlib.StdlibProviders;
+import com.nikodoko.packagetest.BuildSystem;
+import com.nikodoko.packagetest.Export;
+import com.nikodoko.packagetest.Exported;
+import com.nikodoko.packagetest.Module;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DaemonTest {
+  @TempDir Path state;
+  Path tokenFile;
+  Exported project;
+  EnvironmentCache environments;
+  Daemon daemon;
+  Thread serving;
+
+  @BeforeEach
+  void setup() throws Exception {
+    environments = new EnvironmentCache(1024 * 1024 * 1024, Duration.ofMinutes(1));
+    tokenFile = state.resolve("daemon.token");
+    daemon =
+        Daemon.listen(
+            0,
+            Options.builder().stdlib(StdlibProviders.empty()).environments(environments).build(),
+            tokenFile,
+            Duration.ofMillis(500));
+    serving =
+        new Thread(
+            () -> {
+              try {
+                daemon.serve();
+              } catch (Exception e) {
+                throw new RuntimeException(e);
+              }
+            });
+    serving.start();
+  }
+
+  @AfterEach
+  void cleanup() throws Exception {
+    daemon.close();
+    serving.join();
+    project.cleanup();
+  }
+
+  @Test
+  void testThatProjectIsKeptAndRefreshedBetweenRequests() throws Exception {
+    Module module =
+        Module.named("test.module")
+            .containing(
+                Module.file("Main.java", "package test.module; public class Main {}"),
+                Module.file(
+                    "second/Second.java", "package test.module.second; public class Second {}"));
+    project = Export.of(BuildSystem.MAVEN, module);
+    Path target = project.file(module.name(), "Main.java").get();
+    var client = new DaemonClient(daemon.port(), tokenFile);
+
+    var got =
+        client.fix(target, "package test.module; public class Main { Second s; }", true).output();
+    assertThat(got).contains("import test.module.second.Second;");
+    assertThat(environments.size()).isEqualTo(1);
+
+    Path second = project.file(module.name(), "second/Second.java").get();
+    Files.write(
+        second.resolveSibling("Third.java"),
+        "package test.module.second; public class Third {}".getBytes(UTF_8));
+    got = client.fix(target, "package test.module; public class Main { Third t; }", true).output();
+    assertThat(got).contains("import test.module.second.Third;");
+    assertThat(environments.size()).isEqualTo(1);
+  }
+
+  @Test
+  void testThatErrorsAreReported() throws Exception {
+    Module module =
+        Module.named("test.module")
+            .containing(Module.file("Main.java", "package test.module; public class Main {}"));
+    project = Export.of(BuildSystem.MAVEN, module);
+    Path target = project.file(module.name(), "Main.java").get();
+
+    var got =
+        new DaemonClient(daemon.port(), tokenFile)
+            .fix(target, "package test.module; public class", true);
+    assertThat(got.failed()).isTrue();
+    assertThat(got.messages()).isNotEmpty();
+  }
+
+  @Test
+  void testThatStalledClientsDoNotBlockOthers() throws Exception {
+    Module module =
+        Module.named("test.module")
+            .containing(Module.file("Main.java", "package test.module; public class Main {}"));
+    project = Export.of(BuildSystem.MAVEN, module);
+    Path target = project.file(module.name(), "Main.java").get();
+
+    try (var stalled = new Socket(InetAddress.getLoopbackAddress(), daemon.port())) {
+      var got =
+          new DaemonClient(daemon.port(), tokenFile)
+              .fix(target, "package test.module; class Main {}", true);
+      assertThat(got.failed()).isFalse();
+
+      var response =
+          Protocol.Response.read(
+              new DataInputStream(new BufferedInputStream(stalled.getInputStream())));
+      assertThat(response.status).isEqualTo(Protocol.FAILED);
+    }
+  }
+
+  @Test
+  void testThatRequestsWithAnInvalidTokenAreRejected() throws Exception {
+    Module module =
+        Module.named("test.module")
+            .containing(Module.file("Main.java", "package test.module; public class Main {}"));
+    project = Export.of(BuildSystem.MAVEN, module);
+    Path target = project.file(module.name(), "Main.java").get();
+    Path otherToken = state.resolve("other.token");
+    Files.write(otherToken, "not the token".getBytes(UTF_8));
+
+    var got =
+        new DaemonClient(daemon.port(), otherToken)
+            .fix(target, "package test.module; class Main {}", true);
+
+    assertThat(got.failed()).isTrue();
+    assertThat(got.messages()).containsExactly("invalid token");
+    if (Files.getFileStore(tokenFile).supportsFileAttributeView("posix")) {
+      assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(tokenFile)))
+          .isEqualTo("rw-------");
+    }
+  }
+
+  @Test
+  void testThatInvalidLengthsDoNotStopTheDaemon() throws Exception {
+    Module module =
+        Module.named("test.module")
+            .containing(Module.file("Main.java", "package test.module; public class Main {}"));
+    project = Export.of(BuildSystem.MAVEN, module);
+    Path target = project.file(module.name(), "Main.java").get();
+
+    for (int length : new int[] {-1, Integer.MAX_VALUE}) {
+      try (var invalid = new Socket(InetAddress.getLoopbackAddress(), daemon.port())) {
+        var out = new DataOutputStream(invalid.getOutputStream());
+        out.writeInt(Protocol.VERSION);
+        out.writeInt(length);
+        out.flush();
+        // The daemon closes the connection without answering
+        assertThat(invalid.getInputStream().read()).isEqualTo(-1);
+      }
+    }
+
+    var got =
+        new DaemonClient(daemon.port(), tokenFile)
+            .fix(target, "package test.module; class Main {}", true);
+    assertThat(got.failed()).isFalse();
+  }
+}
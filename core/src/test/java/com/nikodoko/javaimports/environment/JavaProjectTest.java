@@ -0,0 +1,44 @@
+package com.nikodoko.javaimports.environment;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.nikodoko.javaimports.common.CommonTestUtil.anImport;
+
+import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.common.Identifier;
+import com.nikodoko.javaimports.parser.ParsedFile;
+import com.nikodoko.javaimports.parser.Parser;
+import java.nio.file.Paths;
+import org.junit.jupiter.api.Test;
+
+public class JavaProjectTest {
+  @Test
+  void testThatFilesDeclaringAnIdentifierAreIndexed() throws Exception {
+    var first =
+        parse("First.java", "package a; public class First { public static class Inner {} }");
+    var second = parse("Second.java", "package b; public class Second { class Inner {} }");
+    var project = new JavaProject();
+    project.add(first);
+    project.add(second);
+
+    assertThat(project.filesDeclaring(new Identifier("First"))).containsExactly(first);
+    assertThat(project.filesDeclaring(new Identifier("Inner"))).containsExactly(first, second);
+    assertThat(first.findImportables(new Identifier("Inner")))
+        .containsExactly(anImport("a.First.Inner"));
+    assertThat(project.filesDeclaring(new Identifier("Third"))).isEmpty();
+  }
+
+  @Test
+  void testThatRemovedFilesAreNotIndexedAnymore() throws Exception {
+    var first = parse("First.java", "package a; public class First {}");
+    var project = new JavaProject();
+    project.add(first);
+    project.remove(first);
+
+    assertThat(project.filesDeclaring(new Identifier("First"))).isEmpty();
+    assertThat(project.filesInPackage("a")).isEmpty();
+  }
+
+  private static ParsedFile parse(String filename, String source) throws Exception {
+    return new Parser(Options.defaults()).parse(Paths.get(filename), source).get();
+  }
+}
@@ -0,0 +1,56 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MavenDependencyCacheTest {
+  static final URL repositoryURL = MavenDependencyCacheTest.class.getResource("/testrepository");
+  static final String JAR = "com/mycompany/app/a-dependency/1.0/a-dependency-1.0.jar";
+
+  @TempDir Path cacheDir;
+  @TempDir Path jarDir;
+  Path jar;
+
+  @BeforeEach
+  void setup() throws Exception {
+    // Work on a copy so that we can modify the jar
+    jar = jarDir.resolve("a-dependency-1.0.jar");
+    Files.copy(Paths.get(repositoryURL.toURI()).resolve(JAR), jar);
+  }
+
+  @Test
+  void testIndexIsReused() throws Exception {
+    var expected = MavenDependencyLoader.load(jar);
+
+    var first = MavenDependencyCache.in(cacheDir);
+    assertThat(first.load(jar)).containsExactlyElementsIn(expected);
+    assertThat(first.misses()).isEqualTo(1);
+
+    // A new cache simulates a new run
+    var second = MavenDependencyCache.in(cacheDir);
+    assertThat(second.load(jar)).containsExactlyElementsIn(expected);
+    assertThat(second.hits()).isEqualTo(1);
+    assertThat(second.misses()).isEqualTo(0);
+  }
+
+  @Test
+  void testIndexIsInvalidatedWhenJarChanges() throws Exception {
+    var cache = MavenDependencyCache.in(cacheDir);
+    cache.load(jar);
+
+    Files.setLastModifiedTime(
+        jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 1000));
+    cache.load(jar);
+
+    assertThat(cache.misses()).isEqualTo(2);
+    assertThat(cache.hits()).isEqualTo(0);
+  }
+}
@@ -51,6 +51,15 @@ class MavenDependencyLoaderTest {
     assertThat(got).containsExactlyElementsIn(expected);
   }
 
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("jarPathProvider")
+  void testEnginesAgree(String name, String jarPath, List<Import> unused) throws Exception {
+    var jar = repository.resolve(jarPath);
+    var streamed = MavenDependencyLoader.load(jar, MavenDependencyLoader.Engine.STREAMING);
+    var scanned = MavenDependencyLoader.load(jar, MavenDependencyLoader.Engine.CENTRAL_DIRECTORY);
+    assertThat(scanned).containsExactlyElementsIn(streamed);
+  }
+
   @Test
   void testJava9DependencyIsResolved() throws Exception {
     var expected = ImmutableList.of(anImport("com.mycompany.app.App"));
@@ -0,0 +1,176 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MavenEffectivePomsTest {
+  static final String POM =
+      "<project><modelVersion>4.0.0</modelVersion>%s<groupId>%s</groupId>"
+          + "<artifactId>%s</artifactId><version>%s</version>%s</project>";
+
+  @TempDir Path repository;
+  @TempDir Path project;
+  @TempDir Path cache;
+
+  @Test
+  void testThatParentIsResolvedFromRepository() throws Exception {
+    inRepository(
+        "com.example",
+        "parent",
+        "1",
+        "",
+        properties("<guava.version>28.1-jre</guava.version><truth.version>1.0</truth.version>")
+            + managed(dependency("com.google.guava", "guava", "${guava.version}"))
+            + dependencies(dependency("com.google.truth", "truth", "${truth.version}")));
+    var pom =
+        module(
+            parent("com.example", "parent", "1"),
+            properties("<guava.version>30.0-jre</guava.version>")
+                + dependencies(dependency("com.google.guava", "guava", null)));
+
+    var got = MavenEffectivePoms.withRepository(repository).ofModule(pom);
+
+    assertThat(got.errors).isEmpty();
+    assertThat(got.dependencies)
+        .containsExactly(
+            dependency("com.google.guava", "guava", "30.0-jre", "compile"),
+            dependency("com.google.truth", "truth", "1.0", "compile"))
+        .inOrder();
+  }
+
+  @Test
+  void testThatImportedBomsAreApplied() throws Exception {
+    inRepository(
+        "com.example",
+        "bom",
+        "2",
+        "",
+        managed(
+            dependency("com.google.guava", "guava", "28.1-jre")
+                + dependency("com.google.truth", "truth", "${project.version}")));
+    var pom =
+        module(
+            "",
+            properties("<bom.version>2</bom.version>")
+                + managed(
+                    dependency("com.google.guava", "guava", "30.0-jre")
+                        + "<dependency><groupId>com.example</groupId><artifactId>bom</artifactId>"
+                        + "<version>${bom.version}</version><type>pom</type><scope>import</scope>"
+                        + "</dependency>")
+                + dependencies(
+                    dependency("com.google.guava", "guava", null)
+                        + "<dependency><groupId>com.google.truth</groupId>"
+                        + "<artifactId>truth</artifactId><scope>test</scope></dependency>"));
+
+    var got = MavenEffectivePoms.withRepository(repository).ofModule(pom);
+
+    assertThat(got.errors).isEmpty();
+    assertThat(got.dependencies)
+        .containsExactly(
+            dependency("com.google.guava", "guava", "30.0-jre", "compile"),
+            dependency("com.google.truth", "truth", "2", "test"))
+        .inOrder();
+  }
+
+  @Test
+  void testThatMissingParentIsAnError() throws Exception {
+    var pom = module(parent("com.example", "missing", "1"), "");
+
+    var got = MavenEffectivePoms.withRepository(repository).ofModule(pom);
+
+    assertThat(got.errors).hasSize(1);
+  }
+
+  @Test
+  void testThatEffectivePomsArePersistedAndComputedAgainWhenSourcesChange() throws Exception {
+    var parent =
+        inRepository(
+            "com.example",
+            "parent",
+            "1",
+            "",
+            managed(dependency("com.google.guava", "guava", "28.1-jre")));
+    inRepository(
+        "com.example",
+        "lib",
+        "1",
+        parent("com.example", "parent", "1"),
+        dependencies(dependency("com.google.guava", "guava", null)));
+    var poms = MavenEffectivePoms.in(cache, repository);
+
+    var before = poms.ofArtifact("com.example", "lib", "1");
+    Files.writeString(
+        parent,
+        pom(
+            "",
+            "com.example",
+            "parent",
+            "1",
+            managed(dependency("com.google.guava", "guava", "2"))));
+    Files.setLastModifiedTime(parent, FileTime.fromMillis(0));
+    var after = poms.ofArtifact("com.example", "lib", "1");
+
+    assertThat(before.dependencies)
+        .containsExactly(dependency("com.google.guava", "guava", "28.1-jre", "compile"));
+    assertThat(after.dependencies)
+        .containsExactly(dependency("com.google.guava", "guava", "2", "compile"));
+    try (var persisted = Files.list(cache.resolve("poms"))) {
+      assertThat(persisted.count()).isEqualTo(1);
+    }
+  }
+
+  static MavenDependency dependency(
+      String groupId, String artifactId, String version, String scope) {
+    return new MavenDependency(groupId, artifactId, version, "jar", scope, false);
+  }
+
+  Path module(String parent, String extra) throws Exception {
+    var pom = project.resolve("pom.xml");
+    Files.writeString(pom, pom(parent, "com.example", "module", "1", extra));
+    return pom;
+  }
+
+  Path inRepository(String groupId, String artifactId, String version, String parent, String extra)
+      throws Exception {
+    var directory =
+        repository.resolve(groupId.replace('.', '/')).resolve(artifactId).resolve(version);
+    Files.createDirectories(directory);
+    var pom = directory.resolve(String.format("%s-%s.pom", artifactId, version));
+    Files.writeString(pom, pom(parent, groupId, artifactId, version, extra));
+    return pom;
+  }
+
+  static String pom(
+      String parent, String groupId, String artifactId, String version, String extra) {
+    return String.format(POM, parent, groupId, artifactId, version, extra);
+  }
+
+  static String parent(String groupId, String artifactId, String version) {
+    return String.format(
+        "<parent><groupId>%s</groupId><artifactId>%s</artifactId><version>%s</version></parent>",
+        groupId, artifactId, version);
+  }
+
+  static String properties(String properties) {
+    return "<properties>" + properties + "</properties>";
+  }
+
+  static String managed(String dependencies) {
+    return "<dependencyManagement>" + dependencies(dependencies) + "</dependencyManagement>";
+  }
+
+  static String dependencies(String dependencies) {
+    return "<dependencies>" + dependencies + "</dependencies>";
+  }
+
+  static String dependency(String groupId, String artifactId, String version) {
+    return String.format(
+        "<dependency><groupId>%s</groupId><artifactId>%s</artifactId>%s</dependency>",
+        groupId, artifactId, version == null ? "" : "<version>" + version + "</version>");
+  }
+}
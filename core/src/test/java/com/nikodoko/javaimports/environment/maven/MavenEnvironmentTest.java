@@ -2,8 +2,10 @@ package com.nikodoko.javaimports.environment.maven;
 
 import static com.google.common.truth.Truth.assertThat;
 import static com.nikodoko.javaimports.common.CommonTestUtil.anImport;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.common.CancellationToken;
 import com.nikodoko.javaimports.common.Identifier;
 import com.nikodoko.javaimports.environment.Environment;
 import com.nikodoko.javaimports.environment.Environments;
@@ -15,6 +17,8 @@ import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -66,6 +70,27 @@ public class MavenEnvironmentTest {
     assertThat(got).isEmpty();
   }
 
+  @Test
+  void testThatCancelledWarmUpIsDoneAgainOnFirstUse() throws Exception {
+    Module module =
+        Module.named("test.module")
+            .containing(
+                Module.file("Main.java", "package test.module; public class Main {}"),
+                Module.file(
+                    "second/Second.java", "package test.module.second; public class Second {}"));
+    project = Export.of(BuildSystem.MAVEN, module);
+    Path target = project.file(module.name(), "Main.java").get();
+
+    Environment environment = Environments.autoSelect(target, Options.defaults());
+    var token = CancellationToken.create();
+    token.cancel();
+    var warmUp = environment.warmUp(Executors.newSingleThreadExecutor(), token);
+
+    assertThrows(CompletionException.class, warmUp::join);
+    var got = environment.findImports(new Identifier("Second"));
+    assertThat(got).containsExactly(anImport("test.module.second.Second"));
+  }
+
   @Test
   void testThatAllMatchingDependenciesAreFound() throws Exception {
     Module module =
@@ -0,0 +1,200 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.io.DefaultModelReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MavenPomReaderTest {
+  static final String POM =
+      "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+          + "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">"
+          + "<modelVersion>4.0.0</modelVersion>%s</project>";
+
+  @TempDir Path root;
+
+  static MavenDependency dependency(String groupId, String artifactId, String version) {
+    return new MavenDependency(groupId, artifactId, version, "jar", "compile", false);
+  }
+
+  @Test
+  void testThatOnlyProjectDependenciesAreRead() throws Exception {
+    var pom =
+        pom(
+            "<groupId>com.example</groupId><artifactId>app</artifactId>"
+                + "<dependencies>"
+                + "<dependency><groupId>a</groupId><artifactId>b</artifactId>"
+                + "<version>${b.version}</version>"
+                + "<exclusions><exclusion><groupId>x</groupId><artifactId>y</artifactId>"
+                + "</exclusion></exclusions></dependency>"
+                + "<dependency><groupId>c</groupId><artifactId>d</artifactId></dependency>"
+                + "<dependency><groupId>e</groupId><artifactId>f</artifactId><version>3</version>"
+                + "<type>test-jar</type><scope> test </scope><optional>true</optional>"
+                + "</dependency>"
+                + "</dependencies>"
+                + "<dependencyManagement><dependencies>"
+                + "<dependency><groupId>c</groupId><artifactId>d</artifactId>"
+                + "<version>2</version></dependency>"
+                + "</dependencies></dependencyManagement>"
+                + "<properties><b.version>1</b.version></properties>"
+                + "<build><plugins><plugin><dependencies>"
+                + "<dependency><groupId>p</groupId><artifactId>q</artifactId></dependency>"
+                + "</dependencies></plugin></plugins></build>"
+                + "<profiles><profile><dependencies>"
+                + "<dependency><groupId>r</groupId><artifactId>s</artifactId></dependency>"
+                + "</dependencies></profile></profiles>");
+
+    var got = MavenPomLoader.load(pom);
+
+    assertThat(got.errors).isEmpty();
+    assertThat(got.pom.dependencies())
+        .containsExactly(
+            dependency("a", "b", "1"),
+            dependency("c", "d", "2"),
+            new MavenDependency("e", "f", "3", "test-jar", "test", true))
+        .inOrder();
+    assertThat(got.pom.groupId()).isEqualTo("com.example");
+    assertThat(got.pom.artifactId()).isEqualTo("app");
+    assertThat(got.pom.hasParent()).isFalse();
+  }
+
+  @Test
+  void testThatParentIsRead() throws Exception {
+    var withDefault =
+        pom("<parent><groupId>com.example</groupId></parent><artifactId>a</artifactId>");
+    var withPath =
+        pom(
+            "<parent><groupId>com.example</groupId><relativePath>../parent</relativePath>"
+                + "</parent><artifactId>a</artifactId>");
+    var withEmptyPath =
+        pom(
+            "<parent><groupId>com.example</groupId><relativePath/></parent><artifactId>a</artifactId>");
+
+    assertThat(MavenPomLoader.load(withDefault).pom.groupId()).isEqualTo("com.example");
+    assertThat(MavenPomLoader.load(withDefault).pom.maybeParent())
+        .isEqualTo(Optional.of(Paths.get("../pom.xml")));
+    assertThat(MavenPomLoader.load(withPath).pom.maybeParent())
+        .isEqualTo(Optional.of(Paths.get("../parent")));
+    assertThat(MavenPomLoader.load(withEmptyPath).pom.maybeParent()).isEqualTo(Optional.empty());
+  }
+
+  @Test
+  void testThatModulesAndSourceDirectoriesAreRead() throws Exception {
+    var pom =
+        pom(
+            "<modules><module>a</module><module>b/pom.xml</module></modules>"
+                + "<build><sourceDirectory>src</sourceDirectory>"
+                + "<testSourceDirectory>test</testSourceDirectory></build>");
+
+    var got = MavenPomLoader.load(pom).pom;
+
+    assertThat(got.modules()).containsExactly("a", "b/pom.xml").inOrder();
+    assertThat(got.sourceDirectory()).isEqualTo(Optional.of("src"));
+    assertThat(got.testSourceDirectory()).isEqualTo(Optional.of("test"));
+  }
+
+  @Test
+  void testThatChangedPomsAreReadAgain() throws Exception {
+    var pom = pom("<artifactId>before</artifactId>");
+    assertThat(MavenPomLoader.load(pom).pom.artifactId()).isEqualTo("before");
+
+    Files.writeString(pom, String.format(POM, "<artifactId>after</artifactId>"));
+    Files.setLastModifiedTime(pom, FileTime.fromMillis(0));
+
+    assertThat(MavenPomLoader.load(pom).pom.artifactId()).isEqualTo("after");
+  }
+
+  @Test
+  void testThatMalformedPomsAreReportedAsErrors() throws Exception {
+    var pom = pom("<dependencies>");
+
+    var got = MavenPomLoader.load(pom);
+
+    assertThat(got.errors).hasSize(1);
+    assertThat(got.pom.dependencies()).isEmpty();
+  }
+
+  @Test
+  void testThatXmlSyntaxIsHandled() throws Exception {
+    var pom =
+        pom(
+            "<!-- <artifactId>commented</artifactId> -->"
+                + "<?processing instruction?>"
+                + "<groupId attribute=\"a > b\">com.<!-- comment -->example</groupId>"
+                + "<artifactId><![CDATA[<app>]]> &amp;&#32;&#x41;</artifactId>"
+                + "<modules><module/><pom:module>b</pom:module></modules>");
+
+    var got = MavenPomLoader.load(pom);
+
+    assertThat(got.errors).isEmpty();
+    assertThat(got.pom.groupId()).isEqualTo("com.example");
+    assertThat(got.pom.artifactId()).isEqualTo("<app> & A");
+    assertThat(got.pom.modules()).containsExactly("", "b").inOrder();
+  }
+
+  @Test
+  void testThatPomsAreReadLikeMavenDoes() throws Exception {
+    var poms = new ArrayList<Path>();
+    poms.add(Paths.get("pom.xml"));
+    poms.add(Paths.get("../pom.xml"));
+    try (var files = Files.walk(Paths.get("src/test/resources/testrepository"))) {
+      files.filter(f -> f.toString().endsWith(".pom")).forEach(poms::add);
+    }
+
+    for (var pom : poms) {
+      var expected = new DefaultModelReader().read(pom.toFile(), null);
+
+      var got = MavenPomReader.read(pom).build();
+
+      assertThat(got.groupId())
+          .isEqualTo(
+              expected.getGroupId() == null
+                  ? expected.getParent().getGroupId()
+                  : expected.getGroupId());
+      assertThat(got.artifactId()).isEqualTo(expected.getArtifactId());
+      assertThat(got.modules()).isEqualTo(expected.getModules());
+      assertThat(got.dependencies())
+          .containsExactlyElementsIn(
+              FlatPom.builder()
+                  .dependencies(convert(expected.getDependencies()))
+                  .managedDependencies(
+                      expected.getDependencyManagement() == null
+                          ? List.of()
+                          : convert(expected.getDependencyManagement().getDependencies()))
+                  .properties(expected.getProperties())
+                  .build()
+                  .dependencies())
+          .inOrder();
+    }
+  }
+
+  static List<MavenDependency> convert(List<Dependency> dependencies) {
+    return dependencies.stream()
+        .map(
+            d ->
+                new MavenDependency(
+                    d.getGroupId(),
+                    d.getArtifactId(),
+                    d.getVersion(),
+                    d.getType(),
+                    Optional.ofNullable(d.getScope()).orElse("compile"),
+                    d.isOptional()))
+        .collect(Collectors.toList());
+  }
+
+  Path pom(String content) throws Exception {
+    var pom = Files.createTempFile(root, "pom", ".xml");
+    Files.writeString(pom, String.format(POM, content));
+    return pom;
+  }
+}
@@ -0,0 +1,125 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MavenProjectFinderTest {
+  static final String POM =
+      "<project><modelVersion>4.0.0</modelVersion><groupId>a</groupId><artifactId>b</artifactId>"
+          + "<version>1</version>%s</project>";
+
+  @TempDir Path root;
+
+  @Test
+  void testThatOnlyDefaultSourceDirectoriesAreSearched() throws Exception {
+    pom("");
+    var main = file("src/main/java/a/Main.java");
+    var test = file("src/test/java/a/MainTest.java");
+    // A package named like a build output is still found
+    var target = file("src/main/java/a/target/Target.java");
+    file("target/classes/a/Compiled.java");
+    file("module/src/main/java/a/Other.java");
+    file("scripts/Script.java");
+
+    var got = MavenProjectFinder.withRoot(root).findAll();
+
+    assertThat(got).containsExactly(main, test, target);
+  }
+
+  @Test
+  void testThatDeclaredSourceDirectoriesAreSearched() throws Exception {
+    pom(
+        "<build><sourceDirectory>${project.basedir}/java</sourceDirectory>"
+            + "<testSourceDirectory>tests</testSourceDirectory></build>");
+    var main = file("java/a/Main.java");
+    var test = file("tests/a/MainTest.java");
+    file("src/main/java/a/Ignored.java");
+
+    var got = MavenProjectFinder.withRoot(root).findAll();
+
+    assertThat(got).containsExactly(main, test);
+  }
+
+  @Test
+  void testThatOnlyOverriddenSourceDirectoriesAreReplaced() throws Exception {
+    pom("<build><testSourceDirectory>tests</testSourceDirectory></build>");
+    var main = file("src/main/java/a/Main.java");
+    var test = file("tests/a/MainTest.java");
+    file("src/test/java/a/Ignored.java");
+
+    var got = MavenProjectFinder.withRoot(root).findAll();
+
+    assertThat(got).containsExactly(main, test);
+  }
+
+  @Test
+  void testThatGeneratedSourcesAreSearched() throws Exception {
+    pom("");
+    var main = file("src/main/java/a/Main.java");
+    var annotations = file("target/generated-sources/annotations/a/AutoValue_Main.java");
+    var protobuf = file("target/generated-sources/protobuf/java/a/Proto.java");
+    var tests = file("target/generated-test-sources/test-annotations/a/Generated.java");
+    file("target/generated-sources/Stray.java");
+
+    var got = MavenProjectFinder.withRoot(root).findAll();
+
+    assertThat(got).containsExactly(main, annotations, protobuf, tests);
+  }
+
+  @Test
+  void testThatTestSourcesCanBeLeftOut() throws Exception {
+    pom("");
+    var main = file("src/main/java/a/Main.java");
+    var generated = file("target/generated-sources/annotations/a/AutoValue_Main.java");
+    file("src/test/java/a/MainTest.java");
+    file("target/generated-test-sources/test-annotations/a/Generated.java");
+
+    var got = MavenProjectFinder.withRoot(root).withoutTests().findAll();
+
+    assertThat(got).containsExactly(main, generated);
+  }
+
+  @Test
+  void testThatWholeProjectIsSearchedWithoutSourceDirectories() throws Exception {
+    pom("");
+    var main = file("a/Main.java");
+    var nested = file("a/build/Nested.java");
+    file("target/a/Generated.java");
+    file(".git/a/Git.java");
+    file("web/node_modules/a/Module.java");
+    file("module/pom.xml");
+    file("module/a/Other.java");
+
+    var got = MavenProjectFinder.withRoot(root).findAll();
+
+    assertThat(got).containsExactly(main, nested);
+  }
+
+  @Test
+  void testThatExcludedFilesAreNotFound() throws Exception {
+    pom("");
+    var main = file("src/main/java/a/Main.java");
+    var excluded = file("src/main/java/a/Excluded.java");
+    var finder = MavenProjectFinder.withRoot(root);
+    finder.exclude(excluded);
+
+    var got = finder.findAll();
+
+    assertThat(got).containsExactly(main);
+  }
+
+  void pom(String build) throws Exception {
+    Files.writeString(root.resolve("pom.xml"), String.format(POM, build));
+  }
+
+  Path file(String path) throws Exception {
+    var file = root.resolve(path);
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, "");
+    return file;
+  }
+}
@@ -0,0 +1,88 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.nikodoko.javaimports.common.CommonTestUtil.anImport;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.collect.Iterables;
+import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.common.Identifier;
+import com.nikodoko.packagetest.BuildSystem;
+import com.nikodoko.packagetest.Export;
+import com.nikodoko.packagetest.Exported;
+import com.nikodoko.packagetest.Module;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MavenProjectSummariesTest {
+  @TempDir Path cache;
+  Module module;
+  Exported project;
+  Path root;
+  Options options;
+
+  @BeforeEach
+  void setup() throws Exception {
+    module =
+        Module.named("test.module")
+            .containing(
+                Module.file(
+                    "Main.java",
+                    "package test.module; import java.util.List; public class Main extends a.B.C {"
+                        + " int f; public static class Inner<T> { void g() {} } }"),
+                Module.file(
+                    "second/Second.java", "package test.module.second; public class Second {}"));
+    project = Export.of(BuildSystem.MAVEN, module);
+    Path main = project.file(module.name(), "Main.java").get();
+    root = main.getParent();
+    while (!Files.exists(root.resolve("pom.xml"))) {
+      root = root.getParent();
+    }
+
+    options = Options.builder().cache(cache).build();
+  }
+
+  @AfterEach
+  void cleanup() throws Exception {
+    project.cleanup();
+  }
+
+  @Test
+  void testThatDeclarationsAreReadBackIdentical() throws Exception {
+    var parsed = new MavenProject(root, options).project();
+
+    var summaries = MavenProjectSummaries.in(cache, root).read();
+    assertThat(summaries).hasSize(2);
+    for (var file : parsed.allFiles()) {
+      var read = summaries.get(file.path()).file;
+      assertThat(read.packageName()).isEqualTo(file.packageName());
+      assertThat(read.topLevelDeclarations()).isEqualTo(file.topLevelDeclarations());
+      assertThat(read.imports().keySet()).isEqualTo(file.imports().keySet());
+      assertThat(read.classes().collect(Collectors.toList()))
+          .containsExactlyElementsIn(file.classes().collect(Collectors.toList()))
+          .inOrder();
+    }
+  }
+
+  @Test
+  void testThatModifiedFilesAreParsedAgain() throws Exception {
+    new MavenProject(root, options).project();
+    Path second = project.file(module.name(), "second/Second.java").get();
+    Files.write(second, "package test.module.second; public class Third {}".getBytes(UTF_8));
+    Files.setLastModifiedTime(second, FileTime.fromMillis(0));
+
+    var got = new MavenProject(root, options).project();
+
+    assertThat(Iterables.size(got.allFiles())).isEqualTo(2);
+    assertThat(got.filesDeclaring(new Identifier("Second"))).isEmpty();
+    var third = Iterables.getOnlyElement(got.filesDeclaring(new Identifier("Third")));
+    assertThat(third.findImportables(new Identifier("Third")))
+        .containsExactly(anImport("test.module.second.Third"));
+  }
+}
@@ -0,0 +1,159 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.nikodoko.javaimports.ExecutionStrategy;
+import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.common.Identifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MavenProjectTest {
+  @TempDir Path tmp;
+  SyntheticMavenProject synthetic;
+
+  @BeforeEach
+  void setup() throws Exception {
+    // Each of lib0 and lib1 depends on a chain of 3 transitive dependencies
+    synthetic =
+        SyntheticMavenProject.builder()
+            .files(1)
+            .dependencies(2)
+            .transitiveDepth(3)
+            .classesPerDependency(1)
+            .generate(tmp);
+  }
+
+  @Test
+  void testThatTransitiveDependenciesAreNotLoadedByDefault() throws Exception {
+    var project = project(Options.builder().repository(synthetic.repository()));
+
+    var got = project.availableImports();
+
+    assertThat(got).containsKey(new Identifier("Lib0T0Type0"));
+    assertThat(got).doesNotContainKey(new Identifier("Lib0T1Type0"));
+  }
+
+  @Test
+  void testThatTransitiveDependenciesAreLoadedUpToDepth() throws Exception {
+    var project = project(Options.builder().repository(synthetic.repository()).transitiveDepth(2));
+
+    var got = project.availableImports();
+
+    assertThat(got).containsKey(new Identifier("Lib0T2Type0"));
+    assertThat(got).containsKey(new Identifier("Lib1T2Type0"));
+    assertThat(got).doesNotContainKey(new Identifier("Lib0T3Type0"));
+  }
+
+  @Test
+  void testThatNearestTransitiveDependenciesAreLoadedWithinBudget() throws Exception {
+    var project =
+        project(
+            Options.builder()
+                .repository(synthetic.repository())
+                .transitiveDepth(3)
+                .transitiveBudget(3));
+
+    var got = project.availableImports();
+
+    assertThat(got).containsKey(new Identifier("Lib0T1Type0"));
+    assertThat(got).containsKey(new Identifier("Lib1T1Type0"));
+    assertThat(got).containsKey(new Identifier("Lib0T2Type0"));
+    assertThat(got).doesNotContainKey(new Identifier("Lib1T2Type0"));
+    assertThat(got).doesNotContainKey(new Identifier("Lib0T3Type0"));
+  }
+
+  @Test
+  void testThatFingerprintOnlyChangesWithDeclarations() throws Exception {
+    var project = project(Options.builder().repository(synthetic.repository()));
+    var file = synthetic.sourceFiles().get(0);
+    var other = file.resolveSibling("Other.java");
+    write(other, "package other; class Other { void f() { int a; } }", 1);
+    project.warmUp();
+    var initial = project.fingerprint(file);
+
+    write(other, "package other; class Other { void f() { int b; } }", 2);
+    project.refresh();
+    var sameDeclarations = project.fingerprint(file);
+    write(other, "package other; class Other { void f() {} void g() {} }", 3);
+    project.refresh();
+    var otherDeclarations = project.fingerprint(file);
+
+    assertThat(initial.isPresent()).isTrue();
+    assertThat(sameDeclarations).isEqualTo(initial);
+    assertThat(otherDeclarations).isNotEqualTo(initial);
+  }
+
+  @Test
+  void testThatFingerprintsDoNotDependOnTheExcludedFile() throws Exception {
+    var project = project(Options.builder().repository(synthetic.repository()));
+    var file = synthetic.sourceFiles().get(0);
+    var other = file.resolveSibling("Other.java");
+    write(other, "package other; class Other {}", 1);
+    project.warmUp();
+    var initial = project.fingerprint(other);
+
+    write(other, "package other; class Other { void f() {} }", 2);
+    project.refresh();
+
+    assertThat(project.fingerprint(other)).isEqualTo(initial);
+    assertThat(project.fingerprint(file)).isNotEqualTo(initial);
+  }
+
+  @Test
+  void testThatFingerprintIsOnlyKnownOnceLoaded() throws Exception {
+    var project = project(Options.builder().repository(synthetic.repository()));
+    var file = synthetic.sourceFiles().get(0);
+
+    var beforeLoading = project.fingerprint(file);
+    project.warmUp();
+
+    assertThat(beforeLoading.isPresent()).isFalse();
+    assertThat(project.fingerprint(file).isPresent()).isTrue();
+  }
+
+  @Test
+  void testThatRefreshDuringLoadingIsAppliedOnceLoaded() throws Exception {
+    var submitted = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    Executor blocking =
+        r -> {
+          submitted.countDown();
+          Uninterruptibles.awaitUninterruptibly(release);
+          r.run();
+        };
+    var project =
+        project(
+            Options.builder()
+                .repository(synthetic.repository())
+                .execution(ExecutionStrategy.of(blocking)));
+    var loading = CompletableFuture.runAsync(project::project);
+    // Files are listed by now, so this one is only found by refreshing
+    submitted.await();
+    var added = synthetic.sourceFiles().get(0).resolveSibling("Added.java");
+    write(added, "package added; public class Added {}", 1);
+
+    project.refresh();
+    release.countDown();
+    loading.join();
+
+    assertThat(project.project().filesDeclaring(new Identifier("Added"))).isNotEmpty();
+  }
+
+  static void write(Path file, String content, long version) throws Exception {
+    Files.writeString(file, content);
+    Files.setLastModifiedTime(file, FileTime.fromMillis(version * 1000));
+  }
+
+  MavenProject project(Options.Builder options) {
+    return new MavenProject(synthetic.module(), options.build());
+  }
+}
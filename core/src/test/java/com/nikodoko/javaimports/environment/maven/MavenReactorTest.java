@@ -0,0 +1,174 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.nikodoko.javaimports.common.CommonTestUtil.anImport;
+
+import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.common.Identifier;
+import com.nikodoko.javaimports.environment.Environments;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MavenReactorTest {
+  static final String POM =
+      "<project><modelVersion>4.0.0</modelVersion>%s<artifactId>%s</artifactId><version>1</version>"
+          + "%s</project>";
+  static final String PARENT =
+      "<parent><groupId>com.example</groupId><artifactId>parent</artifactId><version>1</version>"
+          + "</parent>";
+
+  @TempDir Path root;
+
+  // parent
+  // ├── app -> lib (compile), tools (test)
+  // ├── libs
+  // │   ├── lib -> base (compile), testing (test)
+  // │   ├── base
+  // │   └── testing
+  // ├── tools
+  // └── other
+  @BeforeEach
+  void setup() throws Exception {
+    pom("", "<groupId>com.example</groupId>", "parent", modules("app", "libs", "tools", "other"));
+    pom("app", PARENT, "app", dependencies(dependency("lib", null), dependency("tools", "test")));
+    pom("libs", PARENT, "libs", modules("lib", "base", "testing/pom.xml"));
+    pom(
+        "libs/lib",
+        PARENT,
+        "lib",
+        dependencies(dependency("base", "compile"), dependency("testing", "test")));
+    pom("libs/base", PARENT, "base", "");
+    pom("libs/testing", PARENT, "testing", "");
+    pom("tools", PARENT, "tools", "");
+    pom("other", PARENT, "other", "");
+  }
+
+  @Test
+  void testThatTopmostAggregatorIsFound() throws Exception {
+    var got = MavenReactor.containing(root.resolve("libs/base"));
+
+    assertThat(got.isPresent()).isTrue();
+    assertThat(got.get().root().toString()).isEqualTo(module("").toString());
+  }
+
+  @Test
+  void testThatStandaloneProjectsHaveNoReactor() throws Exception {
+    var standalone = root.resolve("other/standalone");
+    pom("other/standalone", "<groupId>com.example</groupId>", "standalone", "");
+
+    var got = MavenReactor.containing(standalone);
+
+    assertThat(got.isPresent()).isFalse();
+  }
+
+  @Test
+  void testThatModulesNeededAreDirectAndTransitiveCompileDependencies() throws Exception {
+    var reactor = MavenReactor.containing(root.resolve("app")).get();
+
+    var got = reactor.modulesNeededBy(root.resolve("app"));
+
+    assertThat(got)
+        .containsExactly(module("libs/lib"), module("tools"), module("libs/base"))
+        .inOrder();
+  }
+
+  @Test
+  void testThatModulesAreRecognizedAsSuch() throws Exception {
+    var reactor = MavenReactor.containing(root.resolve("app")).get();
+
+    assertThat(
+            reactor.isModule(
+                new MavenDependency("${project.groupId}", "lib", "1", "jar", "compile", false),
+                root.resolve("app")))
+        .isTrue();
+    assertThat(
+            reactor.isModule(
+                new MavenDependency("org.other", "lib", "1", "jar", "compile", false),
+                root.resolve("app")))
+        .isFalse();
+  }
+
+  @Test
+  void testThatOnlyModulesNeededAreParsedWithTheProject() throws Exception {
+    var main = file("app", "com/example/app/Main.java", "public class Main {}");
+    file("libs/lib", "com/example/lib/Lib.java", "public class Lib {}");
+    file("libs/base", "com/example/base/Base.java", "public class Base {}");
+    file("libs/testing", "com/example/testing/Testing.java", "public class Testing {}");
+    file("other", "com/example/other/Other.java", "public class Other {}");
+
+    var environment = Environments.autoSelect(main, Options.defaults());
+
+    assertThat(environment.findImports(new Identifier("Lib")))
+        .containsExactly(anImport("com.example.lib.Lib"));
+    assertThat(environment.findImports(new Identifier("Base")))
+        .containsExactly(anImport("com.example.base.Base"));
+    assertThat(environment.findImports(new Identifier("Testing"))).isEmpty();
+    assertThat(environment.findImports(new Identifier("Other"))).isEmpty();
+  }
+
+  @Test
+  void testThatOnlyMainSourcesOfOtherModulesAreParsedUnlessTestsAreNeeded() throws Exception {
+    var testJar =
+        "<dependency><groupId>${project.groupId}</groupId><artifactId>tools</artifactId>"
+            + "<version>${project.version}</version><classifier>tests</classifier>"
+            + "<scope>test</scope></dependency>";
+    pom("app", PARENT, "app", dependencies(dependency("lib", null), testJar));
+    var main = file("app", "com/example/app/Main.java", "public class Main {}");
+    file("app", "src/test/java", "com/example/app/AppFixture.java", "public class AppFixture {}");
+    file("libs/lib", "src/test/java", "com/example/lib/LibTest.java", "public class LibTest {}");
+    file("tools", "src/test/java", "com/example/tools/Fixture.java", "public class Fixture {}");
+
+    var environment = Environments.autoSelect(main, Options.defaults());
+
+    assertThat(environment.findImports(new Identifier("AppFixture")))
+        .containsExactly(anImport("com.example.app.AppFixture"));
+    assertThat(environment.findImports(new Identifier("LibTest"))).isEmpty();
+    assertThat(environment.findImports(new Identifier("Fixture")))
+        .containsExactly(anImport("com.example.tools.Fixture"));
+  }
+
+  void pom(String module, String groupId, String artifactId, String extra) throws Exception {
+    var dir = root.resolve(module);
+    Files.createDirectories(dir);
+    Files.writeString(dir.resolve("pom.xml"), String.format(POM, groupId, artifactId, extra));
+  }
+
+  Path module(String module) {
+    return root.resolve(module).toAbsolutePath().normalize();
+  }
+
+  Path file(String module, String path, String declaration) throws Exception {
+    return file(module, "src/main/java", path, declaration);
+  }
+
+  Path file(String module, String sources, String path, String declaration) throws Exception {
+    var file = root.resolve(module).resolve(sources).resolve(path);
+    Files.createDirectories(file.getParent());
+    var pkg = path.substring(0, path.lastIndexOf('/')).replace('/', '.');
+    Files.writeString(file, String.format("package %s; %s", pkg, declaration));
+    return file;
+  }
+
+  static String modules(String... modules) {
+    var sb = new StringBuilder("<modules>");
+    for (var module : modules) {
+      sb.append("<module>").append(module).append("</module>");
+    }
+
+    return sb.append("</modules>").toString();
+  }
+
+  static String dependencies(String... dependencies) {
+    return "<dependencies>" + String.join("", dependencies) + "</dependencies>";
+  }
+
+  static String dependency(String artifactId, String scope) {
+    return String.format(
+        "<dependency><groupId>${project.groupId}</groupId><artifactId>%s</artifactId>"
+            + "<version>${project.version}</version>%s</dependency>",
+        artifactId, scope == null ? "" : "<scope>" + scope + "</scope>");
+  }
+}
@@ -0,0 +1,415 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.DependencyManagement;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Parent;
+import org.apache.maven.model.io.DefaultModelWriter;
+
+/**
+ * Generates a synthetic Maven project along with a local repository (using the {@code .m2} layout)
+ * containing its dependencies, to see how javaimports behaves at scale without network access.
+ *
+ * <p>The generated project has a parent POM managing the versions of all dependencies (some
+ * directly, some through properties), and a single {@code app} module using them. Its classes are
+ * spread across packages, and form class hierarchies within each package. Each direct dependency
+ * comes with a chain of transitive ones, whose POMs all share a parent POM found in the repository.
+ *
+ * <p>Everything is deterministic: generating twice with the same parameters gives the same files.
+ */
+public class SyntheticMavenProject {
+  static final String GROUP_ID = "com.example.synthetic";
+  static final String APP_PACKAGE = "com.example.app";
+  static final String MODULE = "app";
+
+  private final Path repository;
+  private final Path root;
+  private final Path module;
+  private final List<Path> sourceFiles;
+  private final List<MavenDependency> dependencies;
+  private final Path fileToFix;
+  private final String sourceToFix;
+
+  private SyntheticMavenProject(
+      Path repository,
+      Path root,
+      Path module,
+      List<Path> sourceFiles,
+      List<MavenDependency> dependencies,
+      Path fileToFix,
+      String sourceToFix) {
+    this.repository = repository;
+    this.root = root;
+    this.module = module;
+    this.sourceFiles = sourceFiles;
+    this.dependencies = dependencies;
+    this.fileToFix = fileToFix;
+    this.sourceToFix = sourceToFix;
+  }
+
+  /** The local repository containing all dependencies, direct and transitive. */
+  public Path repository() {
+    return repository;
+  }
+
+  /** The directory of the parent POM. */
+  public Path root() {
+    return root;
+  }
+
+  /** The directory of the module using the dependencies. */
+  public Path module() {
+    return module;
+  }
+
+  /** All source files of the module, except {@link #fileToFix()}. */
+  public List<Path> sourceFiles() {
+    return sourceFiles;
+  }
+
+  /** The direct dependencies of the module, with the versions managed by the parent POM. */
+  public List<MavenDependency> dependencies() {
+    return dependencies;
+  }
+
+  /**
+   * A file of the module without any import, using classes from its package, from other packages of
+   * the module, from its dependencies and from the stdlib. It extends the deepest class of a
+   * hierarchy.
+   */
+  public Path fileToFix() {
+    return fileToFix;
+  }
+
+  public String sourceToFix() {
+    return sourceToFix;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public static class Builder {
+    int files = 100;
+    int packages = 10;
+    int hierarchyDepth = 5;
+    int dependencies = 10;
+    int transitiveDepth = 2;
+    int classesPerDependency = 20;
+
+    /** The number of source files in the module. */
+    public Builder files(int files) {
+      this.files = files;
+      return this;
+    }
+
+    /** The number of packages these files are spread across. */
+    public Builder packages(int packages) {
+      this.packages = packages;
+      return this;
+    }
+
+    /** The length of the longest class hierarchies in each package. */
+    public Builder hierarchyDepth(int hierarchyDepth) {
+      this.hierarchyDepth = hierarchyDepth;
+      return this;
+    }
+
+    /** The number of direct dependencies of the module. */
+    public Builder dependencies(int dependencies) {
+      this.dependencies = dependencies;
+      return this;
+    }
+
+    /** The number of transitive dependencies brought by each direct dependency. */
+    public Builder transitiveDepth(int transitiveDepth) {
+      this.transitiveDepth = transitiveDepth;
+      return this;
+    }
+
+    /** The number of classes in each dependency jar. */
+    public Builder classesPerDependency(int classesPerDependency) {
+      this.classesPerDependency = classesPerDependency;
+      return this;
+    }
+
+    /** Generates the project in {@code target/project}, and its repository in {@code target/m2}. */
+    public SyntheticMavenProject generate(Path target) throws IOException {
+      var repository = target.resolve("m2");
+      var root = target.resolve("project");
+      var module = root.resolve(MODULE);
+
+      writeRepository(repository);
+      writeParentPom(root);
+      var direct = writeModulePom(module);
+      var sources = writeSources(module);
+      var fileToFix = sourceDirectory(module, 0).resolve("Main.java");
+      var sourceToFix = sourceToFix();
+      Files.writeString(fileToFix, sourceToFix, UTF_8);
+
+      return new SyntheticMavenProject(
+          repository, root, module, sources, direct, fileToFix, sourceToFix);
+    }
+
+    // The i-th library in the chain of transitive dependencies of the d-th direct dependency
+    private static String library(int d, int i) {
+      return i == 0 ? "lib" + d : String.format("lib%d-transitive%d", d, i);
+    }
+
+    private static String libraryPackage(int d, int i) {
+      return "com.example." + library(d, i).replace("-", ".");
+    }
+
+    private static String libraryClass(int d, int i, int k) {
+      return String.format("Lib%dT%dType%d", d, i, k);
+    }
+
+    // Vary versions a bit, as not everything is in version 1.0 in real life
+    private static String version(int d) {
+      return String.format("1.%d", d % 3);
+    }
+
+    private void writeRepository(Path repository) throws IOException {
+      var parent = new Model();
+      parent.setModelVersion("4.0.0");
+      parent.setGroupId(GROUP_ID);
+      parent.setArtifactId("libraries-parent");
+      parent.setVersion("1.0");
+      parent.setPackaging("pom");
+      parent.setDependencyManagement(new DependencyManagement());
+      for (int d = 0; d < dependencies; d++) {
+        for (int i = 1; i <= transitiveDepth; i++) {
+          parent.getDependencyManagement().addDependency(dependency(library(d, i), version(d)));
+        }
+      }
+      writePom(
+          artifactDirectory(repository, "libraries-parent", "1.0")
+              .resolve(artifactName("libraries-parent", "1.0") + ".pom"),
+          parent);
+
+      for (int d = 0; d < dependencies; d++) {
+        for (int i = 0; i <= transitiveDepth; i++) {
+          var model = new Model();
+          model.setModelVersion("4.0.0");
+          model.setParent(parent(parent));
+          model.setArtifactId(library(d, i));
+          model.setVersion(version(d));
+          if (i < transitiveDepth) {
+            // Versions of transitive dependencies are managed by the parent
+            model.addDependency(dependency(library(d, i + 1), null));
+          }
+
+          var directory = artifactDirectory(repository, library(d, i), version(d));
+          writePom(directory.resolve(artifactName(library(d, i), version(d)) + ".pom"), model);
+          writeJar(directory.resolve(artifactName(library(d, i), version(d)) + ".jar"), d, i);
+        }
+      }
+    }
+
+    private void writeParentPom(Path root) throws IOException {
+      var model = new Model();
+      model.setModelVersion("4.0.0");
+      model.setGroupId(APP_PACKAGE);
+      model.setArtifactId("parent");
+      model.setVersion("1.0-SNAPSHOT");
+      model.setPackaging("pom");
+      model.addModule(MODULE);
+      model.setDependencyManagement(new DependencyManagement());
+      for (int d = 0; d < dependencies; d++) {
+        var version = version(d);
+        // Manage half of the versions through properties
+        if (d % 2 == 0) {
+          var property = library(d, 0) + ".version";
+          model.addProperty(property, version);
+          version = "${" + property + "}";
+        }
+
+        model.getDependencyManagement().addDependency(dependency(library(d, 0), version));
+      }
+      writePom(root.resolve("pom.xml"), model);
+    }
+
+    private List<MavenDependency> writeModulePom(Path module) throws IOException {
+      var parent = new Model();
+      parent.setGroupId(APP_PACKAGE);
+      parent.setArtifactId("parent");
+      parent.setVersion("1.0-SNAPSHOT");
+
+      var model = new Model();
+      model.setModelVersion("4.0.0");
+      model.setParent(parent(parent));
+      model.setArtifactId(MODULE);
+      var direct = new ArrayList<MavenDependency>();
+      for (int d = 0; d < dependencies; d++) {
+        model.addDependency(dependency(library(d, 0), null));
+        direct.add(
+            new MavenDependency(GROUP_ID, library(d, 0), version(d), "jar", "compile", false));
+      }
+      writePom(module.resolve("pom.xml"), model);
+
+      return direct;
+    }
+
+    private List<Path> writeSources(Path module) throws IOException {
+      for (int p = 0; p < packages; p++) {
+        Files.createDirectories(sourceDirectory(module, p));
+      }
+
+      var sources = new ArrayList<Path>();
+      for (int c = 0; c < files; c++) {
+        var source = sourceDirectory(module, c % packages).resolve("Class" + c + ".java");
+        Files.writeString(source, classSource(c), UTF_8);
+        sources.add(source);
+      }
+
+      return sources;
+    }
+
+    // Class c is in package c % packages, and extends the previous class of its package unless
+    // it starts a new hierarchy
+    private String classSource(int c) {
+      var d = c % Math.max(1, dependencies);
+      var dependencyClass = libraryClass(d, 0, c % classesPerDependency);
+      var superclass =
+          (c / packages) % hierarchyDepth != 0 ? " extends Class" + (c - packages) : "";
+      var sb = new StringBuilder();
+      sb.append(String.format("package %s.pkg%d;\n\n", APP_PACKAGE, c % packages));
+      if (dependencies > 0) {
+        sb.append(String.format("import %s.%s;\n", libraryPackage(d, 0), dependencyClass));
+      }
+      sb.append("import java.util.List;\n\n");
+      sb.append(String.format("public class Class%d%s {\n", c, superclass));
+      sb.append(String.format("  public static final int CONSTANT%d = %d;\n", c, c));
+      sb.append(String.format("  protected List<String> field%d;\n\n", c));
+      if (dependencies > 0) {
+        sb.append(String.format("  public %s dependency%d() {\n", dependencyClass, c));
+        sb.append(String.format("    return new %s();\n", dependencyClass));
+        sb.append("  }\n\n");
+      }
+      sb.append(String.format("  public int method%d(int a) {\n", c));
+      sb.append(String.format("    return a + CONSTANT%d;\n", c));
+      sb.append("  }\n}\n");
+      return sb.toString();
+    }
+
+    private String sourceToFix() {
+      // The deepest class of the first hierarchy of package 0
+      var deepest = 0;
+      for (int c = 0; c < files; c += packages) {
+        if ((c / packages) >= hierarchyDepth) {
+          break;
+        }
+        deepest = c;
+      }
+
+      var sb = new StringBuilder();
+      sb.append(String.format("package %s.pkg0;\n\n", APP_PACKAGE));
+      sb.append(String.format("public class Main extends Class%d {\n", deepest));
+      sb.append("  public List<String> run() {\n");
+      sb.append("    List<String> values = new ArrayList<>();\n");
+      sb.append(String.format("    values.add(String.valueOf(method%d(1)));\n", deepest));
+      // Classes of other packages of the module, and of dependencies
+      for (int c = 1; c < Math.min(files, packages); c++) {
+        sb.append(String.format("    values.add(new Class%d().toString());\n", c));
+      }
+      for (int d = 0; d < Math.min(dependencies, 5); d++) {
+        sb.append(String.format("    values.add(new %s().toString());\n", libraryClass(d, 0, 0)));
+      }
+      sb.append("    return values;\n");
+      sb.append("  }\n}\n");
+      return sb.toString();
+    }
+
+    private static Path sourceDirectory(Path module, int p) {
+      return module
+          .resolve("src/main/java")
+          .resolve(APP_PACKAGE.replace('.', '/'))
+          .resolve("pkg" + p);
+    }
+
+    private static Path artifactDirectory(Path repository, String artifactId, String version) {
+      return repository.resolve(GROUP_ID.replace('.', '/')).resolve(artifactId).resolve(version);
+    }
+
+    private static String artifactName(String artifactId, String version) {
+      return String.format("%s-%s", artifactId, version);
+    }
+
+    private static Dependency dependency(String artifactId, String version) {
+      var dependency = new Dependency();
+      dependency.setGroupId(GROUP_ID);
+      dependency.setArtifactId(artifactId);
+      dependency.setVersion(version);
+      return dependency;
+    }
+
+    private static Parent parent(Model of) {
+      var parent = new Parent();
+      parent.setGroupId(of.getGroupId());
+      parent.setArtifactId(of.getArtifactId());
+      parent.setVersion(of.getVersion());
+      return parent;
+    }
+
+    private static void writePom(Path pom, Model model) throws IOException {
+      Files.createDirectories(pom.getParent());
+      try (OutputStream out = Files.newOutputStream(pom)) {
+        new DefaultModelWriter().write(out, null, model);
+      }
+    }
+
+    private void writeJar(Path jar, int d, int i) throws IOException {
+      var pkg = libraryPackage(d, i).replace('.', '/');
+      try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+        for (int k = 0; k < classesPerDependency; k++) {
+          var name = pkg + "/" + libraryClass(d, i, k);
+          out.putNextEntry(new JarEntry(name + ".class"));
+          out.write(emptyClass(name));
+          // Nested classes are common, and importable as well
+          out.putNextEntry(new JarEntry(name + "$Builder.class"));
+          out.write(emptyClass(name + "$Builder"));
+        }
+      }
+    }
+
+    // The smallest valid class file: a public class with no members, extending Object
+    private static byte[] emptyClass(String binaryName) throws IOException {
+      var bytes = new ByteArrayOutputStream();
+      try (DataOutputStream out = new DataOutputStream(bytes)) {
+        out.writeInt(0xCAFEBABE);
+        out.writeShort(0); // minor version
+        out.writeShort(52); // major version (Java 8)
+        out.writeShort(5); // constant pool count
+        out.writeByte(1); // #1 Utf8
+        out.writeUTF(binaryName);
+        out.writeByte(7); // #2 Class #1
+        out.writeShort(1);
+        out.writeByte(1); // #3 Utf8
+        out.writeUTF("java/lang/Object");
+        out.writeByte(7); // #4 Class #3
+        out.writeShort(3);
+        out.writeShort(0x0021); // public super
+        out.writeShort(2); // this class
+        out.writeShort(4); // super class
+        out.writeShort(0); // interfaces
+        out.writeShort(0); // fields
+        out.writeShort(0); // methods
+        out.writeShort(0); // attributes
+      }
+
+      return bytes.toByteArray();
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package com.nikodoko.javaimports.environment.maven;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.nikodoko.javaimports.Importer;
+import com.nikodoko.javaimports.Options;
+import com.nikodoko.javaimports.stdlib.StdlibProviders;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SyntheticMavenProjectTest {
+  Path tmp;
+
+  @BeforeEach
+  void setup() throws Exception {
+    tmp = Files.createTempDirectory("");
+  }
+
+  @Test
+  void testThatManagedVersionsOfDependenciesAreFound() throws Exception {
+    var project = SyntheticMavenProject.builder().dependencies(4).generate(tmp);
+
+    var got = new MavenDependencyFinder().findAll(project.module());
+
+    assertThat(got.errors).isEmpty();
+    assertThat(got.dependencies).containsExactlyElementsIn(project.dependencies());
+  }
+
+  @Test
+  void testThatDependenciesCanBeLoadedFromTheRepository() throws Exception {
+    var project =
+        SyntheticMavenProject.builder()
+            .dependencies(2)
+            .transitiveDepth(3)
+            .classesPerDependency(7)
+            .generate(tmp);
+    var resolver = MavenDependencyResolver.withRepository(project.repository());
+
+    for (var dependency : project.dependencies()) {
+      var artifact = resolver.resolve(dependency);
+      assertThat(Files.exists(artifact.pom)).isTrue();
+      // Each class has a nested builder
+      assertThat(MavenDependencyLoader.load(artifact.jar)).hasSize(14);
+    }
+  }
+
+  @Test
+  void testThatAllFilesAreParsed() throws Exception {
+    var project = SyntheticMavenProject.builder().files(50).packages(5).generate(tmp);
+
+    var got =
+        new MavenProjectParser(project.module(), Options.defaults())
+            .excluding(project.fileToFix())
+            .parseAll();
+
+    assertThat(got.errors).isEmpty();
+    assertThat(got.project.allFiles()).hasSize(50);
+    assertThat(got.project.filesInPackage("com.example.app.pkg0")).hasSize(10);
+  }
+
+  @Test
+  void testThatFileToFixCanBeFixed() throws Exception {
+    var project =
+        SyntheticMavenProject.builder().files(20).packages(4).hierarchyDepth(3).generate(tmp);
+    var options =
+        Options.builder().repository(project.repository()).stdlib(StdlibProviders.java8()).build();
+
+    var got = new Importer(options).addUsedImports(project.fileToFix(), project.sourceToFix());
+
+    assertThat(got).contains("import java.util.ArrayList;");
+    assertThat(got).contains("import com.example.app.pkg3.Class3;");
+    assertThat(got).contains("import com.example.lib4.Lib4T0Type0;");
+    // Class8 extends Class4 which extends Class0, all in the same package
+    assertThat(got).contains("public class Main extends Class8");
+    assertThat(got).doesNotContain("import com.example.app.pkg0");
+  }
+}
@@ -0,0 +1,70 @@
+package com.nikodoko.javaimports.events;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.nikodoko.javaimports.Importer;
+import com.nikodoko.javaimports.Options;
+import com.nikodoko.packagetest.BuildSystem;
+import com.nikodoko.packagetest.Export;
+import com.nikodoko.packagetest.Exported;
+import com.nikodoko.packagetest.Module;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class EventsTest {
+  Exported project;
+
+  @AfterEach
+  void cleanup() throws Exception {
+    project.cleanup();
+  }
+
+  @Test
+  void testThatPhasesOfARunAreRecorded() throws Exception {
+    String main = "package test.module; public class Main { Helper helper; Other other; }";
+    Module module =
+        Module.named("test.module")
+            .containing(
+                Module.file("Main.java", main),
+                Module.file("Helper.java", "package test.module; public class Helper {}"))
+            .dependingOn(Module.dependency("com.example", "missing", "1.0"));
+    project = Export.of(BuildSystem.MAVEN, module);
+    Path target = project.file(module.name(), "Main.java").get();
+    Path dump = Files.createTempFile("javaimports", ".jfr");
+
+    try (Recording recording = new Recording()) {
+      for (String name : List.of("Parse", "PomLoad", "ProjectParse", "Fix")) {
+        recording.enable("javaimports." + name).withoutThreshold();
+      }
+      recording.start();
+      new Importer(Options.defaults()).addUsedImports(target, main);
+      recording.stop();
+      recording.dump(dump);
+    }
+
+    List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+    List<String> names =
+        events.stream().map(e -> e.getEventType().getName()).collect(Collectors.toList());
+    assertThat(names)
+        .containsAtLeast(
+            "javaimports.Parse",
+            "javaimports.PomLoad",
+            "javaimports.ProjectParse",
+            "javaimports.Fix");
+    RecordedEvent lastFix =
+        events.stream()
+            .filter(e -> e.getEventType().getName().equals("javaimports.Fix"))
+            .filter(e -> e.getBoolean("lastTry"))
+            .findFirst()
+            .get();
+    assertThat(lastFix.getString("file")).isEqualTo(target.toString());
+    assertThat(lastFix.getBoolean("done")).isFalse();
+  }
+}
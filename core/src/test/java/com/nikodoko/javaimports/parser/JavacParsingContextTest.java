@@ -0,0 +1,43 @@
+package com.nikodoko.javaimports.parser;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.nikodoko.javaimports.ImporterException;
+import org.junit.jupiter.api.Test;
+
+public class JavacParsingContextTest {
+  @Test
+  void testThatErrorsDoNotLeakToNextFile() throws Exception {
+    var context = new JavacParsingContext();
+
+    var e =
+        assertThrows(
+            ImporterException.class, () -> context.parse("Broken.java", "package a; class"));
+    assertThat(e.diagnostics()).isNotEmpty();
+
+    var unit = context.parse("Valid.java", "package a; class Valid {}");
+    assertThat(unit.getPackageName().toString()).isEqualTo("a");
+  }
+
+  @Test
+  void testThatErrorsAreReportedAfterReuse() throws Exception {
+    var context = new JavacParsingContext();
+    context.parse("Valid.java", "package a; class Valid {}");
+
+    var e =
+        assertThrows(
+            ImporterException.class, () -> context.parse("Broken.java", "package a; class"));
+    assertThat(e.diagnostics()).isNotEmpty();
+  }
+
+  @Test
+  void testThatSourcesAreNotKeptAfterParsing() throws Exception {
+    var context = new JavacParsingContext();
+
+    context.parse("Valid.java", "package a; class Valid {}");
+    assertThrows(ImporterException.class, () -> context.parse("Broken.java", "package a; class"));
+
+    assertThat(context.sourcesKept()).isEqualTo(0);
+  }
+}
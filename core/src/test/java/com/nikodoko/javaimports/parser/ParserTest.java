@@ -1,6 +1,7 @@
 package com.nikodoko.javaimports.parser;
 
 import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
 import static org.junit.Assert.fail;
 
 import com.google.common.collect.ImmutableList;
@@ -13,7 +14,11 @@ import com.nikodoko.javaimports.parser.internal.ClassSelectors;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -1171,6 +1176,18 @@ public class ParserTest {
     return builder.build().stream();
   }
 
+  // Cases named after the Java version introducing their syntax cannot be parsed by older JDKs
+  private static final Pattern JAVA_VERSION = Pattern.compile("java(\\d+).*");
+
+  static Stream<Arguments> supportedDataProvider() {
+    return dataProvider().filter(arguments -> isSupported((String) arguments.get()[0]));
+  }
+
+  private static boolean isSupported(String name) {
+    Matcher m = JAVA_VERSION.matcher(name);
+    return !m.matches() || Integer.parseInt(m.group(1)) <= Runtime.version().feature();
+  }
+
   private static Set<String> allUnresolvedIn(ParsedFile file) {
     Set<String> unresolved = file.notYetResolved();
     for (ClassExtender e : file.notFullyExtendedClasses()) {
@@ -1203,4 +1220,38 @@ public class ParserTest {
           .inOrder();
     }
   }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("supportedDataProvider")
+  public void testParseDeclarationsFindsSameDeclarations(
+      String name, String input, Set<String> expected, ClassEntity[] expectedClasses)
+      throws Exception {
+    Parser parser = new Parser(Options.defaults());
+    ParsedFile full = parser.parse(Paths.get(name), input).get();
+    ParsedFile got = parser.parseDeclarations(Paths.get(name), input).get();
+
+    assertThat(got.notYetResolved()).isEmpty();
+    assertThat(got.topLevelDeclarations()).containsExactlyElementsIn(full.topLevelDeclarations());
+    assertThat(got.classes().collect(Collectors.toList()))
+        .containsExactlyElementsIn(full.classes().collect(Collectors.toList()));
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("supportedDataProvider")
+  public void testPeekPackageNameFindsSamePackage(
+      String name, String input, Set<String> expected, ClassEntity[] expectedClasses)
+      throws Exception {
+    ParsedFile full = new Parser(Options.defaults()).parse(Paths.get(name), input).get();
+
+    assertThat(Parser.peekPackageName(input)).hasValue(full.packageName());
+  }
+
+  @Test
+  public void testPeekPackageNameSkipsCommentsAndGivesUpOnAnnotations() {
+    assertThat(Parser.peekPackageName("// header\n/* a; */ package /* b */ a.b . c;"))
+        .hasValue("a.b.c");
+    assertThat(Parser.peekPackageName("class A {}")).hasValue("");
+    assertThat(Parser.peekPackageName("@Deprecated package a;")).isEmpty();
+    assertThat(Parser.peekPackageName("/* unterminated")).isEmpty();
+  }
 }
@@ -0,0 +1,47 @@
+package com.nikodoko.javaimports.stdlib.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.nikodoko.javaimports.parser.Import;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class IndexedStdlibTest {
+  @Test
+  void testThatImportsAreReadBackInOrder() throws Exception {
+    Map<String, List<Import>> importables = new LinkedHashMap<>();
+    importables.put(
+        "List",
+        List.of(new Import("List", "java.awt", false), new Import("List", "java.util", false)));
+    importables.put("MAX_VALUE", List.of(new Import("MAX_VALUE", "java.lang.Integer", true)));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    IndexedStdlib.write(importables, out);
+
+    IndexedStdlib stdlib = IndexedStdlib.fromBuffer(ByteBuffer.wrap(out.toByteArray()));
+
+    assertThat(stdlib.getClassesFor("List"))
+        .asList()
+        .containsExactlyElementsIn(importables.get("List"))
+        .inOrder();
+    assertThat(stdlib.getClassesFor("MAX_VALUE"))
+        .asList()
+        .containsExactlyElementsIn(importables.get("MAX_VALUE"));
+    assertThat(stdlib.getClassesFor("Missing")).isNull();
+  }
+
+  @Test
+  void testThatJava8IndexIsBundled() {
+    IndexedStdlib stdlib = IndexedStdlib.fromResource(IndexedStdlib.JAVA_8);
+
+    assertThat(stdlib.getClassesFor("Duration"))
+        .asList()
+        .containsAtLeast(
+            new Import("Duration", "java.time", false),
+            new Import("Duration", "javax.xml.datatype", false));
+    assertThat(stdlib.getClassesFor("NotAJavaClass")).isNull();
+  }
+}
@@ -0,0 +1,62 @@
+package com.nikodoko.javaimports.stdlib.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.nikodoko.javaimports.parser.Import;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JrtStdlibTest {
+  @TempDir Path cache;
+
+  @Test
+  void testThatRunningJdkIsIndexed() {
+    Stdlib stdlib = JrtStdlib.of(null, cache);
+
+    assertThat(stdlib.getClassesFor("List"))
+        .asList()
+        .containsAtLeast(
+            new Import("List", "java.awt", false), new Import("List", "java.util", false));
+    assertThat(stdlib.getClassesFor("asList"))
+        .asList()
+        .contains(new Import("asList", "java.util.Arrays", true));
+    // Not exported
+    assertThat(stdlib.getClassesFor("Unsafe")).isNull();
+    // Nested
+    assertThat(stdlib.getClassesFor("Entry")).isNull();
+  }
+
+  @Test
+  void testThatIndexIsPersisted() throws Exception {
+    JrtStdlib.of(null, cache).getClassesFor("List");
+
+    Path index;
+    try (Stream<Path> indexes = Files.list(cache.resolve("stdlib"))) {
+      index = indexes.findFirst().get();
+    }
+    assertThat(index.getFileName().toString()).isEqualTo("jdk-" + Runtime.version() + ".idx");
+
+    Files.setLastModifiedTime(index, FileTime.fromMillis(0));
+    JrtStdlib.of(null, cache).getClassesFor("List");
+    assertThat(Files.getLastModifiedTime(index).toMillis()).isEqualTo(0);
+  }
+
+  @Test
+  void testThatVersionInUseIsThatOfTheJdk() {
+    assertThat(JrtStdlib.of(null, cache).versionInUse()).isEqualTo("jdk-" + Runtime.version());
+  }
+
+  @Test
+  void testThatVersionInUseIsThatOfTheFallbackWhenTheJdkCannotBeRead() {
+    JrtStdlib stdlib = JrtStdlib.of(cache.resolve("not-a-jdk"), cache);
+
+    assertThat(stdlib.versionInUse()).isEqualTo("java-8");
+    assertThat(stdlib.getClassesFor("List"))
+        .asList()
+        .contains(new Import("List", "java.util", false));
+  }
+}